@@ -128,7 +128,9 @@
  */
 module org.cicirello.chips_n_salsa {
   exports org.cicirello.search;
+  exports org.cicirello.search.checkpoint;
   exports org.cicirello.search.concurrent;
+  exports org.cicirello.search.distributed;
   exports org.cicirello.search.evo;
   exports org.cicirello.search.hc;
   exports org.cicirello.search.operators;
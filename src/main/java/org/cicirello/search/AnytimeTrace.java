@@ -0,0 +1,269 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * An AnytimeTrace records the anytime profile of a search: the elapsed time in nanoseconds, the
+ * number of evaluations, and the best cost, at every improvement of the best solution. Attach it to
+ * the {@link ProgressTracker} of any {@link Metaheuristic} with the {@link
+ * ProgressTracker#setAnytimeTrace} method, and the ProgressTracker records an entry each time that
+ * its best solution is updated, which all of the metaheuristics of the library do whenever they
+ * find a new best solution. The elapsed time of an entry is relative to the construction of the
+ * ProgressTracker.
+ *
+ * <p>The entries are kept in a preallocated ring buffer of primitive arrays, so recording an entry
+ * neither allocates memory nor copies the solution, and once the buffer is full the newest entries
+ * overwrite the oldest. Recording does not lock, so an AnytimeTrace can also be shared by multiple
+ * threads that call its {@link #record} method directly, and the entries can be read or exported by
+ * another thread while a search is running. Entries that are overwritten while being read are
+ * skipped. Each writer claims its slot with a compare-and-set, so writers that lap the ring onto
+ * the same slot never interleave their writes: a writer waits for a slot's previous entry to be
+ * published, and an entry whose slot was already claimed by a newer entry is dropped.
+ *
+ * <p>The number of evaluations of an entry is obtained from a counter supplied at construction,
+ * such as a method reference to the {@link Metaheuristic#getTotalRunLength} method of a search
+ * whose run length is measured in evaluations, or to a counter incremented by the problem's cost
+ * function. Without a counter, the number of evaluations of every entry is 0.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public final class AnytimeTrace {
+
+  private final long[] nanos;
+  private final long[] evals;
+  private final double[] costs;
+  private final int mask;
+
+  // The index of an entry is the number of entries recorded before it. A slot's sequence
+  // is index+1 once its entry is published, and -(index+1) while it is being written.
+  private final AtomicLongArray sequence;
+  private final AtomicLong next;
+  private final LongSupplier counter;
+
+  /**
+   * Constructs an AnytimeTrace without an evaluation counter.
+   *
+   * @param capacity The maximum number of entries retained, which is rounded up to a power of two.
+   * @throws IllegalArgumentException if capacity is less than 1 or greater than 2<sup>30</sup>.
+   */
+  public AnytimeTrace(int capacity) {
+    this(capacity, () -> 0L);
+  }
+
+  /**
+   * Constructs an AnytimeTrace.
+   *
+   * @param capacity The maximum number of entries retained, which is rounded up to a power of two.
+   * @param evaluations A counter of the number of evaluations, which is called each time an entry
+   *     is recorded, and which must be thread-safe if the search is multithreaded.
+   * @throws IllegalArgumentException if capacity is less than 1 or greater than 2<sup>30</sup>.
+   * @throws NullPointerException if evaluations is null.
+   */
+  public AnytimeTrace(int capacity, LongSupplier evaluations) {
+    if (capacity < 1 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("capacity must be in the interval [1, 2^30]");
+    }
+    int n = Integer.highestOneBit(capacity);
+    if (n < capacity) {
+      n <<= 1;
+    }
+    nanos = new long[n];
+    evals = new long[n];
+    costs = new double[n];
+    mask = n - 1;
+    sequence = new AtomicLongArray(n);
+    next = new AtomicLong();
+    counter = Objects.requireNonNull(evaluations);
+  }
+
+  /**
+   * Records an entry, with the number of evaluations from this trace's evaluation counter.
+   *
+   * @param elapsedNanos The elapsed time in nanoseconds.
+   * @param cost The best cost.
+   */
+  public void record(long elapsedNanos, double cost) {
+    record(elapsedNanos, counter.getAsLong(), cost);
+  }
+
+  /**
+   * Records an entry.
+   *
+   * @param elapsedNanos The elapsed time in nanoseconds.
+   * @param evaluations The number of evaluations.
+   * @param cost The best cost.
+   */
+  public void record(long elapsedNanos, long evaluations, double cost) {
+    long index = next.getAndIncrement();
+    int slot = (int) index & mask;
+    if (!claim(slot, index + 1)) {
+      return;
+    }
+    VarHandle.storeStoreFence();
+    nanos[slot] = elapsedNanos;
+    evals[slot] = evaluations;
+    costs[slot] = cost;
+    sequence.set(slot, index + 1);
+  }
+
+  /*
+   * Claims a slot for the entry whose sequence is seq, by a CAS from the sequence of the
+   * slot's previous entry. If the previous entry is still being written, by a writer that the
+   * ring has lapped, then waits for that write to finish. Returns false without claiming the
+   * slot if a newer entry has already claimed it, in which case this entry is dropped, since it
+   * would have been overwritten.
+   */
+  private boolean claim(int slot, long seq) {
+    while (true) {
+      long current = sequence.get(slot);
+      if (Math.abs(current) > seq) {
+        return false;
+      }
+      if (current < 0) {
+        Thread.onSpinWait();
+      } else if (sequence.compareAndSet(slot, current, -seq)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Gets the capacity of the ring buffer.
+   *
+   * @return the maximum number of entries retained
+   */
+  public int capacity() {
+    return mask + 1;
+  }
+
+  /**
+   * Gets the total number of entries recorded, including any that have been overwritten.
+   *
+   * @return the total number of entries recorded
+   */
+  public long recorded() {
+    return next.get();
+  }
+
+  /**
+   * Gets the number of entries currently retained.
+   *
+   * @return the number of entries retained, which is at most the capacity
+   */
+  public int size() {
+    return (int) Math.min(next.get(), mask + 1);
+  }
+
+  /** Removes all entries. This method must not be called while entries are being recorded. */
+  public void clear() {
+    for (int i = 0; i <= mask; i++) {
+      sequence.set(i, 0);
+    }
+    next.set(0);
+  }
+
+  /**
+   * Passes each of the retained entries to an action, from oldest to newest.
+   *
+   * @param action The action.
+   */
+  public void forEach(Entry action) {
+    long end = next.get();
+    for (long index = Math.max(0, end - (mask + 1)); index < end; index++) {
+      int slot = (int) index & mask;
+      if (sequence.get(slot) == index + 1) {
+        long t = nanos[slot];
+        long e = evals[slot];
+        double c = costs[slot];
+        VarHandle.loadLoadFence();
+        if (sequence.get(slot) == index + 1) {
+          action.accept(t, e, c);
+        }
+      }
+    }
+  }
+
+  /**
+   * Writes the retained entries in CSV format, with a header line, and one line per entry, from
+   * oldest to newest.
+   *
+   * @param out The destination.
+   */
+  public void writeCsv(PrintWriter out) {
+    out.println("elapsed_ns,evaluations,cost");
+    forEach((t, e, c) -> out.println(t + "," + e + "," + c));
+    out.flush();
+  }
+
+  /**
+   * Writes the retained entries in binary format: the number of entries as an int, followed by each
+   * entry from oldest to newest, as a long for the elapsed nanoseconds, a long for the number of
+   * evaluations, and a double for the cost.
+   *
+   * @param out The destination.
+   * @throws IOException if an I/O error occurs.
+   */
+  public void writeBinary(DataOutput out) throws IOException {
+    long[] t = new long[size()];
+    long[] e = new long[t.length];
+    double[] c = new double[t.length];
+    int[] count = {0};
+    forEach(
+        (nanos, evals, cost) -> {
+          if (count[0] < t.length) {
+            t[count[0]] = nanos;
+            e[count[0]] = evals;
+            c[count[0]] = cost;
+            count[0]++;
+          }
+        });
+    out.writeInt(count[0]);
+    for (int i = 0; i < count[0]; i++) {
+      out.writeLong(t[i]);
+      out.writeLong(e[i]);
+      out.writeDouble(c[i]);
+    }
+  }
+
+  /** An action on an entry of an AnytimeTrace. */
+  @FunctionalInterface
+  public interface Entry {
+
+    /**
+     * Performs the action on an entry.
+     *
+     * @param elapsedNanos The elapsed time in nanoseconds.
+     * @param evaluations The number of evaluations.
+     * @param cost The best cost.
+     */
+    void accept(long elapsedNanos, long evaluations, double cost);
+  }
+}
@@ -53,6 +53,24 @@ public interface Metaheuristic<T extends Copyable<T>> extends TrackableSearch<T>
    */
   SolutionCostPair<T> optimize(int runLength);
 
+  /**
+   * Executes a run of the metaheuristic beginning at a randomly generated solution, where the run
+   * length may exceed the range of an int. The default implementation caps the run length at
+   * Integer.MAX_VALUE and calls {@link #optimize(int)}. Implementing classes whose runs may be
+   * longer than that, such as simulated annealing with a cheap to evaluate cost function, should
+   * override this method.
+   *
+   * @param runLength The length of a run of this metaheuristic.
+   * @return The current solution at the end of this run and its cost, which may or may not be the
+   *     best of run solution, and which may or may not be the same as the solution contained in
+   *     this metaheuristic's {@link ProgressTracker}, which contains the best of all runs. Returns
+   *     null if the run did not execute, such as if the ProgressTracker already contains the
+   *     theoretical best solution.
+   */
+  default SolutionCostPair<T> optimize(long runLength) {
+    return optimize((int) Math.min(runLength, Integer.MAX_VALUE));
+  }
+
   @Override
   Metaheuristic<T> split();
 }
@@ -45,6 +45,8 @@ public final class ProgressTracker<T extends Copyable<T>> {
 
   private long origin;
 
+  private volatile AnytimeTrace trace;
+
   private final Object lock;
 
   /** Constructs a ProgressTracker. */
@@ -81,16 +83,25 @@ public final class ProgressTracker<T extends Copyable<T>> {
    *     previously updated by this or another thread.
    */
   public int update(int cost, T solution, boolean isKnownOptimal) {
+    boolean improved = false;
+    long improvedAt = 0;
+    int result;
     synchronized (lock) {
       if (bestSolution == null || cost < bestCost) {
         bestCostD = bestCost = cost;
         bestSolution = solution.copy();
         containsIntCost = true;
         foundBest = isKnownOptimal;
-        when = System.nanoTime();
+        improvedAt = System.nanoTime();
+        when = improvedAt;
+        improved = true;
       }
-      return bestCost;
+      result = bestCost;
+    }
+    if (improved) {
+      recordTrace(improvedAt, cost);
     }
+    return result;
   }
 
   /**
@@ -113,16 +124,25 @@ public final class ProgressTracker<T extends Copyable<T>> {
    *     previously updated by this or another thread.
    */
   public double update(double cost, T solution, boolean isKnownOptimal) {
+    boolean improved = false;
+    long improvedAt = 0;
+    double result;
     synchronized (lock) {
       if (bestSolution == null || cost < bestCostD) {
         bestCostD = cost;
         bestSolution = solution.copy();
         containsIntCost = false;
         foundBest = isKnownOptimal;
-        when = System.nanoTime();
+        improvedAt = System.nanoTime();
+        when = improvedAt;
+        improved = true;
       }
-      return bestCostD;
+      result = bestCostD;
+    }
+    if (improved) {
+      recordTrace(improvedAt, cost);
     }
+    return result;
   }
 
   /**
@@ -241,6 +261,26 @@ public final class ProgressTracker<T extends Copyable<T>> {
     return stop;
   }
 
+  /**
+   * Attaches an {@link AnytimeTrace} to this ProgressTracker, which records an entry each time that
+   * the best solution is updated. The elapsed time of each entry is relative to the construction of
+   * this ProgressTracker, consistent with the {@link #elapsed} method.
+   *
+   * @param trace The AnytimeTrace, or null to detach the current trace.
+   */
+  public void setAnytimeTrace(AnytimeTrace trace) {
+    this.trace = trace;
+  }
+
+  /**
+   * Gets the {@link AnytimeTrace} attached to this ProgressTracker.
+   *
+   * @return the AnytimeTrace, or null if there is none
+   */
+  public AnytimeTrace getAnytimeTrace() {
+    return trace;
+  }
+
   /**
    * Checks whether the cost of the solution contained in this ProgressTracker is integer valued.
    *
@@ -250,4 +290,15 @@ public final class ProgressTracker<T extends Copyable<T>> {
   public boolean containsIntCost() {
     return containsIntCost;
   }
+
+  /*
+   * Called by the update methods after releasing the lock, so that other threads are not
+   * blocked while the trace calls its evaluation counter.
+   */
+  private void recordTrace(long improvedAt, double cost) {
+    AnytimeTrace t = trace;
+    if (t != null) {
+      t.record(improvedAt - origin, cost);
+    }
+  }
 }
@@ -54,6 +54,23 @@ public interface ReoptimizableMetaheuristic<T extends Copyable<T>> extends Metah
    */
   SolutionCostPair<T> reoptimize(int runLength);
 
+  /**
+   * Executes a run of the metaheuristic beginning at the previously best found solution rather than
+   * from a random one, where the run length may exceed the range of an int. The default
+   * implementation caps the run length at Integer.MAX_VALUE and calls {@link #reoptimize(int)}.
+   * Implementing classes whose runs may be longer than that should override this method.
+   *
+   * @param runLength The length of a run of this metaheuristic.
+   * @return The current solution at the end of this run and its cost, which may or may not be the
+   *     best of run solution, and which may or may not be the same as the solution contained in
+   *     this metaheuristic's {@link ProgressTracker}, which contains the best of all runs. Returns
+   *     null if the run did not execute, such as if the ProgressTracker already contains the
+   *     theoretical best solution.
+   */
+  default SolutionCostPair<T> reoptimize(long runLength) {
+    return reoptimize((int) Math.min(runLength, Integer.MAX_VALUE));
+  }
+
   @Override
   ReoptimizableMetaheuristic<T> split();
 }
@@ -55,4 +55,22 @@ public interface SingleSolutionMetaheuristic<T extends Copyable<T>>
    *     theoretical best solution.
    */
   SolutionCostPair<T> optimize(int runLength, T start);
+
+  /**
+   * Executes a run of the metaheuristic beginning at a specified starting solution, where the run
+   * length may exceed the range of an int. The default implementation caps the run length at
+   * Integer.MAX_VALUE and calls {@link #optimize(int, Copyable)}. Implementing classes whose runs
+   * may be longer than that should override this method.
+   *
+   * @param runLength The length of a run of this metaheuristic.
+   * @param start The desired starting solution.
+   * @return The current solution at the end of this run and its cost, which may or may not be the
+   *     best of run solution, and which may or may not be the same as the solution contained in
+   *     this metaheuristic's {@link ProgressTracker}, which contains the best of all runs. Returns
+   *     null if the run did not execute, such as if the ProgressTracker already contains the
+   *     theoretical best solution.
+   */
+  default SolutionCostPair<T> optimize(long runLength, T start) {
+    return optimize((int) Math.min(runLength, Integer.MAX_VALUE), start);
+  }
 }
@@ -0,0 +1,190 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.checkpoint;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the values of a checkpoint that was written by a {@link CheckpointWriter}. Values must be
+ * read in the same order that they were written. Any attempt to read past the end of the checkpoint
+ * results in an IllegalStateException.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public final class CheckpointReader {
+
+  private final ByteBuffer buffer;
+
+  /*
+   * package private: used by CheckpointWriter.toReader(), and the read and of methods.
+   * Validates the header, leaving the buffer positioned after it.
+   */
+  CheckpointReader(ByteBuffer buffer) {
+    if (buffer.remaining() < 2 * Integer.BYTES || buffer.getInt() != CheckpointWriter.MAGIC) {
+      throw new IllegalArgumentException("not a checkpoint");
+    }
+    int version = buffer.getInt();
+    if (version != CheckpointWriter.VERSION) {
+      throw new IllegalArgumentException("unsupported checkpoint version: " + version);
+    }
+    this.buffer = buffer;
+  }
+
+  /**
+   * Reads a checkpoint from a file.
+   *
+   * @param file The file.
+   * @return a reader positioned at the first value of the checkpoint
+   * @throws IOException if an I/O error occurs
+   * @throws IllegalArgumentException if the file is not a checkpoint, or is a checkpoint of an
+   *     unsupported version
+   */
+  public static CheckpointReader read(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("not a checkpoint");
+      }
+      ByteBuffer buffer = ByteBuffer.allocate((int) size);
+      while (buffer.hasRemaining() && channel.read(buffer) >= 0) {}
+      return new CheckpointReader(buffer.flip());
+    }
+  }
+
+  /**
+   * Creates a reader over a checkpoint that is already in memory, such as one received over a
+   * network. The reader reads the buffer from its current position to its limit, and the buffer
+   * must not be modified while the reader is in use.
+   *
+   * @param buffer A buffer containing a checkpoint written by a {@link CheckpointWriter}.
+   * @return a reader positioned at the first value of the checkpoint
+   * @throws IllegalArgumentException if the buffer does not contain a checkpoint, or contains a
+   *     checkpoint of an unsupported version
+   */
+  public static CheckpointReader of(ByteBuffer buffer) {
+    return new CheckpointReader(buffer.slice());
+  }
+
+  /**
+   * Reads an int from the checkpoint.
+   *
+   * @return the value
+   */
+  public int getInt() {
+    try {
+      return buffer.getInt();
+    } catch (BufferUnderflowException e) {
+      throw truncated();
+    }
+  }
+
+  /**
+   * Reads a long from the checkpoint.
+   *
+   * @return the value
+   */
+  public long getLong() {
+    try {
+      return buffer.getLong();
+    } catch (BufferUnderflowException e) {
+      throw truncated();
+    }
+  }
+
+  /**
+   * Reads a double from the checkpoint.
+   *
+   * @return the value
+   */
+  public double getDouble() {
+    try {
+      return buffer.getDouble();
+    } catch (BufferUnderflowException e) {
+      throw truncated();
+    }
+  }
+
+  /**
+   * Reads a boolean from the checkpoint.
+   *
+   * @return the value
+   */
+  public boolean getBoolean() {
+    try {
+      return buffer.get() != 0;
+    } catch (BufferUnderflowException e) {
+      throw truncated();
+    }
+  }
+
+  /**
+   * Reads an array of ints from the checkpoint.
+   *
+   * @return the array
+   */
+  public int[] getIntArray() {
+    int length = arrayLength(Integer.BYTES);
+    int[] values = new int[length];
+    buffer.asIntBuffer().get(values);
+    buffer.position(buffer.position() + Integer.BYTES * length);
+    return values;
+  }
+
+  /**
+   * Reads an array of doubles from the checkpoint.
+   *
+   * @return the array
+   */
+  public double[] getDoubleArray() {
+    int length = arrayLength(Double.BYTES);
+    double[] values = new double[length];
+    buffer.asDoubleBuffer().get(values);
+    buffer.position(buffer.position() + Double.BYTES * length);
+    return values;
+  }
+
+  /**
+   * Gets the number of bytes of the checkpoint that have not yet been read.
+   *
+   * @return the number of unread bytes
+   */
+  public int remaining() {
+    return buffer.remaining();
+  }
+
+  private int arrayLength(int elementBytes) {
+    int length = getInt();
+    if (length < 0 || (long) length * elementBytes > buffer.remaining()) {
+      throw truncated();
+    }
+    return length;
+  }
+
+  private static IllegalStateException truncated() {
+    return new IllegalStateException("read past the end of the checkpoint");
+  }
+}
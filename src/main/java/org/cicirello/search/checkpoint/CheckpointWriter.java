@@ -0,0 +1,232 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.checkpoint;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Builds a compact binary checkpoint in memory, and writes it to a channel or file. A checkpoint
+ * begins with a short header that identifies it as a checkpoint, followed by the values in the
+ * order that they were put, each in big-endian binary form with no per-value tags. Arrays are
+ * written as their length followed by their elements. A checkpoint must therefore be read with a
+ * {@link CheckpointReader} in the same order that it was written.
+ *
+ * <p>Writing a checkpoint to a file first writes it to a temporary file in the same directory, and
+ * then moves it into place, so a crash while writing never corrupts the most recent complete
+ * checkpoint.
+ *
+ * <p>This class is not thread-safe. However, once a search thread finishes putting its state, the
+ * writer may be handed to another thread to write, provided the search thread no longer uses it.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public final class CheckpointWriter {
+
+  /* The first four bytes of every checkpoint: the ASCII characters CNSC. */
+  static final int MAGIC = 0x434E5343;
+
+  /* The version of the checkpoint format. */
+  static final int VERSION = 1;
+
+  private ByteBuffer buffer;
+
+  /** Constructs a writer for a new checkpoint, and writes the checkpoint header. */
+  public CheckpointWriter() {
+    this(256);
+  }
+
+  /**
+   * Constructs a writer for a new checkpoint, and writes the checkpoint header.
+   *
+   * @param initialCapacity The initial capacity in bytes, which grows as needed.
+   * @throws IllegalArgumentException if initialCapacity is negative
+   */
+  public CheckpointWriter(int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("initialCapacity must be non-negative");
+    }
+    buffer = ByteBuffer.allocate(Math.max(initialCapacity, 2 * Integer.BYTES));
+    buffer.putInt(MAGIC);
+    buffer.putInt(VERSION);
+  }
+
+  /**
+   * Puts an int into the checkpoint.
+   *
+   * @param value The value.
+   * @return this writer
+   */
+  public CheckpointWriter putInt(int value) {
+    ensureRemaining(Integer.BYTES);
+    buffer.putInt(value);
+    return this;
+  }
+
+  /**
+   * Puts a long into the checkpoint.
+   *
+   * @param value The value.
+   * @return this writer
+   */
+  public CheckpointWriter putLong(long value) {
+    ensureRemaining(Long.BYTES);
+    buffer.putLong(value);
+    return this;
+  }
+
+  /**
+   * Puts a double into the checkpoint.
+   *
+   * @param value The value.
+   * @return this writer
+   */
+  public CheckpointWriter putDouble(double value) {
+    ensureRemaining(Double.BYTES);
+    buffer.putDouble(value);
+    return this;
+  }
+
+  /**
+   * Puts a boolean into the checkpoint.
+   *
+   * @param value The value.
+   * @return this writer
+   */
+  public CheckpointWriter putBoolean(boolean value) {
+    ensureRemaining(1);
+    buffer.put(value ? (byte) 1 : (byte) 0);
+    return this;
+  }
+
+  /**
+   * Puts an array of ints into the checkpoint.
+   *
+   * @param values The array.
+   * @return this writer
+   */
+  public CheckpointWriter putIntArray(int[] values) {
+    ensureRemaining(Integer.BYTES * (values.length + 1L));
+    buffer.putInt(values.length);
+    buffer.asIntBuffer().put(values);
+    buffer.position(buffer.position() + Integer.BYTES * values.length);
+    return this;
+  }
+
+  /**
+   * Puts an array of doubles into the checkpoint.
+   *
+   * @param values The array.
+   * @return this writer
+   */
+  public CheckpointWriter putDoubleArray(double[] values) {
+    ensureRemaining(Integer.BYTES + Double.BYTES * (long) values.length);
+    buffer.putInt(values.length);
+    buffer.asDoubleBuffer().put(values);
+    buffer.position(buffer.position() + Double.BYTES * values.length);
+    return this;
+  }
+
+  /**
+   * Gets the size of the checkpoint, including its header.
+   *
+   * @return the size of the checkpoint in bytes
+   */
+  public int size() {
+    return buffer.position();
+  }
+
+  /**
+   * Writes the checkpoint to a channel. The writer is unchanged by this method, so the same
+   * checkpoint may be written more than once.
+   *
+   * @param channel The channel.
+   * @throws IOException if an I/O error occurs
+   */
+  public void writeTo(WritableByteChannel channel) throws IOException {
+    ByteBuffer contents = buffer.duplicate().flip();
+    while (contents.hasRemaining()) {
+      channel.write(contents);
+    }
+  }
+
+  /**
+   * Writes the checkpoint to a file, replacing the file if it exists. The checkpoint is first
+   * written to a temporary file in the same directory, which is then moved into place, atomically
+   * if the file system supports it.
+   *
+   * @param file The file.
+   * @throws IOException if an I/O error occurs
+   */
+  public void writeTo(Path file) throws IOException {
+    Path absolute = file.toAbsolutePath();
+    Path temp =
+        Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+    try {
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+        writeTo(channel);
+        channel.force(false);
+      }
+      try {
+        Files.move(
+            temp, absolute, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /**
+   * Creates a reader over the contents of this checkpoint, without writing it anywhere. The reader
+   * is positioned immediately after the header, and is unaffected by subsequent puts to this
+   * writer.
+   *
+   * @return a reader over this checkpoint
+   */
+  public CheckpointReader toReader() {
+    ByteBuffer copy = ByteBuffer.allocate(buffer.position());
+    copy.put(buffer.duplicate().flip()).flip();
+    return new CheckpointReader(copy);
+  }
+
+  private void ensureRemaining(long bytes) {
+    if (buffer.remaining() < bytes) {
+      long needed = buffer.position() + bytes;
+      long capacity = Math.max(needed, 2L * buffer.capacity());
+      if (needed > Integer.MAX_VALUE) {
+        throw new IllegalStateException("checkpoint exceeds the maximum size");
+      }
+      ByteBuffer larger = ByteBuffer.allocate((int) Math.min(capacity, Integer.MAX_VALUE));
+      larger.put(buffer.flip());
+      buffer = larger;
+    }
+  }
+}
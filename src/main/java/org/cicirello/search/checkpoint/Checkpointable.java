@@ -0,0 +1,47 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.checkpoint;
+
+/**
+ * Implemented by classes whose mutable state can be saved to, and restored from, a checkpoint. An
+ * object's state is restored by calling {@link #readCheckpoint} on an object that was configured
+ * identically (e.g., with the same parameters) to the one whose state was written, with a {@link
+ * CheckpointReader} positioned where {@link #writeCheckpoint} began writing.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public interface Checkpointable {
+
+  /**
+   * Writes the current mutable state of this object to a checkpoint.
+   *
+   * @param out The checkpoint to write to.
+   */
+  void writeCheckpoint(CheckpointWriter out);
+
+  /**
+   * Restores the state of this object from a checkpoint.
+   *
+   * @param in The checkpoint to read from.
+   */
+  void readCheckpoint(CheckpointReader in);
+}
@@ -0,0 +1,227 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.checkpoint;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Coordinates periodic checkpointing of a search to a file in the background. A background daemon
+ * thread periodically requests a checkpoint. A search that supports checkpointing polls {@link
+ * #isRequested} at points where its state is consistent, and when a checkpoint is requested it
+ * copies its state into a {@link CheckpointWriter} and passes it to {@link #submit}. The checkpoint
+ * is then written to the file by the background thread, so the search is paused only for the time
+ * it takes to copy its state into memory, and not for any I/O.
+ *
+ * <p>Each checkpoint replaces the previous one in the file. If writing a checkpoint fails, the
+ * search is not interrupted; rather, the exception is available from {@link #getLastError}.
+ *
+ * <p>A PeriodicCheckpointer should be used by a single search at a time. It should be closed when
+ * no longer needed, which stops the periodic requests, and waits for any submitted checkpoints to
+ * finish writing.
+ *
+ * <p>A search that encloses the search that takes the checkpoints, such as a multistart search,
+ * adds its own state to each checkpoint with {@link #addEnclosingState}. That state is written at
+ * the start of every checkpoint begun with {@link #newCheckpoint}, ahead of the state of the search
+ * that takes the checkpoint.
+ *
+ * @param <T> The type of candidate solution of the search.
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public final class PeriodicCheckpointer<T> implements AutoCloseable {
+
+  private final Path file;
+  private final SolutionCodec<T> codec;
+  private final ScheduledExecutorService executor;
+  private volatile boolean requested;
+  private volatile long count;
+  private volatile IOException lastError;
+  private volatile List<Consumer<CheckpointWriter>> enclosing;
+
+  /**
+   * Constructs a PeriodicCheckpointer, and starts its periodic requests for checkpoints.
+   *
+   * @param file The file to write checkpoints to.
+   * @param codec Writes the candidate solutions of the search.
+   * @param period The time between checkpoint requests.
+   * @param unit The unit of the period.
+   * @throws IllegalArgumentException if period is not positive
+   * @throws NullPointerException if file, codec, or unit is null
+   */
+  public PeriodicCheckpointer(Path file, SolutionCodec<T> codec, long period, TimeUnit unit) {
+    if (period <= 0) {
+      throw new IllegalArgumentException("period must be positive");
+    }
+    this.file = Objects.requireNonNull(file);
+    this.codec = Objects.requireNonNull(codec);
+    Objects.requireNonNull(unit);
+    enclosing = List.of();
+    executor =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              Thread t = new Thread(r, "chips-n-salsa-checkpointer");
+              t.setDaemon(true);
+              return t;
+            });
+    executor.scheduleAtFixedRate(() -> requested = true, period, period, unit);
+  }
+
+  /**
+   * Checks whether a checkpoint has been requested since the last one was submitted. This method is
+   * intended to be called frequently by the search, and is only a read of a volatile field.
+   *
+   * @return true if a checkpoint has been requested
+   */
+  public boolean isRequested() {
+    return requested;
+  }
+
+  /** Requests a checkpoint now, rather than waiting for the next periodic request. */
+  public void requestCheckpoint() {
+    requested = true;
+  }
+
+  /**
+   * Begins a new checkpoint, which already contains the state of any enclosing searches, in the
+   * order in which they were added with {@link #addEnclosingState}. The search that takes the
+   * checkpoint then writes its own state, and passes the checkpoint to {@link #submit}.
+   *
+   * @return a new checkpoint
+   */
+  public CheckpointWriter newCheckpoint() {
+    CheckpointWriter checkpoint = new CheckpointWriter();
+    for (Consumer<CheckpointWriter> state : enclosing) {
+      state.accept(checkpoint);
+    }
+    return checkpoint;
+  }
+
+  /**
+   * Adds the state of a search that encloses the search that takes the checkpoints, such as a
+   * multistart search that restarts it. The state is written by {@link #newCheckpoint}, after the
+   * state of any enclosing searches that were added before it.
+   *
+   * @param state Writes the state of the enclosing search to a checkpoint.
+   * @throws NullPointerException if state is null
+   */
+  public synchronized void addEnclosingState(Consumer<CheckpointWriter> state) {
+    List<Consumer<CheckpointWriter>> states = new ArrayList<Consumer<CheckpointWriter>>(enclosing);
+    states.add(Objects.requireNonNull(state));
+    enclosing = List.copyOf(states);
+  }
+
+  /**
+   * Removes the state of an enclosing search that was added with {@link #addEnclosingState}.
+   *
+   * @param state The state to remove.
+   */
+  public synchronized void removeEnclosingState(Consumer<CheckpointWriter> state) {
+    List<Consumer<CheckpointWriter>> states = new ArrayList<Consumer<CheckpointWriter>>(enclosing);
+    states.remove(state);
+    enclosing = List.copyOf(states);
+  }
+
+  /**
+   * Submits a checkpoint to be written to the file in the background, and clears the request. The
+   * caller must not use the writer after this call. If this PeriodicCheckpointer has been closed,
+   * the checkpoint is discarded.
+   *
+   * @param checkpoint The checkpoint to write.
+   */
+  public void submit(CheckpointWriter checkpoint) {
+    requested = false;
+    try {
+      executor.execute(() -> write(checkpoint));
+    } catch (RejectedExecutionException e) {
+      // closed
+    }
+  }
+
+  /**
+   * Gets the codec for writing and reading the candidate solutions of the search.
+   *
+   * @return the codec
+   */
+  public SolutionCodec<T> getCodec() {
+    return codec;
+  }
+
+  /**
+   * Gets the file that checkpoints are written to.
+   *
+   * @return the file
+   */
+  public Path getFile() {
+    return file;
+  }
+
+  /**
+   * Gets the number of checkpoints that have been successfully written to the file.
+   *
+   * @return the number of checkpoints written
+   */
+  public long getCheckpointCount() {
+    return count;
+  }
+
+  /**
+   * Gets the exception thrown by the most recent failed attempt to write a checkpoint, if any.
+   *
+   * @return the most recent I/O exception, or null if no write has failed
+   */
+  public IOException getLastError() {
+    return lastError;
+  }
+
+  /**
+   * Stops the periodic requests for checkpoints, and waits for any checkpoints that were already
+   * submitted to finish writing. If the calling thread is interrupted while waiting, this method
+   * returns without waiting further, and with the thread's interrupt status set.
+   */
+  @Override
+  public void close() {
+    executor.shutdown();
+    try {
+      while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {}
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void write(CheckpointWriter checkpoint) {
+    try {
+      checkpoint.writeTo(file);
+      // Only the single background thread writes count.
+      count = count + 1;
+    } catch (IOException e) {
+      lastError = e;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.cicirello.search.checkpoint;
+
+import org.cicirello.search.Metaheuristic;
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.util.Copyable;
+
+/**
+ * Implemented by metaheuristics whose runs can be checkpointed periodically with a {@link
+ * PeriodicCheckpointer}, and later resumed from a checkpoint. A metaheuristic that encloses
+ * another, such as a multistart search, implements this interface by registering its own state with
+ * the checkpointer (see {@link PeriodicCheckpointer#addEnclosingState}) and passing the
+ * checkpointer to the metaheuristic that it encloses, which takes the checkpoints.
+ *
+ * @param <T> The type of object under optimization.
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public interface ResumableMetaheuristic<T extends Copyable<T>> extends Metaheuristic<T> {
+
+  /**
+   * Sets a checkpointer for periodically checkpointing runs of this metaheuristic.
+   *
+   * @param checkpointer The checkpointer, or null to disable checkpointing.
+   * @throws UnsupportedOperationException if checkpointer is non-null and this metaheuristic, as
+   *     configured, does not support checkpoints
+   */
+  void setCheckpointer(PeriodicCheckpointer<T> checkpointer);
+
+  /**
+   * Resumes a run of this metaheuristic from a checkpoint, continuing from the point at which the
+   * checkpoint was taken, and ending at the end of the original run. This metaheuristic must be
+   * configured in the same way as the one that wrote the checkpoint.
+   *
+   * @param in The checkpoint.
+   * @param codec The codec for reading the solutions of the checkpoint.
+   * @return The result of the resumed run, as with the optimize methods. Returns null if the run
+   *     did not execute, such as if the ProgressTracker already contains the theoretical best
+   *     solution.
+   * @throws UnsupportedOperationException if this metaheuristic, as configured, does not support
+   *     checkpoints
+   * @throws IllegalArgumentException if the checkpoint is inconsistent with the configuration of
+   *     this metaheuristic
+   */
+  SolutionCostPair<T> resume(CheckpointReader in, SolutionCodec<T> codec);
+
+  @Override
+  ResumableMetaheuristic<T> split();
+}
@@ -0,0 +1,141 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.checkpoint;
+
+import org.cicirello.permutations.Permutation;
+import org.cicirello.search.representations.BitVector;
+import org.cicirello.search.representations.IntegerVector;
+import org.cicirello.search.representations.RealVector;
+
+/**
+ * Writes candidate solutions to, and reads them from, a checkpoint. Codecs are provided for the
+ * common representations of this library. Codecs for other representations, including the bounded
+ * vector representations, can be implemented by putting the values that determine the solution with
+ * the methods of {@link CheckpointWriter}, and constructing an equivalent solution from them in the
+ * same order with the methods of {@link CheckpointReader}.
+ *
+ * @param <T> The type of object to write and read.
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public interface SolutionCodec<T> {
+
+  /**
+   * Writes a solution to a checkpoint.
+   *
+   * @param solution The solution to write.
+   * @param out The checkpoint to write to.
+   */
+  void write(T solution, CheckpointWriter out);
+
+  /**
+   * Reads a solution from a checkpoint.
+   *
+   * @param in The checkpoint to read from.
+   * @return a new object equivalent to the solution that was written
+   */
+  T read(CheckpointReader in);
+
+  /**
+   * Gets a codec for permutations.
+   *
+   * @return a codec for permutations
+   */
+  static SolutionCodec<Permutation> permutation() {
+    return new SolutionCodec<Permutation>() {
+      @Override
+      public void write(Permutation solution, CheckpointWriter out) {
+        out.putIntArray(solution.toArray());
+      }
+
+      @Override
+      public Permutation read(CheckpointReader in) {
+        return new Permutation(in.getIntArray());
+      }
+    };
+  }
+
+  /**
+   * Gets a codec for bit vectors.
+   *
+   * @return a codec for bit vectors
+   */
+  static SolutionCodec<BitVector> bitVector() {
+    return new SolutionCodec<BitVector>() {
+      @Override
+      public void write(BitVector solution, CheckpointWriter out) {
+        int[] blocks = new int[(solution.length() + 31) >> 5];
+        for (int i = 0; i < blocks.length; i++) {
+          blocks[i] = solution.get32(i);
+        }
+        out.putInt(solution.length());
+        out.putIntArray(blocks);
+      }
+
+      @Override
+      public BitVector read(CheckpointReader in) {
+        int bitLength = in.getInt();
+        int[] bits = in.getIntArray();
+        return bitLength > 0 ? new BitVector(bitLength, bits) : new BitVector(0);
+      }
+    };
+  }
+
+  /**
+   * Gets a codec for integer vectors. The solutions read by this codec are of type IntegerVector,
+   * even if the solutions written were of a subclass, such as a bounded integer vector.
+   *
+   * @return a codec for integer vectors
+   */
+  static SolutionCodec<IntegerVector> integerVector() {
+    return new SolutionCodec<IntegerVector>() {
+      @Override
+      public void write(IntegerVector solution, CheckpointWriter out) {
+        out.putIntArray(solution.toArray(null));
+      }
+
+      @Override
+      public IntegerVector read(CheckpointReader in) {
+        return new IntegerVector(in.getIntArray());
+      }
+    };
+  }
+
+  /**
+   * Gets a codec for real vectors. The solutions read by this codec are of type RealVector, even if
+   * the solutions written were of a subclass, such as a bounded real vector.
+   *
+   * @return a codec for real vectors
+   */
+  static SolutionCodec<RealVector> realVector() {
+    return new SolutionCodec<RealVector>() {
+      @Override
+      public void write(RealVector solution, CheckpointWriter out) {
+        out.putDoubleArray(solution.toArray(null));
+      }
+
+      @Override
+      public RealVector read(CheckpointReader in) {
+        return new RealVector(in.getDoubleArray());
+      }
+    };
+  }
+}
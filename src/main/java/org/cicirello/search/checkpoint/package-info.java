@@ -0,0 +1,33 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+/**
+ * This package includes classes and interfaces for checkpointing the state of long-running searches
+ * to a compact binary snapshot, and for resuming a search from such a snapshot. Snapshots are
+ * written with NIO channels, and can be written periodically in the background by a {@link
+ * org.cicirello.search.checkpoint.PeriodicCheckpointer}, in which case the search is paused only
+ * long enough to copy its state into an in-memory buffer. Searches that support checkpoints
+ * implement {@link org.cicirello.search.checkpoint.ResumableMetaheuristic}, including simulated
+ * annealing, the generational evolutionary algorithms, and multistart searches of any of these.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+package org.cicirello.search.checkpoint;
@@ -0,0 +1,848 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.concurrent;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import org.cicirello.math.rand.EnhancedSplittableGenerator;
+import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.ReoptimizableMetaheuristic;
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.evo.FitnessFunction;
+import org.cicirello.search.evo.PopulationFitnessVector;
+import org.cicirello.search.evo.SelectionOperator;
+import org.cicirello.search.internal.RandomnessFactory;
+import org.cicirello.search.operators.CrossoverOperator;
+import org.cicirello.search.operators.Initializer;
+import org.cicirello.search.operators.MutationOperator;
+import org.cicirello.search.problems.Problem;
+import org.cicirello.util.Copyable;
+
+/**
+ * This class implements an asynchronous master-worker steady-state evolutionary algorithm, intended
+ * for problems with expensive fitness functions, especially where the time to evaluate fitness
+ * varies widely among candidate solutions. Rather than synchronizing the threads at the end of each
+ * generation, each worker thread repeatedly performs a breed-and-evaluate task: it selects a pair
+ * of parents from the shared population, forms a pair of offspring by applying crossover and
+ * mutation to copies of the parents, evaluates the fitness of the offspring, and inserts them into
+ * the shared population. A worker whose offspring are slow to evaluate never delays the others, so
+ * all threads remain busy regardless of the variance in fitness evaluation times.
+ *
+ * <p>As in the {@link org.cicirello.search.evo.GenerationalEvolutionaryAlgorithm}, crossover and
+ * mutation are controlled by a crossover rate and a mutation rate, such that each offspring may be
+ * the result of crossover alone, mutation alone, a combination of both crossover and mutation, or a
+ * simple copy of a parent. Offspring that are simple copies of a parent are neither evaluated nor
+ * inserted into the population.
+ *
+ * <p>The shared population is partitioned into lock stripes, such that insertions into different
+ * stripes proceed concurrently. An offspring is inserted into a stripe chosen uniformly at random,
+ * replacing the least fit member of that stripe provided that the offspring is at least as fit.
+ * Population members are never modified in place once inserted, so selection reads the population
+ * without locking.
+ *
+ * <p>The crossover, mutation, and selection operators are completely configurable by passing
+ * instances of classes that implement the {@link CrossoverOperator}, {@link MutationOperator}, and
+ * {@link SelectionOperator} classes to one of the constructors. Each thread uses its own split of
+ * each operator. Since selection occurs once per breed-and-evaluate task, selection operators whose
+ * cost per call is independent of the population size, such as {@link
+ * org.cicirello.search.evo.TournamentSelection}, are the most efficient choices.
+ *
+ * <p>The run length passed to the {@link #optimize} and {@link #reoptimize} methods is the number
+ * of breed-and-evaluate tasks, each of which performs at most two fitness evaluations, shared among
+ * all threads. The {@link #optimize} method additionally evaluates the initial population in
+ * parallel.
+ *
+ * <p>By default, this class owns a fixed thread pool, so that multiple calls to {@link #optimize}
+ * and {@link #reoptimize} reuse threads. When you no longer need it, you should call the {@link
+ * #close} method to ensure that unneeded threads do not persist. Alternatively, it can be
+ * constructed with an {@link ExecutorService} supplied by the caller, such as a pool shared by an
+ * entire application. It does not own a supplied executor: its {@link #close} method does not shut
+ * the executor down, the instances created by its {@link #split} method share the executor, and the
+ * caller remains responsible for shutting the executor down.
+ *
+ * @param <T> The type of object under optimization.
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public class AsynchronousEvolutionaryAlgorithm<T extends Copyable<T>>
+    implements ReoptimizableMetaheuristic<T>, AutoCloseable {
+
+  private final int MU;
+  private final double M;
+  private final double C;
+  private final FitnessFunction.Double<T> f;
+  private final Problem<T> problem;
+  private ProgressTracker<T> tracker;
+
+  private final AtomicReferenceArray<Member<T>> pop;
+  private final ReentrantLock[] stripes;
+  private final PopulationFitnessVector.Double fitnesses;
+  private boolean initialized;
+
+  private final ArrayList<Worker> workers;
+  private final SearchExecutor threadPool;
+
+  private final AtomicInteger nextToInitialize;
+  private final AtomicInteger remainingTasks;
+  private final AtomicLong numFitnessEvals;
+
+  /**
+   * Constructs and initializes the asynchronous evolutionary algorithm. This constructor supports
+   * fitness functions with fitnesses of type double, the {@link FitnessFunction.Double} interface.
+   *
+   * @param n The population size.
+   * @param mutation The mutation operator.
+   * @param mutationRate The probability that an offspring is mutated once. Note that this is not a
+   *     per-bit rate since this class is generalized to evolution of any {@link Copyable} object
+   *     type. For {@link org.cicirello.search.representations.BitVector} optimization and
+   *     traditional genetic algorithm interpretation of mutation rate, configure your mutation
+   *     operator with the per-bit mutation rate, and then pass 1.0 for this parameter.
+   * @param crossover The crossover operator.
+   * @param crossoverRate The probability that a pair of parents undergo crossover.
+   * @param initializer An initializer for generating random initial population members.
+   * @param f The fitness function.
+   * @param selection The selection operator.
+   * @param numThreads The number of worker threads, which is also the number of lock stripes of the
+   *     population, up to half of the population size.
+   * @param tracker A ProgressTracker.
+   * @throws IllegalArgumentException if n is less than 2.
+   * @throws IllegalArgumentException if either mutationRate or crossoverRate are less than 0.
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   * @throws NullPointerException if any of mutation, crossover, initializer, f, selection, or
+   *     tracker are null.
+   */
+  public AsynchronousEvolutionaryAlgorithm(
+      int n,
+      MutationOperator<T> mutation,
+      double mutationRate,
+      CrossoverOperator<T> crossover,
+      double crossoverRate,
+      Initializer<T> initializer,
+      FitnessFunction.Double<T> f,
+      SelectionOperator selection,
+      int numThreads,
+      ProgressTracker<T> tracker) {
+    this(
+        null,
+        n,
+        mutation,
+        mutationRate,
+        crossover,
+        crossoverRate,
+        initializer,
+        f,
+        selection,
+        numThreads,
+        tracker);
+  }
+
+  /**
+   * Constructs and initializes the asynchronous evolutionary algorithm, using an executor supplied
+   * by the caller. This constructor supports fitness functions with fitnesses of type double, the
+   * {@link FitnessFunction.Double} interface. The AsynchronousEvolutionaryAlgorithm does not own
+   * the executor, so closing it does not shut down the executor.
+   *
+   * @param n The population size.
+   * @param mutation The mutation operator.
+   * @param mutationRate The probability that an offspring is mutated once. Note that this is not a
+   *     per-bit rate since this class is generalized to evolution of any {@link Copyable} object
+   *     type. For {@link org.cicirello.search.representations.BitVector} optimization and
+   *     traditional genetic algorithm interpretation of mutation rate, configure your mutation
+   *     operator with the per-bit mutation rate, and then pass 1.0 for this parameter.
+   * @param crossover The crossover operator.
+   * @param crossoverRate The probability that a pair of parents undergo crossover.
+   * @param initializer An initializer for generating random initial population members.
+   * @param f The fitness function.
+   * @param selection The selection operator.
+   * @param numThreads The number of workers, each of which is submitted to the executor as a
+   *     separate task, which is also the number of lock stripes of the population, up to half of
+   *     the population size.
+   * @param tracker A ProgressTracker.
+   * @param executor The executor that runs the workers.
+   * @throws IllegalArgumentException if n is less than 2.
+   * @throws IllegalArgumentException if either mutationRate or crossoverRate are less than 0.
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   * @throws NullPointerException if any of mutation, crossover, initializer, f, selection, tracker,
+   *     or executor are null.
+   */
+  public AsynchronousEvolutionaryAlgorithm(
+      int n,
+      MutationOperator<T> mutation,
+      double mutationRate,
+      CrossoverOperator<T> crossover,
+      double crossoverRate,
+      Initializer<T> initializer,
+      FitnessFunction.Double<T> f,
+      SelectionOperator selection,
+      int numThreads,
+      ProgressTracker<T> tracker,
+      ExecutorService executor) {
+    this(
+        Objects.requireNonNull(executor),
+        n,
+        mutation,
+        mutationRate,
+        crossover,
+        crossoverRate,
+        initializer,
+        f,
+        selection,
+        numThreads,
+        tracker);
+  }
+
+  /**
+   * Constructs and initializes the asynchronous evolutionary algorithm, using an executor supplied
+   * by the caller. This constructor supports fitness functions with fitnesses of type int, the
+   * {@link FitnessFunction.Integer} interface. The AsynchronousEvolutionaryAlgorithm does not own
+   * the executor, so closing it does not shut down the executor.
+   *
+   * @param n The population size.
+   * @param mutation The mutation operator.
+   * @param mutationRate The probability that an offspring is mutated once. Note that this is not a
+   *     per-bit rate since this class is generalized to evolution of any {@link Copyable} object
+   *     type. For {@link org.cicirello.search.representations.BitVector} optimization and
+   *     traditional genetic algorithm interpretation of mutation rate, configure your mutation
+   *     operator with the per-bit mutation rate, and then pass 1.0 for this parameter.
+   * @param crossover The crossover operator.
+   * @param crossoverRate The probability that a pair of parents undergo crossover.
+   * @param initializer An initializer for generating random initial population members.
+   * @param f The fitness function.
+   * @param selection The selection operator.
+   * @param numThreads The number of workers, each of which is submitted to the executor as a
+   *     separate task, which is also the number of lock stripes of the population, up to half of
+   *     the population size.
+   * @param tracker A ProgressTracker.
+   * @param executor The executor that runs the workers.
+   * @throws IllegalArgumentException if n is less than 2.
+   * @throws IllegalArgumentException if either mutationRate or crossoverRate are less than 0.
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   * @throws NullPointerException if any of mutation, crossover, initializer, f, selection, tracker,
+   *     or executor are null.
+   */
+  public AsynchronousEvolutionaryAlgorithm(
+      int n,
+      MutationOperator<T> mutation,
+      double mutationRate,
+      CrossoverOperator<T> crossover,
+      double crossoverRate,
+      Initializer<T> initializer,
+      FitnessFunction.Integer<T> f,
+      SelectionOperator selection,
+      int numThreads,
+      ProgressTracker<T> tracker,
+      ExecutorService executor) {
+    this(
+        Objects.requireNonNull(executor),
+        n,
+        mutation,
+        mutationRate,
+        crossover,
+        crossoverRate,
+        initializer,
+        asDoubleFitness(f),
+        selection,
+        numThreads,
+        tracker);
+  }
+
+  /*
+   * private constructor that does the work of the others. If executor is null,
+   * the AsynchronousEvolutionaryAlgorithm owns a fixed thread pool.
+   */
+  private AsynchronousEvolutionaryAlgorithm(
+      ExecutorService executor,
+      int n,
+      MutationOperator<T> mutation,
+      double mutationRate,
+      CrossoverOperator<T> crossover,
+      double crossoverRate,
+      Initializer<T> initializer,
+      FitnessFunction.Double<T> f,
+      SelectionOperator selection,
+      int numThreads,
+      ProgressTracker<T> tracker) {
+    if (n < 2) {
+      throw new IllegalArgumentException("population size n must be at least 2");
+    }
+    if (mutationRate < 0.0) {
+      throw new IllegalArgumentException("mutationRate must not be negative");
+    }
+    if (crossoverRate < 0.0) {
+      throw new IllegalArgumentException("crossoverRate must not be negative");
+    }
+    if (numThreads < 1) {
+      throw new IllegalArgumentException("must be at least 1 thread");
+    }
+    MU = n;
+    M = mutationRate;
+    C = crossoverRate < 1.0 ? crossoverRate : 1.0;
+    this.f = Objects.requireNonNull(f);
+    problem = f.getProblem();
+    this.tracker = Objects.requireNonNull(tracker);
+
+    pop = new AtomicReferenceArray<Member<T>>(MU);
+    stripes = createStripes(Math.min(numThreads, MU / 2));
+    fitnesses = new FitnessView();
+
+    workers = new ArrayList<Worker>(numThreads);
+    Worker first =
+        new Worker(
+            Objects.requireNonNull(mutation),
+            Objects.requireNonNull(crossover),
+            Objects.requireNonNull(selection),
+            Objects.requireNonNull(initializer),
+            RandomnessFactory.createEnhancedSplittableGenerator());
+    workers.add(first);
+    for (int i = 1; i < numThreads; i++) {
+      workers.add(first.split());
+    }
+    threadPool = SearchExecutor.of(executor, numThreads);
+
+    nextToInitialize = new AtomicInteger();
+    remainingTasks = new AtomicInteger();
+    numFitnessEvals = new AtomicLong();
+  }
+
+  /**
+   * Constructs and initializes the asynchronous evolutionary algorithm. This constructor supports
+   * fitness functions with fitnesses of type int, the {@link FitnessFunction.Integer} interface.
+   *
+   * @param n The population size.
+   * @param mutation The mutation operator.
+   * @param mutationRate The probability that an offspring is mutated once. Note that this is not a
+   *     per-bit rate since this class is generalized to evolution of any {@link Copyable} object
+   *     type. For {@link org.cicirello.search.representations.BitVector} optimization and
+   *     traditional genetic algorithm interpretation of mutation rate, configure your mutation
+   *     operator with the per-bit mutation rate, and then pass 1.0 for this parameter.
+   * @param crossover The crossover operator.
+   * @param crossoverRate The probability that a pair of parents undergo crossover.
+   * @param initializer An initializer for generating random initial population members.
+   * @param f The fitness function.
+   * @param selection The selection operator.
+   * @param numThreads The number of worker threads, which is also the number of lock stripes of the
+   *     population, up to half of the population size.
+   * @param tracker A ProgressTracker.
+   * @throws IllegalArgumentException if n is less than 2.
+   * @throws IllegalArgumentException if either mutationRate or crossoverRate are less than 0.
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   * @throws NullPointerException if any of mutation, crossover, initializer, f, selection, or
+   *     tracker are null.
+   */
+  public AsynchronousEvolutionaryAlgorithm(
+      int n,
+      MutationOperator<T> mutation,
+      double mutationRate,
+      CrossoverOperator<T> crossover,
+      double crossoverRate,
+      Initializer<T> initializer,
+      FitnessFunction.Integer<T> f,
+      SelectionOperator selection,
+      int numThreads,
+      ProgressTracker<T> tracker) {
+    this(
+        n,
+        mutation,
+        mutationRate,
+        crossover,
+        crossoverRate,
+        initializer,
+        asDoubleFitness(f),
+        selection,
+        numThreads,
+        tracker);
+  }
+
+  /**
+   * Constructs and initializes the asynchronous evolutionary algorithm. This constructor supports
+   * fitness functions with fitnesses of type double, the {@link FitnessFunction.Double} interface.
+   * A new {@link ProgressTracker} is created for you.
+   *
+   * @param n The population size.
+   * @param mutation The mutation operator.
+   * @param mutationRate The probability that an offspring is mutated once. Note that this is not a
+   *     per-bit rate since this class is generalized to evolution of any {@link Copyable} object
+   *     type. For {@link org.cicirello.search.representations.BitVector} optimization and
+   *     traditional genetic algorithm interpretation of mutation rate, configure your mutation
+   *     operator with the per-bit mutation rate, and then pass 1.0 for this parameter.
+   * @param crossover The crossover operator.
+   * @param crossoverRate The probability that a pair of parents undergo crossover.
+   * @param initializer An initializer for generating random initial population members.
+   * @param f The fitness function.
+   * @param selection The selection operator.
+   * @param numThreads The number of worker threads, which is also the number of lock stripes of the
+   *     population, up to half of the population size.
+   * @throws IllegalArgumentException if n is less than 2.
+   * @throws IllegalArgumentException if either mutationRate or crossoverRate are less than 0.
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   * @throws NullPointerException if any of mutation, crossover, initializer, f, or selection are
+   *     null.
+   */
+  public AsynchronousEvolutionaryAlgorithm(
+      int n,
+      MutationOperator<T> mutation,
+      double mutationRate,
+      CrossoverOperator<T> crossover,
+      double crossoverRate,
+      Initializer<T> initializer,
+      FitnessFunction.Double<T> f,
+      SelectionOperator selection,
+      int numThreads) {
+    this(
+        n,
+        mutation,
+        mutationRate,
+        crossover,
+        crossoverRate,
+        initializer,
+        f,
+        selection,
+        numThreads,
+        new ProgressTracker<T>());
+  }
+
+  /**
+   * Constructs and initializes the asynchronous evolutionary algorithm. This constructor supports
+   * fitness functions with fitnesses of type int, the {@link FitnessFunction.Integer} interface. A
+   * new {@link ProgressTracker} is created for you.
+   *
+   * @param n The population size.
+   * @param mutation The mutation operator.
+   * @param mutationRate The probability that an offspring is mutated once. Note that this is not a
+   *     per-bit rate since this class is generalized to evolution of any {@link Copyable} object
+   *     type. For {@link org.cicirello.search.representations.BitVector} optimization and
+   *     traditional genetic algorithm interpretation of mutation rate, configure your mutation
+   *     operator with the per-bit mutation rate, and then pass 1.0 for this parameter.
+   * @param crossover The crossover operator.
+   * @param crossoverRate The probability that a pair of parents undergo crossover.
+   * @param initializer An initializer for generating random initial population members.
+   * @param f The fitness function.
+   * @param selection The selection operator.
+   * @param numThreads The number of worker threads, which is also the number of lock stripes of the
+   *     population, up to half of the population size.
+   * @throws IllegalArgumentException if n is less than 2.
+   * @throws IllegalArgumentException if either mutationRate or crossoverRate are less than 0.
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   * @throws NullPointerException if any of mutation, crossover, initializer, f, or selection are
+   *     null.
+   */
+  public AsynchronousEvolutionaryAlgorithm(
+      int n,
+      MutationOperator<T> mutation,
+      double mutationRate,
+      CrossoverOperator<T> crossover,
+      double crossoverRate,
+      Initializer<T> initializer,
+      FitnessFunction.Integer<T> f,
+      SelectionOperator selection,
+      int numThreads) {
+    this(
+        n,
+        mutation,
+        mutationRate,
+        crossover,
+        crossoverRate,
+        initializer,
+        f,
+        selection,
+        numThreads,
+        new ProgressTracker<T>());
+  }
+
+  /*
+   * package-private copy constructor to support split() method.
+   */
+  AsynchronousEvolutionaryAlgorithm(AsynchronousEvolutionaryAlgorithm<T> other) {
+    // Threadsafe so just copy reference or values
+    MU = other.MU;
+    M = other.M;
+    C = other.C;
+    f = other.f;
+    problem = other.problem;
+    tracker = other.tracker;
+
+    // Must have its own population and workers, and its own thread pool unless the
+    // executor was supplied by the caller
+    pop = new AtomicReferenceArray<Member<T>>(MU);
+    stripes = createStripes(other.stripes.length);
+    fitnesses = new FitnessView();
+    workers = new ArrayList<Worker>(other.workers.size());
+    for (Worker w : other.workers) {
+      workers.add(new Worker(w));
+    }
+    threadPool = other.threadPool.split(workers.size());
+    if (other.isClosed()) close();
+
+    nextToInitialize = new AtomicInteger();
+    remainingTasks = new AtomicInteger();
+    numFitnessEvals = new AtomicLong();
+  }
+
+  /**
+   * Runs the evolutionary algorithm beginning from a randomly generated population, which is
+   * evaluated in parallel. If this method is called multiple times, each call begins at a new
+   * randomly generated population.
+   *
+   * @param runLength The number of breed-and-evaluate tasks, shared among all threads.
+   * @return The best solution found during this run, which may or may not be the same as the
+   *     solution contained in the {@link ProgressTracker}, which contains the best across all calls
+   *     to optimize as well as {@link #reoptimize}. Returns null if the run did not execute, such
+   *     as if the ProgressTracker already contains the theoretical best solution.
+   * @throws IllegalStateException if the {@link #close} method was previously called.
+   */
+  @Override
+  public final SolutionCostPair<T> optimize(int runLength) {
+    checkNotClosed();
+    if (evolutionIsPaused()) return null;
+    nextToInitialize.set(0);
+    runWorkers(w -> w::initialize);
+    numFitnessEvals.addAndGet(MU);
+    initialized = true;
+    return evolve(runLength);
+  }
+
+  /**
+   * Runs the evolutionary algorithm continuing from the final population from the most recent call
+   * to either {@link #optimize} or {@link #reoptimize}, or from a random population if this is the
+   * first call to either method.
+   *
+   * @param runLength The number of breed-and-evaluate tasks, shared among all threads.
+   * @return The best solution found since the population was most recently initialized, which may
+   *     or may not be the same as the solution contained in the {@link ProgressTracker}, which
+   *     contains the best across all calls to reoptimize as well as {@link #optimize}. Returns null
+   *     if the run did not execute, such as if the ProgressTracker already contains the theoretical
+   *     best solution.
+   * @throws IllegalStateException if the {@link #close} method was previously called.
+   */
+  @Override
+  public final SolutionCostPair<T> reoptimize(int runLength) {
+    if (!initialized) {
+      return optimize(runLength);
+    }
+    checkNotClosed();
+    if (evolutionIsPaused()) return null;
+    return evolve(runLength);
+  }
+
+  /**
+   * Initiates an orderly shutdown of the thread pool used by this evolutionary algorithm. Once
+   * close is called, all subsequent calls to {@link #optimize} and {@link #reoptimize} will throw
+   * an exception. If this evolutionary algorithm was constructed with an executor supplied by the
+   * caller, then the executor is not shut down.
+   *
+   * <p>This method is invoked automatically on objects managed by the try-with-resources statement.
+   */
+  @Override
+  public final void close() {
+    threadPool.close();
+  }
+
+  /**
+   * Checks whether the thread pool has been shutdown.
+   *
+   * @return true if and only if the {@link #close} method has been called previously, or if the
+   *     executor supplied by the caller has been shut down.
+   */
+  public final boolean isClosed() {
+    return threadPool.isClosed();
+  }
+
+  @Override
+  public AsynchronousEvolutionaryAlgorithm<T> split() {
+    return new AsynchronousEvolutionaryAlgorithm<T>(this);
+  }
+
+  @Override
+  public final ProgressTracker<T> getProgressTracker() {
+    return tracker;
+  }
+
+  @Override
+  public final void setProgressTracker(ProgressTracker<T> tracker) {
+    if (tracker != null) {
+      this.tracker = tracker;
+    }
+  }
+
+  @Override
+  public final Problem<T> getProblem() {
+    return problem;
+  }
+
+  /**
+   * Gets the total run length in number of fitness evaluations, across all threads and all calls to
+   * {@link #optimize} and {@link #reoptimize}. This may differ from what may be expected based on
+   * run lengths. For example, the search terminates if it finds the theoretical best solution, and
+   * offspring that are simple copies of a parent are not evaluated.
+   *
+   * @return the total number of fitness evaluations
+   */
+  @Override
+  public final long getTotalRunLength() {
+    return numFitnessEvals.get();
+  }
+
+  private SolutionCostPair<T> evolve(int runLength) {
+    remainingTasks.set(runLength);
+    int perWorker = (runLength + workers.size() - 1) / workers.size();
+    for (Worker w : workers) {
+      w.selection.init(perWorker);
+    }
+    return runWorkers(w -> w::evolve);
+  }
+
+  /*
+   * Submits a task for each worker, and waits for all of them to complete,
+   * returning the best of the solutions returned by the tasks.
+   */
+  private SolutionCostPair<T> runWorkers(Function<Worker, Callable<SolutionCostPair<T>>> task) {
+    ArrayList<Future<SolutionCostPair<T>>> futures =
+        new ArrayList<Future<SolutionCostPair<T>>>(workers.size());
+    for (Worker w : workers) {
+      futures.add(threadPool.submit(task.apply(w)));
+    }
+    SolutionCostPair<T> best = null;
+    for (Future<SolutionCostPair<T>> future : futures) {
+      try {
+        best = better(best, future.get());
+      } catch (InterruptedException ex) {
+        // Cancel this task, and preserve interrupt status to cancel remaining.
+        future.cancel(true);
+        Thread.currentThread().interrupt();
+      } catch (ExecutionException ex) {
+        // The task threw an exception. Skip it, and collect results of other tasks.
+      }
+    }
+    return best;
+  }
+
+  /*
+   * Inserts an offspring into a lock stripe, replacing the least fit member of the
+   * stripe provided that the offspring is at least as fit.
+   */
+  private void insert(Member<T> child, int stripe) {
+    final ReentrantLock lock = stripes[stripe];
+    lock.lock();
+    try {
+      int worst = stripe;
+      for (int i = stripe + stripes.length; i < MU; i += stripes.length) {
+        if (pop.get(i).fitness < pop.get(worst).fitness) {
+          worst = i;
+        }
+      }
+      if (child.fitness >= pop.get(worst).fitness) {
+        pop.set(worst, child);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private boolean evolutionIsPaused() {
+    return tracker.didFindBest() || tracker.isStopped();
+  }
+
+  private void checkNotClosed() {
+    if (threadPool.isClosed()) {
+      throw new IllegalStateException(
+          "This AsynchronousEvolutionaryAlgorithm was previously closed.");
+    }
+  }
+
+  private static <U extends Copyable<U>> SolutionCostPair<U> better(
+      SolutionCostPair<U> a, SolutionCostPair<U> b) {
+    return a == null || (b != null && b.compareTo(a) < 0) ? b : a;
+  }
+
+  private static ReentrantLock[] createStripes(int numStripes) {
+    ReentrantLock[] stripes = new ReentrantLock[numStripes];
+    for (int i = 0; i < numStripes; i++) {
+      stripes[i] = new ReentrantLock();
+    }
+    return stripes;
+  }
+
+  private static <U extends Copyable<U>> FitnessFunction.Double<U> asDoubleFitness(
+      FitnessFunction.Integer<U> f) {
+    Objects.requireNonNull(f);
+    return new FitnessFunction.Double<U>() {
+      @Override
+      public double fitness(U candidate) {
+        return f.fitness(candidate);
+      }
+
+      @Override
+      public Problem<U> getProblem() {
+        return f.getProblem();
+      }
+    };
+  }
+
+  /*
+   * An immutable member of the population, which is never modified once inserted.
+   */
+  private static final class Member<U> {
+    private final U candidate;
+    private final double fitness;
+
+    private Member(U candidate, double fitness) {
+      this.candidate = candidate;
+      this.fitness = fitness;
+    }
+  }
+
+  /*
+   * The view of the shared population used by the selection operators, which reads
+   * the population without locking.
+   */
+  private final class FitnessView implements PopulationFitnessVector.Double {
+    @Override
+    public int size() {
+      return MU;
+    }
+
+    @Override
+    public double getFitness(int i) {
+      return pop.get(i).fitness;
+    }
+  }
+
+  /*
+   * The state of a worker thread, each of which has its own splits of the genetic
+   * operators and source of randomness.
+   */
+  private final class Worker {
+    private final MutationOperator<T> mutation;
+    private final CrossoverOperator<T> crossover;
+    private final SelectionOperator selection;
+    private final Initializer<T> initializer;
+    private final EnhancedSplittableGenerator generator;
+    private final int[] parents;
+    private double bestFitness;
+    private SolutionCostPair<T> mostFit;
+
+    private Worker(
+        MutationOperator<T> mutation,
+        CrossoverOperator<T> crossover,
+        SelectionOperator selection,
+        Initializer<T> initializer,
+        EnhancedSplittableGenerator generator) {
+      this.mutation = mutation;
+      this.crossover = crossover;
+      this.selection = selection;
+      this.initializer = initializer;
+      this.generator = generator;
+      parents = new int[2];
+    }
+
+    private Worker(Worker other) {
+      this(
+          other.mutation.split(),
+          other.crossover.split(),
+          other.selection.split(),
+          other.initializer.split(),
+          other.generator.split());
+    }
+
+    private Worker split() {
+      return new Worker(this);
+    }
+
+    /*
+     * Evaluates a share of the initial population, returning the most fit that
+     * this worker evaluated.
+     */
+    private SolutionCostPair<T> initialize() {
+      bestFitness = java.lang.Double.NEGATIVE_INFINITY;
+      mostFit = null;
+      int i;
+      while ((i = nextToInitialize.getAndIncrement()) < MU) {
+        T c = initializer.createCandidateSolution();
+        double fit = f.fitness(c);
+        pop.set(i, new Member<T>(c, fit));
+        if (fit > bestFitness) {
+          updateMostFit(c, fit);
+        }
+      }
+      return mostFit;
+    }
+
+    /*
+     * Performs breed-and-evaluate tasks until none remain, returning the most fit
+     * that this worker evaluated since the population was initialized.
+     */
+    private SolutionCostPair<T> evolve() {
+      while (!evolutionIsPaused() && remainingTasks.getAndDecrement() > 0) {
+        selection.select(fitnesses, parents);
+        // Other workers may replace the selected members, so read each only once.
+        Member<T> p0 = pop.get(parents[0]);
+        Member<T> p1 = pop.get(parents[1]);
+        T first = null;
+        T second = null;
+        if (generator.nextDouble() < C) {
+          first = p0.candidate.copy();
+          second = p1.candidate.copy();
+          crossover.cross(first, second);
+        }
+        mutateEvaluateInsert(first, p0);
+        mutateEvaluateInsert(second, p1);
+      }
+      return mostFit;
+    }
+
+    /*
+     * Mutates an offspring, or a copy of its parent if the offspring is null, with
+     * probability M. If the offspring is the result of either operator, evaluates it
+     * and inserts it into the population.
+     */
+    private void mutateEvaluateInsert(T child, Member<T> parent) {
+      if (M >= 1.0 || generator.nextDouble() < M) {
+        if (child == null) {
+          child = parent.candidate.copy();
+        }
+        mutation.mutate(child);
+      } else if (child == null) {
+        return;
+      }
+      double fit = f.fitness(child);
+      numFitnessEvals.incrementAndGet();
+      if (fit > bestFitness) {
+        updateMostFit(child, fit);
+      }
+      insert(new Member<T>(child, fit), generator.nextInt(stripes.length));
+    }
+
+    private void updateMostFit(T c, double fit) {
+      bestFitness = fit;
+      mostFit = problem.getSolutionCostPair(c.copy());
+      tracker.update(mostFit);
+    }
+  }
+}
@@ -0,0 +1,323 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.cicirello.search.Metaheuristic;
+import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.restarts.RestartSchedule;
+import org.cicirello.util.Copyable;
+
+/**
+ * A job of a {@link BatchSolver}, which is a multistart search of one problem instance whose
+ * restarts are executed by the shared threads of the BatchSolver. The result of a job is the best
+ * solution in the {@link ProgressTracker} of its metaheuristic when the job is done, which is when
+ * its budget of total run length is used, its deadline passes, its metaheuristic finds a solution
+ * known to be optimal, or its ProgressTracker is stopped.
+ *
+ * <p>When a job is done, it releases the instances of its metaheuristic created by split for its
+ * concurrent restarts, but keeps the metaheuristic with which it was submitted, whose
+ * ProgressTracker holds the result.
+ *
+ * @param <T> The type of object being optimized.
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public final class BatchJob<T extends Copyable<T>> implements Future<SolutionCostPair<T>> {
+
+  // All of the following other than done and the final fields are guarded by the
+  // lock of the solver.
+  private final BatchSolver solver;
+  private final Metaheuristic<T> prototype;
+  private final RestartSchedule schedule;
+  private final long budget;
+  private final ArrayList<Metaheuristic<T>> instances;
+  private final ArrayDeque<Metaheuristic<T>> idle;
+  private final CountDownLatch done;
+  private long issued;
+  private int inFlight;
+  private int restarts;
+  private boolean expired;
+  private boolean cancelled;
+  private Throwable failure;
+  private ScheduledFuture<?> timer;
+  private long finishedRunLength;
+
+  /*
+   * package private: jobs are created by the BatchSolver.
+   */
+  BatchJob(BatchSolver solver, Metaheuristic<T> prototype, RestartSchedule schedule, long budget) {
+    this.solver = solver;
+    this.prototype = prototype;
+    this.schedule = schedule;
+    this.budget = budget;
+    instances = new ArrayList<Metaheuristic<T>>();
+    idle = new ArrayDeque<Metaheuristic<T>>();
+    done = new CountDownLatch(1);
+  }
+
+  /**
+   * Cancels the job, stopping its ProgressTracker so that restarts in progress end early, and
+   * starting no further restarts.
+   *
+   * @param mayInterruptIfRunning Ignored, since restarts are stopped through the ProgressTracker
+   *     rather than by interrupting threads.
+   * @return true if the job was cancelled, and false if it was already done
+   */
+  @Override
+  public boolean cancel(boolean mayInterruptIfRunning) {
+    return solver.cancel(this);
+  }
+
+  @Override
+  public boolean isCancelled() {
+    synchronized (solver) {
+      return cancelled;
+    }
+  }
+
+  @Override
+  public boolean isDone() {
+    return done.getCount() == 0;
+  }
+
+  /**
+   * Waits for the job to finish, and gets its result.
+   *
+   * @return the best solution in the ProgressTracker of the job's metaheuristic, and its cost,
+   *     which contains a null solution if no restart found one, such as if the deadline passed
+   *     before the job was started
+   * @throws CancellationException if the job was cancelled
+   * @throws ExecutionException if a restart of the job threw an exception
+   * @throws InterruptedException if interrupted while waiting
+   */
+  @Override
+  public SolutionCostPair<T> get() throws InterruptedException, ExecutionException {
+    done.await();
+    return result();
+  }
+
+  /**
+   * Waits for the job to finish, up to a maximum time, and gets its result.
+   *
+   * @param timeout The maximum time to wait.
+   * @param unit The unit of the timeout.
+   * @return the best solution in the ProgressTracker of the job's metaheuristic, and its cost,
+   *     which contains a null solution if no restart found one, such as if the deadline passed
+   *     before the job was started
+   * @throws CancellationException if the job was cancelled
+   * @throws ExecutionException if a restart of the job threw an exception
+   * @throws InterruptedException if interrupted while waiting
+   * @throws TimeoutException if the timeout elapsed before the job finished
+   */
+  @Override
+  public SolutionCostPair<T> get(long timeout, TimeUnit unit)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    if (!done.await(timeout, unit)) {
+      throw new TimeoutException();
+    }
+    return result();
+  }
+
+  /**
+   * Gets the ProgressTracker of the job's metaheuristic.
+   *
+   * @return the ProgressTracker
+   */
+  public ProgressTracker<T> getProgressTracker() {
+    return prototype.getProgressTracker();
+  }
+
+  /**
+   * Gets the number of restarts of the job that have been started.
+   *
+   * @return the number of restarts
+   */
+  public int getRestarts() {
+    synchronized (solver) {
+      return restarts;
+    }
+  }
+
+  /**
+   * Gets the total run length of the restarts of the job, across all of the threads that executed
+   * them.
+   *
+   * @return the total run length
+   */
+  public long getTotalRunLength() {
+    synchronized (solver) {
+      if (isDone()) {
+        return finishedRunLength;
+      }
+      long total = 0;
+      for (Metaheuristic<T> m : instances) {
+        total += m.getTotalRunLength();
+      }
+      return total;
+    }
+  }
+
+  /**
+   * Checks whether the job's deadline passed before the job was otherwise done.
+   *
+   * @return true if the job's deadline passed before it was otherwise done
+   */
+  public boolean isExpired() {
+    synchronized (solver) {
+      return expired;
+    }
+  }
+
+  /*
+   * The methods below are called by the BatchSolver while holding its lock.
+   */
+
+  boolean hasWork() {
+    ProgressTracker<T> tracker = prototype.getProgressTracker();
+    return !expired
+        && !cancelled
+        && failure == null
+        && issued < budget
+        && !tracker.isStopped()
+        && !tracker.didFindBest();
+  }
+
+  int inFlight() {
+    return inFlight;
+  }
+
+  /*
+   * Creates the next restart, with a run length from the job's schedule, truncated to
+   * what remains of the budget. Each concurrent restart uses its own instance of the
+   * metaheuristic, created by split when no idle instance is available.
+   */
+  Restart nextRestart() {
+    long runLength = Math.min(schedule.nextRunLengthLong(), budget - issued);
+    issued += runLength;
+    inFlight++;
+    restarts++;
+    Metaheuristic<T> search = idle.pollFirst();
+    if (search == null) {
+      search = instances.isEmpty() ? prototype : prototype.split();
+      instances.add(search);
+    }
+    return new Restart(search, runLength);
+  }
+
+  void release(Metaheuristic<T> search, Throwable thrown) {
+    inFlight--;
+    idle.addFirst(search);
+    if (thrown != null && failure == null) {
+      failure = thrown;
+    }
+  }
+
+  /*
+   * A restart of the job, which is either executed, or undone if the executor
+   * rejects it. A rejected restart is the failure of the job.
+   */
+  final class Restart implements Runnable {
+
+    private final Metaheuristic<T> search;
+    private final long runLength;
+
+    private Restart(Metaheuristic<T> search, long runLength) {
+      this.search = search;
+      this.runLength = runLength;
+    }
+
+    @Override
+    public void run() {
+      Throwable thrown = null;
+      try {
+        ProgressTracker<T> tracker = search.getProgressTracker();
+        if (!tracker.isStopped() && !tracker.didFindBest()) {
+          search.optimize(runLength);
+        }
+      } catch (RuntimeException | Error e) {
+        thrown = e;
+      } finally {
+        solver.restartDone(BatchJob.this, search, thrown);
+      }
+    }
+
+    /*
+     * Called by the solver, with its lock held, instead of run.
+     */
+    void rejected(RejectedExecutionException e) {
+      issued -= runLength;
+      restarts--;
+      release(search, e);
+    }
+  }
+
+  void expire() {
+    expired = true;
+    prototype.getProgressTracker().stop();
+  }
+
+  void markCancelled() {
+    cancelled = true;
+    prototype.getProgressTracker().stop();
+  }
+
+  void setTimer(ScheduledFuture<?> timer) {
+    this.timer = timer;
+  }
+
+  void finish() {
+    if (timer != null) {
+      timer.cancel(false);
+      timer = null;
+    }
+    // No restarts are in progress, so the instances can be released, other than the
+    // prototype, which has the result.
+    for (Metaheuristic<T> m : instances) {
+      finishedRunLength += m.getTotalRunLength();
+    }
+    instances.clear();
+    idle.clear();
+    done.countDown();
+  }
+
+  private SolutionCostPair<T> result() throws ExecutionException {
+    synchronized (solver) {
+      if (cancelled) {
+        throw new CancellationException();
+      }
+      if (failure != null) {
+        throw new ExecutionException(failure);
+      }
+    }
+    return prototype.getProgressTracker().getSolutionCostPair();
+  }
+}
@@ -0,0 +1,400 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.cicirello.search.Metaheuristic;
+import org.cicirello.search.restarts.RestartSchedule;
+import org.cicirello.util.Copyable;
+
+/**
+ * A BatchSolver solves many problem instances, such as a stream of small scheduling or bin packing
+ * instances, with one shared pool of threads, rather than with a parallel metaheuristic and thread
+ * pool for each instance. Each instance is submitted as a job (see {@link BatchJob}), which is a
+ * multistart search with a metaheuristic for the instance, a restart schedule, a budget on the
+ * total run length of its restarts, and optionally a deadline. The BatchSolver executes individual
+ * restarts, from all of its jobs, on a work-stealing pool, with at most one restart per thread at a
+ * time. The concurrent restarts of a job each use their own instance of the job's metaheuristic,
+ * which are created via split as needed and reused by later restarts of the job.
+ *
+ * <p>Jobs are admitted in the order submitted, with at most a maximum number of jobs admitted at a
+ * time, and the remainder waiting for an admitted job to finish. Whenever a thread is available,
+ * its next restart is from the admitted job with the fewest restarts in progress, with ties broken
+ * round-robin. So admitted jobs share the threads equally, while a job with nothing left to start
+ * leaves its share of the threads to the others. The throughput of the BatchSolver therefore scales
+ * with the number of threads, regardless of whether the jobs are small or large.
+ *
+ * <p>The jobs are done in an order that depends on their budgets, deadlines, and the run times of
+ * their restarts, and the results may be consumed in the order the jobs are done with {@link #take}
+ * and {@link #poll}. The {@link BatchJob} returned by the submit methods is also a {@link
+ * java.util.concurrent.Future} for the result of the job.
+ *
+ * <p>By default, the BatchSolver keeps each job that is done in a completion queue until it is
+ * removed by take or poll, and each job keeps its metaheuristic, and thus its problem instance,
+ * until then. A caller that instead uses the Futures returned by the submit methods, and never
+ * calls take or poll, must construct the BatchSolver without a completion queue (see {@link
+ * #BatchSolver(ExecutorService, int, int, boolean)}), so that jobs that are done are not retained
+ * by the BatchSolver.
+ *
+ * <p>When a job's deadline passes, no further restarts of the job are started, and the job's {@link
+ * org.cicirello.search.ProgressTracker} is stopped so that restarts already in progress end early.
+ * The deadline of a job includes the time that it waits for admission.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public final class BatchSolver implements AutoCloseable {
+
+  private final SearchExecutor pool;
+  private final ScheduledThreadPoolExecutor timer;
+  private final int numThreads;
+  private final int maxActiveJobs;
+  private final ArrayDeque<BatchJob<?>> waiting;
+  private final ArrayList<BatchJob<?>> active;
+  // null if jobs that are done are not queued
+  private final LinkedBlockingQueue<BatchJob<?>> completed;
+  private int inFlight;
+  private boolean closed;
+
+  /**
+   * Constructs a BatchSolver with a work-stealing pool of threads that it owns, admitting as many
+   * jobs at a time as there are threads.
+   *
+   * @param numThreads The number of threads.
+   * @throws IllegalArgumentException if numThreads is less than 1
+   */
+  public BatchSolver(int numThreads) {
+    this(numThreads, numThreads);
+  }
+
+  /**
+   * Constructs a BatchSolver with a work-stealing pool of threads that it owns.
+   *
+   * @param numThreads The number of threads.
+   * @param maxActiveJobs The maximum number of jobs admitted at a time.
+   * @throws IllegalArgumentException if numThreads or maxActiveJobs is less than 1
+   */
+  public BatchSolver(int numThreads, int maxActiveJobs) {
+    this(null, numThreads, maxActiveJobs);
+  }
+
+  /**
+   * Constructs a BatchSolver that executes its restarts with an executor supplied by the caller.
+   * The BatchSolver does not own the executor, so closing the BatchSolver does not shut down the
+   * executor.
+   *
+   * @param executor The executor, or null for a work-stealing pool owned by the BatchSolver.
+   * @param numThreads The maximum number of restarts that are executed at a time.
+   * @param maxActiveJobs The maximum number of jobs admitted at a time.
+   * @throws IllegalArgumentException if numThreads or maxActiveJobs is less than 1
+   */
+  public BatchSolver(ExecutorService executor, int numThreads, int maxActiveJobs) {
+    this(executor, numThreads, maxActiveJobs, true);
+  }
+
+  /**
+   * Constructs a BatchSolver that executes its restarts with an executor supplied by the caller,
+   * optionally without a completion queue. Without a completion queue, the results of the jobs are
+   * available only through the {@link BatchJob} objects returned by the submit methods, and the
+   * BatchSolver keeps no reference to a job once it is done. The BatchSolver does not own the
+   * executor, so closing the BatchSolver does not shut down the executor.
+   *
+   * @param executor The executor, or null for a work-stealing pool owned by the BatchSolver.
+   * @param numThreads The maximum number of restarts that are executed at a time.
+   * @param maxActiveJobs The maximum number of jobs admitted at a time.
+   * @param queueCompleted If true, jobs that are done are kept until removed by {@link #take} or
+   *     {@link #poll}, and if false, they are not kept, and take and poll are not supported.
+   * @throws IllegalArgumentException if numThreads or maxActiveJobs is less than 1
+   */
+  public BatchSolver(
+      ExecutorService executor, int numThreads, int maxActiveJobs, boolean queueCompleted) {
+    if (numThreads < 1) {
+      throw new IllegalArgumentException("must be at least 1 thread");
+    }
+    if (maxActiveJobs < 1) {
+      throw new IllegalArgumentException("must admit at least 1 job");
+    }
+    this.numThreads = numThreads;
+    this.maxActiveJobs = maxActiveJobs;
+    pool =
+        executor != null
+            ? SearchExecutor.of(executor, numThreads)
+            : SearchExecutor.workStealingPool(numThreads);
+    timer =
+        new ScheduledThreadPoolExecutor(
+            1,
+            r -> {
+              Thread t = new Thread(r, "chips-n-salsa-batch-deadlines");
+              t.setDaemon(true);
+              return t;
+            });
+    timer.setRemoveOnCancelPolicy(true);
+    waiting = new ArrayDeque<BatchJob<?>>();
+    active = new ArrayList<BatchJob<?>>();
+    completed = queueCompleted ? new LinkedBlockingQueue<BatchJob<?>>() : null;
+  }
+
+  /**
+   * Submits a job without a deadline.
+   *
+   * @param search The metaheuristic for the problem instance of the job, which is split as needed
+   *     for concurrent restarts of the job.
+   * @param schedule The restart schedule of the job.
+   * @param budget The total run length of the restarts of the job. The run length of the last
+   *     restart is shortened if necessary to fit within the budget.
+   * @param <T> The type of object being optimized.
+   * @return the job
+   * @throws IllegalArgumentException if budget is less than 1
+   * @throws IllegalStateException if this BatchSolver is closed
+   */
+  public <T extends Copyable<T>> BatchJob<T> submit(
+      Metaheuristic<T> search, RestartSchedule schedule, long budget) {
+    return submit(search, schedule, budget, 0, null);
+  }
+
+  /**
+   * Submits a job with a deadline.
+   *
+   * @param search The metaheuristic for the problem instance of the job, which is split as needed
+   *     for concurrent restarts of the job.
+   * @param schedule The restart schedule of the job.
+   * @param budget The total run length of the restarts of the job. The run length of the last
+   *     restart is shortened if necessary to fit within the budget.
+   * @param deadline The deadline of the job, relative to the time of submission.
+   * @param unit The unit of the deadline.
+   * @param <T> The type of object being optimized.
+   * @return the job
+   * @throws IllegalArgumentException if budget or deadline is less than 1
+   * @throws IllegalStateException if this BatchSolver is closed
+   */
+  public <T extends Copyable<T>> BatchJob<T> submit(
+      Metaheuristic<T> search,
+      RestartSchedule schedule,
+      long budget,
+      long deadline,
+      TimeUnit unit) {
+    Objects.requireNonNull(search);
+    Objects.requireNonNull(schedule);
+    if (budget < 1) {
+      throw new IllegalArgumentException("budget must be positive");
+    }
+    if (unit != null && deadline < 1) {
+      throw new IllegalArgumentException("deadline must be positive");
+    }
+    BatchJob<T> job = new BatchJob<T>(this, search, schedule, budget);
+    synchronized (this) {
+      if (closed) {
+        throw new IllegalStateException("This BatchSolver was previously closed.");
+      }
+      if (unit != null) {
+        job.setTimer(timer.schedule(() -> expire(job), deadline, unit));
+      }
+      waiting.addLast(job);
+      dispatch();
+    }
+    return job;
+  }
+
+  /**
+   * Waits for the next job to be done, and removes it from the jobs that are done. Each job is
+   * returned by exactly one call to take or poll.
+   *
+   * @return the next job to be done
+   * @throws InterruptedException if interrupted while waiting
+   * @throws UnsupportedOperationException if this BatchSolver has no completion queue
+   */
+  public BatchJob<?> take() throws InterruptedException {
+    return completionQueue().take();
+  }
+
+  /**
+   * Waits up to a maximum time for the next job to be done, and removes it from the jobs that are
+   * done. Each job is returned by exactly one call to take or poll.
+   *
+   * @param timeout The maximum time to wait.
+   * @param unit The unit of the timeout.
+   * @return the next job to be done, or null if the timeout elapsed first
+   * @throws InterruptedException if interrupted while waiting
+   * @throws UnsupportedOperationException if this BatchSolver has no completion queue
+   */
+  public BatchJob<?> poll(long timeout, TimeUnit unit) throws InterruptedException {
+    return completionQueue().poll(timeout, unit);
+  }
+
+  /**
+   * Gets the number of jobs that were submitted, but which are not done.
+   *
+   * @return the number of jobs that are not done
+   */
+  public synchronized int getPendingJobs() {
+    return waiting.size() + active.size();
+  }
+
+  /**
+   * Closes the BatchSolver, cancelling all jobs that are not done. If the BatchSolver owns its
+   * executor, the executor is shut down, and otherwise it is left running.
+   *
+   * <p>This method is invoked automatically on objects managed by the try-with-resources statement.
+   */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      for (BatchJob<?> job : new ArrayList<BatchJob<?>>(waiting)) {
+        job.markCancelled();
+        finish(job);
+      }
+      for (BatchJob<?> job : new ArrayList<BatchJob<?>>(active)) {
+        job.markCancelled();
+        finishIfDone(job);
+      }
+    }
+    timer.shutdownNow();
+    pool.close();
+  }
+
+  /**
+   * Checks whether the BatchSolver has been closed.
+   *
+   * @return true if and only if the {@link #close} method has been called previously, or if the
+   *     executor supplied by the caller has been shut down.
+   */
+  public boolean isClosed() {
+    return pool.isClosed();
+  }
+
+  /*
+   * Called by a job's restart when it finishes, whether normally or by throwing an exception.
+   */
+  synchronized <T extends Copyable<T>> void restartDone(
+      BatchJob<T> job, Metaheuristic<T> search, Throwable thrown) {
+    inFlight--;
+    job.release(search, thrown);
+    finishIfDone(job);
+    dispatch();
+  }
+
+  synchronized boolean cancel(BatchJob<?> job) {
+    if (job.isDone()) {
+      return false;
+    }
+    job.markCancelled();
+    if (waiting.contains(job)) {
+      finish(job);
+    } else {
+      finishIfDone(job);
+    }
+    dispatch();
+    return true;
+  }
+
+  private synchronized void expire(BatchJob<?> job) {
+    if (job.isDone()) {
+      return;
+    }
+    job.expire();
+    if (waiting.contains(job)) {
+      finish(job);
+    } else {
+      finishIfDone(job);
+    }
+    dispatch();
+  }
+
+  /*
+   * Admits waiting jobs, and starts restarts while threads are available,
+   * each from the admitted job with the fewest restarts in progress. The job that
+   * starts a restart moves to the end of the admitted jobs, which breaks ties round-robin.
+   * If the executor rejects a restart, such as a supplied executor that was shut down,
+   * the job fails, and a waiting job may be admitted in its place.
+   */
+  private void dispatch() {
+    if (closed) {
+      return;
+    }
+    while (true) {
+      while (active.size() < maxActiveJobs && !waiting.isEmpty()) {
+        BatchJob<?> job = waiting.pollFirst();
+        active.add(job);
+        // For example, a job whose ProgressTracker is already stopped.
+        finishIfDone(job);
+      }
+      if (inFlight >= numThreads) {
+        return;
+      }
+      BatchJob<?> next = null;
+      for (BatchJob<?> job : active) {
+        if ((next == null || job.inFlight() < next.inFlight()) && job.hasWork()) {
+          next = job;
+        }
+      }
+      if (next == null) {
+        return;
+      }
+      active.remove(next);
+      active.add(next);
+      inFlight++;
+      BatchJob<?>.Restart restart = next.nextRestart();
+      try {
+        pool.submit(Executors.callable(restart));
+      } catch (RejectedExecutionException e) {
+        inFlight--;
+        restart.rejected(e);
+        finishIfDone(next);
+      }
+    }
+  }
+
+  private void finishIfDone(BatchJob<?> job) {
+    if (job.inFlight() == 0 && !job.hasWork()) {
+      finish(job);
+    }
+  }
+
+  private void finish(BatchJob<?> job) {
+    if (!job.isDone()) {
+      waiting.remove(job);
+      active.remove(job);
+      job.finish();
+      if (completed != null) {
+        completed.add(job);
+      }
+    }
+  }
+
+  private LinkedBlockingQueue<BatchJob<?>> completionQueue() {
+    if (completed == null) {
+      throw new UnsupportedOperationException("This BatchSolver has no completion queue.");
+    }
+    return completed;
+  }
+}
@@ -36,9 +36,9 @@ import org.cicirello.util.Copyable;
 final class CallableOptimizerFactory<T extends Copyable<T>>
     implements Function<Metaheuristic<T>, Callable<SolutionCostPair<T>>> {
 
-  private final int runLength;
+  private final long runLength;
 
-  CallableOptimizerFactory(int runLength) {
+  CallableOptimizerFactory(long runLength) {
     this.runLength = runLength;
   }
 
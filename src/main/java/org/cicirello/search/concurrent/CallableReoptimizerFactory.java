@@ -37,9 +37,9 @@ import org.cicirello.util.Copyable;
 final class CallableReoptimizerFactory<T extends Copyable<T>>
     implements Function<Metaheuristic<T>, Callable<SolutionCostPair<T>>> {
 
-  private final int runLength;
+  private final long runLength;
 
-  CallableReoptimizerFactory(int runLength) {
+  CallableReoptimizerFactory(long runLength) {
     this.runLength = runLength;
   }
 
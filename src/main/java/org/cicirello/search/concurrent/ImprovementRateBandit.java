@@ -0,0 +1,147 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.concurrent;
+
+import org.cicirello.math.rand.EnhancedSplittableGenerator;
+
+/**
+ * Internal package access class implementing a multiarmed bandit over the arms of a portfolio that
+ * are rewarded by their rate of improvement per second. The number of improvements found by an arm
+ * in t seconds is modeled as Poisson distributed with an unknown rate, and arms are chosen by
+ * Thompson sampling from the Gamma posterior of each arm's rate. With an uninformative prior, the
+ * posterior of an arm with s improvements in t seconds is Gamma with shape 1+s and rate t, and arms
+ * that have not yet been tried are chosen first. An arm whose pulls are all still running has no
+ * posterior yet, so it is not sampled; and if no arm has completed a pull, the arm with the fewest
+ * pulls is chosen. All methods are synchronized, so a single instance is shared by all of the
+ * threads of a portfolio.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+final class ImprovementRateBandit {
+
+  private static final double NANOS_PER_SECOND = 1e9;
+
+  private final long[] pulls;
+  private final long[] completed;
+  private final long[] improvements;
+  private final long[] nanos;
+
+  /**
+   * Constructs the bandit.
+   *
+   * @param numArms The number of arms.
+   */
+  ImprovementRateBandit(int numArms) {
+    pulls = new long[numArms];
+    completed = new long[numArms];
+    improvements = new long[numArms];
+    nanos = new long[numArms];
+  }
+
+  /**
+   * Chooses an arm by Thompson sampling.
+   *
+   * @param generator The source of randomness.
+   * @return the chosen arm
+   */
+  synchronized int select(EnhancedSplittableGenerator generator) {
+    int best = -1;
+    double bestRate = -1;
+    int fewest = 0;
+    for (int i = 0; i < pulls.length; i++) {
+      if (pulls[i] == 0) {
+        // Counted as pulled now, so that other threads try the other untried arms.
+        pulls[i] = 1;
+        return i;
+      }
+      if (pulls[i] < pulls[fewest]) {
+        fewest = i;
+      }
+      if (completed[i] > 0) {
+        double seconds = Math.max(nanos[i], 1) / NANOS_PER_SECOND;
+        double rate = nextGamma(1.0 + improvements[i], generator) / seconds;
+        if (rate > bestRate) {
+          bestRate = rate;
+          best = i;
+        }
+      }
+    }
+    if (best < 0) {
+      best = fewest;
+    }
+    pulls[best]++;
+    return best;
+  }
+
+  /**
+   * Records the outcome of a pull of an arm.
+   *
+   * @param arm The arm.
+   * @param improved Whether the pull found an improvement.
+   * @param elapsedNanos The duration of the pull in nanoseconds.
+   */
+  synchronized void record(int arm, boolean improved, long elapsedNanos) {
+    completed[arm]++;
+    if (improved) {
+      improvements[arm]++;
+    }
+    nanos[arm] += Math.max(elapsedNanos, 0);
+  }
+
+  /**
+   * Gets the number of times each arm has been chosen.
+   *
+   * @return an array with the number of times each arm has been chosen
+   */
+  synchronized long[] pulls() {
+    return pulls.clone();
+  }
+
+  /**
+   * Gets the number of improvements found by each arm.
+   *
+   * @return an array with the number of improvements found by each arm
+   */
+  synchronized long[] improvements() {
+    return improvements.clone();
+  }
+
+  /*
+   * package private for testing. Marsaglia and Tsang's method for a Gamma random
+   * variable with the given shape, which must be at least 1, and rate 1.
+   */
+  static double nextGamma(double shape, EnhancedSplittableGenerator generator) {
+    final double d = shape - 1.0 / 3.0;
+    final double c = 1.0 / Math.sqrt(9.0 * d);
+    while (true) {
+      double x = generator.nextGaussian();
+      double v = 1.0 + c * x;
+      if (v > 0) {
+        v = v * v * v;
+        double u = generator.nextDouble();
+        if (Math.log(u) < 0.5 * x * x + d - d * v + d * Math.log(v)) {
+          return d * v;
+        }
+      }
+    }
+  }
+}
@@ -22,10 +22,10 @@ package org.cicirello.search.concurrent;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.function.Function;
 import org.cicirello.search.Metaheuristic;
@@ -39,6 +39,15 @@ import org.cicirello.util.Copyable;
  * parallel with multiple threads. It specifically requires that all metaheuristics are solving the
  * same problem, but otherwise, they may be the same or different metaheuristics.
  *
+ * <p>By default, a ParallelMetaheuristic owns a fixed thread pool, with one thread for each of the
+ * parallel metaheuristics, which it shuts down when it is closed. Alternatively, it can be
+ * constructed with an {@link ExecutorService} supplied by the caller, such as a pool shared by an
+ * entire application or a virtual thread per task executor, so that the total parallelism of many
+ * concurrent searches is controlled by a single scheduler. A ParallelMetaheuristic does not own a
+ * supplied executor: its {@link #close} method does not shut the executor down, the instances
+ * created by its {@link #split} method share the executor, and the caller remains responsible for
+ * shutting the executor down once all of the searches that use it are done.
+ *
  * @param <T> The type of object being optimized.
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
@@ -47,7 +56,7 @@ public class ParallelMetaheuristic<T extends Copyable<T>>
     implements Metaheuristic<T>, AutoCloseable {
 
   private final ArrayList<Metaheuristic<T>> metaheuristics;
-  private final ExecutorService threadPool;
+  private final SearchExecutor threadPool;
 
   /**
    * Constructs a parallel metaheuristic that executes multiple identical copies of a metaheuristic
@@ -61,6 +70,22 @@ public class ParallelMetaheuristic<T extends Copyable<T>>
     this(createMetaheuristicSet(search, numThreads), false);
   }
 
+  /**
+   * Constructs a parallel metaheuristic that executes multiple identical copies of a metaheuristic
+   * in parallel, using an executor supplied by the caller. The ParallelMetaheuristic does not own
+   * the executor, so closing the ParallelMetaheuristic does not shut down the executor.
+   *
+   * @param search The metaheuristic to run in parallel.
+   * @param numThreads The number of parallel instances of the metaheuristic, each of which is
+   *     submitted to the executor as a separate task.
+   * @param executor The executor that runs the parallel instances.
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   * @throws NullPointerException if executor is null.
+   */
+  public ParallelMetaheuristic(Metaheuristic<T> search, int numThreads, ExecutorService executor) {
+    this(createMetaheuristicSet(search, numThreads), false, Objects.requireNonNull(executor));
+  }
+
   /**
    * Constructs a parallel metaheuristic that executes multiple metaheuristics in parallel across
    * multiple threads.
@@ -78,12 +103,42 @@ public class ParallelMetaheuristic<T extends Copyable<T>>
     this(verifyState(searches), true);
   }
 
+  /**
+   * Constructs a parallel metaheuristic that executes multiple metaheuristics in parallel, using an
+   * executor supplied by the caller. The ParallelMetaheuristic does not own the executor, so
+   * closing the ParallelMetaheuristic does not shut down the executor.
+   *
+   * @param searches A collection of the metaheuristics to run in parallel, each of which is
+   *     submitted to the executor as a separate task.
+   * @param executor The executor that runs the metaheuristics.
+   * @throws IllegalArgumentException if the Collection of Metaheuristics don't all share the same
+   *     problem (i.e., requires that s1.getProblem() == s2.getProblem() for all s1, s2 in
+   *     searches).
+   * @throws IllegalArgumentException if the Collection of Metaheuristics don't all share a single
+   *     ProgressTracker (i.e., requires that s1.getProgressTracker() == s2.getProgressTracker() for
+   *     all s1, s2 in searches).
+   * @throws NullPointerException if executor is null.
+   */
+  public ParallelMetaheuristic(
+      Collection<? extends Metaheuristic<T>> searches, ExecutorService executor) {
+    this(verifyState(searches), true, Objects.requireNonNull(executor));
+  }
+
   /*
    * package private for use by subclasses in same package.
    */
   ParallelMetaheuristic(ArrayList<Metaheuristic<T>> searches, boolean verifyState) {
+    this(searches, verifyState, null);
+  }
+
+  /*
+   * package private for use by subclasses in same package. If executor is null,
+   * the ParallelMetaheuristic owns a fixed thread pool.
+   */
+  ParallelMetaheuristic(
+      ArrayList<Metaheuristic<T>> searches, boolean verifyState, ExecutorService executor) {
     this.metaheuristics = searches;
-    threadPool = Executors.newFixedThreadPool(metaheuristics.size());
+    threadPool = SearchExecutor.of(executor, metaheuristics.size());
   }
 
   /*
@@ -96,8 +151,8 @@ public class ParallelMetaheuristic<T extends Copyable<T>>
       this.metaheuristics.add(m.split());
     }
 
-    // Needs its own thread pool
-    threadPool = Executors.newFixedThreadPool(metaheuristics.size());
+    // Needs its own thread pool, unless the executor was supplied by the caller
+    threadPool = other.threadPool.split(metaheuristics.size());
     if (other.isClosed()) close();
   }
 
@@ -123,28 +178,48 @@ public class ParallelMetaheuristic<T extends Copyable<T>>
     return threadedOptimize(new CallableOptimizerFactory<T>(runLength));
   }
 
+  /**
+   * Executes a parallel metaheuristic search, where the run length may exceed the range of an int.
+   * The run length is passed to the optimize(long) method of each of the parallel instances of the
+   * search. This method is otherwise the same as {@link #optimize(int)}.
+   *
+   * @param runLength The run length for all parallel metaheuristics.
+   * @return The best end of run solution (and its cost) of this set of parallel runs, which may or
+   *     may not be the same as the solution contained in this metaheuristic's {@link
+   *     ProgressTracker}, which contains the best of all runs across all calls to optimize. Returns
+   *     null if the run did not execute, such as if the ProgressTracker already contains the
+   *     theoretical best solution.
+   * @throws IllegalStateException if the {@link #close} method was previously called.
+   */
+  @Override
+  public final SolutionCostPair<T> optimize(long runLength) {
+    return threadedOptimize(new CallableOptimizerFactory<T>(runLength));
+  }
+
   /**
    * Initiates an orderly shutdown of the thread pool used by this ParallelMetaheuristic. The
    * ParallelMetaheuristic utilizes a fixed thread pool so that multiple calls to the {@link
    * #optimize} method can reuse threads to minimize the expensive task of thread creation. When you
    * no longer need the ParallelMetaheuristic, you should call the close method to ensure that
    * unneeded threads do not persist. Once close is called, all subsequent calls to {@link
-   * #optimize} will throw an exception.
+   * #optimize} will throw an exception. If the ParallelMetaheuristic was constructed with an
+   * executor supplied by the caller, then the executor is not shut down.
    *
    * <p>This method is invoked automatically on objects managed by the try-with-resources statement.
    */
   @Override
   public final void close() {
-    threadPool.shutdown();
+    threadPool.close();
   }
 
   /**
    * Checks whether the thread pool has been shutdown.
    *
-   * @return true if and only if the {@link #close} method has been called previously.
+   * @return true if and only if the {@link #close} method has been called previously, or if the
+   *     executor supplied by the caller has been shut down.
    */
   public final boolean isClosed() {
-    return threadPool.isShutdown();
+    return threadPool.isClosed();
   }
 
   @Override
@@ -200,7 +275,7 @@ public class ParallelMetaheuristic<T extends Copyable<T>>
    */
   final SolutionCostPair<T> threadedOptimize(
       Function<Metaheuristic<T>, Callable<SolutionCostPair<T>>> icf) {
-    if (threadPool.isShutdown()) {
+    if (threadPool.isClosed()) {
       throw new IllegalStateException("This ParallelMetaheuristic was previously closed.");
     }
 
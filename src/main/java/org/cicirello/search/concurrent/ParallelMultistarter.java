@@ -23,6 +23,7 @@ package org.cicirello.search.concurrent;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
 import org.cicirello.search.Metaheuristic;
 import org.cicirello.search.ProgressTracker;
 import org.cicirello.search.problems.Problem;
@@ -90,6 +91,46 @@ public final class ParallelMultistarter<T extends Copyable<T>> extends ParallelM
     super(new Multistarter<T>(search, r), numThreads);
   }
 
+  /**
+   * Constructs a parallel multistart metaheuristic that executes multiple runs of a specified
+   * metaheuristic in parallel, using an executor supplied by the caller. All restarts are the same
+   * in length. The ParallelMultistarter does not own the executor, so closing it does not shut down
+   * the executor.
+   *
+   * @param search The metaheuristic to restart multiple times in parallel.
+   * @param runLength The length of every restarted run of the metaheuristic.
+   * @param numThreads The number of parallel instances, each of which is submitted to the executor
+   *     as a separate task.
+   * @param executor The executor that runs the parallel instances.
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   * @throws IllegalArgumentException if nunLength is less than 1.
+   * @throws NullPointerException if executor is null.
+   */
+  public ParallelMultistarter(
+      Metaheuristic<T> search, int runLength, int numThreads, ExecutorService executor) {
+    this(search, new ConstantRestartSchedule(runLength), numThreads, executor);
+  }
+
+  /**
+   * Constructs a parallel multistart metaheuristic that executes multiple runs of a specified
+   * metaheuristic in parallel, using an executor supplied by the caller. All parallel instances
+   * follow the same restart schedule of run lengths. The ParallelMultistarter does not own the
+   * executor, so closing it does not shut down the executor.
+   *
+   * @param search The metaheuristic to restart multiple times in parallel.
+   * @param r The schedule of run lengths. Note that the parallel instances do not share a single
+   *     RestartSchedule. Rather, each will be initialized with its own copy of r.
+   * @param numThreads The number of parallel instances, each of which is submitted to the executor
+   *     as a separate task.
+   * @param executor The executor that runs the parallel instances.
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   * @throws NullPointerException if executor is null.
+   */
+  public ParallelMultistarter(
+      Metaheuristic<T> search, RestartSchedule r, int numThreads, ExecutorService executor) {
+    super(new Multistarter<T>(search, r), numThreads, executor);
+  }
+
   /**
    * Constructs a parallel multistart metaheuristic that executes multiple runs of a specified
    * metaheuristic in parallel across multiple threads. Each parallel instance follows its own
@@ -22,6 +22,7 @@ package org.cicirello.search.concurrent;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
 import org.cicirello.search.Metaheuristic;
 import org.cicirello.search.ProgressTracker;
 import org.cicirello.search.ReoptimizableMetaheuristic;
@@ -52,6 +53,23 @@ public class ParallelReoptimizableMetaheuristic<T extends Copyable<T>>
     super(search, numThreads);
   }
 
+  /**
+   * Constructs a parallel metaheuristic that executes multiple identical copies of a metaheuristic
+   * in parallel, using an executor supplied by the caller. The ParallelReoptimizableMetaheuristic
+   * does not own the executor, so closing it does not shut down the executor.
+   *
+   * @param search The metaheuristic to run in parallel.
+   * @param numThreads The number of parallel instances of the metaheuristic, each of which is
+   *     submitted to the executor as a separate task.
+   * @param executor The executor that runs the parallel instances.
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   * @throws NullPointerException if executor is null.
+   */
+  public ParallelReoptimizableMetaheuristic(
+      ReoptimizableMetaheuristic<T> search, int numThreads, ExecutorService executor) {
+    super(search, numThreads, executor);
+  }
+
   /**
    * Constructs a parallel metaheuristic that executes multiple metaheuristics in parallel across
    * multiple threads.
@@ -70,6 +88,27 @@ public class ParallelReoptimizableMetaheuristic<T extends Copyable<T>>
     super(searches);
   }
 
+  /**
+   * Constructs a parallel metaheuristic that executes multiple metaheuristics in parallel, using an
+   * executor supplied by the caller. The ParallelReoptimizableMetaheuristic does not own the
+   * executor, so closing it does not shut down the executor.
+   *
+   * @param searches A collection of the metaheuristics to run in parallel, each of which is
+   *     submitted to the executor as a separate task.
+   * @param executor The executor that runs the metaheuristics.
+   * @throws IllegalArgumentException if the Collection of Metaheuristics don't all share the same
+   *     problem (i.e., requires that s1.getProblem() == s2.getProblem() for all s1, s2 in
+   *     searches).
+   * @throws IllegalArgumentException if the Collection of Metaheuristics don't all share a single
+   *     ProgressTracker (i.e., requires that s1.getProgressTracker() == s2.getProgressTracker() for
+   *     all s1, s2 in searches).
+   * @throws NullPointerException if executor is null.
+   */
+  public ParallelReoptimizableMetaheuristic(
+      Collection<? extends ReoptimizableMetaheuristic<T>> searches, ExecutorService executor) {
+    super(searches, executor);
+  }
+
   /*
    * package-private copy constructor to support split() method.
    */
@@ -84,6 +123,14 @@ public class ParallelReoptimizableMetaheuristic<T extends Copyable<T>>
     super(searches, verifyState);
   }
 
+  /*
+   * package private for use by subclasses in same package.
+   */
+  ParallelReoptimizableMetaheuristic(
+      ArrayList<Metaheuristic<T>> searches, boolean verifyState, ExecutorService executor) {
+    super(searches, verifyState, executor);
+  }
+
   /**
    * Executes a parallel metaheuristic search. The number of threads, the specific metaheuristic
    * executed by each thread, etc are determined by how the ParallelReoptimizableMetaheuristic was
@@ -106,6 +153,25 @@ public class ParallelReoptimizableMetaheuristic<T extends Copyable<T>>
     return threadedOptimize(new CallableReoptimizerFactory<T>(runLength));
   }
 
+  /**
+   * Executes a parallel metaheuristic search that continues each of the parallel instances of the
+   * search from the best solution found so far, where the run length may exceed the range of an
+   * int. This method is otherwise the same as {@link #reoptimize(int)}.
+   *
+   * @param runLength The run length for all parallel metaheuristics.
+   * @return The best end of run solution (and its cost) of this set of parallel runs, which may or
+   *     may not be the same as the solution contained in this metaheuristic's {@link
+   *     ProgressTracker}, which contains the best of all runs across all calls to optimize. Returns
+   *     null if the run did not execute, such as if the ProgressTracker already contains the
+   *     theoretical best solution.
+   * @throws IllegalStateException if the {@link ParallelMetaheuristic#close} method was previously
+   *     called.
+   */
+  @Override
+  public final SolutionCostPair<T> reoptimize(long runLength) {
+    return threadedOptimize(new CallableReoptimizerFactory<T>(runLength));
+  }
+
   @Override
   public ParallelReoptimizableMetaheuristic<T> split() {
     return new ParallelReoptimizableMetaheuristic<T>(this);
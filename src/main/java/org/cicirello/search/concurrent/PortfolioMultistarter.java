@@ -0,0 +1,435 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cicirello.math.rand.EnhancedSplittableGenerator;
+import org.cicirello.search.Metaheuristic;
+import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.internal.RandomnessFactory;
+import org.cicirello.search.problems.Problem;
+import org.cicirello.search.restarts.ConstantRestartSchedule;
+import org.cicirello.search.restarts.RestartSchedule;
+import org.cicirello.util.Copyable;
+
+/**
+ * This class implements an adaptive portfolio of restarted metaheuristics, which allocates the
+ * restarts executed by its threads among the arms of the portfolio with a multiarmed bandit. Each
+ * arm of the portfolio is a metaheuristic together with a {@link RestartSchedule} for its run
+ * lengths. The arms may be entirely different metaheuristics, such as simulated annealing, hill
+ * climbing, and a genetic algorithm; or the same metaheuristic with different restart schedules or
+ * run lengths; or any combination of these.
+ *
+ * <p>Each time that a thread is ready for its next restart, it chooses an arm with Thompson
+ * sampling, modeling the number of improvements found by each arm as Poisson distributed with an
+ * unknown rate per second. A restart of an arm counts as an improvement if its end of run solution
+ * is better than the best solution that the {@link ProgressTracker} contained when the restart
+ * began, and the time of a restart is the wall clock time that it took. So over the course of the
+ * search, the threads spend more and more of their time on whichever arms are actually finding
+ * improvements most quickly on the instance that is being solved, while still occasionally trying
+ * the others. What is learned carries over from one call to {@link #optimize} to the next, but is
+ * not shared with the instances created by {@link #split}.
+ *
+ * <p>Each thread has its own split of the metaheuristic of each arm, but the threads share the
+ * restart schedule of each arm, which continues where it left off each time that arm is chosen. All
+ * of the arms must share a single {@link ProgressTracker}, and must solve the same problem.
+ *
+ * <p>By default, a PortfolioMultistarter owns a fixed thread pool, which it shuts down when it is
+ * closed. It can alternatively be constructed with an {@link ExecutorService} supplied by the
+ * caller, in which case closing the PortfolioMultistarter does not shut down the executor, and its
+ * splits share the executor.
+ *
+ * @param <T> The type of object being optimized.
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public final class PortfolioMultistarter<T extends Copyable<T>>
+    implements Metaheuristic<T>, AutoCloseable {
+
+  // searches.get(i).get(j) is thread i's instance of arm j
+  private final ArrayList<ArrayList<Metaheuristic<T>>> searches;
+  private final ArrayList<RestartSchedule> schedules;
+  private final ArrayList<EnhancedSplittableGenerator> generators;
+  private final ImprovementRateBandit bandit;
+  private final SearchExecutor threadPool;
+
+  /**
+   * Constructs a portfolio that allocates the restarts of a set of metaheuristics among them with a
+   * multiarmed bandit. Every restart of every metaheuristic has the same run length.
+   *
+   * @param arms The metaheuristics of the portfolio.
+   * @param runLength The length of every restart of every metaheuristic.
+   * @param numThreads The number of threads to use.
+   * @throws IllegalArgumentException if arms is empty.
+   * @throws IllegalArgumentException if runLength is less than 1.
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   * @throws IllegalArgumentException if the metaheuristics don't all share the same problem.
+   * @throws IllegalArgumentException if the metaheuristics don't all share a single
+   *     ProgressTracker.
+   */
+  public PortfolioMultistarter(
+      Collection<? extends Metaheuristic<T>> arms, int runLength, int numThreads) {
+    this(
+        arms,
+        ConstantRestartSchedule.createRestartSchedules(arms.size(), runLength),
+        numThreads,
+        null);
+  }
+
+  /**
+   * Constructs a portfolio of restart schedules for a single metaheuristic, which allocates the
+   * restarts among the schedules with a multiarmed bandit. For example, each schedule may be a
+   * different constant run length.
+   *
+   * @param search The metaheuristic to restart.
+   * @param schedules The restart schedules of the portfolio.
+   * @param numThreads The number of threads to use.
+   * @throws IllegalArgumentException if schedules is empty.
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   */
+  public PortfolioMultistarter(
+      Metaheuristic<T> search, Collection<? extends RestartSchedule> schedules, int numThreads) {
+    this(splitSearch(search, schedules.size()), schedules, numThreads, null);
+  }
+
+  /**
+   * Constructs a portfolio that allocates the restarts of a set of metaheuristics among them with a
+   * multiarmed bandit. Each metaheuristic has its own restart schedule.
+   *
+   * @param arms The metaheuristics of the portfolio.
+   * @param schedules The restart schedules, one for each of the metaheuristics.
+   * @param numThreads The number of threads to use.
+   * @throws IllegalArgumentException if arms is empty.
+   * @throws IllegalArgumentException if arms.size() is not equal to schedules.size().
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   * @throws IllegalArgumentException if the metaheuristics don't all share the same problem.
+   * @throws IllegalArgumentException if the metaheuristics don't all share a single
+   *     ProgressTracker.
+   */
+  public PortfolioMultistarter(
+      Collection<? extends Metaheuristic<T>> arms,
+      Collection<? extends RestartSchedule> schedules,
+      int numThreads) {
+    this(arms, schedules, numThreads, null);
+  }
+
+  /**
+   * Constructs a portfolio that allocates the restarts of a set of metaheuristics among them with a
+   * multiarmed bandit, using an executor supplied by the caller. Each metaheuristic has its own
+   * restart schedule. The PortfolioMultistarter does not own the executor, so closing it does not
+   * shut down the executor.
+   *
+   * @param arms The metaheuristics of the portfolio.
+   * @param schedules The restart schedules, one for each of the metaheuristics.
+   * @param numThreads The number of parallel workers, each of which is submitted to the executor as
+   *     a separate task.
+   * @param executor The executor that runs the parallel workers, or null for a fixed thread pool
+   *     owned by the PortfolioMultistarter.
+   * @throws IllegalArgumentException if arms is empty.
+   * @throws IllegalArgumentException if arms.size() is not equal to schedules.size().
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   * @throws IllegalArgumentException if the metaheuristics don't all share the same problem.
+   * @throws IllegalArgumentException if the metaheuristics don't all share a single
+   *     ProgressTracker.
+   */
+  public PortfolioMultistarter(
+      Collection<? extends Metaheuristic<T>> arms,
+      Collection<? extends RestartSchedule> schedules,
+      int numThreads,
+      ExecutorService executor) {
+    if (arms.size() < 1) {
+      throw new IllegalArgumentException("Must pass at least one metaheuristic.");
+    }
+    if (arms.size() != schedules.size()) {
+      throw new IllegalArgumentException("Number of searches and schedules must be the same.");
+    }
+    if (numThreads < 1) {
+      throw new IllegalArgumentException("must be at least 1 thread");
+    }
+    ArrayList<Metaheuristic<T>> first = verifyState(arms);
+    searches = new ArrayList<ArrayList<Metaheuristic<T>>>(numThreads);
+    searches.add(first);
+    for (int i = 1; i < numThreads; i++) {
+      searches.add(splitAll(first));
+    }
+    this.schedules = new ArrayList<RestartSchedule>(schedules);
+    EnhancedSplittableGenerator generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    generators = new ArrayList<EnhancedSplittableGenerator>(numThreads);
+    for (int i = 0; i < numThreads; i++) {
+      generators.add(generator.split());
+    }
+    bandit = new ImprovementRateBandit(first.size());
+    threadPool = SearchExecutor.of(executor, numThreads);
+  }
+
+  /*
+   * private copy constructor to support split() method.
+   */
+  private PortfolioMultistarter(PortfolioMultistarter<T> other) {
+    searches = new ArrayList<ArrayList<Metaheuristic<T>>>(other.searches.size());
+    for (ArrayList<Metaheuristic<T>> arms : other.searches) {
+      searches.add(splitAll(arms));
+    }
+    schedules = new ArrayList<RestartSchedule>(other.schedules.size());
+    for (RestartSchedule r : other.schedules) {
+      schedules.add(r.split());
+    }
+    generators = new ArrayList<EnhancedSplittableGenerator>(other.generators.size());
+    for (EnhancedSplittableGenerator g : other.generators) {
+      generators.add(g.split());
+    }
+    bandit = new ImprovementRateBandit(schedules.size());
+    threadPool = other.threadPool.split(searches.size());
+    if (other.isClosed()) close();
+  }
+
+  /**
+   * Executes the portfolio, with the specified total number of restarts across all threads and all
+   * arms. The bandit allocates the restarts among the arms as the threads become ready for them.
+   * The search stops early if the {@link ProgressTracker} is stopped, or if the theoretical best
+   * solution is found.
+   *
+   * @param numRestarts The total number of restarts across all threads and all arms.
+   * @return The best end of run solution (and its cost) of this set of restarts, which may or may
+   *     not be the same as the solution contained in this metaheuristic's {@link ProgressTracker},
+   *     which contains the best of all runs. Returns null if the run did not execute, such as if
+   *     the ProgressTracker already contains the theoretical best solution.
+   * @throws IllegalStateException if the {@link #close} method was previously called.
+   */
+  @Override
+  public SolutionCostPair<T> optimize(int numRestarts) {
+    if (threadPool.isClosed()) {
+      throw new IllegalStateException("This PortfolioMultistarter was previously closed.");
+    }
+    SolutionCostPair<T> bestParallelRun = null;
+    ProgressTracker<T> tracker = getProgressTracker();
+    if (!tracker.isStopped() && !tracker.didFindBest()) {
+      AtomicInteger remaining = new AtomicInteger(numRestarts);
+      ArrayList<Future<SolutionCostPair<T>>> futures =
+          new ArrayList<Future<SolutionCostPair<T>>>(searches.size());
+      for (int i = 0; i < searches.size(); i++) {
+        futures.add(threadPool.submit(new Worker(i, remaining)));
+      }
+      for (Future<SolutionCostPair<T>> f : futures) {
+        try {
+          SolutionCostPair<T> pair = f.get();
+          if (bestParallelRun == null || (pair != null && pair.compareTo(bestParallelRun) < 0)) {
+            bestParallelRun = pair;
+          }
+        } catch (InterruptedException ex) {
+          // Future.get() throws this if the current
+          // thread is interrupted.
+          //  1) Cancel this task.
+          //  2) Preserve interrupt status to cancel remaining.
+          f.cancel(true);
+          Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+          // Future.get() throws this if the worker throws any exception. We'll
+          // ignore this, collecting the results of the other workers.
+        }
+      }
+    }
+    return bestParallelRun;
+  }
+
+  /**
+   * Gets the number of restarts that the bandit has allocated to each of the arms of the portfolio,
+   * across all threads and all calls to {@link #optimize}.
+   *
+   * @return an array with the number of restarts of each arm, in the order of the arms passed to
+   *     the constructor
+   */
+  public long[] getRestartCounts() {
+    return bandit.pulls();
+  }
+
+  /**
+   * Gets the number of restarts of each of the arms of the portfolio that found an improvement,
+   * across all threads and all calls to {@link #optimize}.
+   *
+   * @return an array with the number of improvements found by each arm, in the order of the arms
+   *     passed to the constructor
+   */
+  public long[] getImprovementCounts() {
+    return bandit.improvements();
+  }
+
+  /**
+   * Initiates an orderly shutdown of the thread pool used by this PortfolioMultistarter. When you
+   * no longer need the PortfolioMultistarter, you should call the close method to ensure that
+   * unneeded threads do not persist. Once close is called, all subsequent calls to {@link
+   * #optimize} will throw an exception. If the PortfolioMultistarter was constructed with an
+   * executor supplied by the caller, then the executor is not shut down.
+   *
+   * <p>This method is invoked automatically on objects managed by the try-with-resources statement.
+   */
+  @Override
+  public void close() {
+    threadPool.close();
+  }
+
+  /**
+   * Checks whether the thread pool has been shutdown.
+   *
+   * @return true if and only if the {@link #close} method has been called previously, or if the
+   *     executor supplied by the caller has been shut down.
+   */
+  public boolean isClosed() {
+    return threadPool.isClosed();
+  }
+
+  @Override
+  public PortfolioMultistarter<T> split() {
+    return new PortfolioMultistarter<T>(this);
+  }
+
+  @Override
+  public ProgressTracker<T> getProgressTracker() {
+    return searches.get(0).get(0).getProgressTracker();
+  }
+
+  @Override
+  public void setProgressTracker(ProgressTracker<T> tracker) {
+    if (tracker != null) {
+      for (ArrayList<Metaheuristic<T>> arms : searches) {
+        for (Metaheuristic<T> m : arms) {
+          m.setProgressTracker(tracker);
+        }
+      }
+    }
+  }
+
+  @Override
+  public Problem<T> getProblem() {
+    return searches.get(0).get(0).getProblem();
+  }
+
+  /**
+   * Gets the total run length of all restarts of all arms across all threads combined. This may
+   * differ from what may be expected based on the restart schedules. For example, the optimize
+   * method terminates if it finds the theoretical best solution, and also immediately returns if a
+   * prior call found the theoretical best. In such cases, the total run length may be less than the
+   * requested run length.
+   *
+   * <p>The meaning of run length may vary based on the underlying metaheuristics.
+   *
+   * @return the total run length of all restarts, which includes across multiple calls and across
+   *     all threads.
+   */
+  @Override
+  public long getTotalRunLength() {
+    long total = 0;
+    for (ArrayList<Metaheuristic<T>> arms : searches) {
+      for (Metaheuristic<T> m : arms) {
+        total = total + m.getTotalRunLength();
+      }
+    }
+    return total;
+  }
+
+  private static <T2 extends Copyable<T2>> ArrayList<Metaheuristic<T2>> splitSearch(
+      Metaheuristic<T2> search, int n) {
+    ArrayList<Metaheuristic<T2>> arms = new ArrayList<Metaheuristic<T2>>(n);
+    if (n > 0) {
+      arms.add(search);
+      for (int i = 1; i < n; i++) {
+        arms.add(search.split());
+      }
+    }
+    return arms;
+  }
+
+  private static <T2 extends Copyable<T2>> ArrayList<Metaheuristic<T2>> splitAll(
+      ArrayList<Metaheuristic<T2>> arms) {
+    ArrayList<Metaheuristic<T2>> copies = new ArrayList<Metaheuristic<T2>>(arms.size());
+    for (Metaheuristic<T2> m : arms) {
+      copies.add(m.split());
+    }
+    return copies;
+  }
+
+  private static <T2 extends Copyable<T2>> ArrayList<Metaheuristic<T2>> verifyState(
+      Collection<? extends Metaheuristic<T2>> searches) {
+    ProgressTracker<T2> t = null;
+    Problem<T2> problem = null;
+    for (Metaheuristic<T2> m : searches) {
+      if (problem == null) {
+        problem = m.getProblem();
+      } else if (m.getProblem() != problem) {
+        throw new IllegalArgumentException(
+            "All metaheuristics in searches must solve the same problem.");
+      }
+      if (t == null) {
+        t = m.getProgressTracker();
+      } else if (m.getProgressTracker() != t) {
+        throw new IllegalArgumentException(
+            "All metaheuristics must share a single ProgressTracker.");
+      }
+    }
+    return new ArrayList<Metaheuristic<T2>>(searches);
+  }
+
+  /*
+   * Repeatedly asks the bandit for an arm, and executes one restart of its own
+   * instance of that arm, until the shared budget of restarts is used up.
+   */
+  private final class Worker implements Callable<SolutionCostPair<T>> {
+
+    private final int id;
+    private final AtomicInteger remaining;
+
+    Worker(int id, AtomicInteger remaining) {
+      this.id = id;
+      this.remaining = remaining;
+    }
+
+    @Override
+    public SolutionCostPair<T> call() {
+      ArrayList<Metaheuristic<T>> arms = searches.get(id);
+      EnhancedSplittableGenerator generator = generators.get(id);
+      ProgressTracker<T> tracker = arms.get(0).getProgressTracker();
+      SolutionCostPair<T> bestRestart = null;
+      while (!tracker.isStopped() && !tracker.didFindBest() && remaining.getAndDecrement() > 0) {
+        int arm = bandit.select(generator);
+        RestartSchedule r = schedules.get(arm);
+        long runLength;
+        synchronized (r) {
+          runLength = r.nextRunLengthLong();
+        }
+        double before = tracker.getCostDouble();
+        long start = System.nanoTime();
+        SolutionCostPair<T> thisRestart = arms.get(arm).optimize(runLength);
+        long elapsed = System.nanoTime() - start;
+        bandit.record(arm, thisRestart != null && thisRestart.getCostDouble() < before, elapsed);
+        if (bestRestart == null || (thisRestart != null && thisRestart.compareTo(bestRestart) < 0))
+          bestRestart = thisRestart;
+      }
+      return bestRestart;
+    }
+  }
+}
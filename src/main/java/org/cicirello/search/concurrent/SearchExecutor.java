@@ -0,0 +1,124 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.concurrent;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Internal package access class that manages the ExecutorService of a parallel search, according to
+ * the following ownership rules. A parallel search either owns its executor, which is a fixed
+ * thread pool that it creates with one thread per parallel instance (or a work-stealing pool in the
+ * case of a {@link BatchSolver}), or it uses an executor that was supplied by the caller, such as a
+ * process-wide pool or a virtual thread per task executor. Closing a search that owns its executor
+ * shuts the executor down, and a split of such a search creates its own fixed thread pool. Closing
+ * a search that uses a supplied executor only closes the search, leaving the executor running for
+ * its other users, and a split of such a search shares the supplied executor. The caller remains
+ * responsible for shutting down a supplied executor.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+final class SearchExecutor {
+
+  private final ExecutorService executor;
+  private final boolean owned;
+  private volatile boolean closed;
+
+  private SearchExecutor(ExecutorService executor, boolean owned) {
+    this.executor = executor;
+    this.owned = owned;
+  }
+
+  /**
+   * Creates a SearchExecutor that owns a fixed thread pool.
+   *
+   * @param numThreads The number of threads.
+   * @return a SearchExecutor that owns its executor
+   */
+  static SearchExecutor fixedThreadPool(int numThreads) {
+    return new SearchExecutor(Executors.newFixedThreadPool(numThreads), true);
+  }
+
+  /**
+   * Creates a SearchExecutor that owns a work-stealing pool.
+   *
+   * @param numThreads The target parallelism of the pool.
+   * @return a SearchExecutor that owns its executor
+   */
+  static SearchExecutor workStealingPool(int numThreads) {
+    return new SearchExecutor(Executors.newWorkStealingPool(numThreads), true);
+  }
+
+  /**
+   * Creates a SearchExecutor for an executor supplied by the caller, which it does not own.
+   *
+   * @param executor The supplied executor, or null for a fixed thread pool that it owns.
+   * @param numThreads The number of threads of the fixed thread pool if executor is null.
+   * @return a SearchExecutor
+   */
+  static SearchExecutor of(ExecutorService executor, int numThreads) {
+    return executor != null ? new SearchExecutor(executor, false) : fixedThreadPool(numThreads);
+  }
+
+  /**
+   * Creates a SearchExecutor for a split of the search that uses this one.
+   *
+   * @param numThreads The number of threads of the fixed thread pool, if this one owns its
+   *     executor.
+   * @return a SearchExecutor with a new fixed thread pool if this one owns its executor, and
+   *     otherwise one that shares the supplied executor
+   */
+  SearchExecutor split(int numThreads) {
+    return owned ? fixedThreadPool(numThreads) : new SearchExecutor(executor, false);
+  }
+
+  /**
+   * Submits a task to the executor.
+   *
+   * @param task The task.
+   * @param <V> The type of the result of the task.
+   * @return a Future for the result of the task
+   */
+  <V> Future<V> submit(Callable<V> task) {
+    return executor.submit(Objects.requireNonNull(task));
+  }
+
+  /** Closes the search, which shuts down the executor only if it is owned. */
+  void close() {
+    closed = true;
+    if (owned) {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Checks whether the search was closed, or whether its executor was shut down.
+   *
+   * @return true if the search was closed or its executor was shut down
+   */
+  boolean isClosed() {
+    return closed || executor.isShutdown();
+  }
+}
@@ -23,9 +23,9 @@ package org.cicirello.search.concurrent;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.function.Function;
 import org.cicirello.search.Metaheuristic;
@@ -66,6 +66,16 @@ import org.cicirello.util.Copyable;
  * your restart schedule, along with the number of threads, or a Collection of {@link Multistarter}
  * objects.
  *
+ * <p>By default, a TimedParallelMultistarter owns a fixed thread pool, with one thread for each of
+ * the parallel multistarters, which it shuts down when it is closed. Alternatively, it can be
+ * constructed with an {@link ExecutorService} supplied by the caller, such as a pool shared by an
+ * entire application or a virtual thread per task executor. A TimedParallelMultistarter does not
+ * own a supplied executor: its {@link #close} method does not shut the executor down, the instances
+ * created by its {@link #split} method share the executor, and the caller remains responsible for
+ * shutting the executor down. Since the time limit begins when the tasks are submitted, if the
+ * supplied executor has fewer threads available than the number of parallel multistarters, then
+ * some of them may not start before the time limit expires.
+ *
  * @param <T> The type of object being optimized.
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
@@ -82,7 +92,7 @@ public class TimedParallelMultistarter<T extends Copyable<T>>
   public static final int TIME_UNIT_MS = 1000;
 
   private final ArrayList<Multistarter<T>> multistarters;
-  private final ExecutorService threadPool;
+  private final SearchExecutor threadPool;
   private int timeUnit;
   private ArrayList<SolutionCostPair<T>> history;
 
@@ -118,6 +128,46 @@ public class TimedParallelMultistarter<T extends Copyable<T>>
     this(toMultistarters(new Multistarter<T>(search, r), numThreads), false);
   }
 
+  /**
+   * Constructs a parallel multistart metaheuristic that executes multiple runs of a specified
+   * metaheuristic in parallel, using an executor supplied by the caller. All restarts are the same
+   * in length. The TimedParallelMultistarter does not own the executor, so closing it does not shut
+   * down the executor.
+   *
+   * @param search The metaheuristic to restart multiple times in parallel.
+   * @param runLength The length of every restarted run of the metaheuristic.
+   * @param numThreads The number of parallel instances, each of which is submitted to the executor
+   *     as a separate task.
+   * @param executor The executor that runs the parallel instances.
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   * @throws IllegalArgumentException if nunLength is less than 1.
+   * @throws NullPointerException if executor is null.
+   */
+  public TimedParallelMultistarter(
+      Metaheuristic<T> search, int runLength, int numThreads, ExecutorService executor) {
+    this(search, new ConstantRestartSchedule(runLength), numThreads, executor);
+  }
+
+  /**
+   * Constructs a parallel multistart metaheuristic that executes multiple runs of a specified
+   * metaheuristic in parallel, using an executor supplied by the caller. All parallel instances
+   * follow the same restart schedule of run lengths. The TimedParallelMultistarter does not own the
+   * executor, so closing it does not shut down the executor.
+   *
+   * @param search The metaheuristic to restart multiple times in parallel.
+   * @param r The schedule of run lengths. Note that the parallel instances do not share a single
+   *     RestartSchedule. Rather, each will be initialized with its own copy of r.
+   * @param numThreads The number of parallel instances, each of which is submitted to the executor
+   *     as a separate task.
+   * @param executor The executor that runs the parallel instances.
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   * @throws NullPointerException if executor is null.
+   */
+  public TimedParallelMultistarter(
+      Metaheuristic<T> search, RestartSchedule r, int numThreads, ExecutorService executor) {
+    this(new Multistarter<T>(search, r), numThreads, executor);
+  }
+
   /**
    * Constructs a parallel multistart metaheuristic that executes multiple runs of a specified
    * metaheuristic in parallel across multiple threads. Each parallel instance follows its own
@@ -192,6 +242,25 @@ public class TimedParallelMultistarter<T extends Copyable<T>>
     this(toMultistarters(multistartSearch, numThreads), false);
   }
 
+  /**
+   * Constructs a parallel multistart metaheuristic that executes multiple runs of a specified
+   * metaheuristic in parallel, using an executor supplied by the caller. All parallel instances
+   * follow the same restart schedule of run lengths. The TimedParallelMultistarter does not own the
+   * executor, so closing it does not shut down the executor.
+   *
+   * @param multistartSearch A Multistarter configured with the metaheuristic and restart schedule.
+   *     Each of the parallel instances will be an identical copy of this Multistarter.
+   * @param numThreads The number of parallel instances, each of which is submitted to the executor
+   *     as a separate task.
+   * @param executor The executor that runs the parallel instances.
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   * @throws NullPointerException if executor is null.
+   */
+  public TimedParallelMultistarter(
+      Multistarter<T> multistartSearch, int numThreads, ExecutorService executor) {
+    this(toMultistarters(multistartSearch, numThreads), false, Objects.requireNonNull(executor));
+  }
+
   /**
    * Constructs a parallel multistart metaheuristic that executes multiple runs of a set of
    * specified metaheuristics in parallel across multiple threads. Each of the Multistarters will
@@ -211,12 +280,43 @@ public class TimedParallelMultistarter<T extends Copyable<T>>
     this(verifyMultistarterCollection(multistarters), true);
   }
 
+  /**
+   * Constructs a parallel multistart metaheuristic that executes multiple runs of a set of
+   * specified metaheuristics in parallel, using an executor supplied by the caller. Each of the
+   * Multistarters is submitted to the executor as a separate task. The TimedParallelMultistarter
+   * does not own the executor, so closing it does not shut down the executor.
+   *
+   * @param multistarters A collection of Multistarters configured with the metaheuristics and
+   *     restart schedules for the parallel instances.
+   * @param executor The executor that runs the Multistarters.
+   * @throws IllegalArgumentException if the Collection of Multistarters don't all share the same
+   *     problem (i.e., requires that s1.getProblem() == s2.getProblem() for all s1, s2 in
+   *     multistarters).
+   * @throws IllegalArgumentException if the Collection of Multistarters don't all share a single
+   *     ProgressTracker (i.e., requires that s1.getProgressTracker() == s2.getProgressTracker() for
+   *     all s1, s2 in multistarters).
+   * @throws NullPointerException if executor is null.
+   */
+  public TimedParallelMultistarter(
+      Collection<? extends Multistarter<T>> multistarters, ExecutorService executor) {
+    this(verifyMultistarterCollection(multistarters), true, Objects.requireNonNull(executor));
+  }
+
   /*
    * package private for use by subclasses in same package.
    */
   TimedParallelMultistarter(ArrayList<Multistarter<T>> multistarters, boolean verifyState) {
+    this(multistarters, verifyState, null);
+  }
+
+  /*
+   * package private for use by subclasses in same package. If executor is null,
+   * the TimedParallelMultistarter owns a fixed thread pool.
+   */
+  TimedParallelMultistarter(
+      ArrayList<Multistarter<T>> multistarters, boolean verifyState, ExecutorService executor) {
     this.multistarters = multistarters;
-    threadPool = Executors.newFixedThreadPool(multistarters.size());
+    threadPool = SearchExecutor.of(executor, multistarters.size());
     timeUnit = TIME_UNIT_MS;
     history = null;
   }
@@ -231,8 +331,8 @@ public class TimedParallelMultistarter<T extends Copyable<T>>
       this.multistarters.add(m.split());
     }
 
-    // Needs its own thread pool
-    threadPool = Executors.newFixedThreadPool(multistarters.size());
+    // Needs its own thread pool, unless the executor was supplied by the caller
+    threadPool = other.threadPool.split(multistarters.size());
     if (other.isClosed()) close();
 
     // safe to copy
@@ -281,6 +381,10 @@ public class TimedParallelMultistarter<T extends Copyable<T>>
    * parameter. The length will be less than the time parameter in the event that the search
    * terminates early due to finding the optimal solution.
    *
+   * <p>For a finer grained anytime profile, with the elapsed time in nanoseconds and the best cost
+   * at every improvement rather than once per time unit, attach an {@link
+   * org.cicirello.search.AnytimeTrace} to the ProgressTracker.
+   *
    * @return A list of the best found solution, as stored in the ProgressTracker, at each time
    *     interval during the most recent call to the {@link #optimize} method, or null if {@link
    *     #optimize} has not been called.
@@ -326,22 +430,24 @@ public class TimedParallelMultistarter<T extends Copyable<T>>
    * #optimize} method can reuse threads to minimize the expensive task of thread creation. When you
    * no longer need the TimedParallelMultistarter, you should call the close method to ensure that
    * unneeded threads do not persist. Once close is called, all subsequent calls to {@link
-   * #optimize} will throw an exception.
+   * #optimize} will throw an exception. If the TimedParallelMultistarter was constructed with an
+   * executor supplied by the caller, then the executor is not shut down.
    *
    * <p>This method is invoked automatically on objects managed by the try-with-resources statement.
    */
   @Override
   public final void close() {
-    threadPool.shutdown();
+    threadPool.close();
   }
 
   /**
    * Checks whether the thread pool has been shutdown.
    *
-   * @return true if and only if the {@link #close} method has been called previously.
+   * @return true if and only if the {@link #close} method has been called previously, or if the
+   *     executor supplied by the caller has been shut down.
    */
   public final boolean isClosed() {
-    return threadPool.isShutdown();
+    return threadPool.isClosed();
   }
 
   @Override
@@ -397,7 +503,7 @@ public class TimedParallelMultistarter<T extends Copyable<T>>
    */
   final SolutionCostPair<T> threadedOptimize(
       int time, Function<Metaheuristic<T>, Callable<SolutionCostPair<T>>> icf) {
-    if (threadPool.isShutdown()) {
+    if (threadPool.isClosed()) {
       throw new IllegalStateException("Previously closed.");
     }
 
@@ -23,6 +23,7 @@ package org.cicirello.search.concurrent;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
 import org.cicirello.search.ProgressTracker;
 import org.cicirello.search.ReoptimizableMetaheuristic;
 import org.cicirello.search.SolutionCostPair;
@@ -101,6 +102,52 @@ public final class TimedParallelReoptimizableMultistarter<T extends Copyable<T>>
     this(new ReoptimizableMultistarter<T>(search, r), numThreads);
   }
 
+  /**
+   * Constructs a parallel multistart metaheuristic that executes multiple runs of a specified
+   * metaheuristic in parallel, using an executor supplied by the caller. All restarts are the same
+   * in length. The TimedParallelReoptimizableMultistarter does not own the executor, so closing it
+   * does not shut down the executor.
+   *
+   * @param search The metaheuristic to restart multiple times in parallel.
+   * @param runLength The length of every restarted run of the metaheuristic.
+   * @param numThreads The number of parallel instances, each of which is submitted to the executor
+   *     as a separate task.
+   * @param executor The executor that runs the parallel instances.
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   * @throws IllegalArgumentException if nunLength is less than 1.
+   * @throws NullPointerException if executor is null.
+   */
+  public TimedParallelReoptimizableMultistarter(
+      ReoptimizableMetaheuristic<T> search,
+      int runLength,
+      int numThreads,
+      ExecutorService executor) {
+    this(search, new ConstantRestartSchedule(runLength), numThreads, executor);
+  }
+
+  /**
+   * Constructs a parallel multistart metaheuristic that executes multiple runs of a specified
+   * metaheuristic in parallel, using an executor supplied by the caller. All parallel instances
+   * follow the same restart schedule of run lengths. The TimedParallelReoptimizableMultistarter
+   * does not own the executor, so closing it does not shut down the executor.
+   *
+   * @param search The metaheuristic to restart multiple times in parallel.
+   * @param r The schedule of run lengths. Note that the parallel instances do not share a single
+   *     RestartSchedule. Rather, each will be initialized with its own copy of r.
+   * @param numThreads The number of parallel instances, each of which is submitted to the executor
+   *     as a separate task.
+   * @param executor The executor that runs the parallel instances.
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   * @throws NullPointerException if executor is null.
+   */
+  public TimedParallelReoptimizableMultistarter(
+      ReoptimizableMetaheuristic<T> search,
+      RestartSchedule r,
+      int numThreads,
+      ExecutorService executor) {
+    this(new ReoptimizableMultistarter<T>(search, r), numThreads, executor);
+  }
+
   /**
    * Constructs a parallel multistart metaheuristic that executes multiple runs of a specified
    * metaheuristic in parallel across multiple threads. Each parallel instance follows its own
@@ -175,6 +222,26 @@ public final class TimedParallelReoptimizableMultistarter<T extends Copyable<T>>
     super(multistartSearch, numThreads);
   }
 
+  /**
+   * Constructs a parallel multistart metaheuristic that executes multiple runs of a specified
+   * metaheuristic in parallel, using an executor supplied by the caller. All parallel instances
+   * follow the same restart schedule of run lengths. The TimedParallelReoptimizableMultistarter
+   * does not own the executor, so closing it does not shut down the executor.
+   *
+   * @param multistartSearch A ReoptimizableMultistarter configured with the metaheuristic and
+   *     restart schedule. Each of the parallel instances will be an identical copy of this
+   *     ReoptimizableMultistarter.
+   * @param numThreads The number of parallel instances, each of which is submitted to the executor
+   *     as a separate task.
+   * @param executor The executor that runs the parallel instances.
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   * @throws NullPointerException if executor is null.
+   */
+  public TimedParallelReoptimizableMultistarter(
+      ReoptimizableMultistarter<T> multistartSearch, int numThreads, ExecutorService executor) {
+    super(multistartSearch, numThreads, executor);
+  }
+
   /**
    * Constructs a parallel multistart metaheuristic that executes multiple runs of a set of
    * specified metaheuristics in parallel across multiple threads. Each of the Multistarters will
@@ -0,0 +1,352 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.cicirello.search.Metaheuristic;
+import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.problems.Problem;
+import org.cicirello.search.restarts.ConstantRestartSchedule;
+import org.cicirello.search.restarts.RestartSchedule;
+import org.cicirello.util.Copyable;
+
+/**
+ * This class implements a parallel multistart metaheuristic that balances the restarts across its
+ * threads with work stealing. Like a {@link ParallelMultistarter}, it has one {@link
+ * RestartSchedule} for each thread, and each call to {@link #optimize optimize(numRestarts)}
+ * executes numRestarts restarts per schedule, for a total of numRestarts times the number of
+ * threads restarts. However, rather than each thread executing all of the restarts of its own
+ * schedule, the run lengths of each schedule's restarts are placed in a deque belonging to one of
+ * the threads. Each thread executes the restarts at the front of its own deque, and a thread whose
+ * deque is empty steals a restart from the back of the deque of another thread. So when a thread
+ * draws one or more very long runs, such as from a {@link
+ * org.cicirello.search.restarts.LubyRestarts} or {@link
+ * org.cicirello.search.restarts.VariableAnnealingLength} schedule, the other threads take over its
+ * remaining restarts rather than sitting idle until it finishes.
+ *
+ * <p>Since the restart schedules do not depend upon the results of the runs, the run lengths of the
+ * restarts, and therefore the distribution of results, are the same as those of a {@link
+ * ParallelMultistarter} with the same schedules. Only the thread that executes each restart
+ * differs. If optimize is called multiple times, the restart schedules are not reinitialized, and
+ * the run lengths for the additional restarts continue where the schedules left off.
+ *
+ * <p>By default, a WorkStealingMultistarter owns a fixed thread pool, which it shuts down when it
+ * is closed. It can alternatively be constructed with an {@link ExecutorService} supplied by the
+ * caller, in which case closing the WorkStealingMultistarter does not shut down the executor, and
+ * its splits share the executor.
+ *
+ * @param <T> The type of object being optimized.
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public final class WorkStealingMultistarter<T extends Copyable<T>>
+    implements Metaheuristic<T>, AutoCloseable {
+
+  private final ArrayList<Metaheuristic<T>> searches;
+  private final ArrayList<RestartSchedule> schedules;
+  private final ArrayList<ConcurrentLinkedDeque<Long>> deques;
+  private final SearchExecutor threadPool;
+
+  /**
+   * Constructs a parallel multistart metaheuristic that executes multiple runs of a specified
+   * metaheuristic in parallel across multiple threads, balancing the restarts across the threads
+   * with work stealing. All restarts are the same in length.
+   *
+   * @param search The metaheuristic to restart multiple times in parallel.
+   * @param runLength The length of every restarted run of the metaheuristic.
+   * @param numThreads The number of threads to use.
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   * @throws IllegalArgumentException if runLength is less than 1.
+   */
+  public WorkStealingMultistarter(Metaheuristic<T> search, int runLength, int numThreads) {
+    this(search, new ConstantRestartSchedule(runLength), numThreads);
+  }
+
+  /**
+   * Constructs a parallel multistart metaheuristic that executes multiple runs of a specified
+   * metaheuristic in parallel across multiple threads, balancing the restarts across the threads
+   * with work stealing. Each thread's share of the restarts initially follows its own copy of the
+   * restart schedule.
+   *
+   * @param search The metaheuristic to restart multiple times in parallel.
+   * @param r The schedule of run lengths. Note that the threads do not share a single
+   *     RestartSchedule. Rather, each thread's share of the restarts is determined by its own copy
+   *     of r.
+   * @param numThreads The number of threads to use.
+   * @throws IllegalArgumentException if numThreads is less than 1.
+   */
+  public WorkStealingMultistarter(Metaheuristic<T> search, RestartSchedule r, int numThreads) {
+    this(search, createSchedules(r, numThreads), null);
+  }
+
+  /**
+   * Constructs a parallel multistart metaheuristic that executes multiple runs of a specified
+   * metaheuristic in parallel across multiple threads, balancing the restarts across the threads
+   * with work stealing. Each thread's share of the restarts initially follows its own restart
+   * schedule.
+   *
+   * @param search The metaheuristic to restart multiple times in parallel.
+   * @param schedules The schedules of run lengths, one for each thread. The number of threads will
+   *     be equal to the number of restart schedules.
+   * @throws IllegalArgumentException if schedules.size() is less than 1.
+   */
+  public WorkStealingMultistarter(
+      Metaheuristic<T> search, Collection<? extends RestartSchedule> schedules) {
+    this(search, schedules, null);
+  }
+
+  /**
+   * Constructs a parallel multistart metaheuristic that executes multiple runs of a specified
+   * metaheuristic in parallel, using an executor supplied by the caller, balancing the restarts
+   * across the parallel instances with work stealing. The WorkStealingMultistarter does not own the
+   * executor, so closing it does not shut down the executor.
+   *
+   * @param search The metaheuristic to restart multiple times in parallel.
+   * @param schedules The schedules of run lengths, one for each parallel instance, each of which is
+   *     submitted to the executor as a separate task.
+   * @param executor The executor that runs the parallel instances, or null for a fixed thread pool
+   *     owned by the WorkStealingMultistarter.
+   * @throws IllegalArgumentException if schedules.size() is less than 1.
+   */
+  public WorkStealingMultistarter(
+      Metaheuristic<T> search,
+      Collection<? extends RestartSchedule> schedules,
+      ExecutorService executor) {
+    if (schedules.size() < 1) {
+      throw new IllegalArgumentException("Must pass at least one schedule.");
+    }
+    this.schedules = new ArrayList<RestartSchedule>(schedules);
+    searches = new ArrayList<Metaheuristic<T>>(this.schedules.size());
+    searches.add(search);
+    for (int i = 1; i < this.schedules.size(); i++) {
+      searches.add(search.split());
+    }
+    deques = createDeques(this.schedules.size());
+    threadPool = SearchExecutor.of(executor, this.schedules.size());
+  }
+
+  /*
+   * private copy constructor to support split() method.
+   */
+  private WorkStealingMultistarter(WorkStealingMultistarter<T> other) {
+    searches = new ArrayList<Metaheuristic<T>>(other.searches.size());
+    for (Metaheuristic<T> m : other.searches) {
+      searches.add(m.split());
+    }
+    schedules = new ArrayList<RestartSchedule>(other.schedules.size());
+    for (RestartSchedule r : other.schedules) {
+      schedules.add(r.split());
+    }
+    deques = createDeques(schedules.size());
+    threadPool = other.threadPool.split(schedules.size());
+    if (other.isClosed()) close();
+  }
+
+  /**
+   * Executes a parallel multistart search, with numRestarts restarts for each of the restart
+   * schedules, for a total of numRestarts times the number of threads restarts, which the threads
+   * balance among themselves with work stealing. The search stops early if the {@link
+   * ProgressTracker} is stopped, or if the theoretical best solution is found.
+   *
+   * @param numRestarts The number of restarts for each of the restart schedules.
+   * @return The best end of run solution (and its cost) of this set of restarts, which may or may
+   *     not be the same as the solution contained in this metaheuristic's {@link ProgressTracker},
+   *     which contains the best of all runs. Returns null if the run did not execute, such as if
+   *     the ProgressTracker already contains the theoretical best solution.
+   * @throws IllegalStateException if the {@link #close} method was previously called.
+   */
+  @Override
+  public SolutionCostPair<T> optimize(int numRestarts) {
+    if (threadPool.isClosed()) {
+      throw new IllegalStateException("This WorkStealingMultistarter was previously closed.");
+    }
+    SolutionCostPair<T> bestParallelRun = null;
+    ProgressTracker<T> tracker = getProgressTracker();
+    if (!tracker.isStopped() && !tracker.didFindBest()) {
+      for (int i = 0; i < deques.size(); i++) {
+        ConcurrentLinkedDeque<Long> deque = deques.get(i);
+        // Left over from a prior run that stopped early.
+        deque.clear();
+        RestartSchedule r = schedules.get(i);
+        for (int j = 0; j < numRestarts; j++) {
+          deque.addLast(r.nextRunLengthLong());
+        }
+      }
+      ArrayList<Future<SolutionCostPair<T>>> futures =
+          new ArrayList<Future<SolutionCostPair<T>>>(searches.size());
+      for (int i = 0; i < searches.size(); i++) {
+        futures.add(threadPool.submit(new Worker(i)));
+      }
+      for (Future<SolutionCostPair<T>> f : futures) {
+        try {
+          SolutionCostPair<T> pair = f.get();
+          if (bestParallelRun == null || (pair != null && pair.compareTo(bestParallelRun) < 0)) {
+            bestParallelRun = pair;
+          }
+        } catch (InterruptedException ex) {
+          // Future.get() throws this if the current
+          // thread is interrupted.
+          //  1) Cancel this task.
+          //  2) Preserve interrupt status to cancel remaining.
+          f.cancel(true);
+          Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+          // Future.get() throws this if the worker throws any exception. The
+          // restarts remaining in its deque are stolen by the other workers.
+        }
+      }
+    }
+    return bestParallelRun;
+  }
+
+  /**
+   * Initiates an orderly shutdown of the thread pool used by this WorkStealingMultistarter. When
+   * you no longer need the WorkStealingMultistarter, you should call the close method to ensure
+   * that unneeded threads do not persist. Once close is called, all subsequent calls to {@link
+   * #optimize} will throw an exception. If the WorkStealingMultistarter was constructed with an
+   * executor supplied by the caller, then the executor is not shut down.
+   *
+   * <p>This method is invoked automatically on objects managed by the try-with-resources statement.
+   */
+  @Override
+  public void close() {
+    threadPool.close();
+  }
+
+  /**
+   * Checks whether the thread pool has been shutdown.
+   *
+   * @return true if and only if the {@link #close} method has been called previously, or if the
+   *     executor supplied by the caller has been shut down.
+   */
+  public boolean isClosed() {
+    return threadPool.isClosed();
+  }
+
+  @Override
+  public WorkStealingMultistarter<T> split() {
+    return new WorkStealingMultistarter<T>(this);
+  }
+
+  @Override
+  public ProgressTracker<T> getProgressTracker() {
+    return searches.get(0).getProgressTracker();
+  }
+
+  @Override
+  public void setProgressTracker(ProgressTracker<T> tracker) {
+    if (tracker != null) {
+      for (Metaheuristic<T> m : searches) {
+        m.setProgressTracker(tracker);
+      }
+    }
+  }
+
+  @Override
+  public Problem<T> getProblem() {
+    return searches.get(0).getProblem();
+  }
+
+  /**
+   * Gets the total run length of all restarts across all threads combined. This may differ from
+   * what may be expected based on the restart schedules. For example, the optimize method
+   * terminates if it finds the theoretical best solution, and also immediately returns if a prior
+   * call found the theoretical best. In such cases, the total run length may be less than the
+   * requested run length.
+   *
+   * <p>The meaning of run length may vary based on the underlying metaheuristic.
+   *
+   * @return the total run length of all restarts, which includes across multiple calls and across
+   *     all threads.
+   */
+  @Override
+  public long getTotalRunLength() {
+    long total = 0;
+    for (Metaheuristic<T> m : searches) {
+      total = total + m.getTotalRunLength();
+    }
+    return total;
+  }
+
+  private static ArrayList<RestartSchedule> createSchedules(RestartSchedule r, int numThreads) {
+    if (numThreads < 1) {
+      throw new IllegalArgumentException("must be at least 1 thread");
+    }
+    ArrayList<RestartSchedule> schedules = new ArrayList<RestartSchedule>(numThreads);
+    schedules.add(r);
+    for (int i = 1; i < numThreads; i++) {
+      schedules.add(r.split());
+    }
+    return schedules;
+  }
+
+  private static ArrayList<ConcurrentLinkedDeque<Long>> createDeques(int n) {
+    ArrayList<ConcurrentLinkedDeque<Long>> deques = new ArrayList<ConcurrentLinkedDeque<Long>>(n);
+    for (int i = 0; i < n; i++) {
+      deques.add(new ConcurrentLinkedDeque<Long>());
+    }
+    return deques;
+  }
+
+  /*
+   * Executes the restarts of its own deque from the front, and when its own deque is
+   * empty, steals restarts from the back of the deques of the other workers. Since no
+   * restarts are added once the workers begin, a worker that finds all deques empty
+   * is done.
+   */
+  private final class Worker implements Callable<SolutionCostPair<T>> {
+
+    private final int id;
+
+    Worker(int id) {
+      this.id = id;
+    }
+
+    @Override
+    public SolutionCostPair<T> call() {
+      Metaheuristic<T> search = searches.get(id);
+      ProgressTracker<T> tracker = search.getProgressTracker();
+      SolutionCostPair<T> bestRestart = null;
+      Long runLength;
+      while (!tracker.isStopped() && !tracker.didFindBest() && (runLength = next()) != null) {
+        SolutionCostPair<T> thisRestart = search.optimize(runLength);
+        if (bestRestart == null || (thisRestart != null && thisRestart.compareTo(bestRestart) < 0))
+          bestRestart = thisRestart;
+      }
+      return bestRestart;
+    }
+
+    private Long next() {
+      Long runLength = deques.get(id).pollFirst();
+      for (int i = 1; runLength == null && i < deques.size(); i++) {
+        runLength = deques.get((id + i) % deques.size()).pollLast();
+      }
+      return runLength;
+    }
+  }
+}
@@ -0,0 +1,262 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.distributed;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.SolutionCodec;
+import org.cicirello.util.Copyable;
+
+/**
+ * The coordinator of a distributed search, whose workers are {@link DistributedWorker} objects,
+ * usually in other JVM processes, connected to the coordinator with a {@link Transport}. The
+ * coordinator keeps the best solution found by any of its workers in a {@link ProgressTracker}.
+ * Whenever a worker reports a solution that is better than the best known, the coordinator forwards
+ * it to all of the other workers, and when a worker reports a solution that is known to be optimal,
+ * or when {@link #stop} is called, the coordinator signals all of the workers to stop.
+ *
+ * <p>For example, with TCP as the transport, the coordinator's process may accept a known number of
+ * workers with a {@link TcpTransport.Listener}, and then wait for them to finish:
+ *
+ * <pre><code>
+ * try (TcpTransport.Listener listener = new TcpTransport.Listener(port);
+ *     DistributedCoordinator&lt;Permutation&gt; coordinator =
+ *         new DistributedCoordinator&lt;Permutation&gt;(SolutionCodec.permutation())) {
+ *   for (int i = 0; i &lt; numWorkers; i++) {
+ *     coordinator.addWorker(listener.accept());
+ *   }
+ *   coordinator.awaitCompletion(1, TimeUnit.HOURS);
+ *   SolutionCostPair&lt;Permutation&gt; best =
+ *       coordinator.getProgressTracker().getSolutionCostPair();
+ * }
+ * </code></pre>
+ *
+ * <p>Each worker is served by its own daemon thread, which receives the messages of that worker.
+ *
+ * @param <T> The type of object being optimized.
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public final class DistributedCoordinator<T extends Copyable<T>> implements AutoCloseable {
+
+  private final SolutionCodec<T> codec;
+  private final ProgressTracker<T> tracker;
+  private final ArrayList<Transport> workers;
+  private int active;
+  private long totalRunLength;
+  private boolean closed;
+
+  /**
+   * Constructs a coordinator with a new {@link ProgressTracker}.
+   *
+   * @param codec The codec for encoding and decoding the solutions exchanged with the workers,
+   *     which must be the same as that of the workers.
+   * @throws NullPointerException if codec is null
+   */
+  public DistributedCoordinator(SolutionCodec<T> codec) {
+    this(codec, new ProgressTracker<T>());
+  }
+
+  /**
+   * Constructs a coordinator.
+   *
+   * @param codec The codec for encoding and decoding the solutions exchanged with the workers,
+   *     which must be the same as that of the workers.
+   * @param tracker The progress tracker in which to keep the best solution of any worker.
+   * @throws NullPointerException if codec or tracker is null
+   */
+  public DistributedCoordinator(SolutionCodec<T> codec, ProgressTracker<T> tracker) {
+    this.codec = Objects.requireNonNull(codec);
+    this.tracker = Objects.requireNonNull(tracker);
+    workers = new ArrayList<Transport>();
+  }
+
+  /**
+   * Adds a worker, and begins receiving its messages. If the coordinator already knows of a
+   * solution, it is sent to the new worker, as is a stop signal if the search has been stopped.
+   *
+   * @param worker The coordinator's side of the transport to the worker.
+   * @throws IllegalStateException if this coordinator is closed
+   */
+  public void addWorker(Transport worker) {
+    synchronized (this) {
+      if (closed) {
+        throw new IllegalStateException("coordinator is closed");
+      }
+      workers.add(worker);
+      active++;
+    }
+    SolutionCostPair<T> best = tracker.getSolutionCostPair();
+    if (best.getSolution() != null) {
+      send(worker, Messages.solution(best, codec));
+    }
+    if (tracker.isStopped() || tracker.didFindBest()) {
+      send(worker, Messages.stop());
+    }
+    Thread t = new Thread(() -> receive(worker), "chips-n-salsa-coordinator");
+    t.setDaemon(true);
+    t.start();
+  }
+
+  /**
+   * Signals all of the workers to stop, and stops the progress tracker of this coordinator. Workers
+   * stop at the next point at which their metaheuristics check the progress tracker.
+   */
+  public void stop() {
+    tracker.stop();
+    broadcast(Messages.stop(), null);
+  }
+
+  /**
+   * Waits until all of the workers that have been added are done, which is when each has either
+   * been closed or disconnected.
+   *
+   * @param timeout The maximum time to wait.
+   * @param unit The unit of the timeout.
+   * @return true if all of the workers are done, and false if the timeout elapsed first
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public synchronized boolean awaitCompletion(long timeout, TimeUnit unit)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    while (active > 0) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        return false;
+      }
+      TimeUnit.NANOSECONDS.timedWait(this, remaining);
+    }
+    return true;
+  }
+
+  /**
+   * Gets the progress tracker that contains the best solution of any of the workers.
+   *
+   * @return the progress tracker
+   */
+  public ProgressTracker<T> getProgressTracker() {
+    return tracker;
+  }
+
+  /**
+   * Gets the total run length of the workers that are done, as reported by the workers when they
+   * are closed.
+   *
+   * @return the total run length of the workers that are done
+   */
+  public synchronized long getTotalRunLength() {
+    return totalRunLength;
+  }
+
+  /**
+   * Closes the transports of all of the workers. Workers that have not yet finished stop, since
+   * they can no longer communicate with the coordinator.
+   */
+  @Override
+  public void close() {
+    ArrayList<Transport> all;
+    synchronized (this) {
+      closed = true;
+      all = new ArrayList<Transport>(workers);
+    }
+    for (Transport worker : all) {
+      try {
+        worker.close();
+      } catch (IOException e) {
+        // the worker is gone regardless
+      }
+    }
+  }
+
+  private void receive(Transport worker) {
+    try {
+      CheckpointReader in;
+      while ((in = worker.receive()) != null) {
+        switch (in.getInt()) {
+          case Messages.SOLUTION -> improve(Messages.readSolution(in, codec), worker);
+          case Messages.DONE -> {
+            synchronized (this) {
+              totalRunLength += in.getLong();
+            }
+          }
+          default -> throw new IOException("unexpected message");
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      // A worker that fails to communicate, or whose messages can't be decoded,
+      // is treated as disconnected.
+    } finally {
+      synchronized (this) {
+        workers.remove(worker);
+        active--;
+        notifyAll();
+      }
+      try {
+        // Once removed, close no longer reaches the worker's transport.
+        worker.close();
+      } catch (IOException e) {
+        // the worker is gone regardless
+      }
+    }
+  }
+
+  private void improve(SolutionCostPair<T> pair, Transport source) {
+    synchronized (this) {
+      if (!Messages.isBetter(pair, tracker.getSolutionCostPair())) {
+        return;
+      }
+      tracker.update(pair);
+    }
+    broadcast(Messages.solution(pair, codec), source);
+    if (tracker.didFindBest()) {
+      stop();
+    }
+  }
+
+  /*
+   * Sends a message to all workers other than the one that is excluded, which may be null.
+   */
+  private void broadcast(CheckpointWriter message, Transport excluded) {
+    ArrayList<Transport> targets;
+    synchronized (this) {
+      targets = new ArrayList<Transport>(workers);
+    }
+    for (Transport worker : targets) {
+      if (worker != excluded) {
+        send(worker, message);
+      }
+    }
+  }
+
+  private void send(Transport worker, CheckpointWriter message) {
+    try {
+      worker.send(message);
+    } catch (IOException e) {
+      // The receiving thread of a disconnected worker also fails, and removes it.
+    }
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.distributed;
+
+import java.io.IOException;
+import java.util.Objects;
+import org.cicirello.search.Metaheuristic;
+import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.ReoptimizableMetaheuristic;
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.SolutionCodec;
+import org.cicirello.search.restarts.RestartSchedule;
+import org.cicirello.util.Copyable;
+
+/**
+ * A worker of a distributed search, which executes a multistart search with its own instance of a
+ * metaheuristic, and exchanges best solutions and stop signals with a {@link
+ * DistributedCoordinator} through a {@link Transport}. After each restart, if the best solution in
+ * the metaheuristic's {@link ProgressTracker} is better than any that the worker has sent to or
+ * received from the coordinator, then it is sent to the coordinator. Solutions received from the
+ * coordinator are placed in the metaheuristic's ProgressTracker, and a stop signal stops the
+ * ProgressTracker, which ends the current run at the next point at which the metaheuristic checks
+ * the ProgressTracker.
+ *
+ * <p>A worker is created, and begins receiving the messages of the coordinator, with one of the
+ * {@code start} methods. If the worker is started with a {@link ReoptimizableMetaheuristic}, then
+ * every restart after the first is a reoptimization, which begins from the best solution in the
+ * ProgressTracker, including solutions received from other workers. This realizes an island model,
+ * where the best solution of any island migrates to all of the others. Otherwise, each restart
+ * begins from a new random solution, which distributes a multistart search such as that of a {@link
+ * org.cicirello.search.concurrent.ParallelMultistarter} across processes.
+ *
+ * <p>A worker process may host multiple workers, each with its own transport and its own split of
+ * the metaheuristic, executing in different threads. A worker reports its total run length to the
+ * coordinator when it is closed. A worker that loses its connection to the coordinator stops.
+ *
+ * @param <T> The type of object being optimized.
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public final class DistributedWorker<T extends Copyable<T>> implements AutoCloseable {
+
+  private final Metaheuristic<T> search;
+  private final ReoptimizableMetaheuristic<T> reoptimizer;
+  private final RestartSchedule schedule;
+  private final SolutionCodec<T> codec;
+  private final Transport transport;
+  private SolutionCostPair<T> shared;
+  private boolean closed;
+
+  /**
+   * Starts a worker whose restarts each begin from a new random solution. The worker begins
+   * receiving the messages of the coordinator, but does not search until {@link #optimize} is
+   * called.
+   *
+   * @param search The metaheuristic to restart.
+   * @param schedule The restart schedule.
+   * @param codec The codec for encoding and decoding the solutions exchanged with the coordinator,
+   *     which must be the same as that of the coordinator.
+   * @param transport The worker's side of the transport to the coordinator.
+   * @param <T> The type of object being optimized.
+   * @return the worker
+   * @throws NullPointerException if any of the parameters are null
+   */
+  public static <T extends Copyable<T>> DistributedWorker<T> start(
+      Metaheuristic<T> search,
+      RestartSchedule schedule,
+      SolutionCodec<T> codec,
+      Transport transport) {
+    return new DistributedWorker<T>(search, null, schedule, codec, transport).startReceiving();
+  }
+
+  /**
+   * Starts a worker whose restarts after the first each reoptimize the best solution in the
+   * metaheuristic's ProgressTracker, which may have been received from another worker. The worker
+   * begins receiving the messages of the coordinator, but does not search until {@link #optimize}
+   * is called.
+   *
+   * @param search The metaheuristic to restart.
+   * @param schedule The restart schedule.
+   * @param codec The codec for encoding and decoding the solutions exchanged with the coordinator,
+   *     which must be the same as that of the coordinator.
+   * @param transport The worker's side of the transport to the coordinator.
+   * @param <T> The type of object being optimized.
+   * @return the worker
+   * @throws NullPointerException if any of the parameters are null
+   */
+  public static <T extends Copyable<T>> DistributedWorker<T> start(
+      ReoptimizableMetaheuristic<T> search,
+      RestartSchedule schedule,
+      SolutionCodec<T> codec,
+      Transport transport) {
+    return new DistributedWorker<T>(search, search, schedule, codec, transport).startReceiving();
+  }
+
+  private DistributedWorker(
+      Metaheuristic<T> search,
+      ReoptimizableMetaheuristic<T> reoptimizer,
+      RestartSchedule schedule,
+      SolutionCodec<T> codec,
+      Transport transport) {
+    this.search = Objects.requireNonNull(search);
+    this.reoptimizer = reoptimizer;
+    this.schedule = Objects.requireNonNull(schedule);
+    this.codec = Objects.requireNonNull(codec);
+    this.transport = Objects.requireNonNull(transport);
+  }
+
+  /*
+   * Starts the thread that receives the messages of the coordinator. This is done
+   * after construction so that the thread never sees a partially constructed worker.
+   */
+  private DistributedWorker<T> startReceiving() {
+    Thread t = new Thread(this::receive, "chips-n-salsa-worker");
+    t.setDaemon(true);
+    t.start();
+    return this;
+  }
+
+  /**
+   * Executes a multistart search, restarting the metaheuristic the specified number of times, with
+   * run lengths from the restart schedule, or until stopped by the coordinator or the metaheuristic
+   * finds a solution known to be optimal.
+   *
+   * @param numRestarts The number of restarts.
+   * @return the best solution in the metaheuristic's ProgressTracker, which may have been found by
+   *     another worker
+   */
+  public SolutionCostPair<T> optimize(int numRestarts) {
+    ProgressTracker<T> tracker = search.getProgressTracker();
+    for (int i = 0; i < numRestarts && !tracker.isStopped() && !tracker.didFindBest(); i++) {
+      long runLength = schedule.nextRunLengthLong();
+      if (reoptimizer != null && tracker.getSolution() != null) {
+        reoptimizer.reoptimize(runLength);
+      } else {
+        search.optimize(runLength);
+      }
+      report(tracker);
+    }
+    return tracker.getSolutionCostPair();
+  }
+
+  /**
+   * Gets the total run length of the metaheuristic of this worker.
+   *
+   * @return the total run length
+   */
+  public long getTotalRunLength() {
+    return search.getTotalRunLength();
+  }
+
+  /** Reports the total run length of this worker to the coordinator, and closes the transport. */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+    }
+    try {
+      transport.send(Messages.done(search.getTotalRunLength()));
+    } catch (IOException e) {
+      // the coordinator is gone, so there is no one to report to
+    }
+    try {
+      transport.close();
+    } catch (IOException e) {
+      // closing regardless
+    }
+  }
+
+  private void report(ProgressTracker<T> tracker) {
+    SolutionCostPair<T> best = tracker.getSolutionCostPair();
+    synchronized (this) {
+      if (closed || !Messages.isBetter(best, shared)) {
+        return;
+      }
+      shared = best;
+    }
+    try {
+      transport.send(Messages.solution(best, codec));
+    } catch (IOException e) {
+      tracker.stop();
+    }
+  }
+
+  private void receive() {
+    try {
+      CheckpointReader in;
+      while ((in = transport.receive()) != null) {
+        switch (in.getInt()) {
+          case Messages.SOLUTION -> migrate(Messages.readSolution(in, codec));
+          case Messages.STOP -> search.getProgressTracker().stop();
+          default -> throw new IOException("unexpected message");
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      // A message that can't be decoded is handled below as a lost connection.
+    } finally {
+      boolean lost;
+      synchronized (this) {
+        lost = !closed;
+      }
+      if (lost) {
+        // Without a coordinator, the search can't be coordinated, so stop.
+        search.getProgressTracker().stop();
+      }
+    }
+  }
+
+  private void migrate(SolutionCostPair<T> pair) {
+    synchronized (this) {
+      if (Messages.isBetter(pair, shared)) {
+        shared = pair;
+      }
+    }
+    search.getProgressTracker().update(pair);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.distributed;
+
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.SolutionCodec;
+import org.cicirello.util.Copyable;
+
+/**
+ * Internal package access class that encodes and decodes the messages exchanged by a coordinator
+ * and its workers. Each message begins with an int that identifies its kind.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+final class Messages {
+
+  /* A solution and its cost, followed by the solution encoded by a SolutionCodec. */
+  static final int SOLUTION = 1;
+
+  /* A request that the receiving worker stop searching. */
+  static final int STOP = 2;
+
+  /* A worker is done searching, followed by its total run length. */
+  static final int DONE = 3;
+
+  private Messages() {}
+
+  static <T extends Copyable<T>> CheckpointWriter solution(
+      SolutionCostPair<T> pair, SolutionCodec<T> codec) {
+    CheckpointWriter out = new CheckpointWriter();
+    out.putInt(SOLUTION);
+    out.putBoolean(pair.containsIntCost());
+    if (pair.containsIntCost()) {
+      out.putInt(pair.getCost());
+    } else {
+      out.putDouble(pair.getCostDouble());
+    }
+    out.putBoolean(pair.containsKnownOptimal());
+    codec.write(pair.getSolution(), out);
+    return out;
+  }
+
+  /*
+   * Reads the remainder of a SOLUTION message, after its kind.
+   */
+  static <T extends Copyable<T>> SolutionCostPair<T> readSolution(
+      CheckpointReader in, SolutionCodec<T> codec) {
+    if (in.getBoolean()) {
+      int cost = in.getInt();
+      boolean isKnownOptimal = in.getBoolean();
+      return new SolutionCostPair<T>(codec.read(in), cost, isKnownOptimal);
+    }
+    double cost = in.getDouble();
+    boolean isKnownOptimal = in.getBoolean();
+    return new SolutionCostPair<T>(codec.read(in), cost, isKnownOptimal);
+  }
+
+  static CheckpointWriter stop() {
+    return new CheckpointWriter().putInt(STOP);
+  }
+
+  static CheckpointWriter done(long totalRunLength) {
+    return new CheckpointWriter().putInt(DONE).putLong(totalRunLength);
+  }
+
+  /*
+   * Checks if the cost of a solution is strictly less than another's. A null
+   * pair, or one without a solution, is worse than any solution.
+   */
+  static <T extends Copyable<T>> boolean isBetter(SolutionCostPair<T> a, SolutionCostPair<T> b) {
+    if (a == null || a.getSolution() == null) {
+      return false;
+    }
+    if (b == null || b.getSolution() == null) {
+      return true;
+    }
+    return a.containsIntCost() ? a.getCost() < b.getCost() : a.getCostDouble() < b.getCostDouble();
+  }
+}
@@ -0,0 +1,277 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.distributed;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+
+/**
+ * A {@link Transport} over a TCP connection. Each message is sent as a 4-byte length followed by
+ * the bytes of the message. The coordinator side of the connections is obtained from a {@link
+ * TcpTransport.Listener}, and each worker connects to it with {@link #connect}. A message longer
+ * than the maximum message size of the receiving side is treated as a corrupt connection, which
+ * bounds the memory a misbehaving peer can cause the receiver to allocate.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public final class TcpTransport implements Transport {
+
+  /** The default maximum size, in bytes, of a received message: 16 MiB. */
+  public static final int DEFAULT_MAX_MESSAGE_SIZE = 1 << 24;
+
+  private final SocketChannel channel;
+  private final ByteBuffer length;
+  private final Object sendLock;
+  private final int maxMessageSize;
+
+  private TcpTransport(SocketChannel channel, int maxMessageSize) throws IOException {
+    this.channel = channel;
+    this.maxMessageSize = maxMessageSize;
+    // Messages are small and latency matters more than throughput.
+    channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+    length = ByteBuffer.allocate(Integer.BYTES);
+    sendLock = new Object();
+  }
+
+  /**
+   * Connects to a coordinator that is listening with a {@link TcpTransport.Listener}, receiving
+   * messages of up to {@link #DEFAULT_MAX_MESSAGE_SIZE} bytes.
+   *
+   * @param address The address of the coordinator's listener.
+   * @return the transport
+   * @throws IOException if an I/O error occurs
+   */
+  public static TcpTransport connect(InetSocketAddress address) throws IOException {
+    return connect(address, DEFAULT_MAX_MESSAGE_SIZE);
+  }
+
+  /**
+   * Connects to a coordinator that is listening with a {@link TcpTransport.Listener}.
+   *
+   * @param address The address of the coordinator's listener.
+   * @param maxMessageSize The maximum size, in bytes, of a message received from the coordinator.
+   * @return the transport
+   * @throws IllegalArgumentException if maxMessageSize is less than 8
+   * @throws IOException if an I/O error occurs
+   */
+  public static TcpTransport connect(InetSocketAddress address, int maxMessageSize)
+      throws IOException {
+    checkMaxMessageSize(maxMessageSize);
+    SocketChannel channel = SocketChannel.open(address);
+    try {
+      return new TcpTransport(channel, maxMessageSize);
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public void send(CheckpointWriter message) throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(Integer.BYTES).putInt(message.size()).flip();
+    synchronized (sendLock) {
+      while (header.hasRemaining()) {
+        channel.write(header);
+      }
+      message.writeTo(channel);
+    }
+  }
+
+  @Override
+  public CheckpointReader receive() throws IOException {
+    length.clear();
+    if (!readFully(length)) {
+      return null;
+    }
+    int size = length.flip().getInt();
+    if (size < 2 * Integer.BYTES) {
+      throw new IOException("corrupt message length: " + size);
+    }
+    if (size > maxMessageSize) {
+      throw new IOException("message length " + size + " exceeds the maximum of " + maxMessageSize);
+    }
+    ByteBuffer message = ByteBuffer.allocate(size);
+    if (!readFully(message)) {
+      throw new EOFException("connection closed within a message");
+    }
+    try {
+      return CheckpointReader.of(message.flip());
+    } catch (IllegalArgumentException e) {
+      throw new IOException("corrupt message", e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  /*
+   * The smallest message is the header of an empty checkpoint: its magic number and version.
+   */
+  private static void checkMaxMessageSize(int maxMessageSize) {
+    if (maxMessageSize < 2 * Integer.BYTES) {
+      throw new IllegalArgumentException("maxMessageSize must be at least " + 2 * Integer.BYTES);
+    }
+  }
+
+  /*
+   * Fills the buffer, returning false if the end of the stream is reached
+   * before any bytes are read.
+   */
+  private boolean readFully(ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer) < 0) {
+        if (buffer.position() == 0) {
+          return false;
+        }
+        throw new EOFException("connection closed within a message");
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Listens for the TCP connections of workers on behalf of a coordinator.
+   *
+   * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+   *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+   */
+  public static final class Listener implements Closeable {
+
+    private final ServerSocketChannel server;
+    private final int maxMessageSize;
+
+    /**
+     * Listens on a port of the loopback address, which is sufficient for workers that are processes
+     * on the same machine. The accepted connections receive messages of up to {@link
+     * TcpTransport#DEFAULT_MAX_MESSAGE_SIZE} bytes.
+     *
+     * @param port The port, or 0 for any available port (see {@link #getPort}).
+     * @throws IOException if an I/O error occurs
+     */
+    public Listener(int port) throws IOException {
+      this(port, DEFAULT_MAX_MESSAGE_SIZE);
+    }
+
+    /**
+     * Listens on a port of the loopback address, which is sufficient for workers that are processes
+     * on the same machine.
+     *
+     * @param port The port, or 0 for any available port (see {@link #getPort}).
+     * @param maxMessageSize The maximum size, in bytes, of a message received from a worker.
+     * @throws IllegalArgumentException if maxMessageSize is less than 8
+     * @throws IOException if an I/O error occurs
+     */
+    public Listener(int port, int maxMessageSize) throws IOException {
+      this(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), maxMessageSize);
+    }
+
+    /**
+     * Listens on an address, such as that of a network interface through which workers on other
+     * machines connect. The accepted connections receive messages of up to {@link
+     * TcpTransport#DEFAULT_MAX_MESSAGE_SIZE} bytes.
+     *
+     * @param address The address.
+     * @throws IOException if an I/O error occurs
+     */
+    public Listener(InetSocketAddress address) throws IOException {
+      this(address, DEFAULT_MAX_MESSAGE_SIZE);
+    }
+
+    /**
+     * Listens on an address, such as that of a network interface through which workers on other
+     * machines connect.
+     *
+     * @param address The address.
+     * @param maxMessageSize The maximum size, in bytes, of a message received from a worker.
+     * @throws IllegalArgumentException if maxMessageSize is less than 8
+     * @throws IOException if an I/O error occurs
+     */
+    public Listener(InetSocketAddress address, int maxMessageSize) throws IOException {
+      checkMaxMessageSize(maxMessageSize);
+      this.maxMessageSize = maxMessageSize;
+      server = ServerSocketChannel.open();
+      try {
+        server.bind(address);
+      } catch (IOException e) {
+        server.close();
+        throw e;
+      }
+    }
+
+    /**
+     * Waits for the next worker to connect.
+     *
+     * @return the coordinator's side of the connection
+     * @throws IOException if an I/O error occurs, such as if the listener is closed
+     */
+    public TcpTransport accept() throws IOException {
+      SocketChannel channel = server.accept();
+      try {
+        return new TcpTransport(channel, maxMessageSize);
+      } catch (IOException e) {
+        channel.close();
+        throw e;
+      }
+    }
+
+    /**
+     * Gets the address on which this listener listens.
+     *
+     * @return the address
+     * @throws IOException if an I/O error occurs
+     */
+    public InetSocketAddress getAddress() throws IOException {
+      return (InetSocketAddress) server.getLocalAddress();
+    }
+
+    /**
+     * Gets the port on which this listener listens.
+     *
+     * @return the port
+     * @throws IOException if an I/O error occurs
+     */
+    public int getPort() throws IOException {
+      return getAddress().getPort();
+    }
+
+    /**
+     * Stops listening. Connections already accepted are unaffected.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+      server.close();
+    }
+  }
+}
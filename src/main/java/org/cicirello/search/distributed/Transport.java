@@ -0,0 +1,57 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.distributed;
+
+import java.io.Closeable;
+import java.io.IOException;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+
+/**
+ * A transport delivers messages between a {@link DistributedCoordinator} and one {@link
+ * DistributedWorker}, in both directions. Messages are encoded with a {@link CheckpointWriter} and
+ * decoded with a {@link CheckpointReader}, and a transport must deliver them in the order sent,
+ * such as over a TCP connection (see {@link TcpTransport}). Implement this interface to use a
+ * different means of communication, such as a message queue.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public interface Transport extends Closeable {
+
+  /**
+   * Sends a message. Implementations must be thread-safe, since the coordinator may send messages
+   * to a worker from the threads that receive messages from other workers.
+   *
+   * @param message The message.
+   * @throws IOException if an I/O error occurs, such as if the transport is closed
+   */
+  void send(CheckpointWriter message) throws IOException;
+
+  /**
+   * Receives the next message, blocking until one is available. This is only called by a single
+   * thread at a time.
+   *
+   * @return the next message, or null if the other end closed the transport
+   * @throws IOException if an I/O error occurs, such as if the transport is closed
+   */
+  CheckpointReader receive() throws IOException;
+}
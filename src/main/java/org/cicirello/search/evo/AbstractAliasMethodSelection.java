@@ -0,0 +1,184 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.evo;
+
+import org.cicirello.math.rand.EnhancedSplittableGenerator;
+import org.cicirello.search.internal.RandomnessFactory;
+
+/**
+ * This abstract class serves as a base class for selection operators that select population members
+ * randomly, weighted by their fitness or a function of their fitness, using Vose's alias method.
+ * Each generation, an alias table is constructed in linear time from the weights of the population
+ * members, after which each member is selected in constant time. The arrays that hold the alias
+ * table are reused across generations, and are only reallocated if the population size increases.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+abstract class AbstractAliasMethodSelection implements SelectionOperator {
+
+  private final EnhancedSplittableGenerator generator;
+
+  // Alias table: probability of keeping column i, and the alias of column i.
+  private double[] prob;
+  private int[] alias;
+
+  // Work list shared by the small (front) and large (back) columns during construction.
+  private int[] work;
+
+  /** Construct a selection operator that uses the alias method. */
+  public AbstractAliasMethodSelection() {
+    generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    prob = new double[0];
+    alias = new int[0];
+    work = new int[0];
+  }
+
+  /* package private for use by subclasses in same package */
+  AbstractAliasMethodSelection(AbstractAliasMethodSelection other) {
+    generator = other.generator.split();
+    // Buffers are not shared across splits, since they are modified during selection.
+    prob = new double[0];
+    alias = new int[0];
+    work = new int[0];
+  }
+
+  @Override
+  public final void select(PopulationFitnessVector.Integer fitnesses, int[] selected) {
+    int n = fitnesses.size();
+    ensureCapacity(n);
+    buildAliasTable(n, computeWeights(fitnesses, prob));
+    selectAll(n, selected);
+  }
+
+  @Override
+  public final void select(PopulationFitnessVector.Double fitnesses, int[] selected) {
+    int n = fitnesses.size();
+    ensureCapacity(n);
+    buildAliasTable(n, computeWeights(fitnesses, prob));
+    selectAll(n, selected);
+  }
+
+  /*
+   * package private to enable subclasses in same package to override.
+   * Stores the weight of each population member in weights, and returns
+   * the total weight. This implementation is suitable for selection operators
+   * that weight population members by their fitnesses. Override to weight by
+   * a function of fitness.
+   */
+  double computeWeights(PopulationFitnessVector.Integer fitnesses, double[] weights) {
+    final int n = fitnesses.size();
+    double total = 0;
+    for (int i = 0; i < n; i++) {
+      weights[i] = fitnesses.getFitness(i);
+      total += weights[i];
+    }
+    return total;
+  }
+
+  /*
+   * package private to enable subclasses in same package to override.
+   * Stores the weight of each population member in weights, and returns
+   * the total weight. This implementation is suitable for selection operators
+   * that weight population members by their fitnesses. Override to weight by
+   * a function of fitness.
+   */
+  double computeWeights(PopulationFitnessVector.Double fitnesses, double[] weights) {
+    final int n = fitnesses.size();
+    double total = 0;
+    for (int i = 0; i < n; i++) {
+      weights[i] = fitnesses.getFitness(i);
+      total += weights[i];
+    }
+    return total;
+  }
+
+  /*
+   * package private for testing. Probability of keeping column i of the alias table.
+   */
+  final double[] probabilities() {
+    return prob;
+  }
+
+  /*
+   * package private for testing. Alias of column i of the alias table.
+   */
+  final int[] aliases() {
+    return alias;
+  }
+
+  /*
+   * package private for testing.
+   * Vose's alias method. On entry, prob[0..n-1] holds the weights.
+   */
+  final void buildAliasTable(int n, double totalWeight) {
+    final double scale = n / totalWeight;
+    int small = 0;
+    int large = n;
+    for (int i = 0; i < n; i++) {
+      prob[i] *= scale;
+      if (prob[i] < 1.0) {
+        work[small] = i;
+        small++;
+      } else {
+        large--;
+        work[large] = i;
+      }
+    }
+    while (small > 0 && large < n) {
+      small--;
+      int less = work[small];
+      int more = work[large];
+      large++;
+      alias[less] = more;
+      prob[more] = (prob[more] + prob[less]) - 1.0;
+      if (prob[more] < 1.0) {
+        work[small] = more;
+        small++;
+      } else {
+        large--;
+        work[large] = more;
+      }
+    }
+    // Whatever remains is, up to floating-point error, exactly full.
+    for (; large < n; large++) {
+      prob[work[large]] = 1.0;
+    }
+    for (; small > 0; small--) {
+      prob[work[small - 1]] = 1.0;
+    }
+  }
+
+  private void selectAll(int n, int[] selected) {
+    for (int i = 0; i < selected.length; i++) {
+      int column = generator.nextInt(n);
+      selected[i] = generator.nextDouble() < prob[column] ? column : alias[column];
+    }
+  }
+
+  private void ensureCapacity(int n) {
+    if (prob.length < n) {
+      prob = new double[n];
+      alias = new int[n];
+      work = new int[n];
+    }
+  }
+}
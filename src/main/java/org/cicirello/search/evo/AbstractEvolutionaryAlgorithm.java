@@ -23,6 +23,11 @@ package org.cicirello.search.evo;
 import org.cicirello.search.ProgressTracker;
 import org.cicirello.search.ReoptimizableMetaheuristic;
 import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.PeriodicCheckpointer;
+import org.cicirello.search.checkpoint.ResumableMetaheuristic;
+import org.cicirello.search.checkpoint.SolutionCodec;
 import org.cicirello.search.problems.Problem;
 import org.cicirello.util.Copyable;
 
@@ -34,12 +39,13 @@ import org.cicirello.util.Copyable;
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
 abstract class AbstractEvolutionaryAlgorithm<T extends Copyable<T>>
-    implements ReoptimizableMetaheuristic<T> {
+    implements ReoptimizableMetaheuristic<T>, ResumableMetaheuristic<T> {
 
   private final Population<T> pop;
   private final Problem<T> problem;
   private final Generation<T> generation;
   private long numFitnessEvals;
+  private PeriodicCheckpointer<T> checkpointer;
 
   /*
    * Internal constructor for use by subclasses in same package.
@@ -83,7 +89,7 @@ abstract class AbstractEvolutionaryAlgorithm<T extends Copyable<T>>
     pop.init();
     pop.initOperators(numGenerations);
     numFitnessEvals = numFitnessEvals + pop.size();
-    internalOptimize(numGenerations);
+    internalOptimize(numGenerations, 0);
     return pop.getMostFit();
   }
 
@@ -102,7 +108,73 @@ abstract class AbstractEvolutionaryAlgorithm<T extends Copyable<T>>
   public final SolutionCostPair<T> reoptimize(int numGenerations) {
     if (pop.evolutionIsPaused()) return null;
     pop.initOperators(numGenerations);
-    internalOptimize(numGenerations);
+    internalOptimize(numGenerations, 0);
+    return pop.getMostFit();
+  }
+
+  /**
+   * Sets a checkpointer for periodically checkpointing runs of this evolutionary algorithm. When
+   * the checkpointer requests a checkpoint, the run copies its state into memory between
+   * generations, and the checkpointer writes it in the background. A checkpoint includes the
+   * members of the population and their fitnesses, the number of generations of the run and the
+   * position within them, the number of fitness evaluations, the state of the selection operator,
+   * and the best solution in the {@link ProgressTracker}. It does not include the state of the
+   * random number generators of the genetic operators, so a resumed run continues from the same
+   * population, but does not replay the same sequence of random choices that the original run would
+   * have. A checkpointer is not shared with the objects created by {@link #split}.
+   *
+   * @param checkpointer The checkpointer, or null to disable checkpointing.
+   * @throws UnsupportedOperationException if checkpointer is non-null and the population of this
+   *     evolutionary algorithm does not support checkpoints, which is the case for the steady-state
+   *     and adaptive evolutionary algorithms
+   */
+  @Override
+  public final void setCheckpointer(PeriodicCheckpointer<T> checkpointer) {
+    if (checkpointer != null) {
+      checkpointable();
+    }
+    this.checkpointer = checkpointer;
+  }
+
+  /**
+   * Resumes a run of the evolutionary algorithm from a checkpoint, continuing from the generation
+   * at which the checkpoint was taken, and ending at the end of the original run. The state of the
+   * population, the selection operator, and the {@link ProgressTracker} is restored from the
+   * checkpoint. This evolutionary algorithm must be configured in the same way as the one that
+   * wrote the checkpoint, such as the same problem, population size, and selection operator.
+   *
+   * @param in The checkpoint.
+   * @param codec The codec for reading the solutions of the checkpoint.
+   * @return The best solution found during the run, as with {@link #optimize}. Returns null if the
+   *     run did not execute, such as if the ProgressTracker already contains the theoretical best
+   *     solution.
+   * @throws UnsupportedOperationException if the population of this evolutionary algorithm does not
+   *     support checkpoints
+   * @throws IllegalArgumentException if the checkpoint is for a population with a different type of
+   *     fitness or a different size
+   */
+  @Override
+  public final SolutionCostPair<T> resume(CheckpointReader in, SolutionCodec<T> codec) {
+    checkpointable();
+    if (pop.evolutionIsPaused()) return null;
+    int numGenerations = in.getInt();
+    int first = in.getInt();
+    long evals = in.getLong();
+    if (in.getBoolean()) {
+      // It cannot be the theoretical best, since the run continued after it was found.
+      ProgressTracker<T> tracker = pop.getProgressTracker();
+      if (in.getBoolean()) {
+        int cost = in.getInt();
+        tracker.update(cost, codec.read(in), false);
+      } else {
+        double cost = in.getDouble();
+        tracker.update(cost, codec.read(in), false);
+      }
+    }
+    pop.initOperators(numGenerations);
+    pop.readCheckpoint(in, codec);
+    numFitnessEvals = evals;
+    internalOptimize(numGenerations, first);
     return pop.getMostFit();
   }
 
@@ -139,9 +211,43 @@ abstract class AbstractEvolutionaryAlgorithm<T extends Copyable<T>>
   @Override
   public abstract AbstractEvolutionaryAlgorithm<T> split();
 
-  private void internalOptimize(int numGenerations) {
-    for (int i = 0; i < numGenerations && !pop.evolutionIsPaused(); i++) {
+  private void internalOptimize(int numGenerations, int first) {
+    final PeriodicCheckpointer<T> cp = checkpointer;
+    for (int i = first; i < numGenerations && !pop.evolutionIsPaused(); i++) {
+      if (cp != null && cp.isRequested()) {
+        checkpoint(numGenerations, i, cp);
+      }
       numFitnessEvals = numFitnessEvals + generation.apply(pop);
     }
   }
+
+  /*
+   * Writes a checkpoint before generation i of the run, and submits it to be written.
+   */
+  private void checkpoint(int numGenerations, int i, PeriodicCheckpointer<T> cp) {
+    SolutionCodec<T> codec = cp.getCodec();
+    CheckpointWriter out = cp.newCheckpoint();
+    out.putInt(numGenerations);
+    out.putInt(i);
+    out.putLong(numFitnessEvals);
+    SolutionCostPair<T> best = pop.getProgressTracker().getSolutionCostPair();
+    out.putBoolean(best.getSolution() != null);
+    if (best.getSolution() != null) {
+      out.putBoolean(best.containsIntCost());
+      if (best.containsIntCost()) {
+        out.putInt(best.getCost());
+      } else {
+        out.putDouble(best.getCostDouble());
+      }
+      codec.write(best.getSolution(), out);
+    }
+    pop.writeCheckpoint(out, codec);
+    cp.submit(out);
+  }
+
+  private void checkpointable() {
+    if (!pop.supportsCheckpoints()) {
+      throw new UnsupportedOperationException("the population does not support checkpoints");
+    }
+  }
 }
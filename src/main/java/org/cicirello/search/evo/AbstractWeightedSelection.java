@@ -20,8 +20,6 @@
 
 package org.cicirello.search.evo;
 
-import java.util.function.DoubleUnaryOperator;
-
 /**
  * This abstract class serves as a base class for selection operators that select population members
  * randomly but weighted by either their fitness directly or a function of their fitness, or by
@@ -78,20 +76,6 @@ abstract class AbstractWeightedSelection implements SelectionOperator {
     return p;
   }
 
-  /*
-   * package private to enable subclasses in same package to override.
-   */
-  final double[] computeWeightRunningSumRanks(int[] indexes, DoubleUnaryOperator rankToWeight) {
-    double[] p = new double[indexes.length];
-    for (int i = 0; i < indexes.length; i++) {
-      p[indexes[i]] = rankToWeight.applyAsDouble(i);
-    }
-    for (int i = 1; i < p.length; i++) {
-      p[i] += p[i - 1];
-    }
-    return p;
-  }
-
   /*
    * package private for use by subclasses in same package.
    */
@@ -112,30 +96,6 @@ abstract class AbstractWeightedSelection implements SelectionOperator {
    */
   abstract void selectAll(double[] normalizedWeights, int[] selected);
 
-  /*
-   * package private for use by subclasses in same package
-   */
-  final int[] sortedIndexes(PopulationFitnessVector.Integer fitnesses) {
-    int[] indexes = new int[fitnesses.size()];
-    for (int i = 0; i < indexes.length; i++) {
-      indexes[i] = i;
-    }
-    sort(indexes, fitnesses, 0, indexes.length - 1);
-    return indexes;
-  }
-
-  /*
-   * package private for use by subclasses in same package
-   */
-  final int[] sortedIndexes(PopulationFitnessVector.Double fitnesses) {
-    int[] indexes = new int[fitnesses.size()];
-    for (int i = 0; i < indexes.length; i++) {
-      indexes[i] = i;
-    }
-    sort(indexes, fitnesses, 0, indexes.length - 1);
-    return indexes;
-  }
-
   private double[] normalizeWeights(double[] weights) {
     double total = weights[weights.length - 1];
     weights[weights.length - 1] = 1.0;
@@ -144,72 +104,4 @@ abstract class AbstractWeightedSelection implements SelectionOperator {
     }
     return weights;
   }
-
-  private void sort(int[] indexes, PopulationFitnessVector.Double fitnesses, int first, int last) {
-    if (first < last) {
-      int mid = (first + last) >> 1;
-      sort(indexes, fitnesses, first, mid);
-      sort(indexes, fitnesses, mid + 1, last);
-      merge(indexes, fitnesses, first, mid, last);
-    }
-  }
-
-  private void sort(int[] indexes, PopulationFitnessVector.Integer fitnesses, int first, int last) {
-    if (first < last) {
-      int mid = (first + last) >> 1;
-      sort(indexes, fitnesses, first, mid);
-      sort(indexes, fitnesses, mid + 1, last);
-      merge(indexes, fitnesses, first, mid, last);
-    }
-  }
-
-  private void merge(
-      int[] indexes, PopulationFitnessVector.Double fitnesses, int first, int mid, int last) {
-    int[] left = new int[mid - first + 1];
-    int[] right = new int[last - mid];
-    System.arraycopy(indexes, first, left, 0, left.length);
-    System.arraycopy(indexes, mid + 1, right, 0, right.length);
-    int i = 0;
-    int j = 0;
-    int k = first;
-    for (; i < left.length && j < right.length; k++) {
-      if (fitnesses.getFitness(left[i]) <= fitnesses.getFitness(right[j])) {
-        indexes[k] = left[i];
-        i++;
-      } else {
-        indexes[k] = right[j];
-        j++;
-      }
-    }
-    if (i < left.length) {
-      System.arraycopy(left, i, indexes, k, left.length - i);
-    } else {
-      System.arraycopy(right, j, indexes, k, right.length - j);
-    }
-  }
-
-  private void merge(
-      int[] indexes, PopulationFitnessVector.Integer fitnesses, int first, int mid, int last) {
-    int[] left = new int[mid - first + 1];
-    int[] right = new int[last - mid];
-    System.arraycopy(indexes, first, left, 0, left.length);
-    System.arraycopy(indexes, mid + 1, right, 0, right.length);
-    int i = 0;
-    int j = 0;
-    int k = first;
-    for (; i < left.length && j < right.length; k++) {
-      if (fitnesses.getFitness(left[i]) <= fitnesses.getFitness(right[j])) {
-        indexes[k] = left[i];
-        i++;
-      } else {
-        indexes[k] = right[j];
-        j++;
-      }
-    }
-    if (i < left.length) {
-      System.arraycopy(left, i, indexes, k, left.length - i);
-    } else {
-      System.arraycopy(right, j, indexes, k, right.length - j);
-    }
-  }
 }
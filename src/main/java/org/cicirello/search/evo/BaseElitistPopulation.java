@@ -24,6 +24,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Objects;
 import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.Checkpointable;
+import org.cicirello.search.checkpoint.SolutionCodec;
 import org.cicirello.search.operators.Initializer;
 import org.cicirello.util.Copyable;
 
@@ -61,6 +65,9 @@ abstract class BaseElitistPopulation {
     private final int LAMBDA;
 
     private final int[] selected;
+    private final CandidateReferenceCounts shared;
+    private final DoubleFitnessBatch<T> batch;
+    private final boolean batched;
 
     private double bestFitness;
 
@@ -105,6 +112,9 @@ abstract class BaseElitistPopulation {
       pop = new ArrayList<PopulationMember.DoubleFitness<T>>(MU);
       nextPop = new ArrayList<PopulationMember.DoubleFitness<T>>(LAMBDA);
       selected = new int[LAMBDA];
+      shared = new CandidateReferenceCounts(LAMBDA);
+      batch = new DoubleFitnessBatch<T>(LAMBDA);
+      batched = f.prefersBatches();
       updated = new boolean[LAMBDA];
       bestFitness = java.lang.Double.NEGATIVE_INFINITY;
     }
@@ -119,6 +129,7 @@ abstract class BaseElitistPopulation {
       f = other.f;
       MU = other.MU;
       LAMBDA = other.LAMBDA;
+      batched = other.batched;
 
       // split these: not threadsafe
       initializer = other.initializer.split();
@@ -129,6 +140,8 @@ abstract class BaseElitistPopulation {
       nextPop = new ArrayList<PopulationMember.DoubleFitness<T>>(LAMBDA);
       elite = new EliteSetDoubleFitness<T>(MU - LAMBDA);
       selected = new int[LAMBDA];
+      shared = new CandidateReferenceCounts(LAMBDA);
+      batch = new DoubleFitnessBatch<T>(LAMBDA);
       updated = new boolean[LAMBDA];
       bestFitness = java.lang.Double.NEGATIVE_INFINITY;
     }
@@ -140,6 +153,7 @@ abstract class BaseElitistPopulation {
 
     @Override
     public T get(int i) {
+      claim(i);
       return nextPop.get(i).getCandidate();
     }
 
@@ -171,6 +185,15 @@ abstract class BaseElitistPopulation {
 
     @Override
     public void updateFitness(int i) {
+      if (batched) {
+        // Evaluation is deferred to replace(), where the generation's changed members are
+        // evaluated together as a batch, each only once.
+        if (!updated[i]) {
+          batch.add(i);
+        }
+        updated[i] = true;
+        return;
+      }
       double fit = f.fitness(nextPop.get(i).getCandidate());
       nextPop.get(i).setFitness(fit);
       updated[i] = true;
@@ -183,13 +206,21 @@ abstract class BaseElitistPopulation {
     @Override
     public void select() {
       selection.select(this, selected);
+      // Copy-on-write: candidates are shared until get(i) claims them for modification.
+      shared.select(selected, pop.size());
       for (int j : selected) {
-        nextPop.add(pop.get(j).copy());
+        nextPop.add(pop.get(j).shallowCopy());
       }
     }
 
     @Override
     public void replace() {
+      evaluateBatch();
+      // Members that were never modified may still share candidates with each other or with
+      // the elite set.
+      for (int i = 0; i < nextPop.size(); i++) {
+        claim(i);
+      }
       pop.clear();
       for (PopulationMember.DoubleFitness<T> e : nextPop) {
         pop.add(e);
@@ -208,6 +239,103 @@ abstract class BaseElitistPopulation {
       nextPop.clear();
     }
 
+    /*
+     * Evaluates the members of the next generation whose fitnesses were updated,
+     * and updates the most fit.
+     */
+    private void evaluateBatch() {
+      if (batch.size() > 0) {
+        double[] fits = batch.evaluate(f, nextPop);
+        int best = -1;
+        for (int k = 0; k < batch.size(); k++) {
+          if (fits[k] > bestFitness) {
+            bestFitness = fits[k];
+            best = batch.index(k);
+          }
+        }
+        batch.clear();
+        if (best >= 0) {
+          setMostFit(f.getProblem().getSolutionCostPair(nextPop.get(best).getCandidate().copy()));
+        }
+      }
+    }
+
+    /*
+     * Makes member i of the next generation the exclusive owner of its candidate,
+     * copying the candidate only if it is still shared by another member or by
+     * the elite set. Elite members are never modified in place.
+     */
+    private void claim(int i) {
+      if (!shared.isClaimed(i)) {
+        if (shared.claim(i) || elite.containsCandidate(nextPop.get(i).getCandidate())) {
+          nextPop.set(i, nextPop.get(i).copy());
+        }
+      }
+    }
+
+    @Override
+    public boolean supportsCheckpoints() {
+      return true;
+    }
+
+    @Override
+    public void writeCheckpoint(CheckpointWriter out, SolutionCodec<T> codec) {
+      // whether the fitnesses are of type int
+      out.putBoolean(false);
+      double[] fits = new double[pop.size()];
+      for (int i = 0; i < fits.length; i++) {
+        fits[i] = pop.get(i).getFitness();
+      }
+      out.putDoubleArray(fits);
+      for (PopulationMember.DoubleFitness<T> member : pop) {
+        codec.write(member.getCandidate(), out);
+      }
+      // The elite are members of the population, so are written as their indexes.
+      int[] eliteIndexes = new int[MU - LAMBDA];
+      int k = 0;
+      for (PopulationMember.DoubleFitness<T> e : elite) {
+        int i = 0;
+        while (pop.get(i) != e) {
+          i++;
+        }
+        eliteIndexes[k] = i;
+        k++;
+      }
+      out.putIntArray(Arrays.copyOf(eliteIndexes, k));
+      out.putDouble(bestFitness);
+      codec.write(getMostFit().getSolution(), out);
+      if (selection instanceof Checkpointable c) {
+        c.writeCheckpoint(out);
+      }
+    }
+
+    @Override
+    public void readCheckpoint(CheckpointReader in, SolutionCodec<T> codec) {
+      if (in.getBoolean() != false) {
+        throw new IllegalArgumentException("checkpoint is for a population with int fitnesses");
+      }
+      double[] fits = in.getDoubleArray();
+      if (fits.length < 1 || fits.length > MU) {
+        throw new IllegalArgumentException("checkpoint is for a population of a different size");
+      }
+      pop.clear();
+      nextPop.clear();
+      batch.clear();
+      Arrays.fill(updated, false);
+      for (double fit : fits) {
+        pop.add(new PopulationMember.DoubleFitness<T>(codec.read(in), fit));
+      }
+      elite.clear();
+      for (int i : in.getIntArray()) {
+        elite.offer(pop.get(i));
+      }
+      bestFitness = in.getDouble();
+      setMostFit(f.getProblem().getSolutionCostPair(codec.read(in)));
+      if (selection instanceof Checkpointable c) {
+        c.readCheckpoint(in);
+      }
+    }
+
     @Override
     public void initOperators(int generations) {
       selection.init(generations);
@@ -219,13 +347,18 @@ abstract class BaseElitistPopulation {
       bestFitness = java.lang.Double.NEGATIVE_INFINITY;
       pop.clear();
       nextPop.clear();
+      batch.clear();
+      ArrayList<T> initial = new ArrayList<T>(MU);
+      for (int i = 0; i < MU; i++) {
+        initial.add(initializer.createCandidateSolution());
+      }
+      double[] fits = batch.evaluateAll(f, initial);
       T newBest = null;
       for (int i = 0; i < MU; i++) {
-        T c = initializer.createCandidateSolution();
-        double fit = f.fitness(c);
-        pop.add(new PopulationMember.DoubleFitness<T>(c, fit));
-        if (fit > bestFitness) {
-          bestFitness = fit;
+        T c = initial.get(i);
+        pop.add(new PopulationMember.DoubleFitness<T>(c, fits[i]));
+        if (fits[i] > bestFitness) {
+          bestFitness = fits[i];
           newBest = c;
         }
       }
@@ -260,6 +393,7 @@ abstract class BaseElitistPopulation {
     private final int LAMBDA;
 
     private final int[] selected;
+    private final CandidateReferenceCounts shared;
 
     private int bestFitness;
 
@@ -304,6 +438,7 @@ abstract class BaseElitistPopulation {
       pop = new ArrayList<PopulationMember.IntegerFitness<T>>(MU);
       nextPop = new ArrayList<PopulationMember.IntegerFitness<T>>(LAMBDA);
       selected = new int[LAMBDA];
+      shared = new CandidateReferenceCounts(LAMBDA);
       updated = new boolean[LAMBDA];
       bestFitness = java.lang.Integer.MIN_VALUE;
     }
@@ -328,6 +463,7 @@ abstract class BaseElitistPopulation {
       nextPop = new ArrayList<PopulationMember.IntegerFitness<T>>(LAMBDA);
       elite = new EliteSetIntegerFitness<T>(MU - LAMBDA);
       selected = new int[LAMBDA];
+      shared = new CandidateReferenceCounts(LAMBDA);
       updated = new boolean[LAMBDA];
       bestFitness = java.lang.Integer.MIN_VALUE;
     }
@@ -339,6 +475,7 @@ abstract class BaseElitistPopulation {
 
     @Override
     public T get(int i) {
+      claim(i);
       return nextPop.get(i).getCandidate();
     }
 
@@ -382,13 +519,20 @@ abstract class BaseElitistPopulation {
     @Override
     public void select() {
       selection.select(this, selected);
+      // Copy-on-write: candidates are shared until get(i) claims them for modification.
+      shared.select(selected, pop.size());
       for (int j : selected) {
-        nextPop.add(pop.get(j).copy());
+        nextPop.add(pop.get(j).shallowCopy());
       }
     }
 
     @Override
     public void replace() {
+      // Members that were never modified may still share candidates with each other or with
+      // the elite set.
+      for (int i = 0; i < nextPop.size(); i++) {
+        claim(i);
+      }
       pop.clear();
       for (PopulationMember.IntegerFitness<T> e : nextPop) {
         pop.add(e);
@@ -406,6 +550,81 @@ abstract class BaseElitistPopulation {
       nextPop.clear();
     }
 
+    /*
+     * Makes member i of the next generation the exclusive owner of its candidate,
+     * copying the candidate only if it is still shared by another member or by
+     * the elite set. Elite members are never modified in place.
+     */
+    private void claim(int i) {
+      if (!shared.isClaimed(i)) {
+        if (shared.claim(i) || elite.containsCandidate(nextPop.get(i).getCandidate())) {
+          nextPop.set(i, nextPop.get(i).copy());
+        }
+      }
+    }
+
+    @Override
+    public boolean supportsCheckpoints() {
+      return true;
+    }
+
+    @Override
+    public void writeCheckpoint(CheckpointWriter out, SolutionCodec<T> codec) {
+      // whether the fitnesses are of type int
+      out.putBoolean(true);
+      int[] fits = new int[pop.size()];
+      for (int i = 0; i < fits.length; i++) {
+        fits[i] = pop.get(i).getFitness();
+      }
+      out.putIntArray(fits);
+      for (PopulationMember.IntegerFitness<T> member : pop) {
+        codec.write(member.getCandidate(), out);
+      }
+      // The elite are members of the population, so are written as their indexes.
+      int[] eliteIndexes = new int[MU - LAMBDA];
+      int k = 0;
+      for (PopulationMember.IntegerFitness<T> e : elite) {
+        int i = 0;
+        while (pop.get(i) != e) {
+          i++;
+        }
+        eliteIndexes[k] = i;
+        k++;
+      }
+      out.putIntArray(Arrays.copyOf(eliteIndexes, k));
+      out.putInt(bestFitness);
+      codec.write(getMostFit().getSolution(), out);
+      if (selection instanceof Checkpointable c) {
+        c.writeCheckpoint(out);
+      }
+    }
+
+    @Override
+    public void readCheckpoint(CheckpointReader in, SolutionCodec<T> codec) {
+      if (in.getBoolean() != true) {
+        throw new IllegalArgumentException("checkpoint is for a population with double fitnesses");
+      }
+      int[] fits = in.getIntArray();
+      if (fits.length < 1 || fits.length > MU) {
+        throw new IllegalArgumentException("checkpoint is for a population of a different size");
+      }
+      pop.clear();
+      nextPop.clear();
+      Arrays.fill(updated, false);
+      for (int fit : fits) {
+        pop.add(new PopulationMember.IntegerFitness<T>(codec.read(in), fit));
+      }
+      elite.clear();
+      for (int i : in.getIntArray()) {
+        elite.offer(pop.get(i));
+      }
+      bestFitness = in.getInt();
+      setMostFit(f.getProblem().getSolutionCostPair(codec.read(in)));
+      if (selection instanceof Checkpointable c) {
+        c.readCheckpoint(in);
+      }
+    }
+
     @Override
     public void initOperators(int generations) {
       selection.init(generations);
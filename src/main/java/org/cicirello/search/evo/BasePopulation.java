@@ -21,8 +21,13 @@
 package org.cicirello.search.evo;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Objects;
 import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.Checkpointable;
+import org.cicirello.search.checkpoint.SolutionCodec;
 import org.cicirello.search.operators.Initializer;
 import org.cicirello.util.Copyable;
 
@@ -57,6 +62,9 @@ abstract class BasePopulation {
     private final int MU;
 
     private final int[] selected;
+    private final CandidateReferenceCounts shared;
+    private final DoubleFitnessBatch<T> batch;
+    private final boolean batched;
 
     private double bestFitness;
 
@@ -89,6 +97,9 @@ abstract class BasePopulation {
       pop = new ArrayList<PopulationMember.DoubleFitness<T>>(MU);
       nextPop = new ArrayList<PopulationMember.DoubleFitness<T>>(MU);
       selected = new int[MU];
+      shared = new CandidateReferenceCounts(MU);
+      batch = new DoubleFitnessBatch<T>(MU);
+      batched = f.prefersBatches();
       updated = new boolean[MU];
       bestFitness = java.lang.Double.NEGATIVE_INFINITY;
     }
@@ -102,6 +113,7 @@ abstract class BasePopulation {
       // these are threadsafe, so just copy references
       f = other.f;
       MU = other.MU;
+      batched = other.batched;
 
       // split these: not threadsafe
       initializer = other.initializer.split();
@@ -111,6 +123,8 @@ abstract class BasePopulation {
       pop = new ArrayList<PopulationMember.DoubleFitness<T>>(MU);
       nextPop = new ArrayList<PopulationMember.DoubleFitness<T>>(MU);
       selected = new int[MU];
+      shared = new CandidateReferenceCounts(MU);
+      batch = new DoubleFitnessBatch<T>(MU);
       updated = new boolean[MU];
       bestFitness = java.lang.Double.NEGATIVE_INFINITY;
     }
@@ -122,6 +136,7 @@ abstract class BasePopulation {
 
     @Override
     public T get(int i) {
+      claim(i);
       return nextPop.get(i).getCandidate();
     }
 
@@ -153,6 +168,15 @@ abstract class BasePopulation {
 
     @Override
     public void updateFitness(int i) {
+      if (batched) {
+        // Evaluation is deferred to replace(), where the generation's changed members are
+        // evaluated together as a batch, each only once.
+        if (!updated[i]) {
+          batch.add(i);
+        }
+        updated[i] = true;
+        return;
+      }
       double fit = f.fitness(nextPop.get(i).getCandidate());
       nextPop.get(i).setFitness(fit);
       updated[i] = true;
@@ -165,13 +189,20 @@ abstract class BasePopulation {
     @Override
     public void select() {
       selection.select(this, selected);
+      // Copy-on-write: candidates are shared until get(i) claims them for modification.
+      shared.select(selected, pop.size());
       for (int j : selected) {
-        nextPop.add(pop.get(j).copy());
+        nextPop.add(pop.get(j).shallowCopy());
       }
     }
 
     @Override
     public void replace() {
+      evaluateBatch();
+      // Members that were never modified may still share candidates with each other.
+      for (int i = 0; i < nextPop.size(); i++) {
+        claim(i);
+      }
       pop.clear();
       for (PopulationMember.DoubleFitness<T> e : nextPop) {
         pop.add(e);
@@ -179,6 +210,85 @@ abstract class BasePopulation {
       nextPop.clear();
     }
 
+    /*
+     * Evaluates the members of the next generation whose fitnesses were updated,
+     * and updates the most fit.
+     */
+    private void evaluateBatch() {
+      if (batch.size() > 0) {
+        double[] fits = batch.evaluate(f, nextPop);
+        int best = -1;
+        for (int k = 0; k < batch.size(); k++) {
+          updated[batch.index(k)] = false;
+          if (fits[k] > bestFitness) {
+            bestFitness = fits[k];
+            best = batch.index(k);
+          }
+        }
+        batch.clear();
+        if (best >= 0) {
+          setMostFit(f.getProblem().getSolutionCostPair(nextPop.get(best).getCandidate().copy()));
+        }
+      }
+    }
+
+    /*
+     * Makes member i of the next generation the exclusive owner of its candidate,
+     * copying the candidate only if it is still shared by another member.
+     */
+    private void claim(int i) {
+      if (shared.claim(i)) {
+        nextPop.set(i, nextPop.get(i).copy());
+      }
+    }
+
+    @Override
+    public boolean supportsCheckpoints() {
+      return true;
+    }
+
+    @Override
+    public void writeCheckpoint(CheckpointWriter out, SolutionCodec<T> codec) {
+      // whether the fitnesses are of type int
+      out.putBoolean(false);
+      double[] fits = new double[pop.size()];
+      for (int i = 0; i < fits.length; i++) {
+        fits[i] = pop.get(i).getFitness();
+      }
+      out.putDoubleArray(fits);
+      for (PopulationMember.DoubleFitness<T> member : pop) {
+        codec.write(member.getCandidate(), out);
+      }
+      out.putDouble(bestFitness);
+      codec.write(getMostFit().getSolution(), out);
+      if (selection instanceof Checkpointable c) {
+        c.writeCheckpoint(out);
+      }
+    }
+
+    @Override
+    public void readCheckpoint(CheckpointReader in, SolutionCodec<T> codec) {
+      if (in.getBoolean() != false) {
+        throw new IllegalArgumentException("checkpoint is for a population with int fitnesses");
+      }
+      double[] fits = in.getDoubleArray();
+      if (fits.length != MU) {
+        throw new IllegalArgumentException("checkpoint is for a population of a different size");
+      }
+      pop.clear();
+      nextPop.clear();
+      batch.clear();
+      Arrays.fill(updated, false);
+      for (double fit : fits) {
+        pop.add(new PopulationMember.DoubleFitness<T>(codec.read(in), fit));
+      }
+      bestFitness = in.getDouble();
+      setMostFit(f.getProblem().getSolutionCostPair(codec.read(in)));
+      if (selection instanceof Checkpointable c) {
+        c.readCheckpoint(in);
+      }
+    }
+
     @Override
     public void initOperators(int generations) {
       selection.init(generations);
@@ -190,13 +300,19 @@ abstract class BasePopulation {
       bestFitness = java.lang.Double.NEGATIVE_INFINITY;
       pop.clear();
       nextPop.clear();
+      batch.clear();
+      Arrays.fill(updated, false);
+      ArrayList<T> initial = new ArrayList<T>(MU);
+      for (int i = 0; i < MU; i++) {
+        initial.add(initializer.createCandidateSolution());
+      }
+      double[] fits = batch.evaluateAll(f, initial);
       T newBest = null;
       for (int i = 0; i < MU; i++) {
-        T c = initializer.createCandidateSolution();
-        double fit = f.fitness(c);
-        pop.add(new PopulationMember.DoubleFitness<T>(c, fit));
-        if (fit > bestFitness) {
-          bestFitness = fit;
+        T c = initial.get(i);
+        pop.add(new PopulationMember.DoubleFitness<T>(c, fits[i]));
+        if (fits[i] > bestFitness) {
+          bestFitness = fits[i];
           newBest = c;
         }
       }
@@ -225,6 +341,7 @@ abstract class BasePopulation {
     private final int MU;
 
     private final int[] selected;
+    private final CandidateReferenceCounts shared;
 
     private int bestFitness;
 
@@ -258,6 +375,7 @@ abstract class BasePopulation {
       pop = new ArrayList<PopulationMember.IntegerFitness<T>>(MU);
       nextPop = new ArrayList<PopulationMember.IntegerFitness<T>>(MU);
       selected = new int[MU];
+      shared = new CandidateReferenceCounts(MU);
       updated = new boolean[MU];
       bestFitness = java.lang.Integer.MIN_VALUE;
     }
@@ -280,6 +398,7 @@ abstract class BasePopulation {
       pop = new ArrayList<PopulationMember.IntegerFitness<T>>(MU);
       nextPop = new ArrayList<PopulationMember.IntegerFitness<T>>(MU);
       selected = new int[MU];
+      shared = new CandidateReferenceCounts(MU);
       updated = new boolean[MU];
       bestFitness = java.lang.Integer.MIN_VALUE;
     }
@@ -291,6 +410,7 @@ abstract class BasePopulation {
 
     @Override
     public T get(int i) {
+      claim(i);
       return nextPop.get(i).getCandidate();
     }
 
@@ -334,13 +454,19 @@ abstract class BasePopulation {
     @Override
     public void select() {
       selection.select(this, selected);
+      // Copy-on-write: candidates are shared until get(i) claims them for modification.
+      shared.select(selected, pop.size());
       for (int j : selected) {
-        nextPop.add(pop.get(j).copy());
+        nextPop.add(pop.get(j).shallowCopy());
       }
     }
 
     @Override
     public void replace() {
+      // Members that were never modified may still share candidates with each other.
+      for (int i = 0; i < nextPop.size(); i++) {
+        claim(i);
+      }
       pop.clear();
       for (PopulationMember.IntegerFitness<T> e : nextPop) {
         pop.add(e);
@@ -348,6 +474,62 @@ abstract class BasePopulation {
       nextPop.clear();
     }
 
+    /*
+     * Makes member i of the next generation the exclusive owner of its candidate,
+     * copying the candidate only if it is still shared by another member.
+     */
+    private void claim(int i) {
+      if (shared.claim(i)) {
+        nextPop.set(i, nextPop.get(i).copy());
+      }
+    }
+
+    @Override
+    public boolean supportsCheckpoints() {
+      return true;
+    }
+
+    @Override
+    public void writeCheckpoint(CheckpointWriter out, SolutionCodec<T> codec) {
+      // whether the fitnesses are of type int
+      out.putBoolean(true);
+      int[] fits = new int[pop.size()];
+      for (int i = 0; i < fits.length; i++) {
+        fits[i] = pop.get(i).getFitness();
+      }
+      out.putIntArray(fits);
+      for (PopulationMember.IntegerFitness<T> member : pop) {
+        codec.write(member.getCandidate(), out);
+      }
+      out.putInt(bestFitness);
+      codec.write(getMostFit().getSolution(), out);
+      if (selection instanceof Checkpointable c) {
+        c.writeCheckpoint(out);
+      }
+    }
+
+    @Override
+    public void readCheckpoint(CheckpointReader in, SolutionCodec<T> codec) {
+      if (in.getBoolean() != true) {
+        throw new IllegalArgumentException("checkpoint is for a population with double fitnesses");
+      }
+      int[] fits = in.getIntArray();
+      if (fits.length != MU) {
+        throw new IllegalArgumentException("checkpoint is for a population of a different size");
+      }
+      pop.clear();
+      nextPop.clear();
+      Arrays.fill(updated, false);
+      for (int fit : fits) {
+        pop.add(new PopulationMember.IntegerFitness<T>(codec.read(in), fit));
+      }
+      bestFitness = in.getInt();
+      setMostFit(f.getProblem().getSolutionCostPair(codec.read(in)));
+      if (selection instanceof Checkpointable c) {
+        c.readCheckpoint(in);
+      }
+    }
+
     @Override
     public void initOperators(int generations) {
       selection.init(generations);
@@ -0,0 +1,95 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.evo;
+
+/**
+ * This class implements a variation of fitness proportional selection that applies a bias function
+ * to transform the fitness values, using Vose's alias method. In this biased fitness proportional
+ * selection, a member of the population is chosen randomly with probability proportional to a bias
+ * function of its fitness relative to the total of such biased fitness of the population. For
+ * example, if the fitness of population member i is f<sub>i</sub>, then the probability of
+ * selecting population member i is: bias(f<sub>i</sub>) / &sum;<sub>j</sub> bias(f<sub>j</sub>),
+ * for j &isin; { 1, 2, ..., N }, where N is the population size, and bias is a bias function.
+ *
+ * <p>The distribution over selected population members is identical to that of the {@link
+ * BiasedFitnessProportionalSelection} class, but each selection is made in constant time from an
+ * alias table, rather than by a binary search over a running sum of biased fitnesses. See the
+ * {@link AliasMethodSelection} class for more detail.
+ *
+ * <p><b>This selection operator requires positive fitness values. Behavior is undefined if any
+ * fitness values are less than or equal to 0.</b> If your fitness values may be negative, you can
+ * use {@link FitnessShifter}, which transforms fitness values such that minimum fitness equals 1.
+ *
+ * <p>The runtime to select M population members from a population of size N is O(N + M), assuming
+ * the bias function has a constant runtime.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public class BiasedAliasMethodSelection extends AliasMethodSelection {
+
+  private final FitnessBiasFunction bias;
+
+  /**
+   * Construct a biased fitness proportional selection operator that uses the alias method.
+   *
+   * @param bias A bias function
+   */
+  public BiasedAliasMethodSelection(FitnessBiasFunction bias) {
+    this.bias = bias;
+  }
+
+  /* package private for use by subclasses in same package */
+  BiasedAliasMethodSelection(BiasedAliasMethodSelection other) {
+    super(other);
+
+    // The FitnessBiasFunction interface's contract is that implementations
+    // must be threadsafe and thread efficient, so just copy reference.
+    bias = other.bias;
+  }
+
+  @Override
+  public BiasedAliasMethodSelection split() {
+    return new BiasedAliasMethodSelection(this);
+  }
+
+  @Override
+  double computeWeights(PopulationFitnessVector.Integer fitnesses, double[] weights) {
+    final int n = fitnesses.size();
+    double total = 0;
+    for (int i = 0; i < n; i++) {
+      weights[i] = bias.bias(fitnesses.getFitness(i));
+      total += weights[i];
+    }
+    return total;
+  }
+
+  @Override
+  double computeWeights(PopulationFitnessVector.Double fitnesses, double[] weights) {
+    final int n = fitnesses.size();
+    double total = 0;
+    for (int i = 0; i < n; i++) {
+      weights[i] = bias.bias(fitnesses.getFitness(i));
+      total += weights[i];
+    }
+    return total;
+  }
+}
@@ -20,6 +20,9 @@
 
 package org.cicirello.search.evo;
 
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.Checkpointable;
 import org.cicirello.search.concurrent.Splittable;
 
 /**
@@ -29,7 +32,7 @@ import org.cicirello.search.concurrent.Splittable;
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
 abstract class BoltzmannBiasFunction
-    implements FitnessBiasFunction, Splittable<BoltzmannBiasFunction> {
+    implements FitnessBiasFunction, Splittable<BoltzmannBiasFunction>, Checkpointable {
 
   private double t;
 
@@ -60,6 +63,16 @@ abstract class BoltzmannBiasFunction
     t = nextT(t);
   }
 
+  @Override
+  public final void writeCheckpoint(CheckpointWriter out) {
+    out.putDouble(t);
+  }
+
+  @Override
+  public final void readCheckpoint(CheckpointReader in) {
+    t = in.getDouble();
+  }
+
   /** Gets the initial temperature for the schedule. */
   public abstract double getT0();
 
@@ -20,6 +20,10 @@
 
 package org.cicirello.search.evo;
 
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.Checkpointable;
+
 /**
  * This class implements Boltzmann selection. Boltzmann selection is similar to a fitness
  * proportional selection, except instead of a population member being weighted by its fitness f in
@@ -40,10 +44,14 @@ package org.cicirello.search.evo;
  * <p>The runtime to select M population members from a population of size N is O(N + M lg N),
  * assuming the bias function has a constant runtime.
  *
+ * <p>The current temperature is saved in, and restored from, checkpoints of an evolutionary
+ * algorithm.
+ *
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
-public final class BoltzmannSelection extends BiasedFitnessProportionalSelection {
+public final class BoltzmannSelection extends BiasedFitnessProportionalSelection
+    implements Checkpointable {
 
   private final BoltzmannBiasFunction boltzmann;
 
@@ -100,6 +108,16 @@ public final class BoltzmannSelection extends BiasedFitnessProportionalSelection
     boltzmann.init();
   }
 
+  @Override
+  public void writeCheckpoint(CheckpointWriter out) {
+    boltzmann.writeCheckpoint(out);
+  }
+
+  @Override
+  public void readCheckpoint(CheckpointReader in) {
+    boltzmann.readCheckpoint(in);
+  }
+
   @Override
   public BoltzmannSelection split() {
     return new BoltzmannSelection(this);
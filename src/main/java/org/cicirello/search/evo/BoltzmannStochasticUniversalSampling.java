@@ -20,6 +20,10 @@
 
 package org.cicirello.search.evo;
 
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.Checkpointable;
+
 /**
  * This class implements Boltzmann selection using Stochastic Universal Sampling (SUS). Boltzmann
  * selection is similar to a fitness proportional selection, except instead of a population member
@@ -57,10 +61,14 @@ package org.cicirello.search.evo;
  * <p>For the basic version of Boltzmann selection, see the {@link BoltzmannSelection} class. And
  * for the standard version of SUS, see the {@link StochasticUniversalSampling} class.
  *
+ * <p>The current temperature is saved in, and restored from, checkpoints of an evolutionary
+ * algorithm.
+ *
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
-public final class BoltzmannStochasticUniversalSampling extends BiasedStochasticUniversalSampling {
+public final class BoltzmannStochasticUniversalSampling extends BiasedStochasticUniversalSampling
+    implements Checkpointable {
 
   private final BoltzmannBiasFunction boltzmann;
 
@@ -118,6 +126,16 @@ public final class BoltzmannStochasticUniversalSampling extends BiasedStochastic
     boltzmann.init();
   }
 
+  @Override
+  public void writeCheckpoint(CheckpointWriter out) {
+    boltzmann.writeCheckpoint(out);
+  }
+
+  @Override
+  public void readCheckpoint(CheckpointReader in) {
+    boltzmann.readCheckpoint(in);
+  }
+
   @Override
   public BoltzmannStochasticUniversalSampling split() {
     return new BoltzmannStochasticUniversalSampling(this);
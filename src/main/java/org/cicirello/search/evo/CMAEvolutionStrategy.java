@@ -0,0 +1,659 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.evo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.cicirello.math.rand.EnhancedSplittableGenerator;
+import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.ReoptimizableMetaheuristic;
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.internal.RandomnessFactory;
+import org.cicirello.search.operators.Initializer;
+import org.cicirello.search.problems.OptimizationProblem;
+import org.cicirello.search.problems.Problem;
+import org.cicirello.search.representations.RealVector;
+
+/**
+ * This class implements the covariance matrix adaptation evolution strategy (CMA-ES), specifically
+ * the (&mu;/&mu;<sub>w</sub>, &lambda;)-CMA-ES, with restarts with increasing population size
+ * (IPOP-CMA-ES), for optimizing functions over vectors of real values.
+ *
+ * <p>Each generation, the CMA-ES samples &lambda; offspring from a multivariate normal distribution
+ * whose mean is the current estimate of the optimum, and whose covariance matrix is
+ * &sigma;<sup>2</sup>C, where &sigma; is the step size. The mean moves to a weighted average of the
+ * &mu; = &lfloor;&lambda;/2&rfloor; best offspring; the covariance matrix C is adapted from the
+ * successful steps, via both the rank-one update along the evolution path and the rank-&mu; update;
+ * and the step size is adapted via cumulative step-size adaptation. By learning the shape of the
+ * cost function, the CMA-ES is invariant to rotations and scalings of the search space, and needs
+ * far fewer cost function evaluations than mutation-based evolutionary algorithms on
+ * ill-conditioned and non-separable functions. The strategy parameters (weights, learning rates,
+ * and damping) are set to the defaults recommended by Hansen in "The CMA Evolution Strategy: A
+ * Tutorial" (arXiv:1604.00772).
+ *
+ * <p>When the strategy stagnates, such as when the range of the recent costs becomes negligible,
+ * when the step size becomes negligible relative to its initial value, or when the covariance
+ * matrix becomes ill-conditioned, the CMA-ES restarts from a new random mean with its population
+ * size &lambda; doubled, following Auger and Hansen's IPOP-CMA-ES, until the evaluation budget of
+ * the run is exhausted. The initial population size defaults to 4 + &lfloor;3 ln n&rfloor;, where n
+ * is the length of the vector.
+ *
+ * <p>The &lambda; offspring of each generation are evaluated in parallel by the threads of a {@link
+ * ForkJoinPool}, which defaults to the common pool. Each thread evaluates a subrange of the
+ * offspring via the problem's batch {@link OptimizationProblem#costs costs} method. The cost
+ * function of the problem is called concurrently by multiple threads, so it must be thread-safe,
+ * which is the case for all of the problems in this library. When the population is too small to
+ * benefit from parallelism, the offspring are evaluated by the calling thread.
+ *
+ * <p>The run length of this metaheuristic is the number of evaluations of the cost function. The
+ * vectors that it samples are created by copying a vector from the {@link Initializer}, so if the
+ * initializer creates vectors that enforce bounds, then the offspring are repaired to the bounds
+ * before they are evaluated, while the unrepaired steps are used to adapt the distribution.
+ *
+ * <p>This class implements {@link ReoptimizableMetaheuristic}, and so can be used with the {@link
+ * org.cicirello.search.restarts.Multistarter} and the {@link
+ * org.cicirello.search.concurrent.ParallelMetaheuristic}, among others.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public final class CMAEvolutionStrategy implements ReoptimizableMetaheuristic<RealVector> {
+
+  // Each generation splits the offspring into this many subranges per thread,
+  // to balance the load when some offspring are more costly to evaluate than others.
+  private static final int SUBRANGES_PER_THREAD = 4;
+
+  // IPOP-CMA-ES restart criteria and population size increase.
+  private static final int RESTART_POPULATION_FACTOR = 2;
+  private static final double TOL_FUN = 1e-12;
+  private static final double TOL_X = 1e-12;
+  private static final double MAX_CONDITION = 1e14;
+
+  private final OptimizationProblem<RealVector> problem;
+  private final Initializer<RealVector> initializer;
+  private final double initialSigma;
+  private final int initialLambda;
+  private final ForkJoinPool pool;
+  private final EnhancedSplittableGenerator generator;
+  private ProgressTracker<RealVector> tracker;
+  private long elapsedEvals;
+
+  /**
+   * Constructs a CMA-ES with the default initial population size, which evaluates offspring using
+   * the common {@link ForkJoinPool}. A {@link ProgressTracker} is created for you.
+   *
+   * @param problem An instance of an optimization problem to solve.
+   * @param initializer The source of random initial means, one for each restart.
+   * @param sigma The initial step size, which should be about one quarter to one half of the width
+   *     of the region of the search space expected to contain the optimum.
+   * @throws NullPointerException if any of the parameters are null
+   * @throws IllegalArgumentException if sigma is not positive
+   */
+  public CMAEvolutionStrategy(
+      OptimizationProblem<RealVector> problem, Initializer<RealVector> initializer, double sigma) {
+    this(problem, initializer, sigma, new ProgressTracker<RealVector>());
+  }
+
+  /**
+   * Constructs a CMA-ES with the default initial population size, which evaluates offspring using
+   * the common {@link ForkJoinPool}.
+   *
+   * @param problem An instance of an optimization problem to solve.
+   * @param initializer The source of random initial means, one for each restart.
+   * @param sigma The initial step size, which should be about one quarter to one half of the width
+   *     of the region of the search space expected to contain the optimum.
+   * @param tracker A ProgressTracker object, which is used to keep track of the best solution found
+   *     during the run, the time when it was found, and other related data.
+   * @throws NullPointerException if any of the parameters are null
+   * @throws IllegalArgumentException if sigma is not positive
+   */
+  public CMAEvolutionStrategy(
+      OptimizationProblem<RealVector> problem,
+      Initializer<RealVector> initializer,
+      double sigma,
+      ProgressTracker<RealVector> tracker) {
+    this(problem, initializer, tracker, ForkJoinPool.commonPool(), sigma, 0);
+  }
+
+  /**
+   * Constructs a CMA-ES, which evaluates offspring using the common {@link ForkJoinPool}.
+   *
+   * @param problem An instance of an optimization problem to solve.
+   * @param initializer The source of random initial means, one for each restart.
+   * @param sigma The initial step size, which should be about one quarter to one half of the width
+   *     of the region of the search space expected to contain the optimum.
+   * @param lambda The initial population size, which is doubled at each restart.
+   * @param tracker A ProgressTracker object, which is used to keep track of the best solution found
+   *     during the run, the time when it was found, and other related data.
+   * @throws NullPointerException if any of the parameters are null
+   * @throws IllegalArgumentException if sigma is not positive, or if lambda &lt; 2
+   */
+  public CMAEvolutionStrategy(
+      OptimizationProblem<RealVector> problem,
+      Initializer<RealVector> initializer,
+      double sigma,
+      int lambda,
+      ProgressTracker<RealVector> tracker) {
+    this(problem, initializer, sigma, lambda, tracker, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructs a CMA-ES, which evaluates offspring using a specified {@link ForkJoinPool}.
+   *
+   * @param problem An instance of an optimization problem to solve.
+   * @param initializer The source of random initial means, one for each restart.
+   * @param sigma The initial step size, which should be about one quarter to one half of the width
+   *     of the region of the search space expected to contain the optimum.
+   * @param lambda The initial population size, which is doubled at each restart.
+   * @param tracker A ProgressTracker object, which is used to keep track of the best solution found
+   *     during the run, the time when it was found, and other related data.
+   * @param pool The ForkJoinPool for evaluating offspring in parallel.
+   * @throws NullPointerException if any of the parameters are null
+   * @throws IllegalArgumentException if sigma is not positive, or if lambda &lt; 2
+   */
+  public CMAEvolutionStrategy(
+      OptimizationProblem<RealVector> problem,
+      Initializer<RealVector> initializer,
+      double sigma,
+      int lambda,
+      ProgressTracker<RealVector> tracker,
+      ForkJoinPool pool) {
+    this(problem, initializer, tracker, pool, sigma, validateLambda(lambda));
+  }
+
+  /*
+   * private constructor for use by the public constructors, where a lambda of 0
+   * specifies the default initial population size.
+   */
+  private CMAEvolutionStrategy(
+      OptimizationProblem<RealVector> problem,
+      Initializer<RealVector> initializer,
+      ProgressTracker<RealVector> tracker,
+      ForkJoinPool pool,
+      double sigma,
+      int lambda) {
+    if (!(sigma > 0)) {
+      throw new IllegalArgumentException("sigma must be positive");
+    }
+    this.problem = Objects.requireNonNull(problem);
+    this.initializer = Objects.requireNonNull(initializer);
+    this.tracker = Objects.requireNonNull(tracker);
+    this.pool = Objects.requireNonNull(pool);
+    initialSigma = sigma;
+    initialLambda = lambda;
+    generator = RandomnessFactory.createEnhancedSplittableGenerator();
+  }
+
+  /*
+   * private copy constructor in support of the split method.
+   */
+  private CMAEvolutionStrategy(CMAEvolutionStrategy other) {
+    // these are threadsafe, so just copy references
+    problem = other.problem;
+    pool = other.pool;
+    initialSigma = other.initialSigma;
+    initialLambda = other.initialLambda;
+
+    // this one must be shared.
+    tracker = other.tracker;
+
+    // split these: not threadsafe
+    initializer = other.initializer.split();
+    generator = other.generator.split();
+  }
+
+  /**
+   * Runs the IPOP-CMA-ES beginning at a random initial mean. The population size begins at its
+   * initial value, and is doubled at each restart within the run.
+   *
+   * @param maxEvals The maximum number of evaluations of the cost function.
+   * @return the best solution of this run and its cost, which may or may not be the same as the
+   *     solution contained in this instance's {@link ProgressTracker}, which contains the best of
+   *     all runs. Returns null if the run did not execute, such as if the ProgressTracker already
+   *     contains the theoretical best solution.
+   */
+  @Override
+  public SolutionCostPair<RealVector> optimize(int maxEvals) {
+    if (tracker.didFindBest() || tracker.isStopped()) return null;
+    return run(maxEvals, initializer.createCandidateSolution());
+  }
+
+  /**
+   * Runs the IPOP-CMA-ES with its initial mean at the best solution contained in the tracker,
+   * rather than at a random one. If no prior run had been performed, then this method begins at a
+   * random initial mean. The population size begins at its initial value, and is doubled at each
+   * restart within the run, each of which begins at a random mean.
+   *
+   * @param maxEvals The maximum number of evaluations of the cost function.
+   * @return the best solution of this run and its cost, which may or may not be the same as the
+   *     solution contained in this instance's {@link ProgressTracker}, which contains the best of
+   *     all runs. Returns null if the run did not execute, such as if the ProgressTracker already
+   *     contains the theoretical best solution.
+   */
+  @Override
+  public SolutionCostPair<RealVector> reoptimize(int maxEvals) {
+    if (tracker.didFindBest() || tracker.isStopped()) return null;
+    RealVector start = tracker.getSolution();
+    return run(maxEvals, start == null ? initializer.createCandidateSolution() : start.copy());
+  }
+
+  @Override
+  public Problem<RealVector> getProblem() {
+    return problem;
+  }
+
+  @Override
+  public ProgressTracker<RealVector> getProgressTracker() {
+    return tracker;
+  }
+
+  @Override
+  public void setProgressTracker(ProgressTracker<RealVector> tracker) {
+    if (tracker != null) this.tracker = tracker;
+  }
+
+  /**
+   * Gets the total number of evaluations of the cost function performed by this CMA-ES object
+   * across all calls to the optimize and reoptimize methods.
+   *
+   * @return the total number of evaluations
+   */
+  @Override
+  public long getTotalRunLength() {
+    return elapsedEvals;
+  }
+
+  @Override
+  public CMAEvolutionStrategy split() {
+    return new CMAEvolutionStrategy(this);
+  }
+
+  private SolutionCostPair<RealVector> run(int maxEvals, RealVector start) {
+    int n = start.length();
+    int lambda = initialLambda > 0 ? initialLambda : 4 + (int) (3 * Math.log(n));
+    double startCost = problem.cost(start);
+    int evals = 1;
+    BestOfRun best = new BestOfRun(start, startCost);
+    while (!tracker.didFindBest() && !tracker.isStopped() && maxEvals - evals >= lambda) {
+      Strategy strategy = new Strategy(start, lambda);
+      evals += strategy.evolve(maxEvals - evals, best);
+      lambda *= RESTART_POPULATION_FACTOR;
+      start = initializer.createCandidateSolution();
+    }
+    elapsedEvals += evals;
+    return new SolutionCostPair<RealVector>(best.solution, best.cost, problem.isMinCost(best.cost));
+  }
+
+  private static int validateLambda(int lambda) {
+    if (lambda < 2) {
+      throw new IllegalArgumentException("lambda must be at least 2");
+    }
+    return lambda;
+  }
+
+  private long subrangeSize(int lambda) {
+    int subranges = SUBRANGES_PER_THREAD * pool.getParallelism();
+    return Math.max(1, (lambda + subranges - 1) / subranges);
+  }
+
+  /*
+   * The best solution of a run, across its restarts.
+   */
+  private final class BestOfRun {
+    private RealVector solution;
+    private double cost;
+
+    private BestOfRun(RealVector solution, double cost) {
+      this.solution = solution.copy();
+      this.cost = cost;
+      if (cost < tracker.getCostDouble()) {
+        tracker.update(cost, solution, problem.isMinCost(cost));
+      }
+    }
+
+    private void offer(RealVector candidate, double candidateCost) {
+      if (candidateCost < cost) {
+        solution = candidate.copy();
+        cost = candidateCost;
+        if (cost < tracker.getCostDouble()) {
+          tracker.update(cost, solution, problem.isMinCost(cost));
+        }
+      }
+    }
+  }
+
+  /*
+   * The state of the CMA-ES between restarts.
+   */
+  private final class Strategy {
+
+    private final int n;
+    private final int lambda;
+    private final int mu;
+    private final double[] weights;
+    private final double mueff;
+    private final double cc;
+    private final double cs;
+    private final double c1;
+    private final double cmu;
+    private final double damps;
+    private final double chiN;
+    private final int eigenInterval;
+
+    private final double[] mean;
+    private double sigma;
+    private final double[][] c;
+    private final double[][] b;
+    private final double[] d;
+    private final double[] pc;
+    private final double[] ps;
+
+    private final ArrayList<RealVector> offspring;
+    private final double[][] y;
+    private final double[] costs;
+    private final Integer[] order;
+    private final Comparator<Integer> byCost;
+    private final double[] x;
+    private final double[] yw;
+    private final double[] temp;
+    private final double[][] eigenWork;
+
+    // Best cost of each of the most recent generations, for the TolFun criterion.
+    private final double[] history;
+
+    private Strategy(RealVector start, int lambda) {
+      n = start.length();
+      this.lambda = lambda;
+      mu = lambda / 2;
+      weights = new double[mu];
+      double sum = 0;
+      for (int i = 0; i < mu; i++) {
+        weights[i] = Math.log((lambda + 1) / 2.0) - Math.log(i + 1);
+        sum += weights[i];
+      }
+      double sumSquares = 0;
+      for (int i = 0; i < mu; i++) {
+        weights[i] /= sum;
+        sumSquares += weights[i] * weights[i];
+      }
+      mueff = 1.0 / sumSquares;
+      cc = (4 + mueff / n) / (n + 4 + 2 * mueff / n);
+      cs = (mueff + 2) / (n + mueff + 5);
+      c1 = 2 / ((n + 1.3) * (n + 1.3) + mueff);
+      cmu = Math.min(1 - c1, 2 * (mueff - 2 + 1 / mueff) / ((n + 2) * (n + 2) + mueff));
+      damps = 1 + 2 * Math.max(0, Math.sqrt((mueff - 1) / (n + 1)) - 1) + cs;
+      chiN = Math.sqrt(n) * (1 - 1.0 / (4 * n) + 1.0 / (21.0 * n * n));
+      // Decomposing C every generation is O(n^3), so it is deferred until the updates since the
+      // prior decomposition are significant.
+      eigenInterval = Math.max(1, (int) (1 / ((c1 + cmu) * n * 10)));
+
+      mean = start.toArray(null);
+      sigma = initialSigma;
+      c = new double[n][n];
+      b = new double[n][n];
+      d = new double[n];
+      for (int i = 0; i < n; i++) {
+        c[i][i] = 1;
+        b[i][i] = 1;
+        d[i] = 1;
+      }
+      pc = new double[n];
+      ps = new double[n];
+
+      offspring = new ArrayList<RealVector>(lambda);
+      for (int k = 0; k < lambda; k++) {
+        offspring.add(start.copy());
+      }
+      y = new double[lambda][n];
+      costs = new double[lambda];
+      order = new Integer[lambda];
+      for (int k = 0; k < lambda; k++) {
+        order[k] = k;
+      }
+      byCost = (i, j) -> Double.compare(costs[i], costs[j]);
+      x = new double[n];
+      yw = new double[n];
+      temp = new double[n];
+      eigenWork = new double[n][n];
+      history = new double[10 + (int) Math.ceil(30.0 * n / lambda)];
+    }
+
+    /*
+     * Evolves until a restart criterion is met, the budget is exhausted, or the
+     * search is stopped, and returns the number of evaluations.
+     */
+    private int evolve(int budget, BestOfRun best) {
+      int evals = 0;
+      int generation = 0;
+      while (budget - evals >= lambda) {
+        if (tracker.isStopped()) {
+          return evals;
+        }
+        if (generation > 0 && generation % eigenInterval == 0 && !decompose()) {
+          return evals;
+        }
+        sample();
+        evaluate();
+        evals += lambda;
+        generation++;
+        Arrays.sort(order, byCost);
+        best.offer(offspring.get(order[0]), costs[order[0]]);
+        if (tracker.didFindBest()) {
+          return evals;
+        }
+        adapt(generation);
+        history[generation % history.length] = costs[order[0]];
+        if (shouldRestart(generation)) {
+          return evals;
+        }
+      }
+      return evals;
+    }
+
+    private void sample() {
+      for (int k = 0; k < lambda; k++) {
+        for (int i = 0; i < n; i++) {
+          temp[i] = d[i] * generator.nextGaussian();
+        }
+        double[] yk = y[k];
+        for (int i = 0; i < n; i++) {
+          double sum = 0;
+          double[] bi = b[i];
+          for (int j = 0; j < n; j++) {
+            sum += bi[j] * temp[j];
+          }
+          yk[i] = sum;
+          x[i] = mean[i] + sigma * sum;
+        }
+        offspring.get(k).set(x);
+      }
+    }
+
+    private void evaluate() {
+      long size = subrangeSize(lambda);
+      if (size >= lambda) {
+        problem.costs(offspring, costs);
+      } else {
+        pool.invoke(new BatchEvaluation(offspring, costs, 0, lambda, (int) size));
+      }
+    }
+
+    private void adapt(int generation) {
+      // Recombination: the weighted mean of the steps of the mu best offspring.
+      Arrays.fill(yw, 0.0);
+      for (int r = 0; r < mu; r++) {
+        double w = weights[r];
+        double[] yr = y[order[r]];
+        for (int i = 0; i < n; i++) {
+          yw[i] += w * yr[i];
+        }
+      }
+      for (int i = 0; i < n; i++) {
+        mean[i] += sigma * yw[i];
+      }
+
+      // Cumulative step-size adaptation, with C^(-1/2) yw = B D^(-1) B^T yw.
+      for (int j = 0; j < n; j++) {
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+          sum += b[i][j] * yw[i];
+        }
+        temp[j] = sum / d[j];
+      }
+      double csFactor = Math.sqrt(cs * (2 - cs) * mueff);
+      double psNormSquared = 0;
+      for (int i = 0; i < n; i++) {
+        double sum = 0;
+        double[] bi = b[i];
+        for (int j = 0; j < n; j++) {
+          sum += bi[j] * temp[j];
+        }
+        ps[i] = (1 - cs) * ps[i] + csFactor * sum;
+        psNormSquared += ps[i] * ps[i];
+      }
+      double psNorm = Math.sqrt(psNormSquared);
+      boolean hsig =
+          psNorm / Math.sqrt(1 - Math.pow(1 - cs, 2.0 * generation)) / chiN < 1.4 + 2.0 / (n + 1);
+
+      // Evolution path for the rank-one update.
+      double ccFactor = hsig ? Math.sqrt(cc * (2 - cc) * mueff) : 0;
+      for (int i = 0; i < n; i++) {
+        pc[i] = (1 - cc) * pc[i] + ccFactor * yw[i];
+      }
+
+      // Rank-one and rank-mu updates of the lower triangle of C.
+      double decay = 1 - c1 - cmu + (hsig ? 0 : c1 * cc * (2 - cc));
+      for (int i = 0; i < n; i++) {
+        double[] ci = c[i];
+        for (int j = 0; j <= i; j++) {
+          ci[j] = decay * ci[j] + c1 * pc[i] * pc[j];
+        }
+      }
+      for (int r = 0; r < mu; r++) {
+        double w = cmu * weights[r];
+        double[] yr = y[order[r]];
+        for (int i = 0; i < n; i++) {
+          double[] ci = c[i];
+          double wyi = w * yr[i];
+          for (int j = 0; j <= i; j++) {
+            ci[j] += wyi * yr[j];
+          }
+        }
+      }
+
+      sigma *= Math.exp((cs / damps) * (psNorm / chiN - 1));
+      // Escape flat fitness, where the best 70% of the offspring have the same cost.
+      if (costs[order[0]] == costs[order[(int) Math.ceil(0.7 * lambda) - 1]]) {
+        sigma *= Math.exp(0.2 + cs / damps);
+      }
+    }
+
+    private boolean shouldRestart(int generation) {
+      if (!Double.isFinite(sigma)) {
+        return true;
+      }
+      if (generation >= history.length) {
+        double min = history[0];
+        double max = history[0];
+        for (double h : history) {
+          min = Math.min(min, h);
+          max = Math.max(max, h);
+        }
+        if (max - min < TOL_FUN && costs[order[lambda - 1]] - costs[order[0]] < TOL_FUN) {
+          return true;
+        }
+      }
+      for (int i = 0; i < n; i++) {
+        if (sigma * Math.max(Math.abs(pc[i]), Math.sqrt(c[i][i])) >= TOL_X * initialSigma) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /*
+     * Updates B and D from C. Returns false, signaling a restart, if C is no longer
+     * positive definite or is too ill-conditioned.
+     */
+    private boolean decompose() {
+      for (int i = 0; i < n; i++) {
+        for (int j = 0; j <= i; j++) {
+          eigenWork[i][j] = c[i][j];
+          eigenWork[j][i] = c[i][j];
+        }
+      }
+      SymmetricEigendecomposition.decompose(eigenWork, b, d);
+      double min = Double.POSITIVE_INFINITY;
+      double max = 0;
+      for (int i = 0; i < n; i++) {
+        if (!(d[i] > 0) || !Double.isFinite(d[i])) {
+          return false;
+        }
+        min = Math.min(min, d[i]);
+        max = Math.max(max, d[i]);
+        d[i] = Math.sqrt(d[i]);
+      }
+      return max <= MAX_CONDITION * min;
+    }
+  }
+
+  /*
+   * Evaluates a subrange of the offspring, splitting it among the threads of the pool.
+   */
+  private final class BatchEvaluation extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<RealVector> offspring;
+    private final double[] costs;
+    private final int from;
+    private final int to;
+    private final int subrangeSize;
+
+    private BatchEvaluation(
+        List<RealVector> offspring, double[] costs, int from, int to, int subrangeSize) {
+      this.offspring = offspring;
+      this.costs = costs;
+      this.from = from;
+      this.to = to;
+      this.subrangeSize = subrangeSize;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= subrangeSize) {
+        double[] subrangeCosts = new double[to - from];
+        problem.costs(offspring.subList(from, to), subrangeCosts);
+        System.arraycopy(subrangeCosts, 0, costs, from, to - from);
+      } else {
+        int mid = (from + to) >>> 1;
+        invokeAll(
+            new BatchEvaluation(offspring, costs, from, mid, subrangeSize),
+            new BatchEvaluation(offspring, costs, mid, to, subrangeSize));
+      }
+    }
+  }
+}
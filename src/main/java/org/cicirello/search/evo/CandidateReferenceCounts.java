@@ -0,0 +1,103 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.evo;
+
+import java.util.Arrays;
+
+/**
+ * Internal package access class for copy-on-write handling of the candidate solutions of a
+ * population. During selection, a population's next generation initially shares its candidate
+ * solutions with the members of the current generation that were selected, rather than copying
+ * them. A candidate is only copied when the genetic operators first access it for modification, and
+ * only if some other member of the next generation still shares it. The last member of the next
+ * generation to claim a shared candidate adopts the original, which is safe since the current
+ * generation's candidates are not otherwise used after selection. Population members that are
+ * selected once, or that are selected but never modified, are therefore never copied.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+final class CandidateReferenceCounts {
+
+  private final int[] source;
+  private final boolean[] owned;
+  private int[] refs;
+
+  /**
+   * Constructs the reference counts.
+   *
+   * @param n The number of members of the next generation subject to genetic operators.
+   */
+  CandidateReferenceCounts(int n) {
+    source = new int[n];
+    owned = new boolean[n];
+    refs = new int[n];
+  }
+
+  /**
+   * Records the result of selection. Member i of the next generation shares the candidate solution
+   * of member selected[i] of the current generation.
+   *
+   * @param selected The indexes into the current generation of the selected members.
+   * @param popSize The size of the current generation.
+   */
+  void select(int[] selected, int popSize) {
+    if (refs.length < popSize) {
+      refs = new int[popSize];
+    } else {
+      Arrays.fill(refs, 0, popSize, 0);
+    }
+    for (int i = 0; i < selected.length; i++) {
+      source[i] = selected[i];
+      owned[i] = false;
+      refs[selected[i]]++;
+    }
+  }
+
+  /**
+   * Claims the candidate solution of member i of the next generation for modification. After this
+   * call, member i is considered the exclusive owner of its candidate, so subsequent calls for the
+   * same i return false.
+   *
+   * @param i The index into the next generation.
+   * @return true if the candidate is still shared by another member of the next generation, in
+   *     which case the caller must replace member i's candidate with a copy before modifying it;
+   *     and false if member i may modify its candidate in place.
+   */
+  boolean claim(int i) {
+    if (owned[i]) {
+      return false;
+    }
+    owned[i] = true;
+    refs[source[i]]--;
+    return refs[source[i]] > 0;
+  }
+
+  /**
+   * Checks whether member i of the next generation has been claimed since the last selection.
+   *
+   * @param i The index into the next generation.
+   * @return true if member i has already been claimed
+   */
+  boolean isClaimed(int i) {
+    return owned[i];
+  }
+}
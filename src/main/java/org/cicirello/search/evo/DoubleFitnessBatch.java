@@ -0,0 +1,148 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.evo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.cicirello.util.Copyable;
+
+/**
+ * Internal package access class for the batch evaluation of the fitnesses of the members of a
+ * population with double-valued fitnesses. If the fitness function's {@link
+ * FitnessFunction.Double#prefersBatches} method returns true, then rather than computing the
+ * fitness of a member of the next generation when the genetic operators report that it changed, the
+ * population records its index, and then evaluates all of the changed members together at the end
+ * of the generation with the {@link FitnessFunction.Double#fitnesses} method. This enables fitness
+ * functions and problems to evaluate the entire batch with tight loops over primitive arrays. The
+ * population records a member that is reported more than once in a generation, such as by both
+ * crossover and mutation, only once, so it is evaluated only once. The list of candidates and the
+ * arrays are reused across generations.
+ *
+ * <p>The batch passes the candidates themselves, rather than a structure-of-arrays copy of their
+ * values, since the genetic operators modify the candidate objects in place, such as through the
+ * set methods of a {@link org.cicirello.search.representations.RealVector}. A problem whose costs
+ * benefit from a primitive array layout gathers it in its batch costs method, as {@link
+ * org.cicirello.search.problems.PolynomialRootFinding} does.
+ *
+ * @param <T> The type of object under optimization.
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+final class DoubleFitnessBatch<T extends Copyable<T>> {
+
+  private int[] pending;
+  private final ArrayList<T> candidates;
+  private double[] fitnesses;
+  private int count;
+
+  /**
+   * Constructs the batch.
+   *
+   * @param n The number of members of the next generation subject to genetic operators.
+   */
+  DoubleFitnessBatch(int n) {
+    pending = new int[n];
+    candidates = new ArrayList<T>(n);
+    fitnesses = new double[n];
+  }
+
+  /**
+   * Records that member i of the next generation requires evaluation.
+   *
+   * @param i The index into the next generation.
+   */
+  void add(int i) {
+    if (count == pending.length) {
+      pending = Arrays.copyOf(pending, 2 * count);
+    }
+    pending[count] = i;
+    count++;
+  }
+
+  /**
+   * Gets the number of members of the next generation that are awaiting evaluation.
+   *
+   * @return the number of members in the batch
+   */
+  int size() {
+    return count;
+  }
+
+  /**
+   * Gets the index into the next generation of the k-th member of the batch, in the order in which
+   * the members were added.
+   *
+   * @param k The index into the batch.
+   * @return the index into the next generation
+   */
+  int index(int k) {
+    return pending[k];
+  }
+
+  /**
+   * Evaluates the members of the batch and sets their fitnesses. The batch is not emptied until the
+   * next call to {@link #clear}.
+   *
+   * @param f The fitness function.
+   * @param members The members of the next generation.
+   * @return an array, owned by this object, whose first {@link #size} elements are the fitnesses of
+   *     the members of the batch in the order in which they were added, until the next call to
+   *     evaluate or evaluateAll
+   */
+  double[] evaluate(FitnessFunction.Double<T> f, List<PopulationMember.DoubleFitness<T>> members) {
+    for (int k = 0; k < count; k++) {
+      candidates.add(members.get(pending[k]).getCandidate());
+    }
+    ensureCapacity(count);
+    f.fitnesses(candidates, fitnesses);
+    candidates.clear();
+    for (int k = 0; k < count; k++) {
+      members.get(pending[k]).setFitness(fitnesses[k]);
+    }
+    return fitnesses;
+  }
+
+  /**
+   * Evaluates a list of candidate solutions, such as an initial population.
+   *
+   * @param f The fitness function.
+   * @param initial The candidate solutions to evaluate.
+   * @return an array, owned by this object, whose first initial.size() elements are the fitnesses
+   *     of the candidate solutions, until the next call to evaluate or evaluateAll
+   */
+  double[] evaluateAll(FitnessFunction.Double<T> f, List<T> initial) {
+    ensureCapacity(initial.size());
+    f.fitnesses(initial, fitnesses);
+    return fitnesses;
+  }
+
+  /** Empties the batch. */
+  void clear() {
+    count = 0;
+  }
+
+  private void ensureCapacity(int n) {
+    if (fitnesses.length < n) {
+      fitnesses = new double[Math.max(n, 2 * fitnesses.length)];
+    }
+  }
+}
@@ -21,9 +21,12 @@
 package org.cicirello.search.evo;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import org.cicirello.util.Copyable;
 
 /**
@@ -37,6 +40,7 @@ final class EliteSetIntegerFitness<T extends Copyable<T>>
   private final PopulationMember.IntegerFitness<T>[] elite;
   private int size;
   private final HashSet<T> isElite;
+  private final Set<T> eliteCandidates;
 
   /*
    * package-private for use by classes in evo package for maintaining a set of elite population members.
@@ -44,6 +48,7 @@ final class EliteSetIntegerFitness<T extends Copyable<T>>
   @SuppressWarnings("unchecked")
   EliteSetIntegerFitness(int numElite) {
     isElite = new HashSet<T>();
+    eliteCandidates = Collections.newSetFromMap(new IdentityHashMap<T, Boolean>());
     elite = (PopulationMember.IntegerFitness<T>[]) new PopulationMember.IntegerFitness[numElite];
     size = 0;
   }
@@ -75,22 +80,34 @@ final class EliteSetIntegerFitness<T extends Copyable<T>>
         percolateUp(size);
         size++;
         isElite.add(popMember.candidate);
+        eliteCandidates.add(popMember.candidate);
       }
     } else if (popMember.getFitness() > elite[0].getFitness()) {
       if (!isElite.contains(popMember.candidate)) {
         isElite.remove(elite[0].candidate);
         isElite.add(popMember.candidate);
+        eliteCandidates.remove(elite[0].candidate);
+        eliteCandidates.add(popMember.candidate);
         elite[0] = popMember;
         percolateDown(0);
       }
     }
   }
 
+  /*
+   * package-private for use by classes in evo package to check if a specific candidate
+   * object (rather than an equal one) is a member of the elite set.
+   */
+  boolean containsCandidate(T candidate) {
+    return eliteCandidates.contains(candidate);
+  }
+
   /*
    * package-private for use by classes in evo package for adding to a set of elite population members.
    */
   void clear() {
     isElite.clear();
+    eliteCandidates.clear();
     for (int i = 0; i < size; i++) {
       elite[i] = null;
     }
@@ -34,7 +34,7 @@ package org.cicirello.search.evo;
  * lower the value of c, the faster the degree of exponential decline in weight given to lower
  * ranked population members.
  *
- * <p>The runtime to select M population members from a population of size N is O(N lg N + M lg N).
+ * <p>The runtime to select M population members from a population of size N is O(N + M lg N).
  *
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
@@ -42,6 +42,7 @@ package org.cicirello.search.evo;
 public final class ExponentialRankSelection extends AbstractRouletteWheelSelection {
 
   private final double c;
+  private final RankWeights ranks;
 
   /**
    * Construct an exponential rank selection operator.
@@ -57,11 +58,13 @@ public final class ExponentialRankSelection extends AbstractRouletteWheelSelecti
     if (c <= 0.0 || c >= 1.0)
       throw new IllegalArgumentException("c must be int he interval (0.0, 1.0).");
     this.c = c;
+    ranks = new RankWeights((r, n) -> Math.pow(c, n - r - 1));
   }
 
   private ExponentialRankSelection(ExponentialRankSelection other) {
     super(other);
     c = other.c;
+    ranks = other.ranks.split();
   }
 
   @Override
@@ -71,13 +74,11 @@ public final class ExponentialRankSelection extends AbstractRouletteWheelSelecti
 
   @Override
   final double[] computeWeightRunningSum(PopulationFitnessVector.Integer fitnesses) {
-    return computeWeightRunningSumRanks(
-        sortedIndexes(fitnesses), r -> Math.pow(c, fitnesses.size() - r - 1));
+    return ranks.computeWeightRunningSum(fitnesses);
   }
 
   @Override
   final double[] computeWeightRunningSum(PopulationFitnessVector.Double fitnesses) {
-    return computeWeightRunningSumRanks(
-        sortedIndexes(fitnesses), r -> Math.pow(c, fitnesses.size() - r - 1));
+    return ranks.computeWeightRunningSum(fitnesses);
   }
 }
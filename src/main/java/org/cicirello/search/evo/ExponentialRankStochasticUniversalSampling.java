@@ -42,7 +42,7 @@ package org.cicirello.search.evo;
  * that SUS is typically much faster since only a single random floating point number is needed per
  * generation, compared to M random floating-point numbers.
  *
- * <p>The runtime to select M population members from a population of size N is O(N lg N + M), which
+ * <p>The runtime to select M population members from a population of size N is O(N + M), which
  * includes the need to generate only a single random double, and O(M) random ints.
  *
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
@@ -51,6 +51,7 @@ package org.cicirello.search.evo;
 public final class ExponentialRankStochasticUniversalSampling extends StochasticUniversalSampling {
 
   private final double c;
+  private final RankWeights ranks;
 
   /**
    * Construct an exponential rank selection operator that uses stochastic universal sampling.
@@ -66,12 +67,14 @@ public final class ExponentialRankStochasticUniversalSampling extends Stochastic
     if (c <= 0.0 || c >= 1.0)
       throw new IllegalArgumentException("c must be int he interval (0.0, 1.0).");
     this.c = c;
+    ranks = new RankWeights((r, n) -> Math.pow(c, n - r - 1));
   }
 
   private ExponentialRankStochasticUniversalSampling(
       ExponentialRankStochasticUniversalSampling other) {
     super(other);
     c = other.c;
+    ranks = other.ranks.split();
   }
 
   @Override
@@ -81,13 +84,11 @@ public final class ExponentialRankStochasticUniversalSampling extends Stochastic
 
   @Override
   final double[] computeWeightRunningSum(PopulationFitnessVector.Integer fitnesses) {
-    return computeWeightRunningSumRanks(
-        sortedIndexes(fitnesses), r -> Math.pow(c, fitnesses.size() - r - 1));
+    return ranks.computeWeightRunningSum(fitnesses);
   }
 
   @Override
   final double[] computeWeightRunningSum(PopulationFitnessVector.Double fitnesses) {
-    return computeWeightRunningSumRanks(
-        sortedIndexes(fitnesses), r -> Math.pow(c, fitnesses.size() - r - 1));
+    return ranks.computeWeightRunningSum(fitnesses);
   }
 }
@@ -20,6 +20,7 @@
 
 package org.cicirello.search.evo;
 
+import java.util.List;
 import org.cicirello.search.problems.Problem;
 import org.cicirello.util.Copyable;
 
@@ -65,6 +66,41 @@ public interface FitnessFunction<T extends Copyable<T>> {
      * @return the fitness of candidate
      */
     double fitness(T candidate);
+
+    /**
+     * Computes the fitnesses of a batch of candidate solutions, such that fitnesses[i] is the
+     * fitness of candidates.get(i). Evolutionary algorithms with double-valued fitnesses evaluate
+     * the initial population with this method, as well as the members of each new generation if
+     * {@link #prefersBatches} returns true. The default implementation simply calls the {@link
+     * #fitness} method for each candidate. Fitness functions that transform the costs of an {@link
+     * org.cicirello.search.problems.OptimizationProblem} may override this method to take advantage
+     * of the problem's batch cost evaluation.
+     *
+     * @param candidates The solutions whose fitnesses are to be evaluated.
+     * @param fitnesses An array for the fitnesses, whose length must be at least candidates.size().
+     * @throws ArrayIndexOutOfBoundsException if fitnesses.length is less than candidates.size()
+     */
+    default void fitnesses(List<? extends T> candidates, double[] fitnesses) {
+      final int n = candidates.size();
+      for (int i = 0; i < n; i++) {
+        fitnesses[i] = fitness(candidates.get(i));
+      }
+    }
+
+    /**
+     * Checks whether this fitness function benefits from evaluating the members of a population
+     * together with the {@link #fitnesses} method. If so, evolutionary algorithms with
+     * double-valued fitnesses defer the evaluation of the members of each new generation until the
+     * genetic operators for the generation are complete, and then evaluate the changed members as a
+     * single batch. Otherwise, each member is evaluated as soon as the genetic operators change it.
+     * The default implementation returns false.
+     *
+     * @return true if the evaluation of the members of each generation should be deferred and
+     *     batched
+     */
+    default boolean prefersBatches() {
+      return false;
+    }
   }
 
   /**
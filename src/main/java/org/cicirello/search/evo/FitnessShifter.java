@@ -20,6 +20,10 @@
 
 package org.cicirello.search.evo;
 
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.Checkpointable;
+
 /**
  * FitnessShifter wraps another SelectionOperator, shifting all fitness values by the minimum
  * fitness minus one, such that the least fit population member's transformed fitness is equal to 1,
@@ -40,10 +44,13 @@ package org.cicirello.search.evo;
  * SelectionOperator selection = new FitnessShifter(new FitnessProportionalSelection());
  * </code></pre>
  *
+ * <p>If the wrapped selection operator implements {@link Checkpointable}, then its state is saved
+ * in, and restored from, checkpoints of an evolutionary algorithm.
+ *
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
-public final class FitnessShifter implements SelectionOperator {
+public final class FitnessShifter implements SelectionOperator, Checkpointable {
 
   private final SelectionOperator selection;
 
@@ -72,6 +79,20 @@ public final class FitnessShifter implements SelectionOperator {
     selection.init(generations);
   }
 
+  @Override
+  public void writeCheckpoint(CheckpointWriter out) {
+    if (selection instanceof Checkpointable wrapped) {
+      wrapped.writeCheckpoint(out);
+    }
+  }
+
+  @Override
+  public void readCheckpoint(CheckpointReader in) {
+    if (selection instanceof Checkpointable wrapped) {
+      wrapped.readCheckpoint(in);
+    }
+  }
+
   @Override
   public FitnessShifter split() {
     return new FitnessShifter(selection.split());
@@ -0,0 +1,144 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.evo;
+
+/**
+ * Internal package access class implementing an indexed binary min-heap over the fitnesses of the
+ * members of a population, for use by the steady-state population's worst replacement policy. The
+ * least fit population member is found in constant time, and the fitness of any population member
+ * can be changed in logarithmic time since the heap maintains the position of each population
+ * member within the heap.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+final class IndexedFitnessHeap {
+
+  // fitness by population index
+  private final double[] fitness;
+  // population index by heap position
+  private final int[] heap;
+  // heap position by population index
+  private final int[] position;
+
+  /**
+   * Constructs the heap.
+   *
+   * @param n The size of the population.
+   */
+  IndexedFitnessHeap(int n) {
+    fitness = new double[n];
+    heap = new int[n];
+    position = new int[n];
+  }
+
+  /**
+   * Sets the fitness of a population member without maintaining the heap property. After setting
+   * the fitness of all population members this way, call {@link #build} to establish the heap.
+   *
+   * @param i The population index.
+   * @param f The fitness of population member i.
+   */
+  void set(int i, double f) {
+    fitness[i] = f;
+  }
+
+  /** Establishes the heap property in linear time from the fitnesses set with {@link #set}. */
+  void build() {
+    for (int i = 0; i < heap.length; i++) {
+      heap[i] = i;
+      position[i] = i;
+    }
+    for (int p = (heap.length >> 1) - 1; p >= 0; p--) {
+      siftDown(p);
+    }
+  }
+
+  /**
+   * Gets the population index of the least fit population member.
+   *
+   * @return the index of the least fit population member
+   */
+  int leastFit() {
+    return heap[0];
+  }
+
+  /**
+   * Gets the fitness of a population member.
+   *
+   * @param i The population index.
+   * @return the fitness of population member i
+   */
+  double fitness(int i) {
+    return fitness[i];
+  }
+
+  /**
+   * Changes the fitness of a population member, such as when it is replaced, and restores the heap
+   * property.
+   *
+   * @param i The population index.
+   * @param f The new fitness of population member i.
+   */
+  void update(int i, double f) {
+    double old = fitness[i];
+    fitness[i] = f;
+    if (f < old) {
+      siftUp(position[i]);
+    } else if (f > old) {
+      siftDown(position[i]);
+    }
+  }
+
+  private void siftUp(int p) {
+    int index = heap[p];
+    while (p > 0) {
+      int parent = (p - 1) >> 1;
+      if (fitness[heap[parent]] <= fitness[index]) {
+        break;
+      }
+      move(heap[parent], p);
+      p = parent;
+    }
+    move(index, p);
+  }
+
+  private void siftDown(int p) {
+    int index = heap[p];
+    int child;
+    while ((child = (p << 1) + 1) < heap.length) {
+      if (child + 1 < heap.length && fitness[heap[child + 1]] < fitness[heap[child]]) {
+        child++;
+      }
+      if (fitness[index] <= fitness[heap[child]]) {
+        break;
+      }
+      move(heap[child], p);
+      p = child;
+    }
+    move(index, p);
+  }
+
+  private void move(int index, int p) {
+    heap[p] = index;
+    position[index] = p;
+  }
+}
@@ -20,6 +20,7 @@
 
 package org.cicirello.search.evo;
 
+import java.util.List;
 import org.cicirello.search.problems.IntegerCostOptimizationProblem;
 import org.cicirello.search.problems.OptimizationProblem;
 import org.cicirello.search.problems.Problem;
@@ -130,6 +131,38 @@ public final class InverseCostFitnessFunction<T extends Copyable<T>>
     return c / (c + problem.costAsDouble(candidate) - adjustment);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>If the problem is an {@link OptimizationProblem}, this implementation uses the problem's
+   * batch cost evaluation.
+   */
+  @Override
+  public void fitnesses(List<? extends T> candidates, double[] fitnesses) {
+    final int n = candidates.size();
+    if (problem instanceof OptimizationProblem<T> p) {
+      p.costs(candidates, fitnesses);
+    } else {
+      for (int i = 0; i < n; i++) {
+        fitnesses[i] = problem.costAsDouble(candidates.get(i));
+      }
+    }
+    for (int i = 0; i < n; i++) {
+      fitnesses[i] = c / (c + fitnesses[i] - adjustment);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @return true if the problem is an {@link OptimizationProblem}, whose batch cost evaluation this
+   *     fitness function uses
+   */
+  @Override
+  public boolean prefersBatches() {
+    return problem instanceof OptimizationProblem;
+  }
+
   @Override
   public Problem<T> getProblem() {
     return problem;
@@ -38,7 +38,7 @@ package org.cicirello.search.evo;
  * <p>Linear rank selection was introduced by Baker (1985). According to "An Introduction to Genetic
  * Algorithms" (Melanie Mitchell, 1998), Baker recommended c = 1.1.
  *
- * <p>The runtime to select M population members from a population of size N is O(N lg N + M lg N).
+ * <p>The runtime to select M population members from a population of size N is O(N + M lg N).
  *
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
@@ -46,6 +46,7 @@ package org.cicirello.search.evo;
 public final class LinearRankSelection extends AbstractRouletteWheelSelection {
 
   private final double c;
+  private final RankWeights ranks;
 
   /**
    * Construct a linear rank selection operator.
@@ -58,11 +59,13 @@ public final class LinearRankSelection extends AbstractRouletteWheelSelection {
     super();
     if (c < 1 || c > 2) throw new IllegalArgumentException("c must be int he interval [1.0, 2.0].");
     this.c = c;
+    ranks = new RankWeights((r, n) -> 2 - c + 2 * r * (c - 1) / (n - 1.0));
   }
 
   private LinearRankSelection(LinearRankSelection other) {
     super(other);
     c = other.c;
+    ranks = other.ranks.split();
   }
 
   @Override
@@ -72,13 +75,11 @@ public final class LinearRankSelection extends AbstractRouletteWheelSelection {
 
   @Override
   final double[] computeWeightRunningSum(PopulationFitnessVector.Integer fitnesses) {
-    return computeWeightRunningSumRanks(
-        sortedIndexes(fitnesses), r -> 2 - c + 2 * r * (c - 1) / (fitnesses.size() - 1.0));
+    return ranks.computeWeightRunningSum(fitnesses);
   }
 
   @Override
   final double[] computeWeightRunningSum(PopulationFitnessVector.Double fitnesses) {
-    return computeWeightRunningSumRanks(
-        sortedIndexes(fitnesses), r -> 2 - c + 2 * r * (c - 1) / (fitnesses.size() - 1.0));
+    return ranks.computeWeightRunningSum(fitnesses);
   }
 }
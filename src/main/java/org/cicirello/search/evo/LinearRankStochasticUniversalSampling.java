@@ -46,7 +46,7 @@ package org.cicirello.search.evo;
  * that SUS is typically much faster since only a single random floating point number is needed per
  * generation, compared to M random floating-point numbers.
  *
- * <p>The runtime to select M population members from a population of size N is O(N lg N + M), which
+ * <p>The runtime to select M population members from a population of size N is O(N + M), which
  * includes the need to generate only a single random double, and O(M) random ints..
  *
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
@@ -55,6 +55,7 @@ package org.cicirello.search.evo;
 public final class LinearRankStochasticUniversalSampling extends StochasticUniversalSampling {
 
   private final double c;
+  private final RankWeights ranks;
 
   /**
    * Construct a linear rank selection operator that uses stochastic universal sampling.
@@ -67,11 +68,13 @@ public final class LinearRankStochasticUniversalSampling extends StochasticUnive
     super();
     if (c < 1 || c > 2) throw new IllegalArgumentException("c must be int he interval [1.0, 2.0].");
     this.c = c;
+    ranks = new RankWeights((r, n) -> 2 - c + 2 * r * (c - 1) / (n - 1.0));
   }
 
   private LinearRankStochasticUniversalSampling(LinearRankStochasticUniversalSampling other) {
     super(other);
     c = other.c;
+    ranks = other.ranks.split();
   }
 
   @Override
@@ -81,13 +84,11 @@ public final class LinearRankStochasticUniversalSampling extends StochasticUnive
 
   @Override
   final double[] computeWeightRunningSum(PopulationFitnessVector.Integer fitnesses) {
-    return computeWeightRunningSumRanks(
-        sortedIndexes(fitnesses), r -> 2 - c + 2 * r * (c - 1) / (fitnesses.size() - 1.0));
+    return ranks.computeWeightRunningSum(fitnesses);
   }
 
   @Override
   final double[] computeWeightRunningSum(PopulationFitnessVector.Double fitnesses) {
-    return computeWeightRunningSumRanks(
-        sortedIndexes(fitnesses), r -> 2 - c + 2 * r * (c - 1) / (fitnesses.size() - 1.0));
+    return ranks.computeWeightRunningSum(fitnesses);
   }
 }
@@ -20,6 +20,7 @@
 
 package org.cicirello.search.evo;
 
+import java.util.List;
 import org.cicirello.search.problems.OptimizationProblem;
 import org.cicirello.util.Copyable;
 
@@ -74,6 +75,30 @@ public final class NegativeCostFitnessFunction<T extends Copyable<T>>
     return -problem.cost(candidate);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This implementation uses the problem's batch cost evaluation.
+   */
+  @Override
+  public void fitnesses(List<? extends T> candidates, double[] fitnesses) {
+    problem.costs(candidates, fitnesses);
+    final int n = candidates.size();
+    for (int i = 0; i < n; i++) {
+      fitnesses[i] = -fitnesses[i];
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @return true, since this fitness function uses the problem's batch cost evaluation
+   */
+  @Override
+  public boolean prefersBatches() {
+    return true;
+  }
+
   @Override
   public OptimizationProblem<T> getProblem() {
     return problem;
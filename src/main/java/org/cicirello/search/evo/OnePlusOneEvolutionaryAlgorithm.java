@@ -21,14 +21,18 @@
 package org.cicirello.search.evo;
 
 import java.util.Objects;
+import java.util.function.IntConsumer;
 import org.cicirello.search.ProgressTracker;
 import org.cicirello.search.SingleSolutionMetaheuristic;
 import org.cicirello.search.SolutionCostPair;
 import org.cicirello.search.operators.Initializer;
 import org.cicirello.search.operators.UndoableMutationOperator;
+import org.cicirello.search.operators.bits.ObservableBitFlipMutation;
+import org.cicirello.search.problems.IncrementalBitVectorProblem;
 import org.cicirello.search.problems.IntegerCostOptimizationProblem;
 import org.cicirello.search.problems.OptimizationProblem;
 import org.cicirello.search.problems.Problem;
+import org.cicirello.search.representations.BitVector;
 import org.cicirello.util.Copyable;
 
 /**
@@ -152,7 +156,7 @@ public class OnePlusOneEvolutionaryAlgorithm<T extends Copyable<T>>
     this.tracker = tracker;
     this.pOptInt = pOptInt;
     this.pOpt = pOpt;
-    sr = pOptInt != null ? new IntCostSingleRun() : new DoubleCostSingleRun();
+    sr = pOptInt != null ? intCostSingleRun() : doubleCostSingleRun();
     // default on purpose: elapsedEvals = 0;
   }
 
@@ -172,7 +176,7 @@ public class OnePlusOneEvolutionaryAlgorithm<T extends Copyable<T>>
     initializer = other.initializer.split();
     mutation = other.mutation.split();
 
-    sr = pOptInt != null ? new IntCostSingleRun() : new DoubleCostSingleRun();
+    sr = pOptInt != null ? intCostSingleRun() : doubleCostSingleRun();
   }
 
   /**
@@ -273,7 +277,7 @@ public class OnePlusOneEvolutionaryAlgorithm<T extends Copyable<T>>
     @Override
     public final SolutionCostPair<T> optimizeSingleRun(int maxEvals, T current) {
       // compute cost of start
-      int currentCost = pOptInt.cost(current);
+      int currentCost = start(current);
 
       // initialize best cost, etc
       int bestCost = tracker.getCost();
@@ -293,8 +297,8 @@ public class OnePlusOneEvolutionaryAlgorithm<T extends Copyable<T>>
           elapsedEvals += (i - 1);
           return new SolutionCostPair<T>(current, currentCost, pOptInt.isMinCost(currentCost));
         }
-        mutation.mutate(current);
-        int neighborCost = pOptInt.cost(current);
+        mutate(current);
+        int neighborCost = cost(current);
         if (neighborCost <= currentCost) {
           // switching to better solution
           currentCost = neighborCost;
@@ -309,12 +313,28 @@ public class OnePlusOneEvolutionaryAlgorithm<T extends Copyable<T>>
           }
         } else {
           // reject the mutant and revert back to previous state
-          mutation.undo(current);
+          undo(current);
         }
       }
       elapsedEvals += maxEvals;
       return new SolutionCostPair<T>(current, currentCost, pOptInt.isMinCost(currentCost));
     }
+
+    int start(T current) {
+      return pOptInt.cost(current);
+    }
+
+    void mutate(T current) {
+      mutation.mutate(current);
+    }
+
+    void undo(T current) {
+      mutation.undo(current);
+    }
+
+    int cost(T current) {
+      return pOptInt.cost(current);
+    }
   }
 
   private class DoubleCostSingleRun implements SingleRun<T> {
@@ -322,7 +342,7 @@ public class OnePlusOneEvolutionaryAlgorithm<T extends Copyable<T>>
     @Override
     public final SolutionCostPair<T> optimizeSingleRun(int maxEvals, T current) {
       // compute cost of start
-      double currentCost = pOpt.cost(current);
+      double currentCost = start(current);
 
       // initialize best cost, etc
       double bestCost = tracker.getCostDouble();
@@ -342,8 +362,8 @@ public class OnePlusOneEvolutionaryAlgorithm<T extends Copyable<T>>
           elapsedEvals += (i - 1);
           return new SolutionCostPair<T>(current, currentCost, pOpt.isMinCost(currentCost));
         }
-        mutation.mutate(current);
-        double neighborCost = pOpt.cost(current);
+        mutate(current);
+        double neighborCost = cost(current);
         if (neighborCost <= currentCost) {
           // accepting the mutant
           currentCost = neighborCost;
@@ -358,11 +378,111 @@ public class OnePlusOneEvolutionaryAlgorithm<T extends Copyable<T>>
           }
         } else {
           // reject the mutant and revert back to previous state
-          mutation.undo(current);
+          undo(current);
         }
       }
       elapsedEvals += maxEvals;
       return new SolutionCostPair<T>(current, currentCost, pOpt.isMinCost(currentCost));
     }
+
+    double start(T current) {
+      return pOpt.cost(current);
+    }
+
+    void mutate(T current) {
+      mutation.mutate(current);
+    }
+
+    void undo(T current) {
+      mutation.undo(current);
+    }
+
+    double cost(T current) {
+      return pOpt.cost(current);
+    }
+  }
+
+  private SingleRun<T> intCostSingleRun() {
+    if (pOptInt instanceof IncrementalBitVectorProblem.Integer
+        && mutation instanceof ObservableBitFlipMutation) {
+      return new IncrementalIntCostSingleRun();
+    }
+    return new IntCostSingleRun();
+  }
+
+  private SingleRun<T> doubleCostSingleRun() {
+    if (pOpt instanceof IncrementalBitVectorProblem.Double
+        && mutation instanceof ObservableBitFlipMutation) {
+      return new IncrementalDoubleCostSingleRun();
+    }
+    return new DoubleCostSingleRun();
+  }
+
+  /*
+   * Evaluates mutants incrementally from the bits flipped by the mutation operator.
+   */
+  private final class IncrementalIntCostSingleRun extends IntCostSingleRun {
+
+    private final IncrementalBitVectorProblem.Integer problem =
+        (IncrementalBitVectorProblem.Integer) pOptInt;
+    private final ObservableBitFlipMutation bitFlips = (ObservableBitFlipMutation) mutation;
+    private IncrementalBitVectorProblem.IntegerEvaluation evaluation;
+    private IntConsumer flipped;
+
+    @Override
+    int start(T current) {
+      evaluation = problem.incrementalEvaluation((BitVector) current);
+      flipped = evaluation::flipped;
+      return evaluation.cost();
+    }
+
+    @Override
+    void mutate(T current) {
+      bitFlips.mutate((BitVector) current, flipped);
+    }
+
+    @Override
+    void undo(T current) {
+      bitFlips.undo((BitVector) current, flipped);
+    }
+
+    @Override
+    int cost(T current) {
+      return evaluation.cost();
+    }
+  }
+
+  /*
+   * Evaluates mutants incrementally from the bits flipped by the mutation operator.
+   */
+  private final class IncrementalDoubleCostSingleRun extends DoubleCostSingleRun {
+
+    private final IncrementalBitVectorProblem.Double problem =
+        (IncrementalBitVectorProblem.Double) pOpt;
+    private final ObservableBitFlipMutation bitFlips = (ObservableBitFlipMutation) mutation;
+    private IncrementalBitVectorProblem.DoubleEvaluation evaluation;
+    private IntConsumer flipped;
+
+    @Override
+    double start(T current) {
+      evaluation = problem.incrementalEvaluation((BitVector) current);
+      flipped = evaluation::flipped;
+      return evaluation.cost();
+    }
+
+    @Override
+    void mutate(T current) {
+      bitFlips.mutate((BitVector) current, flipped);
+    }
+
+    @Override
+    void undo(T current) {
+      bitFlips.undo((BitVector) current, flipped);
+    }
+
+    @Override
+    double cost(T current) {
+      return evaluation.cost();
+    }
   }
 }
@@ -22,6 +22,9 @@ package org.cicirello.search.evo;
 
 import org.cicirello.search.ProgressTracker;
 import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.SolutionCodec;
 import org.cicirello.search.concurrent.Splittable;
 import org.cicirello.search.representations.SingleReal;
 import org.cicirello.util.Copyable;
@@ -119,6 +122,41 @@ interface Population<T extends Copyable<T>>
    */
   void setProgressTracker(ProgressTracker<T> tracker);
 
+  /**
+   * Checks whether this population supports checkpoints.
+   *
+   * @return true if the checkpoint methods of this population are supported
+   */
+  default boolean supportsCheckpoints() {
+    return false;
+  }
+
+  /**
+   * Writes the state of this population to a checkpoint, between generations, including its members
+   * and their fitnesses, and the state of its selection operator.
+   *
+   * @param out The checkpoint to write to.
+   * @param codec The codec for writing the members of the population.
+   * @throws UnsupportedOperationException if this population does not support checkpoints
+   */
+  default void writeCheckpoint(CheckpointWriter out, SolutionCodec<T> codec) {
+    throw new UnsupportedOperationException("This population class doesn't support checkpoints.");
+  }
+
+  /**
+   * Restores the state of this population from a checkpoint. This must be called after {@link
+   * #initOperators}, which it overrides with the state of the selection operator.
+   *
+   * @param in The checkpoint to read from.
+   * @param codec The codec for reading the members of the population.
+   * @throws UnsupportedOperationException if this population does not support checkpoints
+   * @throws IllegalArgumentException if the checkpoint is for a population with a different type of
+   *     fitness or a different size
+   */
+  default void readCheckpoint(CheckpointReader in, SolutionCodec<T> codec) {
+    throw new UnsupportedOperationException("This population class doesn't support checkpoints.");
+  }
+
   @Override
   Population<T> split();
 }
@@ -82,6 +82,17 @@ abstract class PopulationMember<T extends Copyable<T>> {
       return new DoubleFitness<T>(candidate.copy(), fitness);
     }
 
+    /**
+     * Creates a new population member that shares this member's candidate solution, rather than
+     * copying it. The caller is responsible for ensuring that the shared candidate is not modified
+     * while it is shared.
+     *
+     * @return a new population member with the same candidate solution and fitness
+     */
+    final DoubleFitness<T> shallowCopy() {
+      return new DoubleFitness<T>(candidate, fitness);
+    }
+
     /**
      * Gets the fitness of this population member as currently stored.
      *
@@ -133,6 +144,17 @@ abstract class PopulationMember<T extends Copyable<T>> {
       return new IntegerFitness<T>(candidate.copy(), fitness);
     }
 
+    /**
+     * Creates a new population member that shares this member's candidate solution, rather than
+     * copying it. The caller is responsible for ensuring that the shared candidate is not modified
+     * while it is shared.
+     *
+     * @return a new population member with the same candidate solution and fitness
+     */
+    final IntegerFitness<T> shallowCopy() {
+      return new IntegerFitness<T>(candidate, fitness);
+    }
+
     /**
      * Gets the fitness of this population member as currently stored.
      *
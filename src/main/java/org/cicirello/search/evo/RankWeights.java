@@ -0,0 +1,241 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.evo;
+
+import java.util.Arrays;
+
+/**
+ * Internal package access class that computes the running sum of the selection weights of the
+ * members of a population for rank-based selection operators. The population is ranked with a
+ * stable least-significant-digit radix sort on the fitness values, so ties are ranked by population
+ * index just as with a stable comparison sort. The table mapping ranks to weights is computed once
+ * per population size, and all arrays are reused from one generation to the next, so in the common
+ * case of a fixed population size no memory is allocated after the first generation.
+ *
+ * <p>The array returned by the computeWeightRunningSum methods is owned by this object, and is
+ * overwritten by the next call.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+final class RankWeights {
+
+  private static final int RADIX_BITS = 8;
+  private static final int RADIX = 1 << RADIX_BITS;
+  private static final int MASK = RADIX - 1;
+
+  private final RankToWeight rankToWeight;
+
+  private double[] weightByRank;
+  private double[] runningSum;
+  private int[] indexes;
+  private int[] scratch;
+  private int[] intKeys;
+  private long[] longKeys;
+  private final int[] counts;
+
+  /**
+   * Constructs the rank weights.
+   *
+   * @param rankToWeight Computes the weight for a rank given the population size, where ranks begin
+   *     at 0 for the least fit population member.
+   */
+  RankWeights(RankToWeight rankToWeight) {
+    this.rankToWeight = rankToWeight;
+    weightByRank = new double[0];
+    runningSum = weightByRank;
+    indexes = new int[0];
+    scratch = indexes;
+    intKeys = indexes;
+    longKeys = new long[0];
+    counts = new int[RADIX];
+  }
+
+  /**
+   * Creates an instance for use by a different thread, sharing the rank to weight function but not
+   * any of the buffers.
+   *
+   * @return an instance for use by a different thread
+   */
+  RankWeights split() {
+    return new RankWeights(rankToWeight);
+  }
+
+  /**
+   * Computes the running sum of the rank weights, indexed by population member.
+   *
+   * @param fitnesses The fitnesses of the population.
+   * @return the running sum of the rank weights, which is owned by this object
+   */
+  double[] computeWeightRunningSum(PopulationFitnessVector.Integer fitnesses) {
+    final int n = fitnesses.size();
+    ensureSize(n);
+    if (intKeys.length != n) {
+      intKeys = new int[n];
+    }
+    for (int i = 0; i < n; i++) {
+      // Flipping the sign bit orders ints as unsigned ints.
+      intKeys[i] = fitnesses.getFitness(i) ^ Integer.MIN_VALUE;
+    }
+    sortByKeys(intKeys, n);
+    return runningSum(n);
+  }
+
+  /**
+   * Computes the running sum of the rank weights, indexed by population member.
+   *
+   * @param fitnesses The fitnesses of the population.
+   * @return the running sum of the rank weights, which is owned by this object
+   */
+  double[] computeWeightRunningSum(PopulationFitnessVector.Double fitnesses) {
+    final int n = fitnesses.size();
+    ensureSize(n);
+    if (longKeys.length != n) {
+      longKeys = new long[n];
+    }
+    for (int i = 0; i < n; i++) {
+      // Adding 0.0 maps -0.0 to 0.0 so that both are ties, as in a comparison sort.
+      long bits = Double.doubleToRawLongBits(fitnesses.getFitness(i) + 0.0);
+      // Orders doubles as unsigned longs: flip all bits of negatives, and only the sign bit of
+      // non-negatives.
+      longKeys[i] = bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+    sortByKeys(longKeys, n);
+    return runningSum(n);
+  }
+
+  /*
+   * package private for testing. The population indexes ordered by rank, from the
+   * most recent call to computeWeightRunningSum.
+   */
+  int[] rankedIndexes() {
+    return indexes;
+  }
+
+  private double[] runningSum(int n) {
+    for (int r = 0; r < n; r++) {
+      runningSum[indexes[r]] = weightByRank[r];
+    }
+    for (int i = 1; i < n; i++) {
+      runningSum[i] += runningSum[i - 1];
+    }
+    return runningSum;
+  }
+
+  private void ensureSize(int n) {
+    if (weightByRank.length != n) {
+      weightByRank = new double[n];
+      for (int r = 0; r < n; r++) {
+        weightByRank[r] = rankToWeight.weight(r, n);
+      }
+      runningSum = new double[n];
+      indexes = new int[n];
+      scratch = new int[n];
+    }
+    for (int i = 0; i < n; i++) {
+      indexes[i] = i;
+    }
+  }
+
+  private void sortByKeys(int[] keys, int n) {
+    for (int shift = 0; shift < Integer.SIZE; shift += RADIX_BITS) {
+      Arrays.fill(counts, 0);
+      for (int i = 0; i < n; i++) {
+        counts[(keys[i] >>> shift) & MASK]++;
+      }
+      if (isSingleBucket(n)) {
+        continue;
+      }
+      prefixSums();
+      for (int i = 0; i < n; i++) {
+        int index = indexes[i];
+        int digit = (keys[index] >>> shift) & MASK;
+        scratch[counts[digit]] = index;
+        counts[digit]++;
+      }
+      swapBuffers();
+    }
+  }
+
+  private void sortByKeys(long[] keys, int n) {
+    for (int shift = 0; shift < Long.SIZE; shift += RADIX_BITS) {
+      Arrays.fill(counts, 0);
+      for (int i = 0; i < n; i++) {
+        counts[(int) (keys[i] >>> shift) & MASK]++;
+      }
+      if (isSingleBucket(n)) {
+        continue;
+      }
+      prefixSums();
+      for (int i = 0; i < n; i++) {
+        int index = indexes[i];
+        int digit = (int) (keys[index] >>> shift) & MASK;
+        scratch[counts[digit]] = index;
+        counts[digit]++;
+      }
+      swapBuffers();
+    }
+  }
+
+  /*
+   * If every key has the same digit, then this pass would not change the order.
+   * This is the common case for the high order digits of fitness values.
+   */
+  private boolean isSingleBucket(int n) {
+    for (int d = 0; d < RADIX; d++) {
+      if (counts[d] != 0) {
+        return counts[d] == n;
+      }
+    }
+    return true;
+  }
+
+  /* Converts the digit counts to the starting position of each digit. */
+  private void prefixSums() {
+    int sum = 0;
+    for (int d = 0; d < RADIX; d++) {
+      int c = counts[d];
+      counts[d] = sum;
+      sum += c;
+    }
+  }
+
+  private void swapBuffers() {
+    int[] temp = indexes;
+    indexes = scratch;
+    scratch = temp;
+  }
+
+  /** Computes the weight of a rank. */
+  @FunctionalInterface
+  interface RankToWeight {
+
+    /**
+     * Computes the weight of a rank.
+     *
+     * @param rank The rank, where the least fit population member has rank 0, and the most fit has
+     *     rank n-1.
+     * @param n The population size.
+     * @return the weight of the rank
+     */
+    double weight(int rank, int n);
+  }
+}
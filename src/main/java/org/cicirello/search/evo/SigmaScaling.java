@@ -21,6 +21,9 @@
 package org.cicirello.search.evo;
 
 import org.cicirello.math.stats.Statistics;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.Checkpointable;
 
 /**
  * Implements sigma scaling by wrapping your chosen selection operator. The SigmaScaling instance
@@ -42,10 +45,13 @@ import org.cicirello.math.stats.Statistics;
  * SelectionOperator selection = new SigmaScaling(new FitnessProportionalSelection(), 2);
  * </code></pre>
  *
+ * <p>If the wrapped selection operator implements {@link Checkpointable}, then its state is saved
+ * in, and restored from, checkpoints of an evolutionary algorithm.
+ *
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
-public final class SigmaScaling implements SelectionOperator {
+public final class SigmaScaling implements SelectionOperator, Checkpointable {
 
   private final SelectionOperator selection;
   private final double c;
@@ -93,6 +99,20 @@ public final class SigmaScaling implements SelectionOperator {
     selection.init(generations);
   }
 
+  @Override
+  public void writeCheckpoint(CheckpointWriter out) {
+    if (selection instanceof Checkpointable wrapped) {
+      wrapped.writeCheckpoint(out);
+    }
+  }
+
+  @Override
+  public void readCheckpoint(CheckpointReader in) {
+    if (selection instanceof Checkpointable wrapped) {
+      wrapped.readCheckpoint(in);
+    }
+  }
+
   @Override
   public SigmaScaling split() {
     return new SigmaScaling(selection.split(), c);
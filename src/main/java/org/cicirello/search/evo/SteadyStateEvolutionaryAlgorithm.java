@@ -0,0 +1,475 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.evo;
+
+import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.operators.CrossoverOperator;
+import org.cicirello.search.operators.Initializer;
+import org.cicirello.search.operators.MutationOperator;
+import org.cicirello.search.problems.Problem;
+import org.cicirello.util.Copyable;
+
+/**
+ * This class implements a steady-state evolutionary algorithm, where rather than replacing the
+ * entire population each generation, each step of the evolutionary algorithm selects a pair of
+ * parents, forms a pair of offspring by applying genetic operators, and inserts the offspring back
+ * into the population, each replacing a single population member. As in the {@link
+ * GenerationalEvolutionaryAlgorithm}, crossover and mutation are controlled by a crossover rate and
+ * a mutation rate, such that each offspring may be the result of crossover alone, mutation alone, a
+ * combination of both crossover and mutation, or a simple copy of a parent. Offspring that are
+ * simple copies of a parent are not inserted into the population, and parents are only copied when
+ * the genetic operators need them, so each step copies at most two candidate solutions regardless
+ * of population size.
+ *
+ * <p>The population member that an offspring replaces is chosen by one of two replacement policies.
+ * By default, the least fit member of the population is replaced, provided that the offspring is at
+ * least as fit, which is found in constant time via an indexed heap over the fitnesses of the
+ * population. Alternatively, a replacement tournament chooses the least fit of a set of population
+ * members chosen uniformly at random, which is replaced regardless of fitness.
+ *
+ * <p>The crossover, mutation, and selection operators are completely configurable by passing
+ * instances of classes that implement the {@link CrossoverOperator}, {@link MutationOperator}, and
+ * {@link SelectionOperator} classes to one of the constructors. Since selection occurs each step
+ * rather than each generation, selection operators whose cost per call is independent of the
+ * population size, such as {@link TournamentSelection} and {@link RandomSelection}, are the most
+ * efficient choices. Selection operators that compute a function of the entire population, such as
+ * fitness proportional selection or rank-based selection, cost time linear in the population size
+ * per step.
+ *
+ * <p>The run length passed to the {@link #optimize} and {@link #reoptimize} methods is the number
+ * of steps, each of which performs at most two fitness evaluations.
+ *
+ * @param <T> The type of object under optimization.
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public class SteadyStateEvolutionaryAlgorithm<T extends Copyable<T>>
+    extends AbstractEvolutionaryAlgorithm<T> {
+
+  private static final int OFFSPRING_PER_STEP = 2;
+
+  /**
+   * Constructs and initializes the steady-state evolutionary algorithm. This constructor supports
+   * fitness functions with fitnesses of type double, the {@link FitnessFunction.Double} interface.
+   *
+   * @param n The population size.
+   * @param mutation The mutation operator.
+   * @param mutationRate The probability that an offspring is mutated once during a step. Note that
+   *     this is not a per-bit rate since this class is generalized to evolution of any {@link
+   *     Copyable} object type. For {@link org.cicirello.search.representations.BitVector}
+   *     optimization and traditional genetic algorithm interpretation of mutation rate, configure
+   *     your mutation operator with the per-bit mutation rate, and then pass 1.0 for this
+   *     parameter.
+   * @param crossover The crossover operator.
+   * @param crossoverRate The probability that the pair of parents of a step undergo crossover.
+   * @param initializer An initializer for generating random initial population members.
+   * @param f The fitness function.
+   * @param selection The selection operator, which chooses the parents of each step.
+   * @param replacementTournamentSize The size of the tournament that chooses the population member
+   *     that each offspring replaces. The least fit of replacementTournamentSize population members
+   *     chosen uniformly at random is replaced regardless of the offspring's fitness. Pass 0 to
+   *     instead replace the least fit member of the population, provided that the offspring is at
+   *     least as fit.
+   * @param tracker A ProgressTracker.
+   * @throws IllegalArgumentException if n is less than 2.
+   * @throws IllegalArgumentException if either mutationRate or crossoverRate are less than 0.
+   * @throws IllegalArgumentException if replacementTournamentSize is negative or equal to 1.
+   * @throws NullPointerException if any of mutation, crossover, initializer, f, selection, or
+   *     tracker are null.
+   */
+  public SteadyStateEvolutionaryAlgorithm(
+      int n,
+      MutationOperator<T> mutation,
+      double mutationRate,
+      CrossoverOperator<T> crossover,
+      double crossoverRate,
+      Initializer<T> initializer,
+      FitnessFunction.Double<T> f,
+      SelectionOperator selection,
+      int replacementTournamentSize,
+      ProgressTracker<T> tracker) {
+    this(
+        new SteadyStatePopulation.DoubleFitness<T>(
+            n, OFFSPRING_PER_STEP, initializer, f, selection, replacementTournamentSize, tracker),
+        f.getProblem(),
+        mutation,
+        mutationRate,
+        crossover,
+        crossoverRate);
+  }
+
+  /**
+   * Constructs and initializes the steady-state evolutionary algorithm. This constructor supports
+   * fitness functions with fitnesses of type int, the {@link FitnessFunction.Integer} interface.
+   *
+   * @param n The population size.
+   * @param mutation The mutation operator.
+   * @param mutationRate The probability that an offspring is mutated once during a step. Note that
+   *     this is not a per-bit rate since this class is generalized to evolution of any {@link
+   *     Copyable} object type. For {@link org.cicirello.search.representations.BitVector}
+   *     optimization and traditional genetic algorithm interpretation of mutation rate, configure
+   *     your mutation operator with the per-bit mutation rate, and then pass 1.0 for this
+   *     parameter.
+   * @param crossover The crossover operator.
+   * @param crossoverRate The probability that the pair of parents of a step undergo crossover.
+   * @param initializer An initializer for generating random initial population members.
+   * @param f The fitness function.
+   * @param selection The selection operator, which chooses the parents of each step.
+   * @param replacementTournamentSize The size of the tournament that chooses the population member
+   *     that each offspring replaces. The least fit of replacementTournamentSize population members
+   *     chosen uniformly at random is replaced regardless of the offspring's fitness. Pass 0 to
+   *     instead replace the least fit member of the population, provided that the offspring is at
+   *     least as fit.
+   * @param tracker A ProgressTracker.
+   * @throws IllegalArgumentException if n is less than 2.
+   * @throws IllegalArgumentException if either mutationRate or crossoverRate are less than 0.
+   * @throws IllegalArgumentException if replacementTournamentSize is negative or equal to 1.
+   * @throws NullPointerException if any of mutation, crossover, initializer, f, selection, or
+   *     tracker are null.
+   */
+  public SteadyStateEvolutionaryAlgorithm(
+      int n,
+      MutationOperator<T> mutation,
+      double mutationRate,
+      CrossoverOperator<T> crossover,
+      double crossoverRate,
+      Initializer<T> initializer,
+      FitnessFunction.Integer<T> f,
+      SelectionOperator selection,
+      int replacementTournamentSize,
+      ProgressTracker<T> tracker) {
+    this(
+        new SteadyStatePopulation.IntegerFitness<T>(
+            n, OFFSPRING_PER_STEP, initializer, f, selection, replacementTournamentSize, tracker),
+        f.getProblem(),
+        mutation,
+        mutationRate,
+        crossover,
+        crossoverRate);
+  }
+
+  /**
+   * Constructs and initializes the steady-state evolutionary algorithm. This constructor supports
+   * fitness functions with fitnesses of type double, the {@link FitnessFunction.Double} interface.
+   * A new {@link ProgressTracker} is created for you.
+   *
+   * @param n The population size.
+   * @param mutation The mutation operator.
+   * @param mutationRate The probability that an offspring is mutated once during a step. Note that
+   *     this is not a per-bit rate since this class is generalized to evolution of any {@link
+   *     Copyable} object type. For {@link org.cicirello.search.representations.BitVector}
+   *     optimization and traditional genetic algorithm interpretation of mutation rate, configure
+   *     your mutation operator with the per-bit mutation rate, and then pass 1.0 for this
+   *     parameter.
+   * @param crossover The crossover operator.
+   * @param crossoverRate The probability that the pair of parents of a step undergo crossover.
+   * @param initializer An initializer for generating random initial population members.
+   * @param f The fitness function.
+   * @param selection The selection operator, which chooses the parents of each step.
+   * @param replacementTournamentSize The size of the tournament that chooses the population member
+   *     that each offspring replaces. The least fit of replacementTournamentSize population members
+   *     chosen uniformly at random is replaced regardless of the offspring's fitness. Pass 0 to
+   *     instead replace the least fit member of the population, provided that the offspring is at
+   *     least as fit.
+   * @throws IllegalArgumentException if n is less than 2.
+   * @throws IllegalArgumentException if either mutationRate or crossoverRate are less than 0.
+   * @throws IllegalArgumentException if replacementTournamentSize is negative or equal to 1.
+   * @throws NullPointerException if any of mutation, crossover, initializer, f, or selection are
+   *     null.
+   */
+  public SteadyStateEvolutionaryAlgorithm(
+      int n,
+      MutationOperator<T> mutation,
+      double mutationRate,
+      CrossoverOperator<T> crossover,
+      double crossoverRate,
+      Initializer<T> initializer,
+      FitnessFunction.Double<T> f,
+      SelectionOperator selection,
+      int replacementTournamentSize) {
+    this(
+        n,
+        mutation,
+        mutationRate,
+        crossover,
+        crossoverRate,
+        initializer,
+        f,
+        selection,
+        replacementTournamentSize,
+        new ProgressTracker<T>());
+  }
+
+  /**
+   * Constructs and initializes the steady-state evolutionary algorithm. This constructor supports
+   * fitness functions with fitnesses of type int, the {@link FitnessFunction.Integer} interface. A
+   * new {@link ProgressTracker} is created for you.
+   *
+   * @param n The population size.
+   * @param mutation The mutation operator.
+   * @param mutationRate The probability that an offspring is mutated once during a step. Note that
+   *     this is not a per-bit rate since this class is generalized to evolution of any {@link
+   *     Copyable} object type. For {@link org.cicirello.search.representations.BitVector}
+   *     optimization and traditional genetic algorithm interpretation of mutation rate, configure
+   *     your mutation operator with the per-bit mutation rate, and then pass 1.0 for this
+   *     parameter.
+   * @param crossover The crossover operator.
+   * @param crossoverRate The probability that the pair of parents of a step undergo crossover.
+   * @param initializer An initializer for generating random initial population members.
+   * @param f The fitness function.
+   * @param selection The selection operator, which chooses the parents of each step.
+   * @param replacementTournamentSize The size of the tournament that chooses the population member
+   *     that each offspring replaces. The least fit of replacementTournamentSize population members
+   *     chosen uniformly at random is replaced regardless of the offspring's fitness. Pass 0 to
+   *     instead replace the least fit member of the population, provided that the offspring is at
+   *     least as fit.
+   * @throws IllegalArgumentException if n is less than 2.
+   * @throws IllegalArgumentException if either mutationRate or crossoverRate are less than 0.
+   * @throws IllegalArgumentException if replacementTournamentSize is negative or equal to 1.
+   * @throws NullPointerException if any of mutation, crossover, initializer, f, or selection are
+   *     null.
+   */
+  public SteadyStateEvolutionaryAlgorithm(
+      int n,
+      MutationOperator<T> mutation,
+      double mutationRate,
+      CrossoverOperator<T> crossover,
+      double crossoverRate,
+      Initializer<T> initializer,
+      FitnessFunction.Integer<T> f,
+      SelectionOperator selection,
+      int replacementTournamentSize) {
+    this(
+        n,
+        mutation,
+        mutationRate,
+        crossover,
+        crossoverRate,
+        initializer,
+        f,
+        selection,
+        replacementTournamentSize,
+        new ProgressTracker<T>());
+  }
+
+  /**
+   * Constructs and initializes the steady-state evolutionary algorithm. This constructor supports
+   * fitness functions with fitnesses of type double, the {@link FitnessFunction.Double} interface.
+   * Each offspring replaces the least fit member of the population, provided that the offspring is
+   * at least as fit.
+   *
+   * @param n The population size.
+   * @param mutation The mutation operator.
+   * @param mutationRate The probability that an offspring is mutated once during a step. Note that
+   *     this is not a per-bit rate since this class is generalized to evolution of any {@link
+   *     Copyable} object type. For {@link org.cicirello.search.representations.BitVector}
+   *     optimization and traditional genetic algorithm interpretation of mutation rate, configure
+   *     your mutation operator with the per-bit mutation rate, and then pass 1.0 for this
+   *     parameter.
+   * @param crossover The crossover operator.
+   * @param crossoverRate The probability that the pair of parents of a step undergo crossover.
+   * @param initializer An initializer for generating random initial population members.
+   * @param f The fitness function.
+   * @param selection The selection operator, which chooses the parents of each step.
+   * @param tracker A ProgressTracker.
+   * @throws IllegalArgumentException if n is less than 2.
+   * @throws IllegalArgumentException if either mutationRate or crossoverRate are less than 0.
+   * @throws NullPointerException if any of mutation, crossover, initializer, f, selection, or
+   *     tracker are null.
+   */
+  public SteadyStateEvolutionaryAlgorithm(
+      int n,
+      MutationOperator<T> mutation,
+      double mutationRate,
+      CrossoverOperator<T> crossover,
+      double crossoverRate,
+      Initializer<T> initializer,
+      FitnessFunction.Double<T> f,
+      SelectionOperator selection,
+      ProgressTracker<T> tracker) {
+    this(
+        n, mutation, mutationRate, crossover, crossoverRate, initializer, f, selection, 0, tracker);
+  }
+
+  /**
+   * Constructs and initializes the steady-state evolutionary algorithm. This constructor supports
+   * fitness functions with fitnesses of type int, the {@link FitnessFunction.Integer} interface.
+   * Each offspring replaces the least fit member of the population, provided that the offspring is
+   * at least as fit.
+   *
+   * @param n The population size.
+   * @param mutation The mutation operator.
+   * @param mutationRate The probability that an offspring is mutated once during a step. Note that
+   *     this is not a per-bit rate since this class is generalized to evolution of any {@link
+   *     Copyable} object type. For {@link org.cicirello.search.representations.BitVector}
+   *     optimization and traditional genetic algorithm interpretation of mutation rate, configure
+   *     your mutation operator with the per-bit mutation rate, and then pass 1.0 for this
+   *     parameter.
+   * @param crossover The crossover operator.
+   * @param crossoverRate The probability that the pair of parents of a step undergo crossover.
+   * @param initializer An initializer for generating random initial population members.
+   * @param f The fitness function.
+   * @param selection The selection operator, which chooses the parents of each step.
+   * @param tracker A ProgressTracker.
+   * @throws IllegalArgumentException if n is less than 2.
+   * @throws IllegalArgumentException if either mutationRate or crossoverRate are less than 0.
+   * @throws NullPointerException if any of mutation, crossover, initializer, f, selection, or
+   *     tracker are null.
+   */
+  public SteadyStateEvolutionaryAlgorithm(
+      int n,
+      MutationOperator<T> mutation,
+      double mutationRate,
+      CrossoverOperator<T> crossover,
+      double crossoverRate,
+      Initializer<T> initializer,
+      FitnessFunction.Integer<T> f,
+      SelectionOperator selection,
+      ProgressTracker<T> tracker) {
+    this(
+        n, mutation, mutationRate, crossover, crossoverRate, initializer, f, selection, 0, tracker);
+  }
+
+  /**
+   * Constructs and initializes the steady-state evolutionary algorithm. This constructor supports
+   * fitness functions with fitnesses of type double, the {@link FitnessFunction.Double} interface.
+   * Each offspring replaces the least fit member of the population, provided that the offspring is
+   * at least as fit. A new {@link ProgressTracker} is created for you.
+   *
+   * @param n The population size.
+   * @param mutation The mutation operator.
+   * @param mutationRate The probability that an offspring is mutated once during a step. Note that
+   *     this is not a per-bit rate since this class is generalized to evolution of any {@link
+   *     Copyable} object type. For {@link org.cicirello.search.representations.BitVector}
+   *     optimization and traditional genetic algorithm interpretation of mutation rate, configure
+   *     your mutation operator with the per-bit mutation rate, and then pass 1.0 for this
+   *     parameter.
+   * @param crossover The crossover operator.
+   * @param crossoverRate The probability that the pair of parents of a step undergo crossover.
+   * @param initializer An initializer for generating random initial population members.
+   * @param f The fitness function.
+   * @param selection The selection operator, which chooses the parents of each step.
+   * @throws IllegalArgumentException if n is less than 2.
+   * @throws IllegalArgumentException if either mutationRate or crossoverRate are less than 0.
+   * @throws NullPointerException if any of mutation, crossover, initializer, f, or selection are
+   *     null.
+   */
+  public SteadyStateEvolutionaryAlgorithm(
+      int n,
+      MutationOperator<T> mutation,
+      double mutationRate,
+      CrossoverOperator<T> crossover,
+      double crossoverRate,
+      Initializer<T> initializer,
+      FitnessFunction.Double<T> f,
+      SelectionOperator selection) {
+    this(
+        n,
+        mutation,
+        mutationRate,
+        crossover,
+        crossoverRate,
+        initializer,
+        f,
+        selection,
+        0,
+        new ProgressTracker<T>());
+  }
+
+  /**
+   * Constructs and initializes the steady-state evolutionary algorithm. This constructor supports
+   * fitness functions with fitnesses of type int, the {@link FitnessFunction.Integer} interface.
+   * Each offspring replaces the least fit member of the population, provided that the offspring is
+   * at least as fit. A new {@link ProgressTracker} is created for you.
+   *
+   * @param n The population size.
+   * @param mutation The mutation operator.
+   * @param mutationRate The probability that an offspring is mutated once during a step. Note that
+   *     this is not a per-bit rate since this class is generalized to evolution of any {@link
+   *     Copyable} object type. For {@link org.cicirello.search.representations.BitVector}
+   *     optimization and traditional genetic algorithm interpretation of mutation rate, configure
+   *     your mutation operator with the per-bit mutation rate, and then pass 1.0 for this
+   *     parameter.
+   * @param crossover The crossover operator.
+   * @param crossoverRate The probability that the pair of parents of a step undergo crossover.
+   * @param initializer An initializer for generating random initial population members.
+   * @param f The fitness function.
+   * @param selection The selection operator, which chooses the parents of each step.
+   * @throws IllegalArgumentException if n is less than 2.
+   * @throws IllegalArgumentException if either mutationRate or crossoverRate are less than 0.
+   * @throws NullPointerException if any of mutation, crossover, initializer, f, or selection are
+   *     null.
+   */
+  public SteadyStateEvolutionaryAlgorithm(
+      int n,
+      MutationOperator<T> mutation,
+      double mutationRate,
+      CrossoverOperator<T> crossover,
+      double crossoverRate,
+      Initializer<T> initializer,
+      FitnessFunction.Integer<T> f,
+      SelectionOperator selection) {
+    this(
+        n,
+        mutation,
+        mutationRate,
+        crossover,
+        crossoverRate,
+        initializer,
+        f,
+        selection,
+        0,
+        new ProgressTracker<T>());
+  }
+
+  // Internal Constructors
+
+  /*
+   * Internal helper constructor.
+   */
+  private SteadyStateEvolutionaryAlgorithm(
+      Population<T> pop,
+      Problem<T> problem,
+      MutationOperator<T> mutation,
+      double mutationRate,
+      CrossoverOperator<T> crossover,
+      double crossoverRate) {
+    super(
+        pop,
+        problem,
+        mutationRate >= 1.0
+            ? new AlwaysMutateGeneration<T>(mutation, crossover, crossoverRate)
+            : new SimpleGeneration<T>(mutation, mutationRate, crossover, crossoverRate));
+  }
+
+  /*
+   * Internal constructor for use by split method.
+   * package private so subclasses in same package can use it for their own split methods.
+   */
+  SteadyStateEvolutionaryAlgorithm(SteadyStateEvolutionaryAlgorithm<T> other) {
+    super(other);
+  }
+
+  @Override
+  public SteadyStateEvolutionaryAlgorithm<T> split() {
+    return new SteadyStateEvolutionaryAlgorithm<T>(this);
+  }
+}
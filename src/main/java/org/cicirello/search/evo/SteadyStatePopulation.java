@@ -0,0 +1,490 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.evo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+import org.cicirello.math.rand.EnhancedSplittableGenerator;
+import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.internal.RandomnessFactory;
+import org.cicirello.search.operators.Initializer;
+import org.cicirello.util.Copyable;
+
+/**
+ * The nested classes are for steady-state populations with double-valued and int-valued fitnesses.
+ * Rather than replacing the entire population each generation, a steady-state population selects a
+ * small number of parents each step, and inserts the offspring that were evaluated back into the
+ * population, each replacing a single population member. A selected parent is only copied if the
+ * genetic operators access it, so each step copies at most the number of offspring per step.
+ *
+ * <p>There are two replacement policies. Worst replacement uses an indexed heap over the fitnesses
+ * of the population to find the least fit population member, which is replaced by the offspring if
+ * the offspring is at least as fit. Tournament replacement chooses the least fit of a set of
+ * population members chosen uniformly at random, which is replaced by the offspring regardless of
+ * fitness.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+abstract class SteadyStatePopulation {
+
+  private SteadyStatePopulation() {}
+
+  /**
+   * The steady-state Population for an evolutionary algorithm where fitness values are type double.
+   *
+   * @param <T> The type of object under optimization.
+   * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+   *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+   */
+  static final class DoubleFitness<T extends Copyable<T>> extends AbstractPopulation<T>
+      implements PopulationFitnessVector.Double {
+
+    private final Initializer<T> initializer;
+    private final SelectionOperator selection;
+    private final EnhancedSplittableGenerator generator;
+
+    private final ArrayList<PopulationMember.DoubleFitness<T>> pop;
+    private final ArrayList<PopulationMember.DoubleFitness<T>> offspring;
+    private final boolean[] updated;
+
+    private final FitnessFunction.Double<T> f;
+    private final int MU;
+    private final int LAMBDA;
+    private final int replacementTournamentSize;
+    private final IndexedFitnessHeap heap;
+
+    private final int[] selected;
+
+    private double bestFitness;
+
+    /**
+     * Constructs the Population.
+     *
+     * @param n The size of the population, which must be at least 2.
+     * @param numOffspring The number of offspring produced per step, which must be positive.
+     * @param initializer An initializer to supply the population with a means of generating random
+     *     initial population members.
+     * @param f The fitness function.
+     * @param selection The selection operator.
+     * @param replacementTournamentSize The size of the tournament that chooses the population
+     *     member replaced by an offspring, or 0 to replace the least fit population member.
+     * @param tracker A ProgressTracker.
+     */
+    public DoubleFitness(
+        int n,
+        int numOffspring,
+        Initializer<T> initializer,
+        FitnessFunction.Double<T> f,
+        SelectionOperator selection,
+        int replacementTournamentSize,
+        ProgressTracker<T> tracker) {
+      super(Objects.requireNonNull(tracker));
+      validate(n, numOffspring, replacementTournamentSize);
+      this.initializer = Objects.requireNonNull(initializer);
+      this.selection = Objects.requireNonNull(selection);
+      this.f = Objects.requireNonNull(f);
+      MU = n;
+      LAMBDA = numOffspring;
+      this.replacementTournamentSize = replacementTournamentSize;
+      generator = RandomnessFactory.createEnhancedSplittableGenerator();
+
+      pop = new ArrayList<PopulationMember.DoubleFitness<T>>(MU);
+      offspring = new ArrayList<PopulationMember.DoubleFitness<T>>(LAMBDA);
+      heap = replacementTournamentSize == 0 ? new IndexedFitnessHeap(MU) : null;
+      selected = new int[LAMBDA];
+      updated = new boolean[LAMBDA];
+      bestFitness = java.lang.Double.NEGATIVE_INFINITY;
+    }
+
+    /*
+     * private constructor for use by split.
+     */
+    private DoubleFitness(SteadyStatePopulation.DoubleFitness<T> other) {
+      super(other);
+
+      // these are threadsafe, so just copy references
+      f = other.f;
+      MU = other.MU;
+      LAMBDA = other.LAMBDA;
+      replacementTournamentSize = other.replacementTournamentSize;
+
+      // split these: not threadsafe
+      initializer = other.initializer.split();
+      selection = other.selection.split();
+      generator = other.generator.split();
+
+      // initialize these fresh: not threadsafe or otherwise needs its own
+      pop = new ArrayList<PopulationMember.DoubleFitness<T>>(MU);
+      offspring = new ArrayList<PopulationMember.DoubleFitness<T>>(LAMBDA);
+      heap = other.heap != null ? new IndexedFitnessHeap(MU) : null;
+      selected = new int[LAMBDA];
+      updated = new boolean[LAMBDA];
+      bestFitness = java.lang.Double.NEGATIVE_INFINITY;
+    }
+
+    @Override
+    public SteadyStatePopulation.DoubleFitness<T> split() {
+      return new SteadyStatePopulation.DoubleFitness<T>(this);
+    }
+
+    @Override
+    public T get(int i) {
+      // Parents are only copied once the genetic operators access them.
+      if (offspring.get(i) == null) {
+        offspring.set(i, pop.get(selected[i]).copy());
+      }
+      return offspring.get(i).getCandidate();
+    }
+
+    @Override
+    public double getFitness(int i) {
+      return pop.get(i).getFitness();
+    }
+
+    @Override
+    public int size() {
+      return MU;
+    }
+
+    @Override
+    public int mutableSize() {
+      return LAMBDA;
+    }
+
+    /**
+     * Gets fitness of the most fit candidate solution encountered in any step.
+     *
+     * @return the fitness of the most fit encountered in any step
+     */
+    public double getFitnessOfMostFit() {
+      return bestFitness;
+    }
+
+    @Override
+    public void updateFitness(int i) {
+      double fit = f.fitness(offspring.get(i).getCandidate());
+      offspring.get(i).setFitness(fit);
+      updated[i] = true;
+      if (fit > bestFitness) {
+        bestFitness = fit;
+        setMostFit(f.getProblem().getSolutionCostPair(offspring.get(i).getCandidate().copy()));
+      }
+    }
+
+    @Override
+    public void select() {
+      selection.select(this, selected);
+      for (int i = 0; i < LAMBDA; i++) {
+        offspring.add(null);
+      }
+    }
+
+    @Override
+    public void replace() {
+      for (int i = 0; i < LAMBDA; i++) {
+        if (updated[i]) {
+          updated[i] = false;
+          PopulationMember.DoubleFitness<T> child = offspring.get(i);
+          if (heap != null) {
+            int worst = heap.leastFit();
+            if (child.getFitness() >= heap.fitness(worst)) {
+              pop.set(worst, child);
+              heap.update(worst, child.getFitness());
+            }
+          } else {
+            pop.set(replacementTournament(), child);
+          }
+        }
+      }
+      offspring.clear();
+    }
+
+    @Override
+    public void initOperators(int generations) {
+      selection.init(generations);
+    }
+
+    @Override
+    public void init() {
+      super.init();
+      bestFitness = java.lang.Double.NEGATIVE_INFINITY;
+      pop.clear();
+      offspring.clear();
+      T newBest = null;
+      for (int i = 0; i < MU; i++) {
+        T c = initializer.createCandidateSolution();
+        double fit = f.fitness(c);
+        pop.add(new PopulationMember.DoubleFitness<T>(c, fit));
+        if (heap != null) {
+          heap.set(i, fit);
+        }
+        if (fit > bestFitness) {
+          bestFitness = fit;
+          newBest = c;
+        }
+      }
+      setMostFit(f.getProblem().getSolutionCostPair(newBest.copy()));
+      if (heap != null) {
+        heap.build();
+      }
+      Arrays.fill(updated, false);
+    }
+
+    private int replacementTournament() {
+      int choose = generator.nextInt(MU);
+      for (int j = 1; j < replacementTournamentSize; j++) {
+        int other = generator.nextInt(MU);
+        if (pop.get(other).getFitness() < pop.get(choose).getFitness()) {
+          choose = other;
+        }
+      }
+      return choose;
+    }
+  }
+
+  /**
+   * The steady-state Population for an evolutionary algorithm where fitness values are type int.
+   *
+   * @param <T> The type of object under optimization.
+   * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+   *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+   */
+  static final class IntegerFitness<T extends Copyable<T>> extends AbstractPopulation<T>
+      implements PopulationFitnessVector.Integer {
+
+    private final Initializer<T> initializer;
+    private final SelectionOperator selection;
+    private final EnhancedSplittableGenerator generator;
+
+    private final ArrayList<PopulationMember.IntegerFitness<T>> pop;
+    private final ArrayList<PopulationMember.IntegerFitness<T>> offspring;
+    private final boolean[] updated;
+
+    private final FitnessFunction.Integer<T> f;
+    private final int MU;
+    private final int LAMBDA;
+    private final int replacementTournamentSize;
+    private final IndexedFitnessHeap heap;
+
+    private final int[] selected;
+
+    private int bestFitness;
+
+    /**
+     * Constructs the Population.
+     *
+     * @param n The size of the population, which must be at least 2.
+     * @param numOffspring The number of offspring produced per step, which must be positive.
+     * @param initializer An initializer to supply the population with a means of generating random
+     *     initial population members.
+     * @param f The fitness function.
+     * @param selection The selection operator.
+     * @param replacementTournamentSize The size of the tournament that chooses the population
+     *     member replaced by an offspring, or 0 to replace the least fit population member.
+     * @param tracker A ProgressTracker.
+     */
+    public IntegerFitness(
+        int n,
+        int numOffspring,
+        Initializer<T> initializer,
+        FitnessFunction.Integer<T> f,
+        SelectionOperator selection,
+        int replacementTournamentSize,
+        ProgressTracker<T> tracker) {
+      super(Objects.requireNonNull(tracker));
+      validate(n, numOffspring, replacementTournamentSize);
+      this.initializer = Objects.requireNonNull(initializer);
+      this.selection = Objects.requireNonNull(selection);
+      this.f = Objects.requireNonNull(f);
+      MU = n;
+      LAMBDA = numOffspring;
+      this.replacementTournamentSize = replacementTournamentSize;
+      generator = RandomnessFactory.createEnhancedSplittableGenerator();
+
+      pop = new ArrayList<PopulationMember.IntegerFitness<T>>(MU);
+      offspring = new ArrayList<PopulationMember.IntegerFitness<T>>(LAMBDA);
+      heap = replacementTournamentSize == 0 ? new IndexedFitnessHeap(MU) : null;
+      selected = new int[LAMBDA];
+      updated = new boolean[LAMBDA];
+      bestFitness = java.lang.Integer.MIN_VALUE;
+    }
+
+    /*
+     * private constructor for use by split.
+     */
+    private IntegerFitness(SteadyStatePopulation.IntegerFitness<T> other) {
+      super(other);
+
+      // these are threadsafe, so just copy references
+      f = other.f;
+      MU = other.MU;
+      LAMBDA = other.LAMBDA;
+      replacementTournamentSize = other.replacementTournamentSize;
+
+      // split these: not threadsafe
+      initializer = other.initializer.split();
+      selection = other.selection.split();
+      generator = other.generator.split();
+
+      // initialize these fresh: not threadsafe or otherwise needs its own
+      pop = new ArrayList<PopulationMember.IntegerFitness<T>>(MU);
+      offspring = new ArrayList<PopulationMember.IntegerFitness<T>>(LAMBDA);
+      heap = other.heap != null ? new IndexedFitnessHeap(MU) : null;
+      selected = new int[LAMBDA];
+      updated = new boolean[LAMBDA];
+      bestFitness = java.lang.Integer.MIN_VALUE;
+    }
+
+    @Override
+    public SteadyStatePopulation.IntegerFitness<T> split() {
+      return new SteadyStatePopulation.IntegerFitness<T>(this);
+    }
+
+    @Override
+    public T get(int i) {
+      // Parents are only copied once the genetic operators access them.
+      if (offspring.get(i) == null) {
+        offspring.set(i, pop.get(selected[i]).copy());
+      }
+      return offspring.get(i).getCandidate();
+    }
+
+    @Override
+    public int getFitness(int i) {
+      return pop.get(i).getFitness();
+    }
+
+    @Override
+    public int size() {
+      return MU;
+    }
+
+    @Override
+    public int mutableSize() {
+      return LAMBDA;
+    }
+
+    /**
+     * Gets fitness of the most fit candidate solution encountered in any step.
+     *
+     * @return the fitness of the most fit encountered in any step
+     */
+    public int getFitnessOfMostFit() {
+      return bestFitness;
+    }
+
+    @Override
+    public void updateFitness(int i) {
+      int fit = f.fitness(offspring.get(i).getCandidate());
+      offspring.get(i).setFitness(fit);
+      updated[i] = true;
+      if (fit > bestFitness) {
+        bestFitness = fit;
+        setMostFit(f.getProblem().getSolutionCostPair(offspring.get(i).getCandidate().copy()));
+      }
+    }
+
+    @Override
+    public void select() {
+      selection.select(this, selected);
+      for (int i = 0; i < LAMBDA; i++) {
+        offspring.add(null);
+      }
+    }
+
+    @Override
+    public void replace() {
+      for (int i = 0; i < LAMBDA; i++) {
+        if (updated[i]) {
+          updated[i] = false;
+          PopulationMember.IntegerFitness<T> child = offspring.get(i);
+          if (heap != null) {
+            int worst = heap.leastFit();
+            if (child.getFitness() >= heap.fitness(worst)) {
+              pop.set(worst, child);
+              heap.update(worst, child.getFitness());
+            }
+          } else {
+            pop.set(replacementTournament(), child);
+          }
+        }
+      }
+      offspring.clear();
+    }
+
+    @Override
+    public void initOperators(int generations) {
+      selection.init(generations);
+    }
+
+    @Override
+    public void init() {
+      super.init();
+      bestFitness = java.lang.Integer.MIN_VALUE;
+      pop.clear();
+      offspring.clear();
+      T newBest = null;
+      for (int i = 0; i < MU; i++) {
+        T c = initializer.createCandidateSolution();
+        int fit = f.fitness(c);
+        pop.add(new PopulationMember.IntegerFitness<T>(c, fit));
+        if (heap != null) {
+          heap.set(i, fit);
+        }
+        if (fit > bestFitness) {
+          bestFitness = fit;
+          newBest = c;
+        }
+      }
+      setMostFit(f.getProblem().getSolutionCostPair(newBest.copy()));
+      if (heap != null) {
+        heap.build();
+      }
+      Arrays.fill(updated, false);
+    }
+
+    private int replacementTournament() {
+      int choose = generator.nextInt(MU);
+      for (int j = 1; j < replacementTournamentSize; j++) {
+        int other = generator.nextInt(MU);
+        if (pop.get(other).getFitness() < pop.get(choose).getFitness()) {
+          choose = other;
+        }
+      }
+      return choose;
+    }
+  }
+
+  private static void validate(int n, int numOffspring, int replacementTournamentSize) {
+    if (n < 2) {
+      throw new IllegalArgumentException("population size n must be at least 2");
+    }
+    if (numOffspring < 1) {
+      throw new IllegalArgumentException("numOffspring must be positive");
+    }
+    if (replacementTournamentSize < 0 || replacementTournamentSize == 1) {
+      throw new IllegalArgumentException(
+          "replacementTournamentSize must be 0 (worst replacement) or at least 2");
+    }
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.evo;
+
+/**
+ * Internal package access class for the eigendecomposition of a real symmetric matrix with the
+ * cyclic Jacobi method, such as for the covariance matrix of the {@link CMAEvolutionStrategy}. Each
+ * sweep applies a rotation to each off-diagonal element in turn to zero it, and the sweeps continue
+ * until the off-diagonal elements are negligible relative to the diagonal. The Jacobi method
+ * computes the eigenvalues of a symmetric positive definite matrix to high relative accuracy, even
+ * the small eigenvalues of an ill-conditioned matrix.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+final class SymmetricEigendecomposition {
+
+  private static final int MAX_SWEEPS = 50;
+  private static final double EPSILON = 1e-30;
+
+  private SymmetricEigendecomposition() {}
+
+  /**
+   * Computes the eigenvalues and eigenvectors of a real symmetric matrix.
+   *
+   * @param a The symmetric n by n matrix, which is overwritten during the computation.
+   * @param v An n by n array for the eigenvectors, which are stored in the columns.
+   * @param d An array of length n for the eigenvalues, where d[j] is the eigenvalue of the
+   *     eigenvector in column j of v.
+   */
+  static void decompose(double[][] a, double[][] v, double[] d) {
+    final int n = d.length;
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < n; j++) {
+        v[i][j] = i == j ? 1 : 0;
+      }
+    }
+    for (int sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+      double off = 0;
+      double diagonal = 0;
+      for (int p = 0; p < n; p++) {
+        diagonal += a[p][p] * a[p][p];
+        for (int q = p + 1; q < n; q++) {
+          off += a[p][q] * a[p][q];
+        }
+      }
+      if (off <= EPSILON * diagonal) {
+        break;
+      }
+      for (int p = 0; p < n; p++) {
+        for (int q = p + 1; q < n; q++) {
+          if (a[p][q] != 0) {
+            rotate(a, v, p, q);
+          }
+        }
+      }
+    }
+    for (int i = 0; i < n; i++) {
+      d[i] = a[i][i];
+    }
+  }
+
+  /*
+   * Applies the rotation in the (p, q) plane that zeros a[p][q], accumulating it in v.
+   */
+  private static void rotate(double[][] a, double[][] v, int p, int q) {
+    final int n = a.length;
+    double theta = (a[q][q] - a[p][p]) / (2 * a[p][q]);
+    double t = Math.signum(theta) / (Math.abs(theta) + Math.sqrt(theta * theta + 1));
+    if (theta == 0) {
+      t = 1;
+    }
+    double c = 1 / Math.sqrt(t * t + 1);
+    double s = t * c;
+    for (int k = 0; k < n; k++) {
+      double akp = a[k][p];
+      double akq = a[k][q];
+      a[k][p] = c * akp - s * akq;
+      a[k][q] = s * akp + c * akq;
+    }
+    for (int k = 0; k < n; k++) {
+      double apk = a[p][k];
+      double aqk = a[q][k];
+      a[p][k] = c * apk - s * aqk;
+      a[q][k] = s * apk + c * aqk;
+    }
+    for (int k = 0; k < n; k++) {
+      double vkp = v[k][p];
+      double vkq = v[k][q];
+      v[k][p] = c * vkp - s * vkq;
+      v[k][q] = s * vkp + c * vkq;
+    }
+  }
+}
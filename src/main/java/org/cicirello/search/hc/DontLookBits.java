@@ -0,0 +1,136 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.hc;
+
+import java.util.Arrays;
+import org.cicirello.search.operators.AnchoredMutationOperator;
+
+/**
+ * Internal package access class with the "don't look bits" of a first descent hill climb, one per
+ * anchor of an {@link AnchoredMutationOperator}. The bit of an anchor is set once all of the
+ * neighbors with that anchor have been evaluated, one after another during the climb, without an
+ * improvement since the bit was last cleared. The bits of the first and last anchors changed by an
+ * improving move, and of the anchors adjacent to them, are cleared. The arrays are reused from one
+ * climb to the next, and are only reallocated if the number of anchors changes.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+final class DontLookBits {
+
+  private boolean[] dontLook;
+  private long[] neighbors;
+  private long[] failures;
+  private int looking;
+
+  /** Constructs the don't look bits. */
+  DontLookBits() {
+    dontLook = new boolean[0];
+    neighbors = new long[0];
+    failures = neighbors;
+  }
+
+  /**
+   * Clears all of the bits at the start of a climb, except for anchors without neighbors.
+   *
+   * @param mutation The mutation operator.
+   * @param c The candidate solution at the start of the climb.
+   * @param size The size of the neighborhood of c.
+   */
+  <T> void reset(AnchoredMutationOperator<T> mutation, T c, long size) {
+    final int n = mutation.anchorCount(c);
+    if (dontLook.length != n) {
+      dontLook = new boolean[n];
+      neighbors = new long[n];
+      failures = new long[n];
+    } else {
+      Arrays.fill(neighbors, 0);
+      Arrays.fill(failures, 0);
+    }
+    for (long k = 0; k < size; ) {
+      long end = mutation.anchorRunEnd(c, k);
+      neighbors[mutation.anchor(c, k)] += end - k;
+      k = end;
+    }
+    looking = 0;
+    for (int a = 0; a < n; a++) {
+      dontLook[a] = neighbors[a] == 0;
+      if (!dontLook[a]) {
+        looking++;
+      }
+    }
+  }
+
+  /**
+   * Checks whether the bit of an anchor is set.
+   *
+   * @param anchor The anchor.
+   * @return true if the neighbors with this anchor should not be evaluated
+   */
+  boolean isSet(int anchor) {
+    return dontLook[anchor];
+  }
+
+  /**
+   * Checks whether the bits of all anchors are set, which ends the climb.
+   *
+   * @return true if all of the bits are set
+   */
+  boolean allSet() {
+    return looking == 0;
+  }
+
+  /**
+   * Records that a neighbor with an anchor was evaluated and is not an improvement.
+   *
+   * @param anchor The anchor of the neighbor.
+   */
+  void failed(int anchor) {
+    failures[anchor]++;
+    if (failures[anchor] == neighbors[anchor]) {
+      dontLook[anchor] = true;
+      looking--;
+    }
+  }
+
+  /**
+   * Records an improving move.
+   *
+   * @param first The first anchor changed by the move.
+   * @param last The last anchor changed by the move.
+   */
+  void improved(int first, int last) {
+    clear(first - 1);
+    clear(first);
+    clear(last);
+    clear(last + 1);
+  }
+
+  private void clear(int anchor) {
+    if (anchor >= 0 && anchor < dontLook.length && neighbors[anchor] > 0) {
+      failures[anchor] = 0;
+      if (dontLook[anchor]) {
+        dontLook[anchor] = false;
+        looking++;
+      }
+    }
+  }
+}
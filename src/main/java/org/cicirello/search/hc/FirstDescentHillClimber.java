@@ -21,14 +21,20 @@
 package org.cicirello.search.hc;
 
 import java.util.Objects;
+import org.cicirello.math.rand.EnhancedSplittableGenerator;
 import org.cicirello.search.ProgressTracker;
 import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.internal.RandomnessFactory;
+import org.cicirello.search.operators.AnchoredMutationOperator;
 import org.cicirello.search.operators.Initializer;
 import org.cicirello.search.operators.IterableMutationOperator;
 import org.cicirello.search.operators.MutationIterator;
+import org.cicirello.search.operators.bits.ObservableIterableBitFlipMutation;
+import org.cicirello.search.problems.IncrementalBitVectorProblem;
 import org.cicirello.search.problems.IntegerCostOptimizationProblem;
 import org.cicirello.search.problems.OptimizationProblem;
 import org.cicirello.search.problems.Problem;
+import org.cicirello.search.representations.BitVector;
 import org.cicirello.util.Copyable;
 
 /**
@@ -43,6 +49,19 @@ import org.cicirello.util.Copyable;
  * than the current cost (rather than iterating over all neighbors). If no such neighbor exists, the
  * search terminates with the current solution.
  *
+ * <p>By default, after every move the search begins iterating over the neighbors of the new current
+ * solution from the first neighbor. With an {@link AnchoredMutationOperator}, such as the swap,
+ * insertion, reversal, two-change, and block move mutations of permutations, the hill climber can
+ * instead be constructed to use "don't look bits." In that mode, each climb begins at a random
+ * neighbor, and after every move continues circularly from the neighbor following the move. A bit
+ * is kept for each anchor (e.g., each position of a permutation), which is set once all of the
+ * neighbors with that anchor have been evaluated without an improvement, and cleared when an
+ * improving move changes the anchor or an anchor adjacent to it. Neighbors whose anchor's bit is
+ * set are skipped, and the climb terminates once all of the bits are set. This greatly reduces the
+ * number of neighbors evaluated for large permutations, at the expense of the guarantee that the
+ * climb ends at a local optimum, since a move elsewhere can occasionally turn a neighbor with a set
+ * bit into an improvement.
+ *
  * @param <T> The type of object under optimization.
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
@@ -53,6 +72,8 @@ public final class FirstDescentHillClimber<T extends Copyable<T>> extends Abstra
   private final OptimizationProblem<T> pOpt;
   private final IntegerCostOptimizationProblem<T> pOptInt;
   private final OneClimb<T> climber;
+  // Used only with don't look bits, and otherwise null.
+  private final EnhancedSplittableGenerator generator;
 
   /**
    * Constructs a first descent hill climber object for real-valued optimization problem.
@@ -73,7 +94,8 @@ public final class FirstDescentHillClimber<T extends Copyable<T>> extends Abstra
     this.mutation = Objects.requireNonNull(mutation);
     pOpt = Objects.requireNonNull(problem);
     pOptInt = null;
-    climber = new DoubleCostClimber();
+    generator = null;
+    climber = doubleCostClimber();
   }
 
   /**
@@ -95,7 +117,8 @@ public final class FirstDescentHillClimber<T extends Copyable<T>> extends Abstra
     this.mutation = Objects.requireNonNull(mutation);
     pOptInt = Objects.requireNonNull(problem);
     pOpt = null;
-    climber = new IntCostClimber();
+    generator = null;
+    climber = intCostClimber();
   }
 
   /**
@@ -115,7 +138,8 @@ public final class FirstDescentHillClimber<T extends Copyable<T>> extends Abstra
     this.mutation = Objects.requireNonNull(mutation);
     pOpt = Objects.requireNonNull(problem);
     pOptInt = null;
-    climber = new DoubleCostClimber();
+    generator = null;
+    climber = doubleCostClimber();
   }
 
   /**
@@ -135,7 +159,64 @@ public final class FirstDescentHillClimber<T extends Copyable<T>> extends Abstra
     this.mutation = Objects.requireNonNull(mutation);
     pOptInt = Objects.requireNonNull(problem);
     pOpt = null;
-    climber = new IntCostClimber();
+    generator = null;
+    climber = intCostClimber();
+  }
+
+  /**
+   * Constructs a first descent hill climber object for real-valued optimization problem, with the
+   * option of using don't look bits.
+   *
+   * @param problem An instance of an optimization problem to solve.
+   * @param mutation A mutation operator.
+   * @param initializer The source of random initial states for each hill climb.
+   * @param tracker A ProgressTracker object, which is used to keep track of the best solution found
+   *     during the run, the time when it was found, and other related data.
+   * @param dontLookBits If true, each climb begins at a random neighbor, continues circularly from
+   *     the last move, and skips the neighbors whose anchors have don't look bits set. If false,
+   *     this hill climber behaves as if constructed without this parameter.
+   * @throws NullPointerException if any of the parameters are null.
+   */
+  public FirstDescentHillClimber(
+      OptimizationProblem<T> problem,
+      AnchoredMutationOperator<T> mutation,
+      Initializer<T> initializer,
+      ProgressTracker<T> tracker,
+      boolean dontLookBits) {
+    super(Objects.requireNonNull(initializer), Objects.requireNonNull(tracker));
+    this.mutation = Objects.requireNonNull(mutation);
+    pOpt = Objects.requireNonNull(problem);
+    pOptInt = null;
+    generator = dontLookBits ? RandomnessFactory.createEnhancedSplittableGenerator() : null;
+    climber = doubleCostClimber();
+  }
+
+  /**
+   * Constructs a first descent hill climber object for integer-valued optimization problem, with
+   * the option of using don't look bits.
+   *
+   * @param problem An instance of an optimization problem to solve.
+   * @param mutation A mutation operator.
+   * @param initializer The source of random initial states for each hill climb.
+   * @param tracker A ProgressTracker object, which is used to keep track of the best solution found
+   *     during the run, the time when it was found, and other related data.
+   * @param dontLookBits If true, each climb begins at a random neighbor, continues circularly from
+   *     the last move, and skips the neighbors whose anchors have don't look bits set. If false,
+   *     this hill climber behaves as if constructed without this parameter.
+   * @throws NullPointerException if any of the parameters are null.
+   */
+  public FirstDescentHillClimber(
+      IntegerCostOptimizationProblem<T> problem,
+      AnchoredMutationOperator<T> mutation,
+      Initializer<T> initializer,
+      ProgressTracker<T> tracker,
+      boolean dontLookBits) {
+    super(Objects.requireNonNull(initializer), Objects.requireNonNull(tracker));
+    this.mutation = Objects.requireNonNull(mutation);
+    pOptInt = Objects.requireNonNull(problem);
+    pOpt = null;
+    generator = dontLookBits ? RandomnessFactory.createEnhancedSplittableGenerator() : null;
+    climber = intCostClimber();
   }
 
   /*
@@ -152,8 +233,9 @@ public final class FirstDescentHillClimber<T extends Copyable<T>> extends Abstra
 
     // split: not threadsafe
     mutation = other.mutation.split();
+    generator = other.generator != null ? other.generator.split() : null;
 
-    climber = pOptInt != null ? new IntCostClimber() : new DoubleCostClimber();
+    climber = pOptInt != null ? intCostClimber() : doubleCostClimber();
   }
 
   @Override
@@ -176,16 +258,16 @@ public final class FirstDescentHillClimber<T extends Copyable<T>> extends Abstra
     @Override
     public SolutionCostPair<T> climb(T current) {
       // compute cost of start
-      int currentCost = pOptInt.cost(current);
+      int currentCost = start(current);
       boolean keepClimbing = true;
       int neighborCountIncrement = 0;
       while (keepClimbing) {
         keepClimbing = false;
-        MutationIterator iter = mutation.iterator(current);
+        MutationIterator iter = iterator(current);
         while (iter.hasNext()) {
           iter.nextMutant();
           neighborCountIncrement++;
-          int cost = pOptInt.cost(current);
+          int cost = cost(current);
           if (cost < currentCost) {
             currentCost = cost;
             keepClimbing = true;
@@ -197,6 +279,18 @@ public final class FirstDescentHillClimber<T extends Copyable<T>> extends Abstra
       return reportSingleClimbStatus(
           currentCost, current, pOptInt.isMinCost(currentCost), neighborCountIncrement);
     }
+
+    int start(T current) {
+      return pOptInt.cost(current);
+    }
+
+    MutationIterator iterator(T current) {
+      return mutation.iterator(current);
+    }
+
+    int cost(T current) {
+      return pOptInt.cost(current);
+    }
   }
 
   private class DoubleCostClimber implements OneClimb<T> {
@@ -204,16 +298,16 @@ public final class FirstDescentHillClimber<T extends Copyable<T>> extends Abstra
     @Override
     public SolutionCostPair<T> climb(T current) {
       // compute cost of start
-      double currentCost = pOpt.cost(current);
+      double currentCost = start(current);
       boolean keepClimbing = true;
       int neighborCountIncrement = 0;
       while (keepClimbing) {
         keepClimbing = false;
-        MutationIterator iter = mutation.iterator(current);
+        MutationIterator iter = iterator(current);
         while (iter.hasNext()) {
           iter.nextMutant();
           neighborCountIncrement++;
-          double cost = pOpt.cost(current);
+          double cost = cost(current);
           if (cost < currentCost) {
             currentCost = cost;
             keepClimbing = true;
@@ -225,5 +319,185 @@ public final class FirstDescentHillClimber<T extends Copyable<T>> extends Abstra
       return reportSingleClimbStatus(
           currentCost, current, pOpt.isMinCost(currentCost), neighborCountIncrement);
     }
+
+    double start(T current) {
+      return pOpt.cost(current);
+    }
+
+    MutationIterator iterator(T current) {
+      return mutation.iterator(current);
+    }
+
+    double cost(T current) {
+      return pOpt.cost(current);
+    }
+  }
+
+  private OneClimb<T> intCostClimber() {
+    if (generator != null) {
+      return new DontLookIntCostClimber();
+    }
+    if (pOptInt instanceof IncrementalBitVectorProblem.Integer
+        && mutation instanceof ObservableIterableBitFlipMutation) {
+      return new IncrementalIntCostClimber();
+    }
+    return new IntCostClimber();
+  }
+
+  private OneClimb<T> doubleCostClimber() {
+    if (generator != null) {
+      return new DontLookDoubleCostClimber();
+    }
+    if (pOpt instanceof IncrementalBitVectorProblem.Double
+        && mutation instanceof ObservableIterableBitFlipMutation) {
+      return new IncrementalDoubleCostClimber();
+    }
+    return new DoubleCostClimber();
+  }
+
+  /*
+   * Evaluates neighbors incrementally from the bits flipped by the mutation iterator.
+   */
+  private final class IncrementalIntCostClimber extends IntCostClimber {
+
+    private final IncrementalBitVectorProblem.Integer problem =
+        (IncrementalBitVectorProblem.Integer) pOptInt;
+    private final ObservableIterableBitFlipMutation bitFlips =
+        (ObservableIterableBitFlipMutation) mutation;
+    private IncrementalBitVectorProblem.IntegerEvaluation evaluation;
+
+    @Override
+    int start(T current) {
+      evaluation = problem.incrementalEvaluation((BitVector) current);
+      return evaluation.cost();
+    }
+
+    @Override
+    MutationIterator iterator(T current) {
+      return bitFlips.iterator((BitVector) current, evaluation::flipped);
+    }
+
+    @Override
+    int cost(T current) {
+      return evaluation.cost();
+    }
+  }
+
+  /*
+   * Evaluates neighbors incrementally from the bits flipped by the mutation iterator.
+   */
+  private final class IncrementalDoubleCostClimber extends DoubleCostClimber {
+
+    private final IncrementalBitVectorProblem.Double problem =
+        (IncrementalBitVectorProblem.Double) pOpt;
+    private final ObservableIterableBitFlipMutation bitFlips =
+        (ObservableIterableBitFlipMutation) mutation;
+    private IncrementalBitVectorProblem.DoubleEvaluation evaluation;
+
+    @Override
+    double start(T current) {
+      evaluation = problem.incrementalEvaluation((BitVector) current);
+      return evaluation.cost();
+    }
+
+    @Override
+    MutationIterator iterator(T current) {
+      return bitFlips.iterator((BitVector) current, evaluation::flipped);
+    }
+
+    @Override
+    double cost(T current) {
+      return evaluation.cost();
+    }
+  }
+
+  /*
+   * Iterates circularly over the neighbors by index, from a random start, skipping
+   * the neighbors whose anchors have their don't look bits set.
+   */
+  private final class DontLookIntCostClimber implements OneClimb<T> {
+
+    private final AnchoredMutationOperator<T> anchored = (AnchoredMutationOperator<T>) mutation;
+    private final DontLookBits bits = new DontLookBits();
+
+    @Override
+    public SolutionCostPair<T> climb(T current) {
+      // compute cost of start
+      int currentCost = pOptInt.cost(current);
+      long neighborCountIncrement = 0;
+      final long size = anchored.neighborhoodSize(current);
+      if (size > 0) {
+        bits.reset(anchored, current, size);
+        long k = generator.nextLong(size);
+        while (!bits.allSet()) {
+          int anchor = anchored.anchor(current, k);
+          if (bits.isSet(anchor)) {
+            k = anchored.anchorRunEnd(current, k);
+          } else {
+            anchored.mutate(current, k);
+            neighborCountIncrement++;
+            int cost = pOptInt.cost(current);
+            if (cost < currentCost) {
+              currentCost = cost;
+              bits.improved(anchor, anchored.lastAnchor(current, k));
+            } else {
+              anchored.undo(current, k);
+              bits.failed(anchor);
+            }
+            k++;
+          }
+          if (k == size) {
+            k = 0;
+          }
+        }
+      }
+      return reportSingleClimbStatus(
+          currentCost, current, pOptInt.isMinCost(currentCost), neighborCountIncrement);
+    }
+  }
+
+  /*
+   * Iterates circularly over the neighbors by index, from a random start, skipping
+   * the neighbors whose anchors have their don't look bits set.
+   */
+  private final class DontLookDoubleCostClimber implements OneClimb<T> {
+
+    private final AnchoredMutationOperator<T> anchored = (AnchoredMutationOperator<T>) mutation;
+    private final DontLookBits bits = new DontLookBits();
+
+    @Override
+    public SolutionCostPair<T> climb(T current) {
+      // compute cost of start
+      double currentCost = pOpt.cost(current);
+      long neighborCountIncrement = 0;
+      final long size = anchored.neighborhoodSize(current);
+      if (size > 0) {
+        bits.reset(anchored, current, size);
+        long k = generator.nextLong(size);
+        while (!bits.allSet()) {
+          int anchor = anchored.anchor(current, k);
+          if (bits.isSet(anchor)) {
+            k = anchored.anchorRunEnd(current, k);
+          } else {
+            anchored.mutate(current, k);
+            neighborCountIncrement++;
+            double cost = pOpt.cost(current);
+            if (cost < currentCost) {
+              currentCost = cost;
+              bits.improved(anchor, anchored.lastAnchor(current, k));
+            } else {
+              anchored.undo(current, k);
+              bits.failed(anchor);
+            }
+            k++;
+          }
+          if (k == size) {
+            k = 0;
+          }
+        }
+      }
+      return reportSingleClimbStatus(
+          currentCost, current, pOpt.isMinCost(currentCost), neighborCountIncrement);
+    }
   }
 }
@@ -0,0 +1,410 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.hc;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.operators.IndexedMutationOperator;
+import org.cicirello.search.operators.Initializer;
+import org.cicirello.search.problems.IntegerCostOptimizationProblem;
+import org.cicirello.search.problems.OptimizationProblem;
+import org.cicirello.search.problems.Problem;
+import org.cicirello.util.Copyable;
+
+/**
+ * This class implements a parallel version of steepest descent hill climbing. Like the {@link
+ * SteepestDescentHillClimber}, each step of a climb evaluates all of the neighbors of the current
+ * candidate solution, and moves to the neighbor with lowest cost value provided that its cost is
+ * lower than the current cost. If no such neighbor exists, the climb terminates with the current
+ * solution.
+ *
+ * <p>The difference is in how the neighborhood is evaluated. This hill climber requires an {@link
+ * IndexedMutationOperator}, whose neighbors can be accessed by index. Each step partitions the
+ * range of neighbor indexes into subranges that are evaluated in parallel by the threads of a
+ * {@link ForkJoinPool}, each on its own copy of the current candidate solution, and then reduces
+ * the results to the best neighbor. Ties among the best neighbors are broken in favor of the lowest
+ * index, so the climb from a given starting solution is the same regardless of the number of
+ * threads. The cost function of the problem is called concurrently by multiple threads, so it must
+ * be thread-safe, which is the case for all of the problems in this library.
+ *
+ * <p>Parallelism pays off when the neighborhood is large and evaluating a neighbor is expensive
+ * relative to copying the candidate solution, such as a swap or insertion neighborhood of a
+ * permutation with thousands of elements. For small neighborhoods, the {@link
+ * SteepestDescentHillClimber} is likely faster.
+ *
+ * @param <T> The type of object under optimization.
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public final class ParallelSteepestDescentHillClimber<T extends Copyable<T>>
+    extends AbstractHillClimber<T> {
+
+  // Each climbing step splits the neighborhood into this many subranges per thread,
+  // to balance the load when some neighbors are more costly to evaluate than others.
+  private static final int SUBRANGES_PER_THREAD = 4;
+
+  private final IndexedMutationOperator<T> mutation;
+  private final OptimizationProblem<T> pOpt;
+  private final IntegerCostOptimizationProblem<T> pOptInt;
+  private final ForkJoinPool pool;
+  private final OneClimb<T> climber;
+
+  /**
+   * Constructs a parallel steepest descent hill climber object for real-valued optimization
+   * problem, which evaluates neighborhoods using the common {@link ForkJoinPool}.
+   *
+   * @param problem An instance of an optimization problem to solve.
+   * @param mutation A mutation operator.
+   * @param initializer The source of random initial states for each hill climb.
+   * @param tracker A ProgressTracker object, which is used to keep track of the best solution found
+   *     during the run, the time when it was found, and other related data.
+   * @throws NullPointerException if any of the parameters are null.
+   */
+  public ParallelSteepestDescentHillClimber(
+      OptimizationProblem<T> problem,
+      IndexedMutationOperator<T> mutation,
+      Initializer<T> initializer,
+      ProgressTracker<T> tracker) {
+    this(problem, mutation, initializer, tracker, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructs a parallel steepest descent hill climber object for integer-valued optimization
+   * problem, which evaluates neighborhoods using the common {@link ForkJoinPool}.
+   *
+   * @param problem An instance of an optimization problem to solve.
+   * @param mutation A mutation operator.
+   * @param initializer The source of random initial states for each hill climb.
+   * @param tracker A ProgressTracker object, which is used to keep track of the best solution found
+   *     during the run, the time when it was found, and other related data.
+   * @throws NullPointerException if any of the parameters are null.
+   */
+  public ParallelSteepestDescentHillClimber(
+      IntegerCostOptimizationProblem<T> problem,
+      IndexedMutationOperator<T> mutation,
+      Initializer<T> initializer,
+      ProgressTracker<T> tracker) {
+    this(problem, mutation, initializer, tracker, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructs a parallel steepest descent hill climber object for real-valued optimization
+   * problem, which evaluates neighborhoods using the common {@link ForkJoinPool}. A {@link
+   * ProgressTracker} is created for you.
+   *
+   * @param problem An instance of an optimization problem to solve.
+   * @param mutation A mutation operator.
+   * @param initializer The source of random initial states for each hill climb.
+   * @throws NullPointerException if any of the parameters are null.
+   */
+  public ParallelSteepestDescentHillClimber(
+      OptimizationProblem<T> problem,
+      IndexedMutationOperator<T> mutation,
+      Initializer<T> initializer) {
+    this(problem, mutation, initializer, new ProgressTracker<T>(), ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructs a parallel steepest descent hill climber object for integer-valued optimization
+   * problem, which evaluates neighborhoods using the common {@link ForkJoinPool}. A {@link
+   * ProgressTracker} is created for you.
+   *
+   * @param problem An instance of an optimization problem to solve.
+   * @param mutation A mutation operator.
+   * @param initializer The source of random initial states for each hill climb.
+   * @throws NullPointerException if any of the parameters are null.
+   */
+  public ParallelSteepestDescentHillClimber(
+      IntegerCostOptimizationProblem<T> problem,
+      IndexedMutationOperator<T> mutation,
+      Initializer<T> initializer) {
+    this(problem, mutation, initializer, new ProgressTracker<T>(), ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructs a parallel steepest descent hill climber object for real-valued optimization
+   * problem.
+   *
+   * @param problem An instance of an optimization problem to solve.
+   * @param mutation A mutation operator.
+   * @param initializer The source of random initial states for each hill climb.
+   * @param tracker A ProgressTracker object, which is used to keep track of the best solution found
+   *     during the run, the time when it was found, and other related data.
+   * @param pool The ForkJoinPool used to evaluate neighborhoods in parallel. The hill climber does
+   *     not shut down the pool.
+   * @throws NullPointerException if any of the parameters are null.
+   */
+  public ParallelSteepestDescentHillClimber(
+      OptimizationProblem<T> problem,
+      IndexedMutationOperator<T> mutation,
+      Initializer<T> initializer,
+      ProgressTracker<T> tracker,
+      ForkJoinPool pool) {
+    super(Objects.requireNonNull(initializer), Objects.requireNonNull(tracker));
+    this.mutation = Objects.requireNonNull(mutation);
+    this.pool = Objects.requireNonNull(pool);
+    pOpt = Objects.requireNonNull(problem);
+    pOptInt = null;
+    climber = new DoubleCostClimber();
+  }
+
+  /**
+   * Constructs a parallel steepest descent hill climber object for integer-valued optimization
+   * problem.
+   *
+   * @param problem An instance of an optimization problem to solve.
+   * @param mutation A mutation operator.
+   * @param initializer The source of random initial states for each hill climb.
+   * @param tracker A ProgressTracker object, which is used to keep track of the best solution found
+   *     during the run, the time when it was found, and other related data.
+   * @param pool The ForkJoinPool used to evaluate neighborhoods in parallel. The hill climber does
+   *     not shut down the pool.
+   * @throws NullPointerException if any of the parameters are null.
+   */
+  public ParallelSteepestDescentHillClimber(
+      IntegerCostOptimizationProblem<T> problem,
+      IndexedMutationOperator<T> mutation,
+      Initializer<T> initializer,
+      ProgressTracker<T> tracker,
+      ForkJoinPool pool) {
+    super(Objects.requireNonNull(initializer), Objects.requireNonNull(tracker));
+    this.mutation = Objects.requireNonNull(mutation);
+    this.pool = Objects.requireNonNull(pool);
+    pOptInt = Objects.requireNonNull(problem);
+    pOpt = null;
+    climber = new IntCostClimber();
+  }
+
+  /*
+   * private copy constructor in support of the split method.
+   * note: copies references to thread-safe components, and splits potentially
+   * non-threadsafe components
+   */
+  private ParallelSteepestDescentHillClimber(ParallelSteepestDescentHillClimber<T> other) {
+    super(other);
+
+    // these are threadsafe, so just copy references
+    pOpt = other.pOpt;
+    pOptInt = other.pOptInt;
+    pool = other.pool;
+
+    // split: not threadsafe
+    mutation = other.mutation.split();
+
+    climber = pOptInt != null ? new IntCostClimber() : new DoubleCostClimber();
+  }
+
+  @Override
+  public ParallelSteepestDescentHillClimber<T> split() {
+    return new ParallelSteepestDescentHillClimber<T>(this);
+  }
+
+  @Override
+  public final Problem<T> getProblem() {
+    return (pOptInt != null) ? pOptInt : pOpt;
+  }
+
+  @Override
+  final SolutionCostPair<T> climbOnce(T current) {
+    return climber.climb(current);
+  }
+
+  private long subrangeSize(long neighborhoodSize) {
+    long subranges = (long) SUBRANGES_PER_THREAD * pool.getParallelism();
+    return Math.max(1, (neighborhoodSize + subranges - 1) / subranges);
+  }
+
+  private final class IntCostClimber implements OneClimb<T> {
+
+    @Override
+    public SolutionCostPair<T> climb(T current) {
+      // compute cost of start
+      int currentCost = pOptInt.cost(current);
+      boolean keepClimbing = true;
+      long neighborCountIncrement = 0;
+      while (keepClimbing) {
+        long size = mutation.neighborhoodSize(current);
+        neighborCountIncrement += size;
+        keepClimbing = false;
+        if (size > 0) {
+          IntCostMove best = pool.invoke(new IntCostSearch(current, 0, size, subrangeSize(size)));
+          if (best.cost < currentCost) {
+            mutation.mutate(current, best.index);
+            currentCost = best.cost;
+            keepClimbing = true;
+          }
+        }
+      }
+      return reportSingleClimbStatus(
+          currentCost, current, pOptInt.isMinCost(currentCost), neighborCountIncrement);
+    }
+  }
+
+  private final class DoubleCostClimber implements OneClimb<T> {
+
+    @Override
+    public SolutionCostPair<T> climb(T current) {
+      // compute cost of start
+      double currentCost = pOpt.cost(current);
+      boolean keepClimbing = true;
+      long neighborCountIncrement = 0;
+      while (keepClimbing) {
+        long size = mutation.neighborhoodSize(current);
+        neighborCountIncrement += size;
+        keepClimbing = false;
+        if (size > 0) {
+          DoubleCostMove best =
+              pool.invoke(new DoubleCostSearch(current, 0, size, subrangeSize(size)));
+          if (best.cost < currentCost) {
+            mutation.mutate(current, best.index);
+            currentCost = best.cost;
+            keepClimbing = true;
+          }
+        }
+      }
+      return reportSingleClimbStatus(
+          currentCost, current, pOpt.isMinCost(currentCost), neighborCountIncrement);
+    }
+  }
+
+  /*
+   * The best neighbor of a subrange, and its cost.
+   */
+  private static final class IntCostMove {
+    private final long index;
+    private final int cost;
+
+    private IntCostMove(long index, int cost) {
+      this.index = index;
+      this.cost = cost;
+    }
+  }
+
+  /*
+   * The best neighbor of a subrange, and its cost.
+   */
+  private static final class DoubleCostMove {
+    private final long index;
+    private final double cost;
+
+    private DoubleCostMove(long index, double cost) {
+      this.index = index;
+      this.cost = cost;
+    }
+  }
+
+  /*
+   * Finds the best neighbor with index in the interval [from, to), on a copy of current.
+   * The current candidate solution is only read while the search is in progress.
+   */
+  private final class IntCostSearch extends RecursiveTask<IntCostMove> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient T current;
+    private final long from;
+    private final long to;
+    private final long subrangeSize;
+
+    private IntCostSearch(T current, long from, long to, long subrangeSize) {
+      this.current = current;
+      this.from = from;
+      this.to = to;
+      this.subrangeSize = subrangeSize;
+    }
+
+    @Override
+    protected IntCostMove compute() {
+      if (to - from <= subrangeSize) {
+        T neighbor = current.copy();
+        long bestIndex = from;
+        int bestCost = Integer.MAX_VALUE;
+        for (long k = from; k < to; k++) {
+          mutation.mutate(neighbor, k);
+          int cost = pOptInt.cost(neighbor);
+          mutation.undo(neighbor, k);
+          if (cost < bestCost) {
+            bestCost = cost;
+            bestIndex = k;
+          }
+        }
+        return new IntCostMove(bestIndex, bestCost);
+      }
+      long mid = from + ((to - from) >>> 1);
+      IntCostSearch left = new IntCostSearch(current, from, mid, subrangeSize);
+      left.fork();
+      IntCostMove right = new IntCostSearch(current, mid, to, subrangeSize).compute();
+      IntCostMove best = left.join();
+      // ties favor the lower index, which is on the left
+      return right.cost < best.cost ? right : best;
+    }
+  }
+
+  /*
+   * Finds the best neighbor with index in the interval [from, to), on a copy of current.
+   * The current candidate solution is only read while the search is in progress.
+   */
+  private final class DoubleCostSearch extends RecursiveTask<DoubleCostMove> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient T current;
+    private final long from;
+    private final long to;
+    private final long subrangeSize;
+
+    private DoubleCostSearch(T current, long from, long to, long subrangeSize) {
+      this.current = current;
+      this.from = from;
+      this.to = to;
+      this.subrangeSize = subrangeSize;
+    }
+
+    @Override
+    protected DoubleCostMove compute() {
+      if (to - from <= subrangeSize) {
+        T neighbor = current.copy();
+        long bestIndex = from;
+        double bestCost = Double.POSITIVE_INFINITY;
+        for (long k = from; k < to; k++) {
+          mutation.mutate(neighbor, k);
+          double cost = pOpt.cost(neighbor);
+          mutation.undo(neighbor, k);
+          if (cost < bestCost) {
+            bestCost = cost;
+            bestIndex = k;
+          }
+        }
+        return new DoubleCostMove(bestIndex, bestCost);
+      }
+      long mid = from + ((to - from) >>> 1);
+      DoubleCostSearch left = new DoubleCostSearch(current, from, mid, subrangeSize);
+      left.fork();
+      DoubleCostMove right = new DoubleCostSearch(current, mid, to, subrangeSize).compute();
+      DoubleCostMove best = left.join();
+      // ties favor the lower index, which is on the left
+      return right.cost < best.cost ? right : best;
+    }
+  }
+}
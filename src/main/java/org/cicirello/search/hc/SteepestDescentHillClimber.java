@@ -26,9 +26,12 @@ import org.cicirello.search.SolutionCostPair;
 import org.cicirello.search.operators.Initializer;
 import org.cicirello.search.operators.IterableMutationOperator;
 import org.cicirello.search.operators.MutationIterator;
+import org.cicirello.search.operators.bits.ObservableIterableBitFlipMutation;
+import org.cicirello.search.problems.IncrementalBitVectorProblem;
 import org.cicirello.search.problems.IntegerCostOptimizationProblem;
 import org.cicirello.search.problems.OptimizationProblem;
 import org.cicirello.search.problems.Problem;
+import org.cicirello.search.representations.BitVector;
 import org.cicirello.util.Copyable;
 
 /**
@@ -75,7 +78,7 @@ public final class SteepestDescentHillClimber<T extends Copyable<T>>
     this.mutation = Objects.requireNonNull(mutation);
     pOpt = Objects.requireNonNull(problem);
     pOptInt = null;
-    climber = new DoubleCostClimber();
+    climber = doubleCostClimber();
   }
 
   /**
@@ -97,7 +100,7 @@ public final class SteepestDescentHillClimber<T extends Copyable<T>>
     this.mutation = Objects.requireNonNull(mutation);
     pOptInt = Objects.requireNonNull(problem);
     pOpt = null;
-    climber = new IntCostClimber();
+    climber = intCostClimber();
   }
 
   /**
@@ -117,7 +120,7 @@ public final class SteepestDescentHillClimber<T extends Copyable<T>>
     this.mutation = Objects.requireNonNull(mutation);
     pOpt = Objects.requireNonNull(problem);
     pOptInt = null;
-    climber = new DoubleCostClimber();
+    climber = doubleCostClimber();
   }
 
   /**
@@ -137,7 +140,7 @@ public final class SteepestDescentHillClimber<T extends Copyable<T>>
     this.mutation = Objects.requireNonNull(mutation);
     pOptInt = Objects.requireNonNull(problem);
     pOpt = null;
-    climber = new IntCostClimber();
+    climber = intCostClimber();
   }
 
   /*
@@ -154,7 +157,7 @@ public final class SteepestDescentHillClimber<T extends Copyable<T>>
     // split: not threadsafe
     mutation = other.mutation.split();
 
-    climber = pOptInt != null ? new IntCostClimber() : new DoubleCostClimber();
+    climber = pOptInt != null ? intCostClimber() : doubleCostClimber();
   }
 
   @Override
@@ -177,16 +180,16 @@ public final class SteepestDescentHillClimber<T extends Copyable<T>>
     @Override
     public SolutionCostPair<T> climb(T current) {
       // compute cost of start
-      int currentCost = pOptInt.cost(current);
+      int currentCost = start(current);
       boolean keepClimbing = true;
       int neighborCountIncrement = 0;
       while (keepClimbing) {
-        MutationIterator iter = mutation.iterator(current);
+        MutationIterator iter = iterator(current);
         int bestNeighborCost = currentCost;
         while (iter.hasNext()) {
           iter.nextMutant();
           neighborCountIncrement++;
-          int cost = pOptInt.cost(current);
+          int cost = cost(current);
           if (cost < bestNeighborCost) {
             iter.setSavepoint();
             bestNeighborCost = cost;
@@ -202,6 +205,18 @@ public final class SteepestDescentHillClimber<T extends Copyable<T>>
       return reportSingleClimbStatus(
           currentCost, current, pOptInt.isMinCost(currentCost), neighborCountIncrement);
     }
+
+    int start(T current) {
+      return pOptInt.cost(current);
+    }
+
+    MutationIterator iterator(T current) {
+      return mutation.iterator(current);
+    }
+
+    int cost(T current) {
+      return pOptInt.cost(current);
+    }
   }
 
   private class DoubleCostClimber implements OneClimb<T> {
@@ -209,16 +224,16 @@ public final class SteepestDescentHillClimber<T extends Copyable<T>>
     @Override
     public SolutionCostPair<T> climb(T current) {
       // compute cost of start
-      double currentCost = pOpt.cost(current);
+      double currentCost = start(current);
       boolean keepClimbing = true;
       int neighborCountIncrement = 0;
       while (keepClimbing) {
-        MutationIterator iter = mutation.iterator(current);
+        MutationIterator iter = iterator(current);
         double bestNeighborCost = currentCost;
         while (iter.hasNext()) {
           iter.nextMutant();
           neighborCountIncrement++;
-          double cost = pOpt.cost(current);
+          double cost = cost(current);
           if (cost < bestNeighborCost) {
             iter.setSavepoint();
             bestNeighborCost = cost;
@@ -234,5 +249,89 @@ public final class SteepestDescentHillClimber<T extends Copyable<T>>
       return reportSingleClimbStatus(
           currentCost, current, pOpt.isMinCost(currentCost), neighborCountIncrement);
     }
+
+    double start(T current) {
+      return pOpt.cost(current);
+    }
+
+    MutationIterator iterator(T current) {
+      return mutation.iterator(current);
+    }
+
+    double cost(T current) {
+      return pOpt.cost(current);
+    }
+  }
+
+  private OneClimb<T> intCostClimber() {
+    if (pOptInt instanceof IncrementalBitVectorProblem.Integer
+        && mutation instanceof ObservableIterableBitFlipMutation) {
+      return new IncrementalIntCostClimber();
+    }
+    return new IntCostClimber();
+  }
+
+  private OneClimb<T> doubleCostClimber() {
+    if (pOpt instanceof IncrementalBitVectorProblem.Double
+        && mutation instanceof ObservableIterableBitFlipMutation) {
+      return new IncrementalDoubleCostClimber();
+    }
+    return new DoubleCostClimber();
+  }
+
+  /*
+   * Evaluates neighbors incrementally from the bits flipped by the mutation iterator.
+   */
+  private final class IncrementalIntCostClimber extends IntCostClimber {
+
+    private final IncrementalBitVectorProblem.Integer problem =
+        (IncrementalBitVectorProblem.Integer) pOptInt;
+    private final ObservableIterableBitFlipMutation bitFlips =
+        (ObservableIterableBitFlipMutation) mutation;
+    private IncrementalBitVectorProblem.IntegerEvaluation evaluation;
+
+    @Override
+    int start(T current) {
+      evaluation = problem.incrementalEvaluation((BitVector) current);
+      return evaluation.cost();
+    }
+
+    @Override
+    MutationIterator iterator(T current) {
+      return bitFlips.iterator((BitVector) current, evaluation::flipped);
+    }
+
+    @Override
+    int cost(T current) {
+      return evaluation.cost();
+    }
+  }
+
+  /*
+   * Evaluates neighbors incrementally from the bits flipped by the mutation iterator.
+   */
+  private final class IncrementalDoubleCostClimber extends DoubleCostClimber {
+
+    private final IncrementalBitVectorProblem.Double problem =
+        (IncrementalBitVectorProblem.Double) pOpt;
+    private final ObservableIterableBitFlipMutation bitFlips =
+        (ObservableIterableBitFlipMutation) mutation;
+    private IncrementalBitVectorProblem.DoubleEvaluation evaluation;
+
+    @Override
+    double start(T current) {
+      evaluation = problem.incrementalEvaluation((BitVector) current);
+      return evaluation.cost();
+    }
+
+    @Override
+    MutationIterator iterator(T current) {
+      return bitFlips.iterator((BitVector) current, evaluation::flipped);
+    }
+
+    @Override
+    double cost(T current) {
+      return evaluation.cost();
+    }
   }
 }
@@ -0,0 +1,92 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.operators;
+
+/**
+ * Implement the AnchoredMutationOperator interface to define an {@link IndexedMutationOperator}
+ * whose neighbors are associated with anchors, such as positions of a permutation. Each neighbor
+ * changes a contiguous range of anchors, from its {@link #anchor anchor} through its {@link
+ * #lastAnchor last anchor}, such as the first and last positions of a permutation changed by a
+ * move. The neighbors are indexed such that the neighbors with the same anchor form runs of
+ * consecutive indexes, so that a local search can skip all of the neighbors with a given anchor
+ * without visiting them one at a time.
+ *
+ * <p>This enables "don't look bits," in which a local search keeps a bit per anchor that it sets
+ * when none of the neighbors with that anchor is an improvement, and clears when an improving move
+ * changes the anchor or the anchors adjacent to it. Neighbors whose anchor's bit is set are not
+ * evaluated, which focuses the search on the parts of the candidate solution that recently changed,
+ * such as is done by {@link org.cicirello.search.hc.FirstDescentHillClimber}.
+ *
+ * <p>Implementations of the methods of this interface must not depend on or change the state of the
+ * mutation operator, so that they may be called concurrently by multiple threads on different
+ * candidate solutions.
+ *
+ * @param <T> The type of object used to represent candidate solutions to the problem.
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public interface AnchoredMutationOperator<T> extends IndexedMutationOperator<T> {
+
+  /**
+   * Gets the number of anchors of a candidate solution, such as the length of a permutation.
+   *
+   * @param c The candidate solution.
+   * @return the number of anchors of c, which are numbered from 0 to anchorCount(c) - 1.
+   */
+  int anchorCount(T c);
+
+  /**
+   * Gets the anchor of the neighbor with index k, which is the first of the anchors that it
+   * changes.
+   *
+   * @param c The candidate solution.
+   * @param k The index of the neighbor, which must be in the interval [0, neighborhoodSize(c)). The
+   *     behavior is undefined for an index outside of this interval.
+   * @return the anchor of the neighbor with index k
+   */
+  int anchor(T c, long k);
+
+  /**
+   * Gets the last of the anchors changed by the neighbor with index k.
+   *
+   * @param c The candidate solution.
+   * @param k The index of the neighbor, which must be in the interval [0, neighborhoodSize(c)). The
+   *     behavior is undefined for an index outside of this interval.
+   * @return the last anchor changed by the neighbor with index k, which is at least {@link #anchor
+   *     anchor(c, k)}
+   */
+  int lastAnchor(T c, long k);
+
+  /**
+   * Gets the end of the run of consecutive indexes, beginning at k, of neighbors with the same
+   * anchor as the neighbor with index k.
+   *
+   * @param c The candidate solution.
+   * @param k The index of the neighbor, which must be in the interval [0, neighborhoodSize(c)). The
+   *     behavior is undefined for an index outside of this interval.
+   * @return the smallest index r greater than k, such that either r is neighborhoodSize(c) or
+   *     neighbor r has a different anchor than neighbor r - 1
+   */
+  long anchorRunEnd(T c, long k);
+
+  @Override
+  AnchoredMutationOperator<T> split();
+}
@@ -0,0 +1,91 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.operators;
+
+/**
+ * Implement the IndexedMutationOperator interface to define a mutation operator that enables random
+ * access to the neighbors of a candidate solution. The neighbors of a candidate solution c are
+ * numbered from 0 to neighborhoodSize(c) - 1, and the candidate can be transformed into any of its
+ * neighbors by index, and then back again. Unlike the {@link MutationIterator} of an {@link
+ * IterableMutationOperator}, which must visit the neighbors in sequence, this enables partitioning
+ * a neighborhood into ranges of indexes that are evaluated by different threads, each on its own
+ * copy of the candidate solution, such as is done by {@link
+ * org.cicirello.search.hc.ParallelSteepestDescentHillClimber}.
+ *
+ * <p>Example: Here is an example of its use, which finds the index of the best neighbor of x.
+ *
+ * <pre><code>
+ * T x = some object of type T.
+ * IndexedMutationOperator&lt;T&gt; mutation = ....
+ * long best = -1;
+ * for (long k = 0; k &lt; mutation.neighborhoodSize(x); k++) {
+ *     mutation.mutate(x, k);
+ *     if (new state of x is better than the best neighbor so far) {
+ *          best = k;
+ *     }
+ *     mutation.undo(x, k);
+ * }
+ * if (best &ge; 0) mutation.mutate(x, best);
+ * </code></pre>
+ *
+ * <p>Implementations of the {@link #neighborhoodSize}, {@link #mutate(Object, long)}, and {@link
+ * #undo(Object, long)} methods must not depend on or change the state of the mutation operator, so
+ * that they may be called concurrently by multiple threads on different candidate solutions.
+ *
+ * @param <T> The type of object used to represent candidate solutions to the problem.
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public interface IndexedMutationOperator<T> extends IterableMutationOperator<T> {
+
+  /**
+   * Gets the number of direct neighbors (i.e., a single mutation step away) of a candidate
+   * solution.
+   *
+   * @param c The candidate solution.
+   * @return the number of neighbors of c, which is the same as the number of neighbors visited by
+   *     the {@link MutationIterator} created by {@link #iterator}.
+   */
+  long neighborhoodSize(T c);
+
+  /**
+   * Mutates a candidate solution into one of its neighbors.
+   *
+   * @param c The candidate solution subject to the mutation.
+   * @param k The index of the neighbor, which must be in the interval [0, neighborhoodSize(c)). The
+   *     behavior is undefined for an index outside of this interval.
+   */
+  void mutate(T c, long k);
+
+  /**
+   * Reverts a candidate solution that was mutated into its neighbor with index k, by a call to
+   * {@link #mutate(Object, long) mutate(c, k)}, to its state prior to that call. The behavior of
+   * undo is undefined if c is altered by some other process between the calls to mutate and undo,
+   * or if a different index is passed.
+   *
+   * @param c The candidate solution to revert.
+   * @param k The index of the neighbor passed to the most recent mutate.
+   */
+  void undo(T c, long k);
+
+  @Override
+  IndexedMutationOperator<T> split();
+}
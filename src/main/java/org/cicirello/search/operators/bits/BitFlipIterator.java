@@ -20,6 +20,7 @@
 
 package org.cicirello.search.operators.bits;
 
+import java.util.function.IntConsumer;
 import org.cicirello.search.operators.MutationIterator;
 import org.cicirello.search.representations.BitVector;
 
@@ -33,6 +34,7 @@ import org.cicirello.search.representations.BitVector;
 final class BitFlipIterator implements MutationIterator {
 
   private final BitVector v;
+  private final IntConsumer listener;
   private final int maxBits;
   private boolean rolled;
   private boolean hasMore;
@@ -42,7 +44,15 @@ final class BitFlipIterator implements MutationIterator {
   private int numBitsSaved;
 
   BitFlipIterator(BitVector v, int maxBits) {
+    this(v, maxBits, index -> {});
+  }
+
+  /*
+   * Iterator that passes the index of each bit that it flips to the listener.
+   */
+  BitFlipIterator(BitVector v, int maxBits, IntConsumer listener) {
     this.v = v;
+    this.listener = listener;
     this.maxBits = maxBits;
     // default init: rolled = false;
     hasMore = v.length() >= 1;
@@ -68,14 +78,14 @@ final class BitFlipIterator implements MutationIterator {
     int j = numBits - 1;
     if (indexes[0] >= 0) {
       // undo previous flip
-      v.flip(indexes[j]);
+      flip(indexes[j]);
     }
     // compute next mutant
     indexes[j]++;
     while (j > 0 && indexes[j] > v.length() - (numBits - j)) {
       j--;
       // undo previous flip
-      v.flip(indexes[j]);
+      flip(indexes[j]);
       indexes[j]++;
     }
     if (indexes[0] > v.length() - numBits) {
@@ -83,10 +93,10 @@ final class BitFlipIterator implements MutationIterator {
       j = 0;
       indexes[0] = 0;
     }
-    v.flip(indexes[j]);
+    flip(indexes[j]);
     for (int i = j + 1; i < numBits; i++) {
       indexes[i] = indexes[i - 1] + 1;
-      v.flip(indexes[i]);
+      flip(indexes[i]);
     }
     // check if more mutants
     if (numBits == maxBits && indexes[0] == v.length() - numBits) hasMore = false;
@@ -105,13 +115,18 @@ final class BitFlipIterator implements MutationIterator {
     if (!rolled) {
       rolled = true;
       for (int i = 0; i < numBits; i++) {
-        v.flip(indexes[i]);
+        flip(indexes[i]);
       }
       if (save != null) {
         for (int i = 0; i < numBitsSaved; i++) {
-          v.flip(save[i]);
+          flip(save[i]);
         }
       }
     }
   }
+
+  private void flip(int index) {
+    v.flip(index);
+    listener.accept(index);
+  }
 }
@@ -20,9 +20,10 @@
 
 package org.cicirello.search.operators.bits;
 
+import java.util.Arrays;
+import java.util.function.IntConsumer;
 import org.cicirello.math.rand.EnhancedSplittableGenerator;
 import org.cicirello.search.internal.RandomnessFactory;
-import org.cicirello.search.operators.UndoableMutationOperator;
 import org.cicirello.search.representations.BitVector;
 
 /**
@@ -40,14 +41,27 @@ import org.cicirello.search.representations.BitVector;
  * mutation operator for BitVectors that guarantees that all calls to the {@link #mutate} method
  * will change the BitVector, then consider using the {@link DefiniteBitFlipMutation} class instead.
  *
+ * <p>The bits to flip are chosen by sampling the gaps between consecutive flipped bits from the
+ * geometric distribution, so the cost of a call to {@link #mutate} is proportional to the number of
+ * bits actually flipped, NM, rather than to N. The one exception is M=0.5, for which the bits to
+ * flip are drawn 32 at a time into a bit mask that the operator reuses across calls. In either
+ * case, the operator does not allocate memory during mutation, other than to grow its internal
+ * buffers when necessary.
+ *
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
-public final class BitFlipMutation implements UndoableMutationOperator<BitVector> {
+public final class BitFlipMutation implements ObservableBitFlipMutation {
 
   private final double m;
-  private BitVector bitMask;
   private final EnhancedSplittableGenerator generator;
+  private final GeometricBitSampler sampler;
+
+  // The flips of the most recent mutation, for undo: a bit mask if m is 0.5, and otherwise
+  // the first numFlipped elements of flipped.
+  private BitVector bitMask;
+  private int[] flipped;
+  private int numFlipped;
 
   /**
    * Constructs a BitFlipMutation operator with a specified mutation rate.
@@ -62,6 +76,8 @@ public final class BitFlipMutation implements UndoableMutationOperator<BitVector
     if (m <= 0 || m >= 1) throw new IllegalArgumentException("m constrained by: 0.0 < m < 1.0");
     this.m = m;
     generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    sampler = m != 0.5 ? new GeometricBitSampler(m) : null;
+    flipped = new int[0];
   }
 
   /*
@@ -70,24 +86,75 @@ public final class BitFlipMutation implements UndoableMutationOperator<BitVector
   private BitFlipMutation(BitFlipMutation other) {
     m = other.m;
     generator = other.generator.split();
-    // deliberately don't copy bitMask (each instance needs to maintain its own for undo)
+    sampler = other.sampler;
+    // deliberately don't copy bitMask or flipped (each instance needs to maintain its own for undo)
+    flipped = new int[0];
   }
 
   @Override
   public void mutate(BitVector c) {
-    bitMask = new BitVector(c.length(), m, generator);
-    c.xor(bitMask);
+    final int n = c.length();
+    if (sampler == null) {
+      bitMask = GeometricBitSampler.scratchMask(bitMask, n);
+      GeometricBitSampler.randomize(bitMask, generator);
+      c.xor(bitMask);
+    } else {
+      numFlipped = 0;
+      for (int i = sampler.next(-1, n, generator); i < n; i = sampler.next(i, n, generator)) {
+        if (numFlipped == flipped.length) {
+          flipped = Arrays.copyOf(flipped, Math.max(8, 2 * numFlipped));
+        }
+        flipped[numFlipped] = i;
+        numFlipped++;
+        c.flip(i);
+      }
+    }
+  }
+
+  @Override
+  public void mutate(BitVector c, IntConsumer listener) {
+    mutate(c);
+    reportFlips(listener);
   }
 
   @Override
   public void undo(BitVector c) {
-    if (bitMask != null) {
-      c.xor(bitMask);
+    if (sampler == null) {
+      if (bitMask != null) {
+        c.xor(bitMask);
+      }
+    } else {
+      for (int i = 0; i < numFlipped; i++) {
+        c.flip(flipped[i]);
+      }
     }
   }
 
+  @Override
+  public void undo(BitVector c, IntConsumer listener) {
+    undo(c);
+    reportFlips(listener);
+  }
+
   @Override
   public BitFlipMutation split() {
     return new BitFlipMutation(this);
   }
+
+  private void reportFlips(IntConsumer listener) {
+    if (sampler == null) {
+      if (bitMask != null) {
+        final int numBlocks = (bitMask.length() + 31) >> 5;
+        for (int i = 0; i < numBlocks; i++) {
+          for (int bits = bitMask.get32(i); bits != 0; bits &= bits - 1) {
+            listener.accept((i << 5) + Integer.numberOfTrailingZeros(bits));
+          }
+        }
+      }
+    } else {
+      for (int i = 0; i < numFlipped; i++) {
+        listener.accept(flipped[i]);
+      }
+    }
+  }
 }
@@ -20,11 +20,10 @@
 
 package org.cicirello.search.operators.bits;
 
+import java.util.function.IntConsumer;
 import org.cicirello.math.rand.EnhancedSplittableGenerator;
 import org.cicirello.search.internal.RandomnessFactory;
-import org.cicirello.search.operators.IterableMutationOperator;
 import org.cicirello.search.operators.MutationIterator;
-import org.cicirello.search.operators.UndoableMutationOperator;
 import org.cicirello.search.representations.BitVector;
 
 /**
@@ -59,8 +58,7 @@ import org.cicirello.search.representations.BitVector;
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
-public final class DefiniteBitFlipMutation
-    implements UndoableMutationOperator<BitVector>, IterableMutationOperator<BitVector> {
+public final class DefiniteBitFlipMutation implements ObservableIterableBitFlipMutation {
 
   private final int b;
   private int[] flipped;
@@ -98,6 +96,14 @@ public final class DefiniteBitFlipMutation
     }
   }
 
+  @Override
+  public void mutate(BitVector c, IntConsumer listener) {
+    mutate(c);
+    for (int i = 0; i < flipped.length; i++) {
+      listener.accept(flipped[i]);
+    }
+  }
+
   @Override
   public void undo(BitVector c) {
     if (flipped != null) {
@@ -107,6 +113,16 @@ public final class DefiniteBitFlipMutation
     }
   }
 
+  @Override
+  public void undo(BitVector c, IntConsumer listener) {
+    undo(c);
+    if (flipped != null) {
+      for (int i = 0; i < flipped.length; i++) {
+        listener.accept(flipped[i]);
+      }
+    }
+  }
+
   @Override
   public DefiniteBitFlipMutation split() {
     return new DefiniteBitFlipMutation(this);
@@ -116,4 +132,9 @@ public final class DefiniteBitFlipMutation
   public MutationIterator iterator(BitVector c) {
     return new BitFlipIterator(c, Math.min(b, c.length()));
   }
+
+  @Override
+  public MutationIterator iterator(BitVector c, IntConsumer listener) {
+    return new BitFlipIterator(c, Math.min(b, c.length()), listener);
+  }
 }
@@ -0,0 +1,80 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.operators.bits;
+
+import org.cicirello.math.rand.EnhancedRandomGenerator;
+import org.cicirello.search.representations.BitVector;
+
+/**
+ * Internal (package-private) class for choosing the bit positions affected by an operator that
+ * independently affects each bit with probability p. Rather than making a random decision for each
+ * bit, the gaps between consecutive affected positions are sampled directly from the geometric
+ * distribution, so the number of random draws is proportional to the number of affected bits rather
+ * than to the length of the BitVector.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+final class GeometricBitSampler {
+
+  private final double logQ;
+
+  /**
+   * Constructs the sampler.
+   *
+   * @param p The probability that each bit is affected, which must satisfy 0 &lt; p &lt; 1.
+   */
+  GeometricBitSampler(double p) {
+    logQ = Math.log1p(-p);
+  }
+
+  /**
+   * Chooses the next affected bit position.
+   *
+   * @param i The previous affected position, or -1 to choose the first affected position.
+   * @param n The length of the BitVector.
+   * @param generator The source of randomness.
+   * @return the next affected position after i, or n if there are no further affected positions.
+   */
+  int next(int i, int n, EnhancedRandomGenerator generator) {
+    // 1 - nextDouble() is in (0, 1], so the log is finite.
+    double skip = Math.floor(Math.log(1.0 - generator.nextDouble()) / logQ);
+    return skip < n - 1 - i ? i + 1 + (int) skip : n;
+  }
+
+  /*
+   * Refills a mask with uniformly random bits, the p=0.5 case, for which drawing 32 bits
+   * at a time is cheaper than sampling the roughly n/2 gaps.
+   */
+  static void randomize(BitVector mask, EnhancedRandomGenerator generator) {
+    final int numBlocks = (mask.length() + 31) >> 5;
+    for (int i = 0; i < numBlocks; i++) {
+      mask.set32(i, generator.nextInt());
+    }
+  }
+
+  /*
+   * Returns scratch if it has length n, and otherwise a new BitVector of length n.
+   */
+  static BitVector scratchMask(BitVector scratch, int n) {
+    return scratch != null && scratch.length() == n ? scratch : new BitVector(n);
+  }
+}
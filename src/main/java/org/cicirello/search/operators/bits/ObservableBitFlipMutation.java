@@ -0,0 +1,63 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.operators.bits;
+
+import java.util.function.IntConsumer;
+import org.cicirello.search.operators.UndoableMutationOperator;
+import org.cicirello.search.representations.BitVector;
+
+/**
+ * A mutation operator for BitVectors that can report each of the bits that it flips. This enables
+ * search algorithms to update an incremental evaluation of a candidate solution, such as that of an
+ * {@link org.cicirello.search.problems.IncrementalBitVectorProblem}, in time proportional to the
+ * number of bits that are flipped rather than to the length of the BitVector.
+ *
+ * <p>Each bit that is flipped is passed to the listener after it is flipped, and before it is
+ * flipped again, if it is flipped more than once.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public interface ObservableBitFlipMutation extends UndoableMutationOperator<BitVector> {
+
+  /**
+   * Mutates a candidate solution, passing the index of each flipped bit to a listener.
+   *
+   * @param c The candidate solution subject to the mutation.
+   * @param listener The listener, whose accept method is called with the index of each bit that is
+   *     flipped.
+   */
+  void mutate(BitVector c, IntConsumer listener);
+
+  /**
+   * Returns a candidate solution to its previous state prior to the most recent mutation performed,
+   * passing the index of each flipped bit to a listener. The behavior is otherwise as described for
+   * {@link #undo(Object) undo(c)}.
+   *
+   * @param c The candidate solution to revert.
+   * @param listener The listener, whose accept method is called with the index of each bit that is
+   *     flipped.
+   */
+  void undo(BitVector c, IntConsumer listener);
+
+  @Override
+  ObservableBitFlipMutation split();
+}
@@ -0,0 +1,53 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.operators.bits;
+
+import java.util.function.IntConsumer;
+import org.cicirello.search.operators.IterableMutationOperator;
+import org.cicirello.search.operators.MutationIterator;
+import org.cicirello.search.representations.BitVector;
+
+/**
+ * A mutation operator for BitVectors that can report each of the bits that it flips, both during
+ * mutation and during iteration over the neighbors of a candidate solution, such as by a hill
+ * climber.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public interface ObservableIterableBitFlipMutation
+    extends ObservableBitFlipMutation, IterableMutationOperator<BitVector> {
+
+  /**
+   * Creates a {@link MutationIterator} over the neighbors of a candidate solution, which passes the
+   * index of each bit that it flips, including the bits flipped by its rollback method, to a
+   * listener. The iterator is otherwise the same as that of {@link #iterator(Object) iterator(c)}.
+   *
+   * @param c The candidate solution subject to the mutation, which is changed by the iterator.
+   * @param listener The listener, whose accept method is called with the index of each bit that is
+   *     flipped.
+   * @return A MutationIterator for iterating over the neighbors of c.
+   */
+  MutationIterator iterator(BitVector c, IntConsumer listener);
+
+  @Override
+  ObservableIterableBitFlipMutation split();
+}
@@ -35,6 +35,11 @@ import org.cicirello.search.representations.BitVector;
  * for p=0.5, which leads to each child inheriting on average half of the bits from each of the two
  * parents.
  *
+ * <p>The bits to exchange are chosen by sampling the gaps between consecutive exchanged bits from
+ * the geometric distribution, so the cost of a call to {@link #cross} is proportional to the number
+ * of bits exchanged, p*N, rather than to N. The one exception is p=0.5, for which the bits to
+ * exchange are drawn 32 at a time into a bit mask that the operator reuses across calls.
+ *
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
@@ -42,11 +47,14 @@ public final class UniformCrossover implements CrossoverOperator<BitVector> {
 
   private final double p;
   private final EnhancedSplittableGenerator generator;
+  private final GeometricBitSampler sampler;
+  private BitVector bitMask;
 
   /** Constructs a uniform crossover operator with a probability of exchanging each bit of p=0.5. */
   public UniformCrossover() {
     p = 0.5;
     generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    sampler = null;
   }
 
   /**
@@ -59,6 +67,8 @@ public final class UniformCrossover implements CrossoverOperator<BitVector> {
   public UniformCrossover(double p) {
     this.p = p <= 0.0 ? 0.0 : (p >= 1.0 ? 1.0 : p);
     generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    sampler =
+        this.p > 0.0 && this.p < 1.0 && this.p != 0.5 ? new GeometricBitSampler(this.p) : null;
   }
 
   /*
@@ -67,6 +77,8 @@ public final class UniformCrossover implements CrossoverOperator<BitVector> {
   private UniformCrossover(UniformCrossover other) {
     p = other.p;
     generator = other.generator.split();
+    sampler = other.sampler;
+    // deliberately don't share bitMask, which is modified during crossover
   }
 
   /**
@@ -76,7 +88,24 @@ public final class UniformCrossover implements CrossoverOperator<BitVector> {
    */
   @Override
   public void cross(BitVector c1, BitVector c2) {
-    BitVector.exchangeBits(c1, c2, new BitVector(c1.length(), p, generator));
+    final int n = c1.length();
+    if (n != c2.length()) {
+      throw new IllegalArgumentException("BitVectors must be same length");
+    }
+    if (sampler != null) {
+      for (int i = sampler.next(-1, n, generator); i < n; i = sampler.next(i, n, generator)) {
+        if (c1.getBit(i) != c2.getBit(i)) {
+          c1.flip(i);
+          c2.flip(i);
+        }
+      }
+    } else if (p == 0.5) {
+      bitMask = GeometricBitSampler.scratchMask(bitMask, n);
+      GeometricBitSampler.randomize(bitMask, generator);
+      BitVector.exchangeBits(c1, c2, bitMask);
+    } else if (p == 1.0 && n > 0) {
+      BitVector.exchangeBits(c1, c2, 0, n - 1);
+    }
   }
 
   @Override
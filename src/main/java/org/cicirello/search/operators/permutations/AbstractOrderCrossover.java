@@ -39,13 +39,22 @@ abstract class AbstractOrderCrossover
 
   private final EnhancedSplittableGenerator generator;
 
+  // Scratch arrays reused across calls, reallocated only if the permutation length changes.
+  private boolean[] in1;
+  private boolean[] in2;
+  private IntegerArray list1;
+  private IntegerArray list2;
+
   /** Constructs an order crossover (OX) operator. */
   AbstractOrderCrossover() {
     generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    in1 = in2 = new boolean[0];
   }
 
   AbstractOrderCrossover(AbstractOrderCrossover other) {
     generator = other.generator.split();
+    // Scratch arrays are not shared across splits, since they are modified during crossover.
+    in1 = in2 = new boolean[0];
   }
 
   @Override
@@ -71,14 +80,19 @@ abstract class AbstractOrderCrossover
     }
     final int orderedCount = raw1.length - (j - i + 1);
     if (orderedCount > 0) {
-      boolean[] in1 = new boolean[raw1.length];
-      boolean[] in2 = new boolean[raw1.length];
+      if (in1.length != raw1.length) {
+        in1 = new boolean[raw1.length];
+        in2 = new boolean[raw1.length];
+        list1 = new IntegerArray(raw1.length);
+        list2 = new IntegerArray(raw1.length);
+      } else {
+        list1.clear();
+        list2.clear();
+      }
       for (int k = i; k <= j; k++) {
         in1[raw1[k]] = true;
         in2[raw2[k]] = true;
       }
-      IntegerArray list1 = new IntegerArray(orderedCount);
-      IntegerArray list2 = new IntegerArray(orderedCount);
       for (int k = 0; k < raw1.length; k++) {
         if (!in2[raw1[k]]) {
           list1.add(raw1[k]);
@@ -87,6 +101,11 @@ abstract class AbstractOrderCrossover
           list2.add(raw2[k]);
         }
       }
+      // Only the cross region was marked, so unmark it for the next call.
+      for (int k = i; k <= j; k++) {
+        in1[raw1[k]] = false;
+        in2[raw2[k]] = false;
+      }
       int rightSide = orderedCount - i;
       formPermutations(list1, list2, raw1, raw2, rightSide, i, j);
     }
@@ -23,7 +23,7 @@ package org.cicirello.search.operators.permutations;
 import org.cicirello.math.rand.EnhancedSplittableGenerator;
 import org.cicirello.permutations.Permutation;
 import org.cicirello.search.internal.RandomnessFactory;
-import org.cicirello.search.operators.IterableMutationOperator;
+import org.cicirello.search.operators.AnchoredMutationOperator;
 import org.cicirello.search.operators.MutationIterator;
 import org.cicirello.search.operators.UndoableMutationOperator;
 
@@ -49,7 +49,7 @@ import org.cicirello.search.operators.UndoableMutationOperator;
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
 public final class BlockMoveMutation
-    implements UndoableMutationOperator<Permutation>, IterableMutationOperator<Permutation> {
+    implements UndoableMutationOperator<Permutation>, AnchoredMutationOperator<Permutation> {
 
   // needed to implement undo
   private final int[] indexes;
@@ -103,6 +103,49 @@ public final class BlockMoveMutation
     return new BlockMoveIterator(p);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The neighborhood consists of the distinct block moves, each of which exchanges a pair of
+   * adjacent blocks.
+   */
+  @Override
+  public long neighborhoodSize(Permutation c) {
+    return PermutationNeighborhoods.blockMoveCount(c.length(), c.length());
+  }
+
+  @Override
+  public void mutate(Permutation c, long k) {
+    PermutationNeighborhoods.blockMove(c, c.length(), k, false);
+  }
+
+  @Override
+  public void undo(Permutation c, long k) {
+    PermutationNeighborhoods.blockMove(c, c.length(), k, true);
+  }
+
+  @Override
+  public int anchorCount(Permutation c) {
+    return c.length();
+  }
+
+  @Override
+  public int anchor(Permutation c, long k) {
+    return PermutationNeighborhoods.first(
+        PermutationNeighborhoods.blockMoveRange(c.length(), c.length(), k));
+  }
+
+  @Override
+  public int lastAnchor(Permutation c, long k) {
+    return PermutationNeighborhoods.second(
+        PermutationNeighborhoods.blockMoveRange(c.length(), c.length(), k));
+  }
+
+  @Override
+  public long anchorRunEnd(Permutation c, long k) {
+    return PermutationNeighborhoods.blockMoveRunEnd(c.length(), c.length(), k);
+  }
+
   /*
    * package access to support unit testing
    */
@@ -55,13 +55,19 @@ public final class CycleCrossover
 
   private final EnhancedSplittableGenerator generator;
 
+  // Scratch array reused across calls, reallocated only if the permutation length changes.
+  private int[] inv1;
+
   /** Constructs a cycle crossover (CX) operator. */
   public CycleCrossover() {
     generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    inv1 = new int[0];
   }
 
   private CycleCrossover(CycleCrossover other) {
     generator = other.generator.split();
+    // Scratch array is not shared across splits, since it is modified during crossover.
+    inv1 = new int[0];
   }
 
   @Override
@@ -85,21 +91,22 @@ public final class CycleCrossover
    */
   @Override
   public void apply(int[] raw1, int[] raw2, Permutation p1, Permutation p2) {
-    boolean[] inCycle = new boolean[raw1.length];
-    int[] cycle = new int[raw1.length];
-    int count = 0;
-    int[] inv1 = p1.getInverse();
-    int i = generator.nextInt(raw1.length);
-    while (!inCycle[i]) {
-      inCycle[i] = true;
-      cycle[count] = i;
-      count++;
-      i = inv1[raw2[i]];
+    if (inv1.length != raw1.length) {
+      inv1 = new int[raw1.length];
     }
-    for (i = 0; i < count; i++) {
-      int temp = raw1[cycle[i]];
-      raw1[cycle[i]] = raw2[cycle[i]];
-      raw2[cycle[i]] = temp;
+    for (int k = 0; k < raw1.length; k++) {
+      inv1[raw1[k]] = k;
     }
+    // The cycle ends when it returns to its first index, and the next index of the
+    // cycle depends only on the parents, so the cycle is exchanged as it is traversed.
+    final int first = generator.nextInt(raw1.length);
+    int i = first;
+    do {
+      int next = inv1[raw2[i]];
+      int temp = raw1[i];
+      raw1[i] = raw2[i];
+      raw2[i] = temp;
+      i = next;
+    } while (i != first);
   }
 }
@@ -62,7 +62,8 @@ import org.cicirello.search.operators.CrossoverOperator;
  * Algorithms</i>, pages 69-76, 1991.
  *
  * <p>The worst case runtime of a call to {@link #cross cross} is O(n), where n is the length of the
- * permutations.
+ * permutations. The edge map also requires O(n) memory, since each element is adjacent to at most
+ * four others, and it is reused across calls to {@link #cross cross} on the same instance.
  *
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
@@ -71,14 +72,21 @@ public final class EnhancedEdgeRecombination
     implements CrossoverOperator<Permutation>, PermutationBinaryOperator {
 
   private final EnhancedSplittableGenerator generator;
+  private final EnhancedEdgeMap map;
+  private final EnhancedEdgeMap mapCopy;
 
   /** Constructs an enhanced edge recombination operator. */
   public EnhancedEdgeRecombination() {
     generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    map = new EnhancedEdgeMap(0);
+    mapCopy = new EnhancedEdgeMap(0);
   }
 
   private EnhancedEdgeRecombination(EnhancedEdgeRecombination other) {
     generator = other.generator.split();
+    // Edge maps are not shared across splits, since they are modified during crossover.
+    map = new EnhancedEdgeMap(0);
+    mapCopy = new EnhancedEdgeMap(0);
   }
 
   @Override
@@ -102,8 +110,9 @@ public final class EnhancedEdgeRecombination
    */
   @Override
   public void apply(int[] raw1, int[] raw2) {
-    EnhancedEdgeMap map = new EnhancedEdgeMap(raw1, raw2);
-    build(raw1, new EnhancedEdgeMap(map));
+    map.init(raw1, raw2);
+    mapCopy.copy(map);
+    build(raw1, mapCopy);
     build(raw2, map);
   }
 
@@ -119,118 +128,131 @@ public final class EnhancedEdgeRecombination
 
   static final class EnhancedEdgeMap {
 
-    final int[][] adj;
-    final int[] count;
-    final boolean[] done;
+    // Adjacency lists, each of length at most 4. The list for element e is
+    // adj[4e], adj[4e+1], ..., adj[4e+count[e]-1].
+    private int[] adj;
+    private int[] count;
+    private boolean[] done;
+    private int[] ties;
+    private final int[] minIndexes;
+    private int n;
 
     /*
      * Assumes length is greater than 1
      */
     EnhancedEdgeMap(int[] raw1, int[] raw2) {
-      adj = new int[raw1.length][4];
-      count = new int[raw1.length];
-      done = new boolean[raw1.length];
-      boolean[][] in = new boolean[raw1.length][raw1.length];
-      adj[raw1[0]][0] = raw1[raw1.length - 1];
-      in[raw1[0]][raw1[raw1.length - 1]] = true;
-      for (int i = 1; i < raw1.length; i++) {
-        adj[raw1[i]][0] = raw1[i - 1];
-        in[raw1[i]][raw1[i - 1]] = true;
+      this(raw1.length);
+      init(raw1, raw2);
+    }
+
+    EnhancedEdgeMap(EnhancedEdgeMap other) {
+      this(other.n);
+      copy(other);
+    }
+
+    /*
+     * Constructs an empty EnhancedEdgeMap with capacity for permutations of length up to
+     * capacity. Use init or copy to initialize it, both of which grow the capacity if necessary.
+     */
+    EnhancedEdgeMap(int capacity) {
+      allocate(capacity);
+      minIndexes = new int[4];
+    }
+
+    /*
+     * Initializes the EnhancedEdgeMap from a pair of parents, reusing the arrays from
+     * previous calls if large enough. Duplicate edges are detected by scanning the adjacency
+     * lists, which have length at most 4, so this is O(n) time and memory.
+     * Assumes length is greater than 1.
+     */
+    final void init(int[] raw1, int[] raw2) {
+      n = raw1.length;
+      if (done.length < n) {
+        allocate(n);
+      } else {
+        Arrays.fill(done, 0, n, false);
+      }
+      final int last = n - 1;
+      adj[raw1[0] << 2] = raw1[last];
+      for (int i = 1; i < n; i++) {
+        adj[raw1[i] << 2] = raw1[i - 1];
       }
-      if (raw1.length <= 2) {
-        Arrays.fill(count, 1);
+      if (n <= 2) {
+        Arrays.fill(count, 0, n, 1);
       } else {
-        Arrays.fill(count, 2);
-        adj[raw1[raw1.length - 1]][1] = raw1[0];
-        in[raw1[raw1.length - 1]][raw1[0]] = true;
-        for (int i = 1; i < raw1.length; i++) {
-          adj[raw1[i - 1]][1] = raw1[i];
-          in[raw1[i - 1]][raw1[i]] = true;
+        Arrays.fill(count, 0, n, 2);
+        adj[(raw1[last] << 2) + 1] = raw1[0];
+        for (int i = 1; i < n; i++) {
+          adj[(raw1[i - 1] << 2) + 1] = raw1[i];
         }
-        if (!in[raw2[0]][raw2[raw2.length - 1]]) {
-          adj[raw2[0]][count[raw2[0]]] = raw2[raw2.length - 1];
-          in[raw2[0]][raw2[raw2.length - 1]] = true;
-          count[raw2[0]]++;
-        } else {
-          negate(raw2[0], raw2[raw2.length - 1]);
-        }
-        if (!in[raw2[raw2.length - 1]][raw2[0]]) {
-          adj[raw2[raw2.length - 1]][count[raw2[raw2.length - 1]]] = raw2[0];
-          in[raw2[raw2.length - 1]][raw2[0]] = true;
-          count[raw2[raw2.length - 1]]++;
-        } else {
-          negate(raw2[raw2.length - 1], raw2[0]);
-        }
-        for (int i = 1; i < raw2.length; i++) {
-          if (!in[raw2[i]][raw2[i - 1]]) {
-            adj[raw2[i]][count[raw2[i]]] = raw2[i - 1];
-            in[raw2[i]][raw2[i - 1]] = true;
-            count[raw2[i]]++;
-          } else {
-            negate(raw2[i], raw2[i - 1]);
-          }
-          if (!in[raw2[i - 1]][raw2[i]]) {
-            adj[raw2[i - 1]][count[raw2[i - 1]]] = raw2[i];
-            in[raw2[i - 1]][raw2[i]] = true;
-            count[raw2[i - 1]]++;
-          } else {
-            negate(raw2[i - 1], raw2[i]);
-          }
+        addOrNegate(raw2[0], raw2[last]);
+        addOrNegate(raw2[last], raw2[0]);
+        for (int i = 1; i < n; i++) {
+          addOrNegate(raw2[i], raw2[i - 1]);
+          addOrNegate(raw2[i - 1], raw2[i]);
         }
         // Mild modification from how described by Starkweather, et al.
         // Case with only 2 adjacent is when element is in the interior of
         // common subsequence, and both are negative. Flip sign to positive
         // to simplify logic elsewhere.
-        for (int i = 0; i < count.length; i++) {
+        for (int i = 0; i < n; i++) {
           if (count[i] == 2) {
             // Original version was a simple negation, but they assumed elements began at 1.
             // We begin at 0, and -0 obviously equals 0.
             // Instead, positives directly correspond to elements, and
             // our modified negation is -(v+1). This way 0 negated is -1.
-            adj[i][0] = -(adj[i][0] + 1);
-            adj[i][1] = -(adj[i][1] + 1);
+            final int base = i << 2;
+            adj[base] = -(adj[base] + 1);
+            adj[base + 1] = -(adj[base + 1] + 1);
           }
         }
       }
     }
 
-    EnhancedEdgeMap(EnhancedEdgeMap other) {
-      count = other.count.clone();
-      // deliberately not cloning done... this copy constructor
-      // only used on the initial EnhancedEdgeMap, so nothing done
-      done = new boolean[count.length];
-      adj = new int[other.adj.length][];
-      for (int i = 0; i < adj.length; i++) {
-        adj[i] = other.adj[i].clone();
+    /*
+     * Initializes this EnhancedEdgeMap as a copy of other, reusing the arrays from previous
+     * calls if large enough. Deliberately does not copy done, since this is only used
+     * on an initial EnhancedEdgeMap, so nothing is done.
+     */
+    final void copy(EnhancedEdgeMap other) {
+      n = other.n;
+      if (done.length < n) {
+        allocate(n);
+      } else {
+        Arrays.fill(done, 0, n, false);
       }
+      System.arraycopy(other.count, 0, count, 0, n);
+      System.arraycopy(other.adj, 0, adj, 0, n << 2);
     }
 
     final int pick(int from, EnhancedSplittableGenerator generator) {
+      final int base = from << 2;
       if (count[from] == 1) {
-        return negateIfNecessary(adj[from][0]);
+        return negateIfNecessary(adj[base]);
       }
       if (count[from] > 0) {
-        if (adj[from][0] < 0) {
+        if (adj[base] < 0) {
           // Original version was a simple negation, but they assumed elements began at 1.
           // We begin at 0, and -0 obviously equals 0.
           // Instead, positives directly correspond to elements, and
           // our modified negation is -(v+1). This way 0 negated is -1.
-          return -(adj[from][0] + 1);
+          return -(adj[base] + 1);
         }
-        int[] minIndexes = new int[4];
+        minIndexes[0] = base;
         int num = 1;
-        for (int i = 1; i < count[from]; i++) {
-          if (adj[from][i] < 0) {
+        final int end = base + count[from];
+        for (int i = base + 1; i < end; i++) {
+          if (adj[i] < 0) {
             // Original version was a simple negation, but they assumed elements began at 1.
             // We begin at 0, and -0 obviously equals 0.
             // Instead, positives directly correspond to elements, and
             // our modified negation is -(v+1). This way 0 negated is -1.
-            return -(adj[from][i] + 1);
+            return -(adj[i] + 1);
           }
-          if (count[adj[from][i]] < count[adj[from][minIndexes[0]]]) {
+          if (count[adj[i]] < count[adj[minIndexes[0]]]) {
             minIndexes[0] = i;
             num = 1;
-          } else if (count[adj[from][i]] == count[adj[from][minIndexes[0]]]) {
+          } else if (count[adj[i]] == count[adj[minIndexes[0]]]) {
             minIndexes[num] = i;
             num++;
           }
@@ -238,9 +260,9 @@ public final class EnhancedEdgeRecombination
         if (num > 1) {
           // The num can be at most 3, so nextBiasedInt's lack of rejection sampling
           // should introduce an extremely negligible bias away from uniformity.
-          return adj[from][minIndexes[generator.nextBiasedInt(num)]];
+          return adj[minIndexes[generator.nextBiasedInt(num)]];
         }
-        return adj[from][minIndexes[0]];
+        return adj[minIndexes[0]];
       }
       // IS IT POSSIBLE TO GET HERE?
       // IS IT POSSIBLE FOR NONE AVAILABLE?
@@ -253,35 +275,36 @@ public final class EnhancedEdgeRecombination
     }
 
     final void used(int element) {
-      for (int i = 0; i < count[element]; i++) {
-        remove(negateIfNecessary(adj[element][i]), element);
+      final int base = element << 2;
+      final int end = base + count[element];
+      for (int i = base; i < end; i++) {
+        remove(negateIfNecessary(adj[i]), element);
       }
       done[element] = true;
     }
 
     final void remove(int list, int element) {
-      int i = 0;
+      int i = list << 2;
       // guaranteed to be in list
-      while (negateIfNecessary(adj[list][i]) != element) {
+      while (negateIfNecessary(adj[i]) != element) {
         i++;
       }
       count[list]--;
-      adj[list][i] = adj[list][count[list]];
+      adj[i] = adj[(list << 2) + count[list]];
     }
 
     final int anyRemaining(EnhancedSplittableGenerator generator) {
-      int[] minIndexes = new int[adj.length];
       int num = 0;
-      for (int i = 0; i < done.length; i++) {
+      for (int i = 0; i < n; i++) {
         if (!done[i]) {
           if (num == 0) {
-            minIndexes[0] = i;
+            ties[0] = i;
             num = 1;
-          } else if (count[i] == count[minIndexes[0]]) {
-            minIndexes[num] = i;
+          } else if (count[i] == count[ties[0]]) {
+            ties[num] = i;
             num++;
-          } else if (count[i] < count[minIndexes[0]]) {
-            minIndexes[0] = i;
+          } else if (count[i] < count[ties[0]]) {
+            ties[0] = i;
             num = 1;
           }
         }
@@ -290,25 +313,33 @@ public final class EnhancedEdgeRecombination
         // The num should be very small, so nextBiasedInt's lack of rejection sampling
         // should introduce an extremely negligible bias away from uniformity. In fact, this
         // case is believed extremely statistically rare.
-        return minIndexes[generator.nextBiasedInt(num)];
+        return ties[generator.nextBiasedInt(num)];
       }
       if (num == 1) {
-        return minIndexes[0];
+        return ties[0];
       }
       return -1;
     }
 
-    private void negate(int u, int v) {
-      int i = 0;
-      // guaranteed to be in list so no bounds check needed
-      while (adj[u][i] != v) {
-        i++;
+    /*
+     * Adds v to the adjacency list of u if not already there, and otherwise marks
+     * the edge as common to both parents by negating it.
+     */
+    private void addOrNegate(int u, int v) {
+      final int base = u << 2;
+      final int end = base + count[u];
+      for (int i = base; i < end; i++) {
+        if (negateIfNecessary(adj[i]) == v) {
+          // Original version was a simple negation, but they assumed elements began at 1.
+          // We begin at 0, and -0 obviously equals 0.
+          // Instead, positives directly correspond to elements, and
+          // our modified negation is -(v+1). This way 0 negated is -1.
+          adj[i] = -(v + 1);
+          return;
+        }
       }
-      // Original version was a simple negation, but they assumed elements began at 1.
-      // We begin at 0, and -0 obviously equals 0.
-      // Instead, positives directly correspond to elements, and
-      // our modified negation is -(v+1). This way 0 negated is -1.
-      adj[u][i] = -(v + 1);
+      adj[end] = v;
+      count[u]++;
     }
 
     private int negateIfNecessary(int e) {
@@ -318,5 +349,12 @@ public final class EnhancedEdgeRecombination
       // our modified negation is -(v+1). This way 0 negated is -1.
       return e >= 0 ? e : -(e + 1);
     }
+
+    private void allocate(int capacity) {
+      adj = new int[capacity << 2];
+      count = new int[capacity];
+      done = new boolean[capacity];
+      ties = new int[capacity];
+    }
   }
 }
@@ -23,7 +23,7 @@ package org.cicirello.search.operators.permutations;
 import org.cicirello.math.rand.EnhancedSplittableGenerator;
 import org.cicirello.permutations.Permutation;
 import org.cicirello.search.internal.RandomnessFactory;
-import org.cicirello.search.operators.IterableMutationOperator;
+import org.cicirello.search.operators.AnchoredMutationOperator;
 import org.cicirello.search.operators.MutationIterator;
 import org.cicirello.search.operators.UndoableMutationOperator;
 
@@ -43,7 +43,7 @@ import org.cicirello.search.operators.UndoableMutationOperator;
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
 public final class InsertionMutation
-    implements UndoableMutationOperator<Permutation>, IterableMutationOperator<Permutation> {
+    implements UndoableMutationOperator<Permutation>, AnchoredMutationOperator<Permutation> {
 
   // needed to implement undo
   private final int[] indexes;
@@ -94,4 +94,47 @@ public final class InsertionMutation
   public MutationIterator iterator(Permutation p) {
     return new InsertionIterator(p);
   }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The neighborhood consists of the (n-1)<sup>2</sup> distinct insertions, where n is the
+   * length of the permutation.
+   */
+  @Override
+  public long neighborhoodSize(Permutation c) {
+    return PermutationNeighborhoods.insertionCount(c.length(), c.length());
+  }
+
+  @Override
+  public void mutate(Permutation c, long k) {
+    PermutationNeighborhoods.insertion(c, c.length(), k, false);
+  }
+
+  @Override
+  public void undo(Permutation c, long k) {
+    PermutationNeighborhoods.insertion(c, c.length(), k, true);
+  }
+
+  @Override
+  public int anchorCount(Permutation c) {
+    return c.length();
+  }
+
+  @Override
+  public int anchor(Permutation c, long k) {
+    return PermutationNeighborhoods.first(
+        PermutationNeighborhoods.insertionRange(c.length(), c.length(), k));
+  }
+
+  @Override
+  public int lastAnchor(Permutation c, long k) {
+    return PermutationNeighborhoods.second(
+        PermutationNeighborhoods.insertionRange(c.length(), c.length(), k));
+  }
+
+  @Override
+  public long anchorRunEnd(Permutation c, long k) {
+    return PermutationNeighborhoods.insertionRunEnd(c.length(), c.length(), k);
+  }
 }
@@ -25,7 +25,6 @@ import org.cicirello.permutations.Permutation;
 import org.cicirello.permutations.PermutationFullBinaryOperator;
 import org.cicirello.search.internal.RandomnessFactory;
 import org.cicirello.search.operators.CrossoverOperator;
-import org.cicirello.util.IntegerArray;
 
 /**
  * Implementation of the crossover operator for permutations that is often referred to as Order
@@ -79,6 +78,15 @@ public final class OrderCrossoverTwo
   private final double u;
   private final EnhancedSplittableGenerator generator;
 
+  // Scratch arrays reused across calls, reallocated only if the permutation length changes.
+  private boolean[] crossMask;
+  private boolean[] indexes1;
+  private boolean[] indexes2;
+  private int[] inv1;
+  private int[] inv2;
+  private int[] elementOrder1;
+  private int[] elementOrder2;
+
   /**
    * Constructs Syswerda's order crossover operator, often referred to as OX2. Uses a default U=0.5.
    */
@@ -97,11 +105,14 @@ public final class OrderCrossoverTwo
     if (u <= 0 || u >= 1.0) throw new IllegalArgumentException("u must be: 0.0 < u < 1.0");
     this.u = u;
     generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    allocate(0);
   }
 
   private OrderCrossoverTwo(OrderCrossoverTwo other) {
     generator = other.generator.split();
     u = other.u;
+    // Scratch arrays are not shared across splits, since they are modified during crossover.
+    allocate(0);
   }
 
   @Override
@@ -125,23 +136,32 @@ public final class OrderCrossoverTwo
    */
   @Override
   public void apply(int[] raw1, int[] raw2, Permutation p1, Permutation p2) {
-    internalCross(raw1, raw2, p1, p2, generator.arrayMask(raw1.length, u));
+    if (crossMask.length != raw1.length) {
+      allocate(raw1.length);
+    }
+    for (int i = 0; i < crossMask.length; i++) {
+      crossMask[i] = generator.nextDouble() < u;
+    }
+    internalCross(raw1, raw2, p1, p2, crossMask);
   }
 
   /*
    * package private to facilitate testing
    */
   final void internalCross(int[] raw1, int[] raw2, Permutation p1, Permutation p2, boolean[] mask) {
-    int[] inv1 = p1.getInverse();
-    int[] inv2 = p2.getInverse();
-    IntegerArray elementOrder1 = new IntegerArray(raw1.length);
-    IntegerArray elementOrder2 = new IntegerArray(raw1.length);
-    boolean[] indexes1 = new boolean[raw1.length];
-    boolean[] indexes2 = new boolean[raw1.length];
+    if (indexes1.length != raw1.length) {
+      allocate(raw1.length);
+    }
+    for (int i = 0; i < raw1.length; i++) {
+      inv1[raw1[i]] = i;
+      inv2[raw2[i]] = i;
+    }
+    int count = 0;
     for (int i = 0; i < mask.length; i++) {
       if (mask[i]) {
-        elementOrder1.add(raw2[i]);
-        elementOrder2.add(raw1[i]);
+        elementOrder1[count] = raw2[i];
+        elementOrder2[count] = raw1[i];
+        count++;
         indexes1[inv1[raw2[i]]] = true;
         indexes2[inv2[raw1[i]]] = true;
       }
@@ -150,13 +170,25 @@ public final class OrderCrossoverTwo
     int k = 0;
     for (int i = 0; i < indexes1.length; i++) {
       if (indexes1[i]) {
-        raw1[i] = elementOrder1.get(j);
+        raw1[i] = elementOrder1[j];
         j++;
+        indexes1[i] = false;
       }
       if (indexes2[i]) {
-        raw2[i] = elementOrder2.get(k);
+        raw2[i] = elementOrder2[k];
         k++;
+        indexes2[i] = false;
       }
     }
   }
+
+  private void allocate(int n) {
+    crossMask = new boolean[n];
+    indexes1 = new boolean[n];
+    indexes2 = new boolean[n];
+    inv1 = new int[n];
+    inv2 = new int[n];
+    elementOrder1 = new int[n];
+    elementOrder2 = new int[n];
+  }
 }
@@ -20,7 +20,6 @@
 
 package org.cicirello.search.operators.permutations;
 
-import java.util.Arrays;
 import org.cicirello.math.rand.EnhancedSplittableGenerator;
 import org.cicirello.permutations.Permutation;
 import org.cicirello.permutations.PermutationFullBinaryOperator;
@@ -70,13 +69,22 @@ public final class PartiallyMatchedCrossover
 
   private final EnhancedSplittableGenerator generator;
 
+  // Scratch arrays reused across calls, reallocated only if the permutation length changes.
+  private int[] inv1;
+  private int[] inv2;
+  private int[] old1;
+  private int[] old2;
+
   /** Constructs a partially matched crossover (PMX) operator. */
   public PartiallyMatchedCrossover() {
     generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    allocate(0);
   }
 
   private PartiallyMatchedCrossover(PartiallyMatchedCrossover other) {
     generator = other.generator.split();
+    // Scratch arrays are not shared across splits, since they are modified during crossover.
+    allocate(0);
   }
 
   @Override
@@ -115,10 +123,15 @@ public final class PartiallyMatchedCrossover
     } else {
       k = i;
     }
-    int[] inv1 = c1.getInverse();
-    int[] inv2 = c2.getInverse();
-    int[] old1 = Arrays.copyOfRange(raw1, k, j + 1);
-    int[] old2 = Arrays.copyOfRange(raw2, k, j + 1);
+    if (inv1.length != raw1.length) {
+      allocate(raw1.length);
+    }
+    for (int h = 0; h < raw1.length; h++) {
+      inv1[raw1[h]] = h;
+      inv2[raw2[h]] = h;
+    }
+    System.arraycopy(raw1, k, old1, 0, j - k + 1);
+    System.arraycopy(raw2, k, old2, 0, j - k + 1);
     for (int h = 0; k <= j; k++, h++) {
       int g = inv1[old2[h]];
       if (k != g) {
@@ -138,4 +151,11 @@ public final class PartiallyMatchedCrossover
       }
     }
   }
+
+  private void allocate(int n) {
+    inv1 = new int[n];
+    inv2 = new int[n];
+    old1 = new int[n];
+    old2 = new int[n];
+  }
 }
@@ -0,0 +1,240 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.operators.permutations;
+
+import org.cicirello.permutations.Permutation;
+
+/**
+ * Internal (package-private) class with the indexing of the neighborhoods of the permutation
+ * mutation operators that implement {@link org.cicirello.search.operators.IndexedMutationOperator}.
+ * Most of these neighborhoods are defined by pairs of indexes (i, j), with i &lt; j, constrained by
+ * a window limit w such that j - i &le; w. These pairs are numbered by i, and then by j, and a pair
+ * is packed into a long with i in the high 32 bits and j in the low 32 bits. Block moves are
+ * defined by the start of two adjacent blocks and their sizes.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+final class PermutationNeighborhoods {
+
+  private PermutationNeighborhoods() {}
+
+  /*
+   * The number of pairs of indexes (i, j), with 0 <= i < j < n and j - i <= w.
+   */
+  static long pairCount(int n, int w) {
+    if (n < 2 || w < 1) {
+      return 0;
+    }
+    final long v = Math.min(w, n - 1);
+    // n - v rows have v pairs each, and the remaining rows are a triangle.
+    return (n - v) * v + v * (v - 1) / 2;
+  }
+
+  /*
+   * The pair of indexes (i, j) with index k, packed into a long.
+   */
+  static long pair(int n, int w, long k) {
+    final int v = Math.min(w, n - 1);
+    final long full = (long) (n - v) * v;
+    if (k < full) {
+      int i = (int) (k / v);
+      return pack(i, i + 1 + (int) (k % v));
+    }
+    // The last v - 1 rows have lengths v - 1, ..., 1. Number them from the
+    // last row, so that row m has length m + 1 and begins at m(m+1)/2.
+    long q = (long) v * (v - 1) / 2 - 1 - (k - full);
+    long m = triangularRoot(q);
+    int o = (int) (q - m * (m + 1) / 2);
+    int i = n - 2 - (int) m;
+    return pack(i, i + 1 + (int) m - o);
+  }
+
+  static int first(long pair) {
+    return (int) (pair >>> 32);
+  }
+
+  static int second(long pair) {
+    return (int) pair;
+  }
+
+  /*
+   * The number of insertions (remove the element at i and reinsert at j) that
+   * move an element at most w positions, excluding the insertions that are
+   * equivalent to moving an adjacent element in the other direction.
+   */
+  static long insertionCount(int n, int w) {
+    return pairCount(n, w) + pairCount(n - 1, w - 1);
+  }
+
+  /*
+   * Mutates p into the insertion with index k if undo is false, and otherwise reverts it.
+   * The first pairCount(n, w) insertions move an element to the right, and the rest move
+   * an element at least 2 positions to the left.
+   */
+  static void insertion(Permutation p, int w, long k, boolean undo) {
+    final int n = p.length();
+    long range = insertionRange(n, w, k);
+    int from;
+    int to;
+    if (k < pairCount(n, w)) {
+      from = first(range);
+      to = second(range);
+    } else {
+      from = second(range);
+      to = first(range);
+    }
+    if (undo) {
+      p.removeAndInsert(to, from);
+    } else {
+      p.removeAndInsert(from, to);
+    }
+  }
+
+  /*
+   * The first and last positions changed by the insertion with index k, packed into a long.
+   */
+  static long insertionRange(int n, int w, long k) {
+    final long right = pairCount(n, w);
+    if (k < right) {
+      return pair(n, w, k);
+    }
+    long ij = pair(n - 1, w - 1, k - right);
+    return pack(first(ij), second(ij) + 1);
+  }
+
+  /*
+   * The end of the run of insertions beginning at index k that change the same first position.
+   */
+  static long insertionRunEnd(int n, int w, long k) {
+    final long right = pairCount(n, w);
+    if (k < right) {
+      return pairRunEnd(n, w, k);
+    }
+    return right + pairRunEnd(n - 1, w - 1, k - right);
+  }
+
+  /*
+   * The end of the run of pairs beginning at index k with the same first index i, which are the
+   * pairs (i, j) through (i, min(n - 1, i + w)).
+   */
+  static long pairRunEnd(int n, int w, long k) {
+    long ij = pair(n, w, k);
+    int i = first(ij);
+    return k + 1 + Math.min(n - 1, i + Math.min(w, n - 1)) - second(ij);
+  }
+
+  /*
+   * The number of block moves that exchange two adjacent blocks whose combined
+   * length is at most w + 1.
+   */
+  static long blockMoveCount(int n, int w) {
+    return blockMoveCumulative(n, maxSpan(n, w) - 1);
+  }
+
+  /*
+   * Mutates p into the block move with index k if undo is false, and otherwise reverts it.
+   * Block moves are numbered by the combined length L of the two blocks, then by the start
+   * of the first block, and then by the length of the first block.
+   */
+  static void blockMove(Permutation p, int w, long k, boolean undo) {
+    final int n = p.length();
+    final int t = blockMoveSpan(n, w, k);
+    final long r = k - blockMoveCumulative(n, t - 1);
+    final int start = (int) (r / t);
+    final int size1 = 1 + (int) (r % t);
+    final int size2 = t + 1 - size1;
+    if (undo) {
+      p.removeAndInsert(start + size2, size1, start);
+    } else {
+      p.removeAndInsert(start, size1, start + size2);
+    }
+  }
+
+  /*
+   * The first and last positions changed by the block move with index k, packed into a long.
+   */
+  static long blockMoveRange(int n, int w, long k) {
+    final int t = blockMoveSpan(n, w, k);
+    final int start = (int) ((k - blockMoveCumulative(n, t - 1)) / t);
+    return pack(start, start + t);
+  }
+
+  /*
+   * The end of the run of block moves beginning at index k with the same start and combined
+   * length, which differ only in the length of the first block.
+   */
+  static long blockMoveRunEnd(int n, int w, long k) {
+    final int t = blockMoveSpan(n, w, k);
+    return k + t - (k - blockMoveCumulative(n, t - 1)) % t;
+  }
+
+  /*
+   * One less than the combined length of the two blocks of the block move with index k, which is
+   * the smallest t with blockMoveCumulative(n, t) > k.
+   */
+  private static int blockMoveSpan(int n, int w, long k) {
+    int low = 1;
+    int high = maxSpan(n, w) - 1;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (blockMoveCumulative(n, mid) > k) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return low;
+  }
+
+  private static int maxSpan(int n, int w) {
+    return w >= n ? n : w + 1;
+  }
+
+  /*
+   * Number of block moves with combined length at most T + 1, which is the sum over
+   * t = 1, ..., T of (n - t) t.
+   */
+  private static long blockMoveCumulative(int n, long T) {
+    if (T <= 0) {
+      return 0;
+    }
+    return n * T * (T + 1) / 2 - T * (T + 1) * (2 * T + 1) / 6;
+  }
+
+  /*
+   * The largest m such that m(m+1)/2 <= q.
+   */
+  private static long triangularRoot(long q) {
+    long m = (long) ((Math.sqrt(8.0 * q + 1) - 1) / 2);
+    while (m * (m + 1) / 2 > q) {
+      m--;
+    }
+    while ((m + 1) * (m + 2) / 2 <= q) {
+      m++;
+    }
+    return m;
+  }
+
+  private static long pack(int i, int j) {
+    return ((long) i << 32) | j;
+  }
+}
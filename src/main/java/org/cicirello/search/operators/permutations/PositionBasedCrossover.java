@@ -78,13 +78,24 @@ public final class PositionBasedCrossover
 
   private final EnhancedSplittableGenerator generator;
 
+  // Scratch arrays reused across calls, reallocated only if the permutation length changes.
+  private int[] targetIndexes1;
+  private int[] targetIndexes2;
+  private int[] order;
+  // The unused alleles, and the index of each in the other parent.
+  private int[] unusedAlleles;
+  private int[] unusedIndexes;
+
   /** Constructs a position based crossover (PBX) operator. */
   public PositionBasedCrossover() {
     generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    allocate(0);
   }
 
   private PositionBasedCrossover(PositionBasedCrossover other) {
     generator = other.generator.split();
+    // Scratch arrays are not shared across splits, since they are modified during crossover.
+    allocate(0);
   }
 
   @Override
@@ -110,18 +121,29 @@ public final class PositionBasedCrossover
   public void apply(int[] raw1, int[] raw2, Permutation p1, Permutation p2) {
     // Comments are numbered steps from paper describing algorithm
     // 1. mapping alleles to the positions in the 2 parents
-    int[] targetIndexes1 = p1.getInverse();
-    int[] targetIndexes2 = p2.getInverse();
+    if (order.length != raw1.length) {
+      allocate(raw1.length);
+    }
+    for (int i = 0; i < raw1.length; i++) {
+      targetIndexes1[raw1[i]] = i;
+      targetIndexes2[raw2[i]] = i;
+    }
     // 2. shuffled order of elements for use in traversing the above
-    Permutation order = new Permutation(raw1.length, generator);
+    for (int i = 0; i < order.length; i++) {
+      int j = generator.nextInt(i + 1);
+      order[i] = order[j];
+      order[j] = i;
+    }
     // 2. also step 2: arbitrarily select subset of alleles.
     //    Note that paper doesn't explicitly indicate this, but assumed
     //    intended to be equally likely chosen. Switch the target indexes
     //    for these elements.
-    for (int e : generator.sample(raw1.length, 0.5)) {
-      int temp = targetIndexes1[e];
-      targetIndexes1[e] = targetIndexes2[e];
-      targetIndexes2[e] = temp;
+    for (int e = 0; e < raw1.length; e++) {
+      if (generator.nextBoolean()) {
+        int temp = targetIndexes1[e];
+        targetIndexes1[e] = targetIndexes2[e];
+        targetIndexes2[e] = temp;
+      }
     }
     // 3. Form the children traversing the list formed in 1 in the order of 2
     //    taking element position from the target indexes lists.
@@ -129,66 +151,69 @@ public final class PositionBasedCrossover
     // 4. Try to put unused alleles in position from the other parent
     //    and keep track of any that still collide.
     // 5. Fill in with still unused alleles in same traversal order
-    int[][] unused1 = new int[raw1.length][2];
-    int[][] unused2 = new int[raw2.length][2];
     fillRemainingUnusedAlleles(
         raw1,
-        unused1,
         fillUnusedAllelesFromOppositeParentPosition(
-            raw1, unused1, fillFromTargets(raw1, order, unused1, targetIndexes1, targetIndexes2)));
+            raw1, fillFromTargets(raw1, targetIndexes1, targetIndexes2)));
     fillRemainingUnusedAlleles(
         raw2,
-        unused2,
         fillUnusedAllelesFromOppositeParentPosition(
-            raw2, unused2, fillFromTargets(raw2, order, unused2, targetIndexes2, targetIndexes1)));
+            raw2, fillFromTargets(raw2, targetIndexes2, targetIndexes1)));
   }
 
-  private int fillFromTargets(
-      int[] raw, Permutation order, int[][] unused, int[] targetIndexes, int[] alternateIndexes) {
+  private int fillFromTargets(int[] raw, int[] targetIndexes, int[] alternateIndexes) {
     // 3. Form the children traversing the list formed in step 1 in the order of step 2
     //    taking element position from the target indexes lists.
     //    In event of collisions, keep track of colliding elements.
     int size = 0;
     Arrays.fill(raw, -1);
     for (int i = 0; i < raw.length; i++) {
-      int e = order.get(i);
+      int e = order[i];
       if (raw[targetIndexes[e]] < 0) {
         raw[targetIndexes[e]] = e;
       } else {
-        unused[size][0] = e;
-        unused[size][1] = alternateIndexes[e];
+        unusedAlleles[size] = e;
+        unusedIndexes[size] = alternateIndexes[e];
         size++;
       }
     }
     return size;
   }
 
-  private int fillUnusedAllelesFromOppositeParentPosition(int[] raw, int[][] unused, int size) {
+  private int fillUnusedAllelesFromOppositeParentPosition(int[] raw, int size) {
     // 4. Try to put unused alleles in position from the other parent
     //    and keep track of any that still collide.
     int countUnused = 0;
     for (int i = 0; i < size; i++) {
-      int e = unused[i][0];
-      int index = unused[i][1];
+      int e = unusedAlleles[i];
+      int index = unusedIndexes[i];
       if (raw[index] < 0) {
         raw[index] = e;
       } else {
-        unused[countUnused][0] = e;
+        unusedAlleles[countUnused] = e;
         countUnused++;
       }
     }
     return countUnused;
   }
 
-  private void fillRemainingUnusedAlleles(int[] raw, int[][] unused, int size) {
+  private void fillRemainingUnusedAlleles(int[] raw, int size) {
     // 5. Fill in with still unused alleles in same traversal order
     int open = 0;
     for (int i = 0; i < size; i++) {
-      int e = unused[i][0];
+      int e = unusedAlleles[i];
       for (; raw[open] >= 0; open++) {
         // deliberately empty block
       }
       raw[open] = e;
     }
   }
+
+  private void allocate(int n) {
+    targetIndexes1 = new int[n];
+    targetIndexes2 = new int[n];
+    order = new int[n];
+    unusedAlleles = new int[n];
+    unusedIndexes = new int[n];
+  }
 }
@@ -20,6 +20,7 @@
 
 package org.cicirello.search.operators.permutations;
 
+import java.util.Arrays;
 import org.cicirello.math.rand.EnhancedSplittableGenerator;
 import org.cicirello.permutations.Permutation;
 import org.cicirello.permutations.PermutationBinaryOperator;
@@ -73,13 +74,22 @@ public final class PrecedencePreservativeCrossover
 
   private final EnhancedSplittableGenerator generator;
 
+  // Scratch arrays reused across calls, reallocated only if the permutation length changes.
+  private int[] old1;
+  private int[] old2;
+  private boolean[] used1;
+  private boolean[] used2;
+
   /** Constructs a precedence preservative crossover (PPX) operator. */
   public PrecedencePreservativeCrossover() {
     generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    allocate(0);
   }
 
   private PrecedencePreservativeCrossover(PrecedencePreservativeCrossover other) {
     generator = other.generator.split();
+    // Scratch arrays are not shared across splits, since they are modified during crossover.
+    allocate(0);
   }
 
   @Override
@@ -108,10 +118,14 @@ public final class PrecedencePreservativeCrossover
    * package private to facilitate testing
    */
   final void internalCross(int[] raw1, int[] raw2, int i, int j) {
-    int[] old1 = raw1.clone();
-    int[] old2 = raw2.clone();
-    boolean[] used1 = new boolean[raw1.length];
-    boolean[] used2 = new boolean[raw1.length];
+    if (old1.length != raw1.length) {
+      allocate(raw1.length);
+    } else {
+      Arrays.fill(used1, false);
+      Arrays.fill(used2, false);
+    }
+    System.arraycopy(raw1, 0, old1, 0, raw1.length);
+    System.arraycopy(raw2, 0, old2, 0, raw2.length);
 
     int otherCount = Math.abs(i - j) + 1;
     i = Math.min(i, j);
@@ -153,4 +167,11 @@ public final class PrecedencePreservativeCrossover
       k++;
     }
   }
+
+  private void allocate(int n) {
+    old1 = new int[n];
+    old2 = new int[n];
+    used1 = new boolean[n];
+    used2 = new boolean[n];
+  }
 }
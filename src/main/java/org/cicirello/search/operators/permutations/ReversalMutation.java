@@ -23,7 +23,7 @@ package org.cicirello.search.operators.permutations;
 import org.cicirello.math.rand.EnhancedSplittableGenerator;
 import org.cicirello.permutations.Permutation;
 import org.cicirello.search.internal.RandomnessFactory;
-import org.cicirello.search.operators.IterableMutationOperator;
+import org.cicirello.search.operators.AnchoredMutationOperator;
 import org.cicirello.search.operators.MutationIterator;
 import org.cicirello.search.operators.UndoableMutationOperator;
 
@@ -42,7 +42,7 @@ import org.cicirello.search.operators.UndoableMutationOperator;
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
 public final class ReversalMutation
-    implements UndoableMutationOperator<Permutation>, IterableMutationOperator<Permutation> {
+    implements UndoableMutationOperator<Permutation>, AnchoredMutationOperator<Permutation> {
 
   // needed to implement undo
   private final int[] indexes;
@@ -93,4 +93,47 @@ public final class ReversalMutation
   public MutationIterator iterator(Permutation p) {
     return new ReversalIterator(p);
   }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The neighborhood consists of the n(n-1)/2 reversals of a subarray of length at least 2,
+   * where n is the length of the permutation.
+   */
+  @Override
+  public long neighborhoodSize(Permutation c) {
+    return PermutationNeighborhoods.pairCount(c.length(), c.length());
+  }
+
+  @Override
+  public void mutate(Permutation c, long k) {
+    long ij = PermutationNeighborhoods.pair(c.length(), c.length(), k);
+    c.reverse(PermutationNeighborhoods.first(ij), PermutationNeighborhoods.second(ij));
+  }
+
+  @Override
+  public void undo(Permutation c, long k) {
+    mutate(c, k);
+  }
+
+  @Override
+  public int anchorCount(Permutation c) {
+    return c.length();
+  }
+
+  @Override
+  public int anchor(Permutation c, long k) {
+    return PermutationNeighborhoods.first(PermutationNeighborhoods.pair(c.length(), c.length(), k));
+  }
+
+  @Override
+  public int lastAnchor(Permutation c, long k) {
+    return PermutationNeighborhoods.second(
+        PermutationNeighborhoods.pair(c.length(), c.length(), k));
+  }
+
+  @Override
+  public long anchorRunEnd(Permutation c, long k) {
+    return PermutationNeighborhoods.pairRunEnd(c.length(), c.length(), k);
+  }
 }
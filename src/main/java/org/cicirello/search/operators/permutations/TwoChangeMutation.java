@@ -24,7 +24,7 @@ import org.cicirello.math.rand.EnhancedSplittableGenerator;
 import org.cicirello.permutations.Permutation;
 import org.cicirello.permutations.PermutationFullUnaryOperator;
 import org.cicirello.search.internal.RandomnessFactory;
-import org.cicirello.search.operators.IterableMutationOperator;
+import org.cicirello.search.operators.AnchoredMutationOperator;
 import org.cicirello.search.operators.MutationIterator;
 import org.cicirello.search.operators.UndoableMutationOperator;
 
@@ -88,7 +88,7 @@ import org.cicirello.search.operators.UndoableMutationOperator;
  */
 public final class TwoChangeMutation
     implements UndoableMutationOperator<Permutation>,
-        IterableMutationOperator<Permutation>,
+        AnchoredMutationOperator<Permutation>,
         PermutationFullUnaryOperator {
 
   // needed to implement undo
@@ -139,6 +139,50 @@ public final class TwoChangeMutation
     return new TwoChangeIterator(p);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The neighborhood consists of the n(n-3)/2 distinct two-changes, where n is the length of the
+   * permutation, each of which is a reversal that excludes the last element.
+   */
+  @Override
+  public long neighborhoodSize(Permutation c) {
+    return PermutationNeighborhoods.pairCount(c.length() - 1, c.length() - 3);
+  }
+
+  @Override
+  public void mutate(Permutation c, long k) {
+    long ij = PermutationNeighborhoods.pair(c.length() - 1, c.length() - 3, k);
+    c.reverse(PermutationNeighborhoods.first(ij), PermutationNeighborhoods.second(ij));
+  }
+
+  @Override
+  public void undo(Permutation c, long k) {
+    mutate(c, k);
+  }
+
+  @Override
+  public int anchorCount(Permutation c) {
+    return c.length();
+  }
+
+  @Override
+  public int anchor(Permutation c, long k) {
+    return PermutationNeighborhoods.first(
+        PermutationNeighborhoods.pair(c.length() - 1, c.length() - 3, k));
+  }
+
+  @Override
+  public int lastAnchor(Permutation c, long k) {
+    return PermutationNeighborhoods.second(
+        PermutationNeighborhoods.pair(c.length() - 1, c.length() - 3, k));
+  }
+
+  @Override
+  public long anchorRunEnd(Permutation c, long k) {
+    return PermutationNeighborhoods.pairRunEnd(c.length() - 1, c.length() - 3, k);
+  }
+
   /*
    * package-private to facilitate unit-testing
    */
@@ -25,7 +25,6 @@ import org.cicirello.permutations.Permutation;
 import org.cicirello.permutations.PermutationBinaryOperator;
 import org.cicirello.search.internal.RandomnessFactory;
 import org.cicirello.search.operators.CrossoverOperator;
-import org.cicirello.util.IntegerArray;
 
 /**
  * Implementation of uniform order-based crossover (UOBX). UOBX is controlled by a parameter U,
@@ -62,6 +61,15 @@ public final class UniformOrderBasedCrossover
   private final double u;
   private final EnhancedSplittableGenerator generator;
 
+  // Scratch arrays reused across calls, reallocated only if the permutation length changes.
+  // The boolean arrays are all false between calls.
+  private int[] indexes;
+  private boolean[] mask;
+  private boolean[] in1;
+  private boolean[] in2;
+  private int[] list1;
+  private int[] list2;
+
   /** Constructs a uniform order-based crossover (UOBX) operator, with a default U=0.5. */
   public UniformOrderBasedCrossover() {
     this(0.5);
@@ -78,11 +86,14 @@ public final class UniformOrderBasedCrossover
     if (u <= 0 || u >= 1.0) throw new IllegalArgumentException("u must be: 0.0 < u < 1.0");
     this.u = u;
     generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    allocate(0);
   }
 
   private UniformOrderBasedCrossover(UniformOrderBasedCrossover other) {
     generator = other.generator.split();
     u = other.u;
+    // Scratch arrays are not shared across splits, since they are modified during crossover.
+    allocate(0);
   }
 
   @Override
@@ -99,40 +110,62 @@ public final class UniformOrderBasedCrossover
    */
   @Override
   public void apply(int[] raw1, int[] raw2) {
-    int[] indexes = generator.sample(raw1.length, u);
-    if (indexes.length < raw1.length) {
-      final int orderedCount = raw1.length - indexes.length;
-      boolean[] mask = new boolean[raw1.length];
-      boolean[] in1 = new boolean[raw1.length];
-      boolean[] in2 = new boolean[raw1.length];
-      for (int k : indexes) {
-        mask[k] = true;
-        in1[raw1[k]] = true;
-        in2[raw2[k]] = true;
-      }
-      IntegerArray list1 = new IntegerArray(orderedCount);
-      IntegerArray list2 = new IntegerArray(orderedCount);
+    if (mask.length != raw1.length) {
+      allocate(raw1.length);
+    }
+    // Same distribution as generator.sample(raw1.length, u), but into the reused scratch array.
+    int fixedCount = generator.nextBinomial(raw1.length, u);
+    int[] fixed = generator.sample(raw1.length, fixedCount, indexes);
+    for (int j = 0; j < fixedCount; j++) {
+      int k = fixed[j];
+      mask[k] = true;
+      in1[raw1[k]] = true;
+      in2[raw2[k]] = true;
+    }
+    if (fixedCount < raw1.length) {
+      int size = 0;
       for (int k = 0; k < raw1.length; k++) {
         if (!in2[raw1[k]]) {
-          list1.add(raw1[k]);
+          list1[size] = raw1[k];
+          size++;
         }
+      }
+      size = 0;
+      for (int k = 0; k < raw2.length; k++) {
         if (!in1[raw2[k]]) {
-          list2.add(raw2[k]);
+          list2[size] = raw2[k];
+          size++;
         }
       }
       int w = 0;
       for (int k = 0; k < mask.length; k++) {
         if (!mask[k]) {
-          raw1[k] = list2.get(w);
-          raw2[k] = list1.get(w);
+          raw1[k] = list2[w];
+          raw2[k] = list1[w];
           w++;
         }
       }
     }
+    // The fixed points are unchanged by the crossover, so they locate the flags to clear.
+    for (int j = 0; j < fixedCount; j++) {
+      int k = fixed[j];
+      mask[k] = false;
+      in1[raw1[k]] = false;
+      in2[raw2[k]] = false;
+    }
   }
 
   @Override
   public UniformOrderBasedCrossover split() {
     return new UniformOrderBasedCrossover(this);
   }
+
+  private void allocate(int n) {
+    indexes = new int[n];
+    mask = new boolean[n];
+    in1 = new boolean[n];
+    in2 = new boolean[n];
+    list1 = new int[n];
+    list2 = new int[n];
+  }
 }
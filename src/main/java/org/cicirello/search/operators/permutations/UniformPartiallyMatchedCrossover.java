@@ -70,6 +70,13 @@ public final class UniformPartiallyMatchedCrossover
   private final double u;
   private final EnhancedSplittableGenerator generator;
 
+  // Scratch arrays reused across calls, reallocated only if the permutation length changes.
+  private int[] crossIndexes;
+  private int[] inv1;
+  private int[] inv2;
+  private int[] old1;
+  private int[] old2;
+
   /**
    * Constructs a uniform partially matched crossover (UPMX) operator, with a default u = 1.0 / 3.0.
    * The rationale for this default u is that it leads UPMX to the same expected number of swaps as
@@ -90,11 +97,14 @@ public final class UniformPartiallyMatchedCrossover
     if (u <= 0 || u >= 1.0) throw new IllegalArgumentException("u must be: 0.0 < u < 1.0");
     this.u = u;
     generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    allocate(0);
   }
 
   private UniformPartiallyMatchedCrossover(UniformPartiallyMatchedCrossover other) {
     generator = other.generator.split();
     u = other.u;
+    // Scratch arrays are not shared across splits, since they are modified during crossover.
+    allocate(0);
   }
 
   @Override
@@ -118,18 +128,36 @@ public final class UniformPartiallyMatchedCrossover
    */
   @Override
   public void apply(int[] raw1, int[] raw2, Permutation p1, Permutation p2) {
-    internalCross(raw1, raw2, p1, p2, generator.sample(raw1.length, u));
+    if (crossIndexes.length != raw1.length) {
+      allocate(raw1.length);
+    }
+    // Same distribution as generator.sample(raw1.length, u), but into the reused scratch array.
+    int count = generator.nextBinomial(raw1.length, u);
+    cross(raw1, raw2, generator.sample(raw1.length, count, crossIndexes), count);
   }
 
   /*
    * package private to facilitate unit testing
    */
   final void internalCross(int[] raw1, int[] raw2, Permutation c1, Permutation c2, int[] indexes) {
-    int[] inv1 = c1.getInverse();
-    int[] inv2 = c2.getInverse();
-    int[] old1 = raw1.clone();
-    int[] old2 = raw2.clone();
-    for (int k : indexes) {
+    if (inv1.length != raw1.length) {
+      allocate(raw1.length);
+    }
+    cross(raw1, raw2, indexes, indexes.length);
+  }
+
+  /*
+   * Crosses at the first count of the indexes.
+   */
+  private void cross(int[] raw1, int[] raw2, int[] indexes, int count) {
+    for (int k = 0; k < raw1.length; k++) {
+      inv1[raw1[k]] = k;
+      inv2[raw2[k]] = k;
+    }
+    System.arraycopy(raw1, 0, old1, 0, raw1.length);
+    System.arraycopy(raw2, 0, old2, 0, raw2.length);
+    for (int h = 0; h < count; h++) {
+      int k = indexes[h];
       int g = inv1[old2[k]];
       if (k != g) {
         int temp = raw1[k];
@@ -148,4 +176,12 @@ public final class UniformPartiallyMatchedCrossover
       }
     }
   }
+
+  private void allocate(int n) {
+    crossIndexes = new int[n];
+    inv1 = new int[n];
+    inv2 = new int[n];
+    old1 = new int[n];
+    old2 = new int[n];
+  }
 }
@@ -20,6 +20,7 @@
 
 package org.cicirello.search.operators.permutations;
 
+import java.util.Arrays;
 import org.cicirello.math.rand.EnhancedSplittableGenerator;
 import org.cicirello.permutations.Permutation;
 import org.cicirello.permutations.PermutationBinaryOperator;
@@ -76,6 +77,13 @@ public final class UniformPrecedencePreservativeCrossover
   private final double u;
   private final EnhancedSplittableGenerator generator;
 
+  // Scratch arrays reused across calls, reallocated only if the permutation length changes.
+  private int[] old1;
+  private int[] old2;
+  private boolean[] used1;
+  private boolean[] used2;
+  private boolean[] crossMask;
+
   /**
    * Constructs an instance of the uniform version of the precedence preservative crossover (PPX)
    * operator, with a default value of u = 0.5.
@@ -96,11 +104,16 @@ public final class UniformPrecedencePreservativeCrossover
     if (u <= 0 || u >= 1.0) throw new IllegalArgumentException("u must be: 0.0 < u < 1.0");
     this.u = u;
     generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    allocate(0);
+    crossMask = new boolean[0];
   }
 
   private UniformPrecedencePreservativeCrossover(UniformPrecedencePreservativeCrossover other) {
     generator = other.generator.split();
     u = other.u;
+    // Scratch arrays are not shared across splits, since they are modified during crossover.
+    allocate(0);
+    crossMask = new boolean[0];
   }
 
   @Override
@@ -122,17 +135,27 @@ public final class UniformPrecedencePreservativeCrossover
    */
   @Override
   public void apply(int[] raw1, int[] raw2) {
-    internalCross(raw1, raw2, generator.arrayMask(raw1.length, u));
+    if (crossMask.length != raw1.length) {
+      crossMask = new boolean[raw1.length];
+    }
+    for (int k = 0; k < crossMask.length; k++) {
+      crossMask[k] = generator.nextDouble() < u;
+    }
+    internalCross(raw1, raw2, crossMask);
   }
 
   /*
    * package private to facilitate testing
    */
   final void internalCross(int[] raw1, int[] raw2, boolean[] mask) {
-    int[] old1 = raw1.clone();
-    int[] old2 = raw2.clone();
-    boolean[] used1 = new boolean[raw1.length];
-    boolean[] used2 = new boolean[raw1.length];
+    if (old1.length != raw1.length) {
+      allocate(raw1.length);
+    } else {
+      Arrays.fill(used1, false);
+      Arrays.fill(used2, false);
+    }
+    System.arraycopy(raw1, 0, old1, 0, raw1.length);
+    System.arraycopy(raw2, 0, old2, 0, raw2.length);
 
     int i = 0;
     int j = 0;
@@ -164,4 +187,11 @@ public final class UniformPrecedencePreservativeCrossover
       }
     }
   }
+
+  private void allocate(int n) {
+    old1 = new int[n];
+    old2 = new int[n];
+    used1 = new boolean[n];
+    used2 = new boolean[n];
+  }
 }
@@ -23,7 +23,7 @@ package org.cicirello.search.operators.permutations;
 import org.cicirello.math.rand.EnhancedSplittableGenerator;
 import org.cicirello.permutations.Permutation;
 import org.cicirello.search.internal.RandomnessFactory;
-import org.cicirello.search.operators.IterableMutationOperator;
+import org.cicirello.search.operators.AnchoredMutationOperator;
 import org.cicirello.search.operators.MutationIterator;
 import org.cicirello.search.operators.UndoableMutationOperator;
 
@@ -52,7 +52,7 @@ import org.cicirello.search.operators.UndoableMutationOperator;
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
 public final class WindowLimitedBlockMoveMutation
-    implements UndoableMutationOperator<Permutation>, IterableMutationOperator<Permutation> {
+    implements UndoableMutationOperator<Permutation>, AnchoredMutationOperator<Permutation> {
 
   private final int limit;
   private final BlockMoveMutation unlimited;
@@ -113,6 +113,49 @@ public final class WindowLimitedBlockMoveMutation
     return new WindowLimitedBlockMoveIterator(p, limit);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The neighborhood consists of the distinct block moves, each of which exchanges a pair of
+   * adjacent blocks whose combined length is at most one more than the window limit.
+   */
+  @Override
+  public long neighborhoodSize(Permutation c) {
+    return PermutationNeighborhoods.blockMoveCount(c.length(), limit);
+  }
+
+  @Override
+  public void mutate(Permutation c, long k) {
+    PermutationNeighborhoods.blockMove(c, limit, k, false);
+  }
+
+  @Override
+  public void undo(Permutation c, long k) {
+    PermutationNeighborhoods.blockMove(c, limit, k, true);
+  }
+
+  @Override
+  public int anchorCount(Permutation c) {
+    return c.length();
+  }
+
+  @Override
+  public int anchor(Permutation c, long k) {
+    return PermutationNeighborhoods.first(
+        PermutationNeighborhoods.blockMoveRange(c.length(), limit, k));
+  }
+
+  @Override
+  public int lastAnchor(Permutation c, long k) {
+    return PermutationNeighborhoods.second(
+        PermutationNeighborhoods.blockMoveRange(c.length(), limit, k));
+  }
+
+  @Override
+  public long anchorRunEnd(Permutation c, long k) {
+    return PermutationNeighborhoods.blockMoveRunEnd(c.length(), limit, k);
+  }
+
   /** package access to support unit testing */
   void generateIndexes(int n, int[] indexes) {
     if (limit >= n) {
@@ -23,7 +23,7 @@ package org.cicirello.search.operators.permutations;
 import org.cicirello.math.rand.EnhancedSplittableGenerator;
 import org.cicirello.permutations.Permutation;
 import org.cicirello.search.internal.RandomnessFactory;
-import org.cicirello.search.operators.IterableMutationOperator;
+import org.cicirello.search.operators.AnchoredMutationOperator;
 import org.cicirello.search.operators.MutationIterator;
 import org.cicirello.search.operators.UndoableMutationOperator;
 
@@ -51,7 +51,7 @@ import org.cicirello.search.operators.UndoableMutationOperator;
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
 public final class WindowLimitedInsertionMutation
-    implements UndoableMutationOperator<Permutation>, IterableMutationOperator<Permutation> {
+    implements UndoableMutationOperator<Permutation>, AnchoredMutationOperator<Permutation> {
 
   private final int limit;
   private final EnhancedSplittableGenerator generator;
@@ -127,6 +127,49 @@ public final class WindowLimitedInsertionMutation
     return new WindowLimitedInsertionIterator(p, limit);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The neighborhood consists of the distinct insertions that move an element at most the window
+   * limit.
+   */
+  @Override
+  public long neighborhoodSize(Permutation c) {
+    return PermutationNeighborhoods.insertionCount(c.length(), limit);
+  }
+
+  @Override
+  public void mutate(Permutation c, long k) {
+    PermutationNeighborhoods.insertion(c, limit, k, false);
+  }
+
+  @Override
+  public void undo(Permutation c, long k) {
+    PermutationNeighborhoods.insertion(c, limit, k, true);
+  }
+
+  @Override
+  public int anchorCount(Permutation c) {
+    return c.length();
+  }
+
+  @Override
+  public int anchor(Permutation c, long k) {
+    return PermutationNeighborhoods.first(
+        PermutationNeighborhoods.insertionRange(c.length(), limit, k));
+  }
+
+  @Override
+  public int lastAnchor(Permutation c, long k) {
+    return PermutationNeighborhoods.second(
+        PermutationNeighborhoods.insertionRange(c.length(), limit, k));
+  }
+
+  @Override
+  public long anchorRunEnd(Permutation c, long k) {
+    return PermutationNeighborhoods.insertionRunEnd(c.length(), limit, k);
+  }
+
   /*
    * package access to support unit testing
    */
@@ -23,7 +23,7 @@ package org.cicirello.search.operators.permutations;
 import org.cicirello.math.rand.EnhancedSplittableGenerator;
 import org.cicirello.permutations.Permutation;
 import org.cicirello.search.internal.RandomnessFactory;
-import org.cicirello.search.operators.IterableMutationOperator;
+import org.cicirello.search.operators.AnchoredMutationOperator;
 import org.cicirello.search.operators.MutationIterator;
 import org.cicirello.search.operators.UndoableMutationOperator;
 
@@ -51,7 +51,7 @@ import org.cicirello.search.operators.UndoableMutationOperator;
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
 public final class WindowLimitedSwapMutation
-    implements UndoableMutationOperator<Permutation>, IterableMutationOperator<Permutation> {
+    implements UndoableMutationOperator<Permutation>, AnchoredMutationOperator<Permutation> {
 
   private final int limit;
   private final EnhancedSplittableGenerator generator;
@@ -111,6 +111,47 @@ public final class WindowLimitedSwapMutation
     return new WindowLimitedSwapIterator(p, limit);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The neighborhood consists of the swaps of a pair of elements at most the window limit apart.
+   */
+  @Override
+  public long neighborhoodSize(Permutation c) {
+    return PermutationNeighborhoods.pairCount(c.length(), limit);
+  }
+
+  @Override
+  public void mutate(Permutation c, long k) {
+    long ij = PermutationNeighborhoods.pair(c.length(), limit, k);
+    c.swap(PermutationNeighborhoods.first(ij), PermutationNeighborhoods.second(ij));
+  }
+
+  @Override
+  public void undo(Permutation c, long k) {
+    mutate(c, k);
+  }
+
+  @Override
+  public int anchorCount(Permutation c) {
+    return c.length();
+  }
+
+  @Override
+  public int anchor(Permutation c, long k) {
+    return PermutationNeighborhoods.first(PermutationNeighborhoods.pair(c.length(), limit, k));
+  }
+
+  @Override
+  public int lastAnchor(Permutation c, long k) {
+    return PermutationNeighborhoods.second(PermutationNeighborhoods.pair(c.length(), limit, k));
+  }
+
+  @Override
+  public long anchorRunEnd(Permutation c, long k) {
+    return PermutationNeighborhoods.pairRunEnd(c.length(), limit, k);
+  }
+
   /*
    * package access to support unit testing
    */
@@ -28,6 +28,13 @@ import org.cicirello.search.representations.RealValued;
 /**
  * Internal abstract base class for mutation operators on real-valued representations.
  *
+ * <p>Mutation operators that mutate all of the real values of a candidate solution do so in a
+ * batch. They generate all of the random values to add in a single call into an array that is
+ * reused from one mutation to the next, and then add them to a copy of the real values in a tight
+ * loop, rather than calling a functional transformation on each real value. The random values are
+ * generated in the same order as the real values, so the result is the same as mutating one value
+ * at a time.
+ *
  * @param <T> The specific RealValued type.
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
@@ -45,31 +52,34 @@ abstract class AbstractRealMutation<T extends RealValued>
    * @param param The parameter to the mutation operator, such as sigma for a Gaussian, scale for a
    *     Cauchy, radius for a uniform, etc.
    * @param transformer The functional transformation of the mutation.
+   * @param selector Chooses the indexes for a partial mutation.
    */
-  AbstractRealMutation(double param, RandomizedDoubleBinaryOperator transformer) {
+  AbstractRealMutation(
+      double param, RandomizedDoubleBinaryOperator transformer, IndexSelector selector) {
     this.param = param;
-    m = new InternalTotalMutator<T>(transformer);
+    m = new InternalPartialMutator<T>(transformer, selector);
     generator = RandomnessFactory.createEnhancedSplittableGenerator();
   }
 
   /**
-   * Constructs the mutation operator.
+   * Constructs the mutation operator, which mutates all of the real values in a batch.
    *
    * @param param The parameter to the mutation operator, such as sigma for a Gaussian, scale for a
    *     Cauchy, radius for a uniform, etc.
-   * @param transformer The functional transformation of the mutation.
-   * @param selector Chooses the indexes for a partial mutation.
+   * @param filler Generates the random values to add to the real values.
+   * @param lowerBound A lower bound on the result of a mutation.
+   * @param upperBound An upper bound on the result of a mutation.
    */
   AbstractRealMutation(
-      double param, RandomizedDoubleBinaryOperator transformer, IndexSelector selector) {
+      double param, RandomizedArrayFiller filler, double lowerBound, double upperBound) {
     this.param = param;
-    m = new InternalPartialMutator<T>(transformer, selector);
+    m = new InternalBatchMutator<T>(filler, lowerBound, upperBound);
     generator = RandomnessFactory.createEnhancedSplittableGenerator();
   }
 
   AbstractRealMutation(AbstractRealMutation<T> other) {
     param = other.param;
-    m = other.m;
+    m = other.m.split();
     generator = other.generator.split();
   }
 
@@ -133,6 +143,33 @@ abstract class AbstractRealMutation<T extends RealValued>
   @Override
   public abstract AbstractRealMutation<T> split();
 
+  /*
+   * Fills values with Gaussian random numbers with mean 0 and standard deviation sigma.
+   */
+  static void fillGaussian(double[] values, double sigma, EnhancedSplittableGenerator r) {
+    for (int i = 0; i < values.length; i++) {
+      values[i] = r.nextGaussian(sigma);
+    }
+  }
+
+  /*
+   * Fills values with Cauchy random numbers with median 0 and the given scale.
+   */
+  static void fillCauchy(double[] values, double scale, EnhancedSplittableGenerator r) {
+    for (int i = 0; i < values.length; i++) {
+      values[i] = r.nextCauchy(scale);
+    }
+  }
+
+  /*
+   * Fills values with random numbers uniformly distributed in [-radius, radius).
+   */
+  static void fillUniform(double[] values, double radius, EnhancedSplittableGenerator r) {
+    for (int i = 0; i < values.length; i++) {
+      values[i] = r.nextDouble(-radius, radius);
+    }
+  }
+
   @FunctionalInterface
   static interface RandomizedDoubleBinaryOperator {
 
@@ -146,6 +183,19 @@ abstract class AbstractRealMutation<T extends RealValued>
     double applyAsDouble(double left, double right, EnhancedSplittableGenerator r);
   }
 
+  @FunctionalInterface
+  static interface RandomizedArrayFiller {
+
+    /**
+     * Fills an array with random values.
+     *
+     * @param values the array to fill
+     * @param param the parameter of the distribution of the random values
+     * @param r the source of randomness
+     */
+    void fill(double[] values, double param, EnhancedSplittableGenerator r);
+  }
+
   @FunctionalInterface
   static interface IndexSelector {
 
@@ -169,42 +219,82 @@ abstract class AbstractRealMutation<T extends RealValued>
      * @param r the source of randomness
      */
     void mutate(T1 c, double param, EnhancedSplittableGenerator r);
+
+    /**
+     * Gets an InternalMutator for use by a different mutation operator, which is this one unless
+     * this one keeps state.
+     *
+     * @return an InternalMutator for use by a different mutation operator
+     */
+    default InternalMutator<T1> split() {
+      return this;
+    }
   }
 
-  private static class InternalTotalMutator<T1 extends RealValued> implements InternalMutator<T1> {
+  private static class InternalPartialMutator<T1 extends RealValued>
+      implements InternalMutator<T1> {
 
     private final RandomizedDoubleBinaryOperator mutator;
+    private final IndexSelector selector;
 
-    private InternalTotalMutator(RandomizedDoubleBinaryOperator mutator) {
+    private InternalPartialMutator(RandomizedDoubleBinaryOperator mutator, IndexSelector selector) {
       this.mutator = mutator;
+      this.selector = selector;
     }
 
     @Override
     public void mutate(T1 c, double param, EnhancedSplittableGenerator r) {
-      final int n = c.length();
-      for (int i = 0; i < n; i++) {
+      int[] indexes = selector.apply(c.length(), r);
+      for (int i : indexes) {
         c.set(i, mutator.applyAsDouble(c.get(i), param, r));
       }
     }
   }
 
-  private static class InternalPartialMutator<T1 extends RealValued>
+  private static final class InternalBatchMutator<T1 extends RealValued>
       implements InternalMutator<T1> {
 
-    private final RandomizedDoubleBinaryOperator mutator;
-    private final IndexSelector selector;
+    private final RandomizedArrayFiller filler;
+    private final double lowerBound;
+    private final double upperBound;
 
-    private InternalPartialMutator(RandomizedDoubleBinaryOperator mutator, IndexSelector selector) {
-      this.mutator = mutator;
-      this.selector = selector;
+    // Scratch arrays are not shared across splits, since they are modified during mutation.
+    private double[] values;
+    private double[] variates;
+
+    private InternalBatchMutator(
+        RandomizedArrayFiller filler, double lowerBound, double upperBound) {
+      this.filler = filler;
+      this.lowerBound = lowerBound;
+      this.upperBound = upperBound;
+      values = new double[0];
+      variates = values;
     }
 
     @Override
     public void mutate(T1 c, double param, EnhancedSplittableGenerator r) {
-      int[] indexes = selector.apply(c.length(), r);
-      for (int i : indexes) {
-        c.set(i, mutator.applyAsDouble(c.get(i), param, r));
+      final int n = c.length();
+      if (variates.length != n) {
+        variates = new double[n];
+      }
+      filler.fill(variates, param, r);
+      values = c.toArray(values);
+      for (int i = 0; i < n; i++) {
+        // Unbounded mutation uses infinite bounds, which leave every result unchanged.
+        double mutated = values[i] + variates[i];
+        if (mutated <= lowerBound) {
+          mutated = lowerBound;
+        } else if (mutated >= upperBound) {
+          mutated = upperBound;
+        }
+        values[i] = mutated;
       }
+      c.set(values);
+    }
+
+    @Override
+    public InternalBatchMutator<T1> split() {
+      return new InternalBatchMutator<T1>(filler, lowerBound, upperBound);
     }
   }
 }
@@ -43,22 +43,25 @@ abstract class AbstractUndoableRealMutation<T extends RealValued> extends Abstra
    * @param param The parameter to the mutation operator, such as sigma for a Gaussian, scale for a
    *     Cauchy, radius for a uniform, etc.
    * @param transformer The functional transformation of the mutation.
+   * @param selector Chooses the indexes for a partial mutation.
    */
-  AbstractUndoableRealMutation(double param, RandomizedDoubleBinaryOperator transformer) {
-    super(param, transformer);
+  AbstractUndoableRealMutation(
+      double param, RandomizedDoubleBinaryOperator transformer, IndexSelector selector) {
+    super(param, transformer, selector);
   }
 
   /**
-   * Constructs the mutation operator.
+   * Constructs the mutation operator, which mutates all of the real values in a batch.
    *
    * @param param The parameter to the mutation operator, such as sigma for a Gaussian, scale for a
    *     Cauchy, radius for a uniform, etc.
-   * @param transformer The functional transformation of the mutation.
-   * @param selector Chooses the indexes for a partial mutation.
+   * @param filler Generates the random values to add to the real values.
+   * @param lowerBound A lower bound on the result of a mutation.
+   * @param upperBound An upper bound on the result of a mutation.
    */
   AbstractUndoableRealMutation(
-      double param, RandomizedDoubleBinaryOperator transformer, IndexSelector selector) {
-    super(param, transformer, selector);
+      double param, RandomizedArrayFiller filler, double lowerBound, double upperBound) {
+    super(param, filler, lowerBound, upperBound);
   }
 
   AbstractUndoableRealMutation(AbstractUndoableRealMutation<T> other) {
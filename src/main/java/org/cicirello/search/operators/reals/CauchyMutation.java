@@ -56,15 +56,19 @@ public class CauchyMutation<T extends RealValued> extends AbstractRealMutation<T
     implements Copyable<CauchyMutation<T>> {
 
   /*
-   * Internal constructor.  Constructs a Cauchy mutation operator.
-   * Otherwise, must use the factory methods.
+   * Internal constructor.  Constructs a Cauchy mutation operator that mutates
+   * all of the real values in a batch. Otherwise, must use the factory methods.
    *
    * @param scale The scale parameter of the Cauchy.
    *
-   * @param transformer The functional transformation of the mutation.
+   * @param filler Generates the random values to add to the real values.
+   *
+   * @param lowerBound A lower bound on the result of a mutation.
+   *
+   * @param upperBound An upper bound on the result of a mutation.
    */
-  CauchyMutation(double scale, RandomizedDoubleBinaryOperator transformer) {
-    super(scale, transformer);
+  CauchyMutation(double scale, RandomizedArrayFiller filler, double lowerBound, double upperBound) {
+    super(scale, filler, lowerBound, upperBound);
   }
 
   /*
@@ -106,7 +110,11 @@ public class CauchyMutation<T extends RealValued> extends AbstractRealMutation<T
    * @return A Cauchy mutation operator.
    */
   public static <T extends RealValued> CauchyMutation<T> createCauchyMutation(double scale) {
-    return new CauchyMutation<T>(scale, (old, param, r) -> old + r.nextCauchy(param));
+    return new CauchyMutation<T>(
+        scale,
+        AbstractRealMutation::fillCauchy,
+        Double.NEGATIVE_INFINITY,
+        Double.POSITIVE_INFINITY);
   }
 
   /**
@@ -123,14 +131,7 @@ public class CauchyMutation<T extends RealValued> extends AbstractRealMutation<T
       double scale, double lowerBound, double upperBound) {
     if (upperBound < lowerBound)
       throw new IllegalArgumentException("upperBound must be at least lowerBound");
-    return new CauchyMutation<T>(
-        scale,
-        (old, param, r) -> {
-          double mutated = old + r.nextCauchy(param);
-          if (mutated <= lowerBound) return lowerBound;
-          if (mutated >= upperBound) return upperBound;
-          return mutated;
-        });
+    return new CauchyMutation<T>(scale, AbstractRealMutation::fillCauchy, lowerBound, upperBound);
   }
 
   /**
@@ -51,15 +51,20 @@ public class GaussianMutation<T extends RealValued> extends AbstractRealMutation
     implements Copyable<GaussianMutation<T>> {
 
   /*
-   * Internal constructor.  Constructs a Gaussian mutation operator.
-   * Otherwise, must use the factory methods.
+   * Internal constructor.  Constructs a Gaussian mutation operator that mutates
+   * all of the real values in a batch. Otherwise, must use the factory methods.
    *
    * @param sigma The standard deviation of the Gaussian.
    *
-   * @param transformer The functional transformation of the mutation.
+   * @param filler Generates the random values to add to the real values.
+   *
+   * @param lowerBound A lower bound on the result of a mutation.
+   *
+   * @param upperBound An upper bound on the result of a mutation.
    */
-  GaussianMutation(double sigma, RandomizedDoubleBinaryOperator transformer) {
-    super(sigma, transformer);
+  GaussianMutation(
+      double sigma, RandomizedArrayFiller filler, double lowerBound, double upperBound) {
+    super(sigma, filler, lowerBound, upperBound);
   }
 
   /*
@@ -102,7 +107,11 @@ public class GaussianMutation<T extends RealValued> extends AbstractRealMutation
    * @return A Gaussian mutation operator.
    */
   public static <T extends RealValued> GaussianMutation<T> createGaussianMutation(double sigma) {
-    return new GaussianMutation<T>(sigma, (old, param, r) -> old + r.nextGaussian(param));
+    return new GaussianMutation<T>(
+        sigma,
+        AbstractRealMutation::fillGaussian,
+        Double.NEGATIVE_INFINITY,
+        Double.POSITIVE_INFINITY);
   }
 
   /**
@@ -120,13 +129,7 @@ public class GaussianMutation<T extends RealValued> extends AbstractRealMutation
     if (upperBound < lowerBound)
       throw new IllegalArgumentException("upperBound must be at least lowerBound");
     return new GaussianMutation<T>(
-        sigma,
-        (old, param, r) -> {
-          double mutated = old + r.nextGaussian(param);
-          if (mutated <= lowerBound) return lowerBound;
-          if (mutated >= upperBound) return upperBound;
-          return mutated;
-        });
+        sigma, AbstractRealMutation::fillGaussian, lowerBound, upperBound);
   }
 
   /**
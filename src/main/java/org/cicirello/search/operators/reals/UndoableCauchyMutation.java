@@ -57,15 +57,20 @@ public class UndoableCauchyMutation<T extends RealValued> extends AbstractUndoab
     implements Copyable<UndoableCauchyMutation<T>> {
 
   /*
-   * Internal constructor.  Constructs a Cauchy mutation operator.
-   * Otherwise, must use the factory methods.
+   * Internal constructor.  Constructs a Cauchy mutation operator supporting the undo operation
+   * that mutates all of the real values in a batch. Otherwise, must use the factory methods.
    *
    * @param scale The scale parameter of the Cauchy.
    *
-   * @param transformer The functional transformation of the mutation.
+   * @param filler Generates the random values to add to the real values.
+   *
+   * @param lowerBound A lower bound on the result of a mutation.
+   *
+   * @param upperBound An upper bound on the result of a mutation.
    */
-  UndoableCauchyMutation(double scale, RandomizedDoubleBinaryOperator transformer) {
-    super(scale, transformer);
+  UndoableCauchyMutation(
+      double scale, RandomizedArrayFiller filler, double lowerBound, double upperBound) {
+    super(scale, filler, lowerBound, upperBound);
   }
 
   /*
@@ -110,7 +115,11 @@ public class UndoableCauchyMutation<T extends RealValued> extends AbstractUndoab
    */
   public static <T extends RealValued> UndoableCauchyMutation<T> createCauchyMutation(
       double scale) {
-    return new UndoableCauchyMutation<T>(scale, (old, param, r) -> old + r.nextCauchy(param));
+    return new UndoableCauchyMutation<T>(
+        scale,
+        AbstractRealMutation::fillCauchy,
+        Double.NEGATIVE_INFINITY,
+        Double.POSITIVE_INFINITY);
   }
 
   /**
@@ -128,13 +137,7 @@ public class UndoableCauchyMutation<T extends RealValued> extends AbstractUndoab
     if (upperBound < lowerBound)
       throw new IllegalArgumentException("upperBound must be at least lowerBound");
     return new UndoableCauchyMutation<T>(
-        scale,
-        (old, param, r) -> {
-          double mutated = old + r.nextCauchy(param);
-          if (mutated <= lowerBound) return lowerBound;
-          if (mutated >= upperBound) return upperBound;
-          return mutated;
-        });
+        scale, AbstractRealMutation::fillCauchy, lowerBound, upperBound);
   }
 
   /**
@@ -53,15 +53,20 @@ public final class UndoableGaussianMutation<T extends RealValued>
     extends AbstractUndoableRealMutation<T> implements Copyable<UndoableGaussianMutation<T>> {
 
   /*
-   * Internal constructor.  Constructs a Gaussian mutation operator.
-   * Otherwise, must use the factory methods.
+   * Internal constructor.  Constructs a Gaussian mutation operator supporting the undo operation
+   * that mutates all of the real values in a batch. Otherwise, must use the factory methods.
    *
    * @param sigma The standard deviation of the Gaussian.
    *
-   * @param transformer The functional transformation of the mutation.
+   * @param filler Generates the random values to add to the real values.
+   *
+   * @param lowerBound A lower bound on the result of a mutation.
+   *
+   * @param upperBound An upper bound on the result of a mutation.
    */
-  UndoableGaussianMutation(double sigma, RandomizedDoubleBinaryOperator transformer) {
-    super(sigma, transformer);
+  UndoableGaussianMutation(
+      double sigma, RandomizedArrayFiller filler, double lowerBound, double upperBound) {
+    super(sigma, filler, lowerBound, upperBound);
   }
 
   /*
@@ -106,7 +111,11 @@ public final class UndoableGaussianMutation<T extends RealValued>
    */
   public static <T extends RealValued> UndoableGaussianMutation<T> createGaussianMutation(
       double sigma) {
-    return new UndoableGaussianMutation<T>(sigma, (old, param, r) -> old + r.nextGaussian(param));
+    return new UndoableGaussianMutation<T>(
+        sigma,
+        AbstractRealMutation::fillGaussian,
+        Double.NEGATIVE_INFINITY,
+        Double.POSITIVE_INFINITY);
   }
 
   /**
@@ -125,13 +134,7 @@ public final class UndoableGaussianMutation<T extends RealValued>
     if (upperBound < lowerBound)
       throw new IllegalArgumentException("upperBound must be at least lowerBound");
     return new UndoableGaussianMutation<T>(
-        sigma,
-        (old, param, r) -> {
-          double mutated = old + r.nextGaussian(param);
-          if (mutated <= lowerBound) return lowerBound;
-          if (mutated >= upperBound) return upperBound;
-          return mutated;
-        });
+        sigma, AbstractRealMutation::fillGaussian, lowerBound, upperBound);
   }
 
   /**
@@ -48,15 +48,20 @@ public class UndoableUniformMutation<T extends RealValued> extends AbstractUndoa
     implements Copyable<UndoableUniformMutation<T>> {
 
   /*
-   * Internal constructor.  Constructs a Uniform mutation operator supporting the undo operation.
-   * Otherwise, must use the factory methods.
+   * Internal constructor.  Constructs a Uniform mutation operator supporting the undo operation
+   * that mutates all of the real values in a batch. Otherwise, must use the factory methods.
    *
    * @param radius The radius parameter of the Uniform.
    *
-   * @param transformer The functional transformation of the mutation.
+   * @param filler Generates the random values to add to the real values.
+   *
+   * @param lowerBound A lower bound on the result of a mutation.
+   *
+   * @param upperBound An upper bound on the result of a mutation.
    */
-  UndoableUniformMutation(double radius, RandomizedDoubleBinaryOperator transformer) {
-    super(radius, transformer);
+  UndoableUniformMutation(
+      double radius, RandomizedArrayFiller filler, double lowerBound, double upperBound) {
+    super(radius, filler, lowerBound, upperBound);
   }
 
   /*
@@ -102,7 +107,10 @@ public class UndoableUniformMutation<T extends RealValued> extends AbstractUndoa
   public static <T extends RealValued> UndoableUniformMutation<T> createUniformMutation(
       double radius) {
     return new UndoableUniformMutation<T>(
-        radius, (old, param, r) -> old + r.nextDouble(-param, param));
+        radius,
+        AbstractRealMutation::fillUniform,
+        Double.NEGATIVE_INFINITY,
+        Double.POSITIVE_INFINITY);
   }
 
   /**
@@ -120,13 +128,7 @@ public class UndoableUniformMutation<T extends RealValued> extends AbstractUndoa
     if (upperBound < lowerBound)
       throw new IllegalArgumentException("upperBound must be at least lowerBound");
     return new UndoableUniformMutation<T>(
-        radius,
-        (old, param, r) -> {
-          double mutated = old + r.nextDouble(-param, param);
-          if (mutated <= lowerBound) return lowerBound;
-          if (mutated >= upperBound) return upperBound;
-          return mutated;
-        });
+        radius, AbstractRealMutation::fillUniform, lowerBound, upperBound);
   }
 
   /**
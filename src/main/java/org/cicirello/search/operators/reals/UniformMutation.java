@@ -47,15 +47,20 @@ public class UniformMutation<T extends RealValued> extends AbstractRealMutation<
     implements Copyable<UniformMutation<T>> {
 
   /*
-   * Internal constructor.  Constructs a Uniform mutation operator.
-   * Otherwise, must use the factory methods.
+   * Internal constructor.  Constructs a Uniform mutation operator that mutates
+   * all of the real values in a batch. Otherwise, must use the factory methods.
    *
    * @param radius The radius parameter of the Uniform.
    *
-   * @param transformer The functional transformation of the mutation.
+   * @param filler Generates the random values to add to the real values.
+   *
+   * @param lowerBound A lower bound on the result of a mutation.
+   *
+   * @param upperBound An upper bound on the result of a mutation.
    */
-  UniformMutation(double radius, RandomizedDoubleBinaryOperator transformer) {
-    super(radius, transformer);
+  UniformMutation(
+      double radius, RandomizedArrayFiller filler, double lowerBound, double upperBound) {
+    super(radius, filler, lowerBound, upperBound);
   }
 
   /*
@@ -98,7 +103,11 @@ public class UniformMutation<T extends RealValued> extends AbstractRealMutation<
    * @return A Uniform mutation operator.
    */
   public static <T extends RealValued> UniformMutation<T> createUniformMutation(double radius) {
-    return new UniformMutation<T>(radius, (old, param, r) -> old + r.nextDouble(-param, param));
+    return new UniformMutation<T>(
+        radius,
+        AbstractRealMutation::fillUniform,
+        Double.NEGATIVE_INFINITY,
+        Double.POSITIVE_INFINITY);
   }
 
   /**
@@ -116,13 +125,7 @@ public class UniformMutation<T extends RealValued> extends AbstractRealMutation<
     if (upperBound < lowerBound)
       throw new IllegalArgumentException("upperBound must be at least lowerBound");
     return new UniformMutation<T>(
-        radius,
-        (old, param, r) -> {
-          double mutated = old + r.nextDouble(-param, param);
-          if (mutated <= lowerBound) return lowerBound;
-          if (mutated >= upperBound) return upperBound;
-          return mutated;
-        });
+        radius, AbstractRealMutation::fillUniform, lowerBound, upperBound);
   }
 
   /**
@@ -20,6 +20,7 @@
 
 package org.cicirello.search.problems;
 
+import java.util.List;
 import org.cicirello.search.operators.Initializer;
 import org.cicirello.search.operators.reals.RealValueInitializer;
 import org.cicirello.search.representations.SingleReal;
@@ -84,6 +85,33 @@ public final class ForresterEtAl2008
     }
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This implementation gathers the inputs of the candidates into the costs array, and then
+   * evaluates the function over that array.
+   */
+  @Override
+  public void costs(List<? extends SingleReal> candidates, double[] costs) {
+    final int n = candidates.size();
+    for (int i = 0; i < n; i++) {
+      costs[i] = candidates.get(i).get();
+    }
+    if (ORIGINAL) {
+      for (int i = 0; i < n; i++) {
+        double x = costs[i];
+        double term = 6 * x - 2;
+        costs[i] = term * term * Math.sin(12 * x - 4);
+      }
+    } else {
+      for (int i = 0; i < n; i++) {
+        double x = costs[i];
+        double term = 6 * x - 2;
+        costs[i] = A * (term * term * Math.sin(12 * x - 4)) + B * (x - 0.5) - C;
+      }
+    }
+  }
+
   @Override
   public double value(SingleReal candidate) {
     return cost(candidate);
@@ -20,6 +20,7 @@
 
 package org.cicirello.search.problems;
 
+import java.util.List;
 import org.cicirello.search.operators.Initializer;
 import org.cicirello.search.operators.reals.RealValueInitializer;
 import org.cicirello.search.representations.SingleReal;
@@ -54,6 +55,24 @@ public final class GramacyLee2012
         + Math.pow(candidate.get() - 1, 4);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This implementation gathers the inputs of the candidates into the costs array, and then
+   * evaluates the function over that array.
+   */
+  @Override
+  public void costs(List<? extends SingleReal> candidates, double[] costs) {
+    final int n = candidates.size();
+    for (int i = 0; i < n; i++) {
+      costs[i] = candidates.get(i).get();
+    }
+    for (int i = 0; i < n; i++) {
+      double x = costs[i];
+      costs[i] = 0.5 * Math.sin(10 * Math.PI * x) / x + Math.pow(x - 1, 4);
+    }
+  }
+
   @Override
   public double value(SingleReal candidate) {
     return cost(candidate);
@@ -90,7 +90,7 @@ import org.cicirello.search.representations.BitVector;
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  * @version 7.28.2021
  */
-public final class HollandRoyalRoad implements OptimizationProblem<BitVector> {
+public final class HollandRoyalRoad implements IncrementalBitVectorProblem.Double {
 
   private final int blockSize;
   private final int gapSize;
@@ -190,6 +190,25 @@ public final class HollandRoyalRoad implements OptimizationProblem<BitVector> {
     return maxFitness - value(candidate);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The evaluation maintains the number of 1-bits in each block, and the number of completed
+   * blocks at each level of the bonus hierarchy, so the cost is updated after a bit flip in time
+   * proportional to k.
+   *
+   * @throws IllegalArgumentException if candidate.length() is not equal to {@link
+   *     #supportedBitVectorLength}.
+   */
+  @Override
+  public IncrementalBitVectorProblem.DoubleEvaluation incrementalEvaluation(BitVector candidate) {
+    if (candidate.length() != n) {
+      throw new IllegalArgumentException(
+          "The candidate BitVector's length is inconsistent with this HollandRoyalRoad's configuration.");
+    }
+    return new BlockEvaluation(candidate);
+  }
+
   @Override
   public double minCost() {
     return 0.0;
@@ -271,4 +290,90 @@ public final class HollandRoyalRoad implements OptimizationProblem<BitVector> {
       return mStar * v * numBlocks;
     }
   }
+
+  /*
+   * The contribution to the part fitness, in multiples of v, of a block with the
+   * specified number of 1-bits.
+   */
+  private int partMultiple(int count) {
+    if (count == blockSize) {
+      return 0;
+    }
+    return count <= mStar ? count : mStar - count;
+  }
+
+  /*
+   * Incremental evaluation. Level 0 of counts holds the number of 1-bits in each block,
+   * and level L > 0 holds the number of completed blocks of level L-1, either 0, 1, or 2,
+   * within each block of level L.
+   */
+  private final class BlockEvaluation implements IncrementalBitVectorProblem.DoubleEvaluation {
+
+    private final BitVector candidate;
+    private final int[][] counts;
+    private final int[] completed;
+    private int partSum;
+
+    private BlockEvaluation(BitVector candidate) {
+      this.candidate = candidate;
+      counts = new int[k + 1][];
+      completed = new int[k + 1];
+      for (int level = 0; level <= k; level++) {
+        counts[level] = new int[numBlocks >> level];
+      }
+      final int stride = blockSize + gapSize;
+      for (int b = 0; b < numBlocks; b++) {
+        for (int i = b * stride, end = i + blockSize; i < end; i++) {
+          if (candidate.isOne(i)) {
+            counts[0][b]++;
+          }
+        }
+        partSum += partMultiple(counts[0][b]);
+      }
+      for (int level = 0; level <= k; level++) {
+        int complete = level == 0 ? blockSize : 2;
+        for (int b = 0; b < counts[level].length; b++) {
+          if (counts[level][b] == complete) {
+            completed[level]++;
+            if (level < k) {
+              counts[level + 1][b >> 1]++;
+            }
+          }
+        }
+      }
+    }
+
+    @Override
+    public void flipped(int index) {
+      final int stride = blockSize + gapSize;
+      int b = index / stride;
+      if (index < n && index - b * stride >= blockSize) {
+        // bits of the gaps don't affect fitness
+        return;
+      }
+      int delta = candidate.isOne(index) ? 1 : -1;
+      partSum -= partMultiple(counts[0][b]);
+      partSum += partMultiple(counts[0][b] + delta);
+      for (int level = 0; level <= k; level++) {
+        int complete = level == 0 ? blockSize : 2;
+        boolean wasComplete = counts[level][b] == complete;
+        counts[level][b] += delta;
+        if (wasComplete == (counts[level][b] == complete)) {
+          break;
+        }
+        delta = wasComplete ? -1 : 1;
+        completed[level] += delta;
+        b >>= 1;
+      }
+    }
+
+    @Override
+    public double cost() {
+      double fitness = v * partSum;
+      for (int level = 0; level <= k && completed[level] > 0; level++) {
+        fitness += uStar + (completed[level] - 1) * u;
+      }
+      return maxFitness - fitness;
+    }
+  }
 }
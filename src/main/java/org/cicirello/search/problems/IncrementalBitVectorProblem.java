@@ -0,0 +1,140 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.problems;
+
+import org.cicirello.search.representations.BitVector;
+
+/**
+ * An interface for optimization problems over BitVectors whose cost can be maintained incrementally
+ * as individual bits of a candidate solution are flipped. Many of the benchmark problems over
+ * BitVectors, such as {@link OneMax} and {@link RoyalRoad}, depend only upon the number of 1-bits
+ * in the BitVector or in blocks of the BitVector. The cost of such problems can be updated in
+ * constant time, or time proportional to the number of levels of blocks, after a bit flip, rather
+ * than recomputed from scratch in time linear in the length of the BitVector.
+ *
+ * <p>Search algorithms that flip a few bits at a time, such as the {@link
+ * org.cicirello.search.evo.OnePlusOneGeneticAlgorithm} and the hill climbers when used with {@link
+ * org.cicirello.search.operators.bits.DefiniteBitFlipMutation}, take advantage of this interface
+ * automatically when the problem implements it. Problems implement it via the nested interfaces
+ * {@link Integer} for problems with integer costs and {@link Double} for problems with real-valued
+ * costs.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+public interface IncrementalBitVectorProblem {
+
+  /**
+   * An optimization problem over BitVectors with integer costs, whose cost can be maintained
+   * incrementally.
+   *
+   * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+   *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+   */
+  interface Integer extends IncrementalBitVectorProblem, IntegerCostOptimizationProblem<BitVector> {
+
+    /**
+     * Creates an incremental evaluation of a candidate solution, in time linear in its length. The
+     * incremental evaluation is then kept up to date by calls to its {@link Evaluation#flipped}
+     * method.
+     *
+     * @param candidate The candidate solution, a reference to which is kept by the evaluation.
+     * @return an incremental evaluation of candidate
+     */
+    IntegerEvaluation incrementalEvaluation(BitVector candidate);
+  }
+
+  /**
+   * An optimization problem over BitVectors with real-valued costs, whose cost can be maintained
+   * incrementally.
+   *
+   * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+   *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+   */
+  interface Double extends IncrementalBitVectorProblem, OptimizationProblem<BitVector> {
+
+    /**
+     * Creates an incremental evaluation of a candidate solution, in time linear in its length. The
+     * incremental evaluation is then kept up to date by calls to its {@link Evaluation#flipped}
+     * method.
+     *
+     * @param candidate The candidate solution, a reference to which is kept by the evaluation.
+     * @return an incremental evaluation of candidate
+     */
+    DoubleEvaluation incrementalEvaluation(BitVector candidate);
+  }
+
+  /**
+   * The incremental evaluation of a specific candidate solution. An evaluation is not thread-safe,
+   * and is only valid for as long as every flip of a bit of its candidate solution is followed by a
+   * call to {@link #flipped}, before that same bit is flipped again, and before the cost is
+   * queried.
+   *
+   * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+   *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+   */
+  interface Evaluation {
+
+    /**
+     * Updates the evaluation to account for a bit of the candidate solution that was just flipped.
+     *
+     * @param index The index of the bit that was flipped.
+     * @throws IndexOutOfBoundsException if index is negative, or if index &ge; the length of the
+     *     candidate solution
+     */
+    void flipped(int index);
+  }
+
+  /**
+   * The incremental evaluation of a specific candidate solution to a problem with integer costs.
+   *
+   * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+   *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+   */
+  interface IntegerEvaluation extends Evaluation {
+
+    /**
+     * Gets the current cost of the candidate solution, in constant time.
+     *
+     * @return the cost of the candidate solution, which is the same as the cost computed from
+     *     scratch by the problem's cost method.
+     */
+    int cost();
+  }
+
+  /**
+   * The incremental evaluation of a specific candidate solution to a problem with real-valued
+   * costs.
+   *
+   * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+   *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+   */
+  interface DoubleEvaluation extends Evaluation {
+
+    /**
+     * Gets the current cost of the candidate solution.
+     *
+     * @return the cost of the candidate solution, which is the same as the cost computed from
+     *     scratch by the problem's cost method, up to floating-point rounding.
+     */
+    double cost();
+  }
+}
@@ -52,7 +52,7 @@ import org.cicirello.search.representations.BitVector;
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
-public final class Mix implements OptimizationProblem<BitVector> {
+public final class Mix implements IncrementalBitVectorProblem.Double {
 
   private final OneMaxAckley onemax;
   private final TwoMax twomax;
@@ -72,6 +72,23 @@ public final class Mix implements OptimizationProblem<BitVector> {
     return 10 * candidate.length() - value(candidate);
   }
 
+  @Override
+  public IncrementalBitVectorProblem.DoubleEvaluation incrementalEvaluation(BitVector candidate) {
+    final int n = candidate.length();
+    final SegmentOnesCounts segments = new SegmentOnesCounts(candidate, 5);
+    return new IncrementalBitVectorProblem.DoubleEvaluation() {
+      @Override
+      public void flipped(int index) {
+        segments.flipped(index);
+      }
+
+      @Override
+      public double cost() {
+        return 10 * n - value(segments, n % 5);
+      }
+    };
+  }
+
   @Override
   public double minCost() {
     return 0;
@@ -111,4 +128,29 @@ public final class Mix implements OptimizationProblem<BitVector> {
     }
     return subVectors;
   }
+
+  /*
+   * The value computed from the 1-bit counts of the segments, consistent with
+   * the sub vectors of computeSubVectors.
+   */
+  private static double value(SegmentOnesCounts segments, int r) {
+    int s0 = segmentOf(0, r);
+    int s1 = segmentOf(1, r);
+    int s2 = segmentOf(2, r);
+    int s3 = segmentOf(3, r);
+    int s4 = segmentOf(4, r);
+    int plateauValue = segments.ones(s4) == segments.length(s4) ? 10 * segments.length(s4) : 0;
+    return 10 * segments.ones(s0)
+        + TwoMax.value(segments.ones(s1), segments.length(s1))
+        + Trap.value(segments.ones(s2), segments.length(s2))
+        + Porcupine.value(segments.ones(s3), segments.length(s3))
+        + plateauValue;
+  }
+
+  /*
+   * The segments of sub vectors r through 4 precede those of sub vectors 0 through r-1.
+   */
+  private static int segmentOf(int subVector, int r) {
+    return subVector >= r ? subVector - r : 5 - r + subVector;
+  }
 }
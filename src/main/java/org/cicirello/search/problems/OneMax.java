@@ -63,7 +63,7 @@ import org.cicirello.search.representations.BitVector;
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  * @version 3.20.2021
  */
-public final class OneMax implements IntegerCostOptimizationProblem<BitVector> {
+public final class OneMax implements IncrementalBitVectorProblem.Integer {
 
   /** Constructs a OneMax object for use in evaluating candidate solutions to the OneMax problem. */
   public OneMax() {}
@@ -73,6 +73,12 @@ public final class OneMax implements IntegerCostOptimizationProblem<BitVector> {
     return candidate.countZeros();
   }
 
+  @Override
+  public IncrementalBitVectorProblem.IntegerEvaluation incrementalEvaluation(BitVector candidate) {
+    final int n = candidate.length();
+    return new OnesCountEvaluation.Integer(candidate, ones -> n - ones);
+  }
+
   @Override
   public int minCost() {
     return 0;
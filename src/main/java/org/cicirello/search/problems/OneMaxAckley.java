@@ -53,7 +53,7 @@ import org.cicirello.search.representations.BitVector;
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  * @version 3.20.2021
  */
-public final class OneMaxAckley implements IntegerCostOptimizationProblem<BitVector> {
+public final class OneMaxAckley implements IncrementalBitVectorProblem.Integer {
 
   /**
    * Constructs a OneMaxAckley object for use in evaluating candidate solutions to the OneMax
@@ -66,6 +66,12 @@ public final class OneMaxAckley implements IntegerCostOptimizationProblem<BitVec
     return 10 * candidate.countZeros();
   }
 
+  @Override
+  public IncrementalBitVectorProblem.IntegerEvaluation incrementalEvaluation(BitVector candidate) {
+    final int n = candidate.length();
+    return new OnesCountEvaluation.Integer(candidate, ones -> 10 * (n - ones));
+  }
+
   @Override
   public int minCost() {
     return 0;
@@ -0,0 +1,97 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.problems;
+
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntUnaryOperator;
+import org.cicirello.search.representations.BitVector;
+
+/**
+ * Internal package access class for the incremental evaluation of problems whose cost is a function
+ * of the number of 1-bits in the BitVector, such as {@link OneMax} and {@link TwoMax}. The number
+ * of 1-bits is maintained in constant time per bit flip.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+abstract class OnesCountEvaluation implements IncrementalBitVectorProblem.Evaluation {
+
+  private final BitVector candidate;
+
+  /** The current number of 1-bits in the candidate solution. */
+  int ones;
+
+  OnesCountEvaluation(BitVector candidate) {
+    this.candidate = candidate;
+    ones = candidate.countOnes();
+  }
+
+  @Override
+  public final void flipped(int index) {
+    ones += candidate.isOne(index) ? 1 : -1;
+  }
+
+  /** Incremental evaluation for problems with integer costs. */
+  static final class Integer extends OnesCountEvaluation
+      implements IncrementalBitVectorProblem.IntegerEvaluation {
+
+    private final IntUnaryOperator costOfOnes;
+
+    /**
+     * Constructs the evaluation.
+     *
+     * @param candidate The candidate solution.
+     * @param costOfOnes Computes the cost of the candidate from its number of 1-bits.
+     */
+    Integer(BitVector candidate, IntUnaryOperator costOfOnes) {
+      super(candidate);
+      this.costOfOnes = costOfOnes;
+    }
+
+    @Override
+    public int cost() {
+      return costOfOnes.applyAsInt(ones);
+    }
+  }
+
+  /** Incremental evaluation for problems with real-valued costs. */
+  static final class Double extends OnesCountEvaluation
+      implements IncrementalBitVectorProblem.DoubleEvaluation {
+
+    private final IntToDoubleFunction costOfOnes;
+
+    /**
+     * Constructs the evaluation.
+     *
+     * @param candidate The candidate solution.
+     * @param costOfOnes Computes the cost of the candidate from its number of 1-bits.
+     */
+    Double(BitVector candidate, IntToDoubleFunction costOfOnes) {
+      super(candidate);
+      this.costOfOnes = costOfOnes;
+    }
+
+    @Override
+    public double cost() {
+      return costOfOnes.applyAsDouble(ones);
+    }
+  }
+}
@@ -20,6 +20,7 @@
 
 package org.cicirello.search.problems;
 
+import java.util.List;
 import org.cicirello.search.SolutionCostPair;
 import org.cicirello.util.Copyable;
 
@@ -63,6 +64,27 @@ public interface OptimizationProblem<T extends Copyable<T>> extends Problem<T> {
    */
   double cost(T candidate);
 
+  /**
+   * Computes the costs of a batch of candidate solutions to the problem instance, such that
+   * costs[i] is the cost of candidates.get(i). The default implementation simply calls the {@link
+   * #cost(Copyable) cost(T)} method for each candidate. Problems whose cost functions are simple
+   * arithmetic over the data of a candidate may override this method to first gather that data from
+   * all of the candidates into primitive arrays, and to then evaluate the batch with tight loops
+   * over those arrays, which the JIT compiler can more effectively optimize than a sequence of
+   * calls to {@link #cost(Copyable) cost(T)}. Overriding implementations must compute the same
+   * costs as the {@link #cost(Copyable) cost(T)} method.
+   *
+   * @param candidates The candidate solutions to evaluate.
+   * @param costs An array for the costs, whose length must be at least candidates.size().
+   * @throws ArrayIndexOutOfBoundsException if costs.length is less than candidates.size()
+   */
+  default void costs(List<? extends T> candidates, double[] costs) {
+    final int n = candidates.size();
+    for (int i = 0; i < n; i++) {
+      costs[i] = cost(candidates.get(i));
+    }
+  }
+
   /**
    * A lower bound on the minimum theoretical cost across all possible solutions to the problem
    * instance, where lower cost implies better solution. The default implementation returns
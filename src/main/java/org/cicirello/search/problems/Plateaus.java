@@ -50,7 +50,7 @@ import org.cicirello.search.representations.BitVector;
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  * @version 3.25.2021
  */
-public final class Plateaus implements OptimizationProblem<BitVector> {
+public final class Plateaus implements IncrementalBitVectorProblem.Double {
 
   /** Constructs an instance of Ackley's Plateaus problem. */
   public Plateaus() {}
@@ -60,6 +60,23 @@ public final class Plateaus implements OptimizationProblem<BitVector> {
     return 10 * candidate.length() - value(candidate);
   }
 
+  @Override
+  public IncrementalBitVectorProblem.DoubleEvaluation incrementalEvaluation(BitVector candidate) {
+    final int n = candidate.length();
+    final SegmentOnesCounts segments = new SegmentOnesCounts(candidate, 4);
+    return new IncrementalBitVectorProblem.DoubleEvaluation() {
+      @Override
+      public void flipped(int index) {
+        segments.flipped(index);
+      }
+
+      @Override
+      public double cost() {
+        return 10 * n - segments.numFull() * n * 2.5;
+      }
+    };
+  }
+
   @Override
   public double minCost() {
     return 0;
@@ -20,6 +20,7 @@
 
 package org.cicirello.search.problems;
 
+import java.util.List;
 import org.cicirello.search.representations.SingleReal;
 
 /**
@@ -128,16 +129,39 @@ public final class PolynomialRootFinding implements OptimizationProblem<SingleRe
 
   @Override
   public double cost(SingleReal candidate) {
-    double c = coefficients[0];
-    double x = candidate.get(0);
-    double term = x;
-    int last = coefficients.length - 1;
-    for (int i = 1; i < last; i++) {
-      c += coefficients[i] * term;
-      term *= x;
+    return Math.abs(polynomial(candidate.get(0)));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This implementation gathers the inputs of the candidates into an array, and then applies
+   * Horner's method one term at a time across the whole batch, accumulating in the costs array.
+   * Each step is a multiply and add over arrays, which the JIT compiler can vectorize. The
+   * operations for each candidate are the same, and in the same order, as by the {@link #cost}
+   * method, so the costs are identical.
+   */
+  @Override
+  public void costs(List<? extends SingleReal> candidates, double[] costs) {
+    final int n = candidates.size();
+    final double[] x = new double[n];
+    for (int i = 0; i < n; i++) {
+      x[i] = candidates.get(i).get(0);
+    }
+    int j = coefficients.length - 1;
+    final double leading = coefficients[j];
+    for (int i = 0; i < n; i++) {
+      costs[i] = leading;
+    }
+    for (j--; j >= 0; j--) {
+      final double c = coefficients[j];
+      for (int i = 0; i < n; i++) {
+        costs[i] = costs[i] * x[i] + c;
+      }
+    }
+    for (int i = 0; i < n; i++) {
+      costs[i] = Math.abs(costs[i]);
     }
-    c += coefficients[last] * term;
-    return Math.abs(c);
   }
 
   @Override
@@ -160,4 +184,16 @@ public final class PolynomialRootFinding implements OptimizationProblem<SingleRe
   public double value(SingleReal candidate) {
     return cost(candidate);
   }
+
+  /*
+   * Evaluates the polynomial at x with Horner's method.
+   */
+  private double polynomial(double x) {
+    int i = coefficients.length - 1;
+    double c = coefficients[i];
+    for (i--; i >= 0; i--) {
+      c = c * x + coefficients[i];
+    }
+    return c;
+  }
 }
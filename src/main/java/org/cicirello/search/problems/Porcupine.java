@@ -43,7 +43,7 @@ import org.cicirello.search.representations.BitVector;
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  * @version 3.18.2021
  */
-public final class Porcupine implements IntegerCostOptimizationProblem<BitVector> {
+public final class Porcupine implements IncrementalBitVectorProblem.Integer {
 
   /**
    * Constructs a Porcupine object for use in evaluating candidate solutions to the Porcupine
@@ -53,12 +53,13 @@ public final class Porcupine implements IntegerCostOptimizationProblem<BitVector
 
   @Override
   public int cost(BitVector candidate) {
-    int z = candidate.countZeros();
-    int cost = 10 * z;
-    if ((z & 1) == 1) {
-      cost += 15;
-    }
-    return cost;
+    return cost(candidate.countZeros());
+  }
+
+  @Override
+  public IncrementalBitVectorProblem.IntegerEvaluation incrementalEvaluation(BitVector candidate) {
+    final int n = candidate.length();
+    return new OnesCountEvaluation.Integer(candidate, ones -> cost(n - ones));
   }
 
   @Override
@@ -68,16 +69,31 @@ public final class Porcupine implements IntegerCostOptimizationProblem<BitVector
 
   @Override
   public int value(BitVector candidate) {
-    int c = candidate.countOnes();
-    int value = 10 * c;
-    if (((candidate.length() - c) & 1) == 1) {
-      value -= 15;
-    }
-    return value;
+    return value(candidate.countOnes(), candidate.length());
   }
 
   @Override
   public boolean isMinCost(int cost) {
     return cost == 0;
   }
+
+  /*
+   * package access for use by Mix: the value of a BitVector of length n with the
+   * specified number of 1-bits.
+   */
+  static int value(int ones, int n) {
+    int value = 10 * ones;
+    if (((n - ones) & 1) == 1) {
+      value -= 15;
+    }
+    return value;
+  }
+
+  private static int cost(int zeros) {
+    int cost = 10 * zeros;
+    if ((zeros & 1) == 1) {
+      cost += 15;
+    }
+    return cost;
+  }
 }
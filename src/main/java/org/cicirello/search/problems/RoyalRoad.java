@@ -75,7 +75,7 @@ import org.cicirello.search.representations.BitVector;
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  * @version 7.27.2021
  */
-public final class RoyalRoad implements IntegerCostOptimizationProblem<BitVector> {
+public final class RoyalRoad implements IncrementalBitVectorProblem.Integer {
 
   private final int blockSize;
   private final boolean steppingStones;
@@ -103,6 +103,18 @@ public final class RoyalRoad implements IntegerCostOptimizationProblem<BitVector
     return maxValue - value(candidate);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The evaluation maintains the number of 1-bits in each block, as well as the number of
+   * completed sub-blocks of each of the larger blocks of the stepping stones, so the cost is
+   * updated after a bit flip in time proportional to the number of levels of blocks.
+   */
+  @Override
+  public IncrementalBitVectorProblem.IntegerEvaluation incrementalEvaluation(BitVector candidate) {
+    return new BlockEvaluation(candidate);
+  }
+
   @Override
   public int minCost() {
     return 0;
@@ -169,4 +181,90 @@ public final class RoyalRoad implements IntegerCostOptimizationProblem<BitVector
     }
     return count;
   }
+
+  /*
+   * Incremental evaluation. Level 0 of counts holds the number of 1-bits in each block,
+   * and level L > 0 holds the number of completed blocks of level L-1 within each block
+   * of level L, which is twice as long as the blocks of level L-1.
+   */
+  private final class BlockEvaluation implements IncrementalBitVectorProblem.IntegerEvaluation {
+
+    private final BitVector candidate;
+    private final int n;
+    private final int maxValue;
+    private final int[][] counts;
+    private int ones;
+    private int blockValue;
+
+    private BlockEvaluation(BitVector candidate) {
+      this.candidate = candidate;
+      n = candidate.length();
+      int levels = 1;
+      if (steppingStones) {
+        levels += intermediateLevelCount(n);
+        maxValue = (levels + 1) * n;
+      } else {
+        maxValue = n << 1;
+      }
+      counts = new int[levels][];
+      int size = blockSize;
+      for (int level = 0; level < levels; level++) {
+        counts[level] = new int[(int) ((n + (long) size - 1) / size)];
+        size <<= 1;
+      }
+      for (int i = 0; i < n; i++) {
+        if (candidate.isOne(i)) {
+          ones++;
+          counts[0][i / blockSize]++;
+        }
+      }
+      size = blockSize;
+      for (int level = 0; level < levels; level++) {
+        for (int b = 0; b < counts[level].length; b++) {
+          if (counts[level][b] == completeCount(level, b, size)) {
+            blockValue += Math.min(size, n - b * size);
+            if (level + 1 < levels) {
+              counts[level + 1][b >> 1]++;
+            }
+          }
+        }
+        size <<= 1;
+      }
+    }
+
+    @Override
+    public void flipped(int index) {
+      int delta = candidate.isOne(index) ? 1 : -1;
+      ones += delta;
+      int b = index / blockSize;
+      int size = blockSize;
+      for (int level = 0; level < counts.length; level++) {
+        int complete = completeCount(level, b, size);
+        boolean wasComplete = counts[level][b] == complete;
+        counts[level][b] += delta;
+        if (wasComplete == (counts[level][b] == complete)) {
+          break;
+        }
+        delta = wasComplete ? -1 : 1;
+        blockValue += delta * Math.min(size, n - b * size);
+        b >>= 1;
+        size <<= 1;
+      }
+    }
+
+    @Override
+    public int cost() {
+      return maxValue - blockValue - (ones == n ? n : 0);
+    }
+
+    /*
+     * The count at which block b of the level, whose blocks are of the specified size,
+     * is complete.
+     */
+    private int completeCount(int level, int b, int size) {
+      return level == 0
+          ? Math.min(size, n - b * size)
+          : Math.min(2, counts[level - 1].length - (b << 1));
+    }
+  }
 }
@@ -0,0 +1,104 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.problems;
+
+import org.cicirello.search.representations.BitVector;
+
+/**
+ * Internal package access class that maintains the number of 1-bits in each of k consecutive
+ * segments of a BitVector of length n, for the incremental evaluation of problems such as {@link
+ * Plateaus} and {@link Mix}. If n is not divisible by k, then the last n % k segments are one bit
+ * longer than the others. Segments are numbered in the order in which they appear in the BitVector.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+final class SegmentOnesCounts {
+
+  private final BitVector candidate;
+  private final int[] counts;
+  private final int m;
+  private final int numShort;
+  private final int boundary;
+  private int numFull;
+
+  /**
+   * Counts the 1-bits in each segment.
+   *
+   * @param candidate The candidate solution.
+   * @param k The number of segments.
+   */
+  SegmentOnesCounts(BitVector candidate, int k) {
+    this.candidate = candidate;
+    counts = new int[k];
+    m = candidate.length() / k;
+    numShort = k - candidate.length() % k;
+    boundary = numShort * m;
+    for (int i = 0; i < candidate.length(); i++) {
+      if (candidate.isOne(i)) {
+        counts[segment(i)]++;
+      }
+    }
+    for (int s = 0; s < k; s++) {
+      if (counts[s] == length(s)) {
+        numFull++;
+      }
+    }
+  }
+
+  /**
+   * Updates the counts to account for a bit that was just flipped.
+   *
+   * @param index The index of the flipped bit.
+   */
+  void flipped(int index) {
+    int s = segment(index);
+    boolean wasFull = counts[s] == length(s);
+    counts[s] += candidate.isOne(index) ? 1 : -1;
+    if (wasFull) {
+      numFull--;
+    } else if (counts[s] == length(s)) {
+      numFull++;
+    }
+  }
+
+  /* The number of 1-bits in segment s. */
+  int ones(int s) {
+    return counts[s];
+  }
+
+  /* The length of segment s. */
+  int length(int s) {
+    return s < numShort ? m : m + 1;
+  }
+
+  /* The number of segments that are all 1-bits. */
+  int numFull() {
+    return numFull;
+  }
+
+  private int segment(int index) {
+    if (index < 0 || index >= candidate.length()) {
+      throw new IndexOutOfBoundsException("index is not in the bounds of the BitVector");
+    }
+    return index < boundary ? index / m : numShort + (index - boundary) / (m + 1);
+  }
+}
@@ -54,26 +54,20 @@ import org.cicirello.search.representations.BitVector;
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  * @version 3.24.2021
  */
-public final class Trap implements OptimizationProblem<BitVector> {
+public final class Trap implements IncrementalBitVectorProblem.Double {
 
   /** Constructs an instance of Ackley's Trap function. */
   public Trap() {}
 
   @Override
   public double cost(BitVector candidate) {
-    int c = candidate.countOnes();
-    // Handle the floor(3n/4) using integer division by 4,
-    // optimized here with a right-shift by 2 bits.
-    int z = (3 * candidate.length()) >> 2;
-    if (c == z) {
-      return 10 * candidate.length();
-    } else if (c < z) {
-      return candidate.length() * (2.0 + (c << 3) / ((double) z));
-    } else {
-      return 10
-          * candidate.length()
-          * (((double) (candidate.length() - c)) / (candidate.length() - z));
-    }
+    return cost(candidate.countOnes(), candidate.length());
+  }
+
+  @Override
+  public IncrementalBitVectorProblem.DoubleEvaluation incrementalEvaluation(BitVector candidate) {
+    final int n = candidate.length();
+    return new OnesCountEvaluation.Double(candidate, ones -> cost(ones, n));
   }
 
   @Override
@@ -83,24 +77,43 @@ public final class Trap implements OptimizationProblem<BitVector> {
 
   @Override
   public double value(BitVector candidate) {
-    int c = candidate.countOnes();
+    return value(candidate.countOnes(), candidate.length());
+  }
+
+  @Override
+  public boolean isMinCost(double cost) {
+    return cost == 0;
+  }
+
+  /*
+   * package access for use by Mix: the value of a BitVector of length n with c 1-bits.
+   */
+  static double value(int c, int n) {
     // Handle the floor(3n/4) using integer division by 4,
     // optimized here with a right-shift by 2 bits.
-    int z = (3 * candidate.length()) >> 2;
+    int z = (3 * n) >> 2;
     if (c == z) {
       // Handle equality as a special case despite original
       // description including it in next case, to avoid a
       // potential division by 0.
       return 0;
     } else if (c < z) {
-      return (candidate.length() << 3) * (((double) (z - c)) / z);
+      return (n << 3) * (((double) (z - c)) / z);
     } else {
-      return 10 * candidate.length() * (((double) (c - z)) / (candidate.length() - z));
+      return 10 * n * (((double) (c - z)) / (n - z));
     }
   }
 
-  @Override
-  public boolean isMinCost(double cost) {
-    return cost == 0;
+  private static double cost(int c, int n) {
+    // Handle the floor(3n/4) using integer division by 4,
+    // optimized here with a right-shift by 2 bits.
+    int z = (3 * n) >> 2;
+    if (c == z) {
+      return 10 * n;
+    } else if (c < z) {
+      return n * (2.0 + (c << 3) / ((double) z));
+    } else {
+      return 10 * n * (((double) (n - c)) / (n - z));
+    }
   }
 }
@@ -47,14 +47,20 @@ import org.cicirello.search.representations.BitVector;
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  * @version 3.18.2021
  */
-public final class TwoMax implements IntegerCostOptimizationProblem<BitVector> {
+public final class TwoMax implements IncrementalBitVectorProblem.Integer {
 
   /** Constructs a TwoMax object for use in evaluating candidate solutions to the TwoMax problem. */
   public TwoMax() {}
 
   @Override
   public int cost(BitVector candidate) {
-    return 10 * candidate.length() - Math.abs(18 * candidate.countOnes() - 8 * candidate.length());
+    return 10 * candidate.length() - value(candidate.countOnes(), candidate.length());
+  }
+
+  @Override
+  public IncrementalBitVectorProblem.IntegerEvaluation incrementalEvaluation(BitVector candidate) {
+    final int n = candidate.length();
+    return new OnesCountEvaluation.Integer(candidate, ones -> 10 * n - value(ones, n));
   }
 
   @Override
@@ -64,11 +70,19 @@ public final class TwoMax implements IntegerCostOptimizationProblem<BitVector> {
 
   @Override
   public int value(BitVector candidate) {
-    return Math.abs(18 * candidate.countOnes() - 8 * candidate.length());
+    return value(candidate.countOnes(), candidate.length());
   }
 
   @Override
   public boolean isMinCost(int cost) {
     return cost == 0;
   }
+
+  /*
+   * package access for use by Mix: the value of a BitVector of length n with the
+   * specified number of 1-bits.
+   */
+  static int value(int ones, int n) {
+    return Math.abs(18 * ones - 8 * n);
+  }
 }
@@ -43,7 +43,7 @@ import org.cicirello.search.representations.BitVector;
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  * @version 3.18.2021
  */
-public final class TwoMaxEqualPeaks implements IntegerCostOptimizationProblem<BitVector> {
+public final class TwoMaxEqualPeaks implements IncrementalBitVectorProblem.Integer {
 
   /**
    * Constructs a TwoMaxEqualPeaks object for use in evaluating candidate solutions to the
@@ -57,6 +57,13 @@ public final class TwoMaxEqualPeaks implements IntegerCostOptimizationProblem<Bi
     return 10 * candidate.length() - Math.abs(20 * candidate.countOnes() - 10 * candidate.length());
   }
 
+  @Override
+  public IncrementalBitVectorProblem.IntegerEvaluation incrementalEvaluation(BitVector candidate) {
+    final int n = candidate.length();
+    return new OnesCountEvaluation.Integer(
+        candidate, ones -> 10 * n - Math.abs(20 * ones - 10 * n));
+  }
+
   @Override
   public int minCost() {
     return 0;
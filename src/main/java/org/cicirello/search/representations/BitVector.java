@@ -38,9 +38,14 @@ import org.cicirello.util.Copyable;
  */
 public final class BitVector implements Copyable<BitVector> {
 
-  private final int[] bits;
+  // Bits are stored in 64-bit words, bit i in word i/64, to halve the number of
+  // iterations of the bulk operations relative to 32-bit blocks. The simple loops
+  // of the bulk operations are also amenable to vectorization by the JIT compiler.
+  private final long[] words;
   private final int bitLength;
-  private final int lastIntMask;
+  private final long lastWordMask;
+  // The number of 32-bit blocks, as seen via get32, set32, and the BitIterator.
+  private final int numInts;
 
   /**
    * Initializes the bit vector to a vector of all 0 bits.
@@ -62,16 +67,17 @@ public final class BitVector implements Copyable<BitVector> {
    */
   public BitVector(int bitLength, boolean randomize) {
     if (bitLength < 0) throw new IllegalArgumentException("bitLength must be non-negative");
-    bits = new int[(bitLength + 31) >> 5];
+    words = new long[(bitLength + 63) >> 6];
     this.bitLength = bitLength;
-    lastIntMask = 0xffffffff >>> ((bits.length << 5) - bitLength);
-    if (randomize && bits.length > 0) {
+    lastWordMask = 0xffffffffffffffffL >>> ((words.length << 6) - bitLength);
+    numInts = (bitLength + 31) >> 5;
+    if (randomize && words.length > 0) {
       EnhancedSplittableGenerator generator =
           RandomnessFactory.threadLocalEnhancedSplittableGenerator();
-      for (int i = 0; i < bits.length; i++) {
-        bits[i] = generator.nextInt();
+      for (int i = 0; i < words.length; i++) {
+        words[i] = generator.nextLong();
       }
-      bits[bits.length - 1] &= lastIntMask;
+      words[words.length - 1] &= lastWordMask;
     }
   }
 
@@ -88,10 +94,14 @@ public final class BitVector implements Copyable<BitVector> {
     if (bitLength < 0) throw new IllegalArgumentException("bitLength must be non-negative");
     if (((bitLength + 31) >> 5) != bits.length)
       throw new IllegalArgumentException("bits.length is inconsistent with bitLength");
-    this.bits = bits.clone();
+    words = new long[(bitLength + 63) >> 6];
     this.bitLength = bitLength;
-    lastIntMask = 0xffffffff >>> ((bits.length << 5) - bitLength);
-    this.bits[this.bits.length - 1] &= lastIntMask;
+    lastWordMask = 0xffffffffffffffffL >>> ((words.length << 6) - bitLength);
+    numInts = bits.length;
+    for (int i = 0; i < bits.length; i++) {
+      words[i >> 1] |= (bits[i] & 0xffffffffL) << ((i & 1) << 5);
+    }
+    words[words.length - 1] &= lastWordMask;
   }
 
   /**
@@ -115,14 +125,15 @@ public final class BitVector implements Copyable<BitVector> {
    */
   public BitVector(int bitLength, EnhancedRandomGenerator generator) {
     if (bitLength < 0) throw new IllegalArgumentException("bitLength must be non-negative");
-    bits = new int[(bitLength + 31) >> 5];
+    words = new long[(bitLength + 63) >> 6];
     this.bitLength = bitLength;
-    lastIntMask = 0xffffffff >>> ((bits.length << 5) - bitLength);
-    if (bits.length > 0) {
-      for (int i = 0; i < bits.length; i++) {
-        bits[i] = generator.nextInt();
+    lastWordMask = 0xffffffffffffffffL >>> ((words.length << 6) - bitLength);
+    numInts = (bitLength + 31) >> 5;
+    if (words.length > 0) {
+      for (int i = 0; i < words.length; i++) {
+        words[i] = generator.nextLong();
       }
-      bits[bits.length - 1] &= lastIntMask;
+      words[words.length - 1] &= lastWordMask;
     }
   }
 
@@ -137,25 +148,23 @@ public final class BitVector implements Copyable<BitVector> {
    */
   public BitVector(int bitLength, double p, EnhancedRandomGenerator generator) {
     if (bitLength < 0) throw new IllegalArgumentException("bitLength must be non-negative");
-    bits = new int[(bitLength + 31) >> 5];
+    words = new long[(bitLength + 63) >> 6];
     this.bitLength = bitLength;
-    lastIntMask = 0xffffffff >>> ((bits.length << 5) - bitLength);
+    lastWordMask = 0xffffffffffffffffL >>> ((words.length << 6) - bitLength);
+    numInts = (bitLength + 31) >> 5;
     if (bitLength > 0) {
       if (p == 0.5) {
-        for (int i = 0; i < bits.length; i++) {
-          bits[i] = generator.nextInt();
+        for (int i = 0; i < words.length; i++) {
+          words[i] = generator.nextLong();
         }
-        bits[bits.length - 1] &= lastIntMask;
+        words[words.length - 1] &= lastWordMask;
       } else if (p >= 1.0) {
-        for (int i = 0; i < bits.length - 1; i++) {
-          bits[i] = 0xffffffff;
-        }
-        bits[bits.length - 1] = lastIntMask;
+        Arrays.fill(words, 0, words.length - 1, 0xffffffffffffffffL);
+        words[words.length - 1] = lastWordMask;
       } else if (p > 0.0) {
         int[] bitsToSet = generator.sample(bitLength, p);
         for (int index : bitsToSet) {
-          int i = index >> 5;
-          bits[i] ^= (1 << (index - (i << 5)));
+          words[index >> 6] ^= 1L << (index & 0x3f);
         }
       }
     }
@@ -165,9 +174,10 @@ public final class BitVector implements Copyable<BitVector> {
    * Internal copy constructor.
    */
   private BitVector(BitVector other) {
-    bits = other.bits.clone();
+    words = other.words.clone();
     bitLength = other.bitLength;
-    lastIntMask = other.lastIntMask;
+    lastWordMask = other.lastWordMask;
+    numInts = other.numInts;
   }
 
   /**
@@ -192,37 +202,37 @@ public final class BitVector implements Copyable<BitVector> {
     if (firstIndex < 0 || lastIndex >= b1.bitLength) {
       throw new IndexOutOfBoundsException("index(es) is(are) not in the bounds of the BitVector");
     }
-    int firstBlock = firstIndex >> 5;
-    int lastBlock = lastIndex >> 5;
+    int firstBlock = firstIndex >> 6;
+    int lastBlock = lastIndex >> 6;
     if (firstBlock == lastBlock) {
       // all within a single block case
       int r = (lastIndex - firstIndex + 1);
-      if (r == 32) {
+      if (r == 64) {
         // whole block
-        int temp = b1.bits[firstBlock];
-        b1.bits[firstBlock] = b2.bits[firstBlock];
-        b2.bits[firstBlock] = temp;
+        long temp = b1.words[firstBlock];
+        b1.words[firstBlock] = b2.words[firstBlock];
+        b2.words[firstBlock] = temp;
       } else {
-        partialBlockSwap(b1, b2, firstBlock, ((1 << r) - 1) << (firstIndex & 0x1f));
+        partialBlockSwap(b1, b2, firstBlock, ((1L << r) - 1) << (firstIndex & 0x3f));
       }
     } else {
-      int r = firstIndex & 0x1f;
+      int r = firstIndex & 0x3f;
       if (r != 0) {
         // Handle first partial block here
-        partialBlockSwap(b1, b2, firstBlock, ~((1 << r) - 1));
+        partialBlockSwap(b1, b2, firstBlock, ~((1L << r) - 1));
         firstBlock++;
       }
-      r = lastIndex & 0x1f;
-      if (r != 31) {
+      r = lastIndex & 0x3f;
+      if (r != 63) {
         // Handle last partial block here
-        partialBlockSwap(b1, b2, lastBlock, (1 << (r + 1)) - 1);
+        partialBlockSwap(b1, b2, lastBlock, (1L << (r + 1)) - 1);
         lastBlock--;
       }
       // handle the whole block cases
       for (int i = firstBlock; i <= lastBlock; i++) {
-        int temp = b1.bits[i];
-        b1.bits[i] = b2.bits[i];
-        b2.bits[i] = temp;
+        long temp = b1.words[i];
+        b1.words[i] = b2.words[i];
+        b2.words[i] = temp;
       }
     }
   }
@@ -242,16 +252,21 @@ public final class BitVector implements Copyable<BitVector> {
     if (b1.bitLength != mask.bitLength || b2.bitLength != mask.bitLength) {
       throw new IllegalArgumentException("BitVectors must be same length");
     }
-    for (int i = 0; i < mask.bits.length; i++) {
-      partialBlockSwap(b1, b2, i, mask.bits[i]);
+    final long[] w1 = b1.words;
+    final long[] w2 = b2.words;
+    final long[] m = mask.words;
+    for (int i = 0; i < m.length; i++) {
+      // the bits that differ where the mask is 1 are flipped in both
+      long diff = (w1[i] ^ w2[i]) & m[i];
+      w1[i] ^= diff;
+      w2[i] ^= diff;
     }
   }
 
-  private static void partialBlockSwap(BitVector b1, BitVector b2, int index, int swapMask) {
-    int keepMask = ~swapMask;
-    int temp = (b1.bits[index] & swapMask) | (b2.bits[index] & keepMask);
-    b1.bits[index] = (b2.bits[index] & swapMask) | (b1.bits[index] & keepMask);
-    b2.bits[index] = temp;
+  private static void partialBlockSwap(BitVector b1, BitVector b2, int index, long swapMask) {
+    long diff = (b1.words[index] ^ b2.words[index]) & swapMask;
+    b1.words[index] ^= diff;
+    b2.words[index] ^= diff;
   }
 
   /**
@@ -261,8 +276,8 @@ public final class BitVector implements Copyable<BitVector> {
    *     the BitVector is 0, this method returns true.
    */
   public boolean allZeros() {
-    for (int i = 0; i < bits.length; i++) {
-      if (bits[i] != 0) return false;
+    for (int i = 0; i < words.length; i++) {
+      if (words[i] != 0) return false;
     }
     return true;
   }
@@ -274,10 +289,10 @@ public final class BitVector implements Copyable<BitVector> {
    *     the BitVector is 0, this method returns true.
    */
   public boolean allOnes() {
-    for (int i = bits.length - 2; i >= 0; i--) {
-      if (bits[i] != 0xFFFFFFFF) return false;
+    for (int i = words.length - 2; i >= 0; i--) {
+      if (words[i] != 0xffffffffffffffffL) return false;
     }
-    return bits.length == 0 || bits[bits.length - 1] == lastIntMask;
+    return words.length == 0 || words[words.length - 1] == lastWordMask;
   }
 
   /**
@@ -321,8 +336,7 @@ public final class BitVector implements Copyable<BitVector> {
     if (index < 0 || index >= bitLength) {
       throw new IndexOutOfBoundsException("index is not in the bounds of the BitVector");
     }
-    int i = index >> 5;
-    return (bits[i] >>> (index - (i << 5))) & 1;
+    return (int) (words[index >> 6] >>> (index & 0x3f)) & 1;
   }
 
   /**
@@ -341,12 +355,11 @@ public final class BitVector implements Copyable<BitVector> {
   }
 
   private void internalSetBit(int index, int bitValue) {
-    int i = index >> 5;
-    int value = bitValue & 1;
-    if (value == 0) {
-      bits[i] &= ~(1 << (index - (i << 5)));
+    int i = index >> 6;
+    if ((bitValue & 1) == 0) {
+      words[i] &= ~(1L << (index & 0x3f));
     } else {
-      bits[i] |= (1 << (index - (i << 5)));
+      words[i] |= 1L << (index & 0x3f);
     }
   }
 
@@ -361,8 +374,7 @@ public final class BitVector implements Copyable<BitVector> {
     if (index < 0 || index >= bitLength) {
       throw new IndexOutOfBoundsException("index is not in the bounds of the BitVector");
     }
-    int i = index >> 5;
-    bits[i] ^= (1 << (index - (i << 5)));
+    words[index >> 6] ^= 1L << (index & 0x3f);
   }
 
   /**
@@ -400,10 +412,10 @@ public final class BitVector implements Copyable<BitVector> {
    * @throws IndexOutOfBoundsException if i is negative, or if 32*i &ge; length()
    */
   public int get32(int i) {
-    if (i < 0 || i >= bits.length) {
+    if (i < 0 || i >= numInts) {
       throw new IndexOutOfBoundsException("i is not in the bounds of the BitVector");
     }
-    return bits[i];
+    return block32(i);
   }
 
   /**
@@ -419,11 +431,20 @@ public final class BitVector implements Copyable<BitVector> {
    * @throws IndexOutOfBoundsException if i is negative, or if 32*i &ge; length()
    */
   public void set32(int i, int block) {
-    if (i < 0 || i >= bits.length) {
+    if (i < 0 || i >= numInts) {
       throw new IndexOutOfBoundsException("i is not in the bounds of the BitVector");
     }
-    if (i == bits.length - 1) block &= lastIntMask;
-    bits[i] = block;
+    int w = i >> 1;
+    int shift = (i & 1) << 5;
+    words[w] = (words[w] & ~(0xffffffffL << shift)) | ((block & 0xffffffffL) << shift);
+    if (w == words.length - 1) words[w] &= lastWordMask;
+  }
+
+  /*
+   * Gets the i-th block of 32 bits without bounds checking.
+   */
+  private int block32(int i) {
+    return (int) (words[i >> 1] >>> ((i & 1) << 5));
   }
 
   /**
@@ -433,15 +454,9 @@ public final class BitVector implements Copyable<BitVector> {
    */
   public int countOnes() {
     int count = 0;
-    for (int i = 0; i < bits.length; i++) {
-      int b = bits[i];
-      // counting 1-bits of one int from Hacker's Delight
-      b -= ((b >>> 1) & 0x55555555);
-      b = (b & 0x33333333) + ((b >>> 2) & 0x33333333);
-      b = (b + (b >>> 4)) & 0x0f0f0f0f;
-      b += (b >>> 8);
-      b += (b >>> 16);
-      count += (b & 0x3f);
+    for (int i = 0; i < words.length; i++) {
+      // Long.bitCount is an intrinsic that compiles to a population count instruction
+      count += Long.bitCount(words[i]);
     }
     return count;
   }
@@ -465,8 +480,8 @@ public final class BitVector implements Copyable<BitVector> {
   public void and(BitVector other) {
     if (bitLength != other.bitLength)
       throw new IllegalArgumentException("Both BitVectors must be of same length.");
-    for (int i = 0; i < bits.length; i++) {
-      bits[i] &= other.bits[i];
+    for (int i = 0; i < words.length; i++) {
+      words[i] &= other.words[i];
     }
   }
 
@@ -480,8 +495,8 @@ public final class BitVector implements Copyable<BitVector> {
   public void or(BitVector other) {
     if (bitLength != other.bitLength)
       throw new IllegalArgumentException("Both BitVectors must be of same length.");
-    for (int i = 0; i < bits.length; i++) {
-      bits[i] |= other.bits[i];
+    for (int i = 0; i < words.length; i++) {
+      words[i] |= other.words[i];
     }
   }
 
@@ -495,8 +510,8 @@ public final class BitVector implements Copyable<BitVector> {
   public void xor(BitVector other) {
     if (bitLength != other.bitLength)
       throw new IllegalArgumentException("Both BitVectors must be of same length.");
-    for (int i = 0; i < bits.length; i++) {
-      bits[i] ^= other.bits[i];
+    for (int i = 0; i < words.length; i++) {
+      words[i] ^= other.words[i];
     }
   }
 
@@ -504,11 +519,11 @@ public final class BitVector implements Copyable<BitVector> {
    * Computes the bitwise complement of this BitVector. This BitVector is updated with the result.
    */
   public void not() {
-    if (bits.length > 0) {
-      for (int i = 0; i < bits.length; i++) {
-        bits[i] = ~bits[i];
+    if (words.length > 0) {
+      for (int i = 0; i < words.length; i++) {
+        words[i] = ~words[i];
       }
-      bits[bits.length - 1] &= lastIntMask;
+      words[words.length - 1] &= lastWordMask;
     }
   }
 
@@ -523,18 +538,18 @@ public final class BitVector implements Copyable<BitVector> {
   public void shiftLeft(int numBits) {
     if (bitLength > 0) {
       if (numBits < bitLength) {
-        if (numBits >= 32) {
-          int numInts = numBits >> 5;
-          System.arraycopy(bits, 0, bits, numInts, bits.length - numInts);
-          Arrays.fill(bits, 0, numInts, 0);
-          bits[bits.length - 1] &= lastIntMask;
-          numBits -= numInts << 5;
+        if (numBits >= 64) {
+          int numWords = numBits >> 6;
+          System.arraycopy(words, 0, words, numWords, words.length - numWords);
+          Arrays.fill(words, 0, numWords, 0);
+          words[words.length - 1] &= lastWordMask;
+          numBits -= numWords << 6;
         }
         if (numBits > 0) {
-          leftUpTo31(numBits);
+          leftUpTo63(numBits);
         }
       } else {
-        Arrays.fill(bits, 0);
+        Arrays.fill(words, 0);
       }
     }
   }
@@ -549,34 +564,34 @@ public final class BitVector implements Copyable<BitVector> {
   public void shiftRight(int numBits) {
     if (bitLength > 0) {
       if (numBits < bitLength) {
-        if (numBits >= 32) {
-          int numInts = numBits >> 5;
-          System.arraycopy(bits, numInts, bits, 0, bits.length - numInts);
-          Arrays.fill(bits, bits.length - numInts, bits.length, 0);
-          numBits -= numInts << 5;
+        if (numBits >= 64) {
+          int numWords = numBits >> 6;
+          System.arraycopy(words, numWords, words, 0, words.length - numWords);
+          Arrays.fill(words, words.length - numWords, words.length, 0);
+          numBits -= numWords << 6;
         }
         if (numBits > 0) {
-          rightUpTo31(numBits);
+          rightUpTo63(numBits);
         }
       } else {
-        Arrays.fill(bits, 0);
+        Arrays.fill(words, 0);
       }
     }
   }
 
-  private void leftUpTo31(int numBits) {
-    for (int i = bits.length - 1; i > 0; i--) {
-      bits[i] = (bits[i] << numBits) | (bits[i - 1] >>> (32 - numBits));
+  private void leftUpTo63(int numBits) {
+    for (int i = words.length - 1; i > 0; i--) {
+      words[i] = (words[i] << numBits) | (words[i - 1] >>> (64 - numBits));
     }
-    bits[0] <<= numBits;
-    bits[bits.length - 1] &= lastIntMask;
+    words[0] <<= numBits;
+    words[words.length - 1] &= lastWordMask;
   }
 
-  private void rightUpTo31(int numBits) {
-    for (int i = 0; i < bits.length - 1; i++) {
-      bits[i] = (bits[i] >>> numBits) | (bits[i + 1] << (32 - numBits));
+  private void rightUpTo63(int numBits) {
+    for (int i = 0; i < words.length - 1; i++) {
+      words[i] = (words[i] >>> numBits) | (words[i + 1] << (64 - numBits));
     }
-    bits[bits.length - 1] >>>= numBits;
+    words[words.length - 1] >>>= numBits;
   }
 
   /**
@@ -600,7 +615,7 @@ public final class BitVector implements Copyable<BitVector> {
   public boolean equals(Object other) {
     if (other == null || !getClass().equals(other.getClass())) return false;
     BitVector b = (BitVector) other;
-    return bitLength == b.bitLength && Arrays.equals(bits, b.bits);
+    return bitLength == b.bitLength && Arrays.equals(words, b.words);
   }
 
   /**
@@ -612,8 +627,8 @@ public final class BitVector implements Copyable<BitVector> {
   @Override
   public int hashCode() {
     int h = bitLength;
-    for (int i = 0; i < bits.length; i++) {
-      h = 31 * h + bits[i];
+    for (int i = 0; i < numInts; i++) {
+      h = 31 * h + block32(i);
     }
     return h;
   }
@@ -629,8 +644,8 @@ public final class BitVector implements Copyable<BitVector> {
     int blockSize = (bitLength & 0x1f);
     if (blockSize == 0) blockSize = 32;
     String filler = "0000000000000000000000000000000";
-    for (int i = bits.length - 1; i >= 0; i--) {
-      String str = Integer.toBinaryString(bits[i]);
+    for (int i = numInts - 1; i >= 0; i--) {
+      String str = Integer.toBinaryString(block32(i));
       int numZeros = blockSize - str.length();
       if (numZeros > 0) {
         sb.append(filler.substring(0, numZeros));
@@ -815,14 +830,14 @@ public final class BitVector implements Copyable<BitVector> {
       }
       int block;
       if (remaining >= k) {
-        block = (bits[index] >>> (32 - remaining)) & mask;
+        block = (block32(index) >>> (32 - remaining)) & mask;
         remaining -= k;
         count += k;
       } else {
-        block = (bits[index] >>> (32 - remaining));
+        block = (block32(index) >>> (32 - remaining));
         index++;
-        if (index < bits.length) {
-          block |= (bits[index] << remaining) & mask;
+        if (index < numInts) {
+          block |= (block32(index) << remaining) & mask;
           remaining += 32 - k;
           count += k;
         } else {
@@ -921,7 +936,7 @@ public final class BitVector implements Copyable<BitVector> {
         index++;
         remaining = 32;
       }
-      int bit = (bits[index] >>> (32 - remaining)) & 1;
+      int bit = (block32(index) >>> (32 - remaining)) & 1;
       remaining--;
       count++;
       return bit;
@@ -935,14 +950,14 @@ public final class BitVector implements Copyable<BitVector> {
       int block;
       int mask = 0xffffffff >>> (32 - k);
       if (remaining >= k) {
-        block = (bits[index] >>> (32 - remaining)) & mask;
+        block = (block32(index) >>> (32 - remaining)) & mask;
         remaining -= k;
         count += k;
       } else {
-        block = (bits[index] >>> (32 - remaining));
+        block = (block32(index) >>> (32 - remaining));
         index++;
-        if (index < bits.length) {
-          block |= (bits[index] << remaining) & mask;
+        if (index < numInts) {
+          block |= (block32(index) << remaining) & mask;
           remaining += 32 - k;
           count += k;
         } else {
@@ -22,6 +22,9 @@ package org.cicirello.search.restarts;
 
 import java.util.ArrayList;
 import java.util.List;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.Checkpointable;
 
 /**
  * This is the basic constant run length restart schedule, such that every restart of the multistart
@@ -30,9 +33,9 @@ import java.util.List;
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
-public final class ConstantRestartSchedule implements RestartSchedule {
+public final class ConstantRestartSchedule implements RestartSchedule, Checkpointable {
 
-  private final int r;
+  private final long r;
 
   /**
    * Constructs the restart schedule.
@@ -45,6 +48,19 @@ public final class ConstantRestartSchedule implements RestartSchedule {
     r = runLength;
   }
 
+  /**
+   * Constructs the restart schedule, with a run length that may exceed the range of an int. The
+   * {@link #nextRunLength} method returns the run length capped at Integer.MAX_VALUE, while the
+   * {@link #nextRunLengthLong} method returns it uncapped.
+   *
+   * @param runLength The length of the run for all restarts. The runLength must be positive.
+   * @throws IllegalArgumentException if runLength &lt; 1
+   */
+  public ConstantRestartSchedule(long runLength) {
+    if (runLength < 1) throw new IllegalArgumentException("runLength must be positive");
+    r = runLength;
+  }
+
   /**
    * A convenience method for generating several ConstantRestartSchedule objects, such as when
    * needed for a parallel search (e.g., if each instance needs its own restart schedule).
@@ -69,12 +85,23 @@ public final class ConstantRestartSchedule implements RestartSchedule {
 
   @Override
   public int nextRunLength() {
+    return (int) Math.min(r, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public long nextRunLengthLong() {
     return r;
   }
 
   @Override
   public void reset() {}
 
+  @Override
+  public void writeCheckpoint(CheckpointWriter out) {}
+
+  @Override
+  public void readCheckpoint(CheckpointReader in) {}
+
   @Override
   public ConstantRestartSchedule split() {
     // should be safe for multiple threads to share.
@@ -22,6 +22,9 @@ package org.cicirello.search.restarts;
 
 import java.util.ArrayList;
 import java.util.List;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.Checkpointable;
 
 /**
  * The Luby restart schedule originated with constraint satisfaction search, and was originally used
@@ -47,7 +50,7 @@ import java.util.List;
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
-public final class LubyRestarts implements RestartSchedule {
+public final class LubyRestarts implements RestartSchedule, Checkpointable {
 
   private final int a;
   private int u;
@@ -74,7 +77,12 @@ public final class LubyRestarts implements RestartSchedule {
 
   @Override
   public int nextRunLength() {
-    int r = a * v;
+    return (int) Math.min(nextRunLengthLong(), Integer.MAX_VALUE);
+  }
+
+  @Override
+  public long nextRunLengthLong() {
+    long r = (long) a * v;
     if ((-u & u) == v) {
       u++;
       v = 1;
@@ -89,6 +97,18 @@ public final class LubyRestarts implements RestartSchedule {
     u = v = 1;
   }
 
+  @Override
+  public void writeCheckpoint(CheckpointWriter out) {
+    out.putInt(u);
+    out.putInt(v);
+  }
+
+  @Override
+  public void readCheckpoint(CheckpointReader in) {
+    u = in.getInt();
+    v = in.getInt();
+  }
+
   @Override
   public LubyRestarts split() {
     return new LubyRestarts(a);
@@ -20,9 +20,16 @@
 
 package org.cicirello.search.restarts;
 
+import java.util.function.Consumer;
 import org.cicirello.search.Metaheuristic;
 import org.cicirello.search.ProgressTracker;
 import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.Checkpointable;
+import org.cicirello.search.checkpoint.PeriodicCheckpointer;
+import org.cicirello.search.checkpoint.ResumableMetaheuristic;
+import org.cicirello.search.checkpoint.SolutionCodec;
 import org.cicirello.search.problems.Problem;
 import org.cicirello.util.Copyable;
 
@@ -33,17 +40,31 @@ import org.cicirello.util.Copyable;
  * length if all runs are to be of the same length. A multistart metaheuristic returns the best
  * result from among all of the restarts.
  *
+ * <p>A multistart search can be checkpointed periodically with a {@link PeriodicCheckpointer}, and
+ * resumed from a checkpoint, provided that the metaheuristic that it restarts implements {@link
+ * ResumableMetaheuristic} and the restart schedule implements {@link Checkpointable}, which all of
+ * the restart schedules of the library do. See {@link #setCheckpointer} and {@link #resume}.
+ *
  * @param <T> The type of object being optimized.
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
-public class Multistarter<T extends Copyable<T>> implements Metaheuristic<T> {
+public class Multistarter<T extends Copyable<T>> implements ResumableMetaheuristic<T> {
 
   private final Metaheuristic<T> search;
 
   // deliberately package-private
   final RestartSchedule r;
 
+  private PeriodicCheckpointer<T> checkpointer;
+  private final Consumer<CheckpointWriter> restartState;
+
+  // The position within the current set of restarts, written to checkpoints.
+  private boolean runReoptimizes;
+  private int runRestarts;
+  private int runIndex;
+  private SolutionCostPair<T> runBest;
+
   /**
    * Constructs a multistart metaheuristic that executes multiple runs of a specified metaheuristic,
    * whose run lengths follow a specified schedule.
@@ -54,6 +75,7 @@ public class Multistarter<T extends Copyable<T>> implements Metaheuristic<T> {
   public Multistarter(Metaheuristic<T> search, RestartSchedule r) {
     this.search = search;
     this.r = r;
+    restartState = this::writeRestartState;
   }
 
   /**
@@ -68,6 +90,18 @@ public class Multistarter<T extends Copyable<T>> implements Metaheuristic<T> {
     this(search, new ConstantRestartSchedule(runLength));
   }
 
+  /**
+   * Constructs a multistart metaheuristic that executes multiple runs of a specified metaheuristic,
+   * whose runs are all the same in length, where the run length may exceed the range of an int.
+   *
+   * @param search The metaheuristic to restart multiple times.
+   * @param runLength The length of every restarted run of the metaheuristic.
+   * @throws IllegalArgumentException if runLength &lt; 1
+   */
+  public Multistarter(Metaheuristic<T> search, long runLength) {
+    this(search, new ConstantRestartSchedule(runLength));
+  }
+
   @Override
   public final ProgressTracker<T> getProgressTracker() {
     return search.getProgressTracker();
@@ -106,7 +140,9 @@ public class Multistarter<T extends Copyable<T>> implements Metaheuristic<T> {
   /**
    * Executes a multistart search, calling the underlying metaheuristic the specified number of
    * times, keeping track of the best solution across the multiple runs of the search. Each restart
-   * begins at a new randomly generate initial state.
+   * begins at a new randomly generate initial state. The run lengths of the restarts are obtained
+   * from the {@link RestartSchedule#nextRunLengthLong} method of the restart schedule, and so may
+   * exceed the range of an int if the restart schedule and metaheuristic both support that.
    *
    * <p>If this method is called multiple times, the restart schedule is not reinitialized, and the
    * run lengths for the additional restarts will continue where the schedule left off.
@@ -119,18 +155,169 @@ public class Multistarter<T extends Copyable<T>> implements Metaheuristic<T> {
    */
   @Override
   public final SolutionCostPair<T> optimize(int numRestarts) {
+    return restarts(numRestarts, 0, null, false);
+  }
+
+  /**
+   * Sets a checkpointer for periodically checkpointing this multistart search. The checkpoints are
+   * taken by the metaheuristic that is restarted, and in addition to its state, include the number
+   * of restarts of the current call to optimize, the index of the current restart, the best result
+   * of the earlier restarts of that call, and the state of the restart schedule. A checkpointer is
+   * not shared with the objects created by {@link #split}.
+   *
+   * @param checkpointer The checkpointer, or null to disable checkpointing.
+   * @throws UnsupportedOperationException if checkpointer is non-null and either the metaheuristic
+   *     that is restarted does not support checkpoints or the restart schedule does not implement
+   *     {@link Checkpointable}, in which case this multistart search is left without a checkpointer
+   */
+  @Override
+  public void setCheckpointer(PeriodicCheckpointer<T> checkpointer) {
+    if (checkpointer != null) {
+      resumable();
+      checkpointable();
+    }
+    if (this.checkpointer != null) {
+      resumable().setCheckpointer(null);
+      this.checkpointer.removeEnclosingState(restartState);
+    }
+    this.checkpointer = checkpointer;
+    if (checkpointer != null) {
+      // The state of the restarts must precede the state of the restarted search.
+      checkpointer.addEnclosingState(restartState);
+      try {
+        resumable().setCheckpointer(checkpointer);
+      } catch (UnsupportedOperationException e) {
+        checkpointer.removeEnclosingState(restartState);
+        this.checkpointer = null;
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Resumes a multistart search from a checkpoint, first resuming the restart that was in progress
+   * when the checkpoint was taken, and then executing the remaining restarts of the call to
+   * optimize (or reoptimize) during which it was taken. The state of the restart schedule, and of
+   * the metaheuristic that is restarted, is restored from the checkpoint. This multistart search
+   * must be configured in the same way as the one that wrote the checkpoint.
+   *
+   * @param in The checkpoint.
+   * @param codec The codec for reading the solutions of the checkpoint.
+   * @return The best end of run solution (and its cost) of the restarts of the call to optimize (or
+   *     reoptimize) during which the checkpoint was taken, including those before the checkpoint.
+   *     Returns null if the run did not execute, such as if the ProgressTracker already contains
+   *     the theoretical best solution.
+   * @throws UnsupportedOperationException if either the metaheuristic that is restarted does not
+   *     implement {@link ResumableMetaheuristic} or the restart schedule does not implement {@link
+   *     Checkpointable}
+   * @throws IllegalArgumentException if the checkpoint is inconsistent with the configuration of
+   *     this multistart search
+   */
+  @Override
+  public final SolutionCostPair<T> resume(CheckpointReader in, SolutionCodec<T> codec) {
+    ResumableMetaheuristic<T> inner = resumable();
+    Checkpointable schedule = checkpointable();
     ProgressTracker<T> tracker = search.getProgressTracker();
+    if (tracker.isStopped() || tracker.didFindBest()) return null;
+    boolean reoptimizing = in.getBoolean();
+    int numRestarts = in.getInt();
+    int index = in.getInt();
     SolutionCostPair<T> bestRestart = null;
-    for (int i = 0; i < numRestarts && !tracker.isStopped() && !tracker.didFindBest(); i++) {
-      SolutionCostPair<T> thisRestart = search.optimize(r.nextRunLength());
-      if (bestRestart == null || (thisRestart != null && thisRestart.compareTo(bestRestart) < 0))
-        bestRestart = thisRestart;
+    if (in.getBoolean()) {
+      boolean intCost = in.getBoolean();
+      int cost = intCost ? in.getInt() : 0;
+      double costDouble = intCost ? 0 : in.getDouble();
+      boolean isKnownOptimal = in.getBoolean();
+      T solution = codec.read(in);
+      bestRestart =
+          intCost
+              ? new SolutionCostPair<T>(solution, cost, isKnownOptimal)
+              : new SolutionCostPair<T>(solution, costDouble, isKnownOptimal);
     }
-    return bestRestart;
+    schedule.readCheckpoint(in);
+    startRestart(reoptimizing, numRestarts, index, bestRestart);
+    SolutionCostPair<T> thisRestart = inner.resume(in, codec);
+    if (bestRestart == null || (thisRestart != null && thisRestart.compareTo(bestRestart) < 0))
+      bestRestart = thisRestart;
+    return restarts(numRestarts, index + 1, bestRestart, reoptimizing);
   }
 
   @Override
   public Multistarter<T> split() {
     return new Multistarter<T>(search.split(), r.split());
   }
+
+  /*
+   * Executes restarts first through numRestarts - 1 of a call to optimize or reoptimize, where
+   * bestRestart is the best result of the earlier restarts of that call, if any.
+   */
+  final SolutionCostPair<T> restarts(
+      int numRestarts, int first, SolutionCostPair<T> bestRestart, boolean reoptimizing) {
+    ProgressTracker<T> tracker = search.getProgressTracker();
+    for (int i = first; i < numRestarts && !tracker.isStopped() && !tracker.didFindBest(); i++) {
+      long runLength = r.nextRunLengthLong();
+      startRestart(reoptimizing, numRestarts, i, bestRestart);
+      SolutionCostPair<T> thisRestart = restart(runLength, reoptimizing);
+      if (bestRestart == null || (thisRestart != null && thisRestart.compareTo(bestRestart) < 0))
+        bestRestart = thisRestart;
+    }
+    runBest = null;
+    return bestRestart;
+  }
+
+  /*
+   * Executes one restart of the metaheuristic. Overridden by ReoptimizableMultistarter
+   * to reoptimize.
+   */
+  SolutionCostPair<T> restart(long runLength, boolean reoptimizing) {
+    return search.optimize(runLength);
+  }
+
+  /*
+   * Records the position of the restart that is about to execute for checkpoints.
+   */
+  private void startRestart(
+      boolean reoptimizing, int numRestarts, int index, SolutionCostPair<T> bestRestart) {
+    runReoptimizes = reoptimizing;
+    runRestarts = numRestarts;
+    runIndex = index;
+    runBest = bestRestart;
+  }
+
+  /*
+   * Writes the position within the current set of restarts, and the state of the restart
+   * schedule, at the start of a checkpoint taken by the restarted search.
+   */
+  private void writeRestartState(CheckpointWriter out) {
+    out.putBoolean(runReoptimizes);
+    out.putInt(runRestarts);
+    out.putInt(runIndex);
+    out.putBoolean(runBest != null);
+    if (runBest != null) {
+      out.putBoolean(runBest.containsIntCost());
+      if (runBest.containsIntCost()) {
+        out.putInt(runBest.getCost());
+      } else {
+        out.putDouble(runBest.getCostDouble());
+      }
+      out.putBoolean(runBest.containsKnownOptimal());
+      checkpointer.getCodec().write(runBest.getSolution(), out);
+    }
+    checkpointable().writeCheckpoint(out);
+  }
+
+  private ResumableMetaheuristic<T> resumable() {
+    if (search instanceof ResumableMetaheuristic<T> resumable) {
+      return resumable;
+    }
+    throw new UnsupportedOperationException(
+        "the restarted metaheuristic does not support checkpoints");
+  }
+
+  private Checkpointable checkpointable() {
+    if (r instanceof Checkpointable c) {
+      return c;
+    }
+    throw new UnsupportedOperationException("the restart schedule does not support checkpoints");
+  }
 }
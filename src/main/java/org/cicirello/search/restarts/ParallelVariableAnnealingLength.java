@@ -22,6 +22,9 @@ package org.cicirello.search.restarts;
 
 import java.util.ArrayList;
 import java.util.List;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.Checkpointable;
 
 /**
  * The Parallel Variable Annealing Length (P-VAL) restart schedule originated, as you would expect
@@ -78,9 +81,11 @@ import java.util.List;
  * <p>This class supports both the original schedule as defined above, as well as including a
  * parameter to specify the initial run length r<sub>0,0</sub> as something other than 1000.
  *
- * <p>Although not originally stated in the paper that proposed this restart schedule, this
- * implementation converges to a constant restart length of Integer.MAX_VALUE if the next run length
- * of the schedule would otherwise exceed the maximum positive 32-bit integer value.
+ * <p>Although not originally stated in the paper that proposed this restart schedule, the {@link
+ * #nextRunLength} method of this implementation converges to a constant restart length of
+ * Integer.MAX_VALUE if the next run length of the schedule would otherwise exceed the maximum
+ * positive 32-bit integer value. The {@link #nextRunLengthLong} method, for metaheuristics that
+ * support longer runs, instead continues growing up to Long.MAX_VALUE.
  *
  * <p>Since this restart schedule assumes multiple threads, and since each thread requires its own
  * RestartSchedule object that maintains state independent of the others, we do not provide a public
@@ -100,12 +105,12 @@ import java.util.List;
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
-public final class ParallelVariableAnnealingLength implements RestartSchedule {
+public final class ParallelVariableAnnealingLength implements RestartSchedule, Checkpointable {
 
   private final int shift;
-  private final int shiftLimit;
+  private final long shiftLimit;
   private final int r0;
-  private int r;
+  private long r;
 
   /*
    * Constructor is private.  The factory method must be used.
@@ -116,7 +121,7 @@ public final class ParallelVariableAnnealingLength implements RestartSchedule {
   private ParallelVariableAnnealingLength(int shift, int r0) {
     r = this.r0 = r0;
     this.shift = shift;
-    shiftLimit = 0x40000000 >> (shift - 1);
+    shiftLimit = 0x4000000000000000L >> (shift - 1);
   }
 
   /*
@@ -133,9 +138,14 @@ public final class ParallelVariableAnnealingLength implements RestartSchedule {
 
   @Override
   public int nextRunLength() {
-    int next = r;
+    return (int) Math.min(nextRunLengthLong(), Integer.MAX_VALUE);
+  }
+
+  @Override
+  public long nextRunLengthLong() {
+    long next = r;
     if (r < shiftLimit) r = r << shift;
-    else r = 0x7fffffff;
+    else r = Long.MAX_VALUE;
     return next;
   }
 
@@ -144,6 +154,16 @@ public final class ParallelVariableAnnealingLength implements RestartSchedule {
     r = r0;
   }
 
+  @Override
+  public void writeCheckpoint(CheckpointWriter out) {
+    out.putLong(r);
+  }
+
+  @Override
+  public void readCheckpoint(CheckpointReader in) {
+    r = in.getLong();
+  }
+
   @Override
   public ParallelVariableAnnealingLength split() {
     return new ParallelVariableAnnealingLength(this);
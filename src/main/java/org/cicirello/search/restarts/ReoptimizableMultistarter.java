@@ -67,6 +67,19 @@ public final class ReoptimizableMultistarter<T extends Copyable<T>> extends Mult
     this.search = search;
   }
 
+  /**
+   * Constructs a multistart metaheuristic that executes multiple runs of a specified metaheuristic,
+   * whose runs are all the same in length, where the run length may exceed the range of an int.
+   *
+   * @param search The metaheuristic to restart multiple times.
+   * @param runLength The length of every restarted run of the metaheuristic.
+   * @throws IllegalArgumentException if runLength &lt; 1
+   */
+  public ReoptimizableMultistarter(ReoptimizableMetaheuristic<T> search, long runLength) {
+    super(search, new ConstantRestartSchedule(runLength));
+    this.search = search;
+  }
+
   /**
    * Executes a multistart search, calling the underlying metaheuristic the specified number of
    * times, keeping track of the best solution across the multiple runs of the search. Each restart
@@ -83,18 +96,16 @@ public final class ReoptimizableMultistarter<T extends Copyable<T>> extends Mult
    */
   @Override
   public SolutionCostPair<T> reoptimize(int numRestarts) {
-    ProgressTracker<T> tracker = search.getProgressTracker();
-    SolutionCostPair<T> bestRestart = null;
-    for (int i = 0; i < numRestarts && !tracker.isStopped() && !tracker.didFindBest(); i++) {
-      SolutionCostPair<T> thisRestart = search.reoptimize(r.nextRunLength());
-      if (bestRestart == null || (thisRestart != null && thisRestart.compareTo(bestRestart) < 0))
-        bestRestart = thisRestart;
-    }
-    return bestRestart;
+    return restarts(numRestarts, 0, null, true);
   }
 
   @Override
   public ReoptimizableMultistarter<T> split() {
     return new ReoptimizableMultistarter<T>(search.split(), r.split());
   }
+
+  @Override
+  SolutionCostPair<T> restart(long runLength, boolean reoptimizing) {
+    return reoptimizing ? search.reoptimize(runLength) : search.optimize(runLength);
+  }
 }
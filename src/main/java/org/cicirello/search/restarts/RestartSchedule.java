@@ -40,6 +40,19 @@ public interface RestartSchedule extends Splittable<RestartSchedule> {
    */
   int nextRunLength();
 
+  /**
+   * Gets the next run length in the restart schedule's sequence of run lengths, where run lengths
+   * may exceed the range of an int. Calls to this method and to {@link #nextRunLength} advance the
+   * same sequence. The default implementation simply returns {@link #nextRunLength}. Restart
+   * schedules whose run lengths may grow beyond Integer.MAX_VALUE should override this method, in
+   * which case {@link #nextRunLength} should return the run length capped at Integer.MAX_VALUE.
+   *
+   * @return the length for the next run of a multistart metaheuristic
+   */
+  default long nextRunLengthLong() {
+    return nextRunLength();
+  }
+
   /**
    * Resets the restart schedule to its initial conditions, such that the next call to {@link
    * #nextRunLength} will return the initial run length of the schedule.
@@ -22,6 +22,9 @@ package org.cicirello.search.restarts;
 
 import java.util.ArrayList;
 import java.util.List;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.Checkpointable;
 
 /**
  * The Variable Annealing Length (VAL) restart schedule originated, as you would expect from the
@@ -53,17 +56,19 @@ import java.util.List;
  * case, the subsequent run lengths are still twice the previous. For example, if you start
  * r<sub>0</sub> = 50, then the run lengths will follow the sequence: 50, 100, 200, 400, ....
  *
- * <p>Although not originally stated in the paper that proposed this restart schedule, this
- * implementation converges to a constant restart length of Integer.MAX_VALUE if the next run length
- * of the schedule would otherwise exceed the maximum positive 32-bit integer value.
+ * <p>Although not originally stated in the paper that proposed this restart schedule, the {@link
+ * #nextRunLength} method of this implementation converges to a constant restart length of
+ * Integer.MAX_VALUE if the next run length of the schedule would otherwise exceed the maximum
+ * positive 32-bit integer value. The {@link #nextRunLengthLong} method, for metaheuristics that
+ * support longer runs, instead continues doubling up to Long.MAX_VALUE.
  *
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
-public final class VariableAnnealingLength implements RestartSchedule {
+public final class VariableAnnealingLength implements RestartSchedule, Checkpointable {
 
   private final int r0;
-  private int r;
+  private long r;
 
   /**
    * The default constructor constructs the original Variable Annealing Length (VAL) restart
@@ -92,9 +97,14 @@ public final class VariableAnnealingLength implements RestartSchedule {
 
   @Override
   public int nextRunLength() {
-    int next = r;
-    if (r < 0x40000000) r = r << 1;
-    else r = 0x7fffffff;
+    return (int) Math.min(nextRunLengthLong(), Integer.MAX_VALUE);
+  }
+
+  @Override
+  public long nextRunLengthLong() {
+    long next = r;
+    if (r < 0x4000000000000000L) r = r << 1;
+    else r = Long.MAX_VALUE;
     return next;
   }
 
@@ -103,6 +113,16 @@ public final class VariableAnnealingLength implements RestartSchedule {
     r = r0;
   }
 
+  @Override
+  public void writeCheckpoint(CheckpointWriter out) {
+    out.putLong(r);
+  }
+
+  @Override
+  public void readCheckpoint(CheckpointReader in) {
+    r = in.getLong();
+  }
+
   @Override
   public VariableAnnealingLength split() {
     return new VariableAnnealingLength(r0);
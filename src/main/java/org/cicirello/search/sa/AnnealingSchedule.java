@@ -45,6 +45,20 @@ public interface AnnealingSchedule extends Splittable<AnnealingSchedule> {
    */
   void init(int maxEvals);
 
+  /**
+   * Perform any initialization necessary for the annealing schedule at to the start of a run of
+   * simulated annealing, where the run length may exceed the range of an int. The {@link
+   * SimulatedAnnealing} class calls this method rather than {@link #init(int)}. The default
+   * implementation caps maxEvals at Integer.MAX_VALUE and calls {@link #init(int)}, which is
+   * appropriate for annealing schedules that don't depend upon run length. Annealing schedules that
+   * depend upon run length should override this method.
+   *
+   * @param maxEvals The maximum length of the run of simulated annealing about to start.
+   */
+  default void init(long maxEvals) {
+    init((int) Math.min(maxEvals, Integer.MAX_VALUE));
+  }
+
   /**
    * Determine whether or not to accept a neighboring solution based on its cost and the current
    * cost, both passed as parameters. Lower cost indicates better solution. This method must also
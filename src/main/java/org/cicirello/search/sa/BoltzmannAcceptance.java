@@ -0,0 +1,98 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.sa;
+
+import org.cicirello.math.rand.EnhancedSplittableGenerator;
+import org.cicirello.search.internal.RandomnessFactory;
+
+/**
+ * Internal package access class that decides whether to accept a neighbor with the Boltzmann
+ * distribution, without computing an exponential per decision. A neighbor whose cost is worse than
+ * the current cost by &Delta; is accepted with probability e<sup>-&Delta;/t</sup>. If E is an
+ * exponentially distributed random number with mean 1, then P(E &gt; &Delta;/t) =
+ * e<sup>-&Delta;/t</sup>, so accepting the neighbor if and only if &Delta; &lt; t * E has exactly
+ * the same distribution as the classic comparison of a uniform random number to
+ * e<sup>-&Delta;/t</sup>. Each decision is therefore a multiplication and a comparison.
+ *
+ * <p>The exponentially distributed random numbers are generated in batches into a reusable buffer,
+ * so that their generation occurs in a tight loop rather than interleaved with the evaluations of
+ * the search. As with the classic comparison, a random number is only consumed for neighbors that
+ * are worse than the current solution.
+ *
+ * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
+ *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
+ */
+final class BoltzmannAcceptance {
+
+  private static final int BATCH_SIZE = 64;
+
+  private final EnhancedSplittableGenerator generator;
+  private final double[] batch;
+  private int next;
+
+  /** Constructs the acceptance kernel. */
+  BoltzmannAcceptance() {
+    this(RandomnessFactory.createEnhancedSplittableGenerator());
+  }
+
+  /* package private for testing */
+  BoltzmannAcceptance(EnhancedSplittableGenerator generator) {
+    this.generator = generator;
+    batch = new double[BATCH_SIZE];
+    next = BATCH_SIZE;
+  }
+
+  /**
+   * Creates an instance for use by a different thread, with its own random number generator and
+   * buffer.
+   *
+   * @return an instance for use by a different thread
+   */
+  BoltzmannAcceptance split() {
+    return new BoltzmannAcceptance(generator.split());
+  }
+
+  /**
+   * Decides whether to accept a neighbor.
+   *
+   * @param neighborCost The cost of the neighbor.
+   * @param currentCost The cost of the current solution.
+   * @param t The temperature.
+   * @return true if the neighbor should be accepted
+   */
+  boolean accept(double neighborCost, double currentCost, double t) {
+    return neighborCost <= currentCost || neighborCost - currentCost < t * nextExponential();
+  }
+
+  /*
+   * package private for testing. Gets the next exponentially distributed
+   * random number with mean 1.
+   */
+  double nextExponential() {
+    if (next == BATCH_SIZE) {
+      for (int i = 0; i < BATCH_SIZE; i++) {
+        batch[i] = generator.nextExponential();
+      }
+      next = 0;
+    }
+    return batch[next++];
+  }
+}
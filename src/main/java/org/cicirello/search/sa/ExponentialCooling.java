@@ -20,8 +20,9 @@
 
 package org.cicirello.search.sa;
 
-import org.cicirello.math.rand.EnhancedSplittableGenerator;
-import org.cicirello.search.internal.RandomnessFactory;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.Checkpointable;
 
 /**
  * This class implements the classic and most commonly encountered cooling schedule for simulated
@@ -46,14 +47,14 @@ import org.cicirello.search.internal.RandomnessFactory;
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
-public final class ExponentialCooling implements AnnealingSchedule {
+public final class ExponentialCooling implements AnnealingSchedule, Checkpointable {
 
   private double t;
   private final double t0;
   private final double alpha;
   private final int steps;
   private int stepCounter;
-  private final EnhancedSplittableGenerator generator;
+  private final BoltzmannAcceptance boltzmann;
 
   /**
    * Constructs an exponential cooling schedule for simulated annealing.
@@ -73,7 +74,7 @@ public final class ExponentialCooling implements AnnealingSchedule {
     t = this.t0 = t0;
     this.alpha = alpha;
     this.steps = steps <= 0 ? 1 : steps;
-    generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    boltzmann = new BoltzmannAcceptance();
   }
 
   /**
@@ -97,7 +98,7 @@ public final class ExponentialCooling implements AnnealingSchedule {
     t = t0 = other.t0;
     alpha = other.alpha;
     steps = other.steps;
-    generator = other.generator.split();
+    boltzmann = other.boltzmann.split();
   }
 
   @Override
@@ -108,9 +109,7 @@ public final class ExponentialCooling implements AnnealingSchedule {
 
   @Override
   public boolean accept(double neighborCost, double currentCost) {
-    boolean doAccept =
-        neighborCost <= currentCost
-            || generator.nextDouble() < Math.exp((currentCost - neighborCost) / t);
+    boolean doAccept = boltzmann.accept(neighborCost, currentCost, t);
     stepCounter++;
     if (stepCounter == steps && t > 0.001) {
       stepCounter = 0;
@@ -119,6 +118,18 @@ public final class ExponentialCooling implements AnnealingSchedule {
     return doAccept;
   }
 
+  @Override
+  public void writeCheckpoint(CheckpointWriter out) {
+    out.putDouble(t);
+    out.putInt(stepCounter);
+  }
+
+  @Override
+  public void readCheckpoint(CheckpointReader in) {
+    t = in.getDouble();
+    stepCounter = in.getInt();
+  }
+
   @Override
   public ExponentialCooling split() {
     return new ExponentialCooling(this);
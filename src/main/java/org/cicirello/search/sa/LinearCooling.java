@@ -20,8 +20,9 @@
 
 package org.cicirello.search.sa;
 
-import org.cicirello.math.rand.EnhancedSplittableGenerator;
-import org.cicirello.search.internal.RandomnessFactory;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.Checkpointable;
 
 /**
  * This class implements the linear cooling schedule for simulated annealing. In this cooling
@@ -45,14 +46,14 @@ import org.cicirello.search.internal.RandomnessFactory;
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
-public final class LinearCooling implements AnnealingSchedule {
+public final class LinearCooling implements AnnealingSchedule, Checkpointable {
 
   private double t;
   private final double t0;
   private final double deltaT;
   private final int steps;
   private int stepCounter;
-  private final EnhancedSplittableGenerator generator;
+  private final BoltzmannAcceptance boltzmann;
 
   /**
    * Constructs a linear cooling schedule for simulated annealing.
@@ -71,7 +72,7 @@ public final class LinearCooling implements AnnealingSchedule {
     t = this.t0 = t0;
     this.deltaT = deltaT;
     this.steps = steps <= 0 ? 1 : steps;
-    generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    boltzmann = new BoltzmannAcceptance();
   }
 
   /**
@@ -94,7 +95,7 @@ public final class LinearCooling implements AnnealingSchedule {
     t = t0 = other.t0;
     deltaT = other.deltaT;
     steps = other.steps;
-    generator = other.generator.split();
+    boltzmann = other.boltzmann.split();
   }
 
   @Override
@@ -105,9 +106,7 @@ public final class LinearCooling implements AnnealingSchedule {
 
   @Override
   public boolean accept(double neighborCost, double currentCost) {
-    boolean doAccept =
-        neighborCost <= currentCost
-            || generator.nextDouble() < Math.exp((currentCost - neighborCost) / t);
+    boolean doAccept = boltzmann.accept(neighborCost, currentCost, t);
     stepCounter++;
     if (stepCounter == steps && t > 0.001) {
       stepCounter = 0;
@@ -117,6 +116,18 @@ public final class LinearCooling implements AnnealingSchedule {
     return doAccept;
   }
 
+  @Override
+  public void writeCheckpoint(CheckpointWriter out) {
+    out.putDouble(t);
+    out.putInt(stepCounter);
+  }
+
+  @Override
+  public void readCheckpoint(CheckpointReader in) {
+    t = in.getDouble();
+    stepCounter = in.getInt();
+  }
+
   @Override
   public LinearCooling split() {
     return new LinearCooling(this);
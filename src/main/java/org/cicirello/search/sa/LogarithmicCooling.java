@@ -20,8 +20,9 @@
 
 package org.cicirello.search.sa;
 
-import org.cicirello.math.rand.EnhancedSplittableGenerator;
-import org.cicirello.search.internal.RandomnessFactory;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.Checkpointable;
 
 /**
  * This class implements logarithmic cooling, a classic annealing schedule. This annealing schedule
@@ -47,12 +48,12 @@ import org.cicirello.search.internal.RandomnessFactory;
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
-public final class LogarithmicCooling implements AnnealingSchedule {
+public final class LogarithmicCooling implements AnnealingSchedule, Checkpointable {
 
   private double t;
   private final double c;
-  private int stepCounter;
-  private final EnhancedSplittableGenerator generator;
+  private long stepCounter;
+  private final BoltzmannAcceptance boltzmann;
 
   /**
    * Constructs a logarithmic cooling schedule with a specified initial temperature.
@@ -63,7 +64,7 @@ public final class LogarithmicCooling implements AnnealingSchedule {
   public LogarithmicCooling(double t0) {
     if (t0 <= 0) throw new IllegalArgumentException("initial temperature must be positive");
     t = this.c = t0;
-    generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    boltzmann = new BoltzmannAcceptance();
   }
 
   /*
@@ -71,7 +72,7 @@ public final class LogarithmicCooling implements AnnealingSchedule {
    */
   private LogarithmicCooling(LogarithmicCooling other) {
     t = c = other.c;
-    generator = other.generator.split();
+    boltzmann = other.boltzmann.split();
   }
 
   /**
@@ -88,14 +89,24 @@ public final class LogarithmicCooling implements AnnealingSchedule {
 
   @Override
   public boolean accept(double neighborCost, double currentCost) {
-    boolean doAccept =
-        neighborCost <= currentCost
-            || generator.nextDouble() < Math.exp((currentCost - neighborCost) / t);
+    boolean doAccept = boltzmann.accept(neighborCost, currentCost, t);
     stepCounter++;
     t = c / StrictMath.log(StrictMath.E + stepCounter);
     return doAccept;
   }
 
+  @Override
+  public void writeCheckpoint(CheckpointWriter out) {
+    out.putDouble(t);
+    out.putLong(stepCounter);
+  }
+
+  @Override
+  public void readCheckpoint(CheckpointReader in) {
+    t = in.getDouble();
+    stepCounter = in.getLong();
+  }
+
   @Override
   public LogarithmicCooling split() {
     return new LogarithmicCooling(this);
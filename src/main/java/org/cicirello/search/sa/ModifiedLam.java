@@ -20,8 +20,9 @@
 
 package org.cicirello.search.sa;
 
-import org.cicirello.math.rand.EnhancedSplittableGenerator;
-import org.cicirello.search.internal.RandomnessFactory;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.Checkpointable;
 
 /**
  * This class implements an optimized variant of the Modified Lam annealing schedule. The Modified
@@ -68,27 +69,45 @@ import org.cicirello.search.internal.RandomnessFactory;
  * schedule, see the {@link ModifiedLamOriginal} class for that version.
  *
  * <p>The {@link #accept} methods of this class use the classic, and most common, Boltzmann
- * distribution for determining whether to accept a neighbor.
+ * distribution for determining whether to accept a neighbor. Rather than comparing a uniform random
+ * number to an exponential of the cost difference, a neighbor that is worse by &Delta; is accepted
+ * if &Delta; &lt; t * E, where E is an exponentially distributed random number, which has the same
+ * distribution but avoids computing an exponential for every rejected or accepted worse neighbor.
+ *
+ * <p>Every run of the Modified Lam normally begins at a temperature of 0.5, regardless of the scale
+ * of the cost function, and the early portion of each run adjusts the temperature until the rate of
+ * neighbor acceptance reaches the target rate. An instance constructed in warm start mode, with
+ * {@link #ModifiedLam(boolean)}, instead remembers the temperature and acceptance rate at the point
+ * where the acceptance rate first reached the target rate during its first run, and begins all
+ * subsequent runs (such as the restarts of a {@link org.cicirello.search.restarts.Multistarter
+ * Multistarter}) from there. These are included in the state saved by {@link #writeCheckpoint}, so
+ * a warm start instance can also be seeded from a checkpoint of a previous run with {@link
+ * #readCheckpoint}.
  *
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
-public final class ModifiedLam implements AnnealingSchedule {
+public final class ModifiedLam implements AnnealingSchedule, Checkpointable {
 
   private double t;
   private double acceptRate;
   private double targetRate;
   private double phase1;
   private double phase2;
-  private int iterationCount;
+  private long iterationCount;
 
   private double termPhase1;
   private double multPhase1;
   private double multPhase3;
 
-  private int lastMaxEvals;
+  private long lastMaxEvals;
+
+  private final boolean warmStart;
+  private boolean tuned;
+  private double tunedT;
+  private double tunedAcceptRate;
 
-  private final EnhancedSplittableGenerator generator;
+  private final BoltzmannAcceptance boltzmann;
 
   /**
    * Default constructor. The Modified Lam annealing schedule, unlike other annealing schedules, has
@@ -96,19 +115,44 @@ public final class ModifiedLam implements AnnealingSchedule {
    * method), so no parameters need be passed to the constructor.
    */
   public ModifiedLam() {
+    this(false);
+  }
+
+  /**
+   * Constructs a Modified Lam annealing schedule, optionally in warm start mode. In warm start
+   * mode, all runs after the first (i.e., subsequent calls to {@link #init}) begin at the
+   * temperature and acceptance rate at which the acceptance rate of the first run first reached the
+   * target rate, rather than at a temperature of 0.5.
+   *
+   * @param warmStart true for warm start mode, and false for the default behavior of beginning
+   *     every run at a temperature of 0.5.
+   */
+  public ModifiedLam(boolean warmStart) {
     lastMaxEvals = -1;
-    generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    this.warmStart = warmStart;
+    boltzmann = new BoltzmannAcceptance();
   }
 
   private ModifiedLam(ModifiedLam other) {
     lastMaxEvals = -1;
-    generator = other.generator.split();
+    warmStart = other.warmStart;
+    boltzmann = other.boltzmann.split();
   }
 
   @Override
   public void init(int maxEvals) {
-    t = 0.5;
-    acceptRate = 0.5;
+    init((long) maxEvals);
+  }
+
+  @Override
+  public void init(long maxEvals) {
+    if (warmStart && tuned) {
+      t = tunedT;
+      acceptRate = tunedAcceptRate;
+    } else {
+      t = 0.5;
+      acceptRate = 0.5;
+    }
     targetRate = 1.0;
     iterationCount = 0;
     termPhase1 = 0.56;
@@ -126,13 +170,45 @@ public final class ModifiedLam implements AnnealingSchedule {
 
   @Override
   public boolean accept(double neighborCost, double currentCost) {
-    boolean doAccept =
-        neighborCost <= currentCost
-            || generator.nextDouble() < Math.exp((currentCost - neighborCost) / t);
+    boolean doAccept = boltzmann.accept(neighborCost, currentCost, t);
     updateSchedule(doAccept);
     return doAccept;
   }
 
+  @Override
+  public void writeCheckpoint(CheckpointWriter out) {
+    out.putDouble(t);
+    out.putDouble(acceptRate);
+    out.putDouble(targetRate);
+    out.putDouble(phase1);
+    out.putDouble(phase2);
+    out.putLong(iterationCount);
+    out.putDouble(termPhase1);
+    out.putDouble(multPhase1);
+    out.putDouble(multPhase3);
+    out.putLong(lastMaxEvals);
+    out.putBoolean(tuned);
+    out.putDouble(tunedT);
+    out.putDouble(tunedAcceptRate);
+  }
+
+  @Override
+  public void readCheckpoint(CheckpointReader in) {
+    t = in.getDouble();
+    acceptRate = in.getDouble();
+    targetRate = in.getDouble();
+    phase1 = in.getDouble();
+    phase2 = in.getDouble();
+    iterationCount = in.getLong();
+    termPhase1 = in.getDouble();
+    multPhase1 = in.getDouble();
+    multPhase3 = in.getDouble();
+    lastMaxEvals = in.getLong();
+    tuned = in.getBoolean();
+    tunedT = in.getDouble();
+    tunedAcceptRate = in.getDouble();
+  }
+
   @Override
   public ModifiedLam split() {
     return new ModifiedLam(this);
@@ -167,8 +243,18 @@ public final class ModifiedLam implements AnnealingSchedule {
       targetRate = 0.44;
     }
 
-    if (acceptRate > targetRate) t *= 0.999;
-    else t *= 1.001001001001001; // 1.001001001001001 == 1.0 / 0.999
+    if (acceptRate > targetRate) {
+      if (!tuned) {
+        // The first time the acceptance rate reaches the target rate, the
+        // temperature has adjusted to the scale of the cost function.
+        tuned = true;
+        tunedT = t;
+        tunedAcceptRate = acceptRate;
+      }
+      t *= 0.999;
+    } else {
+      t *= 1.001001001001001; // 1.001001001001001 == 1.0 / 0.999
+    }
   }
 
   /*
@@ -21,6 +21,9 @@
 package org.cicirello.search.sa;
 
 import org.cicirello.math.rand.EnhancedSplittableGenerator;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.Checkpointable;
 import org.cicirello.search.internal.RandomnessFactory;
 
 /**
@@ -54,16 +57,16 @@ import org.cicirello.search.internal.RandomnessFactory;
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
-public final class ModifiedLamOriginal implements AnnealingSchedule {
+public final class ModifiedLamOriginal implements AnnealingSchedule, Checkpointable {
 
   private double t;
   private double acceptRate;
   private double targetRate;
   private double phase1;
   private double phase2;
-  private int iterationCount;
+  private long iterationCount;
 
-  private int lastMaxEvals;
+  private long lastMaxEvals;
 
   private final EnhancedSplittableGenerator generator;
 
@@ -84,6 +87,11 @@ public final class ModifiedLamOriginal implements AnnealingSchedule {
 
   @Override
   public void init(int maxEvals) {
+    init((long) maxEvals);
+  }
+
+  @Override
+  public void init(long maxEvals) {
     t = 0.5;
     acceptRate = 0.5;
     targetRate = 1.0;
@@ -108,6 +116,28 @@ public final class ModifiedLamOriginal implements AnnealingSchedule {
     return doAccept;
   }
 
+  @Override
+  public void writeCheckpoint(CheckpointWriter out) {
+    out.putDouble(t);
+    out.putDouble(acceptRate);
+    out.putDouble(targetRate);
+    out.putDouble(phase1);
+    out.putDouble(phase2);
+    out.putLong(iterationCount);
+    out.putLong(lastMaxEvals);
+  }
+
+  @Override
+  public void readCheckpoint(CheckpointReader in) {
+    t = in.getDouble();
+    acceptRate = in.getDouble();
+    targetRate = in.getDouble();
+    phase1 = in.getDouble();
+    phase2 = in.getDouble();
+    iterationCount = in.getLong();
+    lastMaxEvals = in.getLong();
+  }
+
   @Override
   public ModifiedLamOriginal split() {
     return new ModifiedLamOriginal(this);
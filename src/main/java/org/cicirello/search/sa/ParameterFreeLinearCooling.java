@@ -20,8 +20,9 @@
 
 package org.cicirello.search.sa;
 
-import org.cicirello.math.rand.EnhancedSplittableGenerator;
-import org.cicirello.search.internal.RandomnessFactory;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.Checkpointable;
 
 /**
  * This class implements a parameter-free version of the linear cooling schedule for simulated
@@ -73,20 +74,20 @@ import org.cicirello.search.internal.RandomnessFactory;
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
-public final class ParameterFreeLinearCooling implements AnnealingSchedule {
+public final class ParameterFreeLinearCooling implements AnnealingSchedule, Checkpointable {
 
   private double t;
   private double deltaT;
-  private int steps;
-  private int stepCounter;
+  private long steps;
+  private long stepCounter;
 
   private static final int ESTIMATION_SAMPLE_SIZE = 10;
   private static final double LOG_INITIAL_ACCEPTANCE_PROBABILITY = Math.log(0.95);
   private double costSum;
-  private int maxEvals;
+  private long maxEvals;
   private int numEstSamples;
 
-  private final EnhancedSplittableGenerator generator;
+  private final BoltzmannAcceptance boltzmann;
 
   /**
    * Constructs a linear cooling schedule that uses first few samples to estimate cost difference
@@ -94,15 +95,20 @@ public final class ParameterFreeLinearCooling implements AnnealingSchedule {
    * temperature delta, and step size.
    */
   public ParameterFreeLinearCooling() {
-    generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    boltzmann = new BoltzmannAcceptance();
   }
 
   private ParameterFreeLinearCooling(ParameterFreeLinearCooling other) {
-    generator = other.generator.split();
+    boltzmann = other.boltzmann.split();
   }
 
   @Override
   public void init(int maxEvals) {
+    init((long) maxEvals);
+  }
+
+  @Override
+  public void init(long maxEvals) {
     this.maxEvals = maxEvals;
     costSum = 0.0;
     stepCounter = 0;
@@ -118,9 +124,7 @@ public final class ParameterFreeLinearCooling implements AnnealingSchedule {
       estimationStep(neighborCost, currentCost);
       return true;
     } else {
-      boolean doAccept =
-          neighborCost <= currentCost
-              || generator.nextDouble() < Math.exp((currentCost - neighborCost) / t);
+      boolean doAccept = boltzmann.accept(neighborCost, currentCost, t);
       stepCounter++;
       if (stepCounter == steps && t > 0.001) {
         stepCounter = 0;
@@ -131,6 +135,28 @@ public final class ParameterFreeLinearCooling implements AnnealingSchedule {
     }
   }
 
+  @Override
+  public void writeCheckpoint(CheckpointWriter out) {
+    out.putDouble(t);
+    out.putDouble(deltaT);
+    out.putLong(steps);
+    out.putLong(stepCounter);
+    out.putDouble(costSum);
+    out.putLong(maxEvals);
+    out.putInt(numEstSamples);
+  }
+
+  @Override
+  public void readCheckpoint(CheckpointReader in) {
+    t = in.getDouble();
+    deltaT = in.getDouble();
+    steps = in.getLong();
+    stepCounter = in.getLong();
+    costSum = in.getDouble();
+    maxEvals = in.getLong();
+    numEstSamples = in.getInt();
+  }
+
   @Override
   public ParameterFreeLinearCooling split() {
     return new ParameterFreeLinearCooling(this);
@@ -149,9 +175,9 @@ public final class ParameterFreeLinearCooling implements AnnealingSchedule {
         // sanity check, highly unlikely to occur, but make sure t not too low
         if (t < 0.002) t = 0.002;
         int i = 0;
-        int j = 0;
+        long j = 0;
         double drop = t - 0.001;
-        int remaining = maxEvals - stepCounter - 1;
+        long remaining = maxEvals - stepCounter - 1;
         // Sets deltaT and steps:
         // Sets deltaT such that temperature cools to 0.001 by end of run.
         // At t = 0.001, the acceptance probability should be sufficiently close
@@ -159,12 +185,12 @@ public final class ParameterFreeLinearCooling implements AnnealingSchedule {
         // Sets steps relative to deltaT such that deltaT >= 1e-6.
         do {
           // This loop should rarely execute more than once.
-          int k = (remaining & j) == 0 ? remaining >> i : (remaining >> i) + 1;
+          long k = (remaining & j) == 0 ? remaining >> i : (remaining >> i) + 1;
           deltaT = drop / k;
           i++;
           j = (j << 1) | 1;
         } while (deltaT < 1e-6);
-        steps = 1 << (i - 1);
+        steps = 1L << (i - 1);
         stepCounter = 0;
       }
     }
@@ -187,7 +213,7 @@ public final class ParameterFreeLinearCooling implements AnnealingSchedule {
   /*
    * package-private for unit testing
    */
-  int getSteps() {
+  long getSteps() {
     return steps;
   }
 }
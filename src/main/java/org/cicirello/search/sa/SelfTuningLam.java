@@ -20,8 +20,9 @@
 
 package org.cicirello.search.sa;
 
-import org.cicirello.math.rand.EnhancedSplittableGenerator;
-import org.cicirello.search.internal.RandomnessFactory;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.Checkpointable;
 
 /**
  * This class implements the Self-Tuning Lam annealing schedule, which is an improved variation of
@@ -80,10 +81,19 @@ import org.cicirello.search.internal.RandomnessFactory;
  * <p>The {@link #accept} methods of this class use the classic, and most common, Boltzmann
  * distribution for determining whether to accept a neighbor.
  *
+ * <p>When simulated annealing is restarted, such as by a {@link
+ * org.cicirello.search.restarts.Multistarter Multistarter}, each restart normally samples the cost
+ * function anew at the start of the run to tune the initial temperature. An instance constructed in
+ * warm start mode, with {@link #SelfTuningLam(boolean)}, instead reuses the statistics that it
+ * sampled in its first run to tune the initial temperature of later runs, skipping the sampling
+ * phase. The statistics are included in the state saved by {@link #writeCheckpoint}, so a warm
+ * start instance can also be seeded from a checkpoint of a previous run with {@link
+ * #readCheckpoint}.
+ *
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
-public final class SelfTuningLam implements AnnealingSchedule {
+public final class SelfTuningLam implements AnnealingSchedule, Checkpointable {
 
   private double t;
   private double acceptRate;
@@ -91,27 +101,33 @@ public final class SelfTuningLam implements AnnealingSchedule {
   private double phase0;
   private double phase1;
   private double phase2;
-  private int iterationCount;
+  private long iterationCount;
 
   private double termPhase1;
   private double multPhase1;
   private double multPhase3;
 
   private double deltaSum;
-  private int sameCostCount;
-  private int betterCostCount;
+  private long sameCostCount;
+  private long betterCostCount;
 
   private double alpha;
   private double beta;
 
-  private int lastMaxEvals;
+  private long lastMaxEvals;
+
+  private final boolean warmStart;
+  private double tuningLength;
+  private boolean tuned;
+  private double tunedAcceptanceRate;
+  private double tunedCostAverage;
 
   private static final double LAM_RATE_001 = 0.9768670788789564;
   private static final double LAM_RATE_002 = 0.9546897506857566;
   private static final double LAM_RATE_01 = 0.8072615745900611;
   private static final double LAM_RATE_02 = 0.6808590431613767;
 
-  private final EnhancedSplittableGenerator generator;
+  private final BoltzmannAcceptance boltzmann;
 
   /**
    * Default constructor. The Self-Tuning Lam annealing schedule, unlike other annealing schedules,
@@ -119,17 +135,37 @@ public final class SelfTuningLam implements AnnealingSchedule {
    * #init} method), so no parameters need be passed to the constructor.
    */
   public SelfTuningLam() {
+    this(false);
+  }
+
+  /**
+   * Constructs a Self-Tuning Lam annealing schedule, optionally in warm start mode. In warm start
+   * mode, the cost function statistics sampled to tune the initial temperature during the first run
+   * are reused by all subsequent runs (i.e., subsequent calls to {@link #init}), which then skip
+   * the sampling phase and begin annealing immediately from the tuned temperature.
+   *
+   * @param warmStart true for warm start mode, and false for the default behavior of sampling the
+   *     cost function at the start of every run.
+   */
+  public SelfTuningLam(boolean warmStart) {
     lastMaxEvals = -1;
-    generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    this.warmStart = warmStart;
+    boltzmann = new BoltzmannAcceptance();
   }
 
   private SelfTuningLam(SelfTuningLam other) {
     lastMaxEvals = -1;
-    generator = other.generator.split();
+    warmStart = other.warmStart;
+    boltzmann = other.boltzmann.split();
   }
 
   @Override
   public void init(int maxEvals) {
+    init((long) maxEvals);
+  }
+
+  @Override
+  public void init(long maxEvals) {
     if (maxEvals >= 10000) {
       targetRate = acceptRate = LAM_RATE_001;
     } else {
@@ -178,23 +214,77 @@ public final class SelfTuningLam implements AnnealingSchedule {
       multPhase3 = Math.pow(440, -1.0 / (maxEvals - phase2));
       lastMaxEvals = maxEvals;
     }
+    if (warmStart && tuned && phase0 >= 1) {
+      // The cost function was already sampled by a previous run,
+      // so skip phase 0.
+      tuningLength = 0;
+      setTemperature(tunedAcceptanceRate, tunedCostAverage);
+    } else {
+      tuningLength = phase0;
+    }
   }
 
   @Override
   public boolean accept(double neighborCost, double currentCost) {
     iterationCount++;
-    if (iterationCount <= phase0) {
+    if (iterationCount <= tuningLength) {
       doPhaseZeroUpdate(neighborCost, currentCost);
       return true;
     } else {
-      boolean doAccept =
-          neighborCost <= currentCost
-              || generator.nextDouble() < Math.exp((currentCost - neighborCost) / t);
+      boolean doAccept = boltzmann.accept(neighborCost, currentCost, t);
       updateSchedule(doAccept);
       return doAccept;
     }
   }
 
+  @Override
+  public void writeCheckpoint(CheckpointWriter out) {
+    out.putDouble(t);
+    out.putDouble(acceptRate);
+    out.putDouble(targetRate);
+    out.putDouble(phase0);
+    out.putDouble(phase1);
+    out.putDouble(phase2);
+    out.putLong(iterationCount);
+    out.putDouble(termPhase1);
+    out.putDouble(multPhase1);
+    out.putDouble(multPhase3);
+    out.putDouble(deltaSum);
+    out.putLong(sameCostCount);
+    out.putLong(betterCostCount);
+    out.putDouble(alpha);
+    out.putDouble(beta);
+    out.putLong(lastMaxEvals);
+    out.putDouble(tuningLength);
+    out.putBoolean(tuned);
+    out.putDouble(tunedAcceptanceRate);
+    out.putDouble(tunedCostAverage);
+  }
+
+  @Override
+  public void readCheckpoint(CheckpointReader in) {
+    t = in.getDouble();
+    acceptRate = in.getDouble();
+    targetRate = in.getDouble();
+    phase0 = in.getDouble();
+    phase1 = in.getDouble();
+    phase2 = in.getDouble();
+    iterationCount = in.getLong();
+    termPhase1 = in.getDouble();
+    multPhase1 = in.getDouble();
+    multPhase3 = in.getDouble();
+    deltaSum = in.getDouble();
+    sameCostCount = in.getLong();
+    betterCostCount = in.getLong();
+    alpha = in.getDouble();
+    beta = in.getDouble();
+    lastMaxEvals = in.getLong();
+    tuningLength = in.getDouble();
+    tuned = in.getBoolean();
+    tunedAcceptanceRate = in.getDouble();
+    tunedCostAverage = in.getDouble();
+  }
+
   @Override
   public SelfTuningLam split() {
     return new SelfTuningLam(this);
@@ -216,7 +306,7 @@ public final class SelfTuningLam implements AnnealingSchedule {
   }
 
   private void initializeTemperature() {
-    int acceptedCount = sameCostCount + betterCostCount;
+    long acceptedCount = sameCostCount + betterCostCount;
     double initialAcceptanceRate =
         (acceptedCount != iterationCount)
             ? ((double) acceptedCount) / iterationCount
@@ -227,6 +317,17 @@ public final class SelfTuningLam implements AnnealingSchedule {
     // possible non-zero cost difference.
     double costAverage =
         iterationCount == sameCostCount ? 1 : deltaSum / (iterationCount - sameCostCount);
+    tuned = true;
+    tunedAcceptanceRate = initialAcceptanceRate;
+    tunedCostAverage = costAverage;
+    setTemperature(initialAcceptanceRate, costAverage);
+  }
+
+  /*
+   * Sets the temperature and its decay rate from the sampled acceptance rate
+   * and average cost difference.
+   */
+  private void setTemperature(double initialAcceptanceRate, double costAverage) {
     if (initialAcceptanceRate < acceptRate) {
       double denom = Math.log((acceptRate - initialAcceptanceRate) / (1.0 - initialAcceptanceRate));
       t = -costAverage / denom;
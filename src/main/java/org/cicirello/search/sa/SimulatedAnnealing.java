@@ -25,6 +25,12 @@ import org.cicirello.search.ProgressTracker;
 import org.cicirello.search.SimpleLocalMetaheuristic;
 import org.cicirello.search.SingleSolutionMetaheuristic;
 import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.Checkpointable;
+import org.cicirello.search.checkpoint.PeriodicCheckpointer;
+import org.cicirello.search.checkpoint.ResumableMetaheuristic;
+import org.cicirello.search.checkpoint.SolutionCodec;
 import org.cicirello.search.operators.Initializer;
 import org.cicirello.search.operators.UndoableMutationOperator;
 import org.cicirello.search.problems.IntegerCostOptimizationProblem;
@@ -79,12 +85,18 @@ import org.cicirello.util.Copyable;
  * SteepestDescentHillClimber} and {@link org.cicirello.search.hc.FirstDescentHillClimber
  * FirstDescentHillClimber} classes.
  *
+ * <p>Long runs of simulated annealing can be checkpointed periodically with a {@link
+ * PeriodicCheckpointer}, provided that the annealing schedule implements {@link Checkpointable},
+ * which all of the annealing schedules of the library do. See {@link #setCheckpointer} and {@link
+ * #resume}. A checkpoint can also seed the annealing schedule of a later run with {@link
+ * #warmStart}.
+ *
  * @param <T> The type of object under optimization.
  * @author <a href=https://www.cicirello.org/ target=_top>Vincent A. Cicirello</a>, <a
  *     href=https://www.cicirello.org/ target=_top>https://www.cicirello.org/</a>
  */
 public final class SimulatedAnnealing<T extends Copyable<T>>
-    implements SingleSolutionMetaheuristic<T> {
+    implements SingleSolutionMetaheuristic<T>, ResumableMetaheuristic<T> {
 
   private final SimpleLocalMetaheuristic<T> hc;
   private final IntegerCostOptimizationProblem<T> pOptInt;
@@ -92,9 +104,10 @@ public final class SimulatedAnnealing<T extends Copyable<T>>
   private final Initializer<T> initializer;
   private final UndoableMutationOperator<T> mutation;
   private final AnnealingSchedule anneal;
-  private int elapsedEvals;
+  private long elapsedEvals;
   private ProgressTracker<T> tracker;
   private final SingleRun<T> sr;
+  private PeriodicCheckpointer<T> checkpointer;
 
   /**
    * Creates a SimulatedAnnealing search instance for integer-valued optimization problems.
@@ -593,6 +606,147 @@ public final class SimulatedAnnealing<T extends Copyable<T>>
     return sr.optimizeSingleRun(maxEvals, start.copy());
   }
 
+  /**
+   * Sets a checkpointer for periodically checkpointing runs of this simulated annealer. When the
+   * checkpointer requests a checkpoint, the run copies its state into memory between iterations,
+   * and the checkpointer writes it in the background. A checkpoint includes the current solution
+   * and its cost, the position within the run, the state of the annealing schedule, and the best
+   * solution in the {@link ProgressTracker}. It does not include the state of the random number
+   * generators of the annealing schedule or mutation operator, so a resumed run continues from the
+   * same state, but does not replay the same sequence of random moves that the original run would
+   * have. A checkpointer is not shared with the objects created by {@link #split}.
+   *
+   * @param checkpointer The checkpointer, or null to disable checkpointing.
+   * @throws UnsupportedOperationException if checkpointer is non-null and the annealing schedule
+   *     does not implement {@link Checkpointable}
+   */
+  @Override
+  public void setCheckpointer(PeriodicCheckpointer<T> checkpointer) {
+    if (checkpointer != null) {
+      checkpointable();
+    }
+    this.checkpointer = checkpointer;
+  }
+
+  /**
+   * Resumes a run of simulated annealing from a checkpoint, continuing from the iteration at which
+   * the checkpoint was taken, and ending at the end of the original run. The state of this
+   * simulated annealer, its annealing schedule, and its {@link ProgressTracker} is restored from
+   * the checkpoint. This simulated annealer must be configured in the same way as the one that
+   * wrote the checkpoint, such as the same problem and type of annealing schedule. If hill climbing
+   * post-processing is configured, it is applied at the end of the resumed run.
+   *
+   * @param in The checkpoint.
+   * @param codec The codec for reading the solutions of the checkpoint.
+   * @return The current solution at the end of the resumed run and its cost, as with the optimize
+   *     methods. Returns null if the run did not execute, such as if the ProgressTracker already
+   *     contains the theoretical best solution.
+   * @throws UnsupportedOperationException if the annealing schedule does not implement {@link
+   *     Checkpointable}
+   * @throws IllegalArgumentException if the checkpoint is for a problem with a different type of
+   *     cost
+   */
+  @Override
+  public final SolutionCostPair<T> resume(CheckpointReader in, SolutionCodec<T> codec) {
+    Checkpointable schedule = checkpointable();
+    if (tracker.didFindBest() || tracker.isStopped()) return null;
+    RunState<T> state = readRunState(in, codec);
+    elapsedEvals = state.elapsedEvals;
+    if (state.best != null) {
+      // It cannot be the theoretical best, since the run continued after it was found.
+      if (state.best.containsIntCost()) {
+        tracker.update(state.best.getCost(), state.best.getSolution(), false);
+      } else {
+        tracker.update(state.best.getCostDouble(), state.best.getSolution(), false);
+      }
+    }
+    schedule.readCheckpoint(in);
+    return sr.resumeSingleRun(state);
+  }
+
+  /**
+   * Seeds the annealing schedule from a checkpoint of a previous run, without resuming that run.
+   * Only the state of the annealing schedule is restored, such that a schedule that carries what it
+   * learned across runs, such as a {@link SelfTuningLam} or {@link ModifiedLam} in warm start mode,
+   * begins the next run of this simulated annealer with what it learned during the checkpointed
+   * run. The current solution, best solution, and position within the run of the checkpoint are
+   * otherwise ignored.
+   *
+   * @param in The checkpoint.
+   * @param codec The codec for reading the solutions of the checkpoint.
+   * @throws UnsupportedOperationException if the annealing schedule does not implement {@link
+   *     Checkpointable}
+   * @throws IllegalArgumentException if the checkpoint is for a problem with a different type of
+   *     cost
+   */
+  public final void warmStart(CheckpointReader in, SolutionCodec<T> codec) {
+    Checkpointable schedule = checkpointable();
+    // The state of the run precedes the state of the schedule in the checkpoint.
+    readRunState(in, codec);
+    schedule.readCheckpoint(in);
+  }
+
+  /**
+   * Reanneals starting from the previous best found solution contained in the tracker object, where
+   * the run length may exceed the range of an int. This method is otherwise the same as {@link
+   * #reoptimize(int)}.
+   *
+   * @param maxEvals The maximum number of simulated annealing evaluations (i.e., iterations) to
+   *     execute.
+   * @return the current solution at the end of this run and its cost, which may or may not be the
+   *     best of run solution, and which may or may not be the same as the solution contained in
+   *     this simulated annealer's {@link ProgressTracker}, which contains the best of all runs.
+   *     Returns null if the run did not execute, such as if the ProgressTracker already contains
+   *     the theoretical best solution.
+   */
+  @Override
+  public final SolutionCostPair<T> reoptimize(long maxEvals) {
+    if (tracker.didFindBest() || tracker.isStopped()) return null;
+    T start = tracker.getSolution();
+    if (start == null) start = initializer.createCandidateSolution();
+    else start = start.copy();
+    return sr.optimizeSingleRun(maxEvals, start);
+  }
+
+  /**
+   * Executes a run of simulated annealing beginning at a randomly generated solution, where the run
+   * length may exceed the range of an int. This method is otherwise the same as {@link
+   * #optimize(int)}.
+   *
+   * @param maxEvals The maximum number of simulated annealing evaluations (i.e., iterations) to
+   *     execute during this run.
+   * @return The current solution at the end of this run and its cost, which may or may not be the
+   *     best of run solution, and which may or may not be the same as the solution contained in
+   *     this simulated annealer's {@link ProgressTracker}, which contains the best of all runs.
+   *     Returns null if the run did not execute, such as if the ProgressTracker already contains
+   *     the theoretical best solution.
+   */
+  @Override
+  public final SolutionCostPair<T> optimize(long maxEvals) {
+    if (tracker.didFindBest() || tracker.isStopped()) return null;
+    return sr.optimizeSingleRun(maxEvals, initializer.createCandidateSolution());
+  }
+
+  /**
+   * Executes a run of simulated annealing beginning at a specified starting solution, where the run
+   * length may exceed the range of an int. This method is otherwise the same as {@link
+   * #optimize(int, Copyable)}.
+   *
+   * @param maxEvals The maximum number of simulated annealing evaluations (i.e., iterations) to
+   *     execute during this run.
+   * @param start The desired starting solution.
+   * @return The current solution at the end of this run and its cost, which may or may not be the
+   *     best of run solution, and which may or may not be the same as the solution contained in
+   *     this simulated annealer's {@link ProgressTracker}, which contains the best of all runs.
+   *     Returns null if the run did not execute, such as if the ProgressTracker already contains
+   *     the theoretical best solution.
+   */
+  @Override
+  public final SolutionCostPair<T> optimize(long maxEvals, T start) {
+    if (tracker.didFindBest() || tracker.isStopped()) return null;
+    return sr.optimizeSingleRun(maxEvals, start.copy());
+  }
+
   @Override
   public final Problem<T> getProblem() {
     return (pOptInt != null) ? pOptInt : pOpt;
@@ -636,8 +790,117 @@ public final class SimulatedAnnealing<T extends Copyable<T>>
     }
   }
 
+  private Checkpointable checkpointable() {
+    if (anneal instanceof Checkpointable c) {
+      return c;
+    }
+    throw new UnsupportedOperationException("the annealing schedule does not support checkpoints");
+  }
+
+  /*
+   * Begins a checkpoint with the state common to integer and double costs. The iteration
+   * is the next iteration of the run to execute.
+   */
+  private CheckpointWriter startCheckpoint(
+      long maxEvals, long iteration, PeriodicCheckpointer<T> cp) {
+    CheckpointWriter out = cp.newCheckpoint();
+    out.putBoolean(pOptInt != null);
+    out.putLong(maxEvals);
+    out.putLong(iteration);
+    out.putLong(elapsedEvals);
+    return out;
+  }
+
+  /*
+   * Completes a checkpoint, after the current cost, and submits it to be written.
+   */
+  private void finishCheckpoint(CheckpointWriter out, T current, PeriodicCheckpointer<T> cp) {
+    SolutionCodec<T> codec = cp.getCodec();
+    codec.write(current, out);
+    SolutionCostPair<T> best = tracker.getSolutionCostPair();
+    out.putBoolean(best.getSolution() != null);
+    if (best.getSolution() != null) {
+      out.putBoolean(best.containsIntCost());
+      if (best.containsIntCost()) {
+        out.putInt(best.getCost());
+      } else {
+        out.putDouble(best.getCostDouble());
+      }
+      codec.write(best.getSolution(), out);
+    }
+    checkpointable().writeCheckpoint(out);
+    cp.submit(out);
+  }
+
+  /*
+   * Reads the state of a run from a checkpoint, which is everything other than the
+   * state of the annealing schedule, in the order written by startCheckpoint and
+   * finishCheckpoint.
+   */
+  private RunState<T> readRunState(CheckpointReader in, SolutionCodec<T> codec) {
+    boolean intCost = in.getBoolean();
+    if (intCost != (pOptInt != null)) {
+      throw new IllegalArgumentException("checkpoint is for a problem with a different cost type");
+    }
+    long maxEvals = in.getLong();
+    long iteration = in.getLong();
+    long elapsed = in.getLong();
+    int currentIntCost = 0;
+    double currentCost = 0;
+    if (intCost) {
+      currentIntCost = in.getInt();
+    } else {
+      currentCost = in.getDouble();
+    }
+    T current = codec.read(in);
+    SolutionCostPair<T> best = null;
+    if (in.getBoolean()) {
+      if (in.getBoolean()) {
+        int cost = in.getInt();
+        best = new SolutionCostPair<T>(codec.read(in), cost, false);
+      } else {
+        double cost = in.getDouble();
+        best = new SolutionCostPair<T>(codec.read(in), cost, false);
+      }
+    }
+    return new RunState<T>(
+        maxEvals, iteration, elapsed, currentIntCost, currentCost, current, best);
+  }
+
+  /*
+   * The state of a run read from a checkpoint, other than the state of the annealing schedule.
+   */
+  private static final class RunState<T extends Copyable<T>> {
+    private final long maxEvals;
+    private final long iteration;
+    private final long elapsedEvals;
+    private final int currentIntCost;
+    private final double currentCost;
+    private final T current;
+    private final SolutionCostPair<T> best;
+
+    private RunState(
+        long maxEvals,
+        long iteration,
+        long elapsedEvals,
+        int currentIntCost,
+        double currentCost,
+        T current,
+        SolutionCostPair<T> best) {
+      this.maxEvals = maxEvals;
+      this.iteration = iteration;
+      this.elapsedEvals = elapsedEvals;
+      this.currentIntCost = currentIntCost;
+      this.currentCost = currentCost;
+      this.current = current;
+      this.best = best;
+    }
+  }
+
   private interface SingleRun<T extends Copyable<T>> {
-    SolutionCostPair<T> optimizeSingleRun(int maxEvals, T current);
+    SolutionCostPair<T> optimizeSingleRun(long maxEvals, T current);
+
+    SolutionCostPair<T> resumeSingleRun(RunState<T> state);
   }
 
   private class HCSingleRun implements SingleRun<T> {
@@ -649,15 +912,20 @@ public final class SimulatedAnnealing<T extends Copyable<T>>
     }
 
     @Override
-    public SolutionCostPair<T> optimizeSingleRun(int maxEvals, T current) {
+    public SolutionCostPair<T> optimizeSingleRun(long maxEvals, T current) {
       return hc.optimize(saRun.optimizeSingleRun(maxEvals, current).getSolution());
     }
+
+    @Override
+    public SolutionCostPair<T> resumeSingleRun(RunState<T> state) {
+      return hc.optimize(saRun.resumeSingleRun(state).getSolution());
+    }
   }
 
   private class IntegerSingleRun implements SingleRun<T> {
 
     @Override
-    public SolutionCostPair<T> optimizeSingleRun(int maxEvals, T current) {
+    public SolutionCostPair<T> optimizeSingleRun(long maxEvals, T current) {
       // compute cost of start
       int currentCost = pOptInt.cost(current);
 
@@ -675,13 +943,31 @@ public final class SimulatedAnnealing<T extends Copyable<T>>
       // initialize the annealing schedule
       anneal.init(maxEvals);
 
+      return anneal(maxEvals, 1, current, currentCost, bestCost);
+    }
+
+    @Override
+    public SolutionCostPair<T> resumeSingleRun(RunState<T> state) {
+      return anneal(
+          state.maxEvals, state.iteration, state.current, state.currentIntCost, tracker.getCost());
+    }
+
+    private SolutionCostPair<T> anneal(
+        long maxEvals, long first, T current, int currentCost, int bestCost) {
+      final PeriodicCheckpointer<T> cp = checkpointer;
+
       // main simulated annealing loop
-      for (int i = 1; i <= maxEvals; i++) {
+      for (long i = first; i <= maxEvals; i++) {
         if (tracker.isStopped()) {
           // some other thread signaled to stop
           elapsedEvals += (i - 1);
           return new SolutionCostPair<T>(current, currentCost, pOptInt.isMinCost(currentCost));
         }
+        if (cp != null && cp.isRequested()) {
+          CheckpointWriter out = startCheckpoint(maxEvals, i, cp);
+          out.putInt(currentCost);
+          finishCheckpoint(out, current, cp);
+        }
         mutation.mutate(current);
         int neighborCost = pOptInt.cost(current);
         if (anneal.accept(neighborCost, currentCost)) {
@@ -709,7 +995,7 @@ public final class SimulatedAnnealing<T extends Copyable<T>>
   private class DoubleSingleRun implements SingleRun<T> {
 
     @Override
-    public SolutionCostPair<T> optimizeSingleRun(int maxEvals, T current) {
+    public SolutionCostPair<T> optimizeSingleRun(long maxEvals, T current) {
       // compute cost of start
       double currentCost = pOpt.cost(current);
 
@@ -727,13 +1013,35 @@ public final class SimulatedAnnealing<T extends Copyable<T>>
       // initialize the annealing schedule
       anneal.init(maxEvals);
 
+      return anneal(maxEvals, 1, current, currentCost, bestCost);
+    }
+
+    @Override
+    public SolutionCostPair<T> resumeSingleRun(RunState<T> state) {
+      return anneal(
+          state.maxEvals,
+          state.iteration,
+          state.current,
+          state.currentCost,
+          tracker.getCostDouble());
+    }
+
+    private SolutionCostPair<T> anneal(
+        long maxEvals, long first, T current, double currentCost, double bestCost) {
+      final PeriodicCheckpointer<T> cp = checkpointer;
+
       // main simulated annealing loop
-      for (int i = 1; i <= maxEvals; i++) {
+      for (long i = first; i <= maxEvals; i++) {
         if (tracker.isStopped()) {
           // some other thread signaled to stop
           elapsedEvals += (i - 1);
           return new SolutionCostPair<T>(current, currentCost, pOpt.isMinCost(currentCost));
         }
+        if (cp != null && cp.isRequested()) {
+          CheckpointWriter out = startCheckpoint(maxEvals, i, cp);
+          out.putDouble(currentCost);
+          finishCheckpoint(out, current, cp);
+        }
         mutation.mutate(current);
         double neighborCost = pOpt.cost(current);
         if (anneal.accept(neighborCost, currentCost)) {
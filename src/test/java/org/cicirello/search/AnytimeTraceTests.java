@@ -0,0 +1,221 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cicirello.util.Copyable;
+import org.junit.jupiter.api.*;
+
+/** JUnit test cases for AnytimeTrace. */
+public class AnytimeTraceTests {
+
+  @Test
+  public void testCapacity() {
+    assertEquals(1, new AnytimeTrace(1).capacity());
+    assertEquals(8, new AnytimeTrace(5).capacity());
+    assertEquals(8, new AnytimeTrace(8).capacity());
+    assertEquals(16, new AnytimeTrace(9).capacity());
+    assertThrows(IllegalArgumentException.class, () -> new AnytimeTrace(0));
+    assertThrows(IllegalArgumentException.class, () -> new AnytimeTrace((1 << 30) + 1));
+    assertThrows(NullPointerException.class, () -> new AnytimeTrace(4, null));
+  }
+
+  @Test
+  public void testRecordAndWrapAround() {
+    AtomicLong evals = new AtomicLong();
+    AnytimeTrace trace = new AnytimeTrace(4, evals::get);
+    assertEquals(0, trace.size());
+    for (int i = 0; i < 3; i++) {
+      evals.addAndGet(10);
+      trace.record(100 * i, 50 - i);
+    }
+    assertEquals(3, trace.size());
+    assertEquals(3, trace.recorded());
+    assertEntries(
+        trace, new long[] {0, 100, 200}, new long[] {10, 20, 30}, new double[] {50, 49, 48});
+    for (int i = 3; i < 6; i++) {
+      trace.record(100 * i, 7, 50 - i);
+    }
+    assertEquals(4, trace.size());
+    assertEquals(6, trace.recorded());
+    assertEntries(
+        trace,
+        new long[] {200, 300, 400, 500},
+        new long[] {30, 7, 7, 7},
+        new double[] {48, 47, 46, 45});
+    trace.clear();
+    assertEquals(0, trace.size());
+    assertEquals(0, trace.recorded());
+    trace.record(1, 2, 3);
+    assertEntries(trace, new long[] {1}, new long[] {2}, new double[] {3});
+  }
+
+  @Test
+  public void testProgressTrackerRecordsImprovements() {
+    ProgressTracker<TestObject> tracker = new ProgressTracker<TestObject>();
+    assertNull(tracker.getAnytimeTrace());
+    AnytimeTrace trace = new AnytimeTrace(16);
+    tracker.setAnytimeTrace(trace);
+    assertSame(trace, tracker.getAnytimeTrace());
+    tracker.update(10, new TestObject(), false);
+    tracker.update(12, new TestObject(), false);
+    tracker.update(8, new TestObject(), false);
+    tracker.update(new SolutionCostPair<TestObject>(new TestObject(), 5, false));
+    tracker.update(6.5, new TestObject(), false);
+    tracker.update(2.5, new TestObject(), true);
+    ArrayList<Double> costs = new ArrayList<Double>();
+    ArrayList<Long> times = new ArrayList<Long>();
+    trace.forEach(
+        (t, e, c) -> {
+          costs.add(c);
+          times.add(t);
+          assertEquals(0, e);
+        });
+    assertEquals(List.of(10.0, 8.0, 5.0, 2.5), costs);
+    for (int i = 1; i < times.size(); i++) {
+      assertTrue(times.get(i) >= times.get(i - 1));
+    }
+    assertEquals(tracker.elapsed(), (long) times.get(times.size() - 1));
+    tracker.setAnytimeTrace(null);
+    tracker.update(1.0, new TestObject(), true);
+    assertEquals(4, trace.size());
+  }
+
+  @Test
+  public void testConcurrentRecording() throws InterruptedException {
+    AnytimeTrace trace = new AnytimeTrace(1 << 12);
+    Thread[] threads = new Thread[4];
+    for (int k = 0; k < threads.length; k++) {
+      final int id = k;
+      threads[k] =
+          new Thread(
+              () -> {
+                for (int i = 0; i < 1000; i++) {
+                  trace.record(i, id, id * 1000 + i);
+                }
+              });
+      threads[k].start();
+    }
+    for (Thread t : threads) {
+      t.join();
+    }
+    assertEquals(4000, trace.size());
+    int[] counts = new int[4];
+    trace.forEach(
+        (t, e, c) -> {
+          assertEquals(e * 1000 + t, c);
+          counts[(int) e]++;
+        });
+    assertArrayEquals(new int[] {1000, 1000, 1000, 1000}, counts);
+  }
+
+  @Test
+  public void testConcurrentRecordingLapsRing() throws InterruptedException {
+    // Many writers lapping a tiny ring must never publish an entry mixing two writes.
+    AnytimeTrace trace = new AnytimeTrace(4);
+    Thread[] threads = new Thread[4];
+    for (int k = 0; k < threads.length; k++) {
+      final int id = k;
+      threads[k] =
+          new Thread(
+              () -> {
+                for (int i = 0; i < 20000; i++) {
+                  trace.record(i, id, id * 100000 + i);
+                }
+              });
+      threads[k].start();
+    }
+    for (Thread t : threads) {
+      t.join();
+    }
+    assertEquals(80000, trace.recorded());
+    int[] count = {0};
+    trace.forEach(
+        (t, e, c) -> {
+          assertEquals(e * 100000 + t, c);
+          count[0]++;
+        });
+    assertTrue(count[0] <= 4);
+  }
+
+  @Test
+  public void testWriteCsv() {
+    AnytimeTrace trace = new AnytimeTrace(4);
+    trace.record(5, 100, 3.5);
+    trace.record(17, 250, 2.0);
+    StringWriter s = new StringWriter();
+    trace.writeCsv(new PrintWriter(s));
+    String[] lines = s.toString().split("\\R");
+    assertEquals(3, lines.length);
+    assertEquals("elapsed_ns,evaluations,cost", lines[0]);
+    assertEquals("5,100,3.5", lines[1]);
+    assertEquals("17,250,2.0", lines[2]);
+  }
+
+  @Test
+  public void testWriteBinary() throws IOException {
+    AnytimeTrace trace = new AnytimeTrace(2);
+    trace.record(1, 10, 9.5);
+    trace.record(2, 20, 8.5);
+    trace.record(3, 30, 7.5);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    trace.writeBinary(new DataOutputStream(bytes));
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    assertEquals(2, in.readInt());
+    assertEquals(2, in.readLong());
+    assertEquals(20, in.readLong());
+    assertEquals(8.5, in.readDouble());
+    assertEquals(3, in.readLong());
+    assertEquals(30, in.readLong());
+    assertEquals(7.5, in.readDouble());
+    assertEquals(-1, in.read());
+  }
+
+  private void assertEntries(AnytimeTrace trace, long[] t, long[] e, double[] c) {
+    int[] i = {0};
+    trace.forEach(
+        (nanos, evals, cost) -> {
+          assertEquals(t[i[0]], nanos);
+          assertEquals(e[i[0]], evals);
+          assertEquals(c[i[0]], cost);
+          i[0]++;
+        });
+    assertEquals(t.length, i[0]);
+  }
+
+  private static final class TestObject implements Copyable<TestObject> {
+    @Override
+    public TestObject copy() {
+      return new TestObject();
+    }
+  }
+}
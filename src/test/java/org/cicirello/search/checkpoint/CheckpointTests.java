@@ -0,0 +1,206 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.checkpoint;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.cicirello.permutations.Permutation;
+import org.cicirello.search.representations.BitVector;
+import org.cicirello.search.representations.IntegerVector;
+import org.cicirello.search.representations.RealVector;
+import org.junit.jupiter.api.*;
+
+/** JUnit test cases for the checkpoint writer, reader, codecs, and periodic checkpointer. */
+public class CheckpointTests {
+
+  @Test
+  public void testWriterReaderRoundTrip() {
+    CheckpointWriter out = new CheckpointWriter(0);
+    out.putInt(42).putLong(Long.MIN_VALUE).putDouble(-2.5).putBoolean(true).putBoolean(false);
+    int[] ints = new int[1000];
+    double[] doubles = new double[1000];
+    for (int i = 0; i < ints.length; i++) {
+      ints[i] = i * i - 500;
+      doubles[i] = i / 3.0;
+    }
+    out.putIntArray(ints).putDoubleArray(doubles).putIntArray(new int[0]);
+    assertEquals(8 + 4 + 8 + 8 + 2 + 4 * 1001 + 8 * 1000 + 4 + 4, out.size());
+    CheckpointReader in = out.toReader();
+    assertEquals(42, in.getInt());
+    assertEquals(Long.MIN_VALUE, in.getLong());
+    assertEquals(-2.5, in.getDouble());
+    assertTrue(in.getBoolean());
+    assertFalse(in.getBoolean());
+    assertArrayEquals(ints, in.getIntArray());
+    assertArrayEquals(doubles, in.getDoubleArray());
+    assertEquals(0, in.getIntArray().length);
+    assertEquals(0, in.remaining());
+    assertThrows(IllegalStateException.class, () -> in.getInt());
+
+    // the reader is a snapshot
+    out.putInt(7);
+    assertEquals(0, in.remaining());
+    assertThrows(IllegalArgumentException.class, () -> new CheckpointWriter(-1));
+  }
+
+  @Test
+  public void testFileRoundTrip() throws IOException {
+    Path dir = Files.createTempDirectory("checkpoint");
+    Path file = dir.resolve("search.ckpt");
+    try {
+      new CheckpointWriter().putInt(1).writeTo(file);
+      new CheckpointWriter().putInt(2).putDouble(3.5).writeTo(file);
+      CheckpointReader in = CheckpointReader.read(file);
+      assertEquals(2, in.getInt());
+      assertEquals(3.5, in.getDouble());
+      assertEquals(0, in.remaining());
+      // only the checkpoint itself remains, and no temporary files
+      try (var files = Files.list(dir)) {
+        assertEquals(1, files.count());
+      }
+
+      Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+      assertThrows(IllegalArgumentException.class, () -> CheckpointReader.read(file));
+      Files.write(file, new byte[2]);
+      assertThrows(IllegalArgumentException.class, () -> CheckpointReader.read(file));
+    } finally {
+      Files.deleteIfExists(file);
+      Files.deleteIfExists(dir);
+    }
+  }
+
+  @Test
+  public void testTruncatedArray() {
+    CheckpointWriter out = new CheckpointWriter();
+    out.putInt(100).putInt(1);
+    CheckpointReader in = out.toReader();
+    assertThrows(IllegalStateException.class, () -> in.getIntArray());
+    CheckpointReader in2 = new CheckpointWriter().putInt(-1).toReader();
+    assertThrows(IllegalStateException.class, () -> in2.getDoubleArray());
+  }
+
+  @Test
+  public void testCodecs() {
+    CheckpointWriter out = new CheckpointWriter();
+    Permutation p = new Permutation(20);
+    BitVector b = new BitVector(77, true);
+    BitVector empty = new BitVector(0);
+    IntegerVector iv = new IntegerVector(new int[] {5, -3, 8});
+    RealVector rv = new RealVector(new double[] {1.5, -2.25});
+    SolutionCodec.permutation().write(p, out);
+    SolutionCodec.bitVector().write(b, out);
+    SolutionCodec.bitVector().write(empty, out);
+    SolutionCodec.integerVector().write(iv, out);
+    SolutionCodec.realVector().write(rv, out);
+    CheckpointReader in = out.toReader();
+    assertEquals(p, SolutionCodec.permutation().read(in));
+    assertEquals(b, SolutionCodec.bitVector().read(in));
+    assertEquals(empty, SolutionCodec.bitVector().read(in));
+    assertEquals(iv, SolutionCodec.integerVector().read(in));
+    assertEquals(rv, SolutionCodec.realVector().read(in));
+    assertEquals(0, in.remaining());
+  }
+
+  @Test
+  public void testPeriodicCheckpointer() throws IOException, InterruptedException {
+    Path dir = Files.createTempDirectory("checkpoint");
+    Path file = dir.resolve("search.ckpt");
+    try {
+      SolutionCodec<Permutation> codec = SolutionCodec.permutation();
+      PeriodicCheckpointer<Permutation> cp =
+          new PeriodicCheckpointer<Permutation>(file, codec, 1, TimeUnit.MILLISECONDS);
+      assertSame(codec, cp.getCodec());
+      assertEquals(file, cp.getFile());
+      while (!cp.isRequested()) {
+        Thread.sleep(1);
+      }
+      cp.submit(new CheckpointWriter().putInt(3));
+      cp.close();
+      assertEquals(1, cp.getCheckpointCount());
+      assertNull(cp.getLastError());
+      assertEquals(3, CheckpointReader.read(file).getInt());
+      // discarded after close
+      cp.submit(new CheckpointWriter().putInt(4));
+      assertEquals(1, cp.getCheckpointCount());
+
+      PeriodicCheckpointer<Permutation> manual =
+          new PeriodicCheckpointer<Permutation>(file, codec, 1, TimeUnit.DAYS);
+      assertFalse(manual.isRequested());
+      manual.requestCheckpoint();
+      assertTrue(manual.isRequested());
+      manual.submit(new CheckpointWriter().putInt(5));
+      assertFalse(manual.isRequested());
+      manual.close();
+      assertEquals(5, CheckpointReader.read(file).getInt());
+
+      PeriodicCheckpointer<Permutation> failing =
+          new PeriodicCheckpointer<Permutation>(
+              dir.resolve("missing").resolve("x.ckpt"), codec, 1, TimeUnit.DAYS);
+      failing.submit(new CheckpointWriter());
+      failing.close();
+      assertEquals(0, failing.getCheckpointCount());
+      assertNotNull(failing.getLastError());
+
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> new PeriodicCheckpointer<Permutation>(file, codec, 0, TimeUnit.SECONDS));
+      assertThrows(
+          NullPointerException.class,
+          () -> new PeriodicCheckpointer<Permutation>(null, codec, 1, TimeUnit.SECONDS));
+    } finally {
+      Files.deleteIfExists(file);
+      Files.deleteIfExists(dir);
+    }
+  }
+
+  @Test
+  public void testEnclosingState() {
+    PeriodicCheckpointer<Permutation> cp =
+        new PeriodicCheckpointer<Permutation>(
+            Path.of("unused.ckpt"), SolutionCodec.permutation(), 1, TimeUnit.DAYS);
+    try {
+      assertEquals(0, cp.newCheckpoint().toReader().remaining());
+      Consumer<CheckpointWriter> outer = out -> out.putInt(1);
+      Consumer<CheckpointWriter> inner = out -> out.putInt(2);
+      cp.addEnclosingState(outer);
+      cp.addEnclosingState(inner);
+      CheckpointReader in = cp.newCheckpoint().putInt(3).toReader();
+      assertEquals(1, in.getInt());
+      assertEquals(2, in.getInt());
+      assertEquals(3, in.getInt());
+      assertEquals(0, in.remaining());
+      cp.removeEnclosingState(outer);
+      in = cp.newCheckpoint().toReader();
+      assertEquals(2, in.getInt());
+      assertEquals(0, in.remaining());
+      cp.removeEnclosingState(inner);
+      assertEquals(0, cp.newCheckpoint().toReader().remaining());
+      assertThrows(NullPointerException.class, () -> cp.addEnclosingState(null));
+    } finally {
+      cp.close();
+    }
+  }
+}
@@ -0,0 +1,278 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.concurrent;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.evo.InverseCostFitnessFunction;
+import org.cicirello.search.evo.NegativeIntegerCostFitnessFunction;
+import org.cicirello.search.evo.TournamentSelection;
+import org.cicirello.search.operators.bits.BitFlipMutation;
+import org.cicirello.search.operators.bits.BitVectorInitializer;
+import org.cicirello.search.operators.bits.UniformCrossover;
+import org.cicirello.search.problems.OneMax;
+import org.cicirello.search.representations.BitVector;
+import org.junit.jupiter.api.*;
+
+/** JUnit tests for AsynchronousEvolutionaryAlgorithm. */
+public class AsynchronousEvolutionaryAlgorithmTests {
+
+  private static final int BITS = 16;
+  private static final int N = 20;
+
+  @Test
+  public void testIntegerFitness() {
+    for (int threads = 1; threads <= 4; threads *= 2) {
+      OneMax problem = new OneMax();
+      try (AsynchronousEvolutionaryAlgorithm<BitVector> ea =
+          new AsynchronousEvolutionaryAlgorithm<BitVector>(
+              N,
+              new BitFlipMutation(1.0 / BITS),
+              1.0,
+              new UniformCrossover(),
+              0.7,
+              new BitVectorInitializer(BITS),
+              new NegativeIntegerCostFitnessFunction<BitVector>(problem),
+              new TournamentSelection(),
+              threads)) {
+        validateSolves(ea, problem);
+      }
+    }
+  }
+
+  @Test
+  public void testDoubleFitness() {
+    for (int threads = 1; threads <= 4; threads *= 2) {
+      OneMax problem = new OneMax();
+      try (AsynchronousEvolutionaryAlgorithm<BitVector> ea =
+          new AsynchronousEvolutionaryAlgorithm<BitVector>(
+              N,
+              new BitFlipMutation(1.0 / BITS),
+              0.9,
+              new UniformCrossover(),
+              0.7,
+              new BitVectorInitializer(BITS),
+              new InverseCostFitnessFunction<BitVector>(problem),
+              new TournamentSelection(),
+              threads,
+              new ProgressTracker<BitVector>())) {
+        validateSolves(ea, problem);
+      }
+    }
+  }
+
+  @Test
+  public void testReoptimize() {
+    OneMax problem = new OneMax();
+    try (AsynchronousEvolutionaryAlgorithm<BitVector> ea =
+        new AsynchronousEvolutionaryAlgorithm<BitVector>(
+            N,
+            new BitFlipMutation(1.0 / (4 * BITS)),
+            1.0,
+            new UniformCrossover(),
+            0.0,
+            new BitVectorInitializer(4 * BITS),
+            new NegativeIntegerCostFitnessFunction<BitVector>(problem),
+            new TournamentSelection(),
+            2)) {
+      // reoptimize without prior optimize begins from a random population
+      SolutionCostPair<BitVector> first = ea.reoptimize(10);
+      assertNotNull(first);
+      long runLength = ea.getTotalRunLength();
+      assertTrue(runLength >= N && runLength <= N + 20);
+      SolutionCostPair<BitVector> second = ea.reoptimize(10);
+      assertTrue(second.getCost() <= first.getCost());
+      assertTrue(ea.getTotalRunLength() > runLength);
+      assertTrue(ea.getTotalRunLength() <= N + 40);
+    }
+  }
+
+  @Test
+  public void testSplitAndClose() {
+    OneMax problem = new OneMax();
+    AsynchronousEvolutionaryAlgorithm<BitVector> ea =
+        new AsynchronousEvolutionaryAlgorithm<BitVector>(
+            N,
+            new BitFlipMutation(1.0 / BITS),
+            1.0,
+            new UniformCrossover(),
+            0.7,
+            new BitVectorInitializer(BITS),
+            new NegativeIntegerCostFitnessFunction<BitVector>(problem),
+            new TournamentSelection(),
+            2);
+    AsynchronousEvolutionaryAlgorithm<BitVector> split = ea.split();
+    assertSame(ea.getProgressTracker(), split.getProgressTracker());
+    assertSame(problem, split.getProblem());
+    assertFalse(split.isClosed());
+    validateSolves(split, problem);
+    assertEquals(0, ea.getTotalRunLength());
+    ProgressTracker<BitVector> tracker = new ProgressTracker<BitVector>();
+    ea.setProgressTracker(tracker);
+    assertSame(tracker, ea.getProgressTracker());
+    ea.setProgressTracker(null);
+    assertSame(tracker, ea.getProgressTracker());
+    ea.close();
+    split.close();
+    assertTrue(ea.isClosed());
+    assertTrue(ea.split().isClosed());
+    assertThrows(IllegalStateException.class, () -> ea.optimize(10));
+  }
+
+  @Test
+  public void testSuppliedExecutor() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      OneMax problem = new OneMax();
+      AsynchronousEvolutionaryAlgorithm<BitVector> ea =
+          new AsynchronousEvolutionaryAlgorithm<BitVector>(
+              N,
+              new BitFlipMutation(1.0 / BITS),
+              1.0,
+              new UniformCrossover(),
+              0.7,
+              new BitVectorInitializer(BITS),
+              new NegativeIntegerCostFitnessFunction<BitVector>(problem),
+              new TournamentSelection(),
+              4,
+              new ProgressTracker<BitVector>(),
+              executor);
+      validateSolves(ea, problem);
+      AsynchronousEvolutionaryAlgorithm<BitVector> split = ea.split();
+      ea.close();
+      assertTrue(ea.isClosed());
+      assertFalse(executor.isShutdown());
+      assertThrows(IllegalStateException.class, () -> ea.optimize(10));
+      split.setProgressTracker(new ProgressTracker<BitVector>());
+      validateSolves(split, problem);
+      executor.shutdown();
+      assertTrue(split.isClosed());
+      assertThrows(IllegalStateException.class, () -> split.optimize(10));
+    } finally {
+      executor.shutdown();
+    }
+    assertThrows(
+        NullPointerException.class,
+        () ->
+            new AsynchronousEvolutionaryAlgorithm<BitVector>(
+                N,
+                new BitFlipMutation(0.1),
+                1.0,
+                new UniformCrossover(),
+                0.5,
+                new BitVectorInitializer(BITS),
+                new InverseCostFitnessFunction<BitVector>(new OneMax()),
+                new TournamentSelection(),
+                2,
+                new ProgressTracker<BitVector>(),
+                null));
+  }
+
+  @Test
+  public void testExceptions() {
+    OneMax problem = new OneMax();
+    NegativeIntegerCostFitnessFunction<BitVector> f =
+        new NegativeIntegerCostFitnessFunction<BitVector>(problem);
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new AsynchronousEvolutionaryAlgorithm<BitVector>(
+                1,
+                new BitFlipMutation(0.1),
+                1.0,
+                new UniformCrossover(),
+                0.5,
+                new BitVectorInitializer(BITS),
+                f,
+                new TournamentSelection(),
+                2));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new AsynchronousEvolutionaryAlgorithm<BitVector>(
+                N,
+                new BitFlipMutation(0.1),
+                1.0,
+                new UniformCrossover(),
+                0.5,
+                new BitVectorInitializer(BITS),
+                f,
+                new TournamentSelection(),
+                0));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new AsynchronousEvolutionaryAlgorithm<BitVector>(
+                N,
+                new BitFlipMutation(0.1),
+                -1.0,
+                new UniformCrossover(),
+                0.5,
+                new BitVectorInitializer(BITS),
+                f,
+                new TournamentSelection(),
+                2));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new AsynchronousEvolutionaryAlgorithm<BitVector>(
+                N,
+                new BitFlipMutation(0.1),
+                1.0,
+                new UniformCrossover(),
+                -0.5,
+                new BitVectorInitializer(BITS),
+                f,
+                new TournamentSelection(),
+                2));
+    assertThrows(
+        NullPointerException.class,
+        () ->
+            new AsynchronousEvolutionaryAlgorithm<BitVector>(
+                N,
+                new BitFlipMutation(0.1),
+                1.0,
+                new UniformCrossover(),
+                0.5,
+                new BitVectorInitializer(BITS),
+                f,
+                null,
+                2));
+  }
+
+  private void validateSolves(AsynchronousEvolutionaryAlgorithm<BitVector> ea, OneMax problem) {
+    SolutionCostPair<BitVector> solution = ea.optimize(4000);
+    assertEquals(0, problem.cost(solution.getSolution()));
+    assertEquals(0, solution.getCost());
+    assertTrue(ea.getProgressTracker().didFindBest());
+    assertEquals(0, ea.getProgressTracker().getCost());
+    long runLength = ea.getTotalRunLength();
+    assertTrue(runLength > N);
+    assertTrue(runLength <= N + 2 * 4000);
+    assertNull(ea.optimize(10));
+    assertNull(ea.reoptimize(10));
+    assertEquals(runLength, ea.getTotalRunLength());
+  }
+}
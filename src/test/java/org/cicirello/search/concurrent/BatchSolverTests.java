@@ -0,0 +1,386 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.concurrent;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cicirello.search.Metaheuristic;
+import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.problems.Problem;
+import org.cicirello.search.restarts.ConstantRestartSchedule;
+import org.cicirello.util.Copyable;
+import org.junit.jupiter.api.*;
+
+/** JUnit tests for BatchSolver and BatchJob. */
+public class BatchSolverTests {
+
+  @Test
+  public void testBudgetsAndResults() throws Exception {
+    try (BatchSolver solver = new BatchSolver(4, 3)) {
+      ArrayList<BatchJob<TestObject>> jobs = new ArrayList<BatchJob<TestObject>>();
+      for (int i = 0; i < 20; i++) {
+        jobs.add(solver.submit(new FakeSearch(i + 1), new ConstantRestartSchedule(10), 95));
+      }
+      HashSet<BatchJob<?>> done = new HashSet<BatchJob<?>>();
+      for (int i = 0; i < 20; i++) {
+        BatchJob<?> job = solver.poll(10, TimeUnit.SECONDS);
+        assertNotNull(job);
+        assertTrue(job.isDone());
+        assertTrue(done.add(job));
+      }
+      assertNull(solver.poll(1, TimeUnit.MILLISECONDS));
+      assertEquals(0, solver.getPendingJobs());
+      for (int i = 0; i < 20; i++) {
+        BatchJob<TestObject> job = jobs.get(i);
+        assertTrue(done.contains(job));
+        SolutionCostPair<TestObject> result = job.get();
+        assertEquals(i + 1, result.getCost());
+        assertNotNull(result.getSolution());
+        // 9 restarts of length 10 and the last shortened to 5
+        assertEquals(10, job.getRestarts());
+        assertEquals(95, job.getTotalRunLength());
+        assertFalse(job.isExpired());
+        assertFalse(job.isCancelled());
+        assertFalse(job.cancel(true));
+      }
+    }
+  }
+
+  @Test
+  public void testOptimalEndsJob() throws Exception {
+    try (BatchSolver solver = new BatchSolver(2)) {
+      FakeSearch search = new FakeSearch(5);
+      search.optimalAtRun = 3;
+      BatchJob<TestObject> job = solver.submit(search, new ConstantRestartSchedule(1), 1000);
+      SolutionCostPair<TestObject> result = job.get(10, TimeUnit.SECONDS);
+      assertTrue(result.containsKnownOptimal());
+      assertEquals(0, result.getCost());
+      assertTrue(job.getRestarts() < 1000);
+      assertSame(job, solver.take());
+
+      // A job whose ProgressTracker is already stopped is done without any restarts.
+      FakeSearch stopped = new FakeSearch(5);
+      stopped.getProgressTracker().stop();
+      BatchJob<TestObject> none = solver.submit(stopped, new ConstantRestartSchedule(1), 10);
+      assertNull(none.get(10, TimeUnit.SECONDS).getSolution());
+      assertEquals(0, none.getRestarts());
+    }
+  }
+
+  @Test
+  public void testDeadlines() throws Exception {
+    try (BatchSolver solver = new BatchSolver(1, 1)) {
+      FakeSearch long1 = new FakeSearch(5);
+      long1.untilStopped = true;
+      BatchJob<TestObject> running =
+          solver.submit(
+              long1, new ConstantRestartSchedule(1), Long.MAX_VALUE, 100, TimeUnit.MILLISECONDS);
+      // Waits for admission behind the running job, and expires while waiting.
+      BatchJob<TestObject> queued =
+          solver.submit(
+              new FakeSearch(3), new ConstantRestartSchedule(1), 10, 10, TimeUnit.MILLISECONDS);
+      assertSame(queued, solver.poll(10, TimeUnit.SECONDS));
+      assertTrue(queued.isExpired());
+      assertEquals(0, queued.getRestarts());
+      assertNull(queued.get().getSolution());
+      assertFalse(running.isDone());
+
+      assertSame(running, solver.poll(10, TimeUnit.SECONDS));
+      assertTrue(running.isExpired());
+      assertTrue(running.getProgressTracker().isStopped());
+      assertEquals(5, running.get().getCost());
+      assertEquals(1, running.getRestarts());
+    }
+  }
+
+  @Test
+  public void testFairShare() throws Exception {
+    List<String> log = Collections.synchronizedList(new ArrayList<String>());
+    try (BatchSolver solver = new BatchSolver(1, 2)) {
+      FakeSearch a = new FakeSearch(1);
+      a.name = "a";
+      a.log = log;
+      a.sleep = 5;
+      FakeSearch b = new FakeSearch(1);
+      b.name = "b";
+      b.log = log;
+      b.sleep = 5;
+      BatchJob<TestObject> jobA = solver.submit(a, new ConstantRestartSchedule(1), 5);
+      BatchJob<TestObject> jobB = solver.submit(b, new ConstantRestartSchedule(1), 5);
+      jobA.get(10, TimeUnit.SECONDS);
+      jobB.get(10, TimeUnit.SECONDS);
+    }
+    assertEquals(10, log.size());
+    // The jobs share the single thread, rather than one job running to completion first.
+    assertTrue(log.indexOf("b") < log.lastIndexOf("a"));
+  }
+
+  @Test
+  public void testConcurrentRestartsUseSplits() throws Exception {
+    try (BatchSolver solver = new BatchSolver(4)) {
+      FakeSearch search = new FakeSearch(2);
+      search.sleep = 5;
+      BatchJob<TestObject> job = solver.submit(search, new ConstantRestartSchedule(3), 60);
+      job.get(10, TimeUnit.SECONDS);
+      assertEquals(20, job.getRestarts());
+      assertEquals(20, search.runs.get());
+      assertEquals(60, job.getTotalRunLength());
+      assertTrue(search.splits.get() >= 1);
+      assertTrue(search.splits.get() <= 3);
+    }
+  }
+
+  @Test
+  public void testCancelAndFailure() throws Exception {
+    BatchSolver solver = new BatchSolver(1, 1);
+    FakeSearch forever = new FakeSearch(5);
+    forever.untilStopped = true;
+    BatchJob<TestObject> running =
+        solver.submit(forever, new ConstantRestartSchedule(1), Long.MAX_VALUE);
+    BatchJob<TestObject> queued =
+        solver.submit(new FakeSearch(2), new ConstantRestartSchedule(1), 10);
+    assertTrue(queued.cancel(false));
+    assertTrue(queued.isCancelled());
+    assertThrows(CancellationException.class, () -> queued.get());
+    assertFalse(queued.cancel(false));
+
+    assertEquals(1, solver.getPendingJobs());
+    assertTrue(running.cancel(true));
+    assertThrows(CancellationException.class, () -> running.get(10, TimeUnit.SECONDS));
+
+    FakeSearch failing = new FakeSearch(1);
+    failing.fail = true;
+    BatchJob<TestObject> failed = solver.submit(failing, new ConstantRestartSchedule(1), 10);
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> failed.get(10, TimeUnit.SECONDS));
+    assertTrue(e.getCause() instanceof IllegalStateException);
+    assertEquals(1, failed.getRestarts());
+
+    FakeSearch another = new FakeSearch(5);
+    another.untilStopped = true;
+    BatchJob<TestObject> pending =
+        solver.submit(another, new ConstantRestartSchedule(1), Long.MAX_VALUE);
+    solver.close();
+    assertTrue(solver.isClosed());
+    assertThrows(CancellationException.class, () -> pending.get(10, TimeUnit.SECONDS));
+    assertThrows(
+        IllegalStateException.class,
+        () -> solver.submit(new FakeSearch(1), new ConstantRestartSchedule(1), 10));
+    solver.close();
+  }
+
+  @Test
+  public void testSuppliedExecutorAndExceptions() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      BatchSolver solver = new BatchSolver(executor, 2, 4);
+      BatchJob<TestObject> job =
+          solver.submit(new FakeSearch(7), new ConstantRestartSchedule(2), 10, 1, TimeUnit.MINUTES);
+      assertEquals(7, job.get(10, TimeUnit.SECONDS).getCost());
+      assertFalse(job.isExpired());
+      solver.close();
+      assertTrue(solver.isClosed());
+      assertFalse(executor.isShutdown());
+    } finally {
+      executor.shutdown();
+    }
+    assertThrows(IllegalArgumentException.class, () -> new BatchSolver(0));
+    assertThrows(IllegalArgumentException.class, () -> new BatchSolver(1, 0));
+    try (BatchSolver solver = new BatchSolver(1)) {
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> solver.submit(new FakeSearch(1), new ConstantRestartSchedule(1), 0));
+      assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              solver.submit(
+                  new FakeSearch(1), new ConstantRestartSchedule(1), 1, 0, TimeUnit.SECONDS));
+      assertThrows(
+          NullPointerException.class, () -> solver.submit(null, new ConstantRestartSchedule(1), 1));
+    }
+  }
+
+  @Test
+  public void testSuppliedExecutorShutDown() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(1);
+    try (BatchSolver solver = new BatchSolver(executor, 1, 1)) {
+      FakeSearch slow = new FakeSearch(3);
+      slow.sleep = 100;
+      BatchJob<TestObject> running = solver.submit(slow, new ConstantRestartSchedule(1), 5);
+      BatchJob<TestObject> queued =
+          solver.submit(new FakeSearch(4), new ConstantRestartSchedule(1), 5);
+      // The restart in progress finishes, but the executor rejects the next.
+      executor.shutdown();
+      ExecutionException e =
+          assertThrows(ExecutionException.class, () -> running.get(10, TimeUnit.SECONDS));
+      assertTrue(e.getCause() instanceof RejectedExecutionException);
+      assertEquals(1, running.getRestarts());
+      assertEquals(3, running.getProgressTracker().getCost());
+      e = assertThrows(ExecutionException.class, () -> queued.get(10, TimeUnit.SECONDS));
+      assertTrue(e.getCause() instanceof RejectedExecutionException);
+      assertEquals(0, queued.getRestarts());
+
+      BatchJob<TestObject> late =
+          solver.submit(new FakeSearch(5), new ConstantRestartSchedule(1), 5);
+      assertTrue(late.isDone());
+      e = assertThrows(ExecutionException.class, () -> late.get());
+      assertTrue(e.getCause() instanceof RejectedExecutionException);
+      assertEquals(0, solver.getPendingJobs());
+      HashSet<BatchJob<?>> done = new HashSet<BatchJob<?>>();
+      for (int i = 0; i < 3; i++) {
+        done.add(solver.poll(10, TimeUnit.SECONDS));
+      }
+      assertEquals(3, done.size());
+      assertTrue(done.contains(running) && done.contains(queued) && done.contains(late));
+    }
+  }
+
+  @Test
+  public void testWithoutCompletionQueue() throws Exception {
+    try (BatchSolver solver = new BatchSolver(null, 2, 2, false)) {
+      ArrayList<BatchJob<TestObject>> jobs = new ArrayList<BatchJob<TestObject>>();
+      for (int i = 0; i < 4; i++) {
+        jobs.add(solver.submit(new FakeSearch(i + 1), new ConstantRestartSchedule(2), 10));
+      }
+      for (int i = 0; i < 4; i++) {
+        BatchJob<TestObject> job = jobs.get(i);
+        assertEquals(i + 1, job.get(10, TimeUnit.SECONDS).getCost());
+        assertEquals(5, job.getRestarts());
+        // The run lengths of released split instances are still counted.
+        assertEquals(10, job.getTotalRunLength());
+      }
+      assertEquals(0, solver.getPendingJobs());
+      assertThrows(UnsupportedOperationException.class, () -> solver.take());
+      assertThrows(
+          UnsupportedOperationException.class, () -> solver.poll(1, TimeUnit.MILLISECONDS));
+    }
+  }
+
+  /*
+   * Each run finds a solution of a fixed cost. The configuration and counters are
+   * shared with its splits.
+   */
+  private static class FakeSearch implements Metaheuristic<TestObject> {
+
+    private ProgressTracker<TestObject> tracker;
+    private final int cost;
+    private final AtomicInteger runs;
+    private final AtomicInteger splits;
+    private long total;
+    int optimalAtRun;
+    boolean untilStopped;
+    boolean fail;
+    long sleep;
+    String name;
+    List<String> log;
+
+    FakeSearch(int cost) {
+      this(cost, new ProgressTracker<TestObject>(), new AtomicInteger(), new AtomicInteger());
+    }
+
+    private FakeSearch(
+        int cost, ProgressTracker<TestObject> tracker, AtomicInteger runs, AtomicInteger splits) {
+      this.cost = cost;
+      this.tracker = tracker;
+      this.runs = runs;
+      this.splits = splits;
+    }
+
+    @Override
+    public SolutionCostPair<TestObject> optimize(int runLength) {
+      if (fail) {
+        throw new IllegalStateException("failed");
+      }
+      int run = runs.incrementAndGet();
+      if (log != null) {
+        log.add(name);
+      }
+      try {
+        if (sleep > 0) {
+          Thread.sleep(sleep);
+        }
+        while (untilStopped && !tracker.isStopped()) {
+          Thread.sleep(1);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      total += runLength;
+      boolean optimal = run == optimalAtRun;
+      int c = optimal ? 0 : cost;
+      tracker.update(c, new TestObject(), optimal);
+      return new SolutionCostPair<TestObject>(new TestObject(), c, optimal);
+    }
+
+    @Override
+    public ProgressTracker<TestObject> getProgressTracker() {
+      return tracker;
+    }
+
+    @Override
+    public void setProgressTracker(ProgressTracker<TestObject> tracker) {
+      if (tracker != null) this.tracker = tracker;
+    }
+
+    @Override
+    public Problem<TestObject> getProblem() {
+      return null;
+    }
+
+    @Override
+    public long getTotalRunLength() {
+      return total;
+    }
+
+    @Override
+    public FakeSearch split() {
+      splits.incrementAndGet();
+      FakeSearch s = new FakeSearch(cost, tracker, runs, splits);
+      s.optimalAtRun = optimalAtRun;
+      s.untilStopped = untilStopped;
+      s.fail = fail;
+      s.sleep = sleep;
+      s.name = name;
+      s.log = log;
+      return s;
+    }
+  }
+
+  private static class TestObject implements Copyable<TestObject> {
+
+    @Override
+    public TestObject copy() {
+      return new TestObject();
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.concurrent;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.cicirello.math.rand.EnhancedSplittableGenerator;
+import org.cicirello.search.internal.RandomnessFactory;
+import org.junit.jupiter.api.*;
+
+/** JUnit tests for the internal ImprovementRateBandit class. */
+public class ImprovementRateBanditTests {
+
+  @Test
+  public void testUntriedArmsFirst() {
+    EnhancedSplittableGenerator generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    ImprovementRateBandit bandit = new ImprovementRateBandit(4);
+    boolean[] chosen = new boolean[4];
+    for (int i = 0; i < 4; i++) {
+      int arm = bandit.select(generator);
+      assertFalse(chosen[arm]);
+      chosen[arm] = true;
+    }
+    assertArrayEquals(new long[] {1, 1, 1, 1}, bandit.pulls());
+    assertArrayEquals(new long[4], bandit.improvements());
+  }
+
+  @Test
+  public void testFavorsHigherImprovementRate() {
+    EnhancedSplittableGenerator generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    ImprovementRateBandit bandit = new ImprovementRateBandit(3);
+    for (int i = 0; i < 3; i++) {
+      bandit.select(generator);
+    }
+    // arm 1 improves every millisecond, the others rarely
+    for (int i = 0; i < 50; i++) {
+      bandit.record(0, i % 25 == 0, 1000000);
+      bandit.record(1, true, 1000000);
+      bandit.record(2, i % 25 == 0, 1000000);
+    }
+    assertArrayEquals(new long[] {2, 50, 2}, bandit.improvements());
+    int[] counts = new int[3];
+    for (int i = 0; i < 1000; i++) {
+      counts[bandit.select(generator)]++;
+    }
+    assertTrue(counts[1] > 950);
+    long[] pulls = bandit.pulls();
+    assertEquals(1 + counts[0], pulls[0]);
+    assertEquals(1 + counts[1], pulls[1]);
+    assertEquals(1 + counts[2], pulls[2]);
+  }
+
+  @Test
+  public void testRunningArmsNotSampled() {
+    EnhancedSplittableGenerator generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    ImprovementRateBandit bandit = new ImprovementRateBandit(3);
+    for (int i = 0; i < 3; i++) {
+      bandit.select(generator);
+    }
+    // No pull has completed, so the arms are chosen evenly.
+    for (int i = 0; i < 6; i++) {
+      bandit.select(generator);
+    }
+    assertArrayEquals(new long[] {3, 3, 3}, bandit.pulls());
+    // Only arm 2 has completed a pull, and with no improvement, so the other arms'
+    // pulls that are still running must not be mistaken for very high rates.
+    bandit.record(2, false, 1000000);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(2, bandit.select(generator));
+    }
+  }
+
+  @Test
+  public void testNextGamma() {
+    // A sporadic failure is not necessarily a real failure, but it should fail
+    // with very low probability.
+    EnhancedSplittableGenerator generator = RandomnessFactory.createEnhancedSplittableGenerator();
+    final int N = 20000;
+    for (double shape : new double[] {1.0, 2.0, 7.5}) {
+      double sum = 0;
+      double sumSquares = 0;
+      for (int i = 0; i < N; i++) {
+        double x = ImprovementRateBandit.nextGamma(shape, generator);
+        assertTrue(x > 0);
+        sum += x;
+        sumSquares += x * x;
+      }
+      double mean = sum / N;
+      double variance = sumSquares / N - mean * mean;
+      // The mean and variance of Gamma(shape, 1) are both equal to shape.
+      assertEquals(shape, mean, 0.05 * shape);
+      assertEquals(shape, variance, 0.15 * shape);
+    }
+  }
+}
@@ -0,0 +1,251 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.concurrent;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.cicirello.search.Metaheuristic;
+import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.problems.OptimizationProblem;
+import org.cicirello.search.restarts.ConstantRestartSchedule;
+import org.cicirello.search.restarts.RestartSchedule;
+import org.cicirello.util.Copyable;
+import org.junit.jupiter.api.*;
+
+/** JUnit tests for PortfolioMultistarter. */
+public class PortfolioMultistarterTests {
+
+  @Test
+  public void testDriftsTowardImprovingArm() {
+    ProgressTracker<TestObject> tracker = new ProgressTracker<TestObject>();
+    TestProblem problem = new TestProblem();
+    ArrayList<Metaheuristic<TestObject>> arms = new ArrayList<Metaheuristic<TestObject>>();
+    arms.add(new TestSearch(tracker, problem, false, 1));
+    arms.add(new TestSearch(tracker, problem, true, 1));
+    arms.add(new TestSearch(tracker, problem, false, 1));
+    PortfolioMultistarter<TestObject> portfolio = new PortfolioMultistarter<TestObject>(arms, 5, 2);
+    assertNotNull(portfolio.optimize(300));
+    long[] restarts = portfolio.getRestartCounts();
+    assertEquals(300, restarts[0] + restarts[1] + restarts[2]);
+    assertTrue(restarts[1] > restarts[0] + restarts[2]);
+    long[] improvements = portfolio.getImprovementCounts();
+    assertEquals(restarts[1], improvements[1]);
+    assertEquals(5 * 300, portfolio.getTotalRunLength());
+
+    // learned allocation carries over to later calls
+    assertNotNull(portfolio.optimize(100));
+    long[] more = portfolio.getRestartCounts();
+    assertEquals(400, more[0] + more[1] + more[2]);
+    assertTrue(more[1] - restarts[1] > 50);
+    portfolio.close();
+    assertTrue(portfolio.isClosed());
+    assertThrows(IllegalStateException.class, () -> portfolio.optimize(1));
+  }
+
+  @Test
+  public void testSchedulesAsArms() {
+    ProgressTracker<TestObject> tracker = new ProgressTracker<TestObject>();
+    TestSearch search = new TestSearch(tracker, new TestProblem(), false, 0);
+    ArrayList<RestartSchedule> schedules = new ArrayList<RestartSchedule>();
+    schedules.add(new ConstantRestartSchedule(1));
+    schedules.add(new ConstantRestartSchedule(100));
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      PortfolioMultistarter<TestObject> portfolio =
+          new PortfolioMultistarter<TestObject>(search, schedules, 3);
+      assertNotNull(portfolio.optimize(30));
+      long[] restarts = portfolio.getRestartCounts();
+      assertEquals(30, restarts[0] + restarts[1]);
+      assertEquals(restarts[0] + 100 * restarts[1], portfolio.getTotalRunLength());
+
+      PortfolioMultistarter<TestObject> split = portfolio.split();
+      assertArrayEquals(new long[2], split.getRestartCounts());
+      assertEquals(0, split.getTotalRunLength());
+      portfolio.close();
+      assertFalse(split.isClosed());
+      split.close();
+
+      ArrayList<Metaheuristic<TestObject>> arms = new ArrayList<Metaheuristic<TestObject>>();
+      arms.add(search);
+      arms.add(search.split());
+      PortfolioMultistarter<TestObject> shared =
+          new PortfolioMultistarter<TestObject>(arms, schedules, 4, executor);
+      assertNotNull(shared.optimize(20));
+      shared.close();
+      assertTrue(shared.isClosed());
+      assertFalse(executor.isShutdown());
+    }
+  }
+
+  @Test
+  public void testStopsWhenBestFound() {
+    ProgressTracker<TestObject> tracker = new ProgressTracker<TestObject>();
+    TestProblem problem = new TestProblem();
+    ArrayList<Metaheuristic<TestObject>> arms = new ArrayList<Metaheuristic<TestObject>>();
+    arms.add(new TestSearch(tracker, problem, true, 0));
+    arms.add(new TestSearch(tracker, problem, true, 0));
+    PortfolioMultistarter<TestObject> portfolio = new PortfolioMultistarter<TestObject>(arms, 1, 2);
+    tracker.update(0, new TestObject(), true);
+    assertNull(portfolio.optimize(10));
+    assertEquals(0, portfolio.getTotalRunLength());
+    portfolio.close();
+  }
+
+  @Test
+  public void testTrackerAndProblem() {
+    ProgressTracker<TestObject> tracker = new ProgressTracker<TestObject>();
+    TestProblem problem = new TestProblem();
+    ArrayList<Metaheuristic<TestObject>> arms = new ArrayList<Metaheuristic<TestObject>>();
+    arms.add(new TestSearch(tracker, problem, true, 0));
+    arms.add(new TestSearch(tracker, problem, false, 0));
+    PortfolioMultistarter<TestObject> portfolio = new PortfolioMultistarter<TestObject>(arms, 1, 2);
+    assertSame(problem, portfolio.getProblem());
+    assertSame(tracker, portfolio.getProgressTracker());
+    ProgressTracker<TestObject> other = new ProgressTracker<TestObject>();
+    portfolio.setProgressTracker(other);
+    assertSame(other, portfolio.getProgressTracker());
+    portfolio.setProgressTracker(null);
+    assertSame(other, portfolio.getProgressTracker());
+    portfolio.close();
+  }
+
+  @Test
+  public void testExceptions() {
+    ProgressTracker<TestObject> tracker = new ProgressTracker<TestObject>();
+    TestProblem problem = new TestProblem();
+    ArrayList<Metaheuristic<TestObject>> arms = new ArrayList<Metaheuristic<TestObject>>();
+    assertThrows(
+        IllegalArgumentException.class, () -> new PortfolioMultistarter<TestObject>(arms, 1, 1));
+    arms.add(new TestSearch(tracker, problem, true, 0));
+    assertThrows(
+        IllegalArgumentException.class, () -> new PortfolioMultistarter<TestObject>(arms, 1, 0));
+    assertThrows(
+        IllegalArgumentException.class, () -> new PortfolioMultistarter<TestObject>(arms, 0, 1));
+    ArrayList<RestartSchedule> schedules = new ArrayList<RestartSchedule>();
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new PortfolioMultistarter<TestObject>(arms, schedules, 1));
+    arms.add(new TestSearch(new ProgressTracker<TestObject>(), problem, true, 0));
+    assertThrows(
+        IllegalArgumentException.class, () -> new PortfolioMultistarter<TestObject>(arms, 1, 1));
+    arms.set(1, new TestSearch(tracker, new TestProblem(), true, 0));
+    assertThrows(
+        IllegalArgumentException.class, () -> new PortfolioMultistarter<TestObject>(arms, 1, 1));
+  }
+
+  /*
+   * An improving search always returns a solution better than the best so far, and
+   * a nonimproving search always returns a poor solution.
+   */
+  private static final class TestSearch implements Metaheuristic<TestObject> {
+
+    private ProgressTracker<TestObject> tracker;
+    private final TestProblem problem;
+    private final boolean improving;
+    private final int sleepMillis;
+    private long totalRunLength;
+
+    TestSearch(
+        ProgressTracker<TestObject> tracker,
+        TestProblem problem,
+        boolean improving,
+        int sleepMillis) {
+      this.tracker = tracker;
+      this.problem = problem;
+      this.improving = improving;
+      this.sleepMillis = sleepMillis;
+    }
+
+    @Override
+    public SolutionCostPair<TestObject> optimize(int runLength) {
+      if (sleepMillis > 0) {
+        try {
+          Thread.sleep(sleepMillis);
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      totalRunLength += runLength;
+      double cost;
+      if (improving) {
+        synchronized (tracker) {
+          cost = Math.min(tracker.getCostDouble(), 1e9) - 1;
+          tracker.update(cost, new TestObject(), false);
+        }
+      } else {
+        cost = 2e9;
+      }
+      return new SolutionCostPair<TestObject>(new TestObject(), cost, false);
+    }
+
+    @Override
+    public TestSearch split() {
+      return new TestSearch(tracker, problem, improving, sleepMillis);
+    }
+
+    @Override
+    public ProgressTracker<TestObject> getProgressTracker() {
+      return tracker;
+    }
+
+    @Override
+    public void setProgressTracker(ProgressTracker<TestObject> tracker) {
+      if (tracker != null) this.tracker = tracker;
+    }
+
+    @Override
+    public OptimizationProblem<TestObject> getProblem() {
+      return problem;
+    }
+
+    @Override
+    public long getTotalRunLength() {
+      return totalRunLength;
+    }
+  }
+
+  private static final class TestObject implements Copyable<TestObject> {
+    @Override
+    public TestObject copy() {
+      return new TestObject();
+    }
+  }
+
+  private static final class TestProblem implements OptimizationProblem<TestObject> {
+    @Override
+    public double cost(TestObject o) {
+      return 10;
+    }
+
+    @Override
+    public double value(TestObject o) {
+      return 10;
+    }
+
+    @Override
+    public double minCost() {
+      return 0;
+    }
+  }
+}
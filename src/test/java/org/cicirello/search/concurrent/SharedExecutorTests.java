@@ -0,0 +1,169 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.concurrent;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.cicirello.search.Metaheuristic;
+import org.cicirello.search.ReoptimizableMetaheuristic;
+import org.cicirello.search.restarts.ConstantRestartSchedule;
+import org.junit.jupiter.api.*;
+
+/** JUnit tests for parallel searches that use an executor supplied by the caller. */
+public class SharedExecutorTests extends ParallelMultistarterValidator {
+
+  private final ReoptimizeValidator validator = new ReoptimizeValidator();
+
+  @Test
+  public void testParallelMultistarterFixedThreadPool() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      for (int r = 1; r <= 1000; r *= 10) {
+        TestRestartedMetaheuristic heur = new TestRestartedMetaheuristic();
+        ParallelMultistarter<TestObject> restarter =
+            new ParallelMultistarter<TestObject>(heur, r, 3, executor);
+        validator.verifyConstantLength(restarter, heur, r, 3, 3);
+        restarter.close();
+        assertTrue(restarter.isClosed());
+        assertFalse(executor.isShutdown());
+        assertThrows(IllegalStateException.class, () -> restarter.optimize(1));
+      }
+      TestRestartedMetaheuristic heur = new TestRestartedMetaheuristic();
+      ParallelMultistarter<TestObject> restarter =
+          new ParallelMultistarter<TestObject>(heur, new ConstantRestartSchedule(10), 2, executor);
+      validator.verifyConstantLength(restarter, heur, 10, 2, 2);
+      restarter.close();
+      assertFalse(executor.isShutdown());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testVirtualThreads() {
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      TestRestartedMetaheuristic heur = new TestRestartedMetaheuristic();
+      ParallelReoptimizableMultistarter<TestObject> restarter =
+          new ParallelReoptimizableMultistarter<TestObject>(heur, 100, 4, executor);
+      validator.verifyConstantLength(restarter, heur, 100, 2, 4);
+      restarter.close();
+      assertFalse(executor.isShutdown());
+
+      heur = new TestRestartedMetaheuristic();
+      restarter =
+          new ParallelReoptimizableMultistarter<TestObject>(
+              heur, new ConstantRestartSchedule(100), 4, executor);
+      validator.verifyConstantLengthRe(restarter, heur, 100, 2, 4);
+      restarter.close();
+      assertFalse(executor.isShutdown());
+    }
+  }
+
+  @Test
+  public void testSplitSharesExecutor() {
+    ExecutorService executor = Executors.newFixedThreadPool(1);
+    try {
+      TestRestartedMetaheuristic heur = new TestRestartedMetaheuristic();
+      ParallelMetaheuristic<TestObject> search =
+          new ParallelMetaheuristic<TestObject>(heur, 2, executor);
+      ParallelMetaheuristic<TestObject> split = search.split();
+      search.close();
+      assertTrue(search.isClosed());
+      assertFalse(split.isClosed());
+      assertNotNull(split.optimize(10));
+      assertEquals(20, split.getTotalRunLength());
+      split.close();
+      assertFalse(executor.isShutdown());
+      assertTrue(search.split().isClosed());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testShutdownExecutorClosesSearch() {
+    ExecutorService executor = Executors.newFixedThreadPool(1);
+    TestRestartedMetaheuristic heur = new TestRestartedMetaheuristic();
+    ParallelMetaheuristic<TestObject> search =
+        new ParallelMetaheuristic<TestObject>(heur, 2, executor);
+    assertFalse(search.isClosed());
+    executor.shutdown();
+    assertTrue(search.isClosed());
+    assertThrows(IllegalStateException.class, () -> search.optimize(1));
+  }
+
+  @Test
+  public void testCollectionConstructors() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      ArrayList<Metaheuristic<TestObject>> heurs = new ArrayList<Metaheuristic<TestObject>>();
+      ArrayList<ReoptimizableMetaheuristic<TestObject>> reheurs =
+          new ArrayList<ReoptimizableMetaheuristic<TestObject>>();
+      TestProblem problem = new TestProblem();
+      for (int i = 0; i < 2; i++) {
+        TestRestartedMetaheuristic h = new TestRestartedMetaheuristic(problem);
+        h.setProgressTracker(i == 0 ? h.getProgressTracker() : heurs.get(0).getProgressTracker());
+        heurs.add(h);
+        reheurs.add(h);
+      }
+      ParallelMetaheuristic<TestObject> search =
+          new ParallelMetaheuristic<TestObject>(heurs, executor);
+      assertNotNull(search.optimize(5));
+      assertEquals(10, search.getTotalRunLength());
+      search.close();
+      ParallelReoptimizableMetaheuristic<TestObject> research =
+          new ParallelReoptimizableMetaheuristic<TestObject>(reheurs, executor);
+      assertNotNull(research.reoptimize(5));
+      assertEquals(20, research.getTotalRunLength());
+      research.close();
+      assertFalse(executor.isShutdown());
+
+      TestRestartedMetaheuristic heur = new TestRestartedMetaheuristic();
+      research = new ParallelReoptimizableMetaheuristic<TestObject>(heur, 3, executor);
+      assertNotNull(research.reoptimize(5));
+      assertEquals(15, research.getTotalRunLength());
+      research.close();
+      assertFalse(executor.isShutdown());
+    } finally {
+      executor.shutdown();
+    }
+    assertThrows(
+        NullPointerException.class,
+        () ->
+            new ParallelMetaheuristic<TestObject>(
+                new TestRestartedMetaheuristic(), 2, (ExecutorService) null));
+  }
+
+  @Test
+  public void testOwnedThreadPool() {
+    TestRestartedMetaheuristic heur = new TestRestartedMetaheuristic();
+    ParallelMetaheuristic<TestObject> search = new ParallelMetaheuristic<TestObject>(heur, 2);
+    ParallelMetaheuristic<TestObject> split = search.split();
+    search.close();
+    assertTrue(search.isClosed());
+    assertFalse(split.isClosed());
+    split.close();
+    assertTrue(split.isClosed());
+  }
+}
@@ -24,6 +24,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.cicirello.search.ProgressTracker;
 import org.cicirello.search.SolutionCostPair;
 import org.cicirello.search.restarts.ConstantRestartSchedule;
@@ -154,6 +156,38 @@ public class TimedParallelMultistarterTests extends TimedParallelMultistarterVal
         assertThrows(IllegalStateException.class, () -> restarter.optimize(1));
   }
 
+  @Test
+  public void testSuppliedExecutor() {
+    ProgressTracker<TestObject> tracker = new ProgressTracker<TestObject>();
+    TestProblem problem = new TestProblem();
+    TestRestartedMetaheuristic heur = new TestRestartedMetaheuristic(1, tracker, problem);
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      TimedParallelMultistarter<TestObject> restarter =
+          new TimedParallelMultistarter<TestObject>(heur, 1, 3, executor);
+      restarter.setTimeUnit(20);
+      assertNotNull(restarter.optimize(1));
+      assertTrue(restarter.getTotalRunLength() > 0);
+      TimedParallelMultistarter<TestObject> split = restarter.split();
+      restarter.close();
+      assertTrue(restarter.isClosed());
+      assertFalse(executor.isShutdown());
+      assertThrows(IllegalStateException.class, () -> restarter.optimize(1));
+      assertFalse(split.isClosed());
+      split.setTimeUnit(20);
+      assertNotNull(split.optimize(1));
+      split.close();
+      assertFalse(executor.isShutdown());
+
+      TimedParallelMultistarter<TestObject> scheduled =
+          new TimedParallelMultistarter<TestObject>(
+              heur, new ConstantRestartSchedule(1), 2, executor);
+      scheduled.setTimeUnit(20);
+      assertNotNull(scheduled.optimize(1));
+      scheduled.close();
+      assertFalse(executor.isShutdown());
+    }
+  }
+
   @Test
   public void testOptimizeMetaheuristicThrowsException() {
     ProgressTracker<TestObject> tracker = new ProgressTracker<TestObject>();
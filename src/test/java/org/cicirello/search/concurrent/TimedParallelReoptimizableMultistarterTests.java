@@ -24,6 +24,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.cicirello.search.ProgressTracker;
 import org.cicirello.search.SolutionCostPair;
 import org.cicirello.search.restarts.ConstantRestartSchedule;
@@ -168,6 +170,39 @@ public class TimedParallelReoptimizableMultistarterTests
         assertThrows(IllegalStateException.class, () -> restarter.reoptimize(1));
   }
 
+  @Test
+  public void testSuppliedExecutor_Reopt() {
+    ProgressTracker<TestObject> tracker = new ProgressTracker<TestObject>();
+    TestProblem problem = new TestProblem();
+    TestRestartedMetaheuristic heur = new TestRestartedMetaheuristic(1, tracker, problem);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      TimedParallelReoptimizableMultistarter<TestObject> restarter =
+          new TimedParallelReoptimizableMultistarter<TestObject>(heur, 1, 2, executor);
+      restarter.setTimeUnit(20);
+      assertNotNull(restarter.reoptimize(1));
+      TimedParallelReoptimizableMultistarter<TestObject> split = restarter.split();
+      restarter.close();
+      assertTrue(restarter.isClosed());
+      assertFalse(executor.isShutdown());
+      assertThrows(IllegalStateException.class, () -> restarter.reoptimize(1));
+      split.setTimeUnit(20);
+      assertNotNull(split.reoptimize(1));
+      split.close();
+      assertFalse(executor.isShutdown());
+
+      TimedParallelReoptimizableMultistarter<TestObject> multi =
+          new TimedParallelReoptimizableMultistarter<TestObject>(
+              new ReoptimizableMultistarter<TestObject>(heur, 1), 2, executor);
+      multi.setTimeUnit(20);
+      assertNotNull(multi.reoptimize(1));
+      multi.close();
+      assertFalse(executor.isShutdown());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   @Test
   public void testSetProgressTrackerNull_Reopt() {
     ProgressTracker<TestObject> tracker = new ProgressTracker<TestObject>();
@@ -0,0 +1,269 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.concurrent;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.cicirello.search.Metaheuristic;
+import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.problems.OptimizationProblem;
+import org.cicirello.search.restarts.ConstantRestartSchedule;
+import org.cicirello.search.restarts.LubyRestarts;
+import org.cicirello.search.restarts.RestartSchedule;
+import org.cicirello.util.Copyable;
+import org.junit.jupiter.api.*;
+
+/** JUnit tests for WorkStealingMultistarter. */
+public class WorkStealingMultistarterTests {
+
+  @Test
+  public void testRestartCountAndRunLengths() {
+    RecordingSearch search = new RecordingSearch(false);
+    WorkStealingMultistarter<TestObject> restarter =
+        new WorkStealingMultistarter<TestObject>(search, new LubyRestarts(1), 3);
+    assertEquals(0, restarter.getTotalRunLength());
+    assertNotNull(restarter.optimize(7));
+    // Luby sequence: 1, 1, 2, 1, 1, 2, 4 for each of the 3 schedules
+    ArrayList<Integer> expected = new ArrayList<Integer>();
+    for (int i = 0; i < 3; i++) {
+      Collections.addAll(expected, 1, 1, 2, 1, 1, 2, 4);
+    }
+    assertEquals(3 * 12, restarter.getTotalRunLength());
+    assertEquals(sorted(expected), sorted(search.allRuns()));
+
+    // schedules continue where they left off: 1, 1, 2, 1, 1, 2, 4, 1
+    assertNotNull(restarter.optimize(1));
+    for (int i = 0; i < 3; i++) {
+      expected.add(1);
+    }
+    assertEquals(3 * 13, restarter.getTotalRunLength());
+    assertEquals(sorted(expected), sorted(search.allRuns()));
+    restarter.close();
+    assertTrue(restarter.isClosed());
+    assertThrows(IllegalStateException.class, () -> restarter.optimize(1));
+  }
+
+  @Test
+  public void testIdleThreadsStealRestarts() {
+    RecordingSearch search = new RecordingSearch(true);
+    ArrayList<RestartSchedule> schedules = new ArrayList<RestartSchedule>();
+    schedules.add(new ConstantRestartSchedule(20));
+    schedules.add(new ConstantRestartSchedule(1));
+    WorkStealingMultistarter<TestObject> restarter =
+        new WorkStealingMultistarter<TestObject>(search, schedules);
+    assertNotNull(restarter.optimize(8));
+    assertEquals(8 * 21, restarter.getTotalRunLength());
+    List<Integer> first = search.instances.get(0).runs;
+    List<Integer> second = search.instances.get(1).runs;
+    assertEquals(16, first.size() + second.size());
+    // The thread with the short runs takes over some of the long runs.
+    assertTrue(second.contains(20));
+    assertTrue(first.size() < 8);
+    restarter.close();
+  }
+
+  @Test
+  public void testSuppliedExecutorAndSplit() {
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      RecordingSearch search = new RecordingSearch(false);
+      WorkStealingMultistarter<TestObject> restarter =
+          new WorkStealingMultistarter<TestObject>(
+              search, ConstantRestartSchedule.createRestartSchedules(4, 10), executor);
+      WorkStealingMultistarter<TestObject> split = restarter.split();
+      assertNotNull(restarter.optimize(5));
+      assertEquals(200, restarter.getTotalRunLength());
+      restarter.close();
+      assertTrue(restarter.isClosed());
+      assertFalse(executor.isShutdown());
+      assertEquals(0, split.getTotalRunLength());
+      assertNotNull(split.optimize(2));
+      assertEquals(80, split.getTotalRunLength());
+      assertEquals(200, restarter.getTotalRunLength());
+      split.close();
+      assertFalse(executor.isShutdown());
+      assertTrue(restarter.split().isClosed());
+    }
+  }
+
+  @Test
+  public void testStopsWhenBestFound() {
+    RecordingSearch search = new RecordingSearch(false);
+    search.findBestAt = 5;
+    WorkStealingMultistarter<TestObject> restarter =
+        new WorkStealingMultistarter<TestObject>(search, 1, 2);
+    SolutionCostPair<TestObject> pair = restarter.optimize(100);
+    assertNotNull(pair);
+    assertTrue(restarter.getProgressTracker().didFindBest());
+    assertTrue(search.allRuns().size() < 200);
+    long length = restarter.getTotalRunLength();
+    assertNull(restarter.optimize(100));
+    assertEquals(length, restarter.getTotalRunLength());
+    restarter.close();
+  }
+
+  @Test
+  public void testTrackerAndProblem() {
+    RecordingSearch search = new RecordingSearch(false);
+    WorkStealingMultistarter<TestObject> restarter =
+        new WorkStealingMultistarter<TestObject>(search, 1, 3);
+    assertSame(search.getProblem(), restarter.getProblem());
+    assertSame(search.getProgressTracker(), restarter.getProgressTracker());
+    ProgressTracker<TestObject> tracker = new ProgressTracker<TestObject>();
+    restarter.setProgressTracker(tracker);
+    assertSame(tracker, restarter.getProgressTracker());
+    for (RecordingSearch s : search.instances) {
+      assertSame(tracker, s.getProgressTracker());
+    }
+    restarter.setProgressTracker(null);
+    assertSame(tracker, restarter.getProgressTracker());
+    restarter.close();
+  }
+
+  @Test
+  public void testExceptions() {
+    RecordingSearch search = new RecordingSearch(false);
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new WorkStealingMultistarter<TestObject>(search, 1, 0));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new WorkStealingMultistarter<TestObject>(search, 0, 1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new WorkStealingMultistarter<TestObject>(search, new ArrayList<RestartSchedule>()));
+  }
+
+  private static ArrayList<Integer> sorted(List<Integer> list) {
+    ArrayList<Integer> s = new ArrayList<Integer>(list);
+    Collections.sort(s);
+    return s;
+  }
+
+  private static final class RecordingSearch implements Metaheuristic<TestObject> {
+
+    private ProgressTracker<TestObject> tracker;
+    private final TestProblem problem;
+    private final boolean sleep;
+    private final List<RecordingSearch> instances;
+    private final List<Integer> runs;
+    private long totalRunLength;
+    private volatile int findBestAt;
+
+    RecordingSearch(boolean sleep) {
+      this.sleep = sleep;
+      tracker = new ProgressTracker<TestObject>();
+      problem = new TestProblem();
+      instances = Collections.synchronizedList(new ArrayList<RecordingSearch>());
+      instances.add(this);
+      runs = new ArrayList<Integer>();
+      findBestAt = Integer.MAX_VALUE;
+    }
+
+    RecordingSearch(RecordingSearch other) {
+      sleep = other.sleep;
+      tracker = other.tracker;
+      problem = other.problem;
+      instances = other.instances;
+      instances.add(this);
+      runs = new ArrayList<Integer>();
+      findBestAt = other.findBestAt;
+    }
+
+    List<Integer> allRuns() {
+      ArrayList<Integer> all = new ArrayList<Integer>();
+      for (RecordingSearch s : instances) {
+        all.addAll(s.runs);
+      }
+      return all;
+    }
+
+    @Override
+    public SolutionCostPair<TestObject> optimize(int runLength) {
+      if (sleep) {
+        try {
+          Thread.sleep(runLength);
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      runs.add(runLength);
+      totalRunLength += runLength;
+      int cost = totalRunLength >= findBestAt ? 0 : 10;
+      tracker.update(cost, new TestObject(), cost == 0);
+      return new SolutionCostPair<TestObject>(new TestObject(), cost, cost == 0);
+    }
+
+    @Override
+    public RecordingSearch split() {
+      return new RecordingSearch(this);
+    }
+
+    @Override
+    public ProgressTracker<TestObject> getProgressTracker() {
+      return tracker;
+    }
+
+    @Override
+    public void setProgressTracker(ProgressTracker<TestObject> tracker) {
+      if (tracker != null) this.tracker = tracker;
+    }
+
+    @Override
+    public OptimizationProblem<TestObject> getProblem() {
+      return problem;
+    }
+
+    @Override
+    public long getTotalRunLength() {
+      return totalRunLength;
+    }
+  }
+
+  private static final class TestObject implements Copyable<TestObject> {
+    @Override
+    public TestObject copy() {
+      return new TestObject();
+    }
+  }
+
+  private static final class TestProblem implements OptimizationProblem<TestObject> {
+    @Override
+    public double cost(TestObject o) {
+      return 10;
+    }
+
+    @Override
+    public double value(TestObject o) {
+      return 10;
+    }
+
+    @Override
+    public double minCost() {
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,368 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.distributed;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.cicirello.permutations.Permutation;
+import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.ReoptimizableMetaheuristic;
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.SolutionCodec;
+import org.cicirello.search.operators.bits.BitFlipMutation;
+import org.cicirello.search.operators.bits.BitVectorInitializer;
+import org.cicirello.search.problems.OneMax;
+import org.cicirello.search.problems.Problem;
+import org.cicirello.search.representations.BitVector;
+import org.cicirello.search.representations.IntegerVector;
+import org.cicirello.search.representations.RealVector;
+import org.cicirello.search.restarts.ConstantRestartSchedule;
+import org.cicirello.search.sa.SimulatedAnnealing;
+import org.cicirello.util.Copyable;
+import org.junit.jupiter.api.*;
+
+/** JUnit test cases for distributed search over loopback TCP. */
+public class DistributedTests {
+
+  @Test
+  public void testTcpTransport() throws IOException {
+    try (TcpTransport.Listener listener = new TcpTransport.Listener(0);
+        TcpTransport worker = TcpTransport.connect(listener.getAddress());
+        TcpTransport coordinator = listener.accept()) {
+      assertTrue(listener.getPort() > 0);
+
+      Permutation p = new Permutation(20);
+      worker.send(Messages.solution(new SolutionCostPair<Permutation>(p, 7, false), perm()));
+      SolutionCostPair<Permutation> pp = receiveSolution(coordinator, perm());
+      assertEquals(p, pp.getSolution());
+      assertEquals(7, pp.getCost());
+      assertFalse(pp.containsKnownOptimal());
+
+      BitVector b = new BitVector(77, true);
+      coordinator.send(
+          Messages.solution(
+              new SolutionCostPair<BitVector>(b, 0, true), SolutionCodec.bitVector()));
+      SolutionCostPair<BitVector> bp = receiveSolution(worker, SolutionCodec.bitVector());
+      assertEquals(b, bp.getSolution());
+      assertTrue(bp.containsKnownOptimal());
+
+      IntegerVector iv = new IntegerVector(new int[] {5, -3, 8});
+      worker.send(
+          Messages.solution(
+              new SolutionCostPair<IntegerVector>(iv, 2.5, false), SolutionCodec.integerVector()));
+      SolutionCostPair<IntegerVector> ip =
+          receiveSolution(coordinator, SolutionCodec.integerVector());
+      assertEquals(iv, ip.getSolution());
+      assertFalse(ip.containsIntCost());
+      assertEquals(2.5, ip.getCostDouble());
+
+      RealVector rv = new RealVector(new double[] {1.5, -2.25});
+      worker.send(
+          Messages.solution(
+              new SolutionCostPair<RealVector>(rv, -1.0, false), SolutionCodec.realVector()));
+      SolutionCostPair<RealVector> rp = receiveSolution(coordinator, SolutionCodec.realVector());
+      assertEquals(rv, rp.getSolution());
+      assertEquals(-1.0, rp.getCostDouble());
+
+      coordinator.send(Messages.stop());
+      assertEquals(Messages.STOP, worker.receive().getInt());
+      worker.send(Messages.done(12345L));
+      CheckpointReader in = coordinator.receive();
+      assertEquals(Messages.DONE, in.getInt());
+      assertEquals(12345L, in.getLong());
+
+      worker.close();
+      assertNull(coordinator.receive());
+    }
+  }
+
+  @Test
+  public void testTcpTransportMaxMessageSize() throws IOException {
+    assertThrows(IllegalArgumentException.class, () -> new TcpTransport.Listener(0, 7));
+    try (TcpTransport.Listener listener = new TcpTransport.Listener(0, 64);
+        TcpTransport worker = TcpTransport.connect(listener.getAddress(), 8);
+        TcpTransport coordinator = listener.accept()) {
+      assertThrows(
+          IllegalArgumentException.class, () -> TcpTransport.connect(listener.getAddress(), 7));
+      CheckpointWriter atLimit = new CheckpointWriter().putIntArray(new int[13]);
+      assertEquals(64, atLimit.size());
+      worker.send(atLimit);
+      assertEquals(13, coordinator.receive().getIntArray().length);
+      worker.send(new CheckpointWriter().putIntArray(new int[14]));
+      assertThrows(IOException.class, () -> coordinator.receive());
+      // The worker's side only accepts an empty checkpoint.
+      coordinator.send(new CheckpointWriter());
+      assertEquals(0, worker.receive().remaining());
+      coordinator.send(Messages.stop());
+      assertThrows(IOException.class, () -> worker.receive());
+    }
+  }
+
+  @Test
+  public void testUndecodableMessageDisconnects() throws Exception {
+    try (TcpTransport.Listener listener = new TcpTransport.Listener(0);
+        DistributedCoordinator<BitVector> coordinator =
+            new DistributedCoordinator<BitVector>(SolutionCodec.bitVector());
+        TcpTransport worker = TcpTransport.connect(listener.getAddress())) {
+      coordinator.addWorker(listener.accept());
+      // A 64-bit BitVector with only 32 bits, which the codec rejects.
+      worker.send(
+          new CheckpointWriter()
+              .putInt(Messages.SOLUTION)
+              .putBoolean(true)
+              .putInt(5)
+              .putBoolean(false)
+              .putInt(64)
+              .putIntArray(new int[1]));
+      assertTrue(coordinator.awaitCompletion(10, TimeUnit.SECONDS));
+      assertNull(coordinator.getProgressTracker().getSolution());
+      // The coordinator closes its side of a worker that it treats as disconnected.
+      assertNull(worker.receive());
+    }
+  }
+
+  @Test
+  public void testSolutionExchange() throws Exception {
+    try (TcpTransport.Listener listener = new TcpTransport.Listener(0);
+        DistributedCoordinator<BitVector> coordinator =
+            new DistributedCoordinator<BitVector>(SolutionCodec.bitVector())) {
+      FixedCost a = new FixedCost(5, false);
+      FixedCost b = new FixedCost(10, false);
+      DistributedWorker<BitVector> workerA = connect(a, listener, coordinator);
+      DistributedWorker<BitVector> workerB = connect(b, listener, coordinator);
+
+      workerB.optimize(1);
+      awaitTrue(() -> a.getProgressTracker().getCost() == 10);
+      assertEquals(10, coordinator.getProgressTracker().getCost());
+
+      // The island model worker continues from the solution that migrated from the other.
+      assertEquals(5, workerA.optimize(1).getCost());
+      assertEquals(1, a.reoptimizations);
+      assertEquals(0, b.reoptimizations);
+      awaitTrue(() -> b.getProgressTracker().getCost() == 5);
+      assertEquals(5, coordinator.getProgressTracker().getCost());
+
+      assertEquals(5, workerB.optimize(2).getCost());
+      assertEquals(2, b.reoptimizations);
+      assertEquals(3, workerB.getTotalRunLength());
+
+      // A worker that joins late receives the best known solution.
+      FixedCost c = new FixedCost(20, false);
+      DistributedWorker<BitVector> workerC = connect(c, listener, coordinator);
+      awaitTrue(() -> c.getProgressTracker().getCost() == 5);
+
+      assertFalse(coordinator.awaitCompletion(10, TimeUnit.MILLISECONDS));
+      workerA.close();
+      workerB.close();
+      workerC.close();
+      workerC.close();
+      assertTrue(coordinator.awaitCompletion(10, TimeUnit.SECONDS));
+      assertEquals(4, coordinator.getTotalRunLength());
+      assertFalse(a.getProgressTracker().isStopped());
+    }
+  }
+
+  @Test
+  public void testStopSignals() throws Exception {
+    try (TcpTransport.Listener listener = new TcpTransport.Listener(0);
+        DistributedCoordinator<BitVector> coordinator =
+            new DistributedCoordinator<BitVector>(SolutionCodec.bitVector())) {
+      FixedCost optimal = new FixedCost(0, true);
+      FixedCost other = new FixedCost(3, false);
+      DistributedWorker<BitVector> workerA = connect(optimal, listener, coordinator);
+      DistributedWorker<BitVector> workerB = connect(other, listener, coordinator);
+      workerA.optimize(5);
+      assertEquals(1, optimal.runs);
+      awaitTrue(() -> coordinator.getProgressTracker().didFindBest());
+      awaitTrue(() -> other.getProgressTracker().isStopped());
+      workerB.optimize(5);
+      assertEquals(0, other.runs);
+      workerA.close();
+      workerB.close();
+      assertTrue(coordinator.awaitCompletion(10, TimeUnit.SECONDS));
+    }
+
+    try (TcpTransport.Listener listener = new TcpTransport.Listener(0);
+        DistributedCoordinator<BitVector> coordinator =
+            new DistributedCoordinator<BitVector>(SolutionCodec.bitVector())) {
+      FixedCost a = new FixedCost(3, false);
+      DistributedWorker<BitVector> worker = connect(a, listener, coordinator);
+      coordinator.stop();
+      awaitTrue(() -> a.getProgressTracker().isStopped());
+      FixedCost late = new FixedCost(3, false);
+      DistributedWorker<BitVector> lateWorker = connect(late, listener, coordinator);
+      awaitTrue(() -> late.getProgressTracker().isStopped());
+      worker.close();
+      lateWorker.close();
+    }
+
+    // A worker stops if it loses its connection to the coordinator.
+    FixedCost a = new FixedCost(3, false);
+    DistributedWorker<BitVector> worker;
+    try (TcpTransport.Listener listener = new TcpTransport.Listener(0);
+        DistributedCoordinator<BitVector> coordinator =
+            new DistributedCoordinator<BitVector>(SolutionCodec.bitVector())) {
+      worker = connect(a, listener, coordinator);
+    }
+    awaitTrue(() -> a.getProgressTracker().isStopped());
+    worker.close();
+  }
+
+  @Test
+  public void testDistributedSimulatedAnnealing() throws Exception {
+    final int numWorkers = 3;
+    try (TcpTransport.Listener listener = new TcpTransport.Listener(0);
+        DistributedCoordinator<BitVector> coordinator =
+            new DistributedCoordinator<BitVector>(SolutionCodec.bitVector())) {
+      ArrayList<Thread> threads = new ArrayList<Thread>();
+      for (int i = 0; i < numWorkers; i++) {
+        SimulatedAnnealing<BitVector> sa =
+            new SimulatedAnnealing<BitVector>(
+                new OneMax(), new BitFlipMutation(0.05), new BitVectorInitializer(32));
+        DistributedWorker<BitVector> worker =
+            DistributedWorker.start(
+                sa,
+                new ConstantRestartSchedule(1000),
+                SolutionCodec.bitVector(),
+                TcpTransport.connect(listener.getAddress()));
+        Thread t =
+            new Thread(
+                () -> {
+                  try (worker) {
+                    worker.optimize(1000);
+                  }
+                });
+        t.start();
+        threads.add(t);
+        coordinator.addWorker(listener.accept());
+      }
+      assertTrue(coordinator.awaitCompletion(60, TimeUnit.SECONDS));
+      for (Thread t : threads) {
+        t.join();
+      }
+      assertTrue(coordinator.getProgressTracker().didFindBest());
+      assertEquals(0, coordinator.getProgressTracker().getCost());
+      assertEquals(0, coordinator.getProgressTracker().getSolution().countZeros());
+      assertTrue(coordinator.getTotalRunLength() > 0);
+    }
+  }
+
+  private static DistributedWorker<BitVector> connect(
+      FixedCost search,
+      TcpTransport.Listener listener,
+      DistributedCoordinator<BitVector> coordinator)
+      throws IOException {
+    DistributedWorker<BitVector> worker =
+        DistributedWorker.start(
+            search,
+            new ConstantRestartSchedule(1),
+            SolutionCodec.bitVector(),
+            TcpTransport.connect(listener.getAddress()));
+    coordinator.addWorker(listener.accept());
+    return worker;
+  }
+
+  private static <T extends Copyable<T>> SolutionCostPair<T> receiveSolution(
+      TcpTransport transport, SolutionCodec<T> codec) throws IOException {
+    CheckpointReader in = transport.receive();
+    assertEquals(Messages.SOLUTION, in.getInt());
+    SolutionCostPair<T> pair = Messages.readSolution(in, codec);
+    assertEquals(0, in.remaining());
+    return pair;
+  }
+
+  private static SolutionCodec<Permutation> perm() {
+    return SolutionCodec.permutation();
+  }
+
+  private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.nanoTime() < deadline);
+      Thread.sleep(5);
+    }
+  }
+
+  /*
+   * Each run finds a solution of a fixed cost, whose bits are the cost.
+   */
+  private static class FixedCost implements ReoptimizableMetaheuristic<BitVector> {
+
+    private ProgressTracker<BitVector> tracker = new ProgressTracker<BitVector>();
+    private final int cost;
+    private final boolean isOptimal;
+    private long total;
+    volatile int runs;
+    volatile int reoptimizations;
+
+    FixedCost(int cost, boolean isOptimal) {
+      this.cost = cost;
+      this.isOptimal = isOptimal;
+    }
+
+    @Override
+    public SolutionCostPair<BitVector> optimize(int runLength) {
+      runs++;
+      total += runLength;
+      BitVector b = new BitVector(32);
+      b.setBit(0, cost & 1);
+      tracker.update(cost, b, isOptimal);
+      return new SolutionCostPair<BitVector>(b, cost, isOptimal);
+    }
+
+    @Override
+    public SolutionCostPair<BitVector> reoptimize(int runLength) {
+      reoptimizations++;
+      return optimize(runLength);
+    }
+
+    @Override
+    public ProgressTracker<BitVector> getProgressTracker() {
+      return tracker;
+    }
+
+    @Override
+    public void setProgressTracker(ProgressTracker<BitVector> tracker) {
+      if (tracker != null) this.tracker = tracker;
+    }
+
+    @Override
+    public Problem<BitVector> getProblem() {
+      return null;
+    }
+
+    @Override
+    public long getTotalRunLength() {
+      return total;
+    }
+
+    @Override
+    public FixedCost split() {
+      return new FixedCost(cost, isOptimal);
+    }
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.evo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.*;
+
+/**
+ * JUnit test cases for AliasMethodSelection, BiasedAliasMethodSelection, and
+ * BoltzmannAliasMethodSelection.
+ */
+public class AliasMethodSelectionTests extends SharedTestSelectionOperators {
+
+  @Test
+  public void testAliasMethodSelection() {
+    AliasMethodSelection selection = new AliasMethodSelection();
+    validateIndexes_Double(selection);
+    validateIndexes_Integer(selection);
+    AliasMethodSelection selection2 = selection.split();
+    validateIndexes_Double(selection2);
+    validateIndexes_Integer(selection2);
+
+    validateHigherFitnessSelectedMoreOften_Double(selection);
+    validateHigherFitnessSelectedMoreOften_Integer(selection);
+
+    validateAliasTable(selection, new PopFitVectorDoubleSimple(5), x -> x);
+    validateAliasTable(selection, new PopFitVectorIntegerSimple(5), x -> x);
+    validateAliasTable(selection2, new PopFitVectorDouble(8), x -> x);
+    validateAliasTable(selection2, new PopFitVectorInteger(8), x -> x);
+    validateAliasTable(selection, new PopFitVectorDoubleSimple(new int[] {3, 3, 3, 3}), x -> x);
+    validateAliasTable(selection, new PopFitVectorIntegerSimple(new int[] {1}), x -> x);
+  }
+
+  @Test
+  public void testBiasedAliasMethodSelection() {
+    BiasedAliasMethodSelection selection = new BiasedAliasMethodSelection(x -> x * x);
+    validateIndexes_Double(selection);
+    validateIndexes_Integer(selection);
+    BiasedAliasMethodSelection selection2 = selection.split();
+    validateIndexes_Double(selection2);
+    validateIndexes_Integer(selection2);
+
+    validateHigherFitnessSelectedMoreOften_Double(selection);
+    validateHigherFitnessSelectedMoreOften_Integer(selection);
+
+    validateAliasTable(selection, new PopFitVectorDoubleSimple(5), x -> x * x);
+    validateAliasTable(selection, new PopFitVectorIntegerSimple(5), x -> x * x);
+    validateAliasTable(selection2, new PopFitVectorDoubleSimple(7), x -> x * x);
+    validateAliasTable(selection2, new PopFitVectorIntegerSimple(7), x -> x * x);
+  }
+
+  @Test
+  public void testBoltzmannAliasMethodSelectionConstant() {
+    BoltzmannAliasMethodSelection selection = new BoltzmannAliasMethodSelection(2.0);
+    validateIndexes_Double(selection, false);
+    validateIndexes_Integer(selection, false);
+    BoltzmannAliasMethodSelection selection2 = selection.split();
+    validateIndexes_Double(selection2, false);
+    validateIndexes_Integer(selection2, false);
+
+    selection.init(100);
+    validateAliasTable(selection, new PopFitVectorDoubleSimple(6), x -> Math.exp(x / 2.0));
+    validateAliasTable(selection, new PopFitVectorIntegerSimple(6), x -> Math.exp(x / 2.0));
+    validateAliasTable(selection2, new PopFitVectorDoubleSimple(6), x -> Math.exp(x / 2.0));
+
+    assertThrows(IllegalArgumentException.class, () -> new BoltzmannAliasMethodSelection(0.0));
+  }
+
+  @Test
+  public void testBoltzmannAliasMethodSelectionCooling() {
+    BoltzmannAliasMethodSelection linear = new BoltzmannAliasMethodSelection(4.0, 1.0, 1.0, true);
+    linear.init(100);
+    validateAliasTable(linear, new PopFitVectorDoubleSimple(6), x -> Math.exp(x / 4.0));
+    validateAliasTable(linear, new PopFitVectorIntegerSimple(6), x -> Math.exp(x / 3.0));
+    validateAliasTable(linear, new PopFitVectorDoubleSimple(6), x -> Math.exp(x / 2.0));
+    validateAliasTable(linear, new PopFitVectorIntegerSimple(6), x -> Math.exp(x));
+    validateAliasTable(linear, new PopFitVectorDoubleSimple(6), x -> Math.exp(x));
+    linear.init(100);
+    validateAliasTable(linear, new PopFitVectorDoubleSimple(6), x -> Math.exp(x / 4.0));
+
+    BoltzmannAliasMethodSelection exponential =
+        new BoltzmannAliasMethodSelection(4.0, 1.0, 0.5, false);
+    exponential.init(100);
+    validateAliasTable(exponential, new PopFitVectorDoubleSimple(6), x -> Math.exp(x / 4.0));
+    validateAliasTable(exponential, new PopFitVectorIntegerSimple(6), x -> Math.exp(x / 2.0));
+    validateAliasTable(exponential, new PopFitVectorDoubleSimple(6), x -> Math.exp(x));
+    validateAliasTable(exponential, new PopFitVectorDoubleSimple(6), x -> Math.exp(x));
+    BoltzmannAliasMethodSelection split = exponential.split();
+    split.init(100);
+    validateAliasTable(split, new PopFitVectorDoubleSimple(6), x -> Math.exp(x / 4.0));
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new BoltzmannAliasMethodSelection(1.0, 0.0, 0.5, false));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new BoltzmannAliasMethodSelection(1.0, 2.0, 0.5, false));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new BoltzmannAliasMethodSelection(2.0, 1.0, 0.0, true));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new BoltzmannAliasMethodSelection(2.0, 1.0, 1.0, false));
+  }
+
+  @Test
+  public void testBuffersReusedAcrossPopulationSizes() {
+    AliasMethodSelection selection = new AliasMethodSelection();
+    validateAliasTable(selection, new PopFitVectorDoubleSimple(8), x -> x);
+    double[] prob = selection.probabilities();
+    validateAliasTable(selection, new PopFitVectorDoubleSimple(5), x -> x);
+    assertSame(prob, selection.probabilities());
+    validateAliasTable(selection, new PopFitVectorDoubleSimple(8), x -> x);
+    assertSame(prob, selection.probabilities());
+    validateAliasTable(selection, new PopFitVectorDoubleSimple(9), x -> x);
+    assertNotSame(prob, selection.probabilities());
+  }
+
+  @Test
+  public void testSelectionFrequencies() {
+    // A sporadic failure is not necessarily a real failure, but it should fail
+    // with very low probability.
+    AliasMethodSelection selection = new AliasMethodSelection();
+    PopFitVectorIntegerSimple pf = new PopFitVectorIntegerSimple(new int[] {1, 2, 3, 4, 10});
+    int[] selected = new int[20000];
+    selection.select(pf, selected);
+    int[] counts = new int[pf.size()];
+    for (int s : selected) {
+      counts[s]++;
+    }
+    for (int i = 0; i < counts.length; i++) {
+      double expected = selected.length * pf.getFitness(i) / 20.0;
+      assertEquals(expected, counts[i], 0.15 * expected);
+    }
+  }
+
+  private void validateAliasTable(
+      AbstractAliasMethodSelection selection,
+      PopulationFitnessVector.Double pf,
+      FitnessBiasFunction bias) {
+    selection.select(pf, new int[pf.size()]);
+    double[] weights = new double[pf.size()];
+    for (int i = 0; i < weights.length; i++) {
+      weights[i] = bias.bias(pf.getFitness(i));
+    }
+    validateTableDistribution(selection, weights);
+  }
+
+  private void validateAliasTable(
+      AbstractAliasMethodSelection selection,
+      PopulationFitnessVector.Integer pf,
+      FitnessBiasFunction bias) {
+    selection.select(pf, new int[pf.size()]);
+    double[] weights = new double[pf.size()];
+    for (int i = 0; i < weights.length; i++) {
+      weights[i] = bias.bias(pf.getFitness(i));
+    }
+    validateTableDistribution(selection, weights);
+  }
+
+  private void validateTableDistribution(AbstractAliasMethodSelection selection, double[] weights) {
+    int n = weights.length;
+    double total = 0;
+    for (int i = 0; i < n; i++) {
+      total += weights[i];
+    }
+    double[] prob = selection.probabilities();
+    int[] alias = selection.aliases();
+    double[] p = new double[n];
+    for (int i = 0; i < n; i++) {
+      assertTrue(prob[i] >= 0.0 && prob[i] <= 1.0);
+      p[i] += prob[i] / n;
+      if (prob[i] < 1.0) {
+        assertTrue(alias[i] >= 0 && alias[i] < n);
+        p[alias[i]] += (1.0 - prob[i]) / n;
+      }
+    }
+    for (int i = 0; i < n; i++) {
+      assertEquals(weights[i] / total, p[i], 1E-10);
+    }
+  }
+}
@@ -226,6 +226,21 @@ public class BaseElitistPopulationTests extends SharedTestPopulations {
         3);
   }
 
+  @Test
+  public void testBasePopulationDouble_DeferredEvaluation() {
+    TestObject.reinit();
+    TestFitnessDoubleBatched f = new TestFitnessDoubleBatched();
+    BaseElitistPopulation.DoubleFitness<TestObject> pop =
+        new BaseElitistPopulation.DoubleFitness<TestObject>(
+            10,
+            new TestInitializer(),
+            f,
+            new TestSelectionOp(),
+            new ProgressTracker<TestObject>(),
+            3);
+    verifyDeferredEvaluation(pop, f);
+  }
+
   @Test
   public void testBasePopulationDouble_SelectCopies() {
     TestObject.reinit();
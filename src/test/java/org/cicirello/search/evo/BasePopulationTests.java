@@ -170,6 +170,16 @@ public class BasePopulationTests extends SharedTestPopulations {
         0);
   }
 
+  @Test
+  public void testBasePopulationDouble_DeferredEvaluation() {
+    TestObject.reinit();
+    TestFitnessDoubleBatched f = new TestFitnessDoubleBatched();
+    BasePopulation.DoubleFitness<TestObject> pop =
+        new BasePopulation.DoubleFitness<TestObject>(
+            10, new TestInitializer(), f, new TestSelectionOp(), new ProgressTracker<TestObject>());
+    verifyDeferredEvaluation(pop, f);
+  }
+
   @Test
   public void testBasePopulationDouble_SelectCopies() {
     TestObject.reinit();
@@ -241,4 +251,87 @@ public class BasePopulationTests extends SharedTestPopulations {
             10, new TestInitializer(), f, selection, tracker);
     verifySelectCopies(pop);
   }
+
+  @Test
+  public void testBasePopulationDouble_CopyOnWrite() {
+    TestObject.reinit();
+    ProgressTracker<TestObject> tracker = new ProgressTracker<TestObject>();
+    FixedSelectionOp selection = new FixedSelectionOp();
+    TestFitnessDouble f = new TestFitnessDouble();
+    BasePopulation.DoubleFitness<TestObject> pop =
+        new BasePopulation.DoubleFitness<TestObject>(
+            10, new TestInitializer(), f, selection, tracker);
+    verifyCopyOnWrite(pop, selection);
+  }
+
+  @Test
+  public void testBasePopulationInteger_CopyOnWrite() {
+    TestObject.reinit();
+    ProgressTracker<TestObject> tracker = new ProgressTracker<TestObject>();
+    FixedSelectionOp selection = new FixedSelectionOp();
+    TestFitnessInteger f = new TestFitnessInteger();
+    BasePopulation.IntegerFitness<TestObject> pop =
+        new BasePopulation.IntegerFitness<TestObject>(
+            10, new TestInitializer(), f, selection, tracker);
+    verifyCopyOnWrite(pop, selection);
+  }
+
+  private void verifyCopyOnWrite(Population<TestObject> pop, FixedSelectionOp selection) {
+    pop.init();
+    selection.indexes = new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+    pop.select();
+    TestObject[] original = new TestObject[10];
+    for (int i = 0; i < 10; i++) {
+      original[i] = pop.get(i);
+    }
+    pop.replace();
+
+    selection.indexes = new int[] {0, 0, 0, 1, 1, 2, 3, 4, 5, 6};
+    pop.select();
+    // all but the last member to claim a shared candidate get a copy
+    assertNotSame(original[0], pop.get(0));
+    assertNotSame(original[0], pop.get(1));
+    assertSame(original[0], pop.get(2));
+    assertEquals(original[0], pop.get(0));
+    assertEquals(original[0], pop.get(1));
+    assertNotSame(original[1], pop.get(3));
+    assertEquals(original[1], pop.get(3));
+    // candidates selected once are never copied
+    for (int i = 5; i < 10; i++) {
+      assertSame(original[i - 3], pop.get(i));
+    }
+    // member 4 is never accessed, so it still shares its candidate until replace
+    pop.replace();
+
+    selection.indexes = new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+    pop.select();
+    TestObject[] next = new TestObject[10];
+    for (int i = 0; i < 10; i++) {
+      next[i] = pop.get(i);
+      for (int j = 0; j < i; j++) {
+        assertNotSame(next[j], next[i]);
+      }
+    }
+    assertSame(original[1], next[4]);
+  }
+
+  static class FixedSelectionOp implements SelectionOperator {
+
+    int[] indexes;
+
+    @Override
+    public void select(PopulationFitnessVector.Integer fitnesses, int[] selected) {
+      System.arraycopy(indexes, 0, selected, 0, selected.length);
+    }
+
+    @Override
+    public void select(PopulationFitnessVector.Double fitnesses, int[] selected) {
+      System.arraycopy(indexes, 0, selected, 0, selected.length);
+    }
+
+    @Override
+    public FixedSelectionOp split() {
+      return new FixedSelectionOp();
+    }
+  }
 }
@@ -0,0 +1,275 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.evo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.concurrent.ParallelMetaheuristic;
+import org.cicirello.search.operators.reals.RealVectorInitializer;
+import org.cicirello.search.problems.OptimizationProblem;
+import org.cicirello.search.representations.RealVector;
+import org.cicirello.search.restarts.Multistarter;
+import org.junit.jupiter.api.*;
+
+/** JUnit test cases for CMAEvolutionStrategy. */
+public class CMAEvolutionStrategyTests {
+
+  @Test
+  public void testSphere() {
+    Ellipsoid problem = new Ellipsoid(10, 1.0, 0.0);
+    ProgressTracker<RealVector> tracker = new ProgressTracker<RealVector>();
+    CMAEvolutionStrategy cma =
+        new CMAEvolutionStrategy(problem, new RealVectorInitializer(10, -5, 5), 2.0, tracker);
+    assertSame(problem, cma.getProblem());
+    assertSame(tracker, cma.getProgressTracker());
+    assertEquals(0L, cma.getTotalRunLength());
+    SolutionCostPair<RealVector> solution = cma.optimize(20000);
+    assertTrue(solution.getCostDouble() < 1E-8);
+    assertEquals(solution.getCostDouble(), tracker.getCostDouble());
+    assertTrue(cma.getTotalRunLength() > 0 && cma.getTotalRunLength() <= 20000);
+    assertEquals(problem.evaluations(), cma.getTotalRunLength());
+    assertEquals(problem.cost(solution.getSolution()), solution.getCostDouble());
+  }
+
+  @Test
+  public void testIllConditionedRotated() {
+    // Rotation makes the ellipsoid non-separable, and mutation-based EAs struggle
+    // with its condition number of 10^6.
+    Ellipsoid problem = new Ellipsoid(8, 1E6, Math.PI / 5);
+    CMAEvolutionStrategy cma =
+        new CMAEvolutionStrategy(problem, new RealVectorInitializer(8, -5, 5), 2.0);
+    SolutionCostPair<RealVector> solution = cma.optimize(40000);
+    assertTrue(solution.getCostDouble() < 1E-6, "cost: " + solution.getCostDouble());
+  }
+
+  @Test
+  public void testStopsAtMinCost() {
+    Ellipsoid problem = new Ellipsoid(5, 1.0, 0.0, 1E-6);
+    CMAEvolutionStrategy cma =
+        new CMAEvolutionStrategy(problem, new RealVectorInitializer(5, -5, 5), 2.0);
+    SolutionCostPair<RealVector> solution = cma.optimize(1000000);
+    assertTrue(solution.containsKnownOptimal());
+    assertTrue(cma.getProgressTracker().didFindBest());
+    assertTrue(cma.getTotalRunLength() < 1000000);
+    long length = cma.getTotalRunLength();
+    assertNull(cma.optimize(1000));
+    assertNull(cma.reoptimize(1000));
+    assertEquals(length, cma.getTotalRunLength());
+  }
+
+  @Test
+  public void testRestartsUseBudget() {
+    // Multimodal Rastrigin, so IPOP restarts are needed to use the whole budget.
+    Rastrigin problem = new Rastrigin(4);
+    CMAEvolutionStrategy cma =
+        new CMAEvolutionStrategy(problem, new RealVectorInitializer(4, -5, 5), 2.0, 6, tracker());
+    cma.optimize(30000);
+    long length = cma.getTotalRunLength();
+    assertTrue(length > 20000 && length <= 30000, "length: " + length);
+    assertTrue(cma.getProgressTracker().getCostDouble() < 2.0);
+  }
+
+  @Test
+  public void testReoptimize() {
+    Ellipsoid problem = new Ellipsoid(6, 100.0, 0.0);
+    CMAEvolutionStrategy cma =
+        new CMAEvolutionStrategy(problem, new RealVectorInitializer(6, -5, 5), 2.0);
+    SolutionCostPair<RealVector> first = cma.reoptimize(500);
+    long length = cma.getTotalRunLength();
+    assertTrue(length > 0 && length <= 500);
+    double before = cma.getProgressTracker().getCostDouble();
+    assertEquals(first.getCostDouble(), before);
+    SolutionCostPair<RealVector> second = cma.reoptimize(500);
+    assertTrue(second.getCostDouble() <= before);
+    assertTrue(cma.getTotalRunLength() > length && cma.getTotalRunLength() <= 1000);
+  }
+
+  @Test
+  public void testBounded() {
+    // The unconstrained optimum at the origin lies outside of the bounds.
+    Ellipsoid problem = new Ellipsoid(5, 1.0, 0.0);
+    CMAEvolutionStrategy cma =
+        new CMAEvolutionStrategy(problem, new RealVectorInitializer(5, 1, 5, 1, 5), 1.0);
+    SolutionCostPair<RealVector> solution = cma.optimize(5000);
+    for (int i = 0; i < 5; i++) {
+      assertEquals(1.0, solution.getSolution().get(i), 1E-6);
+    }
+  }
+
+  @Test
+  public void testParallelEvaluation() {
+    Ellipsoid problem = new Ellipsoid(10, 10.0, 0.0);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      CMAEvolutionStrategy cma =
+          new CMAEvolutionStrategy(
+              problem, new RealVectorInitializer(10, -5, 5), 2.0, 64, tracker(), pool);
+      SolutionCostPair<RealVector> solution = cma.optimize(30000);
+      assertTrue(solution.getCostDouble() < 1E-8);
+      assertEquals(problem.evaluations(), cma.getTotalRunLength());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testSplit() {
+    Ellipsoid problem = new Ellipsoid(4, 1.0, 0.0);
+    CMAEvolutionStrategy cma =
+        new CMAEvolutionStrategy(problem, new RealVectorInitializer(4, -5, 5), 2.0);
+    CMAEvolutionStrategy split = cma.split();
+    assertNotSame(cma, split);
+    assertSame(cma.getProblem(), split.getProblem());
+    assertSame(cma.getProgressTracker(), split.getProgressTracker());
+    split.optimize(2000);
+    assertEquals(0L, cma.getTotalRunLength());
+    assertTrue(split.getTotalRunLength() > 0);
+    ProgressTracker<RealVector> tracker = tracker();
+    cma.setProgressTracker(tracker);
+    assertSame(tracker, cma.getProgressTracker());
+    cma.setProgressTracker(null);
+    assertSame(tracker, cma.getProgressTracker());
+  }
+
+  @Test
+  public void testWithMultistarterAndParallelMetaheuristic() {
+    Ellipsoid problem = new Ellipsoid(4, 1.0, 0.0);
+    CMAEvolutionStrategy cma =
+        new CMAEvolutionStrategy(problem, new RealVectorInitializer(4, -5, 5), 2.0);
+    Multistarter<RealVector> restarts = new Multistarter<RealVector>(cma, 1000);
+    restarts.optimize(3);
+    assertTrue(restarts.getTotalRunLength() > 0 && restarts.getTotalRunLength() <= 3000);
+    try (ParallelMetaheuristic<RealVector> parallel =
+        new ParallelMetaheuristic<RealVector>(cma, 2)) {
+      SolutionCostPair<RealVector> solution = parallel.optimize(2000);
+      assertTrue(solution.getCostDouble() < 1E-8);
+    }
+  }
+
+  @Test
+  public void testExceptions() {
+    Ellipsoid problem = new Ellipsoid(4, 1.0, 0.0);
+    RealVectorInitializer init = new RealVectorInitializer(4, -5, 5);
+    assertThrows(IllegalArgumentException.class, () -> new CMAEvolutionStrategy(problem, init, 0));
+    assertThrows(
+        IllegalArgumentException.class, () -> new CMAEvolutionStrategy(problem, init, -1.0));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new CMAEvolutionStrategy(problem, init, 1.0, 1, tracker()));
+    assertThrows(NullPointerException.class, () -> new CMAEvolutionStrategy(null, init, 1.0));
+    assertThrows(NullPointerException.class, () -> new CMAEvolutionStrategy(problem, null, 1.0));
+    assertThrows(
+        NullPointerException.class,
+        () -> new CMAEvolutionStrategy(problem, init, 1.0, 10, tracker(), null));
+  }
+
+  private static ProgressTracker<RealVector> tracker() {
+    return new ProgressTracker<RealVector>();
+  }
+
+  /*
+   * Ellipsoid with axis scales from 1 to condition^(1/2), with its first two
+   * coordinates rotated by angle.
+   */
+  private static final class Ellipsoid implements OptimizationProblem<RealVector> {
+    private final double[] scale;
+    private final double cos;
+    private final double sin;
+    private final double tolerance;
+    private final AtomicLong evaluations;
+
+    Ellipsoid(int n, double condition, double angle) {
+      this(n, condition, angle, -1);
+    }
+
+    Ellipsoid(int n, double condition, double angle, double tolerance) {
+      scale = new double[n];
+      for (int i = 0; i < n; i++) {
+        scale[i] = Math.pow(condition, n > 1 ? i / (n - 1.0) : 0);
+      }
+      cos = Math.cos(angle);
+      sin = Math.sin(angle);
+      this.tolerance = tolerance;
+      evaluations = new AtomicLong();
+    }
+
+    long evaluations() {
+      return evaluations.get();
+    }
+
+    @Override
+    public double cost(RealVector x) {
+      evaluations.incrementAndGet();
+      double sum = 0;
+      for (int i = 0; i < scale.length; i++) {
+        double xi = x.get(i);
+        if (i == 0) {
+          xi = cos * x.get(0) - sin * x.get(scale.length - 1);
+        } else if (i == scale.length - 1) {
+          xi = sin * x.get(0) + cos * x.get(scale.length - 1);
+        }
+        sum += scale[i] * xi * xi;
+      }
+      return sum;
+    }
+
+    @Override
+    public double value(RealVector x) {
+      return cost(x);
+    }
+
+    @Override
+    public double minCost() {
+      return 0;
+    }
+
+    @Override
+    public boolean isMinCost(double cost) {
+      return cost <= tolerance;
+    }
+  }
+
+  private static final class Rastrigin implements OptimizationProblem<RealVector> {
+    private final int n;
+
+    Rastrigin(int n) {
+      this.n = n;
+    }
+
+    @Override
+    public double cost(RealVector x) {
+      double sum = 10 * n;
+      for (int i = 0; i < n; i++) {
+        sum += x.get(i) * x.get(i) - 10 * Math.cos(2 * Math.PI * x.get(i));
+      }
+      return sum;
+    }
+
+    @Override
+    public double value(RealVector x) {
+      return cost(x);
+    }
+  }
+}
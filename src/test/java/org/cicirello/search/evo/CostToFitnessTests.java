@@ -22,6 +22,8 @@ package org.cicirello.search.evo;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.cicirello.search.problems.IntegerCostOptimizationProblem;
 import org.cicirello.search.problems.OptimizationProblem;
 import org.cicirello.util.Copyable;
@@ -187,8 +189,57 @@ public class CostToFitnessTests {
     assertEquals(0.25, fitness.fitness(new TestObject(5)), 1E-10);
   }
 
+  // Batch fitness evaluation test cases
+
+  @Test
+  public void testBatchFitnesses() {
+    ArrayList<TestObject> batch = new ArrayList<TestObject>();
+    for (int i = -3; i <= 5; i++) {
+      batch.add(new TestObject(i));
+    }
+    TestProblemDouble problem = new TestProblemDouble(-3);
+    validateBatchFitnesses(new NegativeCostFitnessFunction<TestObject>(problem), batch);
+    assertEquals(1, problem.batches);
+    validateBatchFitnesses(new InverseCostFitnessFunction<TestObject>(problem), batch);
+    assertEquals(2, problem.batches);
+    validateBatchFitnesses(new InverseCostFitnessFunction<TestObject>(problem, 2), batch);
+    assertEquals(3, problem.batches);
+    validateBatchFitnesses(
+        new InverseCostFitnessFunction<TestObject>(new TestProblemInteger(-3)), batch);
+    validateBatchFitnesses(
+        new InverseCostFitnessFunction<TestObject>(new TestProblemInteger(-3), 2), batch);
+    FitnessFunction.Double<TestObject> defaultBatch =
+        new FitnessFunction.Double<TestObject>() {
+          @Override
+          public double fitness(TestObject t) {
+            return t.id * 0.5;
+          }
+
+          @Override
+          public OptimizationProblem<TestObject> getProblem() {
+            return problem;
+          }
+        };
+    validateBatchFitnesses(defaultBatch, batch);
+    assertFalse(defaultBatch.prefersBatches());
+    assertTrue(new NegativeCostFitnessFunction<TestObject>(problem).prefersBatches());
+    assertTrue(new InverseCostFitnessFunction<TestObject>(problem).prefersBatches());
+    assertFalse(
+        new InverseCostFitnessFunction<TestObject>(new TestProblemInteger(-3)).prefersBatches());
+  }
+
+  private void validateBatchFitnesses(
+      FitnessFunction.Double<TestObject> fitness, List<TestObject> batch) {
+    double[] fitnesses = new double[batch.size()];
+    fitness.fitnesses(batch, fitnesses);
+    for (int i = 0; i < fitnesses.length; i++) {
+      assertEquals(fitness.fitness(batch.get(i)), fitnesses[i], 1E-10);
+    }
+  }
+
   private static class TestProblemDouble implements OptimizationProblem<TestObject> {
     private final double min;
+    private int batches;
 
     public TestProblemDouble(double min) {
       this.min = min;
@@ -198,6 +249,11 @@ public class CostToFitnessTests {
       return t.id;
     }
 
+    public void costs(List<? extends TestObject> candidates, double[] costs) {
+      batches++;
+      OptimizationProblem.super.costs(candidates, costs);
+    }
+
     public double value(TestObject t) {
       return cost(t);
     }
@@ -0,0 +1,275 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.cicirello.search.evo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.PeriodicCheckpointer;
+import org.cicirello.search.checkpoint.SolutionCodec;
+import org.cicirello.search.operators.MutationOperator;
+import org.cicirello.search.operators.bits.BitFlipMutation;
+import org.cicirello.search.operators.bits.BitVectorInitializer;
+import org.cicirello.search.operators.bits.SinglePointCrossover;
+import org.cicirello.search.problems.OneMax;
+import org.cicirello.search.representations.BitVector;
+import org.junit.jupiter.api.*;
+
+/**
+ * JUnit test cases for checkpointing generational evolutionary algorithms and their populations.
+ */
+public class EvolutionaryAlgorithmCheckpointTests {
+
+  private static final int POP_SIZE = 20;
+  private static final int BITS = 64;
+  private static final int GENERATIONS = 20;
+
+  @Test
+  public void testPopulationCheckpoints() throws IOException {
+    ProgressTracker<BitVector> tracker = new ProgressTracker<BitVector>();
+    BitVectorInitializer initializer = new BitVectorInitializer(BITS);
+    FitnessFunction.Double<BitVector> fDouble =
+        new InverseCostFitnessFunction<BitVector>(new OneMax());
+    FitnessFunction.Integer<BitVector> fInt =
+        new NegativeIntegerCostFitnessFunction<BitVector>(new OneMax());
+    @SuppressWarnings("unchecked")
+    Population<BitVector>[] populations =
+        new Population[] {
+          new BasePopulation.DoubleFitness<BitVector>(
+              POP_SIZE, initializer, fDouble, new BoltzmannSelection(10, 1, 0.9, false), tracker),
+          new BasePopulation.IntegerFitness<BitVector>(
+              POP_SIZE,
+              initializer,
+              fInt,
+              new SigmaScaling(new BoltzmannStochasticUniversalSampling(10, 1, 0.5, true)),
+              tracker),
+          new BaseElitistPopulation.DoubleFitness<BitVector>(
+              POP_SIZE,
+              initializer,
+              fDouble,
+              new FitnessShifter(new BoltzmannAliasMethodSelection(10, 1, 0.9, false)),
+              tracker,
+              3),
+          new BaseElitistPopulation.IntegerFitness<BitVector>(
+              POP_SIZE, initializer, fInt, new TournamentSelection(), tracker, 3)
+        };
+    for (Population<BitVector> pop : populations) {
+      assertTrue(pop.supportsCheckpoints());
+      pop.init();
+      pop.initOperators(GENERATIONS);
+      for (int g = 0; g < 3; g++) {
+        pop.select();
+        for (int i = 0; i < pop.mutableSize(); i += 2) {
+          pop.get(i).flip(i);
+          pop.updateFitness(i);
+        }
+        pop.replace();
+      }
+      CheckpointWriter out = new CheckpointWriter();
+      pop.writeCheckpoint(out, SolutionCodec.bitVector());
+
+      Population<BitVector> resumed = pop.split();
+      resumed.initOperators(GENERATIONS);
+      CheckpointReader in = out.toReader();
+      resumed.readCheckpoint(in, SolutionCodec.bitVector());
+      assertEquals(0, in.remaining());
+      assertEquals(pop.size(), resumed.size());
+      assertEquals(pop.getMostFit(), resumed.getMostFit());
+      CheckpointWriter again = new CheckpointWriter();
+      resumed.writeCheckpoint(again, SolutionCodec.bitVector());
+      assertTrue(Arrays.equals(bytes(out), bytes(again)));
+    }
+
+    CheckpointWriter doubleFitness = new CheckpointWriter();
+    populations[0].writeCheckpoint(doubleFitness, SolutionCodec.bitVector());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> populations[1].readCheckpoint(doubleFitness.toReader(), SolutionCodec.bitVector()));
+    Population<BitVector> smaller =
+        new BasePopulation.DoubleFitness<BitVector>(
+            POP_SIZE - 1, initializer, fDouble, new BoltzmannSelection(10, 1, 0.9, false), tracker);
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> smaller.readCheckpoint(doubleFitness.toReader(), SolutionCodec.bitVector()));
+  }
+
+  @Test
+  public void testCheckpointAndResume() throws IOException {
+    Path dir = Files.createTempDirectory("checkpoint");
+    Path file = dir.resolve("ea.ckpt");
+    try {
+      for (boolean intFitness : new boolean[] {true, false}) {
+        for (int elite : new int[] {0, 2}) {
+          PeriodicCheckpointer<BitVector> cp =
+              new PeriodicCheckpointer<BitVector>(
+                  file, SolutionCodec.bitVector(), 1, TimeUnit.DAYS);
+          GenerationalEvolutionaryAlgorithm<BitVector> ea =
+              create(
+                  new ProgressTracker<BitVector>(),
+                  intFitness,
+                  elite,
+                  new RequestingMutation(cp, 50));
+          ea.setCheckpointer(cp);
+          ea.optimize(GENERATIONS);
+          cp.close();
+          assertEquals(1, cp.getCheckpointCount());
+
+          // The checkpoint is taken between generations.
+          CheckpointReader in = CheckpointReader.read(file);
+          assertEquals(GENERATIONS, in.getInt());
+          int generation = in.getInt();
+          assertTrue(generation > 0 && generation < GENERATIONS);
+          long evals = in.getLong();
+          assertTrue(evals > POP_SIZE);
+          assertTrue(evals < ea.getTotalRunLength());
+
+          ProgressTracker<BitVector> tracker = new ProgressTracker<BitVector>();
+          GenerationalEvolutionaryAlgorithm<BitVector> resumed =
+              create(tracker, intFitness, elite, new BitFlipMutation(0.05));
+          SolutionCostPair<BitVector> result =
+              resumed.resume(CheckpointReader.read(file), SolutionCodec.bitVector());
+          assertNotNull(result);
+          assertNotNull(tracker.getSolution());
+          assertTrue(tracker.getCost() <= result.getCost());
+          assertTrue(resumed.getTotalRunLength() > evals);
+
+          GenerationalEvolutionaryAlgorithm<BitVector> done =
+              create(
+                  new ProgressTracker<BitVector>(), intFitness, elite, new BitFlipMutation(0.05));
+          done.getProgressTracker().stop();
+          assertNull(done.resume(CheckpointReader.read(file), SolutionCodec.bitVector()));
+
+          GenerationalEvolutionaryAlgorithm<BitVector> wrongType =
+              create(
+                  new ProgressTracker<BitVector>(), !intFitness, elite, new BitFlipMutation(0.05));
+          CheckpointReader wrong = CheckpointReader.read(file);
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> wrongType.resume(wrong, SolutionCodec.bitVector()));
+        }
+      }
+    } finally {
+      Files.deleteIfExists(file);
+      Files.deleteIfExists(dir);
+    }
+  }
+
+  @Test
+  public void testPopulationNotCheckpointable() {
+    SteadyStateEvolutionaryAlgorithm<BitVector> ea =
+        new SteadyStateEvolutionaryAlgorithm<BitVector>(
+            POP_SIZE,
+            new BitFlipMutation(0.05),
+            0.5,
+            new SinglePointCrossover(),
+            0.7,
+            new BitVectorInitializer(BITS),
+            new InverseCostFitnessFunction<BitVector>(new OneMax()),
+            new TournamentSelection(),
+            2,
+            new ProgressTracker<BitVector>());
+    PeriodicCheckpointer<BitVector> cp =
+        new PeriodicCheckpointer<BitVector>(
+            Path.of("unused.ckpt"), SolutionCodec.bitVector(), 1, TimeUnit.DAYS);
+    try {
+      assertThrows(UnsupportedOperationException.class, () -> ea.setCheckpointer(cp));
+      assertThrows(
+          UnsupportedOperationException.class,
+          () -> ea.resume(new CheckpointWriter().toReader(), SolutionCodec.bitVector()));
+      ea.setCheckpointer(null);
+    } finally {
+      cp.close();
+    }
+  }
+
+  private GenerationalEvolutionaryAlgorithm<BitVector> create(
+      ProgressTracker<BitVector> tracker,
+      boolean intFitness,
+      int elite,
+      MutationOperator<BitVector> mutation) {
+    return intFitness
+        ? new GenerationalEvolutionaryAlgorithm<BitVector>(
+            POP_SIZE,
+            mutation,
+            0.5,
+            new SinglePointCrossover(),
+            0.7,
+            new BitVectorInitializer(BITS),
+            new NegativeIntegerCostFitnessFunction<BitVector>(new OneMax()),
+            new BoltzmannSelection(10, 1, 0.9, false),
+            elite,
+            tracker)
+        : new GenerationalEvolutionaryAlgorithm<BitVector>(
+            POP_SIZE,
+            mutation,
+            0.5,
+            new SinglePointCrossover(),
+            0.7,
+            new BitVectorInitializer(BITS),
+            new InverseCostFitnessFunction<BitVector>(new OneMax()),
+            new BoltzmannSelection(10, 1, 0.9, false),
+            elite,
+            tracker);
+  }
+
+  /* Bit flip mutation that requests a checkpoint once, at a given mutation. */
+  private static class RequestingMutation implements MutationOperator<BitVector> {
+
+    private final BitFlipMutation mutation = new BitFlipMutation(0.05);
+    private final PeriodicCheckpointer<BitVector> cp;
+    private final int requestAt;
+    private int count;
+
+    RequestingMutation(PeriodicCheckpointer<BitVector> cp, int requestAt) {
+      this.cp = cp;
+      this.requestAt = requestAt;
+    }
+
+    @Override
+    public void mutate(BitVector c) {
+      count++;
+      if (count == requestAt) {
+        cp.requestCheckpoint();
+      }
+      mutation.mutate(c);
+    }
+
+    @Override
+    public RequestingMutation split() {
+      return new RequestingMutation(cp, requestAt);
+    }
+  }
+
+  private static byte[] bytes(CheckpointWriter out) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    out.writeTo(Channels.newChannel(bytes));
+    return bytes.toByteArray();
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.evo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.*;
+
+/** JUnit test cases for the internal IndexedFitnessHeap class. */
+public class IndexedFitnessHeapTests {
+
+  @Test
+  public void testBuildAndUpdate() {
+    SplittableRandom rand = new SplittableRandom(42);
+    for (int n = 1; n <= 33; n += 4) {
+      IndexedFitnessHeap heap = new IndexedFitnessHeap(n);
+      double[] fitness = new double[n];
+      for (int i = 0; i < n; i++) {
+        fitness[i] = rand.nextInt(10);
+        heap.set(i, fitness[i]);
+      }
+      heap.build();
+      validateLeastFit(heap, fitness);
+      for (int j = 0; j < 100; j++) {
+        int i = rand.nextInt(n);
+        fitness[i] = rand.nextInt(10);
+        heap.update(i, fitness[i]);
+        validateLeastFit(heap, fitness);
+        assertEquals(fitness[i], heap.fitness(i));
+      }
+      // replace the least fit with increasingly fit values, as with worst replacement
+      for (int j = 0; j < 100; j++) {
+        int i = heap.leastFit();
+        fitness[i] = 10 + j;
+        heap.update(i, fitness[i]);
+        validateLeastFit(heap, fitness);
+      }
+    }
+  }
+
+  private void validateLeastFit(IndexedFitnessHeap heap, double[] fitness) {
+    double min = fitness[0];
+    for (int i = 1; i < fitness.length; i++) {
+      min = Math.min(min, fitness[i]);
+    }
+    assertEquals(min, fitness[heap.leastFit()]);
+    assertEquals(min, heap.fitness(heap.leastFit()));
+  }
+}
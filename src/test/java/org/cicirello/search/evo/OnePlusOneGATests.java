@@ -23,8 +23,11 @@ package org.cicirello.search.evo;
 import static org.junit.jupiter.api.Assertions.*;
 
 import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.problems.Mix;
 import org.cicirello.search.problems.OneMax;
 import org.cicirello.search.problems.Plateaus;
+import org.cicirello.search.problems.RoyalRoad;
 import org.cicirello.search.representations.BitVector;
 import org.junit.jupiter.api.*;
 
@@ -99,4 +102,26 @@ public class OnePlusOneGATests {
     assertEquals(problem, ga.getProblem());
     assertTrue(tracker.containsIntCost());
   }
+
+  @Test
+  public void testIncrementalEvaluation() {
+    OneMax problem = new OneMax();
+    OnePlusOneGeneticAlgorithm ga = new OnePlusOneGeneticAlgorithm(problem, 1.0 / 64, 64);
+    SolutionCostPair<BitVector> solution = ga.optimize(100000);
+    assertEquals(0, solution.getCost());
+    assertTrue(solution.getSolution().allOnes());
+
+    RoyalRoad royalRoad = new RoyalRoad(4, true);
+    ga = new OnePlusOneGeneticAlgorithm(royalRoad, 0.05, 64);
+    solution = ga.optimize(500);
+    assertEquals(royalRoad.cost(solution.getSolution()), solution.getCost());
+
+    Mix mix = new Mix();
+    ga = new OnePlusOneGeneticAlgorithm(mix, 0.5, 50);
+    solution = ga.optimize(500);
+    assertEquals(mix.cost(solution.getSolution()), solution.getCostDouble(), 1E-10);
+    ga = new OnePlusOneGeneticAlgorithm(mix, 0.1, 50);
+    solution = ga.optimize(500);
+    assertEquals(mix.cost(solution.getSolution()), solution.getCostDouble(), 1E-10);
+  }
 }
@@ -0,0 +1,158 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.evo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.*;
+
+/** JUnit test cases for the internal RankWeights class used by the rank selection operators. */
+public class RankWeightsTests {
+
+  @Test
+  public void testRankingIntegerFitness() {
+    RankWeights ranks = new RankWeights((r, n) -> r + 1);
+    SplittableRandom rand = new SplittableRandom(42);
+    int[][] cases = {
+      {5},
+      {3, 1, 2},
+      {7, 7, 7, 7},
+      {-3, 5, -3, 0, Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1},
+      {1000, 256, 255, 65536, 1, 257, 0}
+    };
+    for (int[] f : cases) {
+      validateRanks(ranks, PopulationFitnessVector.Integer.of(f));
+    }
+    for (int n = 1; n <= 300; n += 37) {
+      int[] f = new int[n];
+      for (int i = 0; i < n; i++) {
+        f[i] = rand.nextInt(20) - 10;
+      }
+      validateRanks(ranks, PopulationFitnessVector.Integer.of(f));
+      for (int i = 0; i < n; i++) {
+        f[i] = rand.nextInt();
+      }
+      validateRanks(ranks, PopulationFitnessVector.Integer.of(f));
+    }
+  }
+
+  @Test
+  public void testRankingDoubleFitness() {
+    RankWeights ranks = new RankWeights((r, n) -> r + 1);
+    SplittableRandom rand = new SplittableRandom(42);
+    double[][] cases = {
+      {5.0},
+      {3.5, 1.25, 2.0},
+      {7.0, 7.0, 7.0, 7.0},
+      {-0.0, 0.0, -1.5, 1.5, -0.0, Double.MAX_VALUE, -Double.MAX_VALUE, Double.MIN_VALUE},
+      {Double.POSITIVE_INFINITY, 0.1, Double.NEGATIVE_INFINITY, -0.1}
+    };
+    for (double[] f : cases) {
+      validateRanks(ranks, PopulationFitnessVector.Double.of(f));
+    }
+    for (int n = 1; n <= 300; n += 37) {
+      double[] f = new double[n];
+      for (int i = 0; i < n; i++) {
+        f[i] = rand.nextInt(20) - 10;
+      }
+      validateRanks(ranks, PopulationFitnessVector.Double.of(f));
+      for (int i = 0; i < n; i++) {
+        f[i] = 1000 * rand.nextGaussian();
+      }
+      validateRanks(ranks, PopulationFitnessVector.Double.of(f));
+    }
+  }
+
+  @Test
+  public void testRunningSum() {
+    RankWeights ranks = new RankWeights((r, n) -> n * 10 + r);
+    int[] f = {30, 10, 20, 10};
+    double[] sum = ranks.computeWeightRunningSum(PopulationFitnessVector.Integer.of(f));
+    // ranks by index: 3, 0, 2, 1
+    double[] expected = {43, 83, 125, 166};
+    assertArrayEquals(expected, sum, 1E-10);
+    sum =
+        ranks.computeWeightRunningSum(PopulationFitnessVector.Double.of(new double[] {3, 1, 2, 1}));
+    assertArrayEquals(expected, sum, 1E-10);
+  }
+
+  @Test
+  public void testTableCachedPerPopulationSize() {
+    int[] calls = {0};
+    RankWeights ranks =
+        new RankWeights(
+            (r, n) -> {
+              calls[0]++;
+              return 1.0;
+            });
+    int[] f = {4, 2, 3, 1, 5};
+    double[] sum = ranks.computeWeightRunningSum(PopulationFitnessVector.Integer.of(f));
+    assertEquals(5, calls[0]);
+    for (int i = 0; i < 10; i++) {
+      assertSame(sum, ranks.computeWeightRunningSum(PopulationFitnessVector.Integer.of(f)));
+      assertSame(
+          sum, ranks.computeWeightRunningSum(PopulationFitnessVector.Double.of(new double[5])));
+    }
+    assertEquals(5, calls[0]);
+    ranks.computeWeightRunningSum(PopulationFitnessVector.Integer.of(new int[3]));
+    assertEquals(8, calls[0]);
+
+    RankWeights split = ranks.split();
+    assertNotSame(
+        split.computeWeightRunningSum(PopulationFitnessVector.Integer.of(new int[3])),
+        ranks.computeWeightRunningSum(PopulationFitnessVector.Integer.of(new int[3])));
+  }
+
+  private void validateRanks(RankWeights ranks, PopulationFitnessVector.Integer f) {
+    ranks.computeWeightRunningSum(f);
+    Integer[] expected = new Integer[f.size()];
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = i;
+    }
+    // Arrays.sort of objects is stable, so ties are ordered by population index.
+    Arrays.sort(expected, (a, b) -> Integer.compare(f.getFitness(a), f.getFitness(b)));
+    assertArrayEquals(unbox(expected), ranks.rankedIndexes());
+  }
+
+  private void validateRanks(RankWeights ranks, PopulationFitnessVector.Double f) {
+    ranks.computeWeightRunningSum(f);
+    Integer[] expected = new Integer[f.size()];
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = i;
+    }
+    // Compares with < rather than Double.compare so that -0.0 and 0.0 are ties.
+    Arrays.sort(
+        expected,
+        (a, b) ->
+            f.getFitness(a) < f.getFitness(b) ? -1 : (f.getFitness(a) > f.getFitness(b) ? 1 : 0));
+    assertArrayEquals(unbox(expected), ranks.rankedIndexes());
+  }
+
+  private int[] unbox(Integer[] indexes) {
+    int[] result = new int[indexes.length];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = indexes[i];
+    }
+    return result;
+  }
+}
@@ -22,6 +22,7 @@ package org.cicirello.search.evo;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
 import java.util.function.ToDoubleFunction;
 import java.util.function.ToIntFunction;
 import org.cicirello.search.ProgressTracker;
@@ -402,12 +403,48 @@ public class SharedTestPopulations {
     for (int i = 0; i < 10; i++) {
       secondSelect[i] = pop.get(i);
     }
+    // Candidates are copied on write, so identity is not checked here.
     for (int i = 0; i < 10; i++) {
-      assertFalse(firstSelect[i] == secondSelect[9 - i]);
       assertEquals(firstSelect[i], secondSelect[9 - i]);
     }
   }
 
+  void verifyDeferredEvaluation(Population<TestObject> pop, TestFitnessDoubleBatched f) {
+    PopulationFitnessVector.Double popVector = (PopulationFitnessVector.Double) pop;
+    pop.init();
+    assertEquals(1, f.batches);
+    assertEquals(pop.size(), f.evaluated);
+
+    pop.select();
+    int id0 = pop.get(0).id;
+    int id1 = pop.get(1).id;
+    f.changeFitness(1);
+    pop.updateFitness(0);
+    // A member changed by more than one operator is evaluated once.
+    pop.updateFitness(0);
+    f.changeFitness(10);
+    pop.updateFitness(1);
+    // Evaluation is deferred until replace.
+    assertEquals(1, f.batches);
+    assertEquals(pop.size(), f.evaluated);
+    pop.replace();
+    assertEquals(2, f.batches);
+    assertEquals(pop.size() + 2, f.evaluated);
+    assertEquals(id0 + 0.4 + 10, popVector.getFitness(0), 1E-10);
+    assertEquals(id1 + 0.4 + 10, popVector.getFitness(1), 1E-10);
+
+    pop.select();
+    pop.get(0);
+    pop.updateFitness(0);
+    pop.replace();
+    assertEquals(3, f.batches);
+    assertEquals(pop.size() + 3, f.evaluated);
+
+    pop.select();
+    pop.replace();
+    assertEquals(3, f.batches);
+  }
+
   static class TestSelectionOp implements SelectionOperator {
 
     boolean called;
@@ -470,6 +507,26 @@ public class SharedTestPopulations {
     }
   }
 
+  static class TestFitnessDoubleBatched extends TestFitnessDouble {
+
+    int batches;
+    int evaluated;
+
+    @Override
+    public void fitnesses(List<? extends TestObject> candidates, double[] fitnesses) {
+      batches++;
+      evaluated += candidates.size();
+      for (int i = 0; i < candidates.size(); i++) {
+        fitnesses[i] = fitness(candidates.get(i));
+      }
+    }
+
+    @Override
+    public boolean prefersBatches() {
+      return true;
+    }
+  }
+
   static class TestFitnessDoubleIntCost implements FitnessFunction.Double<TestObject> {
 
     private TestProblemInteger problem;
@@ -0,0 +1,244 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.evo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.operators.bits.BitFlipMutation;
+import org.cicirello.search.operators.bits.BitVectorInitializer;
+import org.cicirello.search.operators.bits.UniformCrossover;
+import org.cicirello.search.problems.OneMax;
+import org.cicirello.search.representations.BitVector;
+import org.junit.jupiter.api.*;
+
+/** JUnit test cases for SteadyStateEvolutionaryAlgorithm and SteadyStatePopulation. */
+public class SteadyStateEATests {
+
+  private static final int BITS = 16;
+
+  @Test
+  public void testExceptions() {
+    OneMax problem = new OneMax();
+    NegativeIntegerCostFitnessFunction<BitVector> f =
+        new NegativeIntegerCostFitnessFunction<BitVector>(problem);
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new SteadyStateEvolutionaryAlgorithm<BitVector>(
+                1,
+                new BitFlipMutation(0.1),
+                1.0,
+                new UniformCrossover(),
+                0.5,
+                new BitVectorInitializer(BITS),
+                f,
+                new TournamentSelection()));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new SteadyStateEvolutionaryAlgorithm<BitVector>(
+                10,
+                new BitFlipMutation(0.1),
+                1.0,
+                new UniformCrossover(),
+                0.5,
+                new BitVectorInitializer(BITS),
+                f,
+                new TournamentSelection(),
+                1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new SteadyStateEvolutionaryAlgorithm<BitVector>(
+                10,
+                new BitFlipMutation(0.1),
+                1.0,
+                new UniformCrossover(),
+                0.5,
+                new BitVectorInitializer(BITS),
+                f,
+                new TournamentSelection(),
+                -1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new SteadyStateEvolutionaryAlgorithm<BitVector>(
+                10,
+                new BitFlipMutation(0.1),
+                0.5,
+                new UniformCrossover(),
+                -0.5,
+                new BitVectorInitializer(BITS),
+                f,
+                new TournamentSelection()));
+    assertThrows(
+        NullPointerException.class,
+        () ->
+            new SteadyStateEvolutionaryAlgorithm<BitVector>(
+                10,
+                new BitFlipMutation(0.1),
+                0.5,
+                new UniformCrossover(),
+                0.5,
+                new BitVectorInitializer(BITS),
+                f,
+                null));
+  }
+
+  @Test
+  public void testWorstReplacementInteger() {
+    OneMax problem = new OneMax();
+    SteadyStateEvolutionaryAlgorithm<BitVector> ea =
+        new SteadyStateEvolutionaryAlgorithm<BitVector>(
+            20,
+            new BitFlipMutation(1.0 / BITS),
+            1.0,
+            new UniformCrossover(),
+            0.7,
+            new BitVectorInitializer(BITS),
+            new NegativeIntegerCostFitnessFunction<BitVector>(problem),
+            new TournamentSelection());
+    validateSolves(ea, problem, 20);
+  }
+
+  @Test
+  public void testWorstReplacementDouble() {
+    OneMax problem = new OneMax();
+    SteadyStateEvolutionaryAlgorithm<BitVector> ea =
+        new SteadyStateEvolutionaryAlgorithm<BitVector>(
+            20,
+            new BitFlipMutation(1.0 / BITS),
+            0.9,
+            new UniformCrossover(),
+            0.7,
+            new BitVectorInitializer(BITS),
+            new InverseCostFitnessFunction<BitVector>(problem),
+            new TournamentSelection(),
+            new ProgressTracker<BitVector>());
+    validateSolves(ea, problem, 20);
+  }
+
+  @Test
+  public void testTournamentReplacement() {
+    OneMax problem = new OneMax();
+    SteadyStateEvolutionaryAlgorithm<BitVector> ea =
+        new SteadyStateEvolutionaryAlgorithm<BitVector>(
+            20,
+            new BitFlipMutation(1.0 / BITS),
+            1.0,
+            new UniformCrossover(),
+            0.7,
+            new BitVectorInitializer(BITS),
+            new NegativeIntegerCostFitnessFunction<BitVector>(problem),
+            new TournamentSelection(),
+            3);
+    validateSolves(ea, problem, 20);
+
+    ea =
+        new SteadyStateEvolutionaryAlgorithm<BitVector>(
+            20,
+            new BitFlipMutation(1.0 / BITS),
+            1.0,
+            new UniformCrossover(),
+            0.7,
+            new BitVectorInitializer(BITS),
+            new InverseCostFitnessFunction<BitVector>(problem),
+            new TournamentSelection(),
+            3,
+            new ProgressTracker<BitVector>());
+    validateSolves(ea, problem, 20);
+  }
+
+  @Test
+  public void testWorstReplacementNeverLosesFitness() {
+    OneMax problem = new OneMax();
+    SteadyStatePopulation.IntegerFitness<BitVector> pop =
+        new SteadyStatePopulation.IntegerFitness<BitVector>(
+            10,
+            2,
+            new BitVectorInitializer(64),
+            new NegativeIntegerCostFitnessFunction<BitVector>(problem),
+            new RandomSelection(),
+            0,
+            new ProgressTracker<BitVector>());
+    BitFlipMutation mutation = new BitFlipMutation(0.1);
+    pop.init();
+    int[] sorted = sortedFitnesses(pop);
+    for (int step = 0; step < 200; step++) {
+      pop.select();
+      assertEquals(2, pop.mutableSize());
+      mutation.mutate(pop.get(0));
+      pop.updateFitness(0);
+      // offspring 1 is not modified or evaluated, so is not inserted
+      pop.replace();
+      int[] next = sortedFitnesses(pop);
+      for (int i = 0; i < next.length; i++) {
+        assertTrue(next[i] >= sorted[i]);
+      }
+      sorted = next;
+      assertEquals(sorted[sorted.length - 1], pop.getFitnessOfMostFit());
+    }
+  }
+
+  @Test
+  public void testSplit() {
+    OneMax problem = new OneMax();
+    SteadyStateEvolutionaryAlgorithm<BitVector> ea =
+        new SteadyStateEvolutionaryAlgorithm<BitVector>(
+            20,
+            new BitFlipMutation(1.0 / BITS),
+            1.0,
+            new UniformCrossover(),
+            0.7,
+            new BitVectorInitializer(BITS),
+            new NegativeIntegerCostFitnessFunction<BitVector>(problem),
+            new TournamentSelection());
+    SteadyStateEvolutionaryAlgorithm<BitVector> split = ea.split();
+    assertSame(ea.getProgressTracker(), split.getProgressTracker());
+    assertSame(problem, split.getProblem());
+    validateSolves(split, problem, 20);
+  }
+
+  private void validateSolves(
+      SteadyStateEvolutionaryAlgorithm<BitVector> ea, OneMax problem, int n) {
+    SolutionCostPair<BitVector> solution = ea.optimize(2000);
+    assertEquals(0, problem.cost(solution.getSolution()));
+    assertEquals(0, ea.getProgressTracker().getCost());
+    assertTrue(ea.getProgressTracker().didFindBest());
+    long runLength = ea.getTotalRunLength();
+    assertTrue(runLength > n);
+    assertTrue(runLength <= n + 2 * 2000);
+    assertNull(ea.reoptimize(10));
+    assertEquals(runLength, ea.getTotalRunLength());
+  }
+
+  private int[] sortedFitnesses(SteadyStatePopulation.IntegerFitness<BitVector> pop) {
+    int[] f = new int[pop.size()];
+    for (int i = 0; i < f.length; i++) {
+      f[i] = pop.getFitness(i);
+    }
+    Arrays.sort(f);
+    return f;
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.evo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.*;
+
+/** JUnit test cases for the internal SymmetricEigendecomposition class used by the CMA-ES. */
+public class SymmetricEigendecompositionTests {
+
+  @Test
+  public void testDiagonal() {
+    double[][] a = {{3, 0, 0}, {0, 1, 0}, {0, 0, 2}};
+    double[][] v = new double[3][3];
+    double[] d = new double[3];
+    SymmetricEigendecomposition.decompose(a, v, d);
+    assertArrayEquals(new double[] {3, 1, 2}, d);
+    for (int i = 0; i < 3; i++) {
+      for (int j = 0; j < 3; j++) {
+        assertEquals(i == j ? 1.0 : 0.0, v[i][j]);
+      }
+    }
+  }
+
+  @Test
+  public void testRandomSymmetric() {
+    SplittableRandom rand = new SplittableRandom(42);
+    for (int n = 1; n <= 20; n += 3) {
+      double[][] a = new double[n][n];
+      for (int i = 0; i < n; i++) {
+        for (int j = 0; j <= i; j++) {
+          a[i][j] = a[j][i] = rand.nextDouble(-10, 10);
+        }
+      }
+      validate(a);
+    }
+  }
+
+  @Test
+  public void testIllConditionedCovariance() {
+    // B diag(1, 1e-5, 1e-10) B^T for a rotation B.
+    double c = Math.cos(0.3);
+    double s = Math.sin(0.3);
+    double[][] b = {{c, -s, 0}, {s, c, 0}, {0, 0, 1}};
+    double[] lambda = {1, 1E-5, 1E-10};
+    double[][] a = new double[3][3];
+    for (int i = 0; i < 3; i++) {
+      for (int j = 0; j < 3; j++) {
+        for (int k = 0; k < 3; k++) {
+          a[i][j] += b[i][k] * lambda[k] * b[j][k];
+        }
+      }
+    }
+    double[][] v = new double[3][3];
+    double[] d = new double[3];
+    SymmetricEigendecomposition.decompose(copy(a), v, d);
+    double[] sorted = d.clone();
+    Arrays.sort(sorted);
+    assertEquals(1E-10, sorted[0], 1E-15);
+    assertEquals(1E-5, sorted[1], 1E-12);
+    assertEquals(1, sorted[2], 1E-12);
+  }
+
+  private void validate(double[][] a) {
+    int n = a.length;
+    double[][] v = new double[n][n];
+    double[] d = new double[n];
+    SymmetricEigendecomposition.decompose(copy(a), v, d);
+    for (int j = 0; j < n; j++) {
+      double norm = 0;
+      for (int i = 0; i < n; i++) {
+        double av = 0;
+        for (int k = 0; k < n; k++) {
+          av += a[i][k] * v[k][j];
+        }
+        assertEquals(d[j] * v[i][j], av, 1E-9);
+        norm += v[i][j] * v[i][j];
+      }
+      assertEquals(1.0, norm, 1E-10);
+      for (int k = j + 1; k < n; k++) {
+        double dot = 0;
+        for (int i = 0; i < n; i++) {
+          dot += v[i][j] * v[i][k];
+        }
+        assertEquals(0.0, dot, 1E-10);
+      }
+    }
+  }
+
+  private static double[][] copy(double[][] a) {
+    double[][] b = new double[a.length][];
+    for (int i = 0; i < a.length; i++) {
+      b[i] = a[i].clone();
+    }
+    return b;
+  }
+}
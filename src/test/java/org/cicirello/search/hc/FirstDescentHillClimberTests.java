@@ -22,15 +22,27 @@ package org.cicirello.search.hc;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.SplittableRandom;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import org.cicirello.permutations.Permutation;
 import org.cicirello.search.ProgressTracker;
 import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.operators.bits.BitVectorInitializer;
+import org.cicirello.search.operators.bits.DefiniteBitFlipMutation;
+import org.cicirello.search.operators.permutations.BlockMoveMutation;
+import org.cicirello.search.operators.permutations.InsertionMutation;
+import org.cicirello.search.operators.permutations.PermutationInitializer;
+import org.cicirello.search.operators.permutations.SwapMutation;
+import org.cicirello.search.operators.permutations.WindowLimitedReversalMutation;
 import org.cicirello.search.problems.IntegerCostOptimizationProblem;
+import org.cicirello.search.problems.OneMax;
 import org.cicirello.search.problems.OptimizationProblem;
+import org.cicirello.search.problems.Plateaus;
+import org.cicirello.search.representations.BitVector;
 import org.junit.jupiter.api.*;
 
 /** JUnit tests for the FirstDescentHillClimber. */
@@ -481,4 +493,156 @@ public class FirstDescentHillClimberTests extends SharedTestHillClimberHelpers {
       assertFalse(tracker.didFindBest());
     }
   }
+
+  @Test
+  public void testIncrementalEvaluation() {
+    OneMax oneMax = new OneMax();
+    FirstDescentHillClimber<BitVector> hc =
+        new FirstDescentHillClimber<BitVector>(
+            oneMax, new DefiniteBitFlipMutation(1), new BitVectorInitializer(100));
+    SolutionCostPair<BitVector> solution = hc.optimize();
+    assertEquals(0, solution.getCost());
+    assertTrue(solution.getSolution().allOnes());
+
+    Plateaus plateaus = new Plateaus();
+    FirstDescentHillClimber<BitVector> hcDouble =
+        new FirstDescentHillClimber<BitVector>(
+            plateaus, new DefiniteBitFlipMutation(2), new BitVectorInitializer(40));
+    for (int i = 0; i < 5; i++) {
+      solution = hcDouble.optimize();
+      assertEquals(plateaus.cost(solution.getSolution()), solution.getCostDouble(), 1E-10);
+    }
+  }
+
+  @Test
+  public void testDontLookBitsInt() {
+    // An improving swap for this problem only becomes available when one of its two
+    // positions changes, so don't look bits still lead to the optimal solution.
+    MisplacedCount problem = new MisplacedCount();
+    final int n = 200;
+    FirstDescentHillClimber<Permutation> dontLook =
+        new FirstDescentHillClimber<Permutation>(
+            problem,
+            new SwapMutation(),
+            new PermutationInitializer(n),
+            new ProgressTracker<Permutation>(),
+            true);
+    FirstDescentHillClimber<Permutation> standard =
+        new FirstDescentHillClimber<Permutation>(
+            problem, new SwapMutation(), new PermutationInitializer(n));
+    Permutation start = new Permutation(n);
+    SolutionCostPair<Permutation> s = dontLook.optimize(start);
+    assertEquals(0, s.getCost());
+    assertEquals(0, problem.cost(s.getSolution()));
+    assertTrue(dontLook.getProgressTracker().didFindBest());
+    s = standard.optimize(start);
+    assertEquals(0, s.getCost());
+    assertTrue(dontLook.getTotalRunLength() < standard.getTotalRunLength() / 10);
+
+    FirstDescentHillClimber<Permutation> split = dontLook.split();
+    split.setProgressTracker(new ProgressTracker<Permutation>());
+    s = split.optimize();
+    assertEquals(0, s.getCost());
+  }
+
+  @Test
+  public void testDontLookBitsDouble() {
+    final int n = 60;
+    WeightedAssignment problem = new WeightedAssignment(n);
+    FirstDescentHillClimber<Permutation> hc =
+        new FirstDescentHillClimber<Permutation>(
+            problem,
+            new InsertionMutation(),
+            new PermutationInitializer(n),
+            new ProgressTracker<Permutation>(),
+            true);
+    for (int i = 0; i < 5; i++) {
+      Permutation start = new Permutation(n);
+      SolutionCostPair<Permutation> s = hc.optimize(start);
+      assertEquals(problem.cost(s.getSolution()), s.getCostDouble(), 1E-10);
+      assertTrue(s.getCostDouble() <= problem.cost(start));
+    }
+    hc =
+        new FirstDescentHillClimber<Permutation>(
+            problem,
+            new BlockMoveMutation(),
+            new PermutationInitializer(n),
+            new ProgressTracker<Permutation>(),
+            true);
+    SolutionCostPair<Permutation> s = hc.split().optimize();
+    assertEquals(problem.cost(s.getSolution()), s.getCostDouble(), 1E-10);
+  }
+
+  @Test
+  public void testDontLookBitsDisabled() {
+    MisplacedCount problem = new MisplacedCount();
+    final int n = 30;
+    Permutation start = new Permutation(n);
+    FirstDescentHillClimber<Permutation> disabled =
+        new FirstDescentHillClimber<Permutation>(
+            problem,
+            new WindowLimitedReversalMutation(4),
+            new PermutationInitializer(n),
+            new ProgressTracker<Permutation>(),
+            false);
+    FirstDescentHillClimber<Permutation> standard =
+        new FirstDescentHillClimber<Permutation>(
+            problem, new WindowLimitedReversalMutation(4), new PermutationInitializer(n));
+    SolutionCostPair<Permutation> s1 = disabled.optimize(start);
+    SolutionCostPair<Permutation> s2 = standard.optimize(start);
+    assertEquals(s2.getCost(), s1.getCost());
+    assertEquals(s2.getSolution(), s1.getSolution());
+    assertEquals(standard.getTotalRunLength(), disabled.getTotalRunLength());
+  }
+
+  private static class MisplacedCount implements IntegerCostOptimizationProblem<Permutation> {
+    @Override
+    public int cost(Permutation candidate) {
+      int count = 0;
+      for (int i = 0; i < candidate.length(); i++) {
+        if (candidate.get(i) != i) {
+          count++;
+        }
+      }
+      return count;
+    }
+
+    @Override
+    public int value(Permutation candidate) {
+      return cost(candidate);
+    }
+
+    @Override
+    public int minCost() {
+      return 0;
+    }
+  }
+
+  private static class WeightedAssignment implements OptimizationProblem<Permutation> {
+    private final double[][] weights;
+
+    WeightedAssignment(int n) {
+      weights = new double[n][n];
+      SplittableRandom r = new SplittableRandom(42);
+      for (int i = 0; i < n; i++) {
+        for (int j = 0; j < n; j++) {
+          weights[i][j] = r.nextDouble();
+        }
+      }
+    }
+
+    @Override
+    public double cost(Permutation candidate) {
+      double total = 0;
+      for (int i = 0; i < candidate.length(); i++) {
+        total += weights[i][candidate.get(i)];
+      }
+      return total;
+    }
+
+    @Override
+    public double value(Permutation candidate) {
+      return cost(candidate);
+    }
+  }
 }
@@ -0,0 +1,258 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.hc;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.cicirello.permutations.Permutation;
+import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.operators.IndexedMutationOperator;
+import org.cicirello.search.operators.permutations.InsertionMutation;
+import org.cicirello.search.operators.permutations.PermutationInitializer;
+import org.cicirello.search.operators.permutations.SwapMutation;
+import org.cicirello.search.problems.IntegerCostOptimizationProblem;
+import org.cicirello.search.problems.OptimizationProblem;
+import org.junit.jupiter.api.*;
+
+/** JUnit tests for the ParallelSteepestDescentHillClimber. */
+public class ParallelSteepestDescentHillClimberTests {
+
+  @Test
+  public void testConstructors() {
+    MisplacedCount problem = new MisplacedCount();
+    Displacement problemDouble = new Displacement();
+    SwapMutation mutation = new SwapMutation();
+    PermutationInitializer init = new PermutationInitializer(10);
+    ProgressTracker<Permutation> tracker = new ProgressTracker<Permutation>();
+    ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    ParallelSteepestDescentHillClimber<Permutation> hc =
+        new ParallelSteepestDescentHillClimber<Permutation>(problem, mutation, init, tracker);
+    assertEquals(tracker, hc.getProgressTracker());
+    assertEquals(problem, hc.getProblem());
+    hc =
+        new ParallelSteepestDescentHillClimber<Permutation>(problemDouble, mutation, init, tracker);
+    assertEquals(tracker, hc.getProgressTracker());
+    assertEquals(problemDouble, hc.getProblem());
+    hc = new ParallelSteepestDescentHillClimber<Permutation>(problem, mutation, init);
+    assertEquals(problem, hc.getProblem());
+    hc = new ParallelSteepestDescentHillClimber<Permutation>(problemDouble, mutation, init);
+    assertEquals(problemDouble, hc.getProblem());
+
+    assertThrows(
+        NullPointerException.class,
+        () ->
+            new ParallelSteepestDescentHillClimber<Permutation>(
+                (OptimizationProblem<Permutation>) null, mutation, init, tracker));
+    assertThrows(
+        NullPointerException.class,
+        () ->
+            new ParallelSteepestDescentHillClimber<Permutation>(
+                (IntegerCostOptimizationProblem<Permutation>) null, mutation, init, tracker));
+    assertThrows(
+        NullPointerException.class,
+        () -> new ParallelSteepestDescentHillClimber<Permutation>(problem, null, init, tracker));
+    assertThrows(
+        NullPointerException.class,
+        () ->
+            new ParallelSteepestDescentHillClimber<Permutation>(
+                problemDouble, mutation, null, tracker));
+    assertThrows(
+        NullPointerException.class,
+        () -> new ParallelSteepestDescentHillClimber<Permutation>(problem, mutation, init, null));
+    assertThrows(
+        NullPointerException.class,
+        () ->
+            new ParallelSteepestDescentHillClimber<Permutation>(
+                problem, mutation, init, tracker, null));
+    assertThrows(
+        NullPointerException.class,
+        () ->
+            new ParallelSteepestDescentHillClimber<Permutation>(
+                problemDouble, mutation, init, tracker, null));
+    assertNotNull(
+        new ParallelSteepestDescentHillClimber<Permutation>(
+            problemDouble, mutation, init, tracker, pool));
+  }
+
+  @Test
+  public void testIntCost() {
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      for (int n = 1; n <= 40; n += 13) {
+        ParallelSteepestDescentHillClimber<Permutation> hc =
+            new ParallelSteepestDescentHillClimber<Permutation>(
+                new MisplacedCount(),
+                new SwapMutation(),
+                new PermutationInitializer(n),
+                new ProgressTracker<Permutation>(),
+                pool);
+        SolutionCostPair<Permutation> s = hc.optimize();
+        assertEquals(0, s.getCost());
+        assertEquals(identity(n), s.getSolution());
+        assertEquals(0, hc.getProgressTracker().getCost());
+        assertTrue(hc.getProgressTracker().didFindBest());
+        // every step fixes at least one element, and a final step finds no improvement,
+        // plus one for the random start
+        long neighborhood = n * (n - 1) / 2;
+        assertTrue(hc.getTotalRunLength() >= 1 + neighborhood);
+        assertTrue(hc.getTotalRunLength() <= 1 + n * neighborhood);
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testDoubleCost() {
+    for (int n = 1; n <= 40; n += 13) {
+      ParallelSteepestDescentHillClimber<Permutation> hc =
+          new ParallelSteepestDescentHillClimber<Permutation>(
+              new Displacement(), new SwapMutation(), new PermutationInitializer(n));
+      SolutionCostPair<Permutation> s = hc.optimize(3);
+      assertEquals(0.0, s.getCostDouble());
+      assertEquals(identity(n), s.getSolution());
+      assertEquals(0.0, hc.getProgressTracker().getCostDouble());
+    }
+  }
+
+  @Test
+  public void testMatchesSequentialSteepestDescent() {
+    // Both take the best neighbor at each step, so with no ties between neighbors
+    // they must follow the same path to the same local optimum.
+    int n = 30;
+    WeightedDisplacement problem = new WeightedDisplacement(n);
+    for (int trial = 0; trial < 5; trial++) {
+      Permutation start = new Permutation(n);
+      IndexedMutationOperator<Permutation> mutation = new InsertionMutation();
+      ParallelSteepestDescentHillClimber<Permutation> parallel =
+          new ParallelSteepestDescentHillClimber<Permutation>(
+              problem, mutation, new PermutationInitializer(n));
+      SteepestDescentHillClimber<Permutation> sequential =
+          new SteepestDescentHillClimber<Permutation>(
+              problem, new InsertionMutation(), new PermutationInitializer(n));
+      SolutionCostPair<Permutation> p = parallel.optimize(new Permutation(start));
+      SolutionCostPair<Permutation> q = sequential.optimize(new Permutation(start));
+      assertEquals(q.getCostDouble(), p.getCostDouble());
+      assertEquals(q.getSolution(), p.getSolution());
+    }
+  }
+
+  @Test
+  public void testSplit() {
+    ParallelSteepestDescentHillClimber<Permutation> hc =
+        new ParallelSteepestDescentHillClimber<Permutation>(
+            new MisplacedCount(), new SwapMutation(), new PermutationInitializer(12));
+    ParallelSteepestDescentHillClimber<Permutation> split = hc.split();
+    assertNotSame(hc, split);
+    assertEquals(hc.getProblem(), split.getProblem());
+    assertEquals(hc.getProgressTracker(), split.getProgressTracker());
+    SolutionCostPair<Permutation> s = split.optimize();
+    assertEquals(0, s.getCost());
+    assertEquals(0, hc.getProgressTracker().getCost());
+  }
+
+  private static Permutation identity(int n) {
+    int[] p = new int[n];
+    for (int i = 0; i < n; i++) {
+      p[i] = i;
+    }
+    return new Permutation(p);
+  }
+
+  private static class MisplacedCount implements IntegerCostOptimizationProblem<Permutation> {
+    @Override
+    public int cost(Permutation candidate) {
+      int count = 0;
+      for (int i = 0; i < candidate.length(); i++) {
+        if (candidate.get(i) != i) {
+          count++;
+        }
+      }
+      return count;
+    }
+
+    @Override
+    public int value(Permutation candidate) {
+      return cost(candidate);
+    }
+
+    @Override
+    public int minCost() {
+      return 0;
+    }
+  }
+
+  private static class Displacement implements OptimizationProblem<Permutation> {
+    @Override
+    public double cost(Permutation candidate) {
+      double total = 0;
+      for (int i = 0; i < candidate.length(); i++) {
+        total += Math.abs(candidate.get(i) - i);
+      }
+      return total;
+    }
+
+    @Override
+    public double value(Permutation candidate) {
+      return cost(candidate);
+    }
+
+    @Override
+    public double minCost() {
+      return 0;
+    }
+  }
+
+  /*
+   * Random real-valued weights, so ties between neighbors are essentially impossible,
+   * and neither climber needs to break ties.
+   */
+  private static class WeightedDisplacement implements OptimizationProblem<Permutation> {
+    private final double[] weights;
+
+    WeightedDisplacement(int n) {
+      weights = new double[n * n];
+      SplittableRandom r = new SplittableRandom(42);
+      for (int i = 0; i < weights.length; i++) {
+        weights[i] = r.nextDouble();
+      }
+    }
+
+    @Override
+    public double cost(Permutation candidate) {
+      double total = 0;
+      int n = candidate.length();
+      for (int i = 0; i < n; i++) {
+        total += weights[i * n + candidate.get(i)];
+      }
+      return total;
+    }
+
+    @Override
+    public double value(Permutation candidate) {
+      return cost(candidate);
+    }
+  }
+}
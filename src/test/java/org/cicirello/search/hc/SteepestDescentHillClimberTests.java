@@ -24,8 +24,13 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.cicirello.search.ProgressTracker;
 import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.operators.bits.BitVectorInitializer;
+import org.cicirello.search.operators.bits.DefiniteBitFlipMutation;
 import org.cicirello.search.problems.IntegerCostOptimizationProblem;
+import org.cicirello.search.problems.OneMax;
 import org.cicirello.search.problems.OptimizationProblem;
+import org.cicirello.search.problems.Plateaus;
+import org.cicirello.search.representations.BitVector;
 import org.junit.jupiter.api.*;
 
 /** JUnit tests for the SteepestDescentHillClimber. */
@@ -320,4 +325,24 @@ public class SteepestDescentHillClimberTests extends SharedTestHillClimberHelper
       assertFalse(tracker.didFindBest());
     }
   }
+
+  @Test
+  public void testIncrementalEvaluation() {
+    OneMax oneMax = new OneMax();
+    SteepestDescentHillClimber<BitVector> hc =
+        new SteepestDescentHillClimber<BitVector>(
+            oneMax, new DefiniteBitFlipMutation(1), new BitVectorInitializer(100));
+    SolutionCostPair<BitVector> solution = hc.optimize();
+    assertEquals(0, solution.getCost());
+    assertTrue(solution.getSolution().allOnes());
+
+    Plateaus plateaus = new Plateaus();
+    SteepestDescentHillClimber<BitVector> hcDouble =
+        new SteepestDescentHillClimber<BitVector>(
+            plateaus, new DefiniteBitFlipMutation(2), new BitVectorInitializer(40));
+    for (int i = 0; i < 5; i++) {
+      solution = hcDouble.optimize();
+      assertEquals(plateaus.cost(solution.getSolution()), solution.getCostDouble(), 1E-10);
+    }
+  }
 }
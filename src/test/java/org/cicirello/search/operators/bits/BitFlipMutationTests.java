@@ -169,4 +169,54 @@ public class BitFlipMutationTests {
       assertEquals(v1, v3);
     }
   }
+
+  @Test
+  public void testMutateLowRate() {
+    BitFlipMutation mutation = new BitFlipMutation(0.01);
+    int sum = 0;
+    for (int trial = 0; trial < 100; trial++) {
+      BitVector v1 = new BitVector(1000);
+      mutation.mutate(v1);
+      sum += v1.countOnes();
+    }
+    double average = sum / 100.0;
+    assertTrue(
+        average >= 7 && average <= 13, "for m=0.01, average bits out of 1000 was " + average);
+  }
+
+  @Test
+  public void testUndoAllRatesAndLengths() {
+    double[] rates = {0.01, 0.3, 0.5, 0.9};
+    int[] lengths = {0, 1, 63, 64, 65, 200};
+    for (double m : rates) {
+      BitFlipMutation mutation = new BitFlipMutation(m);
+      for (int n : lengths) {
+        for (int i = 0; i < 5; i++) {
+          BitVector v1 = new BitVector(n, true);
+          BitVector v2 = v1.copy();
+          mutation.mutate(v2);
+          mutation.undo(v2);
+          assertEquals(v1, v2);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testMutateAndUndoListener() {
+    double[] rates = {0.05, 0.5, 0.9};
+    for (double m : rates) {
+      BitFlipMutation mutation = new BitFlipMutation(m);
+      for (int n = 0; n <= 100; n += 25) {
+        BitVector v1 = new BitVector(n, true);
+        BitVector v2 = v1.copy();
+        BitVector reported = new BitVector(n);
+        mutation.mutate(v2, reported::flip);
+        v1.xor(v2);
+        assertEquals(v1, reported);
+        mutation.undo(v2, reported::flip);
+        assertTrue(reported.allZeros());
+      }
+    }
+  }
 }
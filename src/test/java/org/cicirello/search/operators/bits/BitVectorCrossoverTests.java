@@ -235,6 +235,25 @@ public class BitVectorCrossoverTests {
             () -> crossover2.cross(new BitVector(5), new BitVector(6)));
   }
 
+  @Test
+  public void testUniformCrossoverExpected() {
+    double[] rates = {0.02, 0.25, 0.5, 0.8};
+    for (double p : rates) {
+      UniformCrossover crossover = new UniformCrossover(p);
+      int sum = 0;
+      for (int trial = 0; trial < 100; trial++) {
+        BitVector b1 = new BitVector(500);
+        BitVector b2 = new BitVector(500, 1.0);
+        crossover.cross(b1, b2);
+        sum += b1.countOnes();
+        b2.not();
+        assertEquals(b1, b2);
+      }
+      double average = sum / 100.0;
+      assertEquals(500 * p, average, 0.2 * 500 * p);
+    }
+  }
+
   private int countNumberOfCrossPoints(BitVector b, int shouldStartWith) {
     // Assumes that parents were all 0s and all 1s
     int count = b.getBit(0) != shouldStartWith ? 1 : 0;
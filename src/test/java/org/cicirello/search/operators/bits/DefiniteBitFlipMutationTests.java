@@ -240,4 +240,36 @@ public class DefiniteBitFlipMutationTests {
       }
     }
   }
+
+  @Test
+  public void testListeners() {
+    DefiniteBitFlipMutation mutation = new DefiniteBitFlipMutation(3);
+    for (int n = 1; n <= 40; n += 13) {
+      BitVector v1 = new BitVector(n, true);
+      BitVector v2 = v1.copy();
+      BitVector reported = new BitVector(n);
+      mutation.mutate(v2, reported::flip);
+      BitVector diff = v1.copy();
+      diff.xor(v2);
+      assertEquals(diff, reported);
+      mutation.undo(v2, reported::flip);
+      assertTrue(reported.allZeros());
+      assertEquals(v1, v2);
+
+      // The reported flips track the state of the iterated BitVector.
+      BitVector tracked = v1.copy();
+      MutationIterator iter = mutation.iterator(v2, tracked::flip);
+      int count = 0;
+      while (iter.hasNext()) {
+        iter.nextMutant();
+        assertEquals(v2, tracked);
+        count++;
+        if (count == 3) {
+          iter.setSavepoint();
+        }
+      }
+      iter.rollback();
+      assertEquals(v2, tracked);
+    }
+  }
 }
@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.cicirello.math.rand.EnhancedSplittableGenerator;
 import org.cicirello.permutations.Permutation;
+import org.cicirello.search.operators.CrossoverOperator;
 import org.junit.jupiter.api.*;
 
 /** JUnit test cases for EdgeRecombination and EnhancedEdgeRecombination. */
@@ -415,8 +416,57 @@ public class EdgeRecombinationTests {
     }
   }
 
+  @Test
+  public void testLargeAndVaryingLengths() {
+    EdgeRecombination er = new EdgeRecombination();
+    EnhancedEdgeRecombination eer = new EnhancedEdgeRecombination();
+    // Edge maps are reused across calls, so vary the length in both directions.
+    for (int n : new int[] {20000, 5, 3000, 2, 20001}) {
+      validateLargeCross(er, n);
+      validateLargeCross(eer, n);
+    }
+    validateLargeCross(er.split(), 10000);
+    validateLargeCross(eer.split(), 10000);
+  }
+
   // Shared code
 
+  private void validateLargeCross(CrossoverOperator<Permutation> op, int n) {
+    Permutation p1 = new Permutation(n);
+    Permutation p2 = new Permutation(n);
+    Permutation child1 = new Permutation(p1);
+    Permutation child2 = new Permutation(p2);
+    op.cross(child1, child2);
+    assertTrue(validPermutation(child1));
+    assertTrue(validPermutation(child2));
+    assertEquals(p1.get(0), child1.get(0));
+    assertEquals(p2.get(0), child2.get(0));
+    // Edge recombination rarely introduces an edge from neither parent, and
+    // only when it runs out of parent edges, plus possibly the edge from the
+    // last element back to the first.
+    assertTrue(countForeignEdges(child1, p1, p2) <= 1 + n / 20);
+    assertTrue(countForeignEdges(child2, p1, p2) <= 1 + n / 20);
+  }
+
+  private int countForeignEdges(Permutation child, Permutation p1, Permutation p2) {
+    int n = child.length();
+    int[] next1 = new int[n];
+    int[] next2 = new int[n];
+    for (int i = 0; i < n; i++) {
+      next1[p1.get(i)] = p1.get((i + 1) % n);
+      next2[p2.get(i)] = p2.get((i + 1) % n);
+    }
+    int foreign = 0;
+    for (int i = 0; i < n; i++) {
+      int u = child.get(i);
+      int v = child.get((i + 1) % n);
+      if (next1[u] != v && next1[v] != u && next2[u] != v && next2[v] != u) {
+        foreign++;
+      }
+    }
+    return foreign;
+  }
+
   private boolean validPermutation(Permutation p) {
     boolean[] foundIt = new boolean[p.length()];
     for (int i = 0; i < p.length(); i++) {
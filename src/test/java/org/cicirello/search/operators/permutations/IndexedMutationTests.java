@@ -0,0 +1,176 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.operators.permutations;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import org.cicirello.permutations.Permutation;
+import org.cicirello.search.operators.AnchoredMutationOperator;
+import org.cicirello.search.operators.IndexedMutationOperator;
+import org.cicirello.search.operators.MutationIterator;
+import org.junit.jupiter.api.*;
+
+/**
+ * JUnit tests for the permutation mutation operators that implement IndexedMutationOperator and
+ * AnchoredMutationOperator.
+ */
+public class IndexedMutationTests {
+
+  @Test
+  public void testUnlimitedNeighborhoods() {
+    for (int n = 0; n <= 9; n++) {
+      validate(new SwapMutation(), n);
+      validate(new ReversalMutation(), n);
+      validate(new TwoChangeMutation(), n);
+      validate(new InsertionMutation(), n);
+      validate(new BlockMoveMutation(), n);
+    }
+  }
+
+  @Test
+  public void testWindowLimitedNeighborhoods() {
+    for (int n = 0; n <= 9; n++) {
+      for (int w = 1; w <= n + 1; w++) {
+        validate(new WindowLimitedSwapMutation(w), n);
+        validate(new WindowLimitedReversalMutation(w), n);
+        validate(new WindowLimitedInsertionMutation(w), n);
+        validate(new WindowLimitedBlockMoveMutation(w), n);
+      }
+      validate(new WindowLimitedSwapMutation(), n);
+      validate(new WindowLimitedReversalMutation(), n);
+      validate(new WindowLimitedInsertionMutation(), n);
+      validate(new WindowLimitedBlockMoveMutation(), n);
+    }
+  }
+
+  @Test
+  public void testPairIndexing() {
+    for (int n = 0; n <= 60; n += 6) {
+      for (int w = 1; w <= n + 1; w += 2) {
+        long k = 0;
+        for (int i = 0; i < n; i++) {
+          for (int j = i + 1; j < n && j - i <= w; j++) {
+            long ij = PermutationNeighborhoods.pair(n, w, k);
+            assertEquals(i, PermutationNeighborhoods.first(ij));
+            assertEquals(j, PermutationNeighborhoods.second(ij));
+            k++;
+          }
+        }
+        assertEquals(k, PermutationNeighborhoods.pairCount(n, w));
+      }
+    }
+    // Pairs beyond the range of int indexes.
+    final int n = 100000;
+    final long size = PermutationNeighborhoods.pairCount(n, n);
+    assertEquals((long) n * (n - 1) / 2, size);
+    long ij = PermutationNeighborhoods.pair(n, n, size - 1);
+    assertEquals(n - 2, PermutationNeighborhoods.first(ij));
+    assertEquals(n - 1, PermutationNeighborhoods.second(ij));
+    ij = PermutationNeighborhoods.pair(n, n, size - 2);
+    assertEquals(n - 3, PermutationNeighborhoods.first(ij));
+    assertEquals(n - 1, PermutationNeighborhoods.second(ij));
+  }
+
+  @Test
+  public void testBlockMoveCounts() {
+    for (int n = 0; n <= 30; n++) {
+      for (int w = 1; w <= n + 1; w++) {
+        long expected = 0;
+        for (int a = 0; a < n; a++) {
+          for (int s1 = 1; a + s1 < n; s1++) {
+            for (int s2 = 1; a + s1 + s2 <= n && s1 + s2 <= w + 1; s2++) {
+              expected++;
+            }
+          }
+        }
+        assertEquals(expected, PermutationNeighborhoods.blockMoveCount(n, w));
+      }
+    }
+  }
+
+  private void validate(AnchoredMutationOperator<Permutation> m, int n) {
+    Permutation original = new Permutation(n);
+    Permutation p = new Permutation(original);
+    ArrayList<Permutation> iterated = new ArrayList<Permutation>();
+    MutationIterator iter = m.iterator(p);
+    while (iter.hasNext()) {
+      iter.nextMutant();
+      iterated.add(new Permutation(p));
+    }
+    iter.rollback();
+    assertEquals(original, p);
+
+    long size = m.neighborhoodSize(p);
+    assertEquals(iterated.size(), size);
+    HashSet<Permutation> indexed = new HashSet<Permutation>();
+    for (long k = 0; k < size; k++) {
+      m.mutate(p, k);
+      assertNotEquals(original, p);
+      validateAnchors(m, original, p, k);
+      indexed.add(new Permutation(p));
+      m.undo(p, k);
+      assertEquals(original, p);
+    }
+    assertEquals(size, indexed.size());
+    assertEquals(new HashSet<Permutation>(iterated), indexed);
+    // Indexed methods do not depend on the operator's state, so a split agrees.
+    IndexedMutationOperator<Permutation> s = m.split();
+    for (long k = 0; k < size; k++) {
+      Permutation q = new Permutation(original);
+      m.mutate(p, k);
+      s.mutate(q, k);
+      assertEquals(p, q);
+      m.undo(p, k);
+    }
+    validateAnchorRuns(m, p);
+  }
+
+  private void validateAnchors(
+      AnchoredMutationOperator<Permutation> m, Permutation original, Permutation p, long k) {
+    assertEquals(original.length(), m.anchorCount(p));
+    int firstChanged = 0;
+    while (original.get(firstChanged) == p.get(firstChanged)) {
+      firstChanged++;
+    }
+    int lastChanged = p.length() - 1;
+    while (original.get(lastChanged) == p.get(lastChanged)) {
+      lastChanged--;
+    }
+    assertEquals(firstChanged, m.anchor(p, k));
+    assertEquals(lastChanged, m.lastAnchor(p, k));
+  }
+
+  private void validateAnchorRuns(AnchoredMutationOperator<Permutation> m, Permutation p) {
+    long size = m.neighborhoodSize(p);
+    for (long k = 0; k < size; k++) {
+      long end = m.anchorRunEnd(p, k);
+      assertTrue(end > k && end <= size);
+      for (long r = k + 1; r < end; r++) {
+        assertEquals(m.anchor(p, k), m.anchor(p, r));
+      }
+      if (end < size) {
+        assertNotEquals(m.anchor(p, end - 1), m.anchor(p, end));
+      }
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.operators.permutations;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.cicirello.permutations.Permutation;
+import org.cicirello.search.operators.CrossoverOperator;
+import org.junit.jupiter.api.*;
+
+/**
+ * JUnit test cases verifying that the permutation crossover operators, which reuse scratch arrays
+ * across calls, remain correct as the permutation length changes from one call to the next.
+ */
+public class PermutationCrossoverScratchReuseTests extends SharedTestCodeOrderingCrossovers {
+
+  private static final int[] LENGTHS = {1, 2, 64, 64, 64, 7, 100, 3, 100, 100, 2};
+
+  @Test
+  public void testScratchReuseAcrossLengths() {
+    validateScratchReuse(new OrderCrossover());
+    validateScratchReuse(new NonWrappingOrderCrossover());
+    validateScratchReuse(new OrderCrossoverTwo());
+    validateScratchReuse(new UniformOrderBasedCrossover());
+    validateScratchReuse(new PartiallyMatchedCrossover());
+    validateScratchReuse(new UniformPartiallyMatchedCrossover());
+    validateScratchReuse(new CycleCrossover());
+    validateScratchReuse(new PositionBasedCrossover());
+    validateScratchReuse(new PrecedencePreservativeCrossover());
+    validateScratchReuse(new UniformPrecedencePreservativeCrossover());
+    validateScratchReuse(new EdgeRecombination());
+    validateScratchReuse(new EnhancedEdgeRecombination());
+  }
+
+  @Test
+  public void testSplitsDoNotShareScratch() {
+    OrderCrossover ox = new OrderCrossover();
+    OrderCrossover split = ox.split();
+    CycleCrossover cx = new CycleCrossover();
+    CycleCrossover cxSplit = cx.split();
+    for (int n : LENGTHS) {
+      crossAndValidate(ox, n);
+      crossAndValidate(split, n + 1);
+      crossAndValidate(cx, n);
+      crossAndValidate(cxSplit, n + 1);
+    }
+  }
+
+  private void validateScratchReuse(CrossoverOperator<Permutation> xover) {
+    for (int n : LENGTHS) {
+      for (int i = 0; i < NUM_SAMPLES; i++) {
+        crossAndValidate(xover, n);
+      }
+    }
+  }
+
+  private void crossAndValidate(CrossoverOperator<Permutation> xover, int n) {
+    Permutation p1 = new Permutation(n);
+    Permutation p2 = new Permutation(n);
+    Permutation child1 = new Permutation(p1);
+    Permutation child2 = new Permutation(p2);
+    xover.cross(child1, child2);
+    assertTrue(validPermutation(child1));
+    assertTrue(validPermutation(child2));
+  }
+}
@@ -347,4 +347,35 @@ public class CauchyMutationTests extends SharedTestRealMutationOps {
       assertEquals(4.0, r.get(i));
     }
   }
+
+  @Test
+  public void testBatchCauchyMutationHighDimensional() {
+    final int n = 10000;
+    final double scale = 2.0;
+    CauchyMutation<RealVector> c = CauchyMutation.createCauchyMutation(scale);
+    RealVector v = new RealVector(n);
+    c.mutate(v);
+    // The quartiles of a Cauchy distribution with median 0 are at -scale and scale.
+    int belowLowerQuartile = 0;
+    int belowMedian = 0;
+    int belowUpperQuartile = 0;
+    for (int i = 0; i < n; i++) {
+      if (v.get(i) < -scale) belowLowerQuartile++;
+      if (v.get(i) < 0) belowMedian++;
+      if (v.get(i) < scale) belowUpperQuartile++;
+    }
+    assertEquals(0.25 * n, belowLowerQuartile, 0.03 * n);
+    assertEquals(0.5 * n, belowMedian, 0.03 * n);
+    assertEquals(0.75 * n, belowUpperQuartile, 0.03 * n);
+
+    UndoableCauchyMutation<RealVector> u =
+        UndoableCauchyMutation.createCauchyMutation(scale, -1.0, 1.0);
+    RealVector original = new RealVector(v);
+    u.mutate(v);
+    for (int i = 0; i < n; i++) {
+      assertTrue(v.get(i) >= -1.0 && v.get(i) <= 1.0);
+    }
+    u.undo(v);
+    assertEquals(original, v);
+  }
 }
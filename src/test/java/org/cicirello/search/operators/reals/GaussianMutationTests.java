@@ -358,4 +358,48 @@ public class GaussianMutationTests extends SharedTestRealMutationOps {
       verifyUndo(g3);
     }
   }
+
+  @Test
+  public void testBatchGaussianMutationHighDimensional() {
+    final int n = 10000;
+    final double sigma = 2.0;
+    GaussianMutation<RealVector> g = GaussianMutation.createGaussianMutation(sigma);
+    RealVector v = new RealVector(n);
+    g.mutate(v);
+    double sum = 0;
+    double sumSquares = 0;
+    for (int i = 0; i < n; i++) {
+      sum += v.get(i);
+      sumSquares += v.get(i) * v.get(i);
+    }
+    // Both bounds are roughly 7 standard errors, so should essentially never fail.
+    double mean = sum / n;
+    assertEquals(0.0, mean, 0.15);
+    assertEquals(sigma, Math.sqrt(sumSquares / n - mean * mean), 0.1);
+
+    // The scratch arrays adapt to a different length.
+    RealVector small = new RealVector(5);
+    g.mutate(small);
+    for (int i = 0; i < 5; i++) {
+      assertNotEquals(0.0, small.get(i));
+    }
+
+    UndoableGaussianMutation<RealVector> u =
+        UndoableGaussianMutation.createGaussianMutation(sigma, -1.0, 1.0);
+    RealVector original = new RealVector(v);
+    u.mutate(v);
+    for (int i = 0; i < n; i++) {
+      assertTrue(v.get(i) >= -1.0 && v.get(i) <= 1.0);
+    }
+    u.undo(v);
+    assertEquals(original, v);
+
+    // A split generates different random values.
+    GaussianMutation<RealVector> split = g.split();
+    RealVector v1 = new RealVector(n);
+    RealVector v2 = new RealVector(n);
+    g.mutate(v1);
+    split.mutate(v2);
+    assertNotEquals(v1, v2);
+  }
 }
@@ -351,4 +351,29 @@ public class UniformMutationTests extends SharedTestRealMutationOps {
       assertEquals(4.0, r.get(i));
     }
   }
+
+  @Test
+  public void testBatchUniformMutationHighDimensional() {
+    final int n = 10000;
+    final double radius = 2.0;
+    UniformMutation<RealVector> m = UniformMutation.createUniformMutation(radius);
+    RealVector v = new RealVector(n);
+    m.mutate(v);
+    double sum = 0;
+    for (int i = 0; i < n; i++) {
+      assertTrue(v.get(i) >= -radius && v.get(i) < radius);
+      sum += v.get(i);
+    }
+    assertEquals(0.0, sum / n, 0.1);
+
+    UndoableUniformMutation<RealVector> u =
+        UndoableUniformMutation.createUniformMutation(radius, -1.0, 1.0);
+    RealVector original = new RealVector(v);
+    u.mutate(v);
+    for (int i = 0; i < n; i++) {
+      assertTrue(v.get(i) >= -1.0 && v.get(i) <= 1.0);
+    }
+    u.undo(v);
+    assertEquals(original, v);
+  }
 }
@@ -22,6 +22,8 @@ package org.cicirello.search.problems;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.SplittableRandom;
 import org.cicirello.search.representations.SingleReal;
 import org.junit.jupiter.api.*;
 
@@ -105,4 +107,28 @@ public class ContinuousTests {
       assertTrue(d >= 0.5 && d <= 2.5);
     }
   }
+
+  @Test
+  public void testBatchCosts() {
+    validateBatchCosts(new ForresterEtAl2008(), 0.0, 1.0);
+    validateBatchCosts(new ForresterEtAl2008(true), 0.0, 1.0);
+    validateBatchCosts(new GramacyLee2012(), 0.5, 2.5);
+  }
+
+  private void validateBatchCosts(OptimizationProblem<SingleReal> f, double min, double max) {
+    SplittableRandom rand = new SplittableRandom(42);
+    for (int n = 0; n <= 1000; n = 2 * n + 1) {
+      ArrayList<SingleReal> batch = new ArrayList<SingleReal>();
+      for (int i = 0; i < n; i++) {
+        batch.add(new SingleReal(rand.nextDouble(min, max)));
+      }
+      double[] costs = new double[n + 1];
+      costs[n] = 42.0;
+      f.costs(batch, costs);
+      for (int i = 0; i < n; i++) {
+        assertEquals(f.cost(batch.get(i)), costs[i]);
+      }
+      assertEquals(42.0, costs[n]);
+    }
+  }
 }
@@ -0,0 +1,135 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.problems;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+import org.cicirello.search.representations.BitVector;
+import org.junit.jupiter.api.*;
+
+/** JUnit test cases for the incremental evaluation of the IncrementalBitVectorProblem classes. */
+public class IncrementalBitVectorProblemTests {
+
+  private final SplittableRandom rand = new SplittableRandom(42);
+
+  @Test
+  public void testOnesCountProblems() {
+    IncrementalBitVectorProblem.Integer[] problems = {
+      new OneMax(), new OneMaxAckley(), new TwoMax(), new TwoMaxEqualPeaks(), new Porcupine()
+    };
+    for (IncrementalBitVectorProblem.Integer problem : problems) {
+      for (int n = 0; n <= 70; n += 7) {
+        validate(problem, n);
+      }
+    }
+    for (int n = 0; n <= 70; n += 7) {
+      validate(new Trap(), n);
+    }
+  }
+
+  @Test
+  public void testSegmentProblems() {
+    for (int n = 0; n <= 43; n++) {
+      validate(new Plateaus(), n);
+    }
+    // Mix requires at least 1 bit per segment.
+    for (int n = 5; n <= 43; n++) {
+      validate(new Mix(), n);
+    }
+  }
+
+  @Test
+  public void testRoyalRoad() {
+    for (int blockSize = 1; blockSize <= 9; blockSize += 4) {
+      for (int n = 0; n <= 70; n += 5) {
+        validate(new RoyalRoad(blockSize, false), n);
+        validate(new RoyalRoad(blockSize, true), n);
+      }
+    }
+    validate(new RoyalRoad(8, true), 64);
+    validate(new RoyalRoad(33, true), 200);
+  }
+
+  @Test
+  public void testHollandRoyalRoad() {
+    HollandRoyalRoad[] problems = {
+      new HollandRoyalRoad(),
+      new HollandRoyalRoad(2, 4, 3, 2, 0.02, 1.0, 0.3),
+      new HollandRoyalRoad(3, 5, 0, 5, 0.1, 1.0, 0.5),
+      new HollandRoyalRoad(0, 6, 2, 0, 0.2, 2.0, 0.3)
+    };
+    for (HollandRoyalRoad problem : problems) {
+      validate(problem, problem.supportedBitVectorLength());
+    }
+    BitVector tooLong = new BitVector(problems[0].supportedBitVectorLength() + 1);
+    assertThrows(IllegalArgumentException.class, () -> problems[0].incrementalEvaluation(tooLong));
+  }
+
+  private void validate(IncrementalBitVectorProblem.Integer problem, int n) {
+    BitVector v = new BitVector(n, 0.75);
+    IncrementalBitVectorProblem.IntegerEvaluation evaluation = problem.incrementalEvaluation(v);
+    assertEquals(problem.cost(v), evaluation.cost());
+    for (int index : flipSequence(v)) {
+      v.flip(index);
+      evaluation.flipped(index);
+      assertEquals(problem.cost(v), evaluation.cost());
+    }
+    if (n > 0) {
+      assertThrows(IndexOutOfBoundsException.class, () -> evaluation.flipped(n));
+    }
+  }
+
+  private void validate(IncrementalBitVectorProblem.Double problem, int n) {
+    BitVector v = new BitVector(n, 0.75);
+    IncrementalBitVectorProblem.DoubleEvaluation evaluation = problem.incrementalEvaluation(v);
+    assertEquals(problem.cost(v), evaluation.cost(), 1E-10);
+    for (int index : flipSequence(v)) {
+      v.flip(index);
+      evaluation.flipped(index);
+      assertEquals(problem.cost(v), evaluation.cost(), 1E-10);
+    }
+    if (n > 0) {
+      assertThrows(IndexOutOfBoundsException.class, () -> evaluation.flipped(n));
+    }
+  }
+
+  /*
+   * Flips that set every 0-bit of v to a 1, in order, so that every block is completed,
+   * followed by random flips.
+   */
+  private int[] flipSequence(BitVector v) {
+    int n = v.length();
+    int numZeros = v.countZeros();
+    int numRandom = n > 0 ? 3 * n : 0;
+    int[] flips = new int[numZeros + numRandom];
+    for (int i = 0, j = 0; i < n; i++) {
+      if (v.isZero(i)) {
+        flips[j] = i;
+        j++;
+      }
+    }
+    for (int j = numZeros; j < flips.length; j++) {
+      flips[j] = rand.nextInt(n);
+    }
+    return flips;
+  }
+}
@@ -22,6 +22,8 @@ package org.cicirello.search.problems;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.SplittableRandom;
 import org.cicirello.search.representations.SingleReal;
 import org.junit.jupiter.api.*;
 
@@ -331,4 +333,24 @@ public class PolynomialRootFindingTests {
     assertFalse(p4.isMinCost(0.001001));
     assertTrue(p4.isMinCost(0.000999));
   }
+
+  @Test
+  public void testBatchCosts() {
+    SplittableRandom rand = new SplittableRandom(42);
+    double[][] polynomials = {{2, 1}, {1, -3, 2}, {-4, 0, 0.5, 1.25}, {1, 2, 3, 4, 5, 6, 7}};
+    for (double[] coefficients : polynomials) {
+      PolynomialRootFinding p = new PolynomialRootFinding(coefficients);
+      for (int n = 0; n <= 1000; n = 2 * n + 1) {
+        ArrayList<SingleReal> batch = new ArrayList<SingleReal>();
+        for (int i = 0; i < n; i++) {
+          batch.add(new SingleReal(rand.nextDouble(-10, 10)));
+        }
+        double[] costs = new double[n];
+        p.costs(batch, costs);
+        for (int i = 0; i < n; i++) {
+          assertEquals(p.cost(batch.get(i)), costs[i]);
+        }
+      }
+    }
+  }
 }
@@ -23,6 +23,7 @@ package org.cicirello.search.representations;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Arrays;
+import java.util.SplittableRandom;
 import org.cicirello.math.rand.EnhancedSplittableGenerator;
 import org.junit.jupiter.api.*;
 
@@ -548,6 +549,98 @@ public class BitVectorTests {
     }
   }
 
+  @Test
+  public void testMultiWordOperations() {
+    SplittableRandom rand = new SplittableRandom(42);
+    for (int n = 1; n <= 200; n += 7) {
+      boolean[] x = randomBits(n, rand);
+      boolean[] y = randomBits(n, rand);
+      BitVector b = toBitVector(x);
+      BitVector c = toBitVector(y);
+      int ones = 0;
+      for (boolean bit : x) {
+        if (bit) ones++;
+      }
+      assertEquals(ones, b.countOnes());
+
+      BitVector and = b.copy();
+      and.and(c);
+      BitVector or = b.copy();
+      or.or(c);
+      BitVector xor = b.copy();
+      xor.xor(c);
+      BitVector not = b.copy();
+      not.not();
+      for (int i = 0; i < n; i++) {
+        assertEquals(x[i] && y[i], and.isOne(i));
+        assertEquals(x[i] || y[i], or.isOne(i));
+        assertEquals(x[i] ^ y[i], xor.isOne(i));
+        assertEquals(!x[i], not.isOne(i));
+      }
+      assertEquals(n - ones, not.countOnes());
+
+      for (int k : new int[] {1, 31, 32, 33, 63, 64, 65, 100, 128, 130}) {
+        BitVector left = b.copy();
+        left.shiftLeft(k);
+        BitVector right = b.copy();
+        right.shiftRight(k);
+        for (int i = 0; i < n; i++) {
+          assertEquals(i >= k && x[i - k], left.isOne(i));
+          assertEquals(i + k < n && x[i + k], right.isOne(i));
+        }
+      }
+
+      int first = rand.nextInt(n);
+      int last = rand.nextInt(n);
+      BitVector b1 = b.copy();
+      BitVector c1 = c.copy();
+      BitVector.exchangeBits(b1, c1, first, last);
+      for (int i = 0; i < n; i++) {
+        boolean inRange = i >= Math.min(first, last) && i <= Math.max(first, last);
+        assertEquals(inRange ? y[i] : x[i], b1.isOne(i));
+        assertEquals(inRange ? x[i] : y[i], c1.isOne(i));
+      }
+      boolean[] m = randomBits(n, rand);
+      BitVector b2 = b.copy();
+      BitVector c2 = c.copy();
+      BitVector.exchangeBits(b2, c2, toBitVector(m));
+      for (int i = 0; i < n; i++) {
+        assertEquals(m[i] ? y[i] : x[i], b2.isOne(i));
+        assertEquals(m[i] ? x[i] : y[i], c2.isOne(i));
+      }
+
+      int[] blocks = new int[(n + 31) >> 5];
+      for (int i = 0; i < blocks.length; i++) {
+        blocks[i] = b.get32(i);
+      }
+      BitVector fromBlocks = new BitVector(n, blocks);
+      assertEquals(b, fromBlocks);
+      assertEquals(b.hashCode(), fromBlocks.hashCode());
+      BitVector set = new BitVector(n);
+      for (int i = blocks.length - 1; i >= 0; i--) {
+        set.set32(i, 0xffffffff);
+        set.set32(i, blocks[i]);
+      }
+      assertEquals(b, set);
+    }
+  }
+
+  private boolean[] randomBits(int n, SplittableRandom rand) {
+    boolean[] x = new boolean[n];
+    for (int i = 0; i < n; i++) {
+      x[i] = rand.nextBoolean();
+    }
+    return x;
+  }
+
+  private BitVector toBitVector(boolean[] x) {
+    BitVector b = new BitVector(x.length);
+    for (int i = 0; i < x.length; i++) {
+      b.setBit(i, x[i] ? 1 : 0);
+    }
+    return b;
+  }
+
   @Test
   public void testExceptions() {
     IllegalArgumentException thrown =
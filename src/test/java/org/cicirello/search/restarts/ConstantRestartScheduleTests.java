@@ -90,4 +90,17 @@ public class ConstantRestartScheduleTests {
       }
     }
   }
+
+  @Test
+  public void testConstantRestartScheduleLong() {
+    ConstantRestartSchedule r = new ConstantRestartSchedule(5_000_000_000L);
+    for (int i = 0; i < 3; i++) {
+      assertEquals(5_000_000_000L, r.nextRunLengthLong());
+      assertEquals(Integer.MAX_VALUE, r.nextRunLength());
+    }
+    r = new ConstantRestartSchedule(1000L);
+    assertEquals(1000, r.nextRunLength());
+    assertEquals(1000L, r.nextRunLengthLong());
+    assertThrows(IllegalArgumentException.class, () -> new ConstantRestartSchedule(0L));
+  }
 }
@@ -23,6 +23,8 @@ package org.cicirello.search.restarts;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.List;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
 import org.junit.jupiter.api.*;
 
 /** JUnit test cases for LubyRestarts. */
@@ -55,6 +57,23 @@ public class LubyRestartsTests {
         assertThrows(IllegalArgumentException.class, () -> new LubyRestarts(0));
   }
 
+  @Test
+  public void testLubyCheckpoint() {
+    LubyRestarts r = new LubyRestarts(3);
+    for (int i = 0; i < 10; i++) {
+      r.nextRunLength();
+    }
+    CheckpointWriter out = new CheckpointWriter();
+    r.writeCheckpoint(out);
+    CheckpointReader in = out.toReader();
+    LubyRestarts resumed = new LubyRestarts(3);
+    resumed.readCheckpoint(in);
+    assertEquals(0, in.remaining());
+    for (int i = 0; i < 20; i++) {
+      assertEquals(r.nextRunLength(), resumed.nextRunLength());
+    }
+  }
+
   @Test
   public void testLubyCreateSchedules() {
     for (int n = 1; n <= 3; n++) {
@@ -0,0 +1,277 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.cicirello.search.restarts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.PeriodicCheckpointer;
+import org.cicirello.search.checkpoint.SolutionCodec;
+import org.cicirello.search.evo.InverseCostFitnessFunction;
+import org.cicirello.search.evo.SteadyStateEvolutionaryAlgorithm;
+import org.cicirello.search.evo.TournamentSelection;
+import org.cicirello.search.operators.UndoableMutationOperator;
+import org.cicirello.search.operators.bits.BitFlipMutation;
+import org.cicirello.search.operators.bits.BitVectorInitializer;
+import org.cicirello.search.operators.bits.SinglePointCrossover;
+import org.cicirello.search.problems.OneMax;
+import org.cicirello.search.representations.BitVector;
+import org.cicirello.search.sa.ModifiedLam;
+import org.cicirello.search.sa.SimulatedAnnealing;
+import org.junit.jupiter.api.*;
+
+/** JUnit test cases for checkpointing multistart searches. */
+public class MultistartCheckpointTests {
+
+  @Test
+  public void testCheckpointAndResume() throws IOException {
+    Path dir = Files.createTempDirectory("checkpoint");
+    Path file = dir.resolve("multistart.ckpt");
+    try {
+      // Luby run lengths of 100, 100, 200, 100, 100, 200, 400 for a total of 1200.
+      final int numRestarts = 7;
+      PeriodicCheckpointer<BitVector> cp =
+          new PeriodicCheckpointer<BitVector>(file, SolutionCodec.bitVector(), 1, TimeUnit.DAYS);
+      // Requests a checkpoint during the third restart.
+      Multistarter<BitVector> multistarter =
+          new Multistarter<BitVector>(
+              create(new ProgressTracker<BitVector>(), new RequestingMutation(cp, 250)),
+              new LubyRestarts(100));
+      multistarter.setCheckpointer(cp);
+      assertNotNull(multistarter.optimize(numRestarts));
+      cp.close();
+      assertEquals(1, cp.getCheckpointCount());
+      assertEquals(1200, multistarter.getTotalRunLength());
+
+      CheckpointReader in = CheckpointReader.read(file);
+      assertFalse(in.getBoolean());
+      assertEquals(numRestarts, in.getInt());
+      assertEquals(2, in.getInt());
+      // best of the first two restarts
+      assertTrue(in.getBoolean());
+
+      ProgressTracker<BitVector> tracker = new ProgressTracker<BitVector>();
+      Multistarter<BitVector> resumed =
+          new Multistarter<BitVector>(
+              create(tracker, new BitFlipMutation(0.01)), new LubyRestarts(100));
+      SolutionCostPair<BitVector> result =
+          resumed.resume(CheckpointReader.read(file), SolutionCodec.bitVector());
+      assertNotNull(result);
+      assertNotNull(tracker.getSolution());
+      assertTrue(tracker.getCost() <= result.getCost());
+      // Only if the restart index and schedule are restored does the total match.
+      assertEquals(1200, resumed.getTotalRunLength());
+
+      Multistarter<BitVector> done =
+          new Multistarter<BitVector>(
+              create(new ProgressTracker<BitVector>(), new BitFlipMutation(0.01)),
+              new LubyRestarts(100));
+      done.getProgressTracker().stop();
+      assertNull(done.resume(CheckpointReader.read(file), SolutionCodec.bitVector()));
+    } finally {
+      Files.deleteIfExists(file);
+      Files.deleteIfExists(dir);
+    }
+  }
+
+  @Test
+  public void testReoptimizeCheckpointAndResume() throws IOException {
+    Path dir = Files.createTempDirectory("checkpoint");
+    Path file = dir.resolve("multistart.ckpt");
+    try {
+      PeriodicCheckpointer<BitVector> cp =
+          new PeriodicCheckpointer<BitVector>(file, SolutionCodec.bitVector(), 1, TimeUnit.DAYS);
+      // Requests a checkpoint during the second restart of the call to reoptimize.
+      ReoptimizableMultistarter<BitVector> multistarter =
+          new ReoptimizableMultistarter<BitVector>(
+              create(new ProgressTracker<BitVector>(), new RequestingMutation(cp, 250)),
+              new LubyRestarts(100));
+      multistarter.setCheckpointer(cp);
+      multistarter.optimize(1);
+      assertNotNull(multistarter.reoptimize(4));
+      cp.close();
+      assertEquals(1, cp.getCheckpointCount());
+      assertEquals(600, multistarter.getTotalRunLength());
+
+      CheckpointReader in = CheckpointReader.read(file);
+      assertTrue(in.getBoolean());
+      assertEquals(4, in.getInt());
+      assertEquals(1, in.getInt());
+
+      ProgressTracker<BitVector> tracker = new ProgressTracker<BitVector>();
+      ReoptimizableMultistarter<BitVector> resumed =
+          new ReoptimizableMultistarter<BitVector>(
+              create(tracker, new BitFlipMutation(0.01)), new LubyRestarts(100));
+      assertNotNull(resumed.resume(CheckpointReader.read(file), SolutionCodec.bitVector()));
+      assertNotNull(tracker.getSolution());
+      assertEquals(600, resumed.getTotalRunLength());
+    } finally {
+      Files.deleteIfExists(file);
+      Files.deleteIfExists(dir);
+    }
+  }
+
+  @Test
+  public void testNestedCheckpointAndResume() throws IOException {
+    Path dir = Files.createTempDirectory("checkpoint");
+    Path file = dir.resolve("multistart.ckpt");
+    try {
+      PeriodicCheckpointer<BitVector> cp =
+          new PeriodicCheckpointer<BitVector>(file, SolutionCodec.bitVector(), 1, TimeUnit.DAYS);
+      // Requests a checkpoint during the second inner restart of the second outer restart.
+      Multistarter<BitVector> multistarter =
+          new Multistarter<BitVector>(
+              new Multistarter<BitVector>(
+                  create(new ProgressTracker<BitVector>(), new RequestingMutation(cp, 350)),
+                  new ConstantRestartSchedule(100)),
+              new ConstantRestartSchedule(2));
+      multistarter.setCheckpointer(cp);
+      multistarter.optimize(3);
+      cp.close();
+      assertEquals(1, cp.getCheckpointCount());
+      assertEquals(600, multistarter.getTotalRunLength());
+
+      // The state of the outer multistart search precedes that of the inner.
+      CheckpointReader in = CheckpointReader.read(file);
+      assertFalse(in.getBoolean());
+      assertEquals(3, in.getInt());
+      assertEquals(1, in.getInt());
+      assertTrue(in.getBoolean());
+      in.getBoolean();
+      in.getInt();
+      in.getBoolean();
+      SolutionCodec.bitVector().read(in);
+      new ConstantRestartSchedule(2).readCheckpoint(in);
+      assertFalse(in.getBoolean());
+      assertEquals(2, in.getInt());
+      assertEquals(1, in.getInt());
+
+      Multistarter<BitVector> resumed =
+          new Multistarter<BitVector>(
+              new Multistarter<BitVector>(
+                  create(new ProgressTracker<BitVector>(), new BitFlipMutation(0.01)),
+                  new ConstantRestartSchedule(100)),
+              new ConstantRestartSchedule(2));
+      assertNotNull(resumed.resume(CheckpointReader.read(file), SolutionCodec.bitVector()));
+      assertEquals(600, resumed.getTotalRunLength());
+    } finally {
+      Files.deleteIfExists(file);
+      Files.deleteIfExists(dir);
+    }
+  }
+
+  @Test
+  public void testNotCheckpointable() {
+    PeriodicCheckpointer<BitVector> cp =
+        new PeriodicCheckpointer<BitVector>(
+            Path.of("unused.ckpt"), SolutionCodec.bitVector(), 1, TimeUnit.DAYS);
+    try {
+      RestartSchedule plain =
+          new RestartSchedule() {
+            @Override
+            public int nextRunLength() {
+              return 100;
+            }
+
+            @Override
+            public void reset() {}
+
+            @Override
+            public RestartSchedule split() {
+              return this;
+            }
+          };
+      Multistarter<BitVector> plainSchedule =
+          new Multistarter<BitVector>(
+              create(new ProgressTracker<BitVector>(), new BitFlipMutation(0.01)), plain);
+      assertThrows(UnsupportedOperationException.class, () -> plainSchedule.setCheckpointer(cp));
+      assertThrows(
+          UnsupportedOperationException.class,
+          () -> plainSchedule.resume(new CheckpointWriter().toReader(), SolutionCodec.bitVector()));
+
+      Multistarter<BitVector> steadyState =
+          new Multistarter<BitVector>(
+              new SteadyStateEvolutionaryAlgorithm<BitVector>(
+                  20,
+                  new BitFlipMutation(0.05),
+                  0.5,
+                  new SinglePointCrossover(),
+                  0.7,
+                  new BitVectorInitializer(64),
+                  new InverseCostFitnessFunction<BitVector>(new OneMax()),
+                  new TournamentSelection(),
+                  2,
+                  new ProgressTracker<BitVector>()),
+              10);
+      assertThrows(UnsupportedOperationException.class, () -> steadyState.setCheckpointer(cp));
+      assertEquals(0, cp.newCheckpoint().toReader().remaining());
+      steadyState.setCheckpointer(null);
+      plainSchedule.setCheckpointer(null);
+    } finally {
+      cp.close();
+    }
+  }
+
+  private SimulatedAnnealing<BitVector> create(
+      ProgressTracker<BitVector> tracker, UndoableMutationOperator<BitVector> mutation) {
+    return new SimulatedAnnealing<BitVector>(
+        new OneMax(), mutation, new BitVectorInitializer(400), new ModifiedLam(), tracker);
+  }
+
+  /* Bit flip mutation that requests a checkpoint once, at a given mutation. */
+  private static class RequestingMutation implements UndoableMutationOperator<BitVector> {
+
+    private final BitFlipMutation mutation = new BitFlipMutation(0.01);
+    private final PeriodicCheckpointer<BitVector> cp;
+    private final int requestAt;
+    private int count;
+
+    RequestingMutation(PeriodicCheckpointer<BitVector> cp, int requestAt) {
+      this.cp = cp;
+      this.requestAt = requestAt;
+    }
+
+    @Override
+    public void mutate(BitVector c) {
+      count++;
+      if (count == requestAt) {
+        cp.requestCheckpoint();
+      }
+      mutation.mutate(c);
+    }
+
+    @Override
+    public void undo(BitVector c) {
+      mutation.undo(c);
+    }
+
+    @Override
+    public RequestingMutation split() {
+      return new RequestingMutation(cp, requestAt);
+    }
+  }
+}
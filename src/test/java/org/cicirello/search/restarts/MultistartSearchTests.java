@@ -33,6 +33,23 @@ import org.junit.jupiter.api.*;
 /** JUnit test cases for search restarter. */
 public class MultistartSearchTests {
 
+  @Test
+  public void testLongRunLength() {
+    TestRestartedMetaheuristic heur = new TestRestartedMetaheuristic();
+    Multistarter<TestObject> restarter = new Multistarter<TestObject>(heur, 5_000_000_000L);
+    restarter.optimize(1);
+    // The default optimize(long) caps the run length for metaheuristics limited to int.
+    assertEquals(Integer.MAX_VALUE, restarter.getTotalRunLength());
+    assertEquals(1, heur.optCounter);
+
+    heur = new TestRestartedMetaheuristic();
+    ReoptimizableMultistarter<TestObject> reopt =
+        new ReoptimizableMultistarter<TestObject>(heur, 5_000_000_000L);
+    reopt.reoptimize(1);
+    assertEquals(Integer.MAX_VALUE, reopt.getTotalRunLength());
+    assertEquals(1, heur.reoptCounter);
+  }
+
   @Test
   public void testSetProgressTracker() {
     TestRestartedMetaheuristic heur = new TestRestartedMetaheuristic();
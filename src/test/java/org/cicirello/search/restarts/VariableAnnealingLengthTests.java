@@ -324,4 +324,22 @@ public class VariableAnnealingLengthTests {
       }
     }
   }
+
+  @Test
+  public void testVariableAnnealingLengthLong() {
+    VariableAnnealingLength r = new VariableAnnealingLength(1 << 30);
+    assertEquals(1L << 30, r.nextRunLengthLong());
+    assertEquals(1L << 31, r.nextRunLengthLong());
+    assertEquals(1L << 32, r.nextRunLengthLong());
+    r.reset();
+    assertEquals(1 << 30, r.nextRunLength());
+    assertEquals(Integer.MAX_VALUE, r.nextRunLength());
+    assertEquals(Integer.MAX_VALUE, r.nextRunLength());
+    r = new VariableAnnealingLength(1 << 30);
+    for (int i = 0; i <= 32; i++) {
+      assertEquals(1L << (30 + i), r.nextRunLengthLong());
+    }
+    assertEquals(Long.MAX_VALUE, r.nextRunLengthLong());
+    assertEquals(Long.MAX_VALUE, r.nextRunLengthLong());
+  }
 }
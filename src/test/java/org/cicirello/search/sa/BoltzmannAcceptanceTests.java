@@ -0,0 +1,80 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.sa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.cicirello.math.rand.EnhancedSplittableGenerator;
+import org.junit.jupiter.api.*;
+
+/** JUnit test cases for the internal BoltzmannAcceptance class. */
+public class BoltzmannAcceptanceTests {
+
+  @Test
+  public void testAcceptsBetterAndEqualWithoutRandomness() {
+    BoltzmannAcceptance a = new BoltzmannAcceptance(new EnhancedSplittableGenerator(42));
+    BoltzmannAcceptance b = new BoltzmannAcceptance(new EnhancedSplittableGenerator(42));
+    for (int i = 0; i < 1000; i++) {
+      assertTrue(a.accept(5, 10, 0.001));
+      assertTrue(a.accept(10, 10, 0.0));
+    }
+    // no random numbers were consumed by a
+    for (int i = 0; i < 200; i++) {
+      assertEquals(b.nextExponential(), a.nextExponential());
+    }
+  }
+
+  @Test
+  public void testAcceptanceProbability() {
+    // A sporadic failure is not necessarily a real failure, but it should fail
+    // with very low probability.
+    BoltzmannAcceptance acceptance = new BoltzmannAcceptance(new EnhancedSplittableGenerator(42));
+    final int n = 100000;
+    double[][] cases = {{1, 2}, {3, 1}, {0.5, 10}, {10, 2}};
+    for (double[] c : cases) {
+      int accepted = 0;
+      for (int i = 0; i < n; i++) {
+        if (acceptance.accept(100 + c[0], 100, c[1])) {
+          accepted++;
+        }
+      }
+      double expected = Math.exp(-c[0] / c[1]);
+      assertEquals(expected, accepted / (double) n, 0.01);
+    }
+  }
+
+  @Test
+  public void testExponentialMean() {
+    BoltzmannAcceptance acceptance = new BoltzmannAcceptance(new EnhancedSplittableGenerator(7));
+    BoltzmannAcceptance split = acceptance.split();
+    final int n = 100000;
+    double sum = 0;
+    double sumSplit = 0;
+    for (int i = 0; i < n; i++) {
+      double e = acceptance.nextExponential();
+      assertTrue(e >= 0);
+      sum += e;
+      sumSplit += split.nextExponential();
+    }
+    assertEquals(1.0, sum / n, 0.02);
+    assertEquals(1.0, sumSplit / n, 0.02);
+  }
+}
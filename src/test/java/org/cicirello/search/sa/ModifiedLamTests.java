@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.SplittableRandom;
 import org.cicirello.math.rand.EnhancedRandomGenerator;
+import org.cicirello.search.checkpoint.CheckpointWriter;
 import org.junit.jupiter.api.*;
 
 /** JUnit test cases for the Modified Lam annealing schedule. */
@@ -57,6 +58,49 @@ public class ModifiedLamTests {
     assertEquals(0.001, m.getTargetRate(), EPSILON);
   }
 
+  @Test
+  public void testWarmStart() {
+    ModifiedLam warm = new ModifiedLam(true);
+    ModifiedLam cold = new ModifiedLam();
+    warm.init(1000);
+    cold.init(1000);
+    double crossT = 0;
+    double crossRate = 0;
+    for (int i = 0; i < 1000 && crossT == 0; i++) {
+      double before = warm.getTemperature();
+      assertTrue(warm.accept(99, 100));
+      cold.accept(99, 100);
+      if (warm.getAcceptRate() > warm.getTargetRate()) {
+        crossT = before;
+        crossRate = warm.getAcceptRate();
+      }
+    }
+    assertTrue(crossT > 0.5);
+    for (int i = 0; i < 100; i++) {
+      warm.accept(99, 100);
+      cold.accept(99, 100);
+    }
+    CheckpointWriter out = new CheckpointWriter();
+    cold.writeCheckpoint(out);
+
+    warm.init(1000);
+    cold.init(1000);
+    assertEquals(crossT, warm.getTemperature(), EPSILON);
+    assertEquals(crossRate, warm.getAcceptRate(), EPSILON);
+    assertEquals(0.5, cold.getTemperature(), EPSILON);
+    assertEquals(0.5, cold.getAcceptRate(), EPSILON);
+
+    ModifiedLam split = warm.split();
+    split.init(1000);
+    assertEquals(0.5, split.getTemperature(), EPSILON);
+
+    ModifiedLam seeded = new ModifiedLam(true);
+    seeded.readCheckpoint(out.toReader());
+    seeded.init(2000);
+    assertEquals(crossT, seeded.getTemperature(), EPSILON);
+    assertEquals(crossRate, seeded.getAcceptRate(), EPSILON);
+  }
+
   @Test
   public void testTargetRate() {
     ModifiedLam m = new ModifiedLam();
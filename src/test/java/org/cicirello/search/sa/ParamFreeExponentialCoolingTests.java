@@ -246,4 +246,19 @@ public class ParamFreeExponentialCoolingTests {
     assertTrue(count > 0);
     assertTrue(count < 1000);
   }
+
+  @Test
+  public void testLongRunLength() {
+    double logP = Math.log(0.95);
+    ParameterFreeExponentialCooling c = new ParameterFreeExponentialCooling();
+    // 2^34 iterations remain after the 10 estimation samples and the first step.
+    c.init((1L << 34) + 11);
+    for (int j = 0; j < 10; j++) {
+      assertTrue(c.accept(2, 1));
+    }
+    double expectedT = -1 / logP;
+    assertEquals(expectedT, c.getTemperature(), EPSILON);
+    assertEquals(1L << 21, c.getSteps());
+    assertEquals(Math.pow(0.001 / expectedT, 1.0 / 8192), c.getAlpha(), EPSILON);
+  }
 }
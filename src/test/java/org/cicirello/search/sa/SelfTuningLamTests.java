@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.SplittableRandom;
 import org.cicirello.math.rand.EnhancedRandomGenerator;
+import org.cicirello.search.checkpoint.CheckpointWriter;
 import org.junit.jupiter.api.*;
 
 /** JUnit test cases for the Self-Tuning Lam annealing schedule. */
@@ -60,6 +61,50 @@ public class SelfTuningLamTests {
     assertEquals(0.001, m.getTargetRate(), EPSILON, "target rate end of phase 3");
   }
 
+  @Test
+  public void testWarmStart() {
+    SelfTuningLam warm = new SelfTuningLam(true);
+    SelfTuningLam cold = new SelfTuningLam();
+    warm.init(1000);
+    cold.init(1000);
+    // phase 0 of a run of length 1000 is 10 evaluations
+    for (int i = 0; i < 10; i++) {
+      assertTrue(warm.accept(5 + i % 3, 5));
+      assertTrue(cold.accept(5 + i % 3, 5));
+    }
+    double t = warm.getTemperature();
+    assertEquals(cold.getTemperature(), t, EPSILON);
+    assertNotEquals(0.5, t, EPSILON);
+    for (int i = 0; i < 100; i++) {
+      warm.accept(6, 5);
+      cold.accept(6, 5);
+    }
+    CheckpointWriter out = new CheckpointWriter();
+    cold.writeCheckpoint(out);
+
+    warm.init(1000);
+    cold.init(1000);
+    assertEquals(t, warm.getTemperature(), EPSILON);
+    assertEquals(0.5, cold.getTemperature(), EPSILON);
+    // phase 0 is skipped in warm start mode
+    assertFalse(warm.accept(1E9, 5));
+    assertTrue(cold.accept(1E9, 5));
+
+    SelfTuningLam split = warm.split();
+    split.init(1000);
+    assertEquals(0.5, split.getTemperature(), EPSILON);
+    assertTrue(split.accept(1E9, 5));
+
+    SelfTuningLam seeded = new SelfTuningLam(true);
+    seeded.readCheckpoint(out.toReader());
+    seeded.init(1000);
+    assertEquals(t, seeded.getTemperature(), EPSILON);
+    assertFalse(seeded.accept(1E9, 5));
+    seeded.init(100000);
+    assertNotEquals(0.5, seeded.getTemperature(), EPSILON);
+    assertFalse(seeded.accept(1E9, 5));
+  }
+
   @Test
   public void testTargetRate() {
     final double LAM_RATE_POINT_ONE_PERCENT_OF_RUN = 0.9768670788789564;
@@ -0,0 +1,298 @@
+/*
+ * Chips-n-Salsa: A library of parallel self-adaptive local search algorithms.
+ * Copyright (C) 2002-2026 Vincent A. Cicirello
+ *
+ * This file is part of Chips-n-Salsa (https://chips-n-salsa.cicirello.org/).
+ *
+ * Chips-n-Salsa is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Chips-n-Salsa is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.cicirello.search.sa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.cicirello.search.ProgressTracker;
+import org.cicirello.search.SolutionCostPair;
+import org.cicirello.search.checkpoint.CheckpointReader;
+import org.cicirello.search.checkpoint.CheckpointWriter;
+import org.cicirello.search.checkpoint.Checkpointable;
+import org.cicirello.search.checkpoint.PeriodicCheckpointer;
+import org.cicirello.search.checkpoint.SolutionCodec;
+import org.cicirello.search.operators.UndoableMutationOperator;
+import org.cicirello.search.operators.bits.BitFlipMutation;
+import org.cicirello.search.operators.bits.BitVectorInitializer;
+import org.cicirello.search.problems.OneMax;
+import org.cicirello.search.problems.OptimizationProblem;
+import org.cicirello.search.representations.BitVector;
+import org.junit.jupiter.api.*;
+
+/** JUnit test cases for checkpointing simulated annealing and its annealing schedules. */
+public class SimulatedAnnealingCheckpointTests {
+
+  @Test
+  public void testScheduleCheckpoints() throws IOException {
+    AnnealingSchedule[] schedules = {
+      new ModifiedLam(),
+      new SelfTuningLam(),
+      new ModifiedLam(true),
+      new SelfTuningLam(true),
+      new ModifiedLamOriginal(),
+      new ExponentialCooling(100, 0.95),
+      new LinearCooling(100, 1),
+      new LogarithmicCooling(100),
+      new ParameterFreeExponentialCooling(),
+      new ParameterFreeLinearCooling()
+    };
+    for (AnnealingSchedule schedule : schedules) {
+      schedule.init(1000);
+      for (int i = 0; i < 300; i++) {
+        schedule.accept(100 + (i % 7), 100);
+      }
+      CheckpointWriter out = new CheckpointWriter();
+      ((Checkpointable) schedule).writeCheckpoint(out);
+      AnnealingSchedule resumed = schedule.split();
+      CheckpointReader in = out.toReader();
+      ((Checkpointable) resumed).readCheckpoint(in);
+      assertEquals(0, in.remaining());
+      CheckpointWriter again = new CheckpointWriter();
+      ((Checkpointable) resumed).writeCheckpoint(again);
+      assertTrue(Arrays.equals(bytes(out), bytes(again)));
+    }
+  }
+
+  @Test
+  public void testCheckpointAndResume() throws IOException {
+    Path dir = Files.createTempDirectory("checkpoint");
+    Path file = dir.resolve("sa.ckpt");
+    try {
+      final int n = 400;
+      final int maxEvals = 1000;
+      SimulatedAnnealing<BitVector> sa = create(new ProgressTracker<BitVector>());
+      PeriodicCheckpointer<BitVector> cp =
+          new PeriodicCheckpointer<BitVector>(file, SolutionCodec.bitVector(), 1, TimeUnit.DAYS);
+      sa.setCheckpointer(cp);
+      cp.requestCheckpoint();
+      sa.optimize(maxEvals);
+      cp.close();
+      assertEquals(1, cp.getCheckpointCount());
+
+      // The checkpoint is taken before the first iteration.
+      CheckpointReader in = CheckpointReader.read(file);
+      assertTrue(in.getBoolean());
+      assertEquals(maxEvals, in.getLong());
+      assertEquals(1, in.getLong());
+      assertEquals(0, in.getLong());
+      int startCost = in.getInt();
+      BitVector start = SolutionCodec.bitVector().read(in);
+      assertEquals(n, start.length());
+      assertEquals(startCost, new OneMax().cost(start));
+
+      ProgressTracker<BitVector> tracker = new ProgressTracker<BitVector>();
+      SimulatedAnnealing<BitVector> resumed = create(tracker);
+      SolutionCostPair<BitVector> result =
+          resumed.resume(CheckpointReader.read(file), SolutionCodec.bitVector());
+      assertNotNull(result);
+      assertNotNull(tracker.getSolution());
+      assertTrue(tracker.getCost() <= startCost);
+      assertTrue(resumed.getTotalRunLength() <= maxEvals);
+      assertTrue(resumed.getTotalRunLength() > 0);
+
+      SimulatedAnnealing<BitVector> done = create(new ProgressTracker<BitVector>());
+      done.getProgressTracker().stop();
+      assertNull(done.resume(CheckpointReader.read(file), SolutionCodec.bitVector()));
+
+      SimulatedAnnealing<BitVector> doubleCost =
+          new SimulatedAnnealing<BitVector>(
+              new OptimizationProblem<BitVector>() {
+                @Override
+                public double cost(BitVector candidate) {
+                  return candidate.countZeros();
+                }
+
+                @Override
+                public double value(BitVector candidate) {
+                  return candidate.countOnes();
+                }
+              },
+              new BitFlipMutation(0.01),
+              new BitVectorInitializer(n),
+              new ModifiedLam(),
+              new ProgressTracker<BitVector>());
+      CheckpointReader wrongType = CheckpointReader.read(file);
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> doubleCost.resume(wrongType, SolutionCodec.bitVector()));
+    } finally {
+      Files.deleteIfExists(file);
+      Files.deleteIfExists(dir);
+    }
+  }
+
+  @Test
+  public void testWarmStartFromCheckpoint() throws IOException {
+    Path dir = Files.createTempDirectory("checkpoint");
+    Path file = dir.resolve("sa.ckpt");
+    try {
+      PeriodicCheckpointer<BitVector> cp =
+          new PeriodicCheckpointer<BitVector>(file, SolutionCodec.bitVector(), 1, TimeUnit.DAYS);
+      // Requests a checkpoint after the Self-Tuning Lam's phase 0 of 10 evaluations.
+      SimulatedAnnealing<BitVector> sa =
+          new SimulatedAnnealing<BitVector>(
+              new OneMax(),
+              new RequestingMutation(cp, 500),
+              new BitVectorInitializer(400),
+              new SelfTuningLam(),
+              new ProgressTracker<BitVector>());
+      sa.setCheckpointer(cp);
+      sa.optimize(1000);
+      cp.close();
+      assertEquals(1, cp.getCheckpointCount());
+
+      SelfTuningLam schedule = new SelfTuningLam(true);
+      ProgressTracker<BitVector> tracker = new ProgressTracker<BitVector>();
+      SimulatedAnnealing<BitVector> seeded =
+          new SimulatedAnnealing<BitVector>(
+              new OneMax(),
+              new BitFlipMutation(0.01),
+              new BitVectorInitializer(400),
+              schedule,
+              tracker);
+      seeded.warmStart(CheckpointReader.read(file), SolutionCodec.bitVector());
+      assertNull(tracker.getSolution());
+      assertEquals(0, seeded.getTotalRunLength());
+      schedule.init(1000);
+      assertNotEquals(0.5, schedule.getTemperature());
+      // phase 0 is skipped
+      assertFalse(schedule.accept(1E9, 0));
+
+      SimulatedAnnealing<BitVector> doubleCost =
+          new SimulatedAnnealing<BitVector>(
+              new OptimizationProblem<BitVector>() {
+                @Override
+                public double cost(BitVector candidate) {
+                  return candidate.countZeros();
+                }
+
+                @Override
+                public double value(BitVector candidate) {
+                  return candidate.countOnes();
+                }
+              },
+              new BitFlipMutation(0.01),
+              new BitVectorInitializer(400),
+              new SelfTuningLam(true),
+              new ProgressTracker<BitVector>());
+      CheckpointReader wrongType = CheckpointReader.read(file);
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> doubleCost.warmStart(wrongType, SolutionCodec.bitVector()));
+    } finally {
+      Files.deleteIfExists(file);
+      Files.deleteIfExists(dir);
+    }
+  }
+
+  @Test
+  public void testScheduleNotCheckpointable() {
+    AnnealingSchedule plain =
+        new AnnealingSchedule() {
+          @Override
+          public void init(int maxEvals) {}
+
+          @Override
+          public boolean accept(double neighborCost, double currentCost) {
+            return neighborCost <= currentCost;
+          }
+
+          @Override
+          public AnnealingSchedule split() {
+            return this;
+          }
+        };
+    SimulatedAnnealing<BitVector> sa =
+        new SimulatedAnnealing<BitVector>(
+            new OneMax(),
+            new BitFlipMutation(0.01),
+            new BitVectorInitializer(10),
+            plain,
+            new ProgressTracker<BitVector>());
+    PeriodicCheckpointer<BitVector> cp =
+        new PeriodicCheckpointer<BitVector>(
+            Path.of("unused.ckpt"), SolutionCodec.bitVector(), 1, TimeUnit.DAYS);
+    try {
+      assertThrows(UnsupportedOperationException.class, () -> sa.setCheckpointer(cp));
+      assertThrows(
+          UnsupportedOperationException.class,
+          () -> sa.resume(new CheckpointWriter().toReader(), SolutionCodec.bitVector()));
+      sa.setCheckpointer(null);
+    } finally {
+      cp.close();
+    }
+  }
+
+  private SimulatedAnnealing<BitVector> create(ProgressTracker<BitVector> tracker) {
+    return new SimulatedAnnealing<BitVector>(
+        new OneMax(),
+        new BitFlipMutation(0.01),
+        new BitVectorInitializer(400),
+        new ModifiedLam(),
+        tracker);
+  }
+
+  /* Bit flip mutation that requests a checkpoint once, at a given mutation. */
+  private static class RequestingMutation implements UndoableMutationOperator<BitVector> {
+
+    private final BitFlipMutation mutation = new BitFlipMutation(0.01);
+    private final PeriodicCheckpointer<BitVector> cp;
+    private final int requestAt;
+    private int count;
+
+    RequestingMutation(PeriodicCheckpointer<BitVector> cp, int requestAt) {
+      this.cp = cp;
+      this.requestAt = requestAt;
+    }
+
+    @Override
+    public void mutate(BitVector c) {
+      count++;
+      if (count == requestAt) {
+        cp.requestCheckpoint();
+      }
+      mutation.mutate(c);
+    }
+
+    @Override
+    public void undo(BitVector c) {
+      mutation.undo(c);
+    }
+
+    @Override
+    public RequestingMutation split() {
+      return new RequestingMutation(cp, requestAt);
+    }
+  }
+
+  private static byte[] bytes(CheckpointWriter out) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    out.writeTo(Channels.newChannel(bytes));
+    return bytes.toByteArray();
+  }
+}
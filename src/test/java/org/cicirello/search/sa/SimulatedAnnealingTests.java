@@ -170,6 +170,20 @@ public class SimulatedAnnealingTests {
                     (ProgressTracker<TestObject>) null));
   }
 
+  @Test
+  public void testLongRunLengths() {
+    SimulatedAnnealing<TestObject> sa =
+        new SimulatedAnnealing<TestObject>(pi_unknown, new TestMutation(), new TestInitializer());
+    assertNotNull(sa.optimize(100L));
+    assertEquals(100, sa.getTotalRunLength());
+    assertNotNull(sa.reoptimize(100L));
+    assertEquals(200, sa.getTotalRunLength());
+    assertNotNull(sa.optimize(100L, new TestObject(5)));
+    assertEquals(300, sa.getTotalRunLength());
+    assertNotNull(sa.optimize(100));
+    assertEquals(400, sa.getTotalRunLength());
+  }
+
   @Test
   public void testConstructors() {
     TestMutation mutation = new TestMutation();